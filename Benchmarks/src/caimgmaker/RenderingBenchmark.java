@@ -0,0 +1,150 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package caimgmaker;
+
+import java.awt.Color;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import caimgmaker.colormap.ColorMappedGrid2D;
+import caimgmaker.colormap.ColorMapper;
+import caimgmaker.colormap.GrayscaleMapper;
+import caimgmaker.colormap.HueMapper;
+import cellularautomata.automata.aether.LongAether2D;
+import cellularautomata.benchmarks.CellCounters;
+import cellularautomata.benchmarks.Engines;
+import cellularautomata.model2d.IsotropicSquareLongModel;
+import cellularautomata.model2d.LongModel2D;
+import cellularautomata.model2d.ObjectModel2D;
+
+/**
+ * Measures the rendering of the whole grid of a 2D Aether model: the mapping of its values to colors, 
+ * the rendering of a step through {@link ImgMaker#createImages(LongModel2D, ColorMapper, int, int, String, String, String, int)} and the PNG encoding alone.
+ * The images are written to a temporary folder, which is deleted after the benchmark.
+ * 
+ * @author Jaume
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RenderingBenchmark {
+	
+	@Param({"grayscale", "hue"})
+	public String colormap;
+	
+	private File folder;
+	private ObjectModel2D<Color> colorGrid;
+	private ColorMapper colorMapper;
+	private LongModel2D frozenGrid;
+	private int minX, maxX, minY, maxY;
+	private long positionCount;
+	private int[] rgbs;
+	private byte[] pixelData;
+	private int side;
+	private PngWriter pngWriter;
+	private ImgMaker imgMaker;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		folder = Files.createTempDirectory("benchmark").toFile();
+		LongAether2D model = new LongAether2D(LongAether2D.MIN_INITIAL_VALUE);
+		Engines.growTo(model, Engines.getRealisticSize(model));
+		LongModel2D grid = model.wholeGrid();
+		long[] minAndMax = grid.getMinAndMax();
+		colorMapper = colormap.equals("hue") ? new HueMapper() : new GrayscaleMapper(0);
+		colorGrid = colorMapper.getMappedModel(grid, minAndMax[0], minAndMax[1]);
+		minX = grid.getMinX();
+		maxX = grid.getMaxX();
+		minY = grid.getMinY();
+		maxY = grid.getMaxY();
+		side = maxX - minX + 1;
+		positionCount = (long) side * (maxY - minY + 1);
+		rgbs = new int[side];
+		pixelData = new byte[side * side * 3];
+		for (int i = 0; i < pixelData.length; i++) {
+			//a gradient, which compresses about as well as the images of the model
+			pixelData[i] = (byte) (i / 3 % side * 255 / side);
+		}
+		pngWriter = new PngWriter(PngWriter.DEFAULT_COMPRESSION_LEVEL, false, Runtime.getRuntime().availableProcessors());
+		//the whole grid stopped at its current step, so that every call to createImages renders a single image
+		frozenGrid = new IsotropicSquareLongModel(model) {
+			
+			@Override
+			public Boolean nextStep() {
+				return false;
+			}
+			
+			@Override
+			public Boolean isChanged() {
+				return false;
+			}
+			
+		};
+		ResourceBundle messages = ResourceBundle.getBundle("MessagesBundle");
+		imgMaker = new ImgMaker(messages, new InputReaderTask(messages));
+		imgMaker.setPngWriter(pngWriter);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(folder);
+	}
+	
+	@Benchmark
+	public int[] mapColors(CellCounters counters) throws Exception {
+		ColorMappedGrid2D<?> mappedGrid = (ColorMappedGrid2D<?>) colorGrid;
+		for (int y = minY; y <= maxY; y++) {
+			mappedGrid.getRgbRow(y, minX, maxX, rgbs);
+		}
+		counters.cells += positionCount;
+		return rgbs;
+	}
+	
+	@Benchmark
+	public void createImage(CellCounters counters) throws Exception {
+		imgMaker.createImages(frozenGrid, colorMapper, 0, 0, folder.getPath(), "image", folder.getPath(), 1);
+		counters.cells += positionCount;
+	}
+	
+	@Benchmark
+	public void encodePng(CellCounters counters) throws Exception {
+		pngWriter.write(pixelData, side, side, new File(folder, "encoded.png"));
+		counters.cells += (long) side * side;
+	}
+
+}
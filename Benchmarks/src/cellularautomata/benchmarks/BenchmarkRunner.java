@@ -0,0 +1,74 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.benchmarks;
+
+import java.util.Collection;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>Runs the benchmarks with the GC profiler and prints a summary with the cells processed per second 
+ * and the bytes allocated per cell of each of them.</p>
+ * <p>The arguments are those of the JMH command line, e.g. a regular expression to select the benchmarks 
+ * or {@code -p engine=LongAether3D} to select the parameters.</p>
+ * 
+ * @author Jaume
+ *
+ */
+public class BenchmarkRunner {
+	
+	private static final String CELLS_RESULT = "cells";
+	private static final String NORMALIZED_ALLOCATION_RATE_RESULT = "gc.alloc.rate.norm";
+
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.build();
+		Collection<RunResult> results = new Runner(options).run();
+		System.out.println();
+		System.out.printf("%-70s %18s %14s%n", "Benchmark", "cells/s", "B/cell");
+		for (RunResult result : results) {
+			//JMH declares the secondary results with the raw Result type, which can only be assigned to Result<?> element by element
+			Result<?> cells = result.getSecondaryResults().get(CELLS_RESULT);
+			Result<?> allocation = result.getSecondaryResults().get(NORMALIZED_ALLOCATION_RATE_RESULT);
+			if (cells == null) {
+				continue;
+			}
+			double cellsPerSecond = cells.getScore();
+			double cellsPerOperation = cellsPerSecond/result.getPrimaryResult().getScore();
+			String bytesPerCell = allocation == null ? "-" : String.format("%.3f", allocation.getScore()/cellsPerOperation);
+			System.out.printf("%-70s %,18.0f %14s%n", getName(result.getParams()), cellsPerSecond, bytesPerCell);
+		}
+	}
+	
+	private static String getName(BenchmarkParams params) {
+		StringBuilder name = new StringBuilder(params.getBenchmark().replaceFirst("^.*\\.(\\w+\\.\\w+)$", "$1"));
+		for (String key : params.getParamsKeys()) {
+			name.append(' ').append(params.getParam(key));
+		}
+		return name.toString();
+	}
+
+}
@@ -0,0 +1,79 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cellularautomata.model.IsotropicHypercubicModelAsymmetricSection;
+
+/**
+ * Measures the throughput of {@link cellularautomata.model.Model#nextStep()} of the in-memory engines.
+ * The engines are grown to a realistic size before measuring, and they keep growing during the measurement, 
+ * so besides steps per second, the cells of the asymmetric section processed per second are reported.
+ * 
+ * @author Jaume
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EngineBenchmark {
+	
+	@Param({
+		"IntAether2D", "IntAether3D", "IntAether4D", "IntAether5D", 
+		"LongAether1D", "LongAether2D", "LongAether3D", "LongAether4D", "LongAether5D", "LongAether6D", 
+		"IntAetherTopplingAlternationCompliance5D", "LongAetherTopplingAlternationCompliance5D", 
+		"FlatLongAether4D", "FlatLongAether5D", "FlatIntAether", "FlatLongAether", 
+		"BigIntAether2D", "BigIntAether3D", "BigIntAether4D", 
+		"IntSunflower2D", "IntSunflower3D", 
+		"LongSunflower1D", "LongSunflower2D", "LongSunflower3D", "LongSunflower4D", 
+		"IntAbelianSandpileSingleSource2D"
+	})
+	public String engine;
+	
+	private IsotropicHypercubicModelAsymmetricSection model;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		model = Engines.create(engine);
+		Engines.growTo(model, Engines.getRealisticSize(model));
+	}
+	
+	@Benchmark
+	public Boolean nextStep(CellCounters counters) throws Exception {
+		Boolean changed = model.nextStep();
+		counters.cells += Engines.getPositionCount(model);
+		return changed;
+	}
+
+}
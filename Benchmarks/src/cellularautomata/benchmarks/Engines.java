@@ -0,0 +1,217 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.benchmarks;
+
+import java.io.IOException;
+
+import cellularautomata.automata.IntAbelianSandpileSingleSource2D;
+import cellularautomata.automata.aether.BigIntAether2D;
+import cellularautomata.automata.aether.BigIntAether3D;
+import cellularautomata.automata.aether.BigIntAether4D;
+import cellularautomata.automata.aether.FileBackedLongAether2D;
+import cellularautomata.automata.aether.FileBackedLongAether3D;
+import cellularautomata.automata.aether.FileBackedLongAether4D;
+import cellularautomata.automata.aether.FileBackedLongAether5D;
+import cellularautomata.automata.aether.FlatIntAether;
+import cellularautomata.automata.aether.FlatLongAether;
+import cellularautomata.automata.aether.IntAether2D;
+import cellularautomata.automata.aether.IntAether3D;
+import cellularautomata.automata.aether.IntAether4D;
+import cellularautomata.automata.aether.IntAether5D;
+import cellularautomata.automata.aether.IntAetherTopplingAlternationCompliance5D;
+import cellularautomata.automata.aether.LongAether1D;
+import cellularautomata.automata.aether.LongAether2D;
+import cellularautomata.automata.aether.LongAether3D;
+import cellularautomata.automata.aether.LongAether4D;
+import cellularautomata.automata.aether.LongAether5D;
+import cellularautomata.automata.aether.LongAether6D;
+import cellularautomata.automata.aether.LongAetherTopplingAlternationCompliance5D;
+import cellularautomata.automata.sunflower.IntSunflower2D;
+import cellularautomata.automata.sunflower.IntSunflower3D;
+import cellularautomata.automata.sunflower.LongSunflower1D;
+import cellularautomata.automata.sunflower.LongSunflower2D;
+import cellularautomata.automata.sunflower.LongSunflower3D;
+import cellularautomata.automata.sunflower.LongSunflower4D;
+import cellularautomata.model.IsotropicHypercubicModelAsymmetricSection;
+import cellularautomata.numbers.BigInt;
+
+/**
+ * Creates the engines measured by the benchmarks, by the simple name of their class, 
+ * and brings them to a realistic grid size before measuring them.
+ * 
+ * @author Jaume
+ *
+ */
+public final class Engines {
+	
+	/** A single source value beyond the range of long, for the BigInt engines */
+	private static final BigInt BIG_INT_INITIAL_VALUE = new BigInt("-100000000000000000000000");
+	private static final int SUNFLOWER_INT_INITIAL_VALUE = 1000000000;
+	private static final long SUNFLOWER_LONG_INITIAL_VALUE = 1000000000000000000L;
+	private static final int SANDPILE_INITIAL_VALUE = 100000000;
+	/** The grid dimension of the engines that support any dimension */
+	private static final int N_DIMENSIONAL_ENGINE_GRID_DIMENSION = 6;
+	
+	private Engines() {}
+	
+	/**
+	 * Creates an in-memory engine with a single source initial configuration large enough for it to keep growing during the benchmark.
+	 * 
+	 * @param name the simple name of the engine's class, followed by the grid dimension for FlatLongAether in 4D and 5D
+	 * @return the engine
+	 */
+	public static IsotropicHypercubicModelAsymmetricSection create(String name) {
+		switch (name) {
+			case "IntAether2D":
+				return new IntAether2D(IntAether2D.MIN_INITIAL_VALUE);
+			case "IntAether3D":
+				return new IntAether3D(IntAether3D.MIN_INITIAL_VALUE);
+			case "IntAether4D":
+				return new IntAether4D(IntAether4D.MIN_INITIAL_VALUE);
+			case "IntAether5D":
+				return new IntAether5D(IntAether5D.MIN_INITIAL_VALUE);
+			case "LongAether1D":
+				return new LongAether1D(LongAether1D.MIN_INITIAL_VALUE);
+			case "LongAether2D":
+				return new LongAether2D(LongAether2D.MIN_INITIAL_VALUE);
+			case "LongAether3D":
+				return new LongAether3D(LongAether3D.MIN_INITIAL_VALUE);
+			case "LongAether4D":
+				return new LongAether4D(LongAether4D.MIN_INITIAL_VALUE);
+			case "LongAether5D":
+				return new LongAether5D(LongAether5D.MIN_INITIAL_VALUE);
+			case "LongAether6D":
+				return new LongAether6D(LongAether6D.MIN_INITIAL_VALUE);
+			case "IntAetherTopplingAlternationCompliance5D":
+				return new IntAetherTopplingAlternationCompliance5D(IntAetherTopplingAlternationCompliance5D.MIN_INITIAL_VALUE);
+			case "LongAetherTopplingAlternationCompliance5D":
+				return new LongAetherTopplingAlternationCompliance5D(LongAetherTopplingAlternationCompliance5D.MIN_INITIAL_VALUE);
+			case "FlatLongAether4D":
+				return new FlatLongAether(4, FlatLongAether.getMinInitialValue(4));
+			case "FlatLongAether5D":
+				return new FlatLongAether(5, FlatLongAether.getMinInitialValue(5));
+			case "FlatIntAether":
+				return new FlatIntAether(N_DIMENSIONAL_ENGINE_GRID_DIMENSION, FlatIntAether.getMinInitialValue(N_DIMENSIONAL_ENGINE_GRID_DIMENSION));
+			case "FlatLongAether":
+				return new FlatLongAether(N_DIMENSIONAL_ENGINE_GRID_DIMENSION, FlatLongAether.getMinInitialValue(N_DIMENSIONAL_ENGINE_GRID_DIMENSION));
+			case "BigIntAether2D":
+				return new BigIntAether2D(BIG_INT_INITIAL_VALUE);
+			case "BigIntAether3D":
+				return new BigIntAether3D(BIG_INT_INITIAL_VALUE);
+			case "BigIntAether4D":
+				return new BigIntAether4D(BIG_INT_INITIAL_VALUE);
+			case "IntSunflower2D":
+				return new IntSunflower2D(SUNFLOWER_INT_INITIAL_VALUE);
+			case "IntSunflower3D":
+				return new IntSunflower3D(SUNFLOWER_INT_INITIAL_VALUE);
+			case "LongSunflower1D":
+				return new LongSunflower1D(SUNFLOWER_LONG_INITIAL_VALUE);
+			case "LongSunflower2D":
+				return new LongSunflower2D(SUNFLOWER_LONG_INITIAL_VALUE);
+			case "LongSunflower3D":
+				return new LongSunflower3D(SUNFLOWER_LONG_INITIAL_VALUE);
+			case "LongSunflower4D":
+				return new LongSunflower4D(SUNFLOWER_LONG_INITIAL_VALUE);
+			case "IntAbelianSandpileSingleSource2D":
+				return new IntAbelianSandpileSingleSource2D(SANDPILE_INITIAL_VALUE);
+			default:
+				throw new IllegalArgumentException("Unknown engine " + name + ".");
+		}
+	}
+	
+	/**
+	 * Creates a file-backed engine with a single source initial configuration, storing its grid in the given folder.
+	 * 
+	 * @param name the simple name of the engine's class
+	 * @param folderPath the folder where the grid is stored
+	 * @return the engine
+	 * @throws IOException 
+	 */
+	public static IsotropicHypercubicModelAsymmetricSection createFileBacked(String name, String folderPath) throws IOException {
+		switch (name) {
+			case "FileBackedLongAether2D":
+				return new FileBackedLongAether2D(FileBackedLongAether2D.MIN_INITIAL_VALUE, folderPath);
+			case "FileBackedLongAether3D":
+				return new FileBackedLongAether3D(FileBackedLongAether3D.MIN_INITIAL_VALUE, folderPath);
+			case "FileBackedLongAether4D":
+				return new FileBackedLongAether4D(FileBackedLongAether4D.MIN_INITIAL_VALUE, folderPath);
+			case "FileBackedLongAether5D":
+				return new FileBackedLongAether5D(FileBackedLongAether5D.MIN_INITIAL_VALUE, folderPath);
+			default:
+				throw new IllegalArgumentException("Unknown file-backed engine " + name + ".");
+		}
+	}
+	
+	/**
+	 * Returns the size of the asymmetric section at which the benchmarks of a model are measured, depending on the dimension of its grid.
+	 * The Abelian sandpile grows much slower than the other models, so it is measured at a smaller size.
+	 * 
+	 * @param model the model
+	 * @return the size
+	 */
+	public static int getRealisticSize(IsotropicHypercubicModelAsymmetricSection model) {
+		if (model instanceof IntAbelianSandpileSingleSource2D) {
+			return 150;
+		}
+		switch (model.getGridDimension()) {
+			case 1:
+				return 20000;
+			case 2:
+				return 600;
+			case 3:
+				return 120;
+			case 4:
+				return 45;
+			default:
+				return 25;
+		}
+	}
+	
+	/**
+	 * Steps the model until its asymmetric section reaches the given size, or until it stops changing.
+	 * 
+	 * @param model the model
+	 * @param size the size
+	 * @throws Exception 
+	 */
+	public static void growTo(IsotropicHypercubicModelAsymmetricSection model, int size) throws Exception {
+		while (model.getSize() < size) {
+			if (Boolean.FALSE.equals(model.nextStep())) {
+				break;
+			}
+		}
+	}
+	
+	/**
+	 * Returns the number of positions of the asymmetric section of a model, 
+	 * that is, the number of non-increasing sequences of as many coordinates as the grid's dimension, between zero and the size.
+	 * 
+	 * @param model the model
+	 * @return the number of positions
+	 */
+	public static long getPositionCount(IsotropicHypercubicModelAsymmetricSection model) {
+		int dimension = model.getGridDimension();
+		long size = model.getSize();
+		//binomial coefficient (size + dimension) choose dimension
+		long count = 1;
+		for (int i = 1; i <= dimension; i++) {
+			count = count * (size + i) / i;
+		}
+		return count;
+	}
+
+}
@@ -0,0 +1,83 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.benchmarks;
+
+import java.io.Closeable;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cellularautomata.model.IsotropicHypercubicModelAsymmetricSection;
+
+/**
+ * Measures the throughput of {@link cellularautomata.model.Model#nextStep()} of the file-backed engines, 
+ * which read the grid of the current step from a file and write that of the next one to another.
+ * The grids are stored in a temporary folder, which is deleted after the benchmark.
+ * 
+ * @author Jaume
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FileBackedEngineBenchmark {
+	
+	@Param({"FileBackedLongAether2D", "FileBackedLongAether3D", "FileBackedLongAether4D", "FileBackedLongAether5D"})
+	public String engine;
+	
+	private File folder;
+	private IsotropicHypercubicModelAsymmetricSection model;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		folder = Files.createTempDirectory("benchmark").toFile();
+		model = Engines.createFileBacked(engine, folder.getPath());
+		Engines.growTo(model, Engines.getRealisticSize(model));
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		((Closeable) model).close();
+		FileUtils.deleteDirectory(folder);
+	}
+	
+	@Benchmark
+	public Boolean nextStep(CellCounters counters) throws Exception {
+		Boolean changed = model.nextStep();
+		counters.cells += Engines.getPositionCount(model);
+		return changed;
+	}
+
+}
@@ -0,0 +1,80 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cellularautomata.model.IsotropicHypercubicModelAsymmetricSection;
+import cellularautomata.model.LongModel;
+
+/**
+ * Measures the traversal of the asymmetric sections of the long engines through {@link LongModel#getMinAndMax()} 
+ * and {@link LongModel#getEvenOddPositionsMinAndMax(boolean)}, which are computed for every image.
+ * 
+ * @author Jaume
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class TraversalBenchmark {
+	
+	@Param({"LongAether2D", "LongAether3D", "LongAether4D", "LongAether5D", "FlatLongAether4D", "FlatLongAether5D"})
+	public String engine;
+	
+	private LongModel model;
+	private long positionCount;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		IsotropicHypercubicModelAsymmetricSection section = Engines.create(engine);
+		Engines.growTo(section, Engines.getRealisticSize(section));
+		model = (LongModel) section;
+		positionCount = Engines.getPositionCount(section);
+	}
+	
+	@Benchmark
+	public long[] getMinAndMax(CellCounters counters) throws Exception {
+		long[] minAndMax = model.getMinAndMax();
+		counters.cells += positionCount;
+		return minAndMax;
+	}
+	
+	@Benchmark
+	public long[] getEvenPositionsMinAndMax(CellCounters counters) throws Exception {
+		long[] minAndMax = model.getEvenOddPositionsMinAndMax(true);
+		counters.cells += positionCount/2;
+		return minAndMax;
+	}
+
+}
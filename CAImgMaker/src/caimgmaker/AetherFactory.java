@@ -31,10 +31,10 @@ import cellularautomata.automata.aether.BigIntAetherTopplingAlternationComplianc
 import cellularautomata.automata.aether.BigIntAether4D;
 import cellularautomata.automata.aether.BigIntAetherTopplingAlternationCompliance4D;
 import cellularautomata.automata.aether.FileBackedLongAether1D;
-import cellularautomata.automata.aether.FileBackedLongAether2D;
-import cellularautomata.automata.aether.FileBackedLongAether3D;
 import cellularautomata.automata.aether.FileBackedLongAether4D;
 import cellularautomata.automata.aether.FileBackedLongAether5D;
+import cellularautomata.automata.aether.FlatIntAether;
+import cellularautomata.automata.aether.FlatLongAether;
 import cellularautomata.automata.aether.IntAether2D;
 import cellularautomata.automata.aether.IntAetherRandomConfiguration2D;
 import cellularautomata.automata.aether.IntAetherTopplingAlternationCompliance2D;
@@ -55,7 +55,13 @@ import cellularautomata.automata.aether.LongAetherTopplingAlternationCompliance3
 import cellularautomata.automata.aether.LongAether4D;
 import cellularautomata.automata.aether.LongAetherTopplingAlternationCompliance4D;
 import cellularautomata.automata.aether.LongAether5D;
+import cellularautomata.automata.aether.LongAether6D;
 import cellularautomata.automata.aether.LongAetherTopplingAlternationCompliance5D;
+import cellularautomata.automata.aether.SequentialLongAetherAsymmetricSection2D;
+import cellularautomata.automata.aether.SequentialLongAetherAsymmetricSection3D;
+import cellularautomata.automata.aether.SequentialLongAetherAsymmetricSection4D;
+import cellularautomata.automata.aether.SequentialLongAetherAsymmetricSection5D;
+import cellularautomata.model.IsotropicHypercubicModelAsymmetricSection;
 import cellularautomata.model.Model;
 import cellularautomata.numbers.BigInt;
 
@@ -184,11 +190,11 @@ public final class AetherFactory {
 						}
 					} else {
 						if (args.memorySafe) {
-							if (args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(FileBackedLongAether2D.MAX_INITIAL_VALUE)) <= 0
-									&& args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(FileBackedLongAether2D.MIN_INITIAL_VALUE)) >= 0) {
-								model = new FileBackedLongAether2D(args.initialConfiguration.singleSource.longValue(), args.path);
+							if (args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(SequentialLongAetherAsymmetricSection2D.MAX_INITIAL_VALUE)) <= 0
+									&& args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(SequentialLongAetherAsymmetricSection2D.MIN_INITIAL_VALUE)) >= 0) {
+								model = new SequentialLongAetherAsymmetricSection2D(args.initialConfiguration.singleSource.longValue(), args.path);
 							} else {
-								System.out.printf(messages.getString("single-source-out-of-range-format"), FileBackedLongAether2D.MIN_INITIAL_VALUE, FileBackedLongAether2D.MAX_INITIAL_VALUE);
+								System.out.printf(messages.getString("single-source-out-of-range-format"), SequentialLongAetherAsymmetricSection2D.MIN_INITIAL_VALUE, SequentialLongAetherAsymmetricSection2D.MAX_INITIAL_VALUE);
 							}
 						} else {
 							if (args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(IntAether2D.MAX_INITIAL_VALUE)) <= 0
@@ -221,7 +227,7 @@ public final class AetherFactory {
 			} else {
 				boolean successfullyRestored = true;
 				if (args.memorySafe) {
-					model = new FileBackedLongAether2D(args.backupToRestorePath, args.path);
+					model = new SequentialLongAetherAsymmetricSection2D(args.backupToRestorePath, args.path);
 				} else if (args.topplingAlternationCompliance) {
 					try {
 						model = new IntAetherTopplingAlternationCompliance2D(args.backupToRestorePath);							
@@ -286,11 +292,11 @@ public final class AetherFactory {
 						}
 					} else {
 						if (args.memorySafe) {
-							if (args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(FileBackedLongAether3D.MAX_INITIAL_VALUE)) <= 0
-									&& args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(FileBackedLongAether3D.MIN_INITIAL_VALUE)) >= 0) {
-								model = new FileBackedLongAether3D(args.initialConfiguration.singleSource.longValue(), args.path);
+							if (args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(SequentialLongAetherAsymmetricSection3D.MAX_INITIAL_VALUE)) <= 0
+									&& args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(SequentialLongAetherAsymmetricSection3D.MIN_INITIAL_VALUE)) >= 0) {
+								model = new SequentialLongAetherAsymmetricSection3D(args.initialConfiguration.singleSource.longValue(), args.path);
 							} else {
-								System.out.printf(messages.getString("single-source-out-of-range-format"), FileBackedLongAether3D.MIN_INITIAL_VALUE, FileBackedLongAether3D.MAX_INITIAL_VALUE);
+								System.out.printf(messages.getString("single-source-out-of-range-format"), SequentialLongAetherAsymmetricSection3D.MIN_INITIAL_VALUE, SequentialLongAetherAsymmetricSection3D.MAX_INITIAL_VALUE);
 							}
 						} else {
 							if (args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(IntAether3D.MAX_INITIAL_VALUE)) <= 0
@@ -323,7 +329,7 @@ public final class AetherFactory {
 			} else {
 				boolean successfullyRestored = true;
 				if (args.memorySafe) {
-					model = new FileBackedLongAether3D(args.backupToRestorePath, args.path);
+					model = new SequentialLongAetherAsymmetricSection3D(args.backupToRestorePath, args.path);
 				} else if (args.topplingAlternationCompliance) {
 					try {
 						model = new IntAetherTopplingAlternationCompliance3D(args.backupToRestorePath);							
@@ -407,7 +413,11 @@ public final class AetherFactory {
 						if (args.memorySafe) {
 							if (args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(FileBackedLongAether4D.MAX_INITIAL_VALUE)) <= 0
 									&& args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(FileBackedLongAether4D.MIN_INITIAL_VALUE)) >= 0) {
-								model = new FileBackedLongAether4D(args.initialConfiguration.singleSource.longValue(), args.path);
+								if (args.compressedGrid) {
+									model = new SequentialLongAetherAsymmetricSection4D(args.initialConfiguration.singleSource.longValue(), args.path);
+								} else {
+									model = new FileBackedLongAether4D(args.initialConfiguration.singleSource.longValue(), args.path);
+								}
 							} else {
 								System.out.printf(messages.getString("single-source-out-of-range-format"), FileBackedLongAether4D.MIN_INITIAL_VALUE, FileBackedLongAether4D.MAX_INITIAL_VALUE);
 							}
@@ -429,7 +439,11 @@ public final class AetherFactory {
 			} else {
 				boolean successfullyRestored = true;
 				if (args.memorySafe) {
-					model = new FileBackedLongAether4D(args.backupToRestorePath, args.path);
+					if (args.compressedGrid) {
+						model = new SequentialLongAetherAsymmetricSection4D(args.backupToRestorePath, args.path);
+					} else {
+						model = new FileBackedLongAether4D(args.backupToRestorePath, args.path);
+					}
 				} else if (args.topplingAlternationCompliance) {
 					try {
 						model = new IntAetherTopplingAlternationCompliance4D(args.backupToRestorePath);							
@@ -492,7 +506,11 @@ public final class AetherFactory {
 						if (args.memorySafe) {
 							if (args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(FileBackedLongAether5D.MAX_INITIAL_VALUE)) <= 0
 									&& args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(FileBackedLongAether5D.MIN_INITIAL_VALUE)) >= 0) {
-								model = new FileBackedLongAether5D(args.initialConfiguration.singleSource.longValue(), args.path);
+								if (args.compressedGrid) {
+									model = new SequentialLongAetherAsymmetricSection5D(args.initialConfiguration.singleSource.longValue(), args.path);
+								} else {
+									model = new FileBackedLongAether5D(args.initialConfiguration.singleSource.longValue(), args.path);
+								}
 							} else {
 								System.out.printf(messages.getString("single-source-out-of-range-format"), FileBackedLongAether5D.MIN_INITIAL_VALUE, FileBackedLongAether5D.MAX_INITIAL_VALUE);
 							}
@@ -514,7 +532,11 @@ public final class AetherFactory {
 			} else {
 				boolean successfullyRestored = true;
 				if (args.memorySafe) {
-					model = new FileBackedLongAether5D(args.backupToRestorePath, args.path);
+					if (args.compressedGrid) {
+						model = new SequentialLongAetherAsymmetricSection5D(args.backupToRestorePath, args.path);
+					} else {
+						model = new FileBackedLongAether5D(args.backupToRestorePath, args.path);
+					}
 				} else if (args.topplingAlternationCompliance) {
 					try {
 						model = new IntAetherTopplingAlternationCompliance5D(args.backupToRestorePath);							
@@ -548,7 +570,54 @@ public final class AetherFactory {
 	
 	private static Model createNd(Args args, ResourceBundle messages) {
 		Model model = null;
-		System.out.printf(messages.getString("grid-not-supported-format"), args.model);
+		int gridDimension = args.grid.dimension;
+		if (args.grid.side == null && gridDimension > 0 && gridDimension <= FlatLongAether.MAX_GRID_DIMENSION) {
+			if (args.backupToRestorePath == null) {
+				if (args.initialConfiguration.type == InitialConfigType.SINGLE_SOURCE) {
+					if (args.topplingAlternationCompliance) {
+						System.out.printf(messages.getString("param-not-supported-for-this-model-format"), args.model, Args.TOPPLING_ALTERNATION_COMPLIANCE);
+					} else if (args.memorySafe) {
+						System.out.printf(messages.getString("param-not-supported-for-this-model-format"), args.model, Args.MEMORY_SAFE);
+					} else {
+						if (gridDimension == 6
+								&& args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(LongAether6D.MAX_INITIAL_VALUE)) <= 0
+								&& args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(LongAether6D.MIN_INITIAL_VALUE)) >= 0) {
+							model = new LongAether6D(args.initialConfiguration.singleSource.longValue());
+						} else if (args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(FlatIntAether.MAX_INITIAL_VALUE)) <= 0
+								&& args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(FlatIntAether.getMinInitialValue(gridDimension))) >= 0) {
+							model = new FlatIntAether(gridDimension, args.initialConfiguration.singleSource.intValue());
+						} else if (args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(FlatLongAether.MAX_INITIAL_VALUE)) <= 0
+								&& args.initialConfiguration.singleSource.compareTo(BigInt.valueOf(FlatLongAether.getMinInitialValue(gridDimension))) >= 0) {
+							model = new FlatLongAether(gridDimension, args.initialConfiguration.singleSource.longValue());
+						} else {
+							System.out.printf(messages.getString("single-source-out-of-range-format"), FlatLongAether.getMinInitialValue(gridDimension), FlatLongAether.MAX_INITIAL_VALUE);
+						}
+					}
+				} else {
+					System.out.println(messages.getString("initial-config-not-supported-with-these-params"));
+				}
+			} else {
+				try {
+					model = new FlatIntAether(args.backupToRestorePath);
+				} catch (Exception ex1) {
+					try {
+						if (gridDimension == 6) {
+							model = new LongAether6D(args.backupToRestorePath);
+						} else {
+							model = new FlatLongAether(args.backupToRestorePath);
+						}
+					} catch (Exception ex2) {
+						System.out.println(messages.getString("backup-could-not-be-restored"));
+					}
+				}
+				if (model != null && ((IsotropicHypercubicModelAsymmetricSection) model).getGridDimension() != gridDimension) {
+					model = null;
+					System.out.println(messages.getString("backup-could-not-be-restored"));
+				}
+			}
+		} else {
+			System.out.printf(messages.getString("grid-not-supported-format"), args.model);
+		}
 		return model;
 	}
 	
@@ -34,10 +34,18 @@ import caimgmaker.args.CustomUsageFormatter;
 import caimgmaker.colormap.ColorMapper;
 import caimgmaker.colormap.GrayscaleMapper;
 import caimgmaker.colormap.HueMapper;
+import cellularautomata.HugeMethodCheck;
 import cellularautomata.PartialCoordinates;
-import cellularautomata.Utils;
 import cellularautomata.model.IntModel;
+import cellularautomata.model.LongModel;
 import cellularautomata.model.Model;
+import cellularautomata.model.ModelViewChain;
+import cellularautomata.model.CompressedGridModel;
+import cellularautomata.model.InPlaceSteppingModel;
+import cellularautomata.model.MultithreadedModel;
+import cellularautomata.model.SnapshotBackupModel;
+import cellularautomata.model.StepStatisticsModel;
+import cellularautomata.model.IsotropicHypercubicModel;
 import cellularautomata.model.IsotropicHypercubicModelAsymmetricSection;
 import cellularautomata.model2d.BooleanModel2D;
 import cellularautomata.model2d.CustomIsotropicBooleanArrayModel2D2StepsDelta;
@@ -55,6 +63,7 @@ import cellularautomata.model2d.IsotropicSquareIntArrayModelAsymmetricSection;
 import cellularautomata.model2d.IsotropicSquareLongArrayModelAsymmetricSection;
 import cellularautomata.model2d.IsotropicSquareNumericArrayModelAsymmetricSection;
 import cellularautomata.model2d.LongModel2D;
+import cellularautomata.model2d.LongModelAs2D;
 import cellularautomata.model2d.NumericModel2D;
 import cellularautomata.model3d.BooleanModel3D;
 import cellularautomata.model3d.CustomIsotropicBooleanArrayModel3D2StepsDelta;
@@ -72,6 +81,7 @@ import cellularautomata.model3d.IsotropicCubicIntArrayModelAsymmetricSection;
 import cellularautomata.model3d.IsotropicCubicLongArrayModelAsymmetricSection;
 import cellularautomata.model3d.IsotropicCubicNumericArrayModelAsymmetricSection;
 import cellularautomata.model3d.LongModel3D;
+import cellularautomata.model3d.LongModelAs3D;
 import cellularautomata.model3d.Model3D;
 import cellularautomata.model3d.ModelAs3D;
 import cellularautomata.model3d.NumericModel3D;
@@ -112,6 +122,7 @@ public class AetherImgMaker {
 		InputReaderTask inputReader = null;
 		Thread inputThread = null;
 		Args args = null;
+		MultithreadedModel multithreadedModel = null;
 		try {
 			messages = ResourceBundle.getBundle("MessagesBundle", Locale.getDefault());
 			inputReader = new InputReaderTask(messages);
@@ -142,6 +153,23 @@ public class AetherImgMaker {
 				System.out.printf(messages.getString("use-help-format"), Args.HELP);
 				return;
 			}
+			List<String> hugeMethods = HugeMethodCheck.getHugeMethods(model.getClass());
+			if (!hugeMethods.isEmpty()) {
+				System.out.printf(messages.getString("huge-methods-not-compiled-format"), model.getName(), String.join(", ", hugeMethods));
+			}
+			multithreadedModel = getMultithreadedModel(model, args);
+			if (args.threads > 1 && multithreadedModel == null) {
+				System.out.printf(messages.getString("use-help-format"), Args.HELP);
+				return;
+			}
+			if (args.inPlace && !setInPlaceStepping(model, args)) {
+				System.out.printf(messages.getString("use-help-format"), Args.HELP);
+				return;
+			}
+			if (args.compressedGrid && !setGridCompression(model, args)) {
+				System.out.printf(messages.getString("use-help-format"), Args.HELP);
+				return;
+			}
 			int lastCharacterInPathIndex = args.path.length() - 1;
 			char lastCharacterInPath = args.path.charAt(lastCharacterInPathIndex);
 			if (lastCharacterInPath == '/' || lastCharacterInPath == '\\') {
@@ -152,24 +180,41 @@ public class AetherImgMaker {
 				path += "/" + model.getSubfolderPath();
 			}
 			String backupsPath = path + "/backups";
+			BackupWriter backupWriter = new BackupWriter(messages, model instanceof SnapshotBackupModel ? (SnapshotBackupModel)model : null, 
+					args.compressedBackups, args.threads);
 			model = getDelta(model, args);
 			if (model == null) {
 				System.out.printf(messages.getString("use-help-format"), Args.HELP);
 				return;
 			}
-			evolveModelToFirstStep(model, args, backupsPath, inputReader);
-			Model modelSection = getModelSection(model, args);
-			if (modelSection == null) {
+			if (args.stepStatisticsPath != null && !(model instanceof StepStatisticsModel)) {
+				System.out.printf(messages.getString("param-not-supported-with-other-params-format"), Args.STEP_STATISTICS);
 				System.out.printf(messages.getString("use-help-format"), Args.HELP);
 				return;
 			}
+			evolveModelToFirstStep(model, multithreadedModel, args, backupsPath, inputReader, backupWriter);
+			Model modelSection = null;
+			if (args.stepStatisticsPath == null) {
+				modelSection = getModelSection(model, args);
+				if (modelSection == null) {
+					System.out.printf(messages.getString("use-help-format"), Args.HELP);
+					return;
+				}
+			}
 			if (args.backupToRestorePath == null)
 				FileUtils.writeStringToFile(
 						new File(path + "/parameters.txt"), 
 						new Timestamp(System.currentTimeMillis()).toString() + "\t" + String.join(" ", rawArgs) + System.lineSeparator(), 
 						Charset.forName("UTF8"), 
 						true);
-			boolean success = generateImages(modelSection, args, backupsPath, inputReader);
+			boolean success;
+			if (modelSection == null) {
+				success = writeStepStatistics((StepStatisticsModel)model, multithreadedModel, args, backupsPath, inputReader, backupWriter);
+			} else {
+				setStepStatistics(model, modelSection, args);
+				success = generateImages(modelSection, multithreadedModel, args, backupsPath, inputReader, backupWriter);
+			}
+			backupWriter.waitForPendingBackup();
 			if (success) {
 				System.out.println(messages.getString("finished"));
 			} else {
@@ -188,6 +233,9 @@ public class AetherImgMaker {
 			}
 			System.out.printf(messages.getString("use-help-format"), Args.HELP);
 		} finally {
+			if (multithreadedModel != null) {
+				multithreadedModel.shutdownThreads();
+			}
 			if (inputReader != null) {
 				inputReader.stop();
 			}
@@ -210,7 +258,36 @@ public class AetherImgMaker {
 		return succeeded;
 	}
 	
-	private static boolean generateImages(Model model, Args args, String backupsPath, InputReaderTask inputReader) throws Exception {
+	private static boolean writeStepStatistics(StepStatisticsModel model, MultithreadedModel multithreadedModel, Args args, String backupsPath, InputReaderTask inputReader, BackupWriter backupWriter) throws Exception {
+		ImgMaker imgMaker = null;
+		if (args.millisBetweenBackups == null) {
+			imgMaker = new ImgMaker(messages, inputReader);
+		} else {
+			imgMaker = new ImgMaker(messages, inputReader, args.millisBetweenBackups);
+		}
+		imgMaker.setMultithreadedModel(multithreadedModel);
+		imgMaker.setBackupWriter(backupWriter);
+		imgMaker.writeStepStatistics(model, args.stepStatisticsPath, backupsPath);
+		return true;
+	}
+	
+	/**
+	 * Makes the model compute the statistics of its values while stepping when the images are generated at every step from the whole model or its asymmetric section in 2D, 
+	 * so that their minimum and maximum values don't have to be searched for again. 
+	 * When the images are rendered in the background, the minimum and maximum values are already obtained while the values are copied.
+	 * 
+	 * @param model
+	 * @param modelSection
+	 * @param args
+	 */
+	private static void setStepStatistics(Model model, Model modelSection, Args args) {
+		if (model instanceof StepStatisticsModel && args.steapLeap == 1 && args.renderThreads == 0 && modelSection.getGridDimension() == 2 
+				&& (modelSection == model || modelSection instanceof IsotropicHypercubicModel && ((IsotropicHypercubicModel<?>)modelSection).getAsymmetricSection() == model)) {
+			((StepStatisticsModel)model).setStepStatisticsEnabled(true);
+		}
+	}
+	
+	private static boolean generateImages(Model model, MultithreadedModel multithreadedModel, Args args, String backupsPath, InputReaderTask inputReader, BackupWriter backupWriter) throws Exception {
 		boolean splitByCoordinateParity = false, omitEven = false, omitOdd = false;
 		if (args.splitByCoordinateParity) {
 			splitByCoordinateParity = true;
@@ -250,6 +327,10 @@ public class AetherImgMaker {
 		} else {
 			imgMaker = new ImgMaker(messages, inputReader, args.millisBetweenBackups);
 		}
+		imgMaker.setMultithreadedModel(multithreadedModel);
+		imgMaker.setBackupWriter(backupWriter);
+		imgMaker.setRenderThreadCount(args.renderThreads);
+		imgMaker.setPngWriter(new PngWriter(args.pngCompressionLevel, args.pngFastMode, Runtime.getRuntime().availableProcessors()));
 		boolean error = false;
 		int dimension = model.getGridDimension();
 		switch (dimension) {
@@ -290,6 +371,13 @@ public class AetherImgMaker {
 					} else {
 						imgMaker.createImages(castedModel, colorMapper, args.minimumImageSize.width, args.minimumImageSize.height, imagesPath, imagesName, backupsPath, args.steapLeap);
 					}
+				} else if (model instanceof LongModel) {
+					LongModel2D castedModel = new LongModelAs2D((LongModel)model);
+					if (splitByCoordinateParity) {
+						imgMaker.createEvenOddImages(castedModel, colorMapper, args.minimumImageSize.width, args.minimumImageSize.height, imagesPath, imagesName, backupsPath, args.steapLeap, omitEven, omitOdd);
+					} else {
+						imgMaker.createImages(castedModel, colorMapper, args.minimumImageSize.width, args.minimumImageSize.height, imagesPath, imagesName, backupsPath, args.steapLeap);
+					}
 				} else {
 					System.out.printf(messages.getString("unsupported-model-section-format"), model.getClass().getName());
 					error = true;
@@ -349,6 +437,13 @@ public class AetherImgMaker {
 					} else {
 						imgMaker.createScanningAndZCrossSectionImages(castedModel, scanCoords, crossSectionZ, colorMapper, args.minimumImageSize.width, args.minimumImageSize.height, imagesPath, imagesName, backupsPath, args.steapLeap);
 					}
+				} else if (model instanceof LongModel) {
+					LongModel3D castedModel = new LongModelAs3D((LongModel)model);
+					if (splitByCoordinateParity) {
+						imgMaker.createScanningAndZCrossSectionEvenOddImages(castedModel, scanCoords, crossSectionZ, colorMapper, args.minimumImageSize.width, args.minimumImageSize.height, imagesPath, imagesName, backupsPath, args.steapLeap, omitEven, omitOdd);
+					} else {
+						imgMaker.createScanningAndZCrossSectionImages(castedModel, scanCoords, crossSectionZ, colorMapper, args.minimumImageSize.width, args.minimumImageSize.height, imagesPath, imagesName, backupsPath, args.steapLeap);
+					}
 				} else {
 					System.out.printf(messages.getString("unsupported-model-section-format"), model.getClass().getName());
 					error = true;
@@ -361,14 +456,7 @@ public class AetherImgMaker {
 		return !error;
 	}
 	
-	private static void backUp(Model model, long step, String backupsPath) throws Exception {
-		String backupName = model.getName() + "_" + step + "_" + Utils.getFileNameSafeTimeStamp();
-		System.out.printf(messages.getString("backing-up-instance-format"), backupsPath + "/" + backupName);
-		model.backUp(backupsPath, backupName);		
-		System.out.println(messages.getString("backing-up-finished"));
-	}
-
-	private static void evolveModelToFirstStep(Model model, Args args, String backupsPath, InputReaderTask inputReader) throws Exception {
+	private static void evolveModelToFirstStep(Model model, MultithreadedModel multithreadedModel, Args args, String backupsPath, InputReaderTask inputReader, BackupWriter backupWriter) throws Exception {
 		long step = model.getStep();
 		if (args.firstStep > step) {
 			System.out.printf(messages.getString("evolving-model-to-step-format"), args.firstStep);
@@ -378,6 +466,7 @@ public class AetherImgMaker {
 				long nextBckTime = System.currentTimeMillis() + args.millisBetweenBackups;
 				do {
 					System.out.println(stepNameAndEquals + step);
+					printLastStepTimeAndSpeedup(multithreadedModel);
 					changed = model.nextStep();
 					step++;
 					boolean backUp = false;
@@ -390,23 +479,80 @@ public class AetherImgMaker {
 						inputReader.backupRequested = false;
 					}
 					if (backUp) {
-						backUp(model, step, backupsPath);
+						backupWriter.backUp(model, step, backupsPath);
 					}
 				} while ((changed == null || changed) && step < args.firstStep);
 			} else {
 				do {
 					System.out.println(stepNameAndEquals + step);
+					printLastStepTimeAndSpeedup(multithreadedModel);
 					changed = model.nextStep();
 					step++;
 					if (inputReader.backupRequested) {
 						inputReader.backupRequested = false;
-						backUp(model, step, backupsPath);
+						backupWriter.backUp(model, step, backupsPath);
 					}
 				} while ((changed == null || changed) && step < args.firstStep);
 			}
 		}		
 	}
 	
+	private static void printLastStepTimeAndSpeedup(MultithreadedModel multithreadedModel) {
+		if (multithreadedModel != null) {
+			long lastStepMillis = multithreadedModel.getLastStepMillis();
+			if (lastStepMillis != -1) {
+				System.out.printf(messages.getString("last-step-time-and-speedup-format"), lastStepMillis, multithreadedModel.getLastStepSpeedup(), multithreadedModel.getThreadCount());
+			}
+		}
+	}
+	
+	private static MultithreadedModel getMultithreadedModel(Model model, Args args) {
+		MultithreadedModel multithreadedModel = null;
+		if (args.threads > 1) {
+			if (model instanceof MultithreadedModel) {
+				multithreadedModel = (MultithreadedModel)model;
+				multithreadedModel.setThreadCount(args.threads);
+			} else {
+				System.out.printf(messages.getString("param-not-supported-with-other-params-format"), Args.THREADS);
+			}
+		}
+		return multithreadedModel;
+	}
+	
+	private static boolean setInPlaceStepping(Model model, Args args) {
+		if (args.delta) {
+			System.out.printf(messages.getString("incompatible-parameters-format"), Args.IN_PLACE, Args.DELTA);
+			return false;
+		}
+		if (args.twoStepsDelta) {
+			System.out.printf(messages.getString("incompatible-parameters-format"), Args.IN_PLACE, Args.TWO_STEPS_DELTA);
+			return false;
+		}
+		if (args.threads > 1) {
+			System.out.printf(messages.getString("incompatible-parameters-format"), Args.IN_PLACE, Args.THREADS);
+			return false;
+		}
+		if (!(model instanceof InPlaceSteppingModel)) {
+			System.out.printf(messages.getString("param-not-supported-with-other-params-format"), Args.IN_PLACE);
+			return false;
+		}
+		((InPlaceSteppingModel)model).setInPlaceStepping(true);
+		return true;
+	}
+	
+	private static boolean setGridCompression(Model model, Args args) {
+		if (!args.memorySafe) {
+			System.out.printf(messages.getString("param-requires-other-param-format"), Args.COMPRESSED_GRID, Args.MEMORY_SAFE);
+			return false;
+		}
+		if (!(model instanceof CompressedGridModel)) {
+			System.out.printf(messages.getString("param-not-supported-with-other-params-format"), Args.COMPRESSED_GRID);
+			return false;
+		}
+		((CompressedGridModel)model).setGridCompression(true);
+		return true;
+	}
+	
 	@SuppressWarnings("unchecked")
 	private static Model getDelta(Model model, Args args) throws Exception { //add deltas to model interface?
 		Model result = null;
@@ -551,11 +697,13 @@ public class AetherImgMaker {
 				}
 				relativeFilterGroupsCoords.add(groupCoords);
 			}
+			//keep track of the chain so that it can be resolved into a single view
+			ModelViewChain chain = new ModelViewChain(model);
 			//orthogonal cross sections
 			for (int i = absoluteFilterCount - 1; i != -1; i--) {
 				int coord = absoluteFilterCoords.get(i);
 				int value = filters.absoluteFilters.get(coord);
-				model = model.crossSection(coord, value);
+				chain.crossSection(coord, value);
 				removeCoordinateFromFilters(coord, minMaxFilterCoords, filters.minMaxFilters);
 				for (int j = 0; j != relativeFilterGroupCount; j++) {
 					SortedMap<Integer, int[]> group = filters.relativeFilterGroups.get(j);
@@ -571,7 +719,7 @@ public class AetherImgMaker {
 				for (int j = group.size() - 1; j != 0; j--) {
 					int coord = groupCoords.get(j);
 					int[] filter = group.get(coord);
-					model = model.diagonalCrossSection(referenceCoord, coord, filter[0] == 1, filter[1]);
+					chain.diagonalCrossSection(referenceCoord, coord, filter[0] == 1, filter[1]);
 					removeCoordinateFromFilters(coord, minMaxFilterCoords, filters.minMaxFilters);
 					for (int k = 0; k != i; k++) {
 						SortedMap<Integer, int[]> otherGroup = filters.relativeFilterGroups.get(k);
@@ -582,7 +730,7 @@ public class AetherImgMaker {
 			}
 			//subsection
 			if (minMaxFilterCount != 0) {
-				int newDimension = model.getGridDimension();
+				int newDimension = chain.getView().getGridDimension();
 				Integer[] minCoordinates = new Integer[newDimension];
 				Integer[] maxCoordinates = new Integer[newDimension];
 				for (int i = 0; i != minMaxFilterCount; i++) {
@@ -591,8 +739,9 @@ public class AetherImgMaker {
 					minCoordinates[coord] = minAndMax[0];
 					maxCoordinates[coord] = minAndMax[1];
 				}
-				model = model.subsection(new PartialCoordinates(minCoordinates), new PartialCoordinates(maxCoordinates));
+				chain.subsection(new PartialCoordinates(minCoordinates), new PartialCoordinates(maxCoordinates));
 			}
+			model = chain.compile();
 		}
 		return model;
 	}
@@ -0,0 +1,127 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package caimgmaker;
+
+import java.util.ResourceBundle;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import cellularautomata.Utils;
+import cellularautomata.model.Model;
+import cellularautomata.model.SerializableModelData;
+import cellularautomata.model.SnapshotBackupModel;
+
+/**
+ * Makes the backups of a model. If the model can capture a snapshot of its state, the backup is written by a background thread 
+ * while the following steps are computed, and a new backup only waits if the previous one has not been written yet.
+ * Otherwise, the backup is made synchronously by the model itself, and it is not compressed.
+ * 
+ * @author Jaume
+ *
+ */
+public class BackupWriter {
+	
+	private final SnapshotBackupModel snapshotModel;
+	private final boolean compress;
+	private final int compressionThreadCount;
+	private final String backingUpInstanceMessageFormat;
+	private final String backingUpFinishedMessage;
+	private ExecutorService executor = null;
+	private Future<?> pendingBackup = null;
+	
+	/**
+	 * Creates a backup writer.
+	 * 
+	 * @param messages the translated messages
+	 * @param snapshotModel the model whose snapshots to back up in the background, which is the one that actually computes the steps, or null to always back up synchronously
+	 */
+	public BackupWriter(ResourceBundle messages, SnapshotBackupModel snapshotModel) {
+		this(messages, snapshotModel, false, 1);
+	}
+	
+	/**
+	 * Creates a backup writer.
+	 * 
+	 * @param messages the translated messages
+	 * @param snapshotModel the model whose snapshots to back up in the background, which is the one that actually computes the steps, or null to always back up synchronously
+	 * @param compress whether or not to compress the backups written in the background
+	 * @param compressionThreadCount the number of threads used to compress them
+	 */
+	public BackupWriter(ResourceBundle messages, SnapshotBackupModel snapshotModel, boolean compress, int compressionThreadCount) {
+		this.snapshotModel = snapshotModel;
+		this.compress = compress;
+		this.compressionThreadCount = compressionThreadCount;
+		backingUpInstanceMessageFormat = messages.getString("backing-up-instance-format");
+		backingUpFinishedMessage = messages.getString("backing-up-finished");
+	}
+	
+	/**
+	 * Backs up the current state of a model.
+	 * 
+	 * @param model the model, or a view of it
+	 * @param step the current step
+	 * @param backupPath the folder where to write the backup
+	 * @throws Exception if the backup, or the previous one if it was written in the background, failed
+	 */
+	public void backUp(Model model, long step, String backupPath) throws Exception {
+		waitForPendingBackup();
+		String backupName = model.getName() + "_" + step + "_" + Utils.getFileNameSafeTimeStamp();
+		System.out.printf(backingUpInstanceMessageFormat, backupPath + "/" + backupName);
+		SerializableModelData snapshot = snapshotModel == null ? null : snapshotModel.getBackupSnapshot();
+		if (snapshot == null) {
+			model.backUp(backupPath, backupName);
+			System.out.println(backingUpFinishedMessage);
+		} else {
+			if (executor == null) {
+				executor = Executors.newSingleThreadExecutor(runnable -> {
+					Thread thread = new Thread(runnable, "backup");
+					thread.setDaemon(true);
+					return thread;
+				});
+			}
+			pendingBackup = executor.submit(() -> {
+				Utils.serializeToFile(snapshot, backupPath, backupName, compress, compressionThreadCount);
+				System.out.println(backingUpFinishedMessage);
+				return null;
+			});
+		}
+	}
+	
+	/**
+	 * Waits until the backup being written in the background, if any, is finished.
+	 * 
+	 * @throws Exception if the backup failed
+	 */
+	public void waitForPendingBackup() throws Exception {
+		if (pendingBackup != null) {
+			try {
+				pendingBackup.get();
+			} catch (ExecutionException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof Exception) {
+					throw (Exception) cause;
+				}
+				throw ex;
+			} finally {
+				pendingBackup = null;
+			}
+		}
+	}
+	
+}
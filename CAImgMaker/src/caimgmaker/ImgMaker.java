@@ -17,29 +17,34 @@
 package caimgmaker;
 
 import java.awt.Color;
-import java.awt.Point;
-import java.awt.Transparency;
-import java.awt.image.BufferedImage;
-import java.awt.image.ColorModel;
-import java.awt.image.ComponentColorModel;
-import java.awt.image.DataBuffer;
-import java.awt.image.DataBufferByte;
-import java.awt.image.Raster;
-import java.awt.image.WritableRaster;
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileWriter;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.ResourceBundle;
-
-import javax.imageio.ImageIO;
+import java.util.concurrent.Callable;
 
 import org.apache.commons.math3.FieldElement;
 
+import caimgmaker.colormap.ColorMappedGrid2D;
 import caimgmaker.colormap.ColorMapper;
 import cellularautomata.MinAndMax;
-import cellularautomata.Utils;
 import cellularautomata.model.Model;
+import cellularautomata.model.MultithreadedModel;
+import cellularautomata.model.StepStatistics;
+import cellularautomata.model.StepStatisticsModel;
 import cellularautomata.model2d.BooleanModel2D;
+import cellularautomata.model2d.IntArrayGrid2D;
 import cellularautomata.model2d.IntModel2D;
+import cellularautomata.model2d.IsotropicSquareIntModel;
+import cellularautomata.model2d.IsotropicSquareIntModelAsymmetricSection;
+import cellularautomata.model2d.IsotropicSquareLongModel;
+import cellularautomata.model2d.IsotropicSquareLongModelAsymmetricSection;
+import cellularautomata.model2d.IsotropicSquareModel;
+import cellularautomata.model2d.LongArrayGrid2D;
 import cellularautomata.model2d.LongModel2D;
 import cellularautomata.model2d.NumericModel2D;
 import cellularautomata.model2d.ObjectModel2D;
@@ -56,9 +61,14 @@ public class ImgMaker {
 	private long millisecondsBetweenBackups;
 	private boolean saveBackupsAutomatically = true;
 	private InputReaderTask inputReader;
+	private MultithreadedModel multithreadedModel = null;
+	private BackupWriter backupWriter;
+	private int renderThreadCount = 0;
+	private PngWriter pngWriter = new PngWriter(PngWriter.DEFAULT_COMPRESSION_LEVEL, false, Runtime.getRuntime().availableProcessors());
+	//reused from image to image by each rendering thread
+	private static final ThreadLocal<byte[]> pixelDataBuffer = new ThreadLocal<byte[]>();
+	private static final ThreadLocal<int[]> rgbRowBuffer = new ThreadLocal<int[]>();
 	//translated strings
-	private static String backingUpInstanceMessageFormat;
-	private static String backingUpFinishedMessage;
 	private static String stepNameAndEquals;
 	private static String lessThanOrEqualToValueNameLessThanOrEqualTo;
 	private static String lessThanOrEqualToEvenCoordsValueNameLessThanOrEqualTo;
@@ -68,22 +78,23 @@ public class ImgMaker {
 	private static String scanCoordAndEqualsFormat;
 	private static String imagePathNameAndEquals;
 	private static String maxImageSizeExceededMessage;
+	private static String lastStepTimeAndSpeedupFormat;
 	
 	public ImgMaker(ResourceBundle messages, InputReaderTask inputReader) {
 		saveBackupsAutomatically = false;
 		this.inputReader = inputReader;
+		backupWriter = new BackupWriter(messages, null);
 		getTranslatedStrings(messages);
 	}
 	
 	public ImgMaker(ResourceBundle messages, InputReaderTask inputReader, long millisecondsBetweenBackups) {
 		this.inputReader = inputReader;
 		this.millisecondsBetweenBackups = millisecondsBetweenBackups;
+		backupWriter = new BackupWriter(messages, null);
 		getTranslatedStrings(messages);
 	}
 	
 	private void getTranslatedStrings(ResourceBundle messages) {
-		backingUpInstanceMessageFormat = messages.getString("backing-up-instance-format");
-		backingUpFinishedMessage = messages.getString("backing-up-finished");
 		stepNameAndEquals = messages.getString("step") + " = ";
 		lessThanOrEqualToValueNameLessThanOrEqualTo = " <= " + messages.getString("value") + " <= ";
 		lessThanOrEqualToEvenCoordsValueNameLessThanOrEqualTo = " <= " + messages.getString("even-coords-value-no-spaces") + " <= ";
@@ -93,13 +104,133 @@ public class ImgMaker {
 		scanCoordAndEqualsFormat = lineSeparator + messages.getString("scan-coord-no-spaces-format") + " = ";
 		imagePathNameAndEquals = messages.getString("image-path-no-spaces") + " = ";
 		maxImageSizeExceededMessage = messages.getString("max-img-size-exceeded");
+		lastStepTimeAndSpeedupFormat = messages.getString("last-step-time-and-speedup-format");
+	}
+	
+	/**
+	 * Sets the model whose step time and speedup are logged after every step.
+	 * It is the model that actually computes the steps, which can be different from the one the images are generated from.
+	 * 
+	 * @param multithreadedModel
+	 */
+	public void setMultithreadedModel(MultithreadedModel multithreadedModel) {
+		this.multithreadedModel = multithreadedModel;
+	}
+	
+	/**
+	 * Sets the writer of the backups, which can write them in the background.
+	 * 
+	 * @param backupWriter
+	 */
+	public void setBackupWriter(BackupWriter backupWriter) {
+		this.backupWriter = backupWriter;
+	}
+	
+	/**
+	 * Sets the number of threads that render and encode the images of 2D models with {@code int} or {@code long} values 
+	 * while the following steps are computed. With zero threads, the default, images are rendered in between steps.
+	 * 
+	 * @param renderThreadCount
+	 */
+	public void setRenderThreadCount(int renderThreadCount) {
+		if (renderThreadCount < 0) {
+			throw new IllegalArgumentException("The render thread count cannot be negative.");
+		}
+		this.renderThreadCount = renderThreadCount;
+	}
+	
+	/**
+	 * Sets the writer used to save the images.
+	 * 
+	 * @param pngWriter
+	 */
+	public void setPngWriter(PngWriter pngWriter) {
+		this.pngWriter = pngWriter;
+	}
+	
+	private void printStep(long step) {
+		System.out.println(stepNameAndEquals + step);
+		if (multithreadedModel != null) {
+			long lastStepMillis = multithreadedModel.getLastStepMillis();
+			if (lastStepMillis != -1) {
+				System.out.printf(lastStepTimeAndSpeedupFormat, lastStepMillis, multithreadedModel.getLastStepSpeedup(), multithreadedModel.getThreadCount());
+			}
+		}
 	}
 	
 	private void backUp(Model model, long step, String backupPath) throws Exception {
-		String backupName = model.getName() + "_" + step + "_" + Utils.getFileNameSafeTimeStamp();
-		System.out.printf(backingUpInstanceMessageFormat, backupPath + "/" + backupName);
-		model.backUp(backupPath, backupName);		
-		System.out.println(backingUpFinishedMessage);
+		backupWriter.backUp(model, step, backupPath);
+	}
+	
+	/**
+	 * Computes the steps of the model writing the statistics of the values of every step to a CSV file, one line per step, without generating any images.
+	 * If the file already exists, the lines are appended to it, so that a run restored from a backup can continue the same file.
+	 * 
+	 * @param model
+	 * @param filePath the path of the CSV file
+	 * @param backupPath
+	 * @throws Exception
+	 */
+	public void writeStepStatistics(StepStatisticsModel model, String filePath, String backupPath) throws Exception {
+		model.setStepStatisticsEnabled(true);
+		long step = model.getStep();
+		File file = new File(filePath);
+		File folder = file.getAbsoluteFile().getParentFile();
+		if (folder != null) {
+			folder.mkdirs();
+		}
+		boolean writeHeader = !file.exists() || file.length() == 0;
+		Boolean changed = model.isChanged();
+		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
+		try (BufferedWriter writer = new BufferedWriter(new FileWriter(file, true))) {
+			if (writeHeader) {
+				writer.write("step,min,max,even_min,even_max,odd_min,odd_max,total,changed");
+				writer.newLine();
+			}
+			do {
+				printStep(step);
+				writer.write(getStepStatisticsCsvLine(model.getStepStatistics()));
+				writer.newLine();
+				writer.flush();// so that the file can be analyzed while the model evolves
+				boolean backUp = false;
+				if (saveBackupsAutomatically) {
+					if (System.currentTimeMillis() >= nextBckTime) {
+						backUp = true;
+						nextBckTime += millisecondsBetweenBackups;
+					}
+				}
+				if (inputReader.backupRequested) {
+					backUp = true;
+					inputReader.backupRequested = false;
+				}
+				if (backUp) {
+					backUp(model, step, backupPath);
+				}
+				step++;
+			} while ((changed = model.nextStep()) == null || changed);
+		}
+	}
+	
+	private static String getStepStatisticsCsvLine(StepStatistics statistics) {
+		StringBuilder line = new StringBuilder();
+		line.append(statistics.getStep());
+		appendMinAndMax(line, statistics.getMinAndMax());
+		appendMinAndMax(line, statistics.getEvenOddPositionsMinAndMax(true));
+		appendMinAndMax(line, statistics.getEvenOddPositionsMinAndMax(false));
+		line.append(',').append(statistics.getTotal()).append(',');
+		long changedCount = statistics.getChangedCount();
+		if (changedCount != -1) {
+			line.append(changedCount);
+		}
+		return line.toString();
+	}
+	
+	private static void appendMinAndMax(StringBuilder line, long[] minAndMax) {
+		if (minAndMax == null) {
+			line.append(",,");
+		} else {
+			line.append(',').append(minAndMax[0]).append(',').append(minAndMax[1]);
+		}
 	}
 	
 	public void createImages(BooleanModel2D ca, ColorMapper colorMapper, int minWidth, int minHeight, String path, String name, String backupPath, int stepLeap) throws Exception {	
@@ -115,7 +246,7 @@ public class ImgMaker {
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
 		do {
-			System.out.println(stepNameAndEquals + step);
+			printStep(step);
 			if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
 				currentStepLeap = 0;
 				if (changed != null && !changed) {
@@ -164,44 +295,66 @@ public class ImgMaker {
 		}
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
-		do {
-			System.out.println(stepNameAndEquals + step);
-			if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
-				currentStepLeap = 0;
-				if (changed != null && !changed) {
-					createLastImage = false;
-				}
-				int minX = ca.getMinX(), maxX = ca.getMaxX(), 
-						minY = ca.getMinY(), maxY = ca.getMaxY();
-				System.out.println(minX + " <= " + xLabel + " <= " + maxX + lineSeparator + minY + " <= " + yLabel + " <= " + maxY);
-				int[] minAndMaxValue = ca.getMinAndMax();
-				System.out.println(minAndMaxValue[0] + lessThanOrEqualToValueNameLessThanOrEqualTo + minAndMaxValue[1]);
-				ObjectModel2D<Color> colorModel = colorMapper.getMappedModel(ca, minAndMaxValue[0], minAndMaxValue[1]);
-				createImage(colorModel, minX, maxX, minY, maxY, minWidth, minHeight, imgPath + numberedFolder, name + step + ".png");
-				folderImageCount++;
-				if (folderImageCount == imgsPerFolder) {
-					numberedFolder++;
-					folderImageCount = 0;
+		RenderQueue renderQueue = renderThreadCount == 0 ? null : new RenderQueue(renderThreadCount);
+		try {
+			do {
+				printStep(step);
+				if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
+					currentStepLeap = 0;
+					if (changed != null && !changed) {
+						createLastImage = false;
+					}
+					int minX = ca.getMinX(), maxX = ca.getMaxX(), 
+							minY = ca.getMinY(), maxY = ca.getMaxY();
+					System.out.println(minX + " <= " + xLabel + " <= " + maxX + lineSeparator + minY + " <= " + yLabel + " <= " + maxY);
+					if (renderQueue == null) {
+						int[] minAndMaxValue = ca.getMinAndMax();
+						System.out.println(minAndMaxValue[0] + lessThanOrEqualToValueNameLessThanOrEqualTo + minAndMaxValue[1]);
+						ObjectModel2D<Color> colorModel = colorMapper.getMappedModel(ca, minAndMaxValue[0], minAndMaxValue[1]);
+						createImage(colorModel, minX, maxX, minY, maxY, minWidth, minHeight, imgPath + numberedFolder, name + step + ".png");
+					} else {
+						int[] minAndMaxValue = new int[2];
+						IntModel2D snapshot = getSnapshot(ca, minAndMaxValue);
+						System.out.println(minAndMaxValue[0] + lessThanOrEqualToValueNameLessThanOrEqualTo + minAndMaxValue[1]);
+						String imageFolder = imgPath + numberedFolder, imageName = name + step + ".png";
+						renderQueue.submit(() -> {
+							ObjectModel2D<Color> colorModel = colorMapper.getMappedModel(snapshot, minAndMaxValue[0], minAndMaxValue[1]);
+							createImage(colorModel, minX, maxX, minY, maxY, minWidth, minHeight, imageFolder, imageName);
+							return null;
+						});
+					}
+					folderImageCount++;
+					if (folderImageCount == imgsPerFolder) {
+						numberedFolder++;
+						folderImageCount = 0;
+					}
+					System.out.println();
+				}	
+				boolean backUp = false;
+				if (saveBackupsAutomatically) {
+					if (System.currentTimeMillis() >= nextBckTime) {
+						backUp = true;
+						nextBckTime += millisecondsBetweenBackups;
+					}
 				}
-				System.out.println();
-			}	
-			boolean backUp = false;
-			if (saveBackupsAutomatically) {
-				if (System.currentTimeMillis() >= nextBckTime) {
+				if (inputReader.backupRequested) {
 					backUp = true;
-					nextBckTime += millisecondsBetweenBackups;
+					inputReader.backupRequested = false;
 				}
+				if (backUp) {
+					backUp(ca, step, backupPath);
+				}		
+				step++;
+				currentStepLeap++;
+			} while ((changed = ca.nextStep()) == null || changed || createLastImage);
+			if (renderQueue != null) {
+				renderQueue.waitForAll();
 			}
-			if (inputReader.backupRequested) {
-				backUp = true;
-				inputReader.backupRequested = false;
+		} finally {
+			if (renderQueue != null) {
+				renderQueue.shutdown();
 			}
-			if (backUp) {
-				backUp(ca, step, backupPath);
-			}		
-			step++;
-			currentStepLeap++;
-		} while ((changed = ca.nextStep()) == null || changed || createLastImage);
+		}
 	}
 	
 	public void createImages(LongModel2D ca, ColorMapper colorMapper, int minWidth, int minHeight, String path, String name, String backupPath, int stepLeap) throws Exception {	
@@ -216,44 +369,66 @@ public class ImgMaker {
 		}
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
-		do {
-			System.out.println(stepNameAndEquals + step);
-			if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
-				currentStepLeap = 0;
-				if (changed != null && !changed) {
-					createLastImage = false;
+		RenderQueue renderQueue = renderThreadCount == 0 ? null : new RenderQueue(renderThreadCount);
+		try {
+			do {
+				printStep(step);
+				if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
+					currentStepLeap = 0;
+					if (changed != null && !changed) {
+						createLastImage = false;
+					}
+					int minX = ca.getMinX(), maxX = ca.getMaxX(), 
+							minY = ca.getMinY(), maxY = ca.getMaxY();
+					System.out.println(minX + " <= " + xLabel + " <= " + maxX + lineSeparator + minY + " <= " + yLabel + " <= " + maxY);
+					if (renderQueue == null) {
+						long[] minAndMaxValue = ca.getMinAndMax();
+						System.out.println(minAndMaxValue[0] + lessThanOrEqualToValueNameLessThanOrEqualTo + minAndMaxValue[1]);
+						ObjectModel2D<Color> colorModel = colorMapper.getMappedModel(ca, minAndMaxValue[0], minAndMaxValue[1]);
+						createImage(colorModel, minX, maxX, minY, maxY, minWidth, minHeight, imgPath + numberedFolder, name + step + ".png");
+					} else {
+						long[] minAndMaxValue = new long[2];
+						LongModel2D snapshot = getSnapshot(ca, minAndMaxValue);
+						System.out.println(minAndMaxValue[0] + lessThanOrEqualToValueNameLessThanOrEqualTo + minAndMaxValue[1]);
+						String imageFolder = imgPath + numberedFolder, imageName = name + step + ".png";
+						renderQueue.submit(() -> {
+							ObjectModel2D<Color> colorModel = colorMapper.getMappedModel(snapshot, minAndMaxValue[0], minAndMaxValue[1]);
+							createImage(colorModel, minX, maxX, minY, maxY, minWidth, minHeight, imageFolder, imageName);
+							return null;
+						});
+					}
+					folderImageCount++;
+					if (folderImageCount == imgsPerFolder) {
+						numberedFolder++;
+						folderImageCount = 0;
+					}	
+					System.out.println();
+				}
+				boolean backUp = false;
+				if (saveBackupsAutomatically) {
+					if (System.currentTimeMillis() >= nextBckTime) {
+						backUp = true;
+						nextBckTime += millisecondsBetweenBackups;
+					}
 				}
-				int minX = ca.getMinX(), maxX = ca.getMaxX(), 
-						minY = ca.getMinY(), maxY = ca.getMaxY();
-				System.out.println(minX + " <= " + xLabel + " <= " + maxX + lineSeparator + minY + " <= " + yLabel + " <= " + maxY);
-				long[] minAndMaxValue = ca.getMinAndMax();
-				System.out.println(minAndMaxValue[0] + lessThanOrEqualToValueNameLessThanOrEqualTo + minAndMaxValue[1]);
-				ObjectModel2D<Color> colorModel = colorMapper.getMappedModel(ca, minAndMaxValue[0], minAndMaxValue[1]);
-				createImage(colorModel, minX, maxX, minY, maxY, minWidth, minHeight, imgPath + numberedFolder, name + step + ".png");
-				folderImageCount++;
-				if (folderImageCount == imgsPerFolder) {
-					numberedFolder++;
-					folderImageCount = 0;
-				}	
-				System.out.println();
-			}
-			boolean backUp = false;
-			if (saveBackupsAutomatically) {
-				if (System.currentTimeMillis() >= nextBckTime) {
+				if (inputReader.backupRequested) {
 					backUp = true;
-					nextBckTime += millisecondsBetweenBackups;
+					inputReader.backupRequested = false;
 				}
+				if (backUp) {
+					backUp(ca, step, backupPath);
+				}	
+				step++;
+				currentStepLeap++;
+			} while ((changed = ca.nextStep()) == null || changed || createLastImage);
+			if (renderQueue != null) {
+				renderQueue.waitForAll();
 			}
-			if (inputReader.backupRequested) {
-				backUp = true;
-				inputReader.backupRequested = false;
+		} finally {
+			if (renderQueue != null) {
+				renderQueue.shutdown();
 			}
-			if (backUp) {
-				backUp(ca, step, backupPath);
-			}	
-			step++;
-			currentStepLeap++;
-		} while ((changed = ca.nextStep()) == null || changed || createLastImage);
+		}
 	}
 	
 	public <Number_Type extends FieldElement<Number_Type> & Comparable<Number_Type>> void createImages(
@@ -270,7 +445,7 @@ public class ImgMaker {
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
 		do {
-			System.out.println(stepNameAndEquals + step);
+			printStep(step);
 			if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
 				currentStepLeap = 0;
 				if (changed != null && !changed) {
@@ -324,7 +499,7 @@ public class ImgMaker {
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
 		do {
-			System.out.println(stepNameAndEquals + step);
+			printStep(step);
 			if (currentStepLeap == stepLeap || changed != null && changed != null && !changed && createLastImage) {
 				currentStepLeap = 0;
 				if (changed != null && !changed) {
@@ -385,7 +560,7 @@ public class ImgMaker {
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
 		do {
-			System.out.println(stepNameAndEquals + step);
+			printStep(step);
 			if (currentStepLeap == stepLeap || changed != null && changed != null && !changed && createLastImage) {
 				currentStepLeap = 0;
 				if (changed != null && !changed) {
@@ -460,7 +635,7 @@ public class ImgMaker {
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
 		do {
-			System.out.println(stepNameAndEquals + step);
+			printStep(step);
 			if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
 				currentStepLeap = 0;
 				if (changed != null && !changed) {
@@ -535,7 +710,7 @@ public class ImgMaker {
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
 		do {
-			System.out.println(stepNameAndEquals + step);
+			printStep(step);
 			if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
 				currentStepLeap = 0;
 				if (changed != null && !changed) {
@@ -612,7 +787,7 @@ public class ImgMaker {
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
 		do {
-			System.out.println(stepNameAndEquals + step);
+			printStep(step);
 			if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
 				currentStepLeap = 0;
 				if (changed != null && !changed) {
@@ -695,7 +870,7 @@ public class ImgMaker {
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
 		do {
-			System.out.println(stepNameAndEquals + step);
+			printStep(step);
 			if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
 				currentStepLeap = 0;
 				if (changed != null && !changed) {
@@ -790,86 +965,84 @@ public class ImgMaker {
 		}
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
-		do {
-			System.out.println(stepNameAndEquals + step);
-			if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
-				currentStepLeap = 0;
-				if (changed != null && !changed) {
-					createLastImage = false;
-				}
-				int minX = ca.getMinX(), maxX = ca.getMaxX(), 
-						minY = ca.getMinY(), maxY = ca.getMaxY(), 
-						minZ = ca.getMinZ(), maxZ = ca.getMaxZ();
-				System.out.println(minX + " <= " + xLabel + " <= " + maxX + lineSeparator + minY + " <= " + yLabel + " <= " + maxY 
-						+ lineSeparator + minZ + " <= " + zLabel + " <= " + maxZ);
-				//x scan
-				if (xScanCoord < ca.getMinX()) {
-					xScanCoord = ca.getMaxX();
-				}
-				System.out.println(xScanCoordAndEquals + xScanCoord);
-				IntModel2D crossSection = ca.crossSectionAtX(xScanCoord);
-				int[] minAndMaxValue = crossSection.getMinAndMax();
-				System.out.println(minAndMaxValue[0] + lessThanOrEqualToValueNameLessThanOrEqualTo + minAndMaxValue[1]);
-				ObjectModel2D<Color> colorModel = colorMapper.getMappedModel(crossSection, minAndMaxValue[0], minAndMaxValue[1]);
-				createImage(colorModel, minY, maxY, minZ, maxZ, minWidth, minHeight, 
-						xScanImgPath + numberedFolder, name + step + ".png");
-				xScanCoord--;
-				//y scan
-				if (yScanCoord < ca.getMinY()) {
-					yScanCoord = ca.getMaxY();
-				}
-				System.out.println(yScanCoordAndEquals + yScanCoord);
-				crossSection = ca.crossSectionAtY(yScanCoord);
-				minAndMaxValue = crossSection.getMinAndMax();
-				System.out.println(minAndMaxValue[0] + lessThanOrEqualToValueNameLessThanOrEqualTo + minAndMaxValue[1]);
-				colorModel = colorMapper.getMappedModel(crossSection, minAndMaxValue[0], minAndMaxValue[1]);
-				createImage(colorModel, minX, maxX, minZ, maxZ, minWidth, minHeight, 
-						yScanImgPath + numberedFolder, name + step + ".png");
-				yScanCoord--;
-				//z scan
-				if (zScanCoord < ca.getMinZ()) {
-					zScanCoord = ca.getMaxZ();
+		RenderQueue renderQueue = new RenderQueue(getScanningRenderThreadCount(4));
+		try {
+			do {
+				printStep(step);
+				if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
+					currentStepLeap = 0;
+					if (changed != null && !changed) {
+						createLastImage = false;
+					}
+					int minX = ca.getMinX(), maxX = ca.getMaxX(), 
+							minY = ca.getMinY(), maxY = ca.getMaxY(), 
+							minZ = ca.getMinZ(), maxZ = ca.getMaxZ();
+					System.out.println(minX + " <= " + xLabel + " <= " + maxX + lineSeparator + minY + " <= " + yLabel + " <= " + maxY 
+							+ lineSeparator + minZ + " <= " + zLabel + " <= " + maxZ);
+					if (xScanCoord < ca.getMinX()) {
+						xScanCoord = ca.getMaxX();
+					}
+					if (yScanCoord < ca.getMinY()) {
+						yScanCoord = ca.getMaxY();
+					}
+					if (zScanCoord < ca.getMinZ()) {
+						zScanCoord = ca.getMaxZ();
+					}
+					//all the cross sections are copied in one sweep and their images rendered concurrently
+					IntCrossSectionSnapshots crossSections = new IntCrossSectionSnapshots(ca, xScanCoord, yScanCoord, 
+							new int[] { zScanCoord, crossSectionZ }, false);
+					String imageName = name + step + ".png";
+					List<Callable<Void>> renders = new ArrayList<Callable<Void>>();
+					//x scan
+					System.out.println(xScanCoordAndEquals + xScanCoord);
+					addRender(renders, crossSections.getSnapshot(0), crossSections.getMinAndMax(0), colorMapper, 
+							minY, maxY, minZ, maxZ, minWidth, minHeight, xScanImgPath + numberedFolder, imageName);
+					xScanCoord--;
+					//y scan
+					System.out.println(yScanCoordAndEquals + yScanCoord);
+					addRender(renders, crossSections.getSnapshot(1), crossSections.getMinAndMax(1), colorMapper, 
+							minX, maxX, minZ, maxZ, minWidth, minHeight, yScanImgPath + numberedFolder, imageName);
+					yScanCoord--;
+					//z scan
+					System.out.println(zScanCoordAndEquals + zScanCoord);
+					addRender(renders, crossSections.getSnapshot(2), crossSections.getMinAndMax(2), colorMapper, 
+							minX, maxX, minY, maxY, minWidth, minHeight, zScanImgPath + numberedFolder, imageName);
+					zScanCoord--;
+					//cross section
+					System.out.println(crossSectionLog);
+					addRender(renders, crossSections.getSnapshot(3), crossSections.getMinAndMax(3), colorMapper, 
+							minX, maxX, minY, maxY, minWidth, minHeight, crossSectionImgPath + numberedFolder, imageName);
+					for (Callable<Void> render : renders) {
+						renderQueue.submit(render);
+					}
+					renderQueue.waitForAll();
+					folderImageCount++;
+					if (folderImageCount == imgsPerFolder) {
+						numberedFolder++;
+						folderImageCount = 0;
+					}
+					System.out.println(lineSeparator);
 				}
-				System.out.println(zScanCoordAndEquals + zScanCoord);
-				crossSection = ca.crossSectionAtZ(zScanCoord);
-				minAndMaxValue = crossSection.getMinAndMax();
-				System.out.println(minAndMaxValue[0] + lessThanOrEqualToValueNameLessThanOrEqualTo + minAndMaxValue[1]);
-				colorModel = colorMapper.getMappedModel(crossSection, minAndMaxValue[0], minAndMaxValue[1]);
-				createImage(colorModel, minX, maxX, minY, maxY, minWidth, minHeight, 
-						zScanImgPath + numberedFolder, name + step + ".png");
-				zScanCoord--;
-				//cross section
-				System.out.println(crossSectionLog);
-				crossSection = ca.crossSectionAtZ(crossSectionZ);
-				minAndMaxValue = crossSection.getMinAndMax();
-				System.out.println(minAndMaxValue[0] + lessThanOrEqualToValueNameLessThanOrEqualTo + minAndMaxValue[1]);
-				colorModel = colorMapper.getMappedModel(crossSection, minAndMaxValue[0], minAndMaxValue[1]);
-				createImage(colorModel, minX, maxX, minY, maxY, minWidth, minHeight, crossSectionImgPath + numberedFolder, 
-						name + step + ".png");
-				folderImageCount++;
-				if (folderImageCount == imgsPerFolder) {
-					numberedFolder++;
-					folderImageCount = 0;
+				boolean backUp = false;
+				if (saveBackupsAutomatically) {
+					if (System.currentTimeMillis() >= nextBckTime) {
+						backUp = true;
+						nextBckTime += millisecondsBetweenBackups;
+					}
 				}
-				System.out.println(lineSeparator);
-			}
-			boolean backUp = false;
-			if (saveBackupsAutomatically) {
-				if (System.currentTimeMillis() >= nextBckTime) {
+				if (inputReader.backupRequested) {
 					backUp = true;
-					nextBckTime += millisecondsBetweenBackups;
+					inputReader.backupRequested = false;
 				}
-			}
-			if (inputReader.backupRequested) {
-				backUp = true;
-				inputReader.backupRequested = false;
-			}
-			if (backUp) {
-				backUp(ca, step, backupPath);
-			}
-			step++;
-			currentStepLeap++;
-		} while ((changed = ca.nextStep()) == null || changed || createLastImage);
+				if (backUp) {
+					backUp(ca, step, backupPath);
+				}
+				step++;
+				currentStepLeap++;
+			} while ((changed = ca.nextStep()) == null || changed || createLastImage);
+		} finally {
+			renderQueue.shutdown();
+		}
 	}
 	
 	public void createScanningAndZCrossSectionImages(LongModel3D ca, int[] scanInitialCoords, int crossSectionZ, 
@@ -894,86 +1067,84 @@ public class ImgMaker {
 		}
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
-		do {
-			System.out.println(stepNameAndEquals + step);
-			if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
-				currentStepLeap = 0;
-				if (changed != null && !changed) {
-					createLastImage = false;
-				}
-				int minX = ca.getMinX(), maxX = ca.getMaxX(), 
-						minY = ca.getMinY(), maxY = ca.getMaxY(), 
-						minZ = ca.getMinZ(), maxZ = ca.getMaxZ();
-				System.out.println(minX + " <= " + xLabel + " <= " + maxX + lineSeparator + minY + " <= " + yLabel + " <= " + maxY 
-						+ lineSeparator + minZ + " <= " + zLabel + " <= " + maxZ);
-				//x scan
-				if (xScanCoord < ca.getMinX()) {
-					xScanCoord = ca.getMaxX();
-				}
-				System.out.println(xScanCoordAndEquals + xScanCoord);
-				LongModel2D crossSection = ca.crossSectionAtX(xScanCoord);
-				long[] minAndMaxValue = crossSection.getMinAndMax();
-				System.out.println(minAndMaxValue[0] + lessThanOrEqualToValueNameLessThanOrEqualTo + minAndMaxValue[1]);
-				ObjectModel2D<Color> colorModel = colorMapper.getMappedModel(crossSection, minAndMaxValue[0], minAndMaxValue[1]);
-				createImage(colorModel, minY, maxY, minZ, maxZ, minWidth, minHeight, 
-						xScanImgPath + numberedFolder, name + step + ".png");
-				xScanCoord--;
-				//y scan
-				if (yScanCoord < ca.getMinY()) {
-					yScanCoord = ca.getMaxY();
-				}
-				System.out.println(yScanCoordAndEquals + yScanCoord);
-				crossSection = ca.crossSectionAtY(yScanCoord);
-				minAndMaxValue = crossSection.getMinAndMax();
-				System.out.println(minAndMaxValue[0] + lessThanOrEqualToValueNameLessThanOrEqualTo + minAndMaxValue[1]);
-				colorModel = colorMapper.getMappedModel(crossSection, minAndMaxValue[0], minAndMaxValue[1]);
-				createImage(colorModel, minX, maxX, minZ, maxZ, minWidth, minHeight, 
-						yScanImgPath + numberedFolder, name + step + ".png");
-				yScanCoord--;
-				//z scan
-				if (zScanCoord < ca.getMinZ()) {
-					zScanCoord = ca.getMaxZ();
+		RenderQueue renderQueue = new RenderQueue(getScanningRenderThreadCount(4));
+		try {
+			do {
+				printStep(step);
+				if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
+					currentStepLeap = 0;
+					if (changed != null && !changed) {
+						createLastImage = false;
+					}
+					int minX = ca.getMinX(), maxX = ca.getMaxX(), 
+							minY = ca.getMinY(), maxY = ca.getMaxY(), 
+							minZ = ca.getMinZ(), maxZ = ca.getMaxZ();
+					System.out.println(minX + " <= " + xLabel + " <= " + maxX + lineSeparator + minY + " <= " + yLabel + " <= " + maxY 
+							+ lineSeparator + minZ + " <= " + zLabel + " <= " + maxZ);
+					if (xScanCoord < ca.getMinX()) {
+						xScanCoord = ca.getMaxX();
+					}
+					if (yScanCoord < ca.getMinY()) {
+						yScanCoord = ca.getMaxY();
+					}
+					if (zScanCoord < ca.getMinZ()) {
+						zScanCoord = ca.getMaxZ();
+					}
+					//all the cross sections are copied in one sweep and their images rendered concurrently
+					LongCrossSectionSnapshots crossSections = new LongCrossSectionSnapshots(ca, xScanCoord, yScanCoord, 
+							new int[] { zScanCoord, crossSectionZ }, false);
+					String imageName = name + step + ".png";
+					List<Callable<Void>> renders = new ArrayList<Callable<Void>>();
+					//x scan
+					System.out.println(xScanCoordAndEquals + xScanCoord);
+					addRender(renders, crossSections.getSnapshot(0), crossSections.getMinAndMax(0), colorMapper, 
+							minY, maxY, minZ, maxZ, minWidth, minHeight, xScanImgPath + numberedFolder, imageName);
+					xScanCoord--;
+					//y scan
+					System.out.println(yScanCoordAndEquals + yScanCoord);
+					addRender(renders, crossSections.getSnapshot(1), crossSections.getMinAndMax(1), colorMapper, 
+							minX, maxX, minZ, maxZ, minWidth, minHeight, yScanImgPath + numberedFolder, imageName);
+					yScanCoord--;
+					//z scan
+					System.out.println(zScanCoordAndEquals + zScanCoord);
+					addRender(renders, crossSections.getSnapshot(2), crossSections.getMinAndMax(2), colorMapper, 
+							minX, maxX, minY, maxY, minWidth, minHeight, zScanImgPath + numberedFolder, imageName);
+					zScanCoord--;
+					//cross section
+					System.out.println(crossSectionLog);
+					addRender(renders, crossSections.getSnapshot(3), crossSections.getMinAndMax(3), colorMapper, 
+							minX, maxX, minY, maxY, minWidth, minHeight, crossSectionImgPath + numberedFolder, imageName);
+					for (Callable<Void> render : renders) {
+						renderQueue.submit(render);
+					}
+					renderQueue.waitForAll();
+					folderImageCount++;
+					if (folderImageCount == imgsPerFolder) {
+						numberedFolder++;
+						folderImageCount = 0;
+					}
+					System.out.println(lineSeparator);
 				}
-				System.out.println(zScanCoordAndEquals + zScanCoord);
-				crossSection = ca.crossSectionAtZ(zScanCoord);
-				minAndMaxValue = crossSection.getMinAndMax();
-				System.out.println(minAndMaxValue[0] + lessThanOrEqualToValueNameLessThanOrEqualTo + minAndMaxValue[1]);
-				colorModel = colorMapper.getMappedModel(crossSection, minAndMaxValue[0], minAndMaxValue[1]);
-				createImage(colorModel, minX, maxX, minY, maxY, minWidth, minHeight, 
-						zScanImgPath + numberedFolder, name + step + ".png");
-				zScanCoord--;
-				//cross section
-				System.out.println(crossSectionLog);
-				crossSection = ca.crossSectionAtZ(crossSectionZ);
-				minAndMaxValue = crossSection.getMinAndMax();
-				System.out.println(minAndMaxValue[0] + lessThanOrEqualToValueNameLessThanOrEqualTo + minAndMaxValue[1]);
-				colorModel = colorMapper.getMappedModel(crossSection, minAndMaxValue[0], minAndMaxValue[1]);
-				createImage(colorModel, minX, maxX, minY, maxY, minWidth, minHeight, crossSectionImgPath + numberedFolder, 
-						name + step + ".png");
-				folderImageCount++;
-				if (folderImageCount == imgsPerFolder) {
-					numberedFolder++;
-					folderImageCount = 0;
+				boolean backUp = false;
+				if (saveBackupsAutomatically) {
+					if (System.currentTimeMillis() >= nextBckTime) {
+						backUp = true;
+						nextBckTime += millisecondsBetweenBackups;
+					}
 				}
-				System.out.println(lineSeparator);
-			}
-			boolean backUp = false;
-			if (saveBackupsAutomatically) {
-				if (System.currentTimeMillis() >= nextBckTime) {
+				if (inputReader.backupRequested) {
 					backUp = true;
-					nextBckTime += millisecondsBetweenBackups;
+					inputReader.backupRequested = false;
 				}
-			}
-			if (inputReader.backupRequested) {
-				backUp = true;
-				inputReader.backupRequested = false;
-			}
-			if (backUp) {
-				backUp(ca, step, backupPath);
-			}
-			step++;
-			currentStepLeap++;
-		} while ((changed = ca.nextStep()) == null || changed || createLastImage);
+				if (backUp) {
+					backUp(ca, step, backupPath);
+				}
+				step++;
+				currentStepLeap++;
+			} while ((changed = ca.nextStep()) == null || changed || createLastImage);
+		} finally {
+			renderQueue.shutdown();
+		}
 	}
 	
 	public <Number_Type extends FieldElement<Number_Type> & Comparable<Number_Type>> void createScanningAndZCrossSectionImages(NumericModel3D<Number_Type> ca, int[] scanInitialCoords, int crossSectionZ, 
@@ -999,7 +1170,7 @@ public class ImgMaker {
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
 		do {
-			System.out.println(stepNameAndEquals + step);
+			printStep(step);
 			if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
 				currentStepLeap = 0;
 				if (changed != null && !changed) {
@@ -1105,7 +1276,7 @@ public class ImgMaker {
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
 		do {
-			System.out.println(stepNameAndEquals + step);
+			printStep(step);
 			if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
 				currentStepLeap = 0;
 				if (changed != null && !changed) {
@@ -1228,160 +1399,82 @@ public class ImgMaker {
 		}
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
-		do {
-			System.out.println(stepNameAndEquals + step);
-			if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
-				currentStepLeap = 0;
-				if (changed != null && !changed) {
-					createLastImage = false;
-				}
-				int minX = ca.getMinX(), maxX = ca.getMaxX(), 
-						minY = ca.getMinY(), maxY = ca.getMaxY(), 
-						minZ = ca.getMinZ(), maxZ = ca.getMaxZ();
-				System.out.println(minX + " <= " + xLabel + " <= " + maxX + lineSeparator + minY + " <= " + yLabel + " <= " + maxY 
-						+ lineSeparator + minZ + " <= " + zLabel + " <= " + maxZ);
-				//x scan
-				if (xScanCoord < ca.getMinY())
-					xScanCoord = ca.getMaxY();	
-				IntModel2D crossSection = ca.crossSectionAtX(xScanCoord);
-				System.out.println(xScanCoordAndEquals + xScanCoord);
-				if (!omitEven) {
-					int[] evenScanMinAndMaxValue = crossSection.getEvenOddPositionsMinAndMax(xScanCoord%2 == 0 == isEvenStep);
-					if (evenScanMinAndMaxValue != null) {
-						System.out.println(evenScanMinAndMaxValue[0] + lessThanOrEqualToEvenCoordsValueNameLessThanOrEqualTo + evenScanMinAndMaxValue[1]);
-						ObjectModel2D<Color> evenScanColorModel = colorMapper.getMappedModel(crossSection, evenScanMinAndMaxValue[0], evenScanMinAndMaxValue[1]);
-						createImageFromEvenOrOddPositions(evenScanColorModel, xScanCoord%2 == 0 == isEvenStep, minY, maxY, minZ, maxZ, minWidth, minHeight, 
-								xScanImgPath + "even/" + numberedFolder, name + step + ".png");
-					} else {
-						createEmptyImage(minY, maxY, minZ, maxZ, minWidth, minHeight, 
-								xScanImgPath + "even/" + numberedFolder, name + step + ".png");
-					}
-				}
-				if (!omitOdd) {
-					int[] oddScanMinAndMaxValue = crossSection.getEvenOddPositionsMinAndMax(xScanCoord%2 == 0 != isEvenStep);
-					if (oddScanMinAndMaxValue != null) {
-						System.out.println(oddScanMinAndMaxValue[0] + lessThanOrEqualToOddCoordsValueNameLessThanOrEqualTo + oddScanMinAndMaxValue[1]);
-						ObjectModel2D<Color> oddScanColorModel = colorMapper.getMappedModel(crossSection, oddScanMinAndMaxValue[0], oddScanMinAndMaxValue[1]);
-						createImageFromEvenOrOddPositions(oddScanColorModel, xScanCoord%2 == 0 != isEvenStep, minY, maxY, minZ, maxZ, minWidth, minHeight, 
-								xScanImgPath + "odd/" + numberedFolder, name + step + ".png");
-					} else {
-						createEmptyImage(minY, maxY, minZ, maxZ, minWidth, minHeight, 
-								xScanImgPath + "odd/" + numberedFolder, name + step + ".png");
-					}
-				}
-				xScanCoord--;
-				//y scan
-				if (yScanCoord < ca.getMinY())
-					yScanCoord = ca.getMaxY();	
-				crossSection = ca.crossSectionAtY(yScanCoord);
-				System.out.println(yScanCoordAndEquals + yScanCoord);
-				if (!omitEven) {
-					int[] evenScanMinAndMaxValue = crossSection.getEvenOddPositionsMinAndMax(yScanCoord%2 == 0 == isEvenStep);
-					if (evenScanMinAndMaxValue != null) {
-						System.out.println(evenScanMinAndMaxValue[0] + lessThanOrEqualToEvenCoordsValueNameLessThanOrEqualTo + evenScanMinAndMaxValue[1]);
-						ObjectModel2D<Color> evenScanColorModel = colorMapper.getMappedModel(crossSection, evenScanMinAndMaxValue[0], evenScanMinAndMaxValue[1]);
-						createImageFromEvenOrOddPositions(evenScanColorModel, yScanCoord%2 == 0 == isEvenStep, minX, maxX, minZ, maxZ, minWidth, minHeight, 
-								yScanImgPath + "even/" + numberedFolder, name + step + ".png");
-					} else {
-						createEmptyImage(minX, maxX, minZ, maxZ, minWidth, minHeight, 
-								yScanImgPath + "even/" + numberedFolder, name + step + ".png");
-					}
-				}
-				if (!omitOdd) {
-					int[] oddScanMinAndMaxValue = crossSection.getEvenOddPositionsMinAndMax(yScanCoord%2 == 0 != isEvenStep);
-					if (oddScanMinAndMaxValue != null) {
-						System.out.println(oddScanMinAndMaxValue[0] + lessThanOrEqualToOddCoordsValueNameLessThanOrEqualTo + oddScanMinAndMaxValue[1]);
-						ObjectModel2D<Color> oddScanColorModel = colorMapper.getMappedModel(crossSection, oddScanMinAndMaxValue[0], oddScanMinAndMaxValue[1]);
-						createImageFromEvenOrOddPositions(oddScanColorModel, yScanCoord%2 == 0 != isEvenStep, minX, maxX, minZ, maxZ, minWidth, minHeight, 
-								yScanImgPath + "odd/" + numberedFolder, name + step + ".png");
-					} else {
-						createEmptyImage(minX, maxX, minZ, maxZ, minWidth, minHeight, 
-								yScanImgPath + "odd/" + numberedFolder, name + step + ".png");
+		RenderQueue renderQueue = new RenderQueue(getScanningRenderThreadCount(omitEven || omitOdd ? 4 : 8));
+		try {
+			do {
+				printStep(step);
+				if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
+					currentStepLeap = 0;
+					if (changed != null && !changed) {
+						createLastImage = false;
 					}
-				}
-				yScanCoord--;
-				//z scan
-				if (zScanCoord < ca.getMinZ())
-					zScanCoord = ca.getMaxZ();	
-				crossSection = ca.crossSectionAtZ(zScanCoord);
-				System.out.println(zScanCoordAndEquals + zScanCoord);
-				if (!omitEven) {
-					int[] evenScanMinAndMaxValue = crossSection.getEvenOddPositionsMinAndMax(zScanCoord%2 == 0 == isEvenStep);
-					if (evenScanMinAndMaxValue != null) {
-						System.out.println(evenScanMinAndMaxValue[0] + lessThanOrEqualToEvenCoordsValueNameLessThanOrEqualTo + evenScanMinAndMaxValue[1]);
-						ObjectModel2D<Color> evenScanColorModel = colorMapper.getMappedModel(crossSection, evenScanMinAndMaxValue[0], evenScanMinAndMaxValue[1]);
-						createImageFromEvenOrOddPositions(evenScanColorModel, zScanCoord%2 == 0 == isEvenStep, minX, maxX, minY, maxY, minWidth, minHeight, 
-								zScanImgPath + "even/" + numberedFolder, name + step + ".png");
-					} else {
-						createEmptyImage(minX, maxX, minY, maxY, minWidth, minHeight, 
-								zScanImgPath + "even/" + numberedFolder, name + step + ".png");
+					int minX = ca.getMinX(), maxX = ca.getMaxX(), 
+							minY = ca.getMinY(), maxY = ca.getMaxY(), 
+							minZ = ca.getMinZ(), maxZ = ca.getMaxZ();
+					System.out.println(minX + " <= " + xLabel + " <= " + maxX + lineSeparator + minY + " <= " + yLabel + " <= " + maxY 
+							+ lineSeparator + minZ + " <= " + zLabel + " <= " + maxZ);
+					if (xScanCoord < ca.getMinY())
+						xScanCoord = ca.getMaxY();
+					if (yScanCoord < ca.getMinY())
+						yScanCoord = ca.getMaxY();
+					if (zScanCoord < ca.getMinZ())
+						zScanCoord = ca.getMaxZ();
+					//all the cross sections are copied in one sweep and their images rendered concurrently
+					IntCrossSectionSnapshots crossSections = new IntCrossSectionSnapshots(ca, xScanCoord, yScanCoord, 
+							new int[] { zScanCoord, crossSectionZ }, true);
+					String imageName = name + step + ".png";
+					List<Callable<Void>> renders = new ArrayList<Callable<Void>>();
+					//x scan
+					System.out.println(xScanCoordAndEquals + xScanCoord);
+					addEvenOddRenders(renders, crossSections, 0, xScanCoord%2 == 0 == isEvenStep, omitEven, omitOdd, colorMapper, 
+							minY, maxY, minZ, maxZ, minWidth, minHeight, xScanImgPath, numberedFolder, imageName);
+					xScanCoord--;
+					//y scan
+					System.out.println(yScanCoordAndEquals + yScanCoord);
+					addEvenOddRenders(renders, crossSections, 1, yScanCoord%2 == 0 == isEvenStep, omitEven, omitOdd, colorMapper, 
+							minX, maxX, minZ, maxZ, minWidth, minHeight, yScanImgPath, numberedFolder, imageName);
+					yScanCoord--;
+					//z scan
+					System.out.println(zScanCoordAndEquals + zScanCoord);
+					addEvenOddRenders(renders, crossSections, 2, zScanCoord%2 == 0 == isEvenStep, omitEven, omitOdd, colorMapper, 
+							minX, maxX, minY, maxY, minWidth, minHeight, zScanImgPath, numberedFolder, imageName);
+					zScanCoord--;
+					//cross section
+					System.out.println(crossSectionLog);
+					addEvenOddRenders(renders, crossSections, 3, isEvenStep == isEvenCrossSectionZ, omitEven, omitOdd, colorMapper, 
+							minX, maxX, minY, maxY, minWidth, minHeight, crossSectionImgPath, numberedFolder, imageName);
+					for (Callable<Void> render : renders) {
+						renderQueue.submit(render);
 					}
-				}
-				if (!omitOdd) {
-					int[] oddScanMinAndMaxValue = crossSection.getEvenOddPositionsMinAndMax(zScanCoord%2 == 0 != isEvenStep);
-					if (oddScanMinAndMaxValue != null) {
-						System.out.println(oddScanMinAndMaxValue[0] + lessThanOrEqualToOddCoordsValueNameLessThanOrEqualTo + oddScanMinAndMaxValue[1]);
-						ObjectModel2D<Color> oddScanColorModel = colorMapper.getMappedModel(crossSection, oddScanMinAndMaxValue[0], oddScanMinAndMaxValue[1]);
-						createImageFromEvenOrOddPositions(oddScanColorModel, zScanCoord%2 == 0 != isEvenStep, minX, maxX, minY, maxY, minWidth, minHeight, 
-								zScanImgPath + "odd/" + numberedFolder, name + step + ".png");
-					} else {
-						createEmptyImage(minX, maxX, minY, maxY, minWidth, minHeight, 
-								zScanImgPath + "odd/" + numberedFolder, name + step + ".png");
+					renderQueue.waitForAll();
+					folderImageCount++;
+					if (folderImageCount == imgsPerFolder) {
+						numberedFolder++;
+						folderImageCount = 0;
 					}
+					System.out.println(lineSeparator);
 				}
-				zScanCoord--;
-				//cross section
-				System.out.println(crossSectionLog);
-				crossSection = ca.crossSectionAtZ(crossSectionZ);
-				if (!omitEven) {
-					int[] evenCrossSectionMinAndMaxValue = crossSection.getEvenOddPositionsMinAndMax(isEvenStep == isEvenCrossSectionZ);
-					if (evenCrossSectionMinAndMaxValue != null) {
-						System.out.println(evenCrossSectionMinAndMaxValue[0] + lessThanOrEqualToEvenCoordsValueNameLessThanOrEqualTo + evenCrossSectionMinAndMaxValue[1]);
-						ObjectModel2D<Color> evenCrossSectionColorModel = colorMapper.getMappedModel(crossSection, evenCrossSectionMinAndMaxValue[0], evenCrossSectionMinAndMaxValue[1]);
-						createImageFromEvenOrOddPositions(evenCrossSectionColorModel, isEvenStep == isEvenCrossSectionZ, minX, maxX, minY, maxY, minWidth, minHeight, 
-								crossSectionImgPath + "even/" + numberedFolder, name + step + ".png");
-					} else {
-						createEmptyImage(minX, maxX, minY, maxY, minWidth, minHeight, 
-								crossSectionImgPath + "even/" + numberedFolder, name + step + ".png");
+				boolean backUp = false;
+				if (saveBackupsAutomatically) {
+					if (System.currentTimeMillis() >= nextBckTime) {
+						backUp = true;
+						nextBckTime += millisecondsBetweenBackups;
 					}
 				}
-				if (!omitOdd) {
-					int[] oddCrossSectionMinAndMaxValue = crossSection.getEvenOddPositionsMinAndMax(isEvenStep != isEvenCrossSectionZ);
-					if (oddCrossSectionMinAndMaxValue != null) {
-						System.out.println(oddCrossSectionMinAndMaxValue[0] + lessThanOrEqualToOddCoordsValueNameLessThanOrEqualTo + oddCrossSectionMinAndMaxValue[1]);
-						ObjectModel2D<Color> oddCrossSectionColorModel = colorMapper.getMappedModel(crossSection, oddCrossSectionMinAndMaxValue[0], oddCrossSectionMinAndMaxValue[1]);
-						createImageFromEvenOrOddPositions(oddCrossSectionColorModel, isEvenStep != isEvenCrossSectionZ, minX, maxX, minY, maxY, minWidth, minHeight, 
-										crossSectionImgPath + "odd/" + numberedFolder, name + step + ".png");
-					} else {
-						createEmptyImage(minX, maxX, minY, maxY, minWidth, minHeight, 
-								crossSectionImgPath + "odd/" + numberedFolder, name + step + ".png");
-					}
-				}			
-				folderImageCount++;
-				if (folderImageCount == imgsPerFolder) {
-					numberedFolder++;
-					folderImageCount = 0;
-				}
-				System.out.println(lineSeparator);
-			}
-			boolean backUp = false;
-			if (saveBackupsAutomatically) {
-				if (System.currentTimeMillis() >= nextBckTime) {
+				if (inputReader.backupRequested) {
 					backUp = true;
-					nextBckTime += millisecondsBetweenBackups;
+					inputReader.backupRequested = false;
 				}
-			}
-			if (inputReader.backupRequested) {
-				backUp = true;
-				inputReader.backupRequested = false;
-			}
-			if (backUp) {
-				backUp(ca, step, backupPath);
-			}
-			step++;
-			currentStepLeap++;
-			isEvenStep = !isEvenStep;
-		} while ((changed = ca.nextStep()) == null || changed || createLastImage);
+				if (backUp) {
+					backUp(ca, step, backupPath);
+				}
+				step++;
+				currentStepLeap++;
+				isEvenStep = !isEvenStep;
+			} while ((changed = ca.nextStep()) == null || changed || createLastImage);
+		} finally {
+			renderQueue.shutdown();
+		}
 	}
 	
 	public void createScanningAndZCrossSectionEvenOddImages(LongModel3D ca, int[] scanInitialCoords, int crossSectionZ, 
@@ -1408,160 +1501,82 @@ public class ImgMaker {
 		}
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
-		do {
-			System.out.println(stepNameAndEquals + step);
-			if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
-				currentStepLeap = 0;
-				if (changed != null && !changed) {
-					createLastImage = false;
-				}
-				int minX = ca.getMinX(), maxX = ca.getMaxX(), 
-						minY = ca.getMinY(), maxY = ca.getMaxY(), 
-						minZ = ca.getMinZ(), maxZ = ca.getMaxZ();
-				System.out.println(minX + " <= " + xLabel + " <= " + maxX + lineSeparator + minY + " <= " + yLabel + " <= " + maxY 
-						+ lineSeparator + minZ + " <= " + zLabel + " <= " + maxZ);
-				//x scan
-				if (xScanCoord < ca.getMinY())
-					xScanCoord = ca.getMaxY();	
-				LongModel2D crossSection = ca.crossSectionAtX(xScanCoord);
-				System.out.println(xScanCoordAndEquals + xScanCoord);
-				if (!omitEven) {
-					long[] evenScanMinAndMaxValue = crossSection.getEvenOddPositionsMinAndMax(xScanCoord%2 == 0 == isEvenStep);
-					if (evenScanMinAndMaxValue != null) {
-						System.out.println(evenScanMinAndMaxValue[0] + lessThanOrEqualToEvenCoordsValueNameLessThanOrEqualTo + evenScanMinAndMaxValue[1]);
-						ObjectModel2D<Color> evenScanColorModel = colorMapper.getMappedModel(crossSection, evenScanMinAndMaxValue[0], evenScanMinAndMaxValue[1]);
-						createImageFromEvenOrOddPositions(evenScanColorModel, xScanCoord%2 == 0 == isEvenStep, minY, maxY, minZ, maxZ, minWidth, minHeight, 
-								xScanImgPath + "even/" + numberedFolder, name + step + ".png");
-					} else {
-						createEmptyImage(minY, maxY, minZ, maxZ, minWidth, minHeight, 
-								xScanImgPath + "even/" + numberedFolder, name + step + ".png");
+		RenderQueue renderQueue = new RenderQueue(getScanningRenderThreadCount(omitEven || omitOdd ? 4 : 8));
+		try {
+			do {
+				printStep(step);
+				if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
+					currentStepLeap = 0;
+					if (changed != null && !changed) {
+						createLastImage = false;
 					}
-				}
-				if (!omitOdd) {
-					long[] oddScanMinAndMaxValue = crossSection.getEvenOddPositionsMinAndMax(xScanCoord%2 == 0 != isEvenStep);
-					if (oddScanMinAndMaxValue != null) {
-						System.out.println(oddScanMinAndMaxValue[0] + lessThanOrEqualToOddCoordsValueNameLessThanOrEqualTo + oddScanMinAndMaxValue[1]);
-						ObjectModel2D<Color> oddScanColorModel = colorMapper.getMappedModel(crossSection, oddScanMinAndMaxValue[0], oddScanMinAndMaxValue[1]);
-						createImageFromEvenOrOddPositions(oddScanColorModel, xScanCoord%2 == 0 != isEvenStep, minY, maxY, minZ, maxZ, minWidth, minHeight, 
-								xScanImgPath + "odd/" + numberedFolder, name + step + ".png");
-					} else {
-						createEmptyImage(minY, maxY, minZ, maxZ, minWidth, minHeight, 
-								xScanImgPath + "odd/" + numberedFolder, name + step + ".png");
+					int minX = ca.getMinX(), maxX = ca.getMaxX(), 
+							minY = ca.getMinY(), maxY = ca.getMaxY(), 
+							minZ = ca.getMinZ(), maxZ = ca.getMaxZ();
+					System.out.println(minX + " <= " + xLabel + " <= " + maxX + lineSeparator + minY + " <= " + yLabel + " <= " + maxY 
+							+ lineSeparator + minZ + " <= " + zLabel + " <= " + maxZ);
+					if (xScanCoord < ca.getMinY())
+						xScanCoord = ca.getMaxY();
+					if (yScanCoord < ca.getMinY())
+						yScanCoord = ca.getMaxY();
+					if (zScanCoord < ca.getMinZ())
+						zScanCoord = ca.getMaxZ();
+					//all the cross sections are copied in one sweep and their images rendered concurrently
+					LongCrossSectionSnapshots crossSections = new LongCrossSectionSnapshots(ca, xScanCoord, yScanCoord, 
+							new int[] { zScanCoord, crossSectionZ }, true);
+					String imageName = name + step + ".png";
+					List<Callable<Void>> renders = new ArrayList<Callable<Void>>();
+					//x scan
+					System.out.println(xScanCoordAndEquals + xScanCoord);
+					addEvenOddRenders(renders, crossSections, 0, xScanCoord%2 == 0 == isEvenStep, omitEven, omitOdd, colorMapper, 
+							minY, maxY, minZ, maxZ, minWidth, minHeight, xScanImgPath, numberedFolder, imageName);
+					xScanCoord--;
+					//y scan
+					System.out.println(yScanCoordAndEquals + yScanCoord);
+					addEvenOddRenders(renders, crossSections, 1, yScanCoord%2 == 0 == isEvenStep, omitEven, omitOdd, colorMapper, 
+							minX, maxX, minZ, maxZ, minWidth, minHeight, yScanImgPath, numberedFolder, imageName);
+					yScanCoord--;
+					//z scan
+					System.out.println(zScanCoordAndEquals + zScanCoord);
+					addEvenOddRenders(renders, crossSections, 2, zScanCoord%2 == 0 == isEvenStep, omitEven, omitOdd, colorMapper, 
+							minX, maxX, minY, maxY, minWidth, minHeight, zScanImgPath, numberedFolder, imageName);
+					zScanCoord--;
+					//cross section
+					System.out.println(crossSectionLog);
+					addEvenOddRenders(renders, crossSections, 3, isEvenStep == isEvenCrossSectionZ, omitEven, omitOdd, colorMapper, 
+							minX, maxX, minY, maxY, minWidth, minHeight, crossSectionImgPath, numberedFolder, imageName);
+					for (Callable<Void> render : renders) {
+						renderQueue.submit(render);
 					}
-				}
-				xScanCoord--;
-				//y scan
-				if (yScanCoord < ca.getMinY())
-					yScanCoord = ca.getMaxY();	
-				crossSection = ca.crossSectionAtY(yScanCoord);
-				System.out.println(yScanCoordAndEquals + yScanCoord);
-				if (!omitEven) {
-					long[] evenScanMinAndMaxValue = crossSection.getEvenOddPositionsMinAndMax(yScanCoord%2 == 0 == isEvenStep);
-					if (evenScanMinAndMaxValue != null) {
-						System.out.println(evenScanMinAndMaxValue[0] + lessThanOrEqualToEvenCoordsValueNameLessThanOrEqualTo + evenScanMinAndMaxValue[1]);
-						ObjectModel2D<Color> evenScanColorModel = colorMapper.getMappedModel(crossSection, evenScanMinAndMaxValue[0], evenScanMinAndMaxValue[1]);
-						createImageFromEvenOrOddPositions(evenScanColorModel, yScanCoord%2 == 0 == isEvenStep, minX, maxX, minZ, maxZ, minWidth, minHeight, 
-								yScanImgPath + "even/" + numberedFolder, name + step + ".png");
-					} else {
-						createEmptyImage(minX, maxX, minZ, maxZ, minWidth, minHeight, 
-								yScanImgPath + "even/" + numberedFolder, name + step + ".png");
+					renderQueue.waitForAll();
+					folderImageCount++;
+					if (folderImageCount == imgsPerFolder) {
+						numberedFolder++;
+						folderImageCount = 0;
 					}
+					System.out.println(lineSeparator);
 				}
-				if (!omitOdd) {
-					long[] oddScanMinAndMaxValue = crossSection.getEvenOddPositionsMinAndMax(yScanCoord%2 == 0 != isEvenStep);
-					if (oddScanMinAndMaxValue != null) {
-						System.out.println(oddScanMinAndMaxValue[0] + lessThanOrEqualToOddCoordsValueNameLessThanOrEqualTo + oddScanMinAndMaxValue[1]);
-						ObjectModel2D<Color> oddScanColorModel = colorMapper.getMappedModel(crossSection, oddScanMinAndMaxValue[0], oddScanMinAndMaxValue[1]);
-						createImageFromEvenOrOddPositions(oddScanColorModel, yScanCoord%2 == 0 != isEvenStep, minX, maxX, minZ, maxZ, minWidth, minHeight, 
-								yScanImgPath + "odd/" + numberedFolder, name + step + ".png");
-					} else {
-						createEmptyImage(minX, maxX, minZ, maxZ, minWidth, minHeight, 
-								yScanImgPath + "odd/" + numberedFolder, name + step + ".png");
+				boolean backUp = false;
+				if (saveBackupsAutomatically) {
+					if (System.currentTimeMillis() >= nextBckTime) {
+						backUp = true;
+						nextBckTime += millisecondsBetweenBackups;
 					}
 				}
-				yScanCoord--;
-				//z scan
-				if (zScanCoord < ca.getMinZ())
-					zScanCoord = ca.getMaxZ();	
-				crossSection = ca.crossSectionAtZ(zScanCoord);
-				System.out.println(zScanCoordAndEquals + zScanCoord);
-				if (!omitEven) {
-					long[] evenScanMinAndMaxValue = crossSection.getEvenOddPositionsMinAndMax(zScanCoord%2 == 0 == isEvenStep);
-					if (evenScanMinAndMaxValue != null) {
-						System.out.println(evenScanMinAndMaxValue[0] + lessThanOrEqualToEvenCoordsValueNameLessThanOrEqualTo + evenScanMinAndMaxValue[1]);
-						ObjectModel2D<Color> evenScanColorModel = colorMapper.getMappedModel(crossSection, evenScanMinAndMaxValue[0], evenScanMinAndMaxValue[1]);
-						createImageFromEvenOrOddPositions(evenScanColorModel, zScanCoord%2 == 0 == isEvenStep, minX, maxX, minY, maxY, minWidth, minHeight, 
-								zScanImgPath + "even/" + numberedFolder, name + step + ".png");
-					} else {
-						createEmptyImage(minX, maxX, minY, maxY, minWidth, minHeight, 
-								zScanImgPath + "even/" + numberedFolder, name + step + ".png");
-					}
-				}
-				if (!omitOdd) {
-					long[] oddScanMinAndMaxValue = crossSection.getEvenOddPositionsMinAndMax(zScanCoord%2 == 0 != isEvenStep);
-					if (oddScanMinAndMaxValue != null) {
-						System.out.println(oddScanMinAndMaxValue[0] + lessThanOrEqualToOddCoordsValueNameLessThanOrEqualTo + oddScanMinAndMaxValue[1]);
-						ObjectModel2D<Color> oddScanColorModel = colorMapper.getMappedModel(crossSection, oddScanMinAndMaxValue[0], oddScanMinAndMaxValue[1]);
-						createImageFromEvenOrOddPositions(oddScanColorModel, zScanCoord%2 == 0 != isEvenStep, minX, maxX, minY, maxY, minWidth, minHeight, 
-								zScanImgPath + "odd/" + numberedFolder, name + step + ".png");
-					} else {
-						createEmptyImage(minX, maxX, minY, maxY, minWidth, minHeight, 
-								zScanImgPath + "odd/" + numberedFolder, name + step + ".png");
-					}
-				}
-				zScanCoord--;
-				//cross section
-				System.out.println(crossSectionLog);
-				crossSection = ca.crossSectionAtZ(crossSectionZ);
-				if (!omitEven) {
-					long[] evenCrossSectionMinAndMaxValue = crossSection.getEvenOddPositionsMinAndMax(isEvenStep == isEvenCrossSectionZ);
-					if (evenCrossSectionMinAndMaxValue != null) {
-						System.out.println(evenCrossSectionMinAndMaxValue[0] + lessThanOrEqualToEvenCoordsValueNameLessThanOrEqualTo + evenCrossSectionMinAndMaxValue[1]);
-						ObjectModel2D<Color> evenCrossSectionColorModel = colorMapper.getMappedModel(crossSection, evenCrossSectionMinAndMaxValue[0], evenCrossSectionMinAndMaxValue[1]);
-						createImageFromEvenOrOddPositions(evenCrossSectionColorModel, isEvenStep == isEvenCrossSectionZ, minX, maxX, minY, maxY, minWidth, minHeight, 
-								crossSectionImgPath + "even/" + numberedFolder, name + step + ".png");
-					} else {
-						createEmptyImage(minX, maxX, minY, maxY, minWidth, minHeight, 
-								crossSectionImgPath + "even/" + numberedFolder, name + step + ".png");
-					}
-				}
-				if (!omitOdd) {
-					long[] oddCrossSectionMinAndMaxValue = crossSection.getEvenOddPositionsMinAndMax(isEvenStep != isEvenCrossSectionZ);
-					if (oddCrossSectionMinAndMaxValue != null) {
-						System.out.println(oddCrossSectionMinAndMaxValue[0] + lessThanOrEqualToOddCoordsValueNameLessThanOrEqualTo + oddCrossSectionMinAndMaxValue[1]);
-						ObjectModel2D<Color> oddCrossSectionColorModel = colorMapper.getMappedModel(crossSection, oddCrossSectionMinAndMaxValue[0], oddCrossSectionMinAndMaxValue[1]);
-						createImageFromEvenOrOddPositions(oddCrossSectionColorModel, isEvenStep != isEvenCrossSectionZ, minX, maxX, minY, maxY, minWidth, minHeight, 
-										crossSectionImgPath + "odd/" + numberedFolder, name + step + ".png");
-					} else {
-						createEmptyImage(minX, maxX, minY, maxY, minWidth, minHeight, 
-								crossSectionImgPath + "odd/" + numberedFolder, name + step + ".png");
-					}
-				}			
-				folderImageCount++;
-				if (folderImageCount == imgsPerFolder) {
-					numberedFolder++;
-					folderImageCount = 0;
-				}
-				System.out.println(lineSeparator);
-			}
-			boolean backUp = false;
-			if (saveBackupsAutomatically) {
-				if (System.currentTimeMillis() >= nextBckTime) {
+				if (inputReader.backupRequested) {
 					backUp = true;
-					nextBckTime += millisecondsBetweenBackups;
+					inputReader.backupRequested = false;
 				}
-			}
-			if (inputReader.backupRequested) {
-				backUp = true;
-				inputReader.backupRequested = false;
-			}
-			if (backUp) {
-				backUp(ca, step, backupPath);
-			}
-			step++;
-			currentStepLeap++;
-			isEvenStep = !isEvenStep;
-		} while ((changed = ca.nextStep()) == null || changed || createLastImage);
+				if (backUp) {
+					backUp(ca, step, backupPath);
+				}
+				step++;
+				currentStepLeap++;
+				isEvenStep = !isEvenStep;
+			} while ((changed = ca.nextStep()) == null || changed || createLastImage);
+		} finally {
+			renderQueue.shutdown();
+		}
 	}
 	
 	public <Number_Type extends FieldElement<Number_Type> & Comparable<Number_Type>> void createScanningAndZCrossSectionEvenOddImages(NumericModel3D<Number_Type> ca, int[] scanInitialCoords, int crossSectionZ, 
@@ -1589,7 +1604,7 @@ public class ImgMaker {
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;	
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
 		do {
-			System.out.println(stepNameAndEquals + step);
+			printStep(step);
 			if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
 				currentStepLeap = 0;
 				if (changed != null && !changed) {
@@ -1771,7 +1786,7 @@ public class ImgMaker {
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;	
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
 		do {
-			System.out.println(stepNameAndEquals + step);
+			printStep(step);
 			if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
 				currentStepLeap = 0;
 				if (changed != null && !changed) {
@@ -1937,7 +1952,7 @@ public class ImgMaker {
 		Boolean changed = ca.isChanged(), createLastImage = stepLeap > 1;	
 		long nextBckTime = System.currentTimeMillis() + millisecondsBetweenBackups;
 		do {
-			System.out.println(stepNameAndEquals + step);
+			printStep(step);
 			if (currentStepLeap == stepLeap || changed != null && !changed && createLastImage) {
 				currentStepLeap = 0;
 				if (changed != null && !changed) {
@@ -2083,6 +2098,238 @@ public class ImgMaker {
 	
 	//TODO missing methods? EvenOddY(Model2D), EvenOddX(Model3D), EvenOddZ(Model3D)...
 	
+	/**
+	 * Copies the values of a model into an array, so that its image can be rendered while the model computes the next steps.
+	 * 
+	 * @param model the model
+	 * @param minAndMaxValue an array where to store the minimum and maximum values, at indexes 0 and 1 respectively
+	 * @return the copy
+	 * @throws Exception
+	 */
+	private static IntModel2D getSnapshot(IntModel2D model, int[] minAndMaxValue) throws Exception {
+		if (model instanceof IsotropicSquareIntModel) {
+			//only the asymmetric section needs to be copied
+			IsotropicSquareIntModelAsymmetricSection asymmetricSection = ((IsotropicSquareIntModel) model).getAsymmetricSection();
+			int size = asymmetricSection.getSize();
+			int[] localYMinima = new int[size + 1];
+			int[][] values = new int[size + 1][];
+			copyValues(asymmetricSection, localYMinima, values, minAndMaxValue);
+			return new IsotropicSquareIntModel(new IsotropicSquareIntSnapshot(size, localYMinima, values));
+		}
+		int minX = model.getMinX(), maxX = model.getMaxX();
+		int[] localYMinima = new int[maxX - minX + 1];
+		int[][] values = new int[localYMinima.length][];
+		copyValues(model, localYMinima, values, minAndMaxValue);
+		return new IntArrayGrid2D(minX, localYMinima, values);
+	}
+	
+	private static void copyValues(IntModel2D model, int[] localYMinima, int[][] values, int[] minAndMaxValue) throws Exception {
+		int minX = model.getMinX(), maxX = model.getMaxX();
+		int maxValue = Integer.MIN_VALUE, minValue = Integer.MAX_VALUE;
+		for (int x = minX, i = 0; x <= maxX; x++, i++) {
+			int minY = model.getMinY(x), maxY = model.getMaxY(x);
+			int[] column = new int[maxY - minY + 1];
+			for (int y = minY, j = 0; y <= maxY; y++, j++) {
+				int value = model.getFromPosition(x, y);
+				column[j] = value;
+				if (value > maxValue)
+					maxValue = value;
+				if (value < minValue)
+					minValue = value;
+			}
+			localYMinima[i] = minY;
+			values[i] = column;
+		}
+		minAndMaxValue[0] = minValue;
+		minAndMaxValue[1] = maxValue;
+	}
+	
+	/**
+	 * Copies the values of a model into an array, so that its image can be rendered while the model computes the next steps.
+	 * 
+	 * @param model the model
+	 * @param minAndMaxValue an array where to store the minimum and maximum values, at indexes 0 and 1 respectively
+	 * @return the copy
+	 * @throws Exception
+	 */
+	private static LongModel2D getSnapshot(LongModel2D model, long[] minAndMaxValue) throws Exception {
+		if (model instanceof IsotropicSquareLongModel) {
+			//only the asymmetric section needs to be copied
+			IsotropicSquareLongModelAsymmetricSection asymmetricSection = ((IsotropicSquareLongModel) model).getAsymmetricSection();
+			int size = asymmetricSection.getSize();
+			int[] localYMinima = new int[size + 1];
+			long[][] values = new long[size + 1][];
+			copyValues(asymmetricSection, localYMinima, values, minAndMaxValue);
+			return new IsotropicSquareLongModel(new IsotropicSquareLongSnapshot(size, localYMinima, values));
+		}
+		int minX = model.getMinX(), maxX = model.getMaxX();
+		int[] localYMinima = new int[maxX - minX + 1];
+		long[][] values = new long[localYMinima.length][];
+		copyValues(model, localYMinima, values, minAndMaxValue);
+		return new LongArrayGrid2D(minX, localYMinima, values);
+	}
+	
+	private static void copyValues(LongModel2D model, int[] localYMinima, long[][] values, long[] minAndMaxValue) throws Exception {
+		int minX = model.getMinX(), maxX = model.getMaxX();
+		long maxValue = Long.MIN_VALUE, minValue = Long.MAX_VALUE;
+		for (int x = minX, i = 0; x <= maxX; x++, i++) {
+			int minY = model.getMinY(x), maxY = model.getMaxY(x);
+			long[] column = new long[maxY - minY + 1];
+			for (int y = minY, j = 0; y <= maxY; y++, j++) {
+				long value = model.getFromPosition(x, y);
+				column[j] = value;
+				if (value > maxValue)
+					maxValue = value;
+				if (value < minValue)
+					minValue = value;
+			}
+			localYMinima[i] = minY;
+			values[i] = column;
+		}
+		minAndMaxValue[0] = minValue;
+		minAndMaxValue[1] = maxValue;
+	}
+	
+	/**
+	 * Returns the number of threads rendering the images of a step of the scanning modes concurrently.
+	 * 
+	 * @param imageCount the number of images per step
+	 * @return the thread count
+	 */
+	private static int getScanningRenderThreadCount(int imageCount) {
+		return Math.max(1, Math.min(imageCount, Runtime.getRuntime().availableProcessors()));
+	}
+	
+	private void addRender(List<Callable<Void>> renders, LongModel2D snapshot, long[] minAndMaxValue, ColorMapper colorMapper, 
+			int minX, int maxX, int minY, int maxY, int minWidth, int minHeight, String path, String name) {
+		System.out.println(minAndMaxValue[0] + lessThanOrEqualToValueNameLessThanOrEqualTo + minAndMaxValue[1]);
+		renders.add(() -> {
+			ObjectModel2D<Color> colorModel = colorMapper.getMappedModel(snapshot, minAndMaxValue[0], minAndMaxValue[1]);
+			createImage(colorModel, minX, maxX, minY, maxY, minWidth, minHeight, path, name);
+			return null;
+		});
+	}
+	
+	/**
+	 * Adds the renders of the images of the even and odd positions of a copied cross section.
+	 * 
+	 * @param renders the list where to add the renders
+	 * @param crossSections the copied cross sections
+	 * @param index the index of the cross section
+	 * @param isEven whether the positions rendered in the "even" image are the ones whose coordinates within the cross section add up to an even number
+	 * @param omitEven whether to skip the "even" image
+	 * @param omitOdd whether to skip the "odd" image
+	 * @param colorMapper
+	 * @param minX
+	 * @param maxX
+	 * @param minY
+	 * @param maxY
+	 * @param minWidth
+	 * @param minHeight
+	 * @param path the path of the folder containing the "even" and "odd" folders
+	 * @param numberedFolder
+	 * @param name
+	 */
+	private void addEvenOddRenders(List<Callable<Void>> renders, LongCrossSectionSnapshots crossSections, int index, boolean isEven, 
+			boolean omitEven, boolean omitOdd, ColorMapper colorMapper, int minX, int maxX, int minY, int maxY, int minWidth, int minHeight, 
+			String path, int numberedFolder, String name) {
+		LongModel2D snapshot = crossSections.getSnapshot(index);
+		if (!omitEven) {
+			long[] evenMinAndMaxValue = crossSections.getEvenOddPositionsMinAndMax(index, isEven);
+			if (evenMinAndMaxValue != null) {
+				System.out.println(evenMinAndMaxValue[0] + lessThanOrEqualToEvenCoordsValueNameLessThanOrEqualTo + evenMinAndMaxValue[1]);
+			}
+			addRenderFromEvenOrOddPositions(renders, snapshot, evenMinAndMaxValue, isEven, colorMapper, 
+					minX, maxX, minY, maxY, minWidth, minHeight, path + "even/" + numberedFolder, name);
+		}
+		if (!omitOdd) {
+			long[] oddMinAndMaxValue = crossSections.getEvenOddPositionsMinAndMax(index, !isEven);
+			if (oddMinAndMaxValue != null) {
+				System.out.println(oddMinAndMaxValue[0] + lessThanOrEqualToOddCoordsValueNameLessThanOrEqualTo + oddMinAndMaxValue[1]);
+			}
+			addRenderFromEvenOrOddPositions(renders, snapshot, oddMinAndMaxValue, !isEven, colorMapper, 
+					minX, maxX, minY, maxY, minWidth, minHeight, path + "odd/" + numberedFolder, name);
+		}
+	}
+	
+	private void addRenderFromEvenOrOddPositions(List<Callable<Void>> renders, LongModel2D snapshot, long[] minAndMaxValue, boolean isEven, 
+			ColorMapper colorMapper, int minX, int maxX, int minY, int maxY, int minWidth, int minHeight, String path, String name) {
+		renders.add(() -> {
+			if (minAndMaxValue != null) {
+				ObjectModel2D<Color> colorModel = colorMapper.getMappedModel(snapshot, minAndMaxValue[0], minAndMaxValue[1]);
+				createImageFromEvenOrOddPositions(colorModel, isEven, minX, maxX, minY, maxY, minWidth, minHeight, path, name);
+			} else {
+				createEmptyImage(minX, maxX, minY, maxY, minWidth, minHeight, path, name);
+			}
+			return null;
+		});
+	}
+	
+	private void addRender(List<Callable<Void>> renders, IntModel2D snapshot, int[] minAndMaxValue, ColorMapper colorMapper, 
+			int minX, int maxX, int minY, int maxY, int minWidth, int minHeight, String path, String name) {
+		System.out.println(minAndMaxValue[0] + lessThanOrEqualToValueNameLessThanOrEqualTo + minAndMaxValue[1]);
+		renders.add(() -> {
+			ObjectModel2D<Color> colorModel = colorMapper.getMappedModel(snapshot, minAndMaxValue[0], minAndMaxValue[1]);
+			createImage(colorModel, minX, maxX, minY, maxY, minWidth, minHeight, path, name);
+			return null;
+		});
+	}
+	
+	/**
+	 * Adds the renders of the images of the even and odd positions of a copied cross section.
+	 * 
+	 * @param renders the list where to add the renders
+	 * @param crossSections the copied cross sections
+	 * @param index the index of the cross section
+	 * @param isEven whether the positions rendered in the "even" image are the ones whose coordinates within the cross section add up to an even number
+	 * @param omitEven whether to skip the "even" image
+	 * @param omitOdd whether to skip the "odd" image
+	 * @param colorMapper
+	 * @param minX
+	 * @param maxX
+	 * @param minY
+	 * @param maxY
+	 * @param minWidth
+	 * @param minHeight
+	 * @param path the path of the folder containing the "even" and "odd" folders
+	 * @param numberedFolder
+	 * @param name
+	 */
+	private void addEvenOddRenders(List<Callable<Void>> renders, IntCrossSectionSnapshots crossSections, int index, boolean isEven, 
+			boolean omitEven, boolean omitOdd, ColorMapper colorMapper, int minX, int maxX, int minY, int maxY, int minWidth, int minHeight, 
+			String path, int numberedFolder, String name) {
+		IntModel2D snapshot = crossSections.getSnapshot(index);
+		if (!omitEven) {
+			int[] evenMinAndMaxValue = crossSections.getEvenOddPositionsMinAndMax(index, isEven);
+			if (evenMinAndMaxValue != null) {
+				System.out.println(evenMinAndMaxValue[0] + lessThanOrEqualToEvenCoordsValueNameLessThanOrEqualTo + evenMinAndMaxValue[1]);
+			}
+			addRenderFromEvenOrOddPositions(renders, snapshot, evenMinAndMaxValue, isEven, colorMapper, 
+					minX, maxX, minY, maxY, minWidth, minHeight, path + "even/" + numberedFolder, name);
+		}
+		if (!omitOdd) {
+			int[] oddMinAndMaxValue = crossSections.getEvenOddPositionsMinAndMax(index, !isEven);
+			if (oddMinAndMaxValue != null) {
+				System.out.println(oddMinAndMaxValue[0] + lessThanOrEqualToOddCoordsValueNameLessThanOrEqualTo + oddMinAndMaxValue[1]);
+			}
+			addRenderFromEvenOrOddPositions(renders, snapshot, oddMinAndMaxValue, !isEven, colorMapper, 
+					minX, maxX, minY, maxY, minWidth, minHeight, path + "odd/" + numberedFolder, name);
+		}
+	}
+	
+	private void addRenderFromEvenOrOddPositions(List<Callable<Void>> renders, IntModel2D snapshot, int[] minAndMaxValue, boolean isEven, 
+			ColorMapper colorMapper, int minX, int maxX, int minY, int maxY, int minWidth, int minHeight, String path, String name) {
+		renders.add(() -> {
+			if (minAndMaxValue != null) {
+				ObjectModel2D<Color> colorModel = colorMapper.getMappedModel(snapshot, minAndMaxValue[0], minAndMaxValue[1]);
+				createImageFromEvenOrOddPositions(colorModel, isEven, minX, maxX, minY, maxY, minWidth, minHeight, path, name);
+			} else {
+				createEmptyImage(minX, maxX, minY, maxY, minWidth, minHeight, path, name);
+			}
+			return null;
+		});
+	}
+	
 	private static int getModelPositionSize(int minX, int maxX, int minY, int maxY, int preferredMaxWidth, int preferredMaxHeight) {
 		int ySize = 1;
 		int height = maxY - minY + 1;
@@ -2099,14 +2346,21 @@ public class ImgMaker {
 		return Math.min(xSize, ySize);
 	}
 	
-	private static void createImage(ObjectModel2D<Color> grid, int minX, int maxX, int minY, int maxY, int minWidth, int minHeight, String path, String name) 
+	private void createImage(ObjectModel2D<Color> grid, int minX, int maxX, int minY, int maxY, int minWidth, int minHeight, String path, String name) 
 			throws Exception {
 		int gridPositionSize = getModelPositionSize(minX, maxX, minY, maxY, minWidth, minHeight);
 		createImage(grid, minX, maxX, minY, maxY, gridPositionSize, minWidth, minHeight, path, name);
 	}
 	
-	private static void createImage(ObjectModel2D<Color> grid, int minX, int maxX, int minY, int maxY, int gridPositionSize, 
+	private void createImage(ObjectModel2D<Color> grid, int minX, int maxX, int minY, int maxY, int gridPositionSize, 
 			int minWidth, int minHeight, String path, String name) throws Exception {
+		if (grid instanceof ColorMappedGrid2D && ((ColorMappedGrid2D<?>) grid).getSource() instanceof IsotropicSquareModel) {
+			int size = grid.getMaxX();
+			if (minX == -size && maxX == size && minY == -size && maxY == size) {
+				createIsotropicSquareImage((ColorMappedGrid2D<?>) grid, size, gridPositionSize, minWidth, minHeight, path, name);
+				return;
+			}
+		}
 		int dataWidth = (maxX - minX + 1) * gridPositionSize;
 		int dataHeight = (maxY - minY + 1) * gridPositionSize;
 		int width = Math.max(dataWidth, minWidth);
@@ -2115,7 +2369,7 @@ public class ImgMaker {
 		if (longByteCount > Integer.MAX_VALUE)
 			throw new Exception(maxImageSizeExceededMessage);
 		int byteCount = (int)longByteCount;
-		byte[] pixelData = new byte[byteCount];
+		byte[] pixelData = getPixelDataBuffer(byteCount);
 		int canvasTopMargin = height - dataHeight;
 		int canvasRightMargin = width - dataWidth;
 		int gridTopMargin = 0;
@@ -2153,9 +2407,10 @@ public class ImgMaker {
 			int dataRightMargin = (canvasRightMargin + gridRightMargin) * 3;
 			dataIndex += dataLeftMargin;
 			int firstDataIndexToCopyFrom = dataIndex;
-			for (int x = framedModelMinXAtY; x <= framedModelMaxXAtY; x++) {
-				java.awt.Color c = grid.getFromPosition(x, y);
-				byte r = (byte) c.getRed(), g = (byte) c.getGreen(), b = (byte) c.getBlue();
+			int[] rgbs = getRgbRow(grid, y, framedModelMinXAtY, framedModelMaxXAtY);
+			for (int i = 0, rowLength = framedModelMaxXAtY - framedModelMinXAtY + 1; i < rowLength; i++) {
+				int rgb = rgbs[i];
+				byte r = (byte) (rgb >> 16), g = (byte) (rgb >> 8), b = (byte) rgb;
 				for (int j = 0; j < gridPositionSize; j++) {
 					pixelData[dataIndex++] = r;
 					pixelData[dataIndex++] = g;
@@ -2179,13 +2434,101 @@ public class ImgMaker {
 		saveAsPngImage(pixelData, width, height, path, name);
 	}
 	
-	private static void createEmptyImage(int minX, int maxX, int minY, int maxY, int minWidth, int minHeight, String path, String name) 
+	/**
+	 * Creates the image of a whole isotropic square grid by coloring only the positions of its asymmetric section, 
+	 * where x >= y >= 0, and copying their pixels to the symmetric positions.
+	 * 
+	 * @param grid the colors of the whole grid
+	 * @param size the size of the asymmetric section
+	 * @param gridPositionSize
+	 * @param minWidth
+	 * @param minHeight
+	 * @param path
+	 * @param name
+	 * @throws Exception
+	 */
+	private void createIsotropicSquareImage(ColorMappedGrid2D<?> grid, int size, int gridPositionSize, 
+			int minWidth, int minHeight, String path, String name) throws Exception {
+		int side = 2*size + 1;
+		int dataWidth = side * gridPositionSize;
+		int dataHeight = dataWidth;
+		int width = Math.max(dataWidth, minWidth);
+		int height = Math.max(dataHeight, minHeight);
+		long longByteCount = (long)width * height * 3;
+		if (longByteCount > Integer.MAX_VALUE)
+			throw new Exception(maxImageSizeExceededMessage);
+		int byteCount = (int)longByteCount;
+		byte[] pixelData = getPixelDataBuffer(byteCount);
+		int rowByteCount = width * 3;
+		int positionByteCount = gridPositionSize * 3;
+		int dataRowByteCount = dataWidth * 3;
+		//index of the first pixel of the first row of y = 0 at x = 0
+		int originIndex = ((height - dataHeight) + size * gridPositionSize) * rowByteCount + size * positionByteCount;
+		int positionRowsByteCount = gridPositionSize * rowByteCount;
+		//color the asymmetric section
+		for (int y = 0; y <= size; y++) {
+			int[] rgbs = getRgbRow(grid, y, y, size);
+			int dataIndex = originIndex - y * positionRowsByteCount + y * positionByteCount;
+			for (int i = 0, rowLength = size - y + 1; i < rowLength; i++) {
+				int rgb = rgbs[i];
+				byte r = (byte) (rgb >> 16), g = (byte) (rgb >> 8), b = (byte) rgb;
+				for (int j = 0; j < gridPositionSize; j++) {
+					pixelData[dataIndex++] = r;
+					pixelData[dataIndex++] = g;
+					pixelData[dataIndex++] = b;
+				}
+			}
+		}
+		//transpose it into the rest of the quadrant, (x, y) <- (y, x), in tiles to make better use of the cache
+		int tileSize = 64;
+		for (int tileMinY = 1; tileMinY <= size; tileMinY += tileSize) {
+			int tileMaxY = Math.min(tileMinY + tileSize - 1, size);
+			for (int tileMinX = 0; tileMinX < tileMaxY; tileMinX += tileSize) {
+				int tileMaxX = tileMinX + tileSize - 1;
+				for (int y = tileMinY; y <= tileMaxY; y++) {
+					int maxX = Math.min(tileMaxX, y - 1);
+					int dataIndex = originIndex - y * positionRowsByteCount + tileMinX * positionByteCount;
+					int dataIndexToCopyFrom = originIndex - tileMinX * positionRowsByteCount + y * positionByteCount;
+					for (int x = tileMinX; x <= maxX; x++) {
+						for (int j = 0; j < positionByteCount; j++) {
+							pixelData[dataIndex++] = pixelData[dataIndexToCopyFrom + j];
+						}
+						dataIndexToCopyFrom -= positionRowsByteCount;
+					}
+				}
+			}
+		}
+		//mirror the quadrant across the y axis and copy each row to its other pixel rows and to -y
+		int dataRowStartOffset = size * positionByteCount;
+		for (int y = 0; y <= size; y++) {
+			int rowCenterIndex = originIndex - y * positionRowsByteCount;
+			for (int x = 1, dataIndex = rowCenterIndex - positionByteCount, dataIndexToCopyFrom = rowCenterIndex + positionByteCount; x <= size; x++) {
+				for (int j = 0; j < positionByteCount; j++) {
+					pixelData[dataIndex + j] = pixelData[dataIndexToCopyFrom++];
+				}
+				dataIndex -= positionByteCount;
+			}
+			int rowStartIndex = rowCenterIndex - dataRowStartOffset;
+			for (int i = 1; i < gridPositionSize; i++) {
+				System.arraycopy(pixelData, rowStartIndex, pixelData, rowStartIndex + i * rowByteCount, dataRowByteCount);
+			}
+			if (y != 0) {
+				int mirroredRowStartIndex = originIndex + y * positionRowsByteCount - dataRowStartOffset;
+				for (int i = 0; i < gridPositionSize; i++) {
+					System.arraycopy(pixelData, rowStartIndex, pixelData, mirroredRowStartIndex + i * rowByteCount, dataRowByteCount);
+				}
+			}
+		}
+		saveAsPngImage(pixelData, width, height, path, name);
+	}
+	
+	private void createEmptyImage(int minX, int maxX, int minY, int maxY, int minWidth, int minHeight, String path, String name) 
 			throws Exception {
 		int gridPositionSize = getModelPositionSize(minX, maxX, minY, maxY, minWidth, minHeight);
 		createEmptyImage(minX, maxX, minY, maxY, gridPositionSize, minWidth, minHeight, path, name);
 	}
 	
-	private static void createEmptyImage(int minX, int maxX, int minY, int maxY, int gridPositionSize, 
+	private void createEmptyImage(int minX, int maxX, int minY, int maxY, int gridPositionSize, 
 			int minWidth, int minHeight, String path, String name) throws Exception {
 		
 		int framedModelWidth = maxX - minX + 1;
@@ -2198,17 +2541,17 @@ public class ImgMaker {
 		if (longByteCount > Integer.MAX_VALUE)
 			throw new Exception(maxImageSizeExceededMessage);
 		int byteCount = (int)longByteCount;
-		byte[] pixelData = new byte[byteCount];	
+		byte[] pixelData = getPixelDataBuffer(byteCount);
 		saveAsPngImage(pixelData, imageWidth, imageHeight, path, name);
 	}
 	
-	private static void createImageFromEvenOrOddPositions(ObjectModel2D<Color> grid, boolean isEven, int minX, int maxX, int minY, int maxY, int minWidth, int minHeight, String path, String name) 
+	private void createImageFromEvenOrOddPositions(ObjectModel2D<Color> grid, boolean isEven, int minX, int maxX, int minY, int maxY, int minWidth, int minHeight, String path, String name) 
 			throws Exception {
 		int gridPositionSize = getModelPositionSize(minX, maxX, minY, maxY, minWidth, minHeight);
 		createImageFromEvenOrOddPositions(grid, isEven, minX, maxX, minY, maxY, gridPositionSize, minWidth, minHeight, path, name);
 	}
 	
-	private static void createImageFromEvenOrOddPositions(ObjectModel2D<Color> grid, boolean isEven, int minX, int maxX, int minY, int maxY, int gridPositionSize, 
+	private void createImageFromEvenOrOddPositions(ObjectModel2D<Color> grid, boolean isEven, int minX, int maxX, int minY, int maxY, int gridPositionSize, 
 			int minWidth, int minHeight, String path, String name) throws Exception {
 		int dataWidth = (maxX - minX + 1) * gridPositionSize;
 		int dataHeight = (maxY - minY + 1) * gridPositionSize;
@@ -2218,7 +2561,7 @@ public class ImgMaker {
 		if (longByteCount > Integer.MAX_VALUE)
 			throw new Exception(maxImageSizeExceededMessage);
 		int byteCount = (int)longByteCount;
-		byte[] pixelData = new byte[byteCount];
+		byte[] pixelData = getPixelDataBuffer(byteCount);
 		int canvasTopMargin = height - dataHeight;
 		int canvasRightMargin = width - dataWidth;
 		int gridTopMargin = 0;
@@ -2265,20 +2608,22 @@ public class ImgMaker {
 			int firstDataIndexToCopyFrom = dataIndex;
 			int x = framedModelMinXAtY;
 			for (; x < framedModelMaxXAtY; x += 2) {
-				java.awt.Color c = grid.getFromPosition(x,y);
+				int rgb = getRgbFromPosition(grid, x, y);
+				byte r = (byte) (rgb >> 16), g = (byte) (rgb >> 8), b = (byte) rgb;
 				for (int j = 0; j < gridPositionSize; j++) {
-					pixelData[dataIndex++] = (byte) c.getRed();
-					pixelData[dataIndex++] = (byte) c.getGreen();
-					pixelData[dataIndex++] = (byte) c.getBlue();
+					pixelData[dataIndex++] = r;
+					pixelData[dataIndex++] = g;
+					pixelData[dataIndex++] = b;
 				}
 				dataIndex += gridPositionSizeTimes3;
 			}
 			if (x == framedModelMaxXAtY) {
-				java.awt.Color c = grid.getFromPosition(x,y);
+				int rgb = getRgbFromPosition(grid, x, y);
+				byte r = (byte) (rgb >> 16), g = (byte) (rgb >> 8), b = (byte) rgb;
 				for (int j = 0; j < gridPositionSize; j++) {
-					pixelData[dataIndex++] = (byte) c.getRed();
-					pixelData[dataIndex++] = (byte) c.getGreen();
-					pixelData[dataIndex++] = (byte) c.getBlue();
+					pixelData[dataIndex++] = r;
+					pixelData[dataIndex++] = g;
+					pixelData[dataIndex++] = b;
 				}
 			}
 			dataIndex += dataRightMargin;
@@ -2308,13 +2653,13 @@ public class ImgMaker {
 		saveAsPngImage(pixelData, width, height, path, name);
 	}
 	
-	private static void createImageFromEvenOrOddXPositions(ObjectModel2D<Color> grid, boolean isEven, int minX, int maxX, int minY, int maxY, int minWidth, int minHeight, String path, String name) 
+	private void createImageFromEvenOrOddXPositions(ObjectModel2D<Color> grid, boolean isEven, int minX, int maxX, int minY, int maxY, int minWidth, int minHeight, String path, String name) 
 			throws Exception {
 		int gridPositionSize = getModelPositionSize(minX, maxX, minY, maxY, minWidth, minHeight);
 		createImageFromEvenOrOddXPositions(grid, isEven, minX, maxX, minY, maxY, gridPositionSize, minWidth, minHeight, path, name);
 	}
 	
-	private static void createImageFromEvenOrOddXPositions(ObjectModel2D<Color> grid, boolean isEven, int minX, int maxX, int minY, int maxY, int gridPositionSize, 
+	private void createImageFromEvenOrOddXPositions(ObjectModel2D<Color> grid, boolean isEven, int minX, int maxX, int minY, int maxY, int gridPositionSize, 
 			int minWidth, int minHeight, String path, String name) throws Exception {
 		int dataWidth = (maxX - minX + 1) * gridPositionSize;
 		int dataHeight = (maxY - minY + 1) * gridPositionSize;
@@ -2324,7 +2669,7 @@ public class ImgMaker {
 		if (longByteCount > Integer.MAX_VALUE)
 			throw new Exception(maxImageSizeExceededMessage);
 		int byteCount = (int)longByteCount;
-		byte[] pixelData = new byte[byteCount];
+		byte[] pixelData = getPixelDataBuffer(byteCount);
 		int canvasTopMargin = height - dataHeight;
 		int canvasRightMargin = width - dataWidth;
 		int gridTopMargin = 0;
@@ -2371,20 +2716,22 @@ public class ImgMaker {
 			int firstDataIndexToCopyFrom = dataIndex;
 			int x = framedModelMinXAtY;
 			for (; x < framedModelMaxXAtY; x += 2) {
-				java.awt.Color c = grid.getFromPosition(x,y);
+				int rgb = getRgbFromPosition(grid, x, y);
+				byte r = (byte) (rgb >> 16), g = (byte) (rgb >> 8), b = (byte) rgb;
 				for (int j = 0; j < gridPositionSize; j++) {
-					pixelData[dataIndex++] = (byte) c.getRed();
-					pixelData[dataIndex++] = (byte) c.getGreen();
-					pixelData[dataIndex++] = (byte) c.getBlue();
+					pixelData[dataIndex++] = r;
+					pixelData[dataIndex++] = g;
+					pixelData[dataIndex++] = b;
 				}
 				dataIndex += gridPositionSizeTimes3;
 			}
 			if (x == framedModelMaxXAtY) {
-				java.awt.Color c = grid.getFromPosition(x,y);
+				int rgb = getRgbFromPosition(grid, x, y);
+				byte r = (byte) (rgb >> 16), g = (byte) (rgb >> 8), b = (byte) rgb;
 				for (int j = 0; j < gridPositionSize; j++) {
-					pixelData[dataIndex++] = (byte) c.getRed();
-					pixelData[dataIndex++] = (byte) c.getGreen();
-					pixelData[dataIndex++] = (byte) c.getBlue();
+					pixelData[dataIndex++] = r;
+					pixelData[dataIndex++] = g;
+					pixelData[dataIndex++] = b;
 				}
 			}
 			dataIndex += dataRightMargin;
@@ -2414,13 +2761,13 @@ public class ImgMaker {
 		saveAsPngImage(pixelData, width, height, path, name);
 	}
 	
-	private static void createImageFromEvenOrOddYPositions(ObjectModel2D<Color> grid, boolean isEven, int minX, int maxX, int minY, int maxY, int minWidth, int minHeight, String path, String name) 
+	private void createImageFromEvenOrOddYPositions(ObjectModel2D<Color> grid, boolean isEven, int minX, int maxX, int minY, int maxY, int minWidth, int minHeight, String path, String name) 
 			throws Exception {
 		int gridPositionSize = getModelPositionSize(minX, maxX, minY, maxY, minWidth, minHeight);
 		createImageFromEvenOrOddYPositions(grid, isEven, minX, maxX, minY, maxY, gridPositionSize, minWidth, minHeight, path, name);
 	}
 	
-	private static void createImageFromEvenOrOddYPositions(ObjectModel2D<Color> grid, boolean isEven, int minX, int maxX, int minY, int maxY, int gridPositionSize, 
+	private void createImageFromEvenOrOddYPositions(ObjectModel2D<Color> grid, boolean isEven, int minX, int maxX, int minY, int maxY, int gridPositionSize, 
 			int minWidth, int minHeight, String path, String name) throws Exception {
 		int dataWidth = (maxX - minX + 1) * gridPositionSize;
 		int dataHeight = (maxY - minY + 1) * gridPositionSize;
@@ -2430,7 +2777,7 @@ public class ImgMaker {
 		if (longByteCount > Integer.MAX_VALUE)
 			throw new Exception(maxImageSizeExceededMessage);
 		int byteCount = (int)longByteCount;
-		byte[] pixelData = new byte[byteCount];
+		byte[] pixelData = getPixelDataBuffer(byteCount);
 		int canvasTopMargin = height - dataHeight;
 		int canvasRightMargin = width - dataWidth;
 		int gridTopMargin = 0;
@@ -2470,9 +2817,10 @@ public class ImgMaker {
 			if (isEven == isYEven) {
 				dataIndex += dataLeftMargin;
 				int firstDataIndexToCopyFrom = dataIndex;
-				for (int x = framedModelMinXAtY; x <= framedModelMaxXAtY; x++) {
-					java.awt.Color c = grid.getFromPosition(x, y);
-					byte r = (byte) c.getRed(), g = (byte) c.getGreen(), b = (byte) c.getBlue();
+				int[] rgbs = getRgbRow(grid, y, framedModelMinXAtY, framedModelMaxXAtY);
+				for (int i = 0, rowLength = framedModelMaxXAtY - framedModelMinXAtY + 1; i < rowLength; i++) {
+					int rgb = rgbs[i];
+					byte r = (byte) (rgb >> 16), g = (byte) (rgb >> 8), b = (byte) rgb;
 					for (int j = 0; j < gridPositionSize; j++) {
 						pixelData[dataIndex++] = r;
 						pixelData[dataIndex++] = g;
@@ -2499,19 +2847,95 @@ public class ImgMaker {
 		saveAsPngImage(pixelData, width, height, path, name);
 	}
 
-	private static void saveAsPngImage(byte[] pixelData, int width, int height, String path, String name) throws IOException {
-		DataBuffer buffer = new DataBufferByte(pixelData, pixelData.length);
-		//3 bytes per pixel: red, green, blue
-		WritableRaster raster = Raster.createInterleavedRaster(buffer, width, height, 3 * width, 3, new int[] {0, 1, 2}, (Point)null);
-		ColorModel cm = new ComponentColorModel(ColorModel.getRGBdefault().getColorSpace(), false, true, Transparency.OPAQUE, DataBuffer.TYPE_BYTE); 
-		BufferedImage image = new BufferedImage(cm, raster, true, null);
-		//BufferedImage image = new BufferedImage( 0, 0, BufferedImage.TYPE_BYTE_GRAY );//TODO grayscale png
+	private static byte[] getPixelDataBuffer(int byteCount) {
+		byte[] pixelData = pixelDataBuffer.get();
+		if (pixelData == null || pixelData.length < byteCount) {
+			pixelData = new byte[byteCount];
+			pixelDataBuffer.set(pixelData);
+		} else {
+			Arrays.fill(pixelData, 0, byteCount, (byte) 0);
+		}
+		return pixelData;
+	}
+	
+	private static int[] getRgbRow(ObjectModel2D<Color> grid, int y, int minX, int maxX) throws Exception {
+		int length = maxX - minX + 1;
+		int[] rgbs = rgbRowBuffer.get();
+		if (rgbs == null || rgbs.length < length) {
+			rgbs = new int[length];
+			rgbRowBuffer.set(rgbs);
+		}
+		if (grid instanceof ColorMappedGrid2D) {
+			((ColorMappedGrid2D<?>) grid).getRgbRow(y, minX, maxX, rgbs);
+		} else {
+			for (int x = minX, i = 0; x <= maxX; x++, i++) {
+				rgbs[i] = grid.getFromPosition(x, y).getRGB();
+			}
+		}
+		return rgbs;
+	}
+	
+	private static int getRgbFromPosition(ObjectModel2D<Color> grid, int x, int y) throws Exception {
+		if (grid instanceof ColorMappedGrid2D) {
+			return ((ColorMappedGrid2D<?>) grid).getRgbFromPosition(x, y);
+		}
+		return grid.getFromPosition(x, y).getRGB();
+	}
+
+	private void saveAsPngImage(byte[] pixelData, int width, int height, String path, String name) throws IOException {
 		File dir = new File(path);
 		if (!dir.exists())
 			dir.mkdirs();
 		String pathName = path + "/" + name;
 		System.out.println(imagePathNameAndEquals + '"' + pathName + '"');
-		ImageIO.write(image, "png", new File(pathName));
+		//3 bytes per pixel: red, green, blue
+		pngWriter.write(pixelData, width, height, new File(pathName));
+	}
+
+	private static class IsotropicSquareLongSnapshot extends LongArrayGrid2D implements IsotropicSquareLongModelAsymmetricSection {
+		
+		private static final long serialVersionUID = -1712264404718474372L;
+		
+		private final int size;
+		
+		public IsotropicSquareLongSnapshot(int size, int[] localYMinima, long[][] values) {
+			super(0, localYMinima, values);
+			this.size = size;
+		}
+		
+		@Override
+		public int getSize() {
+			return size;
+		}
+		
+		@Override
+		public String getWholeGridSubfolderPath() {
+			throw new UnsupportedOperationException();
+		}
+		
+	}
+	
+	private static class IsotropicSquareIntSnapshot extends IntArrayGrid2D implements IsotropicSquareIntModelAsymmetricSection {
+		
+		private static final long serialVersionUID = 6027851960216094717L;
+		
+		private final int size;
+		
+		public IsotropicSquareIntSnapshot(int size, int[] localYMinima, int[][] values) {
+			super(0, localYMinima, values);
+			this.size = size;
+		}
+		
+		@Override
+		public int getSize() {
+			return size;
+		}
+		
+		@Override
+		public String getWholeGridSubfolderPath() {
+			throw new UnsupportedOperationException();
+		}
+		
 	}
 	
 }
@@ -0,0 +1,223 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    aint with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package caimgmaker;
+
+import cellularautomata.model2d.IntArrayGrid2D;
+import cellularautomata.model2d.IntModel2D;
+import cellularautomata.model3d.IntModel3D;
+
+/**
+ * Copies of several cross sections of a {@link IntModel3D}, perpendicular to the x, y and z axes, aint with their minimum and maximum values.
+ * The cross sections are copied in a single sweep over the x-coordinates of the model, computing the minimum and maximum values in the same sweep, 
+ * so that their images can then be rendered concurrently while the model is free to compute the next step.
+ * 
+ * @author Jaume
+ *
+ */
+class IntCrossSectionSnapshots {
+	
+	private final IntModel2D[] snapshots;
+	private final int[] minValues;
+	private final int[] maxValues;
+	private final boolean[] anyPosition;
+	//indexed by parity, 0 for even and 1 for odd positions
+	private final int[][] evenOddMinValues;
+	private final int[][] evenOddMaxValues;
+	private final boolean[][] anyEvenOddPosition;
+	
+	/**
+	 * Copies the cross sections of a model at the given coordinates. 
+	 * The copies are indexed in this order: the cross section at {@code x}, the one at {@code y} and then the ones at each of the {@code zs}.
+	 * 
+	 * @param model the model
+	 * @param x the x-coordinate of the cross section perpendicular to the x-axis
+	 * @param y the y-coordinate of the cross section perpendicular to the y-axis
+	 * @param zs the z-coordinates of the cross sections perpendicular to the z-axis
+	 * @param evenOdd whether to also compute the minimum and maximum values at even and odd positions of each cross section
+	 * @throws Exception
+	 */
+	public IntCrossSectionSnapshots(IntModel3D model, int x, int y, int[] zs, boolean evenOdd) throws Exception {
+		int count = zs.length + 2;
+		IntModel2D[] crossSections = new IntModel2D[count];
+		crossSections[0] = model.crossSectionAtX(x);
+		crossSections[1] = model.crossSectionAtY(y);
+		for (int i = 0; i < zs.length; i++) {
+			crossSections[i + 2] = model.crossSectionAtZ(zs[i]);
+		}
+		//the copies have the same bounds as the cross sections
+		int[] minColumns = new int[count], maxColumns = new int[count];
+		int[][] localMinima = new int[count][];
+		int[][][] values = new int[count][][];
+		for (int i = 0; i < count; i++) {
+			IntModel2D crossSection = crossSections[i];
+			int minColumn = crossSection.getMinX(), maxColumn = crossSection.getMaxX();
+			minColumns[i] = minColumn;
+			maxColumns[i] = maxColumn;
+			localMinima[i] = new int[maxColumn - minColumn + 1];
+			values[i] = new int[localMinima[i].length][];
+			for (int column = minColumn, j = 0; column <= maxColumn; column++, j++) {
+				int minRow = crossSection.getMinY(column);
+				localMinima[i][j] = minRow;
+				values[i][j] = new int[crossSection.getMaxY(column) - minRow + 1];
+			}
+		}
+		minValues = new int[count];
+		maxValues = new int[count];
+		anyPosition = new boolean[count];
+		if (evenOdd) {
+			evenOddMinValues = new int[2][count];
+			evenOddMaxValues = new int[2][count];
+			anyEvenOddPosition = new boolean[2][count];
+		} else {
+			evenOddMinValues = null;
+			evenOddMaxValues = null;
+			anyEvenOddPosition = null;
+		}
+		int maxX = model.getMaxX();
+		for (int currentX = model.getMinX(); currentX <= maxX; currentX++) {
+			if (currentX == x) {
+				int[][] sectionValues = values[0];
+				int[] sectionLocalMinima = localMinima[0];
+				for (int j = 0, currentY = minColumns[0]; j < sectionValues.length; j++, currentY++) {
+					int[] column = sectionValues[j];
+					int minZ = sectionLocalMinima[j];
+					for (int k = 0, currentZ = minZ; k < column.length; k++, currentZ++) {
+						column[k] = model.getFromPosition(currentX, currentY, currentZ);
+					}
+					accumulate(0, column, currentY + minZ);
+				}
+			}
+			if (currentX >= minColumns[1] && currentX <= maxColumns[1]) {
+				int j = currentX - minColumns[1];
+				int[] column = values[1][j];
+				int minZ = localMinima[1][j];
+				for (int k = 0, currentZ = minZ; k < column.length; k++, currentZ++) {
+					column[k] = model.getFromPosition(currentX, y, currentZ);
+				}
+				accumulate(1, column, currentX + minZ);
+			}
+			for (int i = 2; i < count; i++) {
+				if (currentX >= minColumns[i] && currentX <= maxColumns[i]) {
+					int j = currentX - minColumns[i];
+					int[] column = values[i][j];
+					int minY = localMinima[i][j], z = zs[i - 2];
+					for (int k = 0, currentY = minY; k < column.length; k++, currentY++) {
+						column[k] = model.getFromPosition(currentX, currentY, z);
+					}
+					accumulate(i, column, currentX + minY);
+				}
+			}
+		}
+		snapshots = new IntModel2D[count];
+		for (int i = 0; i < count; i++) {
+			snapshots[i] = new IntArrayGrid2D(minColumns[i], localMinima[i], values[i]);
+		}
+	}
+	
+	/**
+	 * Updates the minimum and maximum values of a cross section with a column of its values.
+	 * 
+	 * @param index the index of the cross section
+	 * @param column the values
+	 * @param firstCoordinateSum the sum of the coordinates, within the cross section, of the first position of the column
+	 */
+	private void accumulate(int index, int[] column, int firstCoordinateSum) {
+		if (column.length == 0) {
+			return;
+		}
+		int min = column[0], max = min;
+		for (int k = 1; k < column.length; k++) {
+			int value = column[k];
+			if (value < min) {
+				min = value;
+			} else if (value > max) {
+				max = value;
+			}
+		}
+		update(minValues, maxValues, anyPosition, index, min, max);
+		if (evenOddMinValues != null) {
+			//positions alternate parity along the column
+			int firstParity = firstCoordinateSum%2 == 0 ? 0 : 1;
+			for (int offset = 0; offset < 2 && offset < column.length; offset++) {
+				min = column[offset];
+				max = min;
+				for (int k = offset + 2; k < column.length; k += 2) {
+					int value = column[k];
+					if (value < min) {
+						min = value;
+					} else if (value > max) {
+						max = value;
+					}
+				}
+				int parity = firstParity ^ offset;
+				update(evenOddMinValues[parity], evenOddMaxValues[parity], anyEvenOddPosition[parity], index, min, max);
+			}
+		}
+	}
+	
+	private static void update(int[] minValues, int[] maxValues, boolean[] anyPosition, int index, int min, int max) {
+		if (anyPosition[index]) {
+			if (min < minValues[index]) {
+				minValues[index] = min;
+			}
+			if (max > maxValues[index]) {
+				maxValues[index] = max;
+			}
+		} else {
+			minValues[index] = min;
+			maxValues[index] = max;
+			anyPosition[index] = true;
+		}
+	}
+	
+	/**
+	 * Returns the copy of a cross section.
+	 * 
+	 * @param index the index of the cross section
+	 * @return the copy
+	 */
+	public IntModel2D getSnapshot(int index) {
+		return snapshots[index];
+	}
+	
+	/**
+	 * Returns the minimum and maximum values of a cross section, at indexes 0 and 1 respectively.
+	 * 
+	 * @param index the index of the cross section
+	 * @return the minimum and maximum values or null if the cross section has no positions
+	 */
+	public int[] getMinAndMax(int index) {
+		return anyPosition[index] ? new int[] { minValues[index], maxValues[index] } : null;
+	}
+	
+	/**
+	 * Returns the minimum and maximum values at the even or odd positions of a cross section, at indexes 0 and 1 respectively.
+	 * A position is even when the sum of its coordinates within the cross section is even.
+	 * 
+	 * @param index the index of the cross section
+	 * @param isEven whether to return the values at the even or at the odd positions
+	 * @return the minimum and maximum values or null if no position matches
+	 */
+	public int[] getEvenOddPositionsMinAndMax(int index, boolean isEven) {
+		if (evenOddMinValues == null) {
+			throw new IllegalStateException("The minimum and maximum values at even and odd positions were not computed.");
+		}
+		int parity = isEven ? 0 : 1;
+		return anyEvenOddPosition[parity][index] ? new int[] { evenOddMinValues[parity][index], evenOddMaxValues[parity][index] } : null;
+	}
+	
+}
@@ -0,0 +1,388 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package caimgmaker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * <p>Writes 8-bit RGB PNG images, compressing horizontal stripes of the image in parallel.</p>
+ * <p>Each stripe is filtered and deflated independently, ending in a byte-aligned flush so that the compressed stripes 
+ * can be concatenated into a single zlib stream, whose checksum is combined from the checksums of the stripes.
+ * The filter of every row is the one with the smallest sum of absolute values of the filtered bytes, which is the heuristic recommended by the PNG specification.
+ * In fast mode, the rows repeating the previous one use the up filter and the rest the sub filter, and the lowest compression level is used.</p>
+ * 
+ * @author Jaume
+ *
+ */
+public class PngWriter {
+	
+	/** The level used by the PNG writer of the JDK. Above it, saving takes much longer for slightly smaller files. */
+	public static final int DEFAULT_COMPRESSION_LEVEL = 4;
+	
+	/** The preferred number of uncompressed bytes of a stripe */
+	private static final int STRIPE_SIZE = 1 << 18;
+	private static final int BYTES_PER_PIXEL = 3;
+	private static final byte[] SIGNATURE = new byte[] { (byte) 137, 80, 78, 71, 13, 10, 26, 10 };
+	private static final byte[] IHDR = new byte[] { 'I', 'H', 'D', 'R' };
+	private static final byte[] IDAT = new byte[] { 'I', 'D', 'A', 'T' };
+	private static final byte[] IEND = new byte[] { 'I', 'E', 'N', 'D' };
+	private static final int ADLER_BASE = 65521;
+	
+	//filter types
+	private static final byte NONE = 0;
+	private static final byte SUB = 1;
+	private static final byte UP = 2;
+	private static final byte AVERAGE = 3;
+	private static final byte PAETH = 4;
+	
+	private final int compressionLevel;
+	private final boolean fastMode;
+	private final int threadCount;
+	private ExecutorService executor = null;
+	
+	/**
+	 * Creates a PNG writer.
+	 * 
+	 * @param compressionLevel the deflate compression level, from 0 to 9. It is ignored in fast mode.
+	 * @param fastMode whether to favor speed over size
+	 * @param threadCount the number of threads compressing the stripes of an image
+	 */
+	public PngWriter(int compressionLevel, boolean fastMode, int threadCount) {
+		if (compressionLevel < 0 || compressionLevel > 9) {
+			throw new IllegalArgumentException("The compression level must be between 0 and 9.");
+		}
+		if (threadCount < 1) {
+			throw new IllegalArgumentException("The thread count must be greater than zero.");
+		}
+		this.compressionLevel = fastMode ? Deflater.BEST_SPEED : compressionLevel;
+		this.fastMode = fastMode;
+		this.threadCount = threadCount;
+	}
+	
+	/**
+	 * Writes an image to a file.
+	 * 
+	 * @param pixelData the red, green and blue bytes of every pixel, row by row from the top
+	 * @param width the width of the image
+	 * @param height the height of the image
+	 * @param file the file to write
+	 * @throws IOException
+	 */
+	public void write(byte[] pixelData, int width, int height, File file) throws IOException {
+		int rowLength = width*BYTES_PER_PIXEL;
+		int rowsPerStripe = Math.max(1, STRIPE_SIZE/(rowLength + 1));
+		int stripeCount = (height + rowsPerStripe - 1)/rowsPerStripe;
+		List<Future<CompressedStripe>> stripes = submitStripes(pixelData, rowLength, height, rowsPerStripe, stripeCount);
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			ChunkWriter writer = new ChunkWriter(channel);
+			writer.buffer.put(SIGNATURE);
+			ByteBuffer header = ByteBuffer.allocate(13);
+			header.putInt(width).putInt(height);
+			header.put((byte) 8);//bit depth
+			header.put((byte) 2);//color type: RGB
+			header.put((byte) 0);//compression method: deflate
+			header.put((byte) 0);//filter method: adaptive
+			header.put((byte) 0);//interlace method: none
+			writer.writeChunk(IHDR, header.array(), header.position());
+			long adler = 1;
+			for (int i = 0; i < stripeCount; i++) {
+				CompressedStripe stripe = getStripe(stripes.get(i));
+				adler = combineAdler32(adler, stripe.adler, stripe.uncompressedLength);
+				byte[] data = stripe.data;
+				int length = stripe.length;
+				if (i == stripeCount - 1) {
+					data = Arrays.copyOf(data, length + 4);
+					data[length++] = (byte) (adler >>> 24);
+					data[length++] = (byte) (adler >>> 16);
+					data[length++] = (byte) (adler >>> 8);
+					data[length++] = (byte) adler;
+				}
+				writer.writeChunk(IDAT, data, length);
+			}
+			writer.writeChunk(IEND, new byte[0], 0);
+			writer.flush();
+		}
+	}
+	
+	private List<Future<CompressedStripe>> submitStripes(byte[] pixelData, int rowLength, int height, int rowsPerStripe, int stripeCount) throws IOException {
+		List<Future<CompressedStripe>> stripes = new ArrayList<Future<CompressedStripe>>(stripeCount);
+		for (int i = 0; i < stripeCount; i++) {
+			int firstRow = i*rowsPerStripe;
+			int endRow = Math.min(height, firstRow + rowsPerStripe);
+			boolean isFirst = i == 0, isLast = i == stripeCount - 1;
+			Callable<CompressedStripe> task = () -> compressStripe(pixelData, rowLength, firstRow, endRow, isFirst, isLast);
+			if (threadCount == 1 || stripeCount == 1) {
+				try {
+					stripes.add(CompletableFuture.completedFuture(task.call()));
+				} catch (IOException | RuntimeException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new IOException(e);
+				}
+			} else {
+				stripes.add(getExecutor().submit(task));
+			}
+		}
+		return stripes;
+	}
+	
+	private synchronized ExecutorService getExecutor() {
+		if (executor == null) {
+			executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+				Thread thread = new Thread(runnable, "png-compression");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return executor;
+	}
+	
+	private static CompressedStripe getStripe(Future<CompressedStripe> stripe) throws IOException {
+		try {
+			return stripe.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+	
+	private static final class CompressedStripe {
+		byte[] data;
+		int length;
+		long adler;
+		long uncompressedLength;
+	}
+	
+	private CompressedStripe compressStripe(byte[] pixelData, int rowLength, int firstRow, int endRow, boolean isFirst, boolean isLast) {
+		CompressedStripe stripe = new CompressedStripe();
+		Deflater deflater = new Deflater(compressionLevel, true);
+		Adler32 adler = new Adler32();
+		byte[][] filteredRows = new byte[fastMode ? 1 : 5][rowLength + 1];
+		byte[] output = new byte[Math.max(64, (endRow - firstRow)*(rowLength + 1)/4)];
+		int outputLength = 0;
+		if (isFirst) {
+			//zlib header: deflate with a 32K window, without preset dictionary
+			output[outputLength++] = 0x78;
+			output[outputLength++] = 0x01;
+		}
+		try {
+			for (int row = firstRow; row < endRow; row++) {
+				byte[] filteredRow = filterRow(pixelData, rowLength, row, filteredRows);
+				adler.update(filteredRow, 0, filteredRow.length);
+				deflater.setInput(filteredRow, 0, filteredRow.length);
+				while (!deflater.needsInput()) {
+					if (outputLength == output.length) {
+						output = Arrays.copyOf(output, output.length*2);
+					}
+					outputLength += deflater.deflate(output, outputLength, output.length - outputLength, Deflater.NO_FLUSH);
+				}
+			}
+			if (isLast) {
+				deflater.finish();
+				while (!deflater.finished()) {
+					if (outputLength == output.length) {
+						output = Arrays.copyOf(output, output.length*2);
+					}
+					outputLength += deflater.deflate(output, outputLength, output.length - outputLength);
+				}
+			} else {
+				//a sync flush ends the stripe at a byte boundary without ending the stream
+				int count;
+				do {
+					if (outputLength == output.length) {
+						output = Arrays.copyOf(output, output.length*2);
+					}
+					int available = output.length - outputLength;
+					count = deflater.deflate(output, outputLength, available, Deflater.SYNC_FLUSH);
+					outputLength += count;
+				} while (outputLength == output.length);
+			}
+		} finally {
+			deflater.end();
+		}
+		stripe.data = output;
+		stripe.length = outputLength;
+		stripe.adler = adler.getValue();
+		stripe.uncompressedLength = (long)(endRow - firstRow)*(rowLength + 1);
+		return stripe;
+	}
+	
+	/**
+	 * Filters a row, returning the filter type followed by the filtered bytes in one of the given arrays.
+	 */
+	private byte[] filterRow(byte[] pixelData, int rowLength, int row, byte[][] filteredRows) {
+		int rowStart = row*rowLength;
+		int previousRowStart = rowStart - rowLength;
+		boolean hasPreviousRow = row > 0;
+		if (fastMode) {
+			byte[] filteredRow = filteredRows[0];
+			boolean repeatsPreviousRow = hasPreviousRow;
+			for (int i = 0; i < rowLength && repeatsPreviousRow; i++) {
+				repeatsPreviousRow = pixelData[rowStart + i] == pixelData[previousRowStart + i];
+			}
+			if (repeatsPreviousRow) {
+				filteredRow[0] = UP;
+				Arrays.fill(filteredRow, 1, rowLength + 1, (byte) 0);
+			} else {
+				filteredRow[0] = SUB;
+				filterSub(pixelData, rowStart, rowLength, filteredRow);
+			}
+			return filteredRow;
+		}
+		byte[] none = filteredRows[NONE], sub = filteredRows[SUB], up = filteredRows[UP], average = filteredRows[AVERAGE], paeth = filteredRows[PAETH];
+		none[0] = NONE;
+		System.arraycopy(pixelData, rowStart, none, 1, rowLength);
+		sub[0] = SUB;
+		filterSub(pixelData, rowStart, rowLength, sub);
+		up[0] = UP;
+		average[0] = AVERAGE;
+		paeth[0] = PAETH;
+		for (int i = 0; i < rowLength; i++) {
+			int current = pixelData[rowStart + i] & 0xFF;
+			int left = i < BYTES_PER_PIXEL ? 0 : pixelData[rowStart + i - BYTES_PER_PIXEL] & 0xFF;
+			int above = hasPreviousRow ? pixelData[previousRowStart + i] & 0xFF : 0;
+			int aboveLeft = hasPreviousRow && i >= BYTES_PER_PIXEL ? pixelData[previousRowStart + i - BYTES_PER_PIXEL] & 0xFF : 0;
+			up[i + 1] = (byte) (current - above);
+			average[i + 1] = (byte) (current - ((left + above) >>> 1));
+			int estimate = left + above - aboveLeft;
+			int leftDistance = Math.abs(estimate - left), aboveDistance = Math.abs(estimate - above), aboveLeftDistance = Math.abs(estimate - aboveLeft);
+			int predictor;
+			if (leftDistance <= aboveDistance && leftDistance <= aboveLeftDistance) {
+				predictor = left;
+			} else if (aboveDistance <= aboveLeftDistance) {
+				predictor = above;
+			} else {
+				predictor = aboveLeft;
+			}
+			paeth[i + 1] = (byte) (current - predictor);
+		}
+		byte[] best = none;
+		long bestSum = Long.MAX_VALUE;
+		for (byte[] filteredRow : filteredRows) {
+			long sum = 0;
+			for (int i = 1; i <= rowLength && sum < bestSum; i++) {
+				sum += Math.abs(filteredRow[i]);
+			}
+			if (sum < bestSum) {
+				bestSum = sum;
+				best = filteredRow;
+			}
+		}
+		return best;
+	}
+	
+	private static void filterSub(byte[] pixelData, int rowStart, int rowLength, byte[] filteredRow) {
+		int i = 0;
+		for (; i < BYTES_PER_PIXEL && i < rowLength; i++) {
+			filteredRow[i + 1] = pixelData[rowStart + i];
+		}
+		for (; i < rowLength; i++) {
+			filteredRow[i + 1] = (byte) (pixelData[rowStart + i] - pixelData[rowStart + i - BYTES_PER_PIXEL]);
+		}
+	}
+	
+	/**
+	 * Returns the Adler-32 checksum of the concatenation of two sequences of bytes given their checksums.
+	 * 
+	 * @param adler1 the checksum of the first sequence
+	 * @param adler2 the checksum of the second sequence
+	 * @param length2 the length of the second sequence
+	 * @return the checksum of the concatenation
+	 */
+	private static long combineAdler32(long adler1, long adler2, long length2) {
+		long remainder = length2 % ADLER_BASE;
+		long sum1 = adler1 & 0xFFFF;
+		long sum2 = (remainder * sum1) % ADLER_BASE;
+		sum1 += (adler2 & 0xFFFF) + ADLER_BASE - 1;
+		sum2 += ((adler1 >>> 16) & 0xFFFF) + ((adler2 >>> 16) & 0xFFFF) + ADLER_BASE - remainder;
+		if (sum1 >= ADLER_BASE) sum1 -= ADLER_BASE;
+		if (sum1 >= ADLER_BASE) sum1 -= ADLER_BASE;
+		if (sum2 >= (ADLER_BASE << 1)) sum2 -= (ADLER_BASE << 1);
+		if (sum2 >= ADLER_BASE) sum2 -= ADLER_BASE;
+		return sum1 | (sum2 << 16);
+	}
+	
+	private static final class ChunkWriter {
+		
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocate(1 << 20);
+		private final CRC32 crc = new CRC32();
+		
+		ChunkWriter(FileChannel channel) {
+			this.channel = channel;
+		}
+		
+		void writeChunk(byte[] type, byte[] data, int length) throws IOException {
+			crc.reset();
+			crc.update(type, 0, type.length);
+			crc.update(data, 0, length);
+			ensureRemaining(8);
+			buffer.putInt(length);
+			buffer.put(type);
+			int offset = 0;
+			while (offset < length) {
+				ensureRemaining(1);
+				int count = Math.min(buffer.remaining(), length - offset);
+				buffer.put(data, offset, count);
+				offset += count;
+			}
+			ensureRemaining(4);
+			buffer.putInt((int) crc.getValue());
+		}
+		
+		private void ensureRemaining(int byteCount) throws IOException {
+			if (buffer.remaining() < byteCount) {
+				flush();
+			}
+		}
+		
+		void flush() throws IOException {
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			buffer.clear();
+		}
+		
+	}
+
+}
@@ -0,0 +1,103 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package caimgmaker;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Renders and encodes images in worker threads while the main thread computes the following steps.
+ * The number of images waiting or being rendered is bounded, so that the main thread waits when rendering falls behind 
+ * instead of piling up snapshots of the model in memory.
+ * 
+ * @author Jaume
+ *
+ */
+public class RenderQueue {
+	
+	private final ExecutorService executor;
+	private final int capacity;
+	private final ArrayDeque<Future<?>> pendingRenders = new ArrayDeque<Future<?>>();
+	
+	/**
+	 * Creates a render queue.
+	 * 
+	 * @param threadCount the number of threads rendering images
+	 */
+	public RenderQueue(int threadCount) {
+		if (threadCount < 1) {
+			throw new IllegalArgumentException("The thread count must be greater than zero.");
+		}
+		executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+			Thread thread = new Thread(runnable, "render");
+			thread.setDaemon(true);
+			return thread;
+		});
+		//one snapshot waiting while the others are rendered
+		capacity = threadCount + 1;
+	}
+	
+	/**
+	 * Queues the rendering of an image, waiting for the oldest one to finish if the queue is full.
+	 * The render must only access data that is not modified afterwards, such as a snapshot of the model.
+	 * 
+	 * @param render the task rendering the image
+	 * @throws Exception if a previously queued render failed
+	 */
+	public void submit(Callable<Void> render) throws Exception {
+		while (!pendingRenders.isEmpty() && (pendingRenders.size() >= capacity || pendingRenders.peek().isDone())) {
+			waitFor(pendingRenders.poll());
+		}
+		pendingRenders.add(executor.submit(render));
+	}
+	
+	/**
+	 * Waits until every queued image is rendered.
+	 * 
+	 * @throws Exception if a render failed
+	 */
+	public void waitForAll() throws Exception {
+		while (!pendingRenders.isEmpty()) {
+			waitFor(pendingRenders.poll());
+		}
+	}
+	
+	/**
+	 * Stops the rendering threads. Images still waiting in the queue are not rendered.
+	 */
+	public void shutdown() {
+		pendingRenders.clear();
+		executor.shutdownNow();
+	}
+	
+	private static void waitFor(Future<?> render) throws Exception {
+		try {
+			render.get();
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			}
+			throw ex;
+		}
+	}
+	
+}
@@ -0,0 +1,84 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package caimgmaker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+
+import caimgmaker.args.Args;
+import cellularautomata.automata.aether.FlatLongAether;
+
+/**
+ * Runs {@link AetherImgMaker} end to end on small Aether configurations whose sections are only readable through the generic model interfaces,
+ * and checks that every run renders images.
+ * Exits with status 1 if any run renders none.
+ *
+ * @author Jaume
+ *
+ */
+public final class SectionRenderingCheck {
+
+	private SectionRenderingCheck() {}
+
+	public static void main(String[] args) throws Exception {
+		Path root = Files.createTempDirectory("section-rendering-check");
+		boolean failed = false;
+		try {
+			//6D runs go to LongAether6D, whose cross sections are plain long models
+			failed |= !rendersImages(root.resolve("6d-2d"), "-grid", "6d", "-60", "-coordinate-filters", "x1=x5;x2=x5;x3=x5;x4=x5", "-colormap", "hue");
+			failed |= !rendersImages(root.resolve("6d-3d"), "-grid", "6d", "-60", "-coordinate-filters", "x1=x6;x2=x6;x3=x6");
+			//single sources outside the int range go to FlatLongAether, which is reached here by restoring a backup of a small one
+			String backupsPath = root.resolve("7d-backup").toString();
+			FlatLongAether flatLongAether = new FlatLongAether(7, -40);
+			flatLongAether.backUp(backupsPath, "7d");
+			String backupPath = backupsPath + File.separator + "7d";
+			failed |= !rendersImages(root.resolve("7d-2d"), "-model", "aether", "-grid", "7d", "-restore", backupPath, "-coordinate-filters", "x1=x6;x2=x6;x3=x6;x4=x6;x5=x6");
+			failed |= !rendersImages(root.resolve("7d-3d"), "-model", "aether", "-grid", "7d", "-restore", backupPath, "-coordinate-filters", "x1=x7;x2=x7;x3=x7;x4=x7");
+		} finally {
+			FileUtils.deleteDirectory(root.toFile());
+		}
+		if (failed) {
+			System.exit(1);
+		}
+	}
+
+	private static boolean rendersImages(Path path, String... args) throws Exception {
+		String[] rawArgs = new String[args.length + 2];
+		System.arraycopy(args, 0, rawArgs, 0, args.length);
+		rawArgs[args.length] = Args.PATH;
+		rawArgs[args.length + 1] = path.toString();
+		AetherImgMaker.main(rawArgs);
+		long imageCount = countImages(path);
+		System.out.println(String.join(" ", args) + ": " + (imageCount == 0 ? "no images" : imageCount + " images"));
+		return imageCount != 0;
+	}
+
+	private static long countImages(Path path) throws IOException {
+		if (!Files.isDirectory(path)) {
+			return 0;
+		}
+		try (Stream<Path> files = Files.walk(path)) {
+			return files.filter(file -> file.toString().endsWith(".png")).count();
+		}
+	}
+
+}
@@ -20,6 +20,7 @@ import com.beust.jcommander.Parameter;
 import com.beust.jcommander.Parameters;
 
 import caimgmaker.ImgMakerConstants;
+import caimgmaker.PngWriter;
 
 @Parameters(resourceBundle = "MessagesBundle")
 public class Args {
@@ -46,6 +47,14 @@ public class Args {
 	@Parameter(names = { COLORMAP, "-color" }, descriptionKey = "colormap-description")
     public String colormap = "Grayscale";
 	
+	public static final String COMPRESSED_BACKUPS = "-compressed-backups";
+	@Parameter(names = COMPRESSED_BACKUPS, descriptionKey = "compressed-backups-description")
+	public boolean compressedBackups = false;
+	
+	public static final String COMPRESSED_GRID = "-compressed-grid";
+	@Parameter(names = COMPRESSED_GRID, descriptionKey = "compressed-grid-description")
+	public boolean compressedGrid = false;
+	
 	public static final String COORDIANTE_FILTERS = "-coordinate-filters";
 	@Parameter(names = { COORDIANTE_FILTERS, "-coord-filters" }, validateWith = CoordinateFiltersValidatorAndConverter.class, converter = CoordinateFiltersValidatorAndConverter.class, descriptionKey = "coordinate-filters-description")
     public CoordinateFilters coordinateFilters = null;
@@ -78,6 +87,10 @@ public class Args {
 	@Parameter(names = { IMAGE_NAME, "-img-name" }, validateWith = ImgNameValidator.class, descriptionKey = "image-name-description")
     public String imageName = null;
     
+	public static final String IN_PLACE = "-in-place";
+	@Parameter(names = IN_PLACE, descriptionKey = "in-place-description")
+	public boolean inPlace = false;
+    
 	public static final String MEMORY_SAFE = "-memory-safe";
 	@Parameter(names = MEMORY_SAFE, descriptionKey = "memory-safe-description")
 	public boolean memorySafe = false;
@@ -98,10 +111,22 @@ public class Args {
 	@Parameter(names = { ODD_COORDINATES_ONLY, "-odd-coords-only", "-oco" }, descriptionKey = "odd-coordinates-only-description")
 	public boolean oddCoordinatesOly = false;
 	
+	public static final String PNG_COMPRESSION_LEVEL = "-png-compression-level";
+	@Parameter(names = { PNG_COMPRESSION_LEVEL, "-png-compression" }, validateWith = PngCompressionLevelValidator.class, descriptionKey = "png-compression-level-description")
+	public int pngCompressionLevel = PngWriter.DEFAULT_COMPRESSION_LEVEL;
+	
+	public static final String PNG_FAST_MODE = "-png-fast";
+	@Parameter(names = PNG_FAST_MODE, descriptionKey = "png-fast-description")
+	public boolean pngFastMode = false;
+	
 	public static final String PATH = "-path";
 	@Parameter(names = PATH, validateWith = PathValidator.class, descriptionKey = "path-description")
     public String path = "./";
 
+	public static final String RENDER_THREADS = "-render-threads";
+	@Parameter(names = RENDER_THREADS, validateWith = GreaterThanZeroIntegerValidator.class, descriptionKey = "render-threads-description")
+	public int renderThreads = 0;
+	
 	public static final String RESTORE = "-restore";
 	@Parameter(names = RESTORE, descriptionKey = "restore-description")
     public String backupToRestorePath = null;
@@ -125,6 +150,14 @@ public class Args {
 	public static final String STEP_LEAP = "-step-leap";
 	@Parameter(names = STEP_LEAP, validateWith = GreaterThanZeroIntegerValidator.class, descriptionKey = "step-leap-description")
 	public int steapLeap = 1;
+	
+	public static final String STEP_STATISTICS = "-step-statistics";
+	@Parameter(names = { STEP_STATISTICS, "-step-stats" }, validateWith = PathValidator.class, descriptionKey = "step-statistics-description")
+	public String stepStatisticsPath = null;
+
+	public static final String THREADS = "-threads";
+	@Parameter(names = THREADS, validateWith = GreaterThanZeroIntegerValidator.class, descriptionKey = "threads-description")
+	public int threads = 1;
 
 	public static final String TOPPLING_ALTERNATION_COMPLIANCE = "-toppling-alternation-compliance";
 	@Parameter(names = { TOPPLING_ALTERNATION_COMPLIANCE, "-tac" }, descriptionKey = "toppling-alternation-compliance-description")
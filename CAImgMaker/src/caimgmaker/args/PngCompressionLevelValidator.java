@@ -0,0 +1,28 @@
+package caimgmaker.args;
+
+import java.math.BigInteger;
+
+import com.beust.jcommander.IParameterValidator;
+import com.beust.jcommander.ParameterException;
+
+import caimgmaker.AetherImgMaker;
+import cellularautomata.Utils;
+
+public class PngCompressionLevelValidator implements IParameterValidator {
+	
+	public static final int MIN = 0;
+	public static final int MAX = 9;
+	
+	@Override
+	public void validate(String name, String value)
+			throws ParameterException {
+		if (!Utils.isInteger(value)) {
+			throw new ParameterException(String.format(AetherImgMaker.messages.getString("param-is-not-valid-integer-format"), name, value));
+		}
+		BigInteger n = new BigInteger(value);
+		if (n.compareTo(BigInteger.valueOf(MIN)) < 0 || n.compareTo(BigInteger.valueOf(MAX)) > 0) {
+			throw new ParameterException(String.format(AetherImgMaker.messages.getString("param-out-of-range-format"), name, MIN, MAX, value));
+		}
+	}
+	
+}
\ No newline at end of file
@@ -48,13 +48,12 @@ public class BigFractionGrayscaleMap implements BoundedColorMap<BigFraction> {
 	}
 	
 	@Override
-	public Color getColor(BigFraction value) throws IllegalArgumentException {
+	public int getRgb(BigFraction value) throws IllegalArgumentException {
 		if (value.compareTo(minValue) < 0 || value.compareTo(maxValue) > 0)
 			throw new IllegalArgumentException("The value " + value + " is out of the [" + minValue + ", " + maxValue + "] range");
 		@SuppressWarnings("deprecation")
 		float brightness = (brightnessRange.multiply(value.subtract(minValue)).divide(range).bigDecimalValue(7, BigDecimal.ROUND_HALF_UP).floatValue() + minBrightness)/255;
-		Color color = new Color(Color.HSBtoRGB(0, 0, brightness));
-		return color;
+		return Color.HSBtoRGB(0, 0, brightness);
 	}
 
 	@Override
@@ -55,14 +55,13 @@ public class BigFractionHueMap implements BoundedColorMap<BigFraction> {
 
 	
 	@Override
-	public Color getColor(BigFraction value) throws IllegalArgumentException {
+	public int getRgb(BigFraction value) throws IllegalArgumentException {
 		if (value.compareTo(minValue) < 0 || value.compareTo(maxValue) > 0)
 			throw new IllegalArgumentException("The value " + value + " is out of the [" + minValue + ", " + maxValue + "] range");
 		@SuppressWarnings("deprecation")
 		float hue = (hueRange.multiply(value.subtract(minValue)).divide(range).bigDecimalValue(7, BigDecimal.ROUND_HALF_UP).floatValue() + hueMargin)/255;
 		hue = (hue + (float)1/6)%1;
 		hue = 1 - hue;
-		Color color = new Color(Color.HSBtoRGB(hue, 1, 1));
-		return color;
+		return Color.HSBtoRGB(hue, 1, 1);
 	}
 }
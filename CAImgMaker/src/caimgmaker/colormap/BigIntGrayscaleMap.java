@@ -49,13 +49,12 @@ public class BigIntGrayscaleMap implements BoundedColorMap<BigInt> {
 	}
 	
 	@Override
-	public Color getColor(BigInt value) throws IllegalArgumentException {
+	public int getRgb(BigInt value) throws IllegalArgumentException {
 		if (value.compareTo(minValue) < 0 || value.compareTo(maxValue) > 0)
 			throw new IllegalArgumentException("The value " + value + " is out of the [" + minValue + ", " + maxValue + "] range");
 		float brightness = (new BigDecimal(brightnessRange.multiply(value.subtract(minValue)).bigIntegerValue())
 				.divide(range, RoundingMode.HALF_UP).floatValue() + minBrightness)/255;
-		Color color = new Color(Color.HSBtoRGB(0, 0, brightness));
-		return color;
+		return Color.HSBtoRGB(0, 0, brightness);
 	}
 
 	@Override
@@ -56,14 +56,13 @@ public class BigIntHueMap implements BoundedColorMap<BigInt> {
 
 	
 	@Override
-	public Color getColor(BigInt value) throws IllegalArgumentException {
+	public int getRgb(BigInt value) throws IllegalArgumentException {
 		if (value.compareTo(minValue) < 0 || value.compareTo(maxValue) > 0)
 			throw new IllegalArgumentException("The value " + value + " is out of the [" + minValue + ", " + maxValue + "] range");
 		float hue = (new BigDecimal(hueRange.multiply(value.subtract(minValue)).bigIntegerValue())
 				.divide(range, RoundingMode.HALF_UP).floatValue() + hueMargin)/255;
 		hue = (hue + (float)1/6)%1;
 		hue = 1 - hue;
-		Color color = new Color(Color.HSBtoRGB(hue, 1, 1));
-		return color;
+		return Color.HSBtoRGB(hue, 1, 1);
 	}
 }
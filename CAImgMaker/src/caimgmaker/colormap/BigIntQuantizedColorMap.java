@@ -0,0 +1,133 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package caimgmaker.colormap;
+
+import java.math.BigInteger;
+
+import cellularautomata.numbers.BigInt;
+
+/**
+ * A {@link BoundedColorMap} of {@link BigInt} values that computes the colors of another one only once, in a lookup table. 
+ * The values are mapped to the table with a shift computed from the bit length of the range. When the bounds fit in a long, 
+ * as they usually do, the mapping doesn't need any {@link BigInteger} arithmetic.
+ * <p>The {@link BigInt} colormaps round their colors to whole 8-bit steps, so their colors change at some values instead of gradually. 
+ * Every entry of the table takes the color of the first value of its bucket and, if the color changes within the bucket, 
+ * the value where it changes, found with a binary search, and the color from that value on. 
+ * This way every value gets the same color it gets from the source colormap, as long as the colors change monotonically 
+ * and at most once per bucket, which holds for colormaps with fewer distinct colors than the table has entries.</p>
+ * 
+ * @author Jaume
+ *
+ */
+public class BigIntQuantizedColorMap implements BoundedColorMap<BigInt> {
+	
+	private BigInt minValue;
+	private BigInt maxValue;
+	private BigInteger bigMinValue;
+	private boolean isLongRange;
+	private long longMinValue;
+	private int shift;
+	/** The colors of the first values of the buckets */
+	private int[] rgbs;
+	/** The colors of the buckets from their split differences on */
+	private int[] splitRgbs;
+	/** The differences with the minimum value where the colors of the buckets change, as unsigned longs */
+	private long[] longSplitDifferences;
+	/** The differences with the minimum value where the colors of the buckets change, when the bounds don't fit in a long */
+	private BigInteger[] bigSplitDifferences;
+	
+	public BigIntQuantizedColorMap(BoundedColorMap<BigInt> colorMap) {
+		minValue = colorMap.getMinValue();
+		maxValue = colorMap.getMaxValue();
+		bigMinValue = minValue.bigIntegerValue();
+		BigInteger bigMaxValue = maxValue.bigIntegerValue();
+		isLongRange = bigMinValue.bitLength() < Long.SIZE && bigMaxValue.bitLength() < Long.SIZE;
+		longMinValue = bigMinValue.longValue();
+		BigInteger range = bigMaxValue.subtract(bigMinValue);
+		shift = Math.max(0, range.bitLength() - LongQuantizedColorMap.MAX_TABLE_SIZE_BITS);
+		int tableSize = range.shiftRight(shift).intValue() + 1;
+		rgbs = new int[tableSize];
+		splitRgbs = new int[tableSize];
+		if (isLongRange) {
+			longSplitDifferences = new long[tableSize];
+		} else {
+			bigSplitDifferences = new BigInteger[tableSize];
+		}
+		BigInteger bucketStart = BigInteger.ZERO;
+		int startRgb = getRgb(colorMap, bucketStart);
+		for (int i = 0; i < tableSize; i++) {
+			//the colors change monotonically, so if the start of the next bucket has the same color, the whole bucket has it
+			BigInteger nextBucketStart = BigInteger.valueOf(i + 1).shiftLeft(shift);
+			BigInteger next = nextBucketStart.min(range);
+			int nextRgb = getRgb(colorMap, next);
+			BigInteger splitDifference = bucketStart;
+			if (startRgb != nextRgb) {
+				//the first value with a different color is after the start and not after the next value
+				BigInteger low = bucketStart, high = next;
+				while (high.subtract(low).compareTo(BigInteger.ONE) > 0) {
+					BigInteger middle = low.add(high).shiftRight(1);
+					if (getRgb(colorMap, middle) == startRgb) {
+						low = middle;
+					} else {
+						high = middle;
+					}
+				}
+				//if it's the start of the next bucket, no value of this one reaches it
+				splitDifference = high;
+			}
+			rgbs[i] = startRgb;
+			splitRgbs[i] = nextRgb;
+			if (isLongRange) {
+				longSplitDifferences[i] = splitDifference.longValue();
+			} else {
+				bigSplitDifferences[i] = splitDifference;
+			}
+			bucketStart = nextBucketStart;
+			startRgb = nextRgb;
+		}
+	}
+	
+	private int getRgb(BoundedColorMap<BigInt> colorMap, BigInteger difference) {
+		return colorMap.getRgb(new BigInt(bigMinValue.add(difference)));
+	}
+	
+	@Override
+	public int getRgb(BigInt value) throws IllegalArgumentException {
+		if (value.compareTo(minValue) < 0 || value.compareTo(maxValue) > 0)
+			throw new IllegalArgumentException("The value " + value + " is out of the [" + minValue + ", " + maxValue + "] range");
+		if (isLongRange) {
+			//the difference fits in an unsigned long
+			long difference = value.longValue() - longMinValue;
+			int i = (int)(difference >>> shift);
+			return Long.compareUnsigned(difference, longSplitDifferences[i]) < 0 ? rgbs[i] : splitRgbs[i];
+		}
+		BigInteger difference = value.bigIntegerValue().subtract(bigMinValue);
+		int i = difference.shiftRight(shift).intValue();
+		return difference.compareTo(bigSplitDifferences[i]) < 0 ? rgbs[i] : splitRgbs[i];
+	}
+
+	@Override
+	public BigInt getMaxValue() {
+		return maxValue;
+	}
+
+	@Override
+	public BigInt getMinValue() {
+		return minValue;
+	}
+
+}
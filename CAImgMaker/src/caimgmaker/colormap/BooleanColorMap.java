@@ -20,5 +20,17 @@ import java.awt.Color;
 
 //ColorModelRegion1D?
 public interface BooleanColorMap {
-	Color getColor(boolean value) throws Exception;
+	
+	/**
+	 * Returns the color of the value as a packed RGB int, in the same format as {@link Color#getRGB()}.
+	 * 
+	 * @param value
+	 * @return the packed RGB color
+	 */
+	int getRgb(boolean value);
+	
+	default Color getColor(boolean value) throws Exception {
+		return new Color(getRgb(value));
+	}
+	
 }
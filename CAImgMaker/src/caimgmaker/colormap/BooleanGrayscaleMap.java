@@ -19,10 +19,13 @@ package caimgmaker.colormap;
 import java.awt.Color;
 
 public class BooleanGrayscaleMap implements BooleanColorMap {
+
+	private static final int trueRgb = Color.BLACK.getRGB();
+	private static final int falseRgb = Color.WHITE.getRGB();
 	
 	@Override
-	public Color getColor(boolean value) throws IllegalArgumentException {
-		return value ? Color.BLACK : Color.WHITE;
+	public int getRgb(boolean value) {
+		return value ? trueRgb : falseRgb;
 	}
 
 }
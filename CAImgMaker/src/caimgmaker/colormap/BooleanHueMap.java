@@ -19,9 +19,12 @@ package caimgmaker.colormap;
 import java.awt.Color;
 
 public class BooleanHueMap implements BooleanColorMap {
+
+	private static final int trueRgb = Color.RED.getRGB();
+	private static final int falseRgb = Color.BLUE.getRGB();
 	
 	@Override
-	public Color getColor(boolean value) throws IllegalArgumentException {
-		return value ? Color.RED : Color.BLUE;
+	public int getRgb(boolean value) {
+		return value ? trueRgb : falseRgb;
 	}
 }
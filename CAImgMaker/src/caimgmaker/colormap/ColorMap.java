@@ -20,6 +20,16 @@ import java.awt.Color;
 
 public interface ColorMap<Object_Type> {
 	
-	Color getColor(Object_Type value) throws Exception;
+	/**
+	 * Returns the color of the value as a packed RGB int, in the same format as {@link Color#getRGB()}.
+	 * 
+	 * @param value
+	 * @return the packed RGB color
+	 */
+	int getRgb(Object_Type value);
+	
+	default Color getColor(Object_Type value) throws Exception {
+		return new Color(getRgb(value));
+	}
 	
 }
@@ -24,20 +24,21 @@ public class ColorMappedBooleanGrid2DWithException extends ColorMappedBooleanGri
 
 	protected boolean exceptionValue;
 	protected Color exceptionColor;
+	protected int exceptionRgb;
 	
 	public ColorMappedBooleanGrid2DWithException(BooleanModel2D source, BooleanColorMap colorMap, 
 			boolean exceptionValue, Color exceptionColor) {
 		super(source, colorMap);
 		this.exceptionColor = exceptionColor;
+		this.exceptionRgb = exceptionColor.getRGB();
 		this.exceptionValue = exceptionValue;
 	}
 
 	@Override
-	public Color getFromPosition(int x, int y) throws Exception {
-		boolean value = source.getFromPosition(x, y);
+	protected int getRgb(boolean value) {
 		if (value == exceptionValue) {
-			return exceptionColor;
+			return exceptionRgb;
 		}
-		return colorMap.getColor(value);
+		return colorMap.getRgb(value);
 	}
 }
@@ -29,6 +29,41 @@ public abstract class ColorMappedGrid2D<Model_Type extends Model2D> implements O
 		this.source = source;
 	}
 	
+	public Model_Type getSource() {
+		return source;
+	}
+	
+	/**
+	 * Returns the color at the given position as a packed RGB int, in the same format as {@link Color#getRGB()}.
+	 * 
+	 * @param x
+	 * @param y
+	 * @return the packed RGB color
+	 * @throws Exception
+	 */
+	public abstract int getRgbFromPosition(int x, int y) throws Exception;
+	
+	/**
+	 * Writes the colors of the positions from minX to maxX, both inclusive, of the row at y 
+	 * to the beginning of the passed array as packed RGB ints.
+	 * 
+	 * @param y
+	 * @param minX
+	 * @param maxX
+	 * @param rgbs an array with a length of at least maxX - minX + 1
+	 * @throws Exception
+	 */
+	public void getRgbRow(int y, int minX, int maxX, int[] rgbs) throws Exception {
+		for (int x = minX, i = 0; x <= maxX; x++, i++) {
+			rgbs[i] = getRgbFromPosition(x, y);
+		}
+	}
+	
+	@Override
+	public Color getFromPosition(int x, int y) throws Exception {
+		return new Color(getRgbFromPosition(x, y));
+	}
+	
 	@Override
 	public String getXLabel() {
 		return source.getXLabel();
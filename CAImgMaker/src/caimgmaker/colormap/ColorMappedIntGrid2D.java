@@ -16,13 +16,13 @@
  */
 package caimgmaker.colormap;
 
-import java.awt.Color;
-
 import cellularautomata.model2d.IntModel2D;
 
 public class ColorMappedIntGrid2D extends ColorMappedGrid2D<IntModel2D> {
 
 	protected IntColorMap colorMap;
+
+	private static final ThreadLocal<int[]> valueRowBuffer = new ThreadLocal<int[]>();
 	
 	public ColorMappedIntGrid2D(IntModel2D source, IntColorMap colorMap) {
 		super(source);
@@ -30,8 +30,32 @@ public class ColorMappedIntGrid2D extends ColorMappedGrid2D<IntModel2D> {
 	}
 
 	@Override
-	public Color getFromPosition(int x, int y) throws Exception {
-		return colorMap.getColor(source.getFromPosition(x, y));
+	public int getRgbFromPosition(int x, int y) throws Exception {
+		return getRgb(source.getFromPosition(x, y));
+	}
+	
+	@Override
+	public void getRgbRow(int y, int minX, int maxX, int[] rgbs) throws Exception {
+		int length = maxX - minX + 1;
+		int[] values = valueRowBuffer.get();
+		if (values == null || values.length < length) {
+			values = new int[length];
+			valueRowBuffer.set(values);
+		}
+		source.getRow(y, minX, maxX, values, 0);
+		for (int i = 0; i < length; i++) {
+			rgbs[i] = getRgb(values[i]);
+		}
+	}
+	
+	/**
+	 * Returns the color of the value as a packed RGB int.
+	 * 
+	 * @param value
+	 * @return the packed RGB color
+	 */
+	protected int getRgb(int value) {
+		return colorMap.getRgb(value);
 	}
 
 }
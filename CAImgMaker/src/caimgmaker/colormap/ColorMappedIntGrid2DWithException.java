@@ -24,20 +24,21 @@ public class ColorMappedIntGrid2DWithException extends ColorMappedIntGrid2D {
 
 	protected int exceptionValue;
 	protected Color exceptionColor;
+	protected int exceptionRgb;
 	
 	public ColorMappedIntGrid2DWithException(IntModel2D source, IntColorMap colorMap, 
 			int exceptionValue, Color exceptionColor) {
 		super(source, colorMap);
 		this.exceptionColor = exceptionColor;
+		this.exceptionRgb = exceptionColor.getRGB();
 		this.exceptionValue = exceptionValue;
 	}
 
 	@Override
-	public Color getFromPosition(int x, int y) throws Exception {
-		int value = source.getFromPosition(x, y);
+	protected int getRgb(int value) {
 		if (value == exceptionValue) {
-			return exceptionColor;
+			return exceptionRgb;
 		}
-		return colorMap.getColor(value);
+		return colorMap.getRgb(value);
 	}
 }
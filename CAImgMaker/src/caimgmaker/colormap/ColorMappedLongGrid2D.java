@@ -16,13 +16,13 @@
  */
 package caimgmaker.colormap;
 
-import java.awt.Color;
-
 import cellularautomata.model2d.LongModel2D;
 
 public class ColorMappedLongGrid2D extends ColorMappedGrid2D<LongModel2D> {
 
 	protected LongColorMap colorMap;
+
+	private static final ThreadLocal<long[]> valueRowBuffer = new ThreadLocal<long[]>();
 	
 	public ColorMappedLongGrid2D(LongModel2D source, LongColorMap colorMap) {
 		super(source);
@@ -30,7 +30,31 @@ public class ColorMappedLongGrid2D extends ColorMappedGrid2D<LongModel2D> {
 	}
 
 	@Override
-	public Color getFromPosition(int x, int y) throws Exception {
-		return colorMap.getColor(source.getFromPosition(x, y));
+	public int getRgbFromPosition(int x, int y) throws Exception {
+		return getRgb(source.getFromPosition(x, y));
+	}
+	
+	@Override
+	public void getRgbRow(int y, int minX, int maxX, int[] rgbs) throws Exception {
+		int length = maxX - minX + 1;
+		long[] values = valueRowBuffer.get();
+		if (values == null || values.length < length) {
+			values = new long[length];
+			valueRowBuffer.set(values);
+		}
+		source.getRow(y, minX, maxX, values, 0);
+		for (int i = 0; i < length; i++) {
+			rgbs[i] = getRgb(values[i]);
+		}
+	}
+	
+	/**
+	 * Returns the color of the value as a packed RGB int.
+	 * 
+	 * @param value
+	 * @return the packed RGB color
+	 */
+	protected int getRgb(long value) {
+		return colorMap.getRgb(value);
 	}
 }
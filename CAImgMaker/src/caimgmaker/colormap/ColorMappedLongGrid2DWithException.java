@@ -24,20 +24,21 @@ public class ColorMappedLongGrid2DWithException extends ColorMappedLongGrid2D {
 
 	protected long exceptionValue;
 	protected Color exceptionColor;
+	protected int exceptionRgb;
 	
 	public ColorMappedLongGrid2DWithException(LongModel2D source, LongColorMap colorMap, 
 			long exceptionValue, Color exceptionColor) {
 		super(source, colorMap);
 		this.exceptionColor = exceptionColor;
+		this.exceptionRgb = exceptionColor.getRGB();
 		this.exceptionValue = exceptionValue;
 	}
 
 	@Override
-	public Color getFromPosition(int x, int y) throws Exception {
-		long value = source.getFromPosition(x, y);
+	protected int getRgb(long value) {
 		if (value == exceptionValue) {
-			return exceptionColor;
+			return exceptionRgb;
 		}
-		return colorMap.getColor(value);
+		return colorMap.getRgb(value);
 	}
 }
@@ -16,13 +16,15 @@
  */
 package caimgmaker.colormap;
 
-import java.awt.Color;
+import java.util.Arrays;
 
 import cellularautomata.model2d.ObjectModel2D;
 
 public class ColorMappedObjectGrid2D<Object_Type> extends ColorMappedGrid2D<ObjectModel2D<Object_Type>> {
 
 	protected ColorMap<Object_Type> colorMap;
+
+	private static final ThreadLocal<Object[]> valueRowBuffer = new ThreadLocal<Object[]>();
 	
 	public ColorMappedObjectGrid2D(ObjectModel2D<Object_Type> source, ColorMap<Object_Type> colorMap) {
 		super(source);
@@ -30,7 +32,34 @@ public class ColorMappedObjectGrid2D<Object_Type> extends ColorMappedGrid2D<Obje
 	}
 
 	@Override
-	public Color getFromPosition(int x, int y) throws Exception {
-		return colorMap.getColor(source.getFromPosition(x, y));
+	public int getRgbFromPosition(int x, int y) throws Exception {
+		return getRgb(source.getFromPosition(x, y));
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Override
+	public void getRgbRow(int y, int minX, int maxX, int[] rgbs) throws Exception {
+		int length = maxX - minX + 1;
+		Object_Type[] values = (Object_Type[]) valueRowBuffer.get();
+		if (values == null || values.length < length) {
+			values = (Object_Type[]) new Object[length];
+			valueRowBuffer.set(values);
+		}
+		source.getRow(y, minX, maxX, values, 0);
+		for (int i = 0; i < length; i++) {
+			rgbs[i] = getRgb(values[i]);
+		}
+		//don't keep the grid's objects reachable
+		Arrays.fill(values, 0, length, null);
+	}
+	
+	/**
+	 * Returns the color of the value as a packed RGB int.
+	 * 
+	 * @param value
+	 * @return the packed RGB color
+	 */
+	protected int getRgb(Object_Type value) {
+		return colorMap.getRgb(value);
 	}
 }
@@ -24,20 +24,21 @@ public class ColorMappedObjectGrid2DWithException<Object_Type> extends ColorMapp
 
 	protected Object_Type exceptionValue;
 	protected Color exceptionColor;
+	protected int exceptionRgb;
 	
 	public ColorMappedObjectGrid2DWithException(ObjectModel2D<Object_Type> source, ColorMap<Object_Type> colorMap, 
 			Object_Type backgroundValue, Color backgroundColor) {
 		super(source, colorMap);
 		this.exceptionColor = backgroundColor;
+		this.exceptionRgb = backgroundColor.getRGB();
 		this.exceptionValue = backgroundValue;
 	}
 
 	@Override
-	public Color getFromPosition(int x, int y) throws Exception {
-		Object_Type value = source.getFromPosition(x, y);
+	protected int getRgb(Object_Type value) {
 		if (value.equals(exceptionValue)) {
-			return exceptionColor;
+			return exceptionRgb;
 		}
-		return colorMap.getColor(value);
+		return colorMap.getRgb(value);
 	}
 }
@@ -47,12 +47,11 @@ public class Decimal64GrayscaleMap implements BoundedColorMap<Decimal64> {
 	}
 	
 	@Override
-	public Color getColor(Decimal64 value) throws IllegalArgumentException {
+	public int getRgb(Decimal64 value) throws IllegalArgumentException {
 		if (value.compareTo(minValue) < 0 || value.compareTo(maxValue) > 0)
 			throw new IllegalArgumentException("The value " + value + " is out of the [" + minValue + ", " + maxValue + "] range");
 		float brightness = (brightnessRange.multiply(value.subtract(minValue)).divide(range).floatValue() + minBrightness)/255;
-		Color color = new Color(Color.HSBtoRGB(0, 0, brightness));
-		return color;
+		return Color.HSBtoRGB(0, 0, brightness);
 	}
 
 	@Override
@@ -59,7 +59,7 @@ public class GrayscaleMapper implements ColorMapper {
 			colorMap = new SolidColorMap<Number_Type>(new Color(0, 0, minBrightness/255));
 		} else {
 			if (minValue instanceof BigInt) {
-				colorMap = (ColorMap<Number_Type>) new BigIntGrayscaleMap((BigInt)minValue, (BigInt)maxValue, minBrightness);
+				colorMap = (ColorMap<Number_Type>) new BigIntQuantizedColorMap(new BigIntGrayscaleMap((BigInt)minValue, (BigInt)maxValue, minBrightness));
 			}  else if (minValue instanceof BigFraction) {
 				colorMap = (ColorMap<Number_Type>) new BigFractionGrayscaleMap((BigFraction)minValue, (BigFraction)maxValue, minBrightness);
 			} else if (minValue instanceof Decimal64) {
@@ -83,7 +83,7 @@ public class GrayscaleMapper implements ColorMapper {
 		if (minValue == maxValue) {
 			colorMap = new SolidColorMap<Object>(new Color(0, 0, minBrightness/255));
 		} else {
-			colorMap = new LongGrayscaleMap(minValue, maxValue, minBrightness);
+			colorMap = new LongQuantizedColorMap(new LongGrayscaleMap(minValue, maxValue, minBrightness));
 		}
 		if (outOfLowerBoundColor != null) {
 			colorMap = new LongUnboundedColorMap(colorMap, minValue, maxValue, outOfLowerBoundColor, outOfUpperBoundColor);
@@ -97,7 +97,7 @@ public class GrayscaleMapper implements ColorMapper {
 		if (minValue == maxValue) {
 			colorMap = new SolidColorMap<Object>(new Color(0, 0, minBrightness/255));
 		} else {
-			colorMap = new IntGrayscaleMap(minValue, maxValue, minBrightness);
+			colorMap = new IntQuantizedColorMap(new IntGrayscaleMap(minValue, maxValue, minBrightness));
 		}
 		if (outOfLowerBoundColor != null) {
 			colorMap = new IntUnboundedColorMap(colorMap, minValue, maxValue, outOfLowerBoundColor, outOfUpperBoundColor);
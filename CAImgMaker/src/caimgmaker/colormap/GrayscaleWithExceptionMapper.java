@@ -47,7 +47,7 @@ public class GrayscaleWithExceptionMapper implements ColorMapper {
 			colorMap = new SolidColorMap<Number_Type>(new Color(0, 0, minBrightness/255));
 		} else {
 			if (minValue instanceof BigInt) {
-				colorMap = (ColorMap<Number_Type>) new BigIntGrayscaleMap((BigInt)minValue, (BigInt)maxValue, minBrightness);
+				colorMap = (ColorMap<Number_Type>) new BigIntQuantizedColorMap(new BigIntGrayscaleMap((BigInt)minValue, (BigInt)maxValue, minBrightness));
 			}  else if (minValue instanceof BigFraction) {
 				colorMap = (ColorMap<Number_Type>) new BigFractionGrayscaleMap((BigFraction)minValue, (BigFraction)maxValue, minBrightness);
 			} else {
@@ -66,7 +66,7 @@ public class GrayscaleWithExceptionMapper implements ColorMapper {
 		if (minValue == maxValue) {
 			colorMap = new SolidColorMap<Object>(new Color(0, 0, minBrightness/255));
 		} else {
-			colorMap = new LongGrayscaleMap(minValue, maxValue, minBrightness);
+			colorMap = new LongQuantizedColorMap(new LongGrayscaleMap(minValue, maxValue, minBrightness));
 		}
 		return new ColorMappedLongGrid2DWithException(grid, colorMap, (Long)exceptionValue, exceptionColor);
 	}
@@ -77,7 +77,7 @@ public class GrayscaleWithExceptionMapper implements ColorMapper {
 		if (minValue == maxValue) {
 			colorMap = new SolidColorMap<Object>(new Color(0, 0, minBrightness/255));
 		} else {
-			colorMap = new IntGrayscaleMap(minValue, maxValue, minBrightness);
+			colorMap = new IntQuantizedColorMap(new IntGrayscaleMap(minValue, maxValue, minBrightness));
 		}
 		return new ColorMappedIntGrid2DWithException(grid, colorMap, (Integer)exceptionValue, exceptionColor);
 	}
@@ -38,7 +38,7 @@ public class HueMapper implements ColorMapper {
 			colorMap = new SolidColorMap<Number_Type>(getEmptyColor());
 		} else {
 			if (minValue instanceof BigInt) {
-				colorMap = (ColorMap<Number_Type>) new BigIntHueMap((BigInt)minValue, (BigInt)maxValue);
+				colorMap = (ColorMap<Number_Type>) new BigIntQuantizedColorMap(new BigIntHueMap((BigInt)minValue, (BigInt)maxValue));
 			}  else if (minValue instanceof BigFraction) {
 				colorMap = (ColorMap<Number_Type>) new BigFractionHueMap((BigFraction)minValue, (BigFraction)maxValue);
 			} else {
@@ -57,7 +57,7 @@ public class HueMapper implements ColorMapper {
 		if (minValue == maxValue) {
 			colorMap = new SolidColorMap<Object>(getEmptyColor());
 		} else {
-			colorMap = new LongHueMap(minValue, maxValue);
+			colorMap = new LongQuantizedColorMap(new LongHueMap(minValue, maxValue));
 		}
 		return new ColorMappedLongGrid2D(grid, colorMap);
 	}
@@ -68,7 +68,7 @@ public class HueMapper implements ColorMapper {
 		if (minValue == maxValue) {
 			colorMap = new SolidColorMap<Object>(getEmptyColor());
 		} else {
-			colorMap = new IntHueMap(minValue, maxValue);
+			colorMap = new IntQuantizedColorMap(new IntHueMap(minValue, maxValue));
 		}
 		return new ColorMappedIntGrid2D(grid, colorMap);
 	}
@@ -20,5 +20,17 @@ import java.awt.Color;
 
 //ColorModelRegion1D?
 public interface IntColorMap {
-	Color getColor(int value) throws Exception;
+	
+	/**
+	 * Returns the color of the value as a packed RGB int, in the same format as {@link Color#getRGB()}.
+	 * 
+	 * @param value
+	 * @return the packed RGB color
+	 */
+	int getRgb(int value);
+	
+	default Color getColor(int value) throws Exception {
+		return new Color(getRgb(value));
+	}
+	
 }
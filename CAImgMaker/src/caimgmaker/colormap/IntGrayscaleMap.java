@@ -41,16 +41,15 @@ public class IntGrayscaleMap implements IntBoundedColorMap {
 		}
 		this.minValue = minValue;
 		this.maxValue = maxValue;
-		range = maxValue - minValue;
+		range = (long)maxValue - minValue;
 	}
 	
 	@Override
-	public Color getColor(int value) throws IllegalArgumentException {
+	public int getRgb(int value) throws IllegalArgumentException {
 		if (value < minValue || value > maxValue)
 			throw new IllegalArgumentException("The value " + value + " is out of the [" + minValue + ", " + maxValue + "] range");
-		float brightness = (float) ((brightnessRange * ((value - minValue)/range) + minBrightness)/255);
-		Color color = new Color(Color.HSBtoRGB(0, 0, brightness));
-		return color;
+		float brightness = (float) ((brightnessRange * (((long)value - minValue)/range) + minBrightness)/255);
+		return Color.HSBtoRGB(0, 0, brightness);
 	}
 
 	@Override
@@ -30,7 +30,7 @@ public class IntHueMap implements IntBoundedColorMap {
 	public IntHueMap(int minValue, int maxValue) {
 		this.minValue = minValue;
 		this.maxValue = maxValue;
-		long range = maxValue - minValue;
+		long range = (long)maxValue - minValue;
 		if (range > 0) {
 			this.hueIncreasePerUnit = (double)hueRange/range;
 		} else {
@@ -50,13 +50,12 @@ public class IntHueMap implements IntBoundedColorMap {
 
 	
 	@Override
-	public Color getColor(int value) throws IllegalArgumentException {
+	public int getRgb(int value) throws IllegalArgumentException {
 		if (value < minValue || value > maxValue ) 
 			throw new IllegalArgumentException("Value " + value + " outside range [" + minValue + ", " + maxValue + "]");
-		float hue = (float) (((value - minValue)*hueIncreasePerUnit + HUE_MARGIN)/255);
+		float hue = (float) ((((long)value - minValue)*hueIncreasePerUnit + HUE_MARGIN)/255);
 		hue = (hue + (float)1/6)%1;
 		hue = 1 - hue;
-		Color color = new Color(Color.HSBtoRGB(hue, 1, 1));
-		return color;
+		return Color.HSBtoRGB(hue, 1, 1);
 	}
 }
@@ -23,14 +23,14 @@ public class IntUnboundedColorMap implements IntBoundedColorMap {
 	private int minValue;
 	private int maxValue;
 	private IntColorMap colorMap;
-	private Color outOfLowerBoundColor;
-	private Color outOfUpperBoundColor;
+	private int outOfLowerBoundRgb;
+	private int outOfUpperBoundRgb;
 	
 	public IntUnboundedColorMap(IntColorMap colorMap, int minValue, int maxValue, 
 			Color outOfLowerBoundColor, Color outOfUpperBoundColor) {
 		this.colorMap = colorMap;
-		this.outOfLowerBoundColor = outOfLowerBoundColor;
-		this.outOfUpperBoundColor = outOfUpperBoundColor;
+		this.outOfLowerBoundRgb = outOfLowerBoundColor.getRGB();
+		this.outOfUpperBoundRgb = outOfUpperBoundColor.getRGB();
 		if (minValue > maxValue) {
 			int swap = minValue;
 			minValue = maxValue;
@@ -41,13 +41,13 @@ public class IntUnboundedColorMap implements IntBoundedColorMap {
 	}
 	
 	@Override
-	public Color getColor(int value) throws Exception {
+	public int getRgb(int value) {
 		if (value < minValue) {
-			return outOfLowerBoundColor;
+			return outOfLowerBoundRgb;
 		} else if (value > maxValue) {
-			return outOfUpperBoundColor;
+			return outOfUpperBoundRgb;
 		} else {
-			return colorMap.getColor(value);
+			return colorMap.getRgb(value);
 		}
 	}
 
@@ -20,5 +20,17 @@ import java.awt.Color;
 
 //ColorModel1D?
 public interface LongColorMap {
-	Color getColor(long value) throws Exception;
+	
+	/**
+	 * Returns the color of the value as a packed RGB int, in the same format as {@link Color#getRGB()}.
+	 * 
+	 * @param value
+	 * @return the packed RGB color
+	 */
+	int getRgb(long value);
+	
+	default Color getColor(long value) throws Exception {
+		return new Color(getRgb(value));
+	}
+	
 }
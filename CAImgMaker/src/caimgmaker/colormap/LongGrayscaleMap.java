@@ -41,16 +41,15 @@ public class LongGrayscaleMap implements LongBoundedColorMap {
 		}
 		this.minValue = minValue;
 		this.maxValue = maxValue;
-		range = maxValue - minValue;
+		range = getDifference(maxValue, minValue);
 	}
 	
 	@Override
-	public Color getColor(long value) throws IllegalArgumentException {
+	public int getRgb(long value) throws IllegalArgumentException {
 		if (value < minValue || value > maxValue)
 			throw new IllegalArgumentException("The value " + value + " is out of the [" + minValue + ", " + maxValue + "] range");
-		float brightness = (float) ((brightnessRange * ((value - minValue)/range) + minBrightness)/255);
-		Color color = new Color(Color.HSBtoRGB(0, 0, brightness));
-		return color;
+		float brightness = (float) ((brightnessRange * (getDifference(value, minValue)/range) + minBrightness)/255);
+		return Color.HSBtoRGB(0, 0, brightness);
 	}
 
 	@Override
@@ -63,4 +62,10 @@ public class LongGrayscaleMap implements LongBoundedColorMap {
 		return minValue;
 	}
 
+	/** Returns the difference between two values, treated as unsigned so that it doesn't overflow, as a double */
+	private static double getDifference(long value, long minValue) {
+		double difference = value - minValue;
+		return difference < 0 ? difference + 0x1p64 : difference;
+	}
+
 }
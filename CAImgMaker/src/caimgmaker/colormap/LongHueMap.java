@@ -30,9 +30,8 @@ public class LongHueMap implements LongBoundedColorMap {
 	public LongHueMap(long minValue, long maxValue) {
 		this.minValue = minValue;
 		this.maxValue = maxValue;
-		long range = maxValue - minValue;
-		if (range > 0) {
-			this.hueIncreasePerUnit = (double)hueRange/range;
+		if (maxValue > minValue) {
+			this.hueIncreasePerUnit = hueRange/getDifference(maxValue, minValue);
 		} else {
 			this.hueIncreasePerUnit = 0;
 		}
@@ -50,13 +49,18 @@ public class LongHueMap implements LongBoundedColorMap {
 
 	
 	@Override
-	public Color getColor(long value) throws IllegalArgumentException {
+	public int getRgb(long value) throws IllegalArgumentException {
 		if (value < minValue || value > maxValue ) 
 			throw new IllegalArgumentException("Value " + value + " outside range [" + minValue + ", " + maxValue + "]");
-		float hue = (float) (((value - minValue)*hueIncreasePerUnit + hueMargin)/255);
+		float hue = (float) ((getDifference(value, minValue)*hueIncreasePerUnit + hueMargin)/255);
 		hue = (hue + (float)1/6)%1;
 		hue = 1 - hue;
-		Color color = new Color(Color.HSBtoRGB(hue, 1, 1));
-		return color;
+		return Color.HSBtoRGB(hue, 1, 1);
+	}
+	
+	/** Returns the difference between two values, treated as unsigned so that it doesn't overflow, as a double */
+	private static double getDifference(long value, long minValue) {
+		double difference = value - minValue;
+		return difference < 0 ? difference + 0x1p64 : difference;
 	}
 }
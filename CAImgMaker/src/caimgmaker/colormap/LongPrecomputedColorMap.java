@@ -16,44 +16,43 @@
  */
 package caimgmaker.colormap;
 
-import java.awt.Color;
-
 public class LongPrecomputedColorMap implements LongBoundedColorMap {
 	
 	private static final int maxColorCount = 100;
 	
 	private LongBoundedColorMap colorMap;
-	private Color[] colors;
+	private int[] rgbs;
 	
-	public LongPrecomputedColorMap(LongBoundedColorMap colorMap) throws Exception {
+	public LongPrecomputedColorMap(LongBoundedColorMap colorMap) {
 		this.colorMap = colorMap;
 		computeColors();
 	}
 	
-	private void computeColors() throws Exception {
+	private void computeColors() {
 		long minValue = colorMap.getMinValue(), maxValue = colorMap.getMaxValue();
 		long lRange = maxValue - minValue + 1;
 		if (lRange > maxColorCount) {
-			colors = null;
+			rgbs = null;
 			return;
 		}
 		int range = (int)lRange;
-		this.colors = new Color[range];
+		this.rgbs = new int[range];
 		int i = 0;
 		if (range == 1) {
-			colors[0] = colorMap.getColor(minValue);
+			rgbs[0] = colorMap.getRgb(minValue);
 		} else {
 			for (long value = minValue; value <= maxValue; value++, i++) {
-				colors[i] = colorMap.getColor(value);
+				rgbs[i] = colorMap.getRgb(value);
 			}
 		}
 	}
 	
-	public Color getColor(long value) throws Exception {
-		if (colors != null) {
-			return colors[(int)(value - colorMap.getMinValue())];
+	@Override
+	public int getRgb(long value) {
+		if (rgbs != null) {
+			return rgbs[(int)(value - colorMap.getMinValue())];
 		} else {
-			return colorMap.getColor(value);
+			return colorMap.getRgb(value);
 		}
 	}
 
@@ -0,0 +1,71 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package caimgmaker.colormap;
+
+/**
+ * A {@link LongBoundedColorMap} that computes the colors of another one only once, in a lookup table, and maps values to them 
+ * with an integer subtraction and shift. If the range of values is larger than the table, consecutive values share 
+ * the color of the middle value of their bucket, which is within one 8-bit step from their own color in the source colormaps.
+ * 
+ * @author Jaume
+ *
+ */
+public class LongQuantizedColorMap implements LongBoundedColorMap {
+	
+	public static final int MAX_TABLE_SIZE_BITS = 12;
+	
+	private long minValue;
+	private long maxValue;
+	private int shift;
+	private int[] rgbs;
+	
+	public LongQuantizedColorMap(LongBoundedColorMap colorMap) {
+		minValue = colorMap.getMinValue();
+		maxValue = colorMap.getMaxValue();
+		//treated as unsigned so that it doesn't overflow
+		long range = maxValue - minValue;
+		shift = Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(range) - MAX_TABLE_SIZE_BITS);
+		int tableSize = (int)(range >>> shift) + 1;
+		rgbs = new int[tableSize];
+		long halfBucket = shift == 0 ? 0 : 1L << (shift - 1);
+		for (int i = 0; i < tableSize; i++) {
+			long offset = ((long)i << shift) + halfBucket;
+			if (Long.compareUnsigned(offset, range) > 0) {
+				offset = range;
+			}
+			rgbs[i] = colorMap.getRgb(minValue + offset);
+		}
+	}
+	
+	@Override
+	public int getRgb(long value) throws IllegalArgumentException {
+		if (value < minValue || value > maxValue)
+			throw new IllegalArgumentException("The value " + value + " is out of the [" + minValue + ", " + maxValue + "] range");
+		return rgbs[(int)((value - minValue) >>> shift)];
+	}
+
+	@Override
+	public long getMaxValue() {
+		return maxValue;
+	}
+
+	@Override
+	public long getMinValue() {
+		return minValue;
+	}
+
+}
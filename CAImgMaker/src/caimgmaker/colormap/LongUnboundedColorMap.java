@@ -23,14 +23,14 @@ public class LongUnboundedColorMap implements LongBoundedColorMap {
 	private long minValue;
 	private long maxValue;
 	private LongColorMap colorMap;
-	private Color outOfLowerBoundColor;
-	private Color outOfUpperBoundColor;
+	private int outOfLowerBoundRgb;
+	private int outOfUpperBoundRgb;
 	
 	public LongUnboundedColorMap(LongColorMap colorMap, long minValue, long maxValue, 
 			Color outOfLowerBoundColor, Color outOfUpperBoundColor) {
 		this.colorMap = colorMap;
-		this.outOfLowerBoundColor = outOfLowerBoundColor;
-		this.outOfUpperBoundColor = outOfUpperBoundColor;
+		this.outOfLowerBoundRgb = outOfLowerBoundColor.getRGB();
+		this.outOfUpperBoundRgb = outOfUpperBoundColor.getRGB();
 		if (minValue > maxValue) {
 			long swap = minValue;
 			minValue = maxValue;
@@ -41,13 +41,13 @@ public class LongUnboundedColorMap implements LongBoundedColorMap {
 	}
 	
 	@Override
-	public Color getColor(long value) throws Exception {
+	public int getRgb(long value) {
 		if (value < minValue) {
-			return outOfLowerBoundColor;
+			return outOfLowerBoundRgb;
 		} else if (value > maxValue) {
-			return outOfUpperBoundColor;
+			return outOfUpperBoundRgb;
 		} else {
-			return colorMap.getColor(value);
+			return colorMap.getRgb(value);
 		}
 	}
 
@@ -0,0 +1,174 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package caimgmaker.colormap;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import cellularautomata.numbers.BigInt;
+
+/**
+ * Compares the colors of the quantized colormaps with those of the colormaps they are built from,
+ * for the values at the edges of the range, around the limits of the first and last buckets, and at random values.
+ * The long and int colormaps must be within one 8-bit step of the source in every channel, and the {@link BigInt} ones must be exact.
+ * Exits with status 1 if any color is further away.
+ *
+ * @author Jaume
+ *
+ */
+public final class QuantizedColorMapCheck {
+
+	private QuantizedColorMapCheck() {}
+
+	/** The number of values checked from each end of the range and around each end of the buckets next to them */
+	private static final int EDGE_VALUE_COUNT = 1000;
+	private static final int EDGE_BUCKET_COUNT = 16;
+	private static final int RANDOM_VALUE_COUNT = 10000;
+	private static final int MIN_BRIGHTNESS = 50;
+
+	public static void main(String[] args) {
+		boolean failed = false;
+		long[][] longRanges = {
+			{ 0, 100 },
+			{ -5000, 5000 },
+			{ -1000000000000000L, 3000000000000L },
+			{ Long.MAX_VALUE - 1000000000L, Long.MAX_VALUE },
+			{ Long.MIN_VALUE, Long.MAX_VALUE }
+		};
+		for (long[] range : longRanges) {
+			failed |= !isLongMapClose(new LongHueMap(range[0], range[1]), "hue");
+			failed |= !isLongMapClose(new LongGrayscaleMap(range[0], range[1], 0), "grayscale");
+			failed |= !isLongMapClose(new LongGrayscaleMap(range[0], range[1], MIN_BRIGHTNESS), "grayscale from " + MIN_BRIGHTNESS);
+		}
+		int[][] intRanges = {
+			{ 0, 4095 },
+			{ -7, 300000 },
+			{ Integer.MIN_VALUE, Integer.MAX_VALUE }
+		};
+		for (int[] range : intRanges) {
+			failed |= !isIntMapClose(new IntHueMap(range[0], range[1]), "hue");
+			failed |= !isIntMapClose(new IntGrayscaleMap(range[0], range[1], 0), "grayscale");
+			failed |= !isIntMapClose(new IntGrayscaleMap(range[0], range[1], MIN_BRIGHTNESS), "grayscale from " + MIN_BRIGHTNESS);
+		}
+		BigInteger longMax = BigInteger.valueOf(Long.MAX_VALUE);
+		BigInteger[][] bigIntRanges = {
+			{ BigInteger.ZERO, BigInteger.valueOf(1000) },
+			{ BigInteger.valueOf(-3000000000000L), BigInteger.valueOf(5000000000L) },
+			{ longMax.subtract(BigInteger.valueOf(1000)), longMax.add(BigInteger.valueOf(1000)) },
+			{ BigInteger.TEN.pow(25).negate(), BigInteger.TEN.pow(25) }
+		};
+		for (BigInteger[] range : bigIntRanges) {
+			BigInt min = new BigInt(range[0].toString()), max = new BigInt(range[1].toString());
+			failed |= !isBigIntMapExact(new BigIntHueMap(min, max), "hue");
+			failed |= !isBigIntMapExact(new BigIntGrayscaleMap(min, max, 0), "grayscale");
+			failed |= !isBigIntMapExact(new BigIntGrayscaleMap(min, max, MIN_BRIGHTNESS), "grayscale from " + MIN_BRIGHTNESS);
+		}
+		if (failed) {
+			System.exit(1);
+		}
+	}
+
+	private static boolean isLongMapClose(LongBoundedColorMap colorMap, String name) {
+		LongQuantizedColorMap quantizedColorMap = new LongQuantizedColorMap(colorMap);
+		long minValue = colorMap.getMinValue();
+		int maxDifference = 0;
+		for (BigInteger offset : getOffsets(BigInteger.valueOf(colorMap.getMaxValue()).subtract(BigInteger.valueOf(minValue)))) {
+			long value = minValue + offset.longValue();
+			maxDifference = Math.max(maxDifference, getChannelDifference(colorMap.getRgb(value), quantizedColorMap.getRgb(value)));
+		}
+		return report("long " + name, minValue, colorMap.getMaxValue(), maxDifference, 1);
+	}
+
+	private static boolean isIntMapClose(IntBoundedColorMap colorMap, String name) {
+		IntQuantizedColorMap quantizedColorMap = new IntQuantizedColorMap(colorMap);
+		int minValue = colorMap.getMinValue();
+		int maxDifference = 0;
+		for (BigInteger offset : getOffsets(BigInteger.valueOf((long)colorMap.getMaxValue() - minValue))) {
+			int value = (int)(minValue + offset.longValue());
+			maxDifference = Math.max(maxDifference, getChannelDifference(colorMap.getRgb(value), quantizedColorMap.getRgb(value)));
+		}
+		return report("int " + name, minValue, colorMap.getMaxValue(), maxDifference, 1);
+	}
+
+	private static boolean isBigIntMapExact(BoundedColorMap<BigInt> colorMap, String name) {
+		BigIntQuantizedColorMap quantizedColorMap = new BigIntQuantizedColorMap(colorMap);
+		BigInteger minValue = colorMap.getMinValue().bigIntegerValue();
+		int maxDifference = 0;
+		for (BigInteger offset : getOffsets(colorMap.getMaxValue().bigIntegerValue().subtract(minValue))) {
+			BigInt value = new BigInt(minValue.add(offset).toString());
+			maxDifference = Math.max(maxDifference, getChannelDifference(colorMap.getRgb(value), quantizedColorMap.getRgb(value)));
+		}
+		return report("BigInt " + name, colorMap.getMinValue(), colorMap.getMaxValue(), maxDifference, 0);
+	}
+
+	/**
+	 * Returns the differences with the minimum value of the values to check in a range.
+	 *
+	 * @param range the difference between the maximum and the minimum values
+	 * @return the differences, all between zero and the range
+	 */
+	private static List<BigInteger> getOffsets(BigInteger range) {
+		List<BigInteger> offsets = new ArrayList<BigInteger>();
+		BigInteger edgeValueCount = BigInteger.valueOf(EDGE_VALUE_COUNT);
+		if (range.compareTo(edgeValueCount.shiftLeft(1)) <= 0) {
+			for (BigInteger offset = BigInteger.ZERO; offset.compareTo(range) <= 0; offset = offset.add(BigInteger.ONE)) {
+				offsets.add(offset);
+			}
+			return offsets;
+		}
+		for (int i = 0; i < EDGE_VALUE_COUNT; i++) {
+			offsets.add(BigInteger.valueOf(i));
+			offsets.add(range.subtract(BigInteger.valueOf(i)));
+		}
+		//the same shift as the quantized colormaps
+		int shift = Math.max(0, range.bitLength() - LongQuantizedColorMap.MAX_TABLE_SIZE_BITS);
+		int lastBucket = range.shiftRight(shift).intValue();
+		for (int i = 1; i <= EDGE_BUCKET_COUNT; i++) {
+			for (int bucket : new int[] { i, lastBucket - i + 1 }) {
+				BigInteger bucketStart = BigInteger.valueOf(bucket).shiftLeft(shift);
+				for (int j = -1; j <= 1; j++) {
+					BigInteger offset = bucketStart.add(BigInteger.valueOf(j));
+					if (offset.signum() >= 0 && offset.compareTo(range) <= 0) {
+						offsets.add(offset);
+					}
+				}
+			}
+		}
+		Random random = new Random(range.longValue());
+		for (int i = 0; i < RANDOM_VALUE_COUNT; i++) {
+			offsets.add(new BigInteger(range.bitLength(), random).mod(range.add(BigInteger.ONE)));
+		}
+		return offsets;
+	}
+
+	private static int getChannelDifference(int rgb, int otherRgb) {
+		int maxDifference = 0;
+		for (int shift = 0; shift < 24; shift += 8) {
+			maxDifference = Math.max(maxDifference, Math.abs(((rgb >> shift) & 0xFF) - ((otherRgb >> shift) & 0xFF)));
+		}
+		return maxDifference;
+	}
+
+	private static boolean report(String name, Object minValue, Object maxValue, int maxDifference, int allowedDifference) {
+		boolean isClose = maxDifference <= allowedDifference;
+		System.out.println(name + " [" + minValue + ", " + maxValue + "]: " + (isClose ? "OK" : "channel difference of " + maxDifference));
+		return isClose;
+	}
+
+}
@@ -21,23 +21,40 @@ import java.awt.Color;
 public class SolidColorMap<Object_Type> implements IntColorMap, LongColorMap, ColorMap<Object_Type> {
 	
 	private Color color;
+	private int rgb;
 	
 	public SolidColorMap(Color color) {
 		this.color = color;
+		rgb = color.getRGB();
 	}
 	
 	@Override
-	public Color getColor(long value) throws IllegalArgumentException {
+	public int getRgb(long value) {
+		return rgb;
+	}
+
+	@Override
+	public int getRgb(Object_Type value) {
+		return rgb;
+	}
+
+	@Override
+	public int getRgb(int value) {
+		return rgb;
+	}
+
+	@Override
+	public Color getColor(long value) {
 		return color;
 	}
 
 	@Override
-	public Color getColor(Object_Type value) throws Exception {
+	public Color getColor(int value) {
 		return color;
 	}
 
 	@Override
-	public Color getColor(int value) throws Exception {
+	public Color getColor(Object_Type value) {
 		return color;
 	}
 
@@ -25,14 +25,14 @@ public class UnboundedColorMap<Number_Type extends FieldElement<Number_Type> & C
 	private Number_Type minValue;
 	private Number_Type maxValue;
 	private ColorMap<Number_Type> colorMap;
-	private Color outOfLowerBoundColor;
-	private Color outOfUpperBoundColor;
+	private int outOfLowerBoundRgb;
+	private int outOfUpperBoundRgb;
 	
 	public UnboundedColorMap(ColorMap<Number_Type> colorMap, Number_Type minValue, Number_Type maxValue, 
 			Color outOfLowerBoundColor, Color outOfUpperBoundColor) {
 		this.colorMap = colorMap;
-		this.outOfLowerBoundColor = outOfLowerBoundColor;
-		this.outOfUpperBoundColor = outOfUpperBoundColor;
+		this.outOfLowerBoundRgb = outOfLowerBoundColor.getRGB();
+		this.outOfUpperBoundRgb = outOfUpperBoundColor.getRGB();
 		if (minValue.compareTo(maxValue) > 0) {
 			Number_Type swap = minValue;
 			minValue = maxValue;
@@ -42,13 +42,13 @@ public class UnboundedColorMap<Number_Type extends FieldElement<Number_Type> & C
 		this.maxValue = maxValue;
 	}
 	
-	public Color getColor(Number_Type value) throws Exception {
+	public int getRgb(Number_Type value) {
 		if (value.compareTo(minValue) < 0) {
-			return outOfLowerBoundColor;
+			return outOfLowerBoundRgb;
 		} else if (value.compareTo(maxValue) > 0) {
-			return outOfUpperBoundColor;
+			return outOfUpperBoundRgb;
 		} else {
-			return colorMap.getColor(value);
+			return colorMap.getRgb(value);
 		}
 	}
 
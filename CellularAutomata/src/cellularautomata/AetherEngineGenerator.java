@@ -0,0 +1,714 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import cellularautomata.CodeGeneration.TypeOfAnysotropicRegionVonNeumannNeighborWithBidirectionalSymmetries;
+import cellularautomata.CodeGeneration.TypeOfAnysotropicRegionVonNeumannNeighborhoodWithBidirectionalSymmetries;
+import cellularautomata.automata.aether.AetherUtils;
+import cellularautomata.numbers.BigInt;
+
+/**
+ * <p>Generates the source code of an implementation of the <a href="https://github.com/JaumeRibas/Aether2DImgMaker/wiki/Aether-Cellular-Automaton-Definition">Aether</a> cellular automaton
+ * specialized for a grid dimension and a numeric type, so that engines for new dimensions don't need to be written by hand.</p>
+ * <p>The generated class stores the asymmetric section of the grid in a flat primitive array, in the order of the internal indexes of
+ * {@link cellularautomata.arrays.AnisotropicLongArray}, so its backups are interchangeable with those of {@code FlatLongAether} and {@code FlatIntAether}.
+ * The positions are visited with one nested loop per axis. Every position is toppled by a method specific to its neighborhood, with the neighbors,
+ * symmetry counts and share multipliers as constants. The neighborhoods are the types found by {@link CodeGeneration.Aether#getNeighborhoodTypes(int)},
+ * split when their share multipliers differ. Every generated method is far below the size HotSpot refuses to JIT-compile.</p>
+ * <p>Usage: {@code java cellularautomata.AetherEngineGenerator {dimension} {int|long} {source folder} [{class name}] [-force]}.
+ * The class is written to the {@code cellularautomata/automata/aether} folder within the source folder, with CRLF line endings like the rest of the sources.
+ * The default class name follows the one of the hand-written engines, e.g., {@code LongAether6D}. 
+ * The engines of lower dimensions are hand-written, so generating one of those requires a different class name.
+ * An existing file is only overwritten with {@code -force}.</p>
+ * <p>The supported dimensions go from {@link #MIN_DIMENSION} to {@link #MAX_DIMENSION}. The number of neighborhood types, and with it the size of the source,
+ * roughly triples with every dimension: about 2 MB for 6D and 6 MB for 7D. The 8D source is about 21 MB and runs slower than {@code FlatLongAether},
+ * and the 9D one is about 68 MB, so those dimensions are left to {@code FlatLongAether} and {@code FlatIntAether}.</p>
+ *
+ * @author Jaume
+ *
+ */
+public final class AetherEngineGenerator {
+
+	public static final int MIN_DIMENSION = 2;
+	/** The lowest dimension without a hand-written engine, whose name is taken by default */
+	public static final int MIN_DEFAULT_NAME_DIMENSION = 6;
+	/** The greatest dimension whose generated class is source stays within a few megabytes */
+	public static final int MAX_DIMENSION = 7;
+
+	/** The number of cases of every switch that dispatches the positions to their toppling methods, to keep it below the size HotSpot compiles */
+	private static final int CASES_PER_DISPATCHER = 256;
+	private static final String PACKAGE_NAME = "cellularautomata.automata.aether";
+	/** The line separator of the sources of the repository, regardless of the system */
+	private static final String nl = "\r\n";
+	private static final String FORCE_OPTION = "-force";
+	private static final String USAGE = "Usage: java cellularautomata.AetherEngineGenerator {dimension} {int|long} {source folder} [{class name}] [" + FORCE_OPTION + "]";
+
+	private AetherEngineGenerator() {}
+
+	public static void main(String[] args) throws IOException {
+		boolean force = args.length > 0 && FORCE_OPTION.equals(args[args.length - 1]);
+		if (force) {
+			args = Arrays.copyOf(args, args.length - 1);
+		}
+		if (args.length < 3 || args.length > 4 || !("int".equals(args[1]) || "long".equals(args[1]))) {
+			System.out.println(USAGE);
+			return;
+		}
+		int dimension = Integer.parseInt(args[0]);
+		if (dimension < MIN_DIMENSION || dimension > MAX_DIMENSION) {
+			System.out.printf("The dimension must be between %d and %d. Use FlatLongAether or FlatIntAether for greater dimensions.%n", MIN_DIMENSION, MAX_DIMENSION);
+			return;
+		}
+		boolean isLong = "long".equals(args[1]);
+		String className;
+		if (args.length == 4) {
+			className = args[3];
+		} else if (dimension < MIN_DEFAULT_NAME_DIMENSION) {
+			System.out.printf("There is a hand-written engine for %d dimensions, pass a different class name for the generated one.%n", dimension);
+			return;
+		} else {
+			className = getDefaultClassName(dimension, isLong);
+		}
+		File folder = new File(args[2], PACKAGE_NAME.replace('.', File.separatorChar));
+		folder.mkdirs();
+		File file = new File(folder, className + ".java");
+		if (file.exists() && !force) {
+			System.out.printf("%s already exists, use %s to overwrite it.%n", file.getPath(), FORCE_OPTION);
+			return;
+		}
+		Files.write(file.toPath(), generate(dimension, isLong, className).getBytes(StandardCharsets.UTF_8));
+		System.out.println("Generated " + file.getPath());
+	}
+
+	/**
+	 * Returns the default name of the class generated for the given dimension and numeric type.
+	 *
+	 * @param dimension the dimension of the grid
+	 * @param isLong whether the values are {@code long} or {@code int}
+	 * @return the class name
+	 */
+	public static String getDefaultClassName(int dimension, boolean isLong) {
+		return (isLong ? "Long" : "Int") + "Aether" + dimension + "D";
+	}
+
+	/**
+	 * Returns the source code of an Aether implementation with a single source initial configuration for the given dimension and numeric type.
+	 *
+	 * @param dimension the dimension of the grid, between {@link #MIN_DIMENSION} and {@link #MAX_DIMENSION}
+	 * @param isLong whether the values are {@code long} or {@code int}
+	 * @param className the simple name of the class
+	 * @return the source code
+	 */
+	public static String generate(int dimension, boolean isLong, String className) {
+		if (dimension < MIN_DIMENSION || dimension > MAX_DIMENSION) {
+			throw new IllegalArgumentException(String.format("The dimension must be between %d and %d.", MIN_DIMENSION, MAX_DIMENSION));
+		}
+		return new EngineSource(dimension, isLong, className).build();
+	}
+
+	/**
+	 * A neighborhood with a toppling method of its own
+	 */
+	private static final class ToppledNeighborhood {
+
+		final int number;
+		final TypeOfAnysotropicRegionVonNeumannNeighborhoodWithBidirectionalSymmetries type;
+		/** The coordinates of the position closest to the origin with this neighborhood */
+		final int[] coordinates;
+
+		ToppledNeighborhood(int number, TypeOfAnysotropicRegionVonNeumannNeighborhoodWithBidirectionalSymmetries type, int[] coordinates) {
+			this.number = number;
+			this.type = type;
+			this.coordinates = coordinates;
+		}
+
+	}
+
+	private static final class EngineSource {
+
+		private final int dimension;
+		private final boolean isLong;
+		private final String className;
+		private final String valueType;
+		private final String gridClass;
+		private final String[] axisLabels;
+		/** The number of the toppling method of every type index */
+		private final int[] methodNumbers;
+		private final List<ToppledNeighborhood> neighborhoods = new ArrayList<ToppledNeighborhood>();
+		private final StringBuilder source = new StringBuilder();
+
+		EngineSource(int dimension, boolean isLong, String className) {
+			this.dimension = dimension;
+			this.isLong = isLong;
+			this.className = className;
+			valueType = isLong ? "long" : "int";
+			gridClass = isLong ? "AnisotropicLongArray" : "AnisotropicPagedIntArray";
+			axisLabels = new String[dimension];
+			for (int axis = 0; axis < dimension; axis++) {
+				axisLabels[axis] = Utils.getAxisLabel(dimension, axis);
+			}
+			int typeCount = 1;
+			for (int axis = 0; axis < dimension; axis++) {
+				typeCount *= 3;
+			}
+			methodNumbers = new int[typeCount];
+			findNeighborhoods();
+		}
+
+		/**
+		 * Assigns a toppling method to every type index.
+		 * The type index of a position has a digit in base three per axis: the difference between its coordinate and the next one,
+		 * or the coordinate itself on the last axis, capped at two. The digit of the first axis is the least significant.
+		 */
+		private void findNeighborhoods() {
+			List<TypeOfAnysotropicRegionVonNeumannNeighborhoodWithBidirectionalSymmetries> generalTypes = CodeGeneration.Aether.getNeighborhoodTypes(dimension);
+			Map<String, ToppledNeighborhood> neighborhoodsByKey = new LinkedHashMap<String, ToppledNeighborhood>();
+			List<List<ToppledNeighborhood>> neighborhoodsByGeneralType = new ArrayList<List<ToppledNeighborhood>>();
+			for (int i = 0; i < generalTypes.size(); i++) {
+				neighborhoodsByGeneralType.add(new ArrayList<ToppledNeighborhood>());
+			}
+			ToppledNeighborhood[] neighborhoodsByTypeIndex = new ToppledNeighborhood[methodNumbers.length];
+			for (int typeIndex = 0; typeIndex < methodNumbers.length; typeIndex++) {
+				int[] coordinates = getCoordinatesOfTypeIndex(typeIndex);
+				TypeOfAnysotropicRegionVonNeumannNeighborhoodWithBidirectionalSymmetries type = CodeGeneration.getTypeOfAnisotropicRegionVonNeumannNeighborhoodWithBidirectionalSymmetries(coordinates);
+				int generalTypeIndex = CodeGeneration.getIndexOfSame(generalTypes, type);
+				if (generalTypeIndex == -1) {
+					throw new IllegalStateException("Neighborhood type of position " + java.util.Arrays.toString(coordinates) + " not found.");
+				}
+				StringBuilder key = new StringBuilder().append(generalTypeIndex);
+				for (TypeOfAnysotropicRegionVonNeumannNeighborWithBidirectionalSymmetries neighbor : type.neighbors) {
+					key.append(',').append(neighbor.incomingSymmetryCount).append('/').append(neighbor.outgoingSymmetryCount);
+				}
+				ToppledNeighborhood neighborhood = neighborhoodsByKey.get(key.toString());
+				if (neighborhood == null) {
+					neighborhood = new ToppledNeighborhood(0, type, coordinates);
+					neighborhoodsByKey.put(key.toString(), neighborhood);
+					neighborhoodsByGeneralType.get(generalTypeIndex).add(neighborhood);
+				}
+				neighborhoodsByTypeIndex[typeIndex] = neighborhood;
+			}
+			//number the methods in the order of the general types
+			Map<ToppledNeighborhood, Integer> numbers = new LinkedHashMap<ToppledNeighborhood, Integer>();
+			for (List<ToppledNeighborhood> sameGeneralType : neighborhoodsByGeneralType) {
+				for (ToppledNeighborhood neighborhood : sameGeneralType) {
+					int number = neighborhoods.size() + 1;
+					numbers.put(neighborhood, number);
+					neighborhoods.add(new ToppledNeighborhood(number, neighborhood.type, neighborhood.coordinates));
+				}
+			}
+			for (int typeIndex = 0; typeIndex < methodNumbers.length; typeIndex++) {
+				methodNumbers[typeIndex] = numbers.get(neighborhoodsByTypeIndex[typeIndex]);
+			}
+		}
+
+		private int[] getCoordinatesOfTypeIndex(int typeIndex) {
+			int[] differences = new int[dimension];
+			for (int axis = 0; axis < dimension; axis++) {
+				differences[axis] = typeIndex%3;
+				typeIndex /= 3;
+			}
+			int[] coordinates = new int[dimension];
+			int lastAxis = dimension - 1;
+			coordinates[lastAxis] = differences[lastAxis];
+			for (int axis = lastAxis - 1; axis >= 0; axis--) {
+				coordinates[axis] = coordinates[axis + 1] + differences[axis];
+			}
+			return coordinates;
+		}
+
+		private EngineSource line(int indentation, String text) {
+			for (int i = 0; i < indentation; i++) {
+				source.append('\t');
+			}
+			source.append(text).append(nl);
+			return this;
+		}
+
+		private EngineSource line() {
+			source.append(nl);
+			return this;
+		}
+
+		String build() {
+			appendHeader();
+			appendFieldsAndConstructors();
+			appendNextStep();
+			appendDispatcher();
+			for (ToppledNeighborhood neighborhood : neighborhoods) {
+				appendTopplingMethod(neighborhood);
+			}
+			appendShareMethods();
+			appendModelMethods();
+			line(0, "}");
+			return source.toString();
+		}
+
+		private void appendHeader() {
+			line(0, "/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D");
+			line(0, "    Copyright (C) 2017-2025 Jaume Ribas");
+			line();
+			line(0, "    This program is free software: you can redistribute it and/or modify");
+			line(0, "    it under the terms of the GNU General Public License as published by");
+			line(0, "    the Free Software Foundation, either version 3 of the License, or");
+			line(0, "    (at your option) any later version.");
+			line();
+			line(0, "    This program is distributed in the hope that it will be useful,");
+			line(0, "    but WITHOUT ANY WARRANTY; without even the implied warranty of");
+			line(0, "    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the");
+			line(0, "    GNU General Public License for more details.");
+			line();
+			line(0, "    You should have received a copy of the GNU General Public License");
+			line(0, "    along with this program.  If not, see <http://www.gnu.org/licenses/>");
+			line(0, " */");
+			line(0, "package " + PACKAGE_NAME + ";");
+			line();
+			line(0, "import java.io.FileNotFoundException;");
+			line(0, "import java.io.IOException;");
+			line();
+			line(0, "import cellularautomata.Coordinates;");
+			line(0, "import cellularautomata.Utils;");
+			line(0, "import cellularautomata.arrays." + gridClass + ";");
+			line(0, "import cellularautomata.model.IsotropicHypercubic" + (isLong ? "Long" : "Int") + "ModelAsymmetricSection;");
+			line(0, "import cellularautomata.model.SerializableModelData;");
+			line();
+			line(0, "/**");
+			line(0, " * Implementation of the <a href=\"https://github.com/JaumeRibas/Aether2DImgMaker/wiki/Aether-Cellular-Automaton-Definition\">Aether</a> cellular automaton in "
+					+ dimension + "D with a single source initial configuration, ");
+			line(0, " * storing the asymmetric section of the grid in a flat {@code " + valueType + "} array with the internal indexes of {@link " + gridClass + "}.");
+			line(0, " * <p>This class was generated by {@link cellularautomata.AetherEngineGenerator}. Regenerate it instead of editing it.</p>");
+			line(0, " * ");
+			line(0, " * @author Jaume");
+			line(0, " *");
+			line(0, " */");
+			line(0, "public class " + className + " implements IsotropicHypercubic" + (isLong ? "Long" : "Int") + "ModelAsymmetricSection {");
+			line();
+		}
+
+		private void appendFieldsAndConstructors() {
+			String maxValue = isLong ? "Long.MAX_VALUE" : "Integer.MAX_VALUE";
+			BigInt minInitialValue = AetherUtils.getMinAllowedSingleSourceValue(dimension, isLong ? BigInt.valueOf(Long.MAX_VALUE) : BigInt.valueOf(Integer.MAX_VALUE));
+			String minInitialValueLiteral = minInitialValue.toString() + (isLong ? "L" : "");
+			line(1, "public static final " + valueType + " MAX_INITIAL_VALUE = " + maxValue + ";");
+			line(1, "public static final " + valueType + " MIN_INITIAL_VALUE = " + minInitialValueLiteral + ";");
+			line();
+			line(1, "private static final int GRID_DIMENSION = " + dimension + ";");
+			line();
+			line(1, "/** The number of the toppling method of every neighborhood type index, see {@link #nextStep()} */");
+			StringBuilder table = new StringBuilder();
+			for (int i = 0; i < methodNumbers.length; i++) {
+				table.append(getCharLiteral(methodNumbers[i]));
+			}
+			line(1, "private static final char[] TOPPLING_METHOD_NUMBERS = \"" + table + "\".toCharArray();");
+			line();
+			line(1, "private final " + valueType + " initialValue;");
+			line(1, "private long step;");
+			line(1, "private int maxCoordinate;");
+			line(1, "private Boolean changed = null;");
+			line(1, "/** The side of the grid, which holds the positions with coordinates smaller than it */");
+			line(1, "private int side;");
+			line(1, "/** The asymmetric section of the grid */");
+			line(1, "private " + valueType + "[] grid;");
+			line(1, "/** The offsets of every coordinate on every axis. The index of a position within the grid is the sum of the offsets of its coordinates. */");
+			line(1, "private int[][] offsets;");
+			line();
+			line(1, "/**");
+			line(1, " * Creates an instance with the given initial value");
+			line(1, " * ");
+			line(1, " * @param initialValue the value at the origin at step 0");
+			line(1, " */");
+			line(1, "public " + className + "(" + valueType + " initialValue) {");
+			line(2, "if (initialValue < MIN_INITIAL_VALUE) {//to prevent overflow of " + valueType + " type");
+			line(3, "throw new IllegalArgumentException(String.format(\"Initial value cannot be smaller than %,d. Use a greater initial value or a different implementation.\", MIN_INITIAL_VALUE));");
+			line(2, "}");
+			line(2, "this.initialValue = initialValue;");
+			line(2, "side = 3;");
+			line(2, "offsets = buildOffsets(side);");
+			line(2, "grid = new " + valueType + "[offsets[0][side]];");
+			line(2, "grid[0] = initialValue;");
+			line(2, "maxCoordinate = 0;");
+			line(2, "step = 0;");
+			line(1, "}");
+			line();
+			line(1, "/**");
+			line(1, " * Creates an instance restoring a backup");
+			line(1, " * ");
+			line(1, " * @param backupPath the path to the backup file to restore.");
+			line(1, " * @throws IOException ");
+			line(1, " * @throws ClassNotFoundException ");
+			line(1, " * @throws FileNotFoundException ");
+			line(1, " */");
+			line(1, "public " + className + "(String backupPath) throws FileNotFoundException, ClassNotFoundException, IOException {");
+			line(2, "SerializableModelData data = (SerializableModelData) Utils.deserializeFromFile(backupPath);");
+			line(2, "data = SerializableModelData.updateDataFormat(data);");
+			line(2, "if (!SerializableModelData.Models.AETHER.equals(data.get(SerializableModelData.MODEL))) {");
+			line(3, "throw new IllegalArgumentException(\"The backup file contains a different model.\");");
+			line(2, "}");
+			line(2, "if (!SerializableModelData.InitialConfigurationTypes.SINGLE_SOURCE_AT_ORIGIN.equals(data.get(SerializableModelData.INITIAL_CONFIGURATION_TYPE))");
+			line(4, "|| !SerializableModelData.InitialConfigurationImplementationTypes." + (isLong ? "LONG" : "INTEGER") + ".equals(data.get(SerializableModelData.INITIAL_CONFIGURATION_IMPLEMENTATION_TYPE))");
+			line(4, "|| !SerializableModelData.GridTypes.INFINITE_REGULAR.equals(data.get(SerializableModelData.GRID_TYPE))");
+			line(4, "|| !Integer.valueOf(GRID_DIMENSION).equals(data.get(SerializableModelData.GRID_DIMENSION))");
+			line(4, "|| !SerializableModelData.GridImplementationTypes." + getGridImplementationType() + ".equals(data.get(SerializableModelData.GRID_IMPLEMENTATION_TYPE))");
+			line(4, "|| !SerializableModelData.CoordinateBoundsImplementationTypes.MAX_COORDINATE_INTEGER.equals(data.get(SerializableModelData.COORDINATE_BOUNDS_IMPLEMENTATION_TYPE))");
+			line(4, "|| !data.contains(SerializableModelData.CONFIGURATION_CHANGED_FROM_PREVIOUS_STEP)) {");
+			line(3, "throw new IllegalArgumentException(\"The backup file's configuration is not compatible with this class.\");");
+			line(2, "}");
+			line(2, "initialValue = (" + valueType + ") data.get(SerializableModelData.INITIAL_CONFIGURATION);");
+			line(2, gridClass + " backupGrid = (" + gridClass + ") data.get(SerializableModelData.GRID);");
+			line(2, "maxCoordinate = (int) data.get(SerializableModelData.COORDINATE_BOUNDS);");
+			line(2, "side = maxCoordinate + 3;");
+			line(2, "offsets = buildOffsets(side);");
+			line(2, "grid = new " + valueType + "[offsets[0][side]];");
+			line(2, "backupGrid.getValues(0, grid, (int) Math.min(grid.length, backupGrid.getPositionCount()));");
+			line(2, "step = (long) data.get(SerializableModelData.STEP);");
+			line(2, "changed = (Boolean) data.get(SerializableModelData.CONFIGURATION_CHANGED_FROM_PREVIOUS_STEP);");
+			line(1, "}");
+			line();
+			line(1, "/**");
+			line(1, " * Returns the offsets of every coordinate, from zero to the given side, on every axis.");
+			line(1, " * The offsets don't depend on the side, so the ones of a smaller side are a prefix of these.");
+			line(1, " * ");
+			line(1, " * @param side the side");
+			line(1, " * @return the offsets");
+			line(1, " */");
+			line(1, "private static int[][] buildOffsets(int side) {");
+			line(2, "int[][] offsets = new int[GRID_DIMENSION][side + 1];");
+			line(2, "int lastAxis = GRID_DIMENSION - 1;");
+			line(2, "for (int i = 0; i <= side; i++) {");
+			line(3, "offsets[lastAxis][i] = i;");
+			line(2, "}");
+			line(2, "for (int axis = lastAxis - 1; axis >= 0; axis--) {");
+			line(3, "int[] axisOffsets = offsets[axis];");
+			line(3, "int[] nextAxisOffsets = offsets[axis + 1];");
+			line(3, "for (int i = 1; i <= side; i++) {");
+			line(4, "long offset = (long) axisOffsets[i - 1] + nextAxisOffsets[i];");
+			line(4, "if (offset > Integer.MAX_VALUE - 8) {");
+			line(5, "throw new UnsupportedOperationException(\"The grid is too big for this implementation. Use Flat" + (isLong ? "Long" : "Int") + "Aether instead.\");");
+			line(4, "}");
+			line(4, "axisOffsets[i] = (int) offset;");
+			line(3, "}");
+			line(2, "}");
+			line(2, "return offsets;");
+			line(1, "}");
+			line();
+		}
+
+		/**
+		 * Returns the escape sequence of the given character within a string literal.
+		 * Line terminators, quotes and backslashes can't be written as Unicode escapes because those are translated before the source is parsed.
+		 *
+		 * @param character the character
+		 * @return the escape sequence
+		 */
+		private static String getCharLiteral(int character) {
+			switch (character) {
+			case '\n':
+				return "\\n";
+			case '\r':
+				return "\\r";
+			case '"':
+				return "\\\"";
+			case '\\':
+				return "\\\\";
+			default:
+				return String.format("\\u%04x", character);
+			}
+		}
+
+		private String getGridImplementationType() {
+			return isLong ? "ANYSOTROPIC_LONG_ARRAY_CLASS_INSTANCE" : "ANYSOTROPIC_PAGED_INT_ARRAY_CLASS_INSTANCE";
+		}
+
+		private String getArrayParameters() {
+			return valueType + "[] grid, " + valueType + "[] newGrid, int index, int[] neighborIndexDeltas, "
+					+ valueType + "[] relevantNeighborValues, int[] relevantNeighborIndexes, int[] relevantNeighborSymmetryCounts, int[] relevantNeighborShareMultipliers, int[] sortedNeighborsIndexes, "
+					+ valueType + "[] relevantNeighborShares";
+		}
+
+		private String getArrayArguments() {
+			return "grid, newGrid, index, neighborIndexDeltas, relevantNeighborValues, relevantNeighborIndexes, relevantNeighborSymmetryCounts, relevantNeighborShareMultipliers, sortedNeighborsIndexes, relevantNeighborShares";
+		}
+
+		private void appendNextStep() {
+			int maxNeighborCount = 2*dimension;
+			int lastAxis = dimension - 1;
+			String firstLabel = axisLabels[0];
+			line(1, "@Override");
+			line(1, "public Boolean nextStep() {");
+			line(2, "//the positions next to the maximum coordinate can topple into negative values, and the next step can reach one coordinate further");
+			line(2, "int lastCoordinate = maxCoordinate + 1;");
+			line(2, "int newSide = lastCoordinate + 3;");
+			line(2, "if (offsets[0].length <= newSide) {");
+			line(3, "offsets = buildOffsets(newSide + newSide/8 + 1);");
+			line(2, "}");
+			line(2, "int[][] offsets = this.offsets;");
+			line(2, valueType + "[] grid = this.grid;");
+			line(2, valueType + "[] newGrid = new " + valueType + "[offsets[0][newSide]];");
+			line(2, "int[] neighborIndexDeltas = new int[" + maxNeighborCount + "];");
+			line(2, valueType + "[] relevantNeighborValues = new " + valueType + "[" + maxNeighborCount + "];");
+			line(2, "int[] relevantNeighborIndexes = new int[" + maxNeighborCount + "];");
+			line(2, "int[] relevantNeighborSymmetryCounts = new int[" + maxNeighborCount + "];");
+			line(2, "int[] relevantNeighborShareMultipliers = new int[" + maxNeighborCount + "];");
+			line(2, "int[] sortedNeighborsIndexes = new int[" + maxNeighborCount + "];");
+			line(2, valueType + "[] relevantNeighborShares = new " + valueType + "[" + maxNeighborCount + "];");
+			line(2, "boolean changed = false;");
+			line(2, "boolean maxCoordinateReached = false;");
+			line(2, "int index = 0;");
+			int indentation = 2;
+			for (int axis = 0; axis < dimension; axis++) {
+				String label = axisLabels[axis];
+				String max = axis == 0 ? "lastCoordinate" : axisLabels[axis - 1];
+				if (axis == lastAxis) {
+					line(indentation, "for (int " + label + " = 0; " + label + " <= " + max + "; " + label + "++, index++) {");
+				} else {
+					line(indentation, "for (int " + label + " = 0; " + label + " <= " + max + "; " + label + "++) {");
+				}
+				indentation++;
+				if (axis < lastAxis) {
+					line(indentation, "int[] " + label + "Offsets = offsets[" + axis + "];");
+					line(indentation, "neighborIndexDeltas[" + 2*axis + "] = " + label + "Offsets[" + label + " + 1] - " + label + "Offsets[" + label + "];");
+					line(indentation, "if (" + label + " > 0) {");
+					line(indentation + 1, "neighborIndexDeltas[" + (2*axis + 1) + "] = " + label + "Offsets[" + label + " - 1] - " + label + "Offsets[" + label + "];");
+					line(indentation, "}");
+				}
+				if (axis > 0) {
+					String previousLabel = axisLabels[axis - 1];
+					String typeIndexTerm = "Math.min(" + previousLabel + " - " + label + ", 2)" + getMultiplier(axis - 1);
+					String partialTypeIndex = axis == 1 ? typeIndexTerm : previousLabel + "TypeIndex + " + typeIndexTerm;
+					if (axis < lastAxis) {
+						line(indentation, "int " + label + "TypeIndex = " + partialTypeIndex + ";");
+					} else {
+						line(indentation, "int typeIndex = " + partialTypeIndex + " + Math.min(" + label + ", 2)" + getMultiplier(axis) + ";");
+					}
+				}
+			}
+			line(indentation, "if (topplePositionOfType(TOPPLING_METHOD_NUMBERS[typeIndex], " + getArrayArguments() + ")) {");
+			line(indentation + 1, "changed = true;");
+			line(indentation + 1, "if (" + firstLabel + " >= maxCoordinate) {");
+			line(indentation + 2, "maxCoordinateReached = true;");
+			line(indentation + 1, "}");
+			line(indentation, "}");
+			for (int axis = lastAxis; axis >= 0; axis--) {
+				indentation--;
+				line(indentation, "}");
+			}
+			line(2, "if (maxCoordinateReached) {");
+			line(3, "maxCoordinate++;");
+			line(2, "}");
+			line(2, "this.grid = newGrid;");
+			line(2, "side = newSide;");
+			line(2, "step++;");
+			line(2, "this.changed = changed;");
+			line(2, "return changed;");
+			line(1, "}");
+			line();
+		}
+
+		private String getMultiplier(int axis) {
+			int multiplier = 1;
+			for (int i = 0; i < axis; i++) {
+				multiplier *= 3;
+			}
+			return multiplier == 1 ? "" : "*" + multiplier;
+		}
+
+		private void appendDispatcher() {
+			int methodCount = neighborhoods.size();
+			if (methodCount <= CASES_PER_DISPATCHER) {
+				appendDispatcher("topplePositionOfType", 1, methodCount);
+				return;
+			}
+			//a single switch with a case per method would be too big to be JIT-compiled
+			line(1, "private static boolean topplePositionOfType(int type, " + getArrayParameters() + ") {");
+			for (int from = 1; from <= methodCount; from += CASES_PER_DISPATCHER) {
+				int to = Math.min(from + CASES_PER_DISPATCHER - 1, methodCount);
+				if (to < methodCount) {
+					line(2, "if (type <= " + to + ") {");
+					line(3, "return " + getDispatcherName(from, to) + "(type, " + getArrayArguments() + ");");
+					line(2, "}");
+				} else {
+					line(2, "return " + getDispatcherName(from, to) + "(type, " + getArrayArguments() + ");");
+				}
+			}
+			line(1, "}");
+			line();
+			for (int from = 1; from <= methodCount; from += CASES_PER_DISPATCHER) {
+				int to = Math.min(from + CASES_PER_DISPATCHER - 1, methodCount);
+				appendDispatcher(getDispatcherName(from, to), from, to);
+			}
+		}
+
+		private static String getDispatcherName(int from, int to) {
+			return "topplePositionOfTypes" + from + "To" + to;
+		}
+
+		private void appendDispatcher(String name, int from, int to) {
+			line(1, "private static boolean " + name + "(int type, " + getArrayParameters() + ") {");
+			line(2, "switch (type) {");
+			for (int number = from; number <= to; number++) {
+				line(2, "case " + number + ":");
+				line(3, "return topplePositionOfType" + number + "(" + getArrayArguments() + ");");
+			}
+			line(2, "default:");
+			line(3, "throw new IllegalArgumentException(\"Unknown neighborhood type \" + type + \".\");");
+			line(2, "}");
+			line(1, "}");
+			line();
+		}
+
+		private void appendTopplingMethod(ToppledNeighborhood neighborhood) {
+			int lastAxis = dimension - 1;
+			StringBuilder coordinates = new StringBuilder();
+			for (int axis = 0; axis < dimension; axis++) {
+				if (axis > 0) {
+					coordinates.append(" | ");
+				}
+				coordinates.append(neighborhood.coordinates[axis]);
+			}
+			line(1, "private static boolean topplePositionOfType" + neighborhood.number + "(" + getArrayParameters() + ") {");
+			line(2, "// " + coordinates);
+			line(2, valueType + " value = grid[index];");
+			line(2, "int count = 0;");
+			for (TypeOfAnysotropicRegionVonNeumannNeighborWithBidirectionalSymmetries neighbor : neighborhood.type.neighbors) {
+				String delta;
+				if (neighbor.axisIndex == lastAxis) {
+					delta = neighbor.isPositiveDirection ? " + 1" : " - 1";
+				} else {
+					delta = " + neighborIndexDeltas[" + (2*neighbor.axisIndex + (neighbor.isPositiveDirection ? 0 : 1)) + "]";
+				}
+				line(2, "count = addNeighborIfSmaller(grid, value, index" + delta + ", " + neighbor.incomingSymmetryCount + ", " + neighbor.outgoingSymmetryCount
+						+ ", count, relevantNeighborValues, relevantNeighborIndexes, relevantNeighborSymmetryCounts, relevantNeighborShareMultipliers);//"
+						+ (neighbor.isPositiveDirection ? "greater " : "smaller ") + axisLabels[neighbor.axisIndex]);
+			}
+			line(2, "return topplePosition(newGrid, index, value, relevantNeighborValues, relevantNeighborIndexes, relevantNeighborSymmetryCounts, relevantNeighborShareMultipliers, sortedNeighborsIndexes, relevantNeighborShares, count);");
+			line(1, "}");
+			line();
+		}
+
+		private void appendShareMethods() {
+			line(1, "private static int addNeighborIfSmaller(" + valueType + "[] grid, " + valueType + " value, int neighborIndex, int symmetryCount, int shareMultiplier, int relevantAsymmetricNeighborCount, ");
+			line(3, valueType + "[] relevantNeighborValues, int[] relevantNeighborIndexes, int[] relevantNeighborSymmetryCounts, int[] relevantNeighborShareMultipliers) {");
+			line(2, valueType + " neighborValue = grid[neighborIndex];");
+			line(2, "if (neighborValue < value) {");
+			line(3, "relevantNeighborValues[relevantAsymmetricNeighborCount] = neighborValue;");
+			line(3, "relevantNeighborIndexes[relevantAsymmetricNeighborCount] = neighborIndex;");
+			line(3, "relevantNeighborSymmetryCounts[relevantAsymmetricNeighborCount] = symmetryCount;");
+			line(3, "relevantNeighborShareMultipliers[relevantAsymmetricNeighborCount] = shareMultiplier;");
+			line(3, "relevantAsymmetricNeighborCount++;");
+			line(2, "}");
+			line(2, "return relevantAsymmetricNeighborCount;");
+			line(1, "}");
+			line();
+			line(1, "private static boolean topplePosition(" + valueType + "[] newGrid, int index, " + valueType + " value, " + valueType + "[] relevantNeighborValues, int[] relevantNeighborIndexes, ");
+			line(3, "int[] relevantNeighborSymmetryCounts, int[] relevantNeighborShareMultipliers, int[] sortedNeighborsIndexes, " + valueType + "[] relevantNeighborShares, int relevantAsymmetricNeighborCount) {");
+			line(2, valueType + " newValue = AetherUtils.splitValueAmongSmallerNeighbors(value, relevantNeighborValues, relevantNeighborSymmetryCounts, relevantAsymmetricNeighborCount, sortedNeighborsIndexes, relevantNeighborShares);");
+			line(2, "newGrid[index] += newValue;");
+			line(2, "for (int i = 0; i < relevantAsymmetricNeighborCount; i++) {");
+			line(3, valueType + " share = relevantNeighborShares[i];");
+			line(3, "if (share != 0) {");
+			line(4, "newGrid[relevantNeighborIndexes[i]] += share*relevantNeighborShareMultipliers[i];");
+			line(3, "}");
+			line(2, "}");
+			line(2, "return newValue != value;");
+			line(1, "}");
+			line();
+		}
+
+		private void appendModelMethods() {
+			String modelType = isLong ? "long" : "int";
+			line(1, "@Override");
+			line(1, "public int getGridDimension() {");
+			line(2, "return GRID_DIMENSION;");
+			line(1, "}");
+			line();
+			line(1, "@Override");
+			line(1, "public " + modelType + " getFromPosition(Coordinates coordinates) {");
+			line(2, "int index = 0;");
+			line(2, "for (int axis = 0; axis < GRID_DIMENSION; axis++) {");
+			line(3, "index += offsets[axis][coordinates.get(axis)];");
+			line(2, "}");
+			line(2, "return grid[index];");
+			line(1, "}");
+			line();
+			line(1, "@Override");
+			line(1, "public Boolean isChanged() {");
+			line(2, "return changed;");
+			line(1, "}");
+			line();
+			line(1, "@Override");
+			line(1, "public int getSize() {");
+			line(2, "return maxCoordinate;");
+			line(1, "}");
+			line();
+			line(1, "@Override");
+			line(1, "public long getStep() {");
+			line(2, "return step;");
+			line(1, "}");
+			line();
+			line(1, "/**");
+			line(1, " * Returns the initial value");
+			line(1, " * ");
+			line(1, " * @return the value at the origin at step 0");
+			line(1, " */");
+			line(1, "public " + valueType + " getInitialValue() {");
+			line(2, "return initialValue;");
+			line(1, "}");
+			line();
+			line(1, "@Override");
+			line(1, "public void backUp(String backupPath, String backupName) throws FileNotFoundException, IOException {");
+			line(2, gridClass + " backupGrid = new " + gridClass + "(GRID_DIMENSION, side);");
+			line(2, "backupGrid.setValues(0, grid, grid.length);");
+			line(2, "SerializableModelData data = new SerializableModelData();");
+			line(2, "data.put(SerializableModelData.MODEL, SerializableModelData.Models.AETHER);");
+			line(2, "data.put(SerializableModelData.INITIAL_CONFIGURATION, initialValue);");
+			line(2, "data.put(SerializableModelData.INITIAL_CONFIGURATION_TYPE, SerializableModelData.InitialConfigurationTypes.SINGLE_SOURCE_AT_ORIGIN);");
+			line(2, "data.put(SerializableModelData.INITIAL_CONFIGURATION_IMPLEMENTATION_TYPE, SerializableModelData.InitialConfigurationImplementationTypes." + (isLong ? "LONG" : "INTEGER") + ");");
+			line(2, "data.put(SerializableModelData.GRID, backupGrid);");
+			line(2, "data.put(SerializableModelData.GRID_TYPE, SerializableModelData.GridTypes.INFINITE_REGULAR);");
+			line(2, "data.put(SerializableModelData.GRID_DIMENSION, GRID_DIMENSION);");
+			line(2, "data.put(SerializableModelData.GRID_IMPLEMENTATION_TYPE, SerializableModelData.GridImplementationTypes." + getGridImplementationType() + ");");
+			line(2, "data.put(SerializableModelData.COORDINATE_BOUNDS, maxCoordinate);");
+			line(2, "data.put(SerializableModelData.COORDINATE_BOUNDS_IMPLEMENTATION_TYPE, SerializableModelData.CoordinateBoundsImplementationTypes.MAX_COORDINATE_INTEGER);");
+			line(2, "data.put(SerializableModelData.STEP, step);");
+			line(2, "data.put(SerializableModelData.CONFIGURATION_CHANGED_FROM_PREVIOUS_STEP, changed);");
+			line(2, "Utils.serializeToFile(data, backupPath, backupName);");
+			line(1, "}");
+			line();
+			line(1, "@Override");
+			line(1, "public String getName() {");
+			line(2, "return \"Aether\";");
+			line(1, "}");
+			line();
+			line(1, "@Override");
+			line(1, "public String getWholeGridSubfolderPath() {");
+			line(2, "return getName() + \"/\" + GRID_DIMENSION + \"D/\" + initialValue;");
+			line(1, "}");
+			line();
+		}
+
+	}
+
+}
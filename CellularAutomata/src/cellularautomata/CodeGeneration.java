@@ -41,6 +41,23 @@ final class CodeGeneration {
 		private Aether() {}
 		
 		static void printTopplingMethods(int dimension) {
+			List<TypeOfAnysotropicRegionVonNeumannNeighborhoodWithBidirectionalSymmetries> neighborhoodTypes = getNeighborhoodTypes(dimension);
+			for (int i = 0, num = 1; i < neighborhoodTypes.size(); i = num, num++) {
+				TypeOfAnysotropicRegionVonNeumannNeighborhoodWithBidirectionalSymmetries type = neighborhoodTypes.get(i);
+				printTopplingMethod(type, num);
+				System.out.println();
+			}
+		}
+		
+		/**
+		 * Returns the types of von Neumann neighborhood of the positions of the asymmetric section of a grid of the given dimension, 
+		 * in the order they are first found going through the positions. 
+		 * The coordinates and symmetry counts that differ between positions of the same type are set to null.
+		 * 
+		 * @param dimension the dimension of the grid
+		 * @return the neighborhood types
+		 */
+		static List<TypeOfAnysotropicRegionVonNeumannNeighborhoodWithBidirectionalSymmetries> getNeighborhoodTypes(int dimension) {
 			if (dimension < 2) {
 				throw new IllegalArgumentException("The dimension must be greater than one.");
 			}
@@ -78,11 +95,7 @@ final class CodeGeneration {
 					currentAxis--;
 				}
 			}
-			for (int i = 0, num = 1; i < neighborhoodTypes.size(); i = num, num++) {
-				TypeOfAnysotropicRegionVonNeumannNeighborhoodWithBidirectionalSymmetries type = neighborhoodTypes.get(i);
-				printTopplingMethod(type, num);
-				System.out.println();
-			}
+			return neighborhoodTypes;
 		}
 		
 		static void printTopplingMethod(TypeOfAnysotropicRegionVonNeumannNeighborhoodWithBidirectionalSymmetries type, int number) {
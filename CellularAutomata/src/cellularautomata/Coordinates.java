@@ -31,6 +31,16 @@ public class Coordinates {
 		this.coordinates = coordinates.clone();
 	}
 	
+	/**
+	 * Wraps the array without copying it, so that {@link MutableCoordinates} can update it.
+	 * 
+	 * @param coordinates
+	 * @param copy
+	 */
+	Coordinates(int[] coordinates, boolean copy) {
+		this.coordinates = copy ? coordinates.clone() : coordinates;
+	}
+	
 	public int get(int axis) {
 		return coordinates[axis];
 	}
@@ -0,0 +1,216 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+/**
+ * Finds the methods that the HotSpot JIT compiler will refuse to compile because their bytecode is larger than the huge method limit.
+ * Those methods are always interpreted, which can make a stepping engine several times slower.
+ *
+ * @author Jaume
+ *
+ */
+public final class HugeMethodCheck {
+
+	private HugeMethodCheck() {}
+
+	/**
+	 * The engines whose toppling methods are close to the huge method limit, checked when no class names are passed to {@link #main(String[])}
+	 */
+	private static final String[] DEFAULT_CLASS_NAMES = {
+		"cellularautomata.automata.aether.IntAether5D", 
+		"cellularautomata.automata.aether.LongAether5D", 
+		"cellularautomata.automata.aether.FileBackedLongAether5D", 
+		"cellularautomata.automata.aether.IntAetherTopplingAlternationCompliance5D", 
+		"cellularautomata.automata.aether.LongAetherTopplingAlternationCompliance5D"
+	};
+
+	/**
+	 * Lists the methods of the given classes that won't be JIT-compiled because of their size. 
+	 * Exits with status 1 if any is found.
+	 * 
+	 * @param args the fully qualified names of the classes to check, the 5D engines if none is passed
+	 * @throws ClassNotFoundException if a class is not found
+	 */
+	public static void main(String[] args) throws ClassNotFoundException {
+		String[] classNames = args.length == 0 ? DEFAULT_CLASS_NAMES : args;
+		boolean found = false;
+		for (String className : classNames) {
+			List<String> hugeMethods = getHugeMethods(Class.forName(className));
+			if (hugeMethods.isEmpty()) {
+				System.out.println(className + ": OK");
+			} else {
+				System.out.println(className + ": " + String.join(", ", hugeMethods));
+				found = true;
+			}
+		}
+		if (found) {
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * The value of the HotSpot HugeMethodLimit flag, which is not readable in product builds of the JVM
+	 */
+	public static final int DEFAULT_HUGE_METHOD_LIMIT = 8000;
+
+	/**
+	 * Returns the names of the methods declared by the given class, or by its superclasses,
+	 * that won't be JIT-compiled because of their size.
+	 * If the JVM compiles huge methods or isn't HotSpot, an empty list is returned.
+	 *
+	 * @param clazz the class to check
+	 * @return the names of the methods with the format "ClassName.methodName (bytecode size)"
+	 */
+	public static List<String> getHugeMethods(Class<?> clazz) {
+		List<String> hugeMethods = new ArrayList<String>();
+		int limit = getHugeMethodLimit();
+		if (limit == -1) {
+			return hugeMethods;
+		}
+		for (; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+			try {
+				addHugeMethods(clazz, limit, hugeMethods);
+			} catch (IOException e) {
+				//the class file is not available, skip it
+			}
+		}
+		return hugeMethods;
+	}
+
+	/**
+	 * Returns the bytecode size above which methods are not JIT-compiled, or -1 if there is no such limit.
+	 *
+	 * @return the limit in bytes or -1
+	 */
+	private static int getHugeMethodLimit() {
+		HotSpotDiagnosticMXBean hotSpot;
+		try {
+			hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+		} catch (Throwable t) {
+			return -1;
+		}
+		if (hotSpot == null || !"true".equals(getVMOption(hotSpot, "DontCompileHugeMethods"))) {
+			return -1;
+		}
+		String limit = getVMOption(hotSpot, "HugeMethodLimit");
+		return limit == null ? DEFAULT_HUGE_METHOD_LIMIT : Integer.parseInt(limit);
+	}
+
+	private static String getVMOption(HotSpotDiagnosticMXBean hotSpot, String name) {
+		try {
+			return hotSpot.getVMOption(name).getValue();
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static void addHugeMethods(Class<?> clazz, int limit, List<String> hugeMethods) throws IOException {
+		String resourceName = clazz.getName().substring(clazz.getName().lastIndexOf('.') + 1) + ".class";
+		InputStream resource = clazz.getResourceAsStream(resourceName);
+		if (resource == null) {
+			throw new IOException("Class file of " + clazz.getName() + " not found.");
+		}
+		try (DataInputStream in = new DataInputStream(resource)) {
+			in.readInt();//magic
+			in.readUnsignedShort();//minor version
+			in.readUnsignedShort();//major version
+			int constantPoolCount = in.readUnsignedShort();
+			String[] utf8Constants = new String[constantPoolCount];
+			for (int i = 1; i < constantPoolCount; i++) {
+				int tag = in.readUnsignedByte();
+				switch (tag) {
+				case 1://Utf8
+					utf8Constants[i] = in.readUTF();
+					break;
+				case 5://Long
+				case 6://Double
+					skip(in, 8);
+					i++;//takes two entries
+					break;
+				case 7://Class
+				case 8://String
+				case 16://MethodType
+				case 19://Module
+				case 20://Package
+					skip(in, 2);
+					break;
+				case 15://MethodHandle
+					skip(in, 3);
+					break;
+				default://Integer, Float, references, NameAndType, Dynamic and InvokeDynamic
+					skip(in, 4);
+				}
+			}
+			skip(in, 6);//access flags, this class and super class
+			skip(in, 2*in.readUnsignedShort());//interfaces
+			int fieldCount = in.readUnsignedShort();
+			for (int i = 0; i < fieldCount; i++) {
+				skip(in, 6);//access flags, name and descriptor
+				skipAttributes(in);
+			}
+			int methodCount = in.readUnsignedShort();
+			for (int i = 0; i < methodCount; i++) {
+				skip(in, 2);//access flags
+				String name = utf8Constants[in.readUnsignedShort()];
+				skip(in, 2);//descriptor
+				int attributeCount = in.readUnsignedShort();
+				for (int j = 0; j < attributeCount; j++) {
+					String attributeName = utf8Constants[in.readUnsignedShort()];
+					int length = in.readInt();
+					if ("Code".equals(attributeName)) {
+						skip(in, 4);//max stack and max locals
+						int codeLength = in.readInt();
+						if (codeLength > limit) {
+							hugeMethods.add(clazz.getSimpleName() + "." + name + " (" + codeLength + ")");
+						}
+						length -= 8;
+					}
+					skip(in, length);
+				}
+			}
+		}
+	}
+
+	private static void skip(DataInputStream in, int byteCount) throws IOException {
+		while (byteCount > 0) {
+			int skipped = in.skipBytes(byteCount);
+			if (skipped == 0) {
+				in.readByte();//throws EOFException at the end of the stream
+				skipped = 1;
+			}
+			byteCount -= skipped;
+		}
+	}
+
+	private static void skipAttributes(DataInputStream in) throws IOException {
+		int attributeCount = in.readUnsignedShort();
+		for (int i = 0; i < attributeCount; i++) {
+			skip(in, 2);//name
+			skip(in, in.readInt());
+		}
+	}
+
+}
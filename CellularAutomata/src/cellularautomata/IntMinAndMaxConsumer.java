@@ -18,7 +18,7 @@ package cellularautomata;
 
 import java.util.function.IntConsumer;
 
-public class IntMinAndMaxConsumer implements IntConsumer {
+public class IntMinAndMaxConsumer implements IntConsumer, IntRowConsumer {
 
 	private int[] minAndMax;	
 	
@@ -33,6 +33,29 @@ public class IntMinAndMaxConsumer implements IntConsumer {
 		}
 	}
 	
+	@Override
+	public void accept(Coordinates firstPosition, int[] values, int length) {
+		if (length == 0) {
+			return;
+		}
+		int i = 0;
+		if (minAndMax == null) {
+			minAndMax = new int[]{values[0], values[0]};
+			i++;
+		}
+		int min = minAndMax[0], max = minAndMax[1];
+		for (; i < length; i++) {
+			int value = values[i];
+			if (value < min) {
+				min = value;
+			} else if (value > max) {
+				max = value;
+			}
+		}
+		minAndMax[0] = min;
+		minAndMax[1] = max;
+	}
+	
 	public int[] getMinAndMaxValue() {
 		return minAndMax;
 	}
@@ -0,0 +1,40 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata;
+
+/**
+ * Receives the values of a model row by row, a row being a segment of positions along the last axis.
+ * 
+ * @author Jaume
+ *
+ */
+@FunctionalInterface
+public interface IntRowConsumer {
+	
+	/**
+	 * Receives the values of a row. 
+	 * The coordinates and the array are reused for the following rows, so no reference to them must be kept.
+	 * 
+	 * @param firstPosition the coordinates of the position of the first value
+	 * @param values the values, in ascending order of their coordinate on the last axis, starting at index 0. 
+	 * When traversing only even or odd positions, the values are those of every other position of the row.
+	 * @param length the number of values of the row
+	 * @throws Exception
+	 */
+	void accept(Coordinates firstPosition, int[] values, int length) throws Exception;
+	
+}
@@ -18,7 +18,7 @@ package cellularautomata;
 
 import java.util.function.LongConsumer;
 
-public class LongMinAndMaxConsumer implements LongConsumer {
+public class LongMinAndMaxConsumer implements LongConsumer, LongRowConsumer {
 
 	private long[] minAndMax;	
 	
@@ -33,6 +33,29 @@ public class LongMinAndMaxConsumer implements LongConsumer {
 		}
 	}
 	
+	@Override
+	public void accept(Coordinates firstPosition, long[] values, int length) {
+		if (length == 0) {
+			return;
+		}
+		int i = 0;
+		if (minAndMax == null) {
+			minAndMax = new long[]{values[0], values[0]};
+			i++;
+		}
+		long min = minAndMax[0], max = minAndMax[1];
+		for (; i < length; i++) {
+			long value = values[i];
+			if (value < min) {
+				min = value;
+			} else if (value > max) {
+				max = value;
+			}
+		}
+		minAndMax[0] = min;
+		minAndMax[1] = max;
+	}
+	
 	public long[] getMinAndMaxValue() {
 		return minAndMax;
 	}
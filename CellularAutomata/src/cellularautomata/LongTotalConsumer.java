@@ -20,17 +20,32 @@ import java.util.function.LongConsumer;
 
 import cellularautomata.numbers.BigInt;
 
-public class LongTotalConsumer implements LongConsumer {
+public class LongTotalConsumer implements LongConsumer, LongRowConsumer {
 	
+	//summed in a long until it overflows, to avoid creating a BigInt per value
+	private long partialTotal = 0;
 	private BigInt total = BigInt.ZERO;
 	
 	public BigInt getTotal() {
-		return total;
+		return total.add(BigInt.valueOf(partialTotal));
 	}
 
 	@Override
 	public void accept(long value) {
-		total = total.add(BigInt.valueOf(value));
+		long newPartialTotal = partialTotal + value;
+		if (((partialTotal ^ newPartialTotal) & (value ^ newPartialTotal)) < 0) {
+			//overflow
+			total = total.add(BigInt.valueOf(partialTotal));
+			newPartialTotal = value;
+		}
+		partialTotal = newPartialTotal;
+	}
+
+	@Override
+	public void accept(Coordinates firstPosition, long[] values, int length) {
+		for (int i = 0; i < length; i++) {
+			accept(values[i]);
+		}
 	}
 	
 }
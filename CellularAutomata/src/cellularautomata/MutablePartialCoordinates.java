@@ -0,0 +1,54 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata;
+
+/**
+ * {@link PartialCoordinates} whose values can be changed, so that a single instance can be reused while traversing a region.
+ * Methods receiving them must not keep a reference to them, as their values change afterwards.
+ * 
+ * @author Jaume
+ *
+ */
+public class MutablePartialCoordinates extends PartialCoordinates {
+	
+	private final Integer[] coordinates;
+	
+	/**
+	 * Creates partial coordinates with the given number of axes, all set to null.
+	 * 
+	 * @param count the number of axes
+	 */
+	public MutablePartialCoordinates(int count) {
+		this(new Integer[count]);
+	}
+	
+	private MutablePartialCoordinates(Integer[] coordinates) {
+		super(coordinates, false);
+		this.coordinates = coordinates;
+	}
+	
+	/**
+	 * Sets the coordinate on the given axis. 
+	 * 
+	 * @param axis the axis
+	 * @param coordinate the new coordinate or null
+	 */
+	public void set(int axis, Integer coordinate) {
+		coordinates[axis] = coordinate;
+	}
+	
+}
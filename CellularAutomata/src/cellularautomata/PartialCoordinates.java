@@ -31,6 +31,16 @@ public class PartialCoordinates {
 		this.coordinates = coordinates.clone();
 	}
 	
+	/**
+	 * Wraps the array without copying it, so that {@link MutablePartialCoordinates} can update it.
+	 * 
+	 * @param coordinates
+	 * @param copy
+	 */
+	PartialCoordinates(Integer[] coordinates, boolean copy) {
+		this.coordinates = copy ? coordinates.clone() : coordinates;
+	}
+	
 	public Integer get(int axis) {
 		return coordinates[axis];
 	}
@@ -31,6 +31,8 @@ import java.util.concurrent.ThreadLocalRandom;
 import org.apache.commons.math3.fraction.BigFraction;
 
 import cellularautomata.arrays.AnisotropicIntArray;
+import cellularautomata.model.ModelCheckpoint;
+import cellularautomata.model.SerializableModelData;
 import cellularautomata.model1d.BooleanModel1D;
 import cellularautomata.model1d.IntModel1D;
 import cellularautomata.model1d.LongModel1D;
@@ -135,18 +137,61 @@ public final class Utils {
 		return true;
 	}
 	
+	/**
+	 * Reads an object from a file written with {@link #serializeToFile(Serializable, String, String)}. 
+	 * Both checkpoint files (see {@link ModelCheckpoint}) and files written using Java serialization are supported.
+	 * 
+	 * @param pathName the path of the file
+	 * @return the object
+	 * @throws FileNotFoundException
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
 	public static Object deserializeFromFile(String pathName) throws FileNotFoundException, IOException, ClassNotFoundException {
+		if (ModelCheckpoint.isCheckpoint(pathName)) {
+			return ModelCheckpoint.read(pathName);
+		}
 		ObjectInputStream in = new ObjectInputStream(new FileInputStream(pathName));
 		Object obj = in.readObject();
 		in.close();
 		return obj;
 	}
 	
+	/**
+	 * Writes an object to a file. {@link SerializableModelData} objects are written as checkpoint files (see {@link ModelCheckpoint}), 
+	 * and any other object using Java serialization.
+	 * 
+	 * @param obj the object
+	 * @param path the folder of the file
+	 * @param name the name of the file
+	 * @throws FileNotFoundException
+	 * @throws IOException
+	 */
 	public static void serializeToFile(Serializable obj, String path, String name) throws FileNotFoundException, IOException {
+		serializeToFile(obj, path, name, false, 1);
+	}
+	
+	/**
+	 * Writes an object to a file. {@link SerializableModelData} objects are written as checkpoint files (see {@link ModelCheckpoint}), 
+	 * whose blocks can be compressed, and any other object using Java serialization.
+	 * 
+	 * @param obj the object
+	 * @param path the folder of the file
+	 * @param name the name of the file
+	 * @param compress whether or not to compress the blocks of a checkpoint file
+	 * @param threadCount the number of threads used to compress the blocks of a checkpoint file
+	 * @throws FileNotFoundException
+	 * @throws IOException
+	 */
+	public static void serializeToFile(Serializable obj, String path, String name, boolean compress, int threadCount) throws FileNotFoundException, IOException {
 		String pathName = path + File.separatorChar + name;
 		File dir = new File(path);
 		if (!dir.exists())
 			dir.mkdirs();
+		if (obj instanceof SerializableModelData) {
+			ModelCheckpoint.write((SerializableModelData) obj, pathName, compress, threadCount);
+			return;
+		}
 		ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(pathName));
 		out.writeObject(obj);
 		out.flush();
@@ -416,6 +461,66 @@ public final class Utils {
 		}
 	}
 	
+	/**
+	 * Copies the values of the source array into the same positions of the target array, which can be bigger, 
+	 * and sets them to zero in the source array.
+	 * 
+	 * @param source the array to move the values from
+	 * @param target the array to move the values to
+	 */
+	public static void moveValues(long[] source, long[] target) {
+		System.arraycopy(source, 0, target, 0, source.length);
+		Arrays.fill(source, 0);
+	}
+	
+	public static void moveValues(long[][] source, long[][] target) {
+		for (int i = 0; i < source.length; i++) {
+			moveValues(source[i], target[i]);
+		}
+	}
+	
+	public static void moveValues(long[][][] source, long[][][] target) {
+		for (int i = 0; i < source.length; i++) {
+			moveValues(source[i], target[i]);
+		}
+	}
+	
+	public static void moveValues(long[][][][] source, long[][][][] target) {
+		for (int i = 0; i < source.length; i++) {
+			moveValues(source[i], target[i]);
+		}
+	}
+	
+	/**
+	 * Copies the values of the source array into the same positions of the target array, which can be bigger, 
+	 * and sets them to zero in the source array.
+	 * 
+	 * @param source the array to move the values from
+	 * @param target the array to move the values to
+	 */
+	public static void moveValues(int[] source, int[] target) {
+		System.arraycopy(source, 0, target, 0, source.length);
+		Arrays.fill(source, 0);
+	}
+	
+	public static void moveValues(int[][] source, int[][] target) {
+		for (int i = 0; i < source.length; i++) {
+			moveValues(source[i], target[i]);
+		}
+	}
+	
+	public static void moveValues(int[][][] source, int[][][] target) {
+		for (int i = 0; i < source.length; i++) {
+			moveValues(source[i], target[i]);
+		}
+	}
+	
+	public static void moveValues(int[][][][] source, int[][][][] target) {
+		for (int i = 0; i < source.length; i++) {
+			moveValues(source[i], target[i]);
+		}
+	}
+	
 	public static void fillEvenIndexes(boolean[] array, boolean value) {
 		for (int i = 0; i < array.length; i += 2) {
 			array[i] = value;
@@ -526,44 +631,36 @@ public final class Utils {
 		return value;
 	}
 	
+	/**
+	 * Returns the number of positions in an anisotropic grid of the given dimension and side,
+	 * that is, the number of non-increasing sequences of coordinates between 0 and side - 1.
+	 * This equals the binomial coefficient (side + dimension - 1) choose dimension, which is computed
+	 * in closed form so that position offsets can be obtained in constant time.
+	 * 
+	 * @param dimension
+	 * @param side
+	 * @return
+	 */
 	public static long getAnisotropicGridPositionCount(int dimension, int side) {
-		switch (dimension) {
-			case 0:
-				return 1;
-			case 1://this case could be omitted
-				return side;
-			default:
-				long count = 0;
-				dimension--;
-				for (int i = 1; i <= side; i++) {
-					count += getAnisotropicGridPositionCount(dimension, i);
-				}
-				return count;
+		long count = 1;
+		for (int k = 1; k <= dimension; k++) {
+			//after each iteration count equals (side + k - 1) choose k, so the division is exact
+			count = count*(side + k - 1)/k;
 		}
+		return count;
 	}
 	
 	public static long getAnisotropic3DGridPositionCount(int side) {
-		long count = 0;
-		for (int i = 1; i <= side; i++) {
-			count += (i*i-i)/2+i;
-		}
-		return count;
+		long longSide = side;
+		return longSide*(longSide + 1)*(longSide + 2)/6;
 	}
 	
 	public static long getAnisotropic4DGridPositionCount(int side) {
-		long count = 0;
-		for (int i = 1; i <= side; i++) {
-			count += getAnisotropic3DGridPositionCount(i);
-		}
-		return count;
+		return getAnisotropicGridPositionCount(4, side);
 	}
 	
 	public static long getAnisotropic5DGridPositionCount(int side) {
-		long count = 0;
-		for (int i = 1; i <= side; i++) {
-			count += getAnisotropic4DGridPositionCount(i);
-		}
-		return count;
+		return getAnisotropicGridPositionCount(5, side);
 	}
 	
 	public static <Object_Type extends Comparable<Object_Type>> void sortDescending(int length, Object_Type[] array, int[] sortedIndexes) {
@@ -0,0 +1,173 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.arrays;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import cellularautomata.numbers.BigInt;
+
+/**
+ * A mutable {@link AnisotropicArray} of {@link BigInt} values meant to accumulate the shares a model's positions receive during a step.
+ * Every position holds its value in a primitive {@code long}, so adding to it doesn't allocate anything. 
+ * Only the values that don't fit in a {@code long} are kept in a separate overflow store, a map by internal index which is not allocated until one is needed.
+ * {@link BigInt} instances are created only when the values are read.
+ * 
+ * @author Jaume
+ *
+ */
+public class AnisotropicBigIntAccumulatorArray extends AnisotropicArray {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 2687154340273815412L;
+	
+	/** The marker of the positions whose value is in the overflow store */
+	private static final long OVERFLOWED = Long.MIN_VALUE;
+	
+	private final long[] values;
+	/** The values that don't fit in a long, by internal index. Null until one is needed. */
+	private Map<Integer, BigInt> overflowedValues;
+	
+	public AnisotropicBigIntAccumulatorArray(int dimension, int side) {
+		super(dimension, side);
+		values = new long[(int) getPositionCount()];
+	}
+	
+	/**
+	 * Returns the value at the given indexes of a 2D array.
+	 * 
+	 * @param x the first index
+	 * @param y the second index, not greater than x
+	 * @return the value
+	 */
+	public BigInt get(int x, int y) {
+		return get(getInternalIndex(x, y));
+	}
+	
+	/**
+	 * Returns the value at the given indexes of a 3D array.
+	 * 
+	 * @param x the first index
+	 * @param y the second index, not greater than x
+	 * @param z the third index, not greater than y
+	 * @return the value
+	 */
+	public BigInt get(int x, int y, int z) {
+		return get(getInternalIndex(x, y, z));
+	}
+	
+	/**
+	 * Sets the value at the given indexes of a 2D array.
+	 * 
+	 * @param x the first index
+	 * @param y the second index, not greater than x
+	 * @param value the value
+	 */
+	public void set(int x, int y, BigInt value) {
+		set(getInternalIndex(x, y), value);
+	}
+	
+	/**
+	 * Sets the value at the given indexes of a 3D array.
+	 * 
+	 * @param x the first index
+	 * @param y the second index, not greater than x
+	 * @param z the third index, not greater than y
+	 * @param value the value
+	 */
+	public void set(int x, int y, int z, BigInt value) {
+		set(getInternalIndex(x, y, z), value);
+	}
+	
+	/**
+	 * Adds the given value to the one at the given indexes of a 2D array.
+	 * 
+	 * @param x the first index
+	 * @param y the second index, not greater than x
+	 * @param value the value to add
+	 */
+	public void add(int x, int y, BigInt value) {
+		add(getInternalIndex(x, y), value);
+	}
+	
+	/**
+	 * Adds the given value to the one at the given indexes of a 3D array.
+	 * 
+	 * @param x the first index
+	 * @param y the second index, not greater than x
+	 * @param z the third index, not greater than y
+	 * @param value the value to add
+	 */
+	public void add(int x, int y, int z, BigInt value) {
+		add(getInternalIndex(x, y, z), value);
+	}
+	
+	private static int getInternalIndex(int x, int y) {
+		return x*(x + 1)/2 + y;
+	}
+	
+	private static int getInternalIndex(int x, int y, int z) {
+		return (int) ((long) x*(x + 1)*(x + 2)/6) + y*(y + 1)/2 + z;
+	}
+	
+	private BigInt get(int internalIndex) {
+		long value = values[internalIndex];
+		if (value == OVERFLOWED) {
+			return overflowedValues.get(internalIndex);
+		}
+		return BigInt.valueOf(value);
+	}
+	
+	private void set(int internalIndex, BigInt value) {
+		long longValue;
+		if (value.fitsInLong() && (longValue = value.longValue()) != OVERFLOWED) {
+			if (values[internalIndex] == OVERFLOWED) {
+				overflowedValues.remove(internalIndex);
+			}
+			values[internalIndex] = longValue;
+		} else {
+			if (overflowedValues == null) {
+				overflowedValues = new HashMap<Integer, BigInt>();
+			}
+			overflowedValues.put(internalIndex, value);
+			values[internalIndex] = OVERFLOWED;
+		}
+	}
+	
+	private void add(int internalIndex, BigInt value) {
+		long currentValue = values[internalIndex];
+		if (currentValue == 0) {
+			set(internalIndex, value);
+			return;
+		}
+		if (currentValue != OVERFLOWED && value.fitsInLong()) {
+			try {
+				long newValue = Math.addExact(currentValue, value.longValue());
+				if (newValue != OVERFLOWED) {
+					values[internalIndex] = newValue;
+					return;
+				}
+			} catch (ArithmeticException e) {
+				//overflow
+			}
+		}
+		set(internalIndex, get(internalIndex).add(value));
+	}
+	
+}
@@ -0,0 +1,255 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.arrays;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import cellularautomata.Coordinates;
+
+/**
+ * An {@link AnisotropicArray} of {@code int} values stored contiguously, in the order given by the indexes, in pages of a fixed size.
+ * It is the {@code int} counterpart of {@link AnisotropicLongArray}, with the same internal indexes.
+ * Positions are addressed by a 64-bit internal index, which is the sum of the offsets of the indexes on every axis (see {@link #getOffset(int, int)}), 
+ * so the array is not limited to {@link Integer#MAX_VALUE} positions.
+ * 
+ * @author Jaume
+ *
+ */
+public class AnisotropicPagedIntArray extends AnisotropicArray implements MultidimensionalIntArray {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 4217386405939561170L;
+	
+	private static final int PAGE_SIZE_BITS = 20;
+	private static final int PAGE_SIZE = 1 << PAGE_SIZE_BITS;
+	private static final int PAGE_INDEX_MASK = PAGE_SIZE - 1;
+	
+	private final long positionCount;
+	
+	/** The offsets of every index on every axis */
+	private final long[][] offsets;
+	
+	private final int[][] pages;
+	
+	public AnisotropicPagedIntArray(int dimension, int side) {
+		this(dimension, side, null);
+	}
+	
+	private AnisotropicPagedIntArray(int dimension, int side, int[][] sourcePages) {
+		super(dimension, side);
+		offsets = new long[dimension][side + 1];
+		if (dimension == 0) {
+			positionCount = 1;
+		} else {
+			int lastAxis = dimension - 1;
+			long[] lastAxisOffsets = offsets[lastAxis];
+			for (int i = 0; i <= side; i++) {
+				lastAxisOffsets[i] = i;
+			}
+			for (int axis = lastAxis - 1; axis >= 0; axis--) {
+				long[] axisOffsets = offsets[axis];
+				long[] nextAxisOffsets = offsets[axis + 1];
+				for (int i = 1; i <= side; i++) {
+					axisOffsets[i] = axisOffsets[i - 1] + nextAxisOffsets[i];
+				}
+			}
+			positionCount = offsets[0][side];
+		}
+		int pageCount = (int) ((positionCount + PAGE_SIZE - 1) >>> PAGE_SIZE_BITS);
+		int lastPageSize = (int) (positionCount - ((long)(pageCount - 1) << PAGE_SIZE_BITS));
+		pages = new int[pageCount][];
+		int pageIndex = 0;
+		if (sourcePages != null) {
+			//reuse the pages of the source array, resizing its last page if needed
+			int sourceLastPageIndex = sourcePages.length - 1;
+			System.arraycopy(sourcePages, 0, pages, 0, sourceLastPageIndex);
+			pageIndex = sourceLastPageIndex;
+			pages[pageIndex] = Arrays.copyOf(sourcePages[pageIndex], pageIndex == pageCount - 1 ? lastPageSize : PAGE_SIZE);
+			pageIndex++;
+		}
+		for (; pageIndex < pageCount; pageIndex++) {
+			pages[pageIndex] = new int[pageIndex == pageCount - 1 ? lastPageSize : PAGE_SIZE];
+		}
+	}
+	
+	/**
+	 * Returns an array of the given side with the same values as this one at the shared positions and zero at the rest.
+	 * To avoid copying the values, the returned array takes over the storage of this one, so this array must not be used afterwards.
+	 * 
+	 * @param newSide the side of the new array. It cannot be smaller than the side of this array.
+	 * @return the resized array
+	 */
+	public AnisotropicPagedIntArray resize(int newSide) {
+		if (newSide < side) {
+			throw new IllegalArgumentException("The new side cannot be smaller than the current one.");
+		}
+		return new AnisotropicPagedIntArray(dimension, newSide, pages);
+	}
+	
+	/**
+	 * Returns the offset of the given index on the given axis. 
+	 * The internal index of a position is the sum of the offsets of its indexes on every axis.
+	 * The offset of an index on the last axis is the index itself.
+	 * The offsets of consecutive indexes on the first axis delimit the slices of the array perpendicular to that axis.
+	 * 
+	 * @param axis the axis
+	 * @param index the index on the axis, between zero and the side of the array, both inclusive
+	 * @return the offset of the index
+	 */
+	public long getOffset(int axis, int index) {
+		return offsets[axis][index];
+	}
+	
+	/**
+	 * Returns the internal index of the position at the given indexes.
+	 * 
+	 * @param indexes the indexes of the position
+	 * @return the internal index
+	 */
+	public long getInternalIndex(Coordinates indexes) {
+		long internalIndex = 0;
+		int indexCount = indexes.getCount();
+		for (int axis = 0; axis < indexCount; axis++) {
+			internalIndex += offsets[axis][indexes.get(axis)];
+		}
+		return internalIndex;
+	}
+	
+	public int get(long internalIndex) {
+		return pages[(int) (internalIndex >>> PAGE_SIZE_BITS)][(int) internalIndex & PAGE_INDEX_MASK];
+	}
+	
+	public void set(long internalIndex, int value) {
+		pages[(int) (internalIndex >>> PAGE_SIZE_BITS)][(int) internalIndex & PAGE_INDEX_MASK] = value;
+	}
+	
+	public void add(long internalIndex, int value) {
+		pages[(int) (internalIndex >>> PAGE_SIZE_BITS)][(int) internalIndex & PAGE_INDEX_MASK] += value;
+	}
+	
+	/**
+	 * Copies the values of a range of consecutive internal indexes to the beginning of the target array and sets them to zero in this array.
+	 * 
+	 * @param fromInternalIndex the first internal index of the range
+	 * @param target the array to move the values to
+	 * @param length the length of the range
+	 */
+	public void moveValues(long fromInternalIndex, int[] target, int length) {
+		int targetIndex = 0;
+		while (targetIndex < length) {
+			int[] page = pages[(int) (fromInternalIndex >>> PAGE_SIZE_BITS)];
+			int pageIndex = (int) fromInternalIndex & PAGE_INDEX_MASK;
+			int count = Math.min(length - targetIndex, page.length - pageIndex);
+			System.arraycopy(page, pageIndex, target, targetIndex, count);
+			Arrays.fill(page, pageIndex, pageIndex + count, 0);
+			targetIndex += count;
+			fromInternalIndex += count;
+		}
+	}
+	
+	/**
+	 * Copies the values of a range of consecutive internal indexes to the beginning of the target array.
+	 * 
+	 * @param fromInternalIndex the first internal index of the range
+	 * @param target the array to copy the values to
+	 * @param length the length of the range
+	 */
+	public void getValues(long fromInternalIndex, int[] target, int length) {
+		int targetIndex = 0;
+		while (targetIndex < length) {
+			int[] page = pages[(int) (fromInternalIndex >>> PAGE_SIZE_BITS)];
+			int pageIndex = (int) fromInternalIndex & PAGE_INDEX_MASK;
+			int count = Math.min(length - targetIndex, page.length - pageIndex);
+			System.arraycopy(page, pageIndex, target, targetIndex, count);
+			targetIndex += count;
+			fromInternalIndex += count;
+		}
+	}
+	
+	/**
+	 * Sets the values of a range of consecutive internal indexes to the ones at the beginning of the source array.
+	 * 
+	 * @param fromInternalIndex the first internal index of the range
+	 * @param source the array to copy the values from
+	 * @param length the length of the range
+	 */
+	public void setValues(long fromInternalIndex, int[] source, int length) {
+		int sourceIndex = 0;
+		while (sourceIndex < length) {
+			int[] page = pages[(int) (fromInternalIndex >>> PAGE_SIZE_BITS)];
+			int pageIndex = (int) fromInternalIndex & PAGE_INDEX_MASK;
+			int count = Math.min(length - sourceIndex, page.length - pageIndex);
+			System.arraycopy(source, sourceIndex, page, pageIndex, count);
+			sourceIndex += count;
+			fromInternalIndex += count;
+		}
+	}
+	
+	@Override
+	public int get(Coordinates indexes) {
+		return get(getInternalIndex(indexes));
+	}
+	
+	@Override
+	public void set(Coordinates indexes, int value) {
+		set(getInternalIndex(indexes), value);
+	}
+
+	@Override
+	public int addAndGet(Coordinates indexes, int value) {
+		long internalIndex = getInternalIndex(indexes);
+		int newValue = get(internalIndex) + value;
+		set(internalIndex, newValue);
+		return newValue;
+	}
+	
+	@Override
+	public long getPositionCount() {
+		return positionCount;
+	}
+
+	@Override
+	public void fill(int value) {
+		for (int i = 0; i < pages.length; i++) {
+			Arrays.fill(pages[i], value);
+		}
+	}
+	
+	public void fillEdges(int edgeWidth, int value) {
+		forEachEdgeIndex(edgeWidth, new Consumer<Coordinates>() {		
+			@Override
+			public void accept(Coordinates indexes) {
+				set(indexes, value);
+			}
+		});
+	}
+	
+	@Override
+	public void forEach(IntConsumer consumer) {
+		for (int i = 0; i < pages.length; i++) {
+			int[] page = pages[i];
+			for (int j = 0; j < page.length; j++) {
+				consumer.accept(page[j]);
+			}
+		}
+	}
+	
+}
@@ -0,0 +1,203 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.automata.aether;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>The neighborhood types of the positions of the asymmetric section of a grid of a given dimension, for the <a href="https://github.com/JaumeRibas/Aether2DImgMaker/wiki/Aether-Cellular-Automaton-Definition">Aether</a> cellular automaton.</p>
+ * <p>Within the asymmetric section, which neighbors a position has, how many of its directions lead to each of them and how many directions of each neighbor 
+ * lead back to it or to a symmetric position only depend on whether consecutive coordinates are equal, differ by one or differ by more, and on whether the last 
+ * coordinate is zero, one or greater. Each of these combinations is a neighborhood type, identified by an index (see {@link #getTypeIndex(int[])}).</p>
+ * <p>The neighborhood of a type is computed the first time it is requested.</p>
+ * 
+ * @author Jaume
+ *
+ */
+final class AetherNeighborhoodTypes {
+	
+	/** The greatest dimension whose type indexes fit in an {@code int} */
+	static final int MAX_GRID_DIMENSION = 19;
+	
+	/** The greatest dimension for which the neighborhoods are kept in an array indexed by type. Above it, most types are never reached, so a map is used instead. */
+	private static final int MAX_ARRAY_TABLE_DIMENSION = 13;
+	
+	/**
+	 * The neighbors of a position of a given type that are within the asymmetric section.
+	 */
+	static final class Neighborhood {
+		
+		/** The number of neighbors */
+		final int neighborCount;
+		/** The axis along which every neighbor is */
+		final int[] axes;
+		/** Whether the coordinate of every neighbor on its axis is one greater than that of the position. Otherwise, it is one smaller. */
+		final boolean[] isGreater;
+		/** The number of directions of the position that lead to every neighbor */
+		final int[] symmetryCounts;
+		/** The number of directions of every neighbor that lead to the position or to a symmetric one */
+		final int[] shareMultipliers;
+		
+		private Neighborhood(int neighborCount, int[] axes, boolean[] isGreater, int[] symmetryCounts, int[] shareMultipliers) {
+			this.neighborCount = neighborCount;
+			this.axes = axes;
+			this.isGreater = isGreater;
+			this.symmetryCounts = symmetryCounts;
+			this.shareMultipliers = shareMultipliers;
+		}
+		
+	}
+	
+	private final int dimension;
+	private final Neighborhood[] neighborhoodArray;
+	private final Map<Integer, Neighborhood> neighborhoodMap;
+	
+	AetherNeighborhoodTypes(int dimension) {
+		if (dimension < 1) {
+			throw new IllegalArgumentException("Grid dimension must be greater than zero.");
+		}
+		if (dimension > MAX_GRID_DIMENSION) {
+			throw new IllegalArgumentException(String.format("Grid dimension cannot be greater than %d.", MAX_GRID_DIMENSION));
+		}
+		this.dimension = dimension;
+		if (dimension <= MAX_ARRAY_TABLE_DIMENSION) {
+			int typeCount = 1;
+			for (int i = 0; i < dimension; i++) {
+				typeCount *= 3;
+			}
+			neighborhoodArray = new Neighborhood[typeCount];
+			neighborhoodMap = null;
+		} else {
+			neighborhoodArray = null;
+			neighborhoodMap = new HashMap<Integer, Neighborhood>();
+		}
+	}
+	
+	/**
+	 * Returns the index of the neighborhood type of the position at the given coordinates, which must be within the asymmetric section.
+	 * Every difference between consecutive coordinates, and the last coordinate, capped at two, is a digit of the index in base three, 
+	 * the one of the first axis being the least significant.
+	 * 
+	 * @param coordinates the coordinates of the position
+	 * @return the index of the type
+	 */
+	int getTypeIndex(int[] coordinates) {
+		int axis = dimension - 1;
+		int coordinate = coordinates[axis];
+		int typeIndex = Math.min(coordinate, 2);
+		for (axis--; axis >= 0; axis--) {
+			int previousCoordinate = coordinate;
+			coordinate = coordinates[axis];
+			typeIndex = typeIndex*3 + Math.min(coordinate - previousCoordinate, 2);
+		}
+		return typeIndex;
+	}
+	
+	/**
+	 * Returns the neighborhood of the given type.
+	 * 
+	 * @param typeIndex the index of the type
+	 * @return the neighborhood
+	 */
+	Neighborhood get(int typeIndex) {
+		Neighborhood neighborhood;
+		if (neighborhoodArray != null) {
+			neighborhood = neighborhoodArray[typeIndex];
+			if (neighborhood == null) {
+				neighborhood = createNeighborhood(typeIndex);
+				neighborhoodArray[typeIndex] = neighborhood;
+			}
+		} else {
+			neighborhood = neighborhoodMap.get(typeIndex);
+			if (neighborhood == null) {
+				neighborhood = createNeighborhood(typeIndex);
+				neighborhoodMap.put(typeIndex, neighborhood);
+			}
+		}
+		return neighborhood;
+	}
+	
+	private Neighborhood createNeighborhood(int typeIndex) {
+		//build the coordinates of the position of this type closest to the origin
+		int[] coordinates = new int[dimension];
+		int[] differences = new int[dimension];
+		for (int axis = 0; axis < dimension; axis++) {
+			differences[axis] = typeIndex%3;
+			typeIndex /= 3;
+		}
+		int lastAxis = dimension - 1;
+		coordinates[lastAxis] = differences[lastAxis];
+		for (int axis = lastAxis - 1; axis >= 0; axis--) {
+			coordinates[axis] = coordinates[axis + 1] + differences[axis];
+		}
+		//gather the distinct neighbors going through the runs of equal coordinates
+		int maxNeighborCount = 2*dimension;
+		int[] axes = new int[maxNeighborCount];
+		boolean[] isGreater = new boolean[maxNeighborCount];
+		int[] symmetryCounts = new int[maxNeighborCount];
+		int[] shareMultipliers = new int[maxNeighborCount];
+		int neighborCount = 0;
+		int runStart = 0;
+		int previousRunLength = 0;
+		while (runStart < dimension) {
+			int coordinate = coordinates[runStart];
+			int runEnd = runStart + 1;
+			while (runEnd < dimension && coordinates[runEnd] == coordinate) {
+				runEnd++;
+			}
+			int runLength = runEnd - runStart;
+			int nextRunLength = 0;
+			if (runEnd < dimension) {
+				int nextCoordinate = coordinates[runEnd];
+				nextRunLength = 1;
+				while (runEnd + nextRunLength < dimension && coordinates[runEnd + nextRunLength] == nextCoordinate) {
+					nextRunLength++;
+				}
+			}
+			//the greater neighbor
+			axes[neighborCount] = runStart;
+			isGreater[neighborCount] = true;
+			symmetryCounts[neighborCount] = coordinate == 0 ? 2*runLength : runLength;
+			int shareMultiplier = 1;
+			if (runStart > 0 && coordinates[runStart - 1] == coordinate + 1) {
+				shareMultiplier += previousRunLength;
+			}
+			shareMultipliers[neighborCount] = shareMultiplier;
+			neighborCount++;
+			//the smaller neighbor
+			if (coordinate > 0) {
+				axes[neighborCount] = runEnd - 1;
+				isGreater[neighborCount] = false;
+				symmetryCounts[neighborCount] = runLength;
+				shareMultiplier = 1;
+				if (nextRunLength > 0 && coordinates[runEnd] == coordinate - 1) {
+					shareMultiplier += nextRunLength;
+				}
+				if (coordinate == 1) {
+					shareMultiplier *= 2;
+				}
+				shareMultipliers[neighborCount] = shareMultiplier;
+				neighborCount++;
+			}
+			previousRunLength = runLength;
+			runStart = runEnd;
+		}
+		return new Neighborhood(neighborCount, axes, isGreater, symmetryCounts, shareMultipliers);
+	}
+	
+}
@@ -79,4 +79,94 @@ public class AetherUtils {
 			return minSingleSourceValue2;
 		}
 	}
+
+	/**
+	 * <p>Splits the value of a position between itself and its von Neumann neighbors with a smaller value, as the Aether cellular automaton topples it.</p>
+	 * <p>Every neighbor passed stands for as many neighbors as its symmetry count, all of them getting the same share.
+	 * The value is shared with the neighbors from the greatest value to the smallest, so every neighbor gets the shares of its value and of the greater ones.</p>
+	 * 
+	 * @param value the value of the position
+	 * @param neighborValues the values of the neighbors smaller than the value of the position
+	 * @param neighborSymmetryCounts the number of neighbors every neighbor stands for
+	 * @param neighborCount the number of neighbors passed
+	 * @param sortedNeighborIndexes an array to sort the neighbors in, at least as long as the number of neighbors
+	 * @param neighborShares the array where the share of every neighbor is written, at the same index as its value
+	 * @return the value left in the position, which is smaller than the given one if and only if the position toppled
+	 */
+	public static long splitValueAmongSmallerNeighbors(long value, long[] neighborValues, int[] neighborSymmetryCounts, int neighborCount, int[] sortedNeighborIndexes, long[] neighborShares) {
+		//sort the neighbors by ascending value and count them with their symmetric ones
+		int remainingNeighborCount = 0;
+		for (int i = 0; i < neighborCount; i++) {
+			long neighborValue = neighborValues[i];
+			int j = i;
+			for (; j > 0 && neighborValues[sortedNeighborIndexes[j - 1]] > neighborValue; j--) {
+				sortedNeighborIndexes[j] = sortedNeighborIndexes[j - 1];
+			}
+			sortedNeighborIndexes[j] = i;
+			remainingNeighborCount += neighborSymmetryCounts[i];
+		}
+		long previousNeighborValue = 0;
+		long accumulatedShare = 0;
+		for (int i = neighborCount - 1; i >= 0; i--) {
+			int neighborIndex = sortedNeighborIndexes[i];
+			long neighborValue = neighborValues[neighborIndex];
+			if (i == neighborCount - 1 || neighborValue != previousNeighborValue) {
+				int shareCount = remainingNeighborCount + 1;
+				long toShare = value - neighborValue;
+				long share = toShare/shareCount;
+				if (share != 0) {
+					value = value - toShare + toShare%shareCount + share;
+					accumulatedShare += share;
+				}
+				previousNeighborValue = neighborValue;
+			}
+			neighborShares[neighborIndex] = accumulatedShare;
+			remainingNeighborCount -= neighborSymmetryCounts[neighborIndex];
+		}
+		return value;
+	}
+
+	/**
+	 * The {@code int} version of {@link #splitValueAmongSmallerNeighbors(long, long[], int[], int, int[], long[])}.
+	 * 
+	 * @param value the value of the position
+	 * @param neighborValues the values of the neighbors smaller than the value of the position
+	 * @param neighborSymmetryCounts the number of neighbors every neighbor stands for
+	 * @param neighborCount the number of neighbors passed
+	 * @param sortedNeighborIndexes an array to sort the neighbors in, at least as long as the number of neighbors
+	 * @param neighborShares the array where the share of every neighbor is written, at the same index as its value
+	 * @return the value left in the position, which is smaller than the given one if and only if the position toppled
+	 */
+	public static int splitValueAmongSmallerNeighbors(int value, int[] neighborValues, int[] neighborSymmetryCounts, int neighborCount, int[] sortedNeighborIndexes, int[] neighborShares) {
+		//sort the neighbors by ascending value and count them with their symmetric ones
+		int remainingNeighborCount = 0;
+		for (int i = 0; i < neighborCount; i++) {
+			int neighborValue = neighborValues[i];
+			int j = i;
+			for (; j > 0 && neighborValues[sortedNeighborIndexes[j - 1]] > neighborValue; j--) {
+				sortedNeighborIndexes[j] = sortedNeighborIndexes[j - 1];
+			}
+			sortedNeighborIndexes[j] = i;
+			remainingNeighborCount += neighborSymmetryCounts[i];
+		}
+		int previousNeighborValue = 0;
+		int accumulatedShare = 0;
+		for (int i = neighborCount - 1; i >= 0; i--) {
+			int neighborIndex = sortedNeighborIndexes[i];
+			int neighborValue = neighborValues[neighborIndex];
+			if (i == neighborCount - 1 || neighborValue != previousNeighborValue) {
+				int shareCount = remainingNeighborCount + 1;
+				int toShare = value - neighborValue;
+				int share = toShare/shareCount;
+				if (share != 0) {
+					value = value - toShare + toShare%shareCount + share;
+					accumulatedShare += share;
+				}
+				previousNeighborValue = neighborValue;
+			}
+			neighborShares[neighborIndex] = accumulatedShare;
+			remainingNeighborCount -= neighborSymmetryCounts[neighborIndex];
+		}
+		return value;
+	}
 }
@@ -20,8 +20,9 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import cellularautomata.Constants;
 import cellularautomata.Utils;
+import cellularautomata.arrays.AnisotropicBigIntAccumulatorArray;
 import cellularautomata.model.SerializableModelData;
-import cellularautomata.model3d.IsotropicCubicNumericArrayModelAsymmetricSection;
+import cellularautomata.model3d.IsotropicCubicNumericModelAsymmetricSection;
 import cellularautomata.numbers.BigInt;
 
 /**
@@ -30,7 +31,7 @@ import cellularautomata.numbers.BigInt;
  * @author Jaume
  *
  */
-public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSection<BigInt> {
+public class BigIntAether3D implements IsotropicCubicNumericModelAsymmetricSection<BigInt> {
 	
 	private static final BigInt two = BigInt.valueOf(2);
 	private static final BigInt three = BigInt.valueOf(3);
@@ -42,6 +43,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 	private long step;
 	private Boolean changed = null;
 	private int maxX;
+	/** The grid as x slices that accumulate the values in place, see {@link AnisotropicBigIntAccumulatorArray} */
+	private AnisotropicBigIntAccumulatorArray[] grid;
 	/**
 	 * Used in {@link #getWholeGridSubfolderPath()}.
 	 */
@@ -54,8 +57,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 	 */
 	public BigIntAether3D(BigInt initialValue) {
 		this.initialValue = initialValue;
-		grid = Utils.buildAnisotropic3DBigIntArray(7);
-		grid[0][0][0] = this.initialValue;
+		grid = buildGrid(7);
+		grid[0].set(0, 0, this.initialValue);
 		maxX = 4;
 		step = 0;
 		String strInitialValue = Utils.numberToPlainTextMaxLength(initialValue, Constants.MAX_INITIAL_VALUE_LENGTH_IN_PATH);
@@ -91,7 +94,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			throw new IllegalArgumentException("The backup file's configuration is not compatible with this class.");
 		}
 		initialValue = (BigInt) data.get(SerializableModelData.INITIAL_CONFIGURATION);
-		grid = (BigInt[][][]) data.get(SerializableModelData.GRID);
+		grid = toAccumulatorGrid((BigInt[][][]) data.get(SerializableModelData.GRID));
 		maxX = (int) data.get(SerializableModelData.COORDINATE_BOUNDS);
 		step = (long) data.get(SerializableModelData.STEP);
 		changed = (Boolean) data.get(SerializableModelData.CONFIGURATION_CHANGED_FROM_PREVIOUS_STEP);
@@ -100,17 +103,17 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 	
 	@Override
 	public Boolean nextStep() {
-		BigInt[][][] newGrid = new BigInt[maxX + 3][][];
+		AnisotropicBigIntAccumulatorArray[] newGrid = new AnisotropicBigIntAccumulatorArray[maxX + 3];
 		boolean changed = false;
-		BigInt[][] smallerXSlice = null, currentXSlice = grid[0], greaterXSlice = grid[1];
-		BigInt[][] newSmallerXSlice = null, 
-				newCurrentXSlice = Utils.buildAnisotropic2DBigIntArray(1), 
-				newGreaterXSlice = Utils.buildAnisotropic2DBigIntArray(2);// build new grid progressively to save memory
+		AnisotropicBigIntAccumulatorArray smallerXSlice = null, currentXSlice = grid[0], greaterXSlice = grid[1];
+		AnisotropicBigIntAccumulatorArray newSmallerXSlice = null, 
+				newCurrentXSlice = new AnisotropicBigIntAccumulatorArray(2, 1), 
+				newGreaterXSlice = new AnisotropicBigIntAccumulatorArray(2, 2);// build new grid progressively to save memory
 		newGrid[0] = newCurrentXSlice;
 		newGrid[1] = newGreaterXSlice;
 		// x = 0, y = 0, z = 0
-		BigInt currentValue = currentXSlice[0][0];
-		BigInt greaterXNeighborValue = greaterXSlice[0][0];
+		BigInt currentValue = currentXSlice.get(0, 0);
+		BigInt greaterXNeighborValue = greaterXSlice.get(0, 0);
 		if (topplePositionOfType1(currentValue, greaterXNeighborValue, newCurrentXSlice, newGreaterXSlice)) {
 			changed = true;
 		}
@@ -120,9 +123,9 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 		greaterXSlice = grid[2];
 		newSmallerXSlice = newCurrentXSlice;
 		newCurrentXSlice = newGreaterXSlice;
-		newGreaterXSlice = Utils.buildAnisotropic2DBigIntArray(3);
+		newGreaterXSlice = new AnisotropicBigIntAccumulatorArray(2, 3);
 		newGrid[2] = newGreaterXSlice;
-		BigInt[][][] newXSlices = new BigInt[][][] { newSmallerXSlice, newCurrentXSlice, newGreaterXSlice};
+		AnisotropicBigIntAccumulatorArray[] newXSlices = new AnisotropicBigIntAccumulatorArray[] { newSmallerXSlice, newCurrentXSlice, newGreaterXSlice};
 		BigInt[] relevantAsymmetricNeighborValues = new BigInt[6];
 		int[] sortedNeighborsIndexes = new int[6];
 		int[][] relevantAsymmetricNeighborCoords = new int[6][3];
@@ -131,8 +134,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 		// reuse values obtained previously
 		BigInt smallerXNeighborValue = currentValue;
 		currentValue = greaterXNeighborValue;
-		greaterXNeighborValue = greaterXSlice[0][0];
-		BigInt greaterYNeighborValue = currentXSlice[1][0];
+		greaterXNeighborValue = greaterXSlice.get(0, 0);
+		BigInt greaterYNeighborValue = currentXSlice.get(1, 0);
 		if (topplePositionOfType2(currentValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newXSlices)) {
@@ -142,8 +145,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 		// reuse values obtained previously
 		BigInt smallerYNeighborValue = currentValue;
 		currentValue = greaterYNeighborValue;
-		greaterXNeighborValue = greaterXSlice[1][0];
-		BigInt greaterZNeighborValue = currentXSlice[1][1];
+		greaterXNeighborValue = greaterXSlice.get(1, 0);
+		BigInt greaterZNeighborValue = currentXSlice.get(1, 1);
 		if (topplePositionOfType3(currentValue, greaterXNeighborValue, smallerYNeighborValue, greaterZNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newXSlices)) {
@@ -153,7 +156,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 		// reuse values obtained previously
 		BigInt smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterXNeighborValue = greaterXSlice[1][1];
+		greaterXNeighborValue = greaterXSlice.get(1, 1);
 		if (topplePositionOfType4(currentValue, greaterXNeighborValue, smallerZNeighborValue, newCurrentXSlice, newGreaterXSlice)) {
 			changed = true;
 		}
@@ -164,28 +167,28 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 		greaterXSlice = grid[3];
 		newSmallerXSlice = newCurrentXSlice;
 		newCurrentXSlice = newGreaterXSlice;
-		newGreaterXSlice = Utils.buildAnisotropic2DBigIntArray(4);
+		newGreaterXSlice = new AnisotropicBigIntAccumulatorArray(2, 4);
 		newGrid[3] = newGreaterXSlice;
 		newXSlices[0] = newSmallerXSlice;
 		newXSlices[1] = newCurrentXSlice;
 		newXSlices[2] = newGreaterXSlice;
-		currentValue = currentXSlice[0][0];
-		greaterXNeighborValue = greaterXSlice[0][0];
-		smallerXNeighborValue = smallerXSlice[0][0];
-		greaterYNeighborValue = currentXSlice[1][0];
+		currentValue = currentXSlice.get(0, 0);
+		greaterXNeighborValue = greaterXSlice.get(0, 0);
+		smallerXNeighborValue = smallerXSlice.get(0, 0);
+		greaterYNeighborValue = currentXSlice.get(1, 0);
 		if (topplePositionOfType5(currentValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 				relevantAsymmetricNeighborSymmetryCounts, newXSlices)) {
 			changed = true;
 		}
 		// x = 2, y = 1, z = 0
-		greaterXNeighborValue = greaterXSlice[1][0];
-		smallerXNeighborValue = smallerXSlice[1][0];
+		greaterXNeighborValue = greaterXSlice.get(1, 0);
+		smallerXNeighborValue = smallerXSlice.get(1, 0);
 		// reuse values obtained previously
 		smallerYNeighborValue = currentValue;
 		currentValue = greaterYNeighborValue;
-		greaterYNeighborValue = currentXSlice[2][0];
-		greaterZNeighborValue = currentXSlice[1][1];
+		greaterYNeighborValue = currentXSlice.get(2, 0);
+		greaterZNeighborValue = currentXSlice.get(1, 1);
 		if (topplePositionOfType6(1, currentValue, greaterXNeighborValue, smallerXNeighborValue, 2, 
 				greaterYNeighborValue, 2, smallerYNeighborValue, 4, greaterZNeighborValue, 2, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
@@ -193,9 +196,9 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			changed = true;
 		}
 		// x = 2, y = 1, z = 1
-		greaterXNeighborValue = greaterXSlice[1][1];
-		smallerXNeighborValue = smallerXSlice[1][1];
-		greaterYNeighborValue = currentXSlice[2][1];
+		greaterXNeighborValue = greaterXSlice.get(1, 1);
+		smallerXNeighborValue = smallerXSlice.get(1, 1);
+		greaterYNeighborValue = currentXSlice.get(2, 1);
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
@@ -206,8 +209,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			changed = true;
 		}
 		// x = 2, y = 2, z = 0
-		currentValue = currentXSlice[2][0];
-		greaterXNeighborValue = greaterXSlice[2][0];
+		currentValue = currentXSlice.get(2, 0);
+		greaterXNeighborValue = greaterXSlice.get(2, 0);
 		// reuse values obtained previously
 		smallerYNeighborValue = smallerZNeighborValue;
 		greaterZNeighborValue = greaterYNeighborValue;
@@ -217,12 +220,12 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			changed = true;
 		}
 		// x = 2, y = 2, z = 1
-		greaterXNeighborValue = greaterXSlice[2][1];
-		smallerYNeighborValue = currentXSlice[1][1];
+		greaterXNeighborValue = greaterXSlice.get(2, 1);
+		smallerYNeighborValue = currentXSlice.get(1, 1);
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterZNeighborValue = currentXSlice[2][2];
+		greaterZNeighborValue = currentXSlice.get(2, 2);
 		if (topplePositionOfType9(2, 1, currentValue, greaterXNeighborValue, smallerYNeighborValue, 2, 
 				greaterZNeighborValue, 3, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, 
 				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
@@ -233,7 +236,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterXNeighborValue = greaterXSlice[2][2];
+		greaterXNeighborValue = greaterXSlice.get(2, 2);
 		if (topplePositionOfType10(2, currentValue, greaterXNeighborValue, smallerZNeighborValue, newCurrentXSlice, 
 				newGreaterXSlice)) {
 			changed = true;
@@ -245,28 +248,28 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 		greaterXSlice = grid[4];
 		newSmallerXSlice = newCurrentXSlice;
 		newCurrentXSlice = newGreaterXSlice;
-		newGreaterXSlice = Utils.buildAnisotropic2DBigIntArray(5);
+		newGreaterXSlice = new AnisotropicBigIntAccumulatorArray(2, 5);
 		newGrid[4] = newGreaterXSlice;
 		newXSlices[0] = newSmallerXSlice;
 		newXSlices[1] = newCurrentXSlice;
 		newXSlices[2] = newGreaterXSlice;
-		currentValue = currentXSlice[0][0];
-		greaterXNeighborValue = greaterXSlice[0][0];
-		smallerXNeighborValue = smallerXSlice[0][0];
-		greaterYNeighborValue = currentXSlice[1][0];
+		currentValue = currentXSlice.get(0, 0);
+		greaterXNeighborValue = greaterXSlice.get(0, 0);
+		smallerXNeighborValue = smallerXSlice.get(0, 0);
+		greaterYNeighborValue = currentXSlice.get(1, 0);
 		if (topplePositionOfType5(currentValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 				relevantAsymmetricNeighborSymmetryCounts, newXSlices)) {
 			changed = true;
 		}
 		// x = 3, y = 1, z = 0
-		greaterXNeighborValue = greaterXSlice[1][0];
-		smallerXNeighborValue = smallerXSlice[1][0];
+		greaterXNeighborValue = greaterXSlice.get(1, 0);
+		smallerXNeighborValue = smallerXSlice.get(1, 0);
 		// reuse values obtained previously
 		smallerYNeighborValue = currentValue;
 		currentValue = greaterYNeighborValue;
-		greaterYNeighborValue = currentXSlice[2][0];
-		greaterZNeighborValue = currentXSlice[1][1];
+		greaterYNeighborValue = currentXSlice.get(2, 0);
+		greaterZNeighborValue = currentXSlice.get(1, 1);
 		if (topplePositionOfType6(1, currentValue, greaterXNeighborValue, smallerXNeighborValue, 1, 
 				greaterYNeighborValue, 1, smallerYNeighborValue, 4, greaterZNeighborValue, 2, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
@@ -274,9 +277,9 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			changed = true;
 		}
 		// x = 3, y = 1, z = 1
-		greaterXNeighborValue = greaterXSlice[1][1];
-		smallerXNeighborValue = smallerXSlice[1][1];
-		greaterYNeighborValue = currentXSlice[2][1];
+		greaterXNeighborValue = greaterXSlice.get(1, 1);
+		smallerXNeighborValue = smallerXSlice.get(1, 1);
+		greaterYNeighborValue = currentXSlice.get(2, 1);
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
@@ -287,13 +290,13 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			changed = true;
 		}
 		// x = 3, y = 2, z = 0
-		currentValue = currentXSlice[2][0];
-		greaterXNeighborValue = greaterXSlice[2][0];
-		smallerXNeighborValue = smallerXSlice[2][0];
+		currentValue = currentXSlice.get(2, 0);
+		greaterXNeighborValue = greaterXSlice.get(2, 0);
+		smallerXNeighborValue = smallerXSlice.get(2, 0);
 		// reuse values obtained previously
 		smallerYNeighborValue = smallerZNeighborValue;
 		greaterZNeighborValue = greaterYNeighborValue;
-		greaterYNeighborValue = currentXSlice[3][0];
+		greaterYNeighborValue = currentXSlice.get(3, 0);
 		if (topplePositionOfType6(2, currentValue, greaterXNeighborValue, smallerXNeighborValue, 2, 
 				greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
@@ -301,14 +304,14 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			changed = true;
 		}
 		// x = 3, y = 2, z = 1
-		greaterXNeighborValue = greaterXSlice[2][1];
-		smallerXNeighborValue = smallerXSlice[2][1];
-		greaterYNeighborValue = currentXSlice[3][1];
-		smallerYNeighborValue = currentXSlice[1][1];
+		greaterXNeighborValue = greaterXSlice.get(2, 1);
+		smallerXNeighborValue = smallerXSlice.get(2, 1);
+		greaterYNeighborValue = currentXSlice.get(3, 1);
+		smallerYNeighborValue = currentXSlice.get(1, 1);
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterZNeighborValue = currentXSlice[2][2];
+		greaterZNeighborValue = currentXSlice.get(2, 2);
 		if (topplePositionOfType11(2, 1, currentValue, greaterXNeighborValue, smallerXNeighborValue, 2, 
 				greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
@@ -316,9 +319,9 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			changed = true;
 		}
 		// x = 3, y = 2, z = 2
-		greaterXNeighborValue = greaterXSlice[2][2];
-		smallerXNeighborValue = smallerXSlice[2][2];
-		greaterYNeighborValue = currentXSlice[3][2];
+		greaterXNeighborValue = greaterXSlice.get(2, 2);
+		smallerXNeighborValue = smallerXSlice.get(2, 2);
+		greaterYNeighborValue = currentXSlice.get(3, 2);
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
@@ -329,22 +332,22 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			changed = true;
 		}
 		// x = 3, y = 3, z = 0
-		currentValue = currentXSlice[3][0];
-		greaterXNeighborValue = greaterXSlice[3][0];
-		smallerYNeighborValue = currentXSlice[2][0];
-		greaterZNeighborValue = currentXSlice[3][1];
+		currentValue = currentXSlice.get(3, 0);
+		greaterXNeighborValue = greaterXSlice.get(3, 0);
+		smallerYNeighborValue = currentXSlice.get(2, 0);
+		greaterZNeighborValue = currentXSlice.get(3, 1);
 		if (topplePositionOfType8(3, currentValue, greaterXNeighborValue, smallerYNeighborValue, greaterZNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 				relevantAsymmetricNeighborSymmetryCounts, newXSlices)) {
 			changed = true;
 		}
 		// x = 3, y = 3, z = 1
-		greaterXNeighborValue = greaterXSlice[3][1];
-		smallerYNeighborValue = currentXSlice[2][1];
+		greaterXNeighborValue = greaterXSlice.get(3, 1);
+		smallerYNeighborValue = currentXSlice.get(2, 1);
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterZNeighborValue = currentXSlice[3][2];
+		greaterZNeighborValue = currentXSlice.get(3, 2);
 		if (topplePositionOfType9(3, 1, currentValue, greaterXNeighborValue, smallerYNeighborValue, 1, 
 				greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, 
 				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
@@ -352,12 +355,12 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			changed = true;
 		}
 		// x = 3, y = 3, z = 2
-		greaterXNeighborValue = greaterXSlice[3][2];
-		smallerYNeighborValue = currentXSlice[2][2];
+		greaterXNeighborValue = greaterXSlice.get(3, 2);
+		smallerYNeighborValue = currentXSlice.get(2, 2);
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterZNeighborValue = currentXSlice[3][3];
+		greaterZNeighborValue = currentXSlice.get(3, 3);
 		if (topplePositionOfType9(3, 2, currentValue, greaterXNeighborValue, smallerYNeighborValue, 2, 
 				greaterZNeighborValue, 3, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, 
 				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
@@ -368,7 +371,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterXNeighborValue = greaterXSlice[3][3];
+		greaterXNeighborValue = greaterXSlice.get(3, 3);
 		if (topplePositionOfType10(3, currentValue, greaterXNeighborValue, smallerZNeighborValue, newCurrentXSlice, 
 				newGreaterXSlice)) {
 			changed = true;
@@ -377,7 +380,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 		// 4 <= x < edge - 2
 		int edge = grid.length - 1;
 		int edgeMinusTwo = edge - 2;
-		BigInt[][][] xSlices = new BigInt[][][] {null, currentXSlice, greaterXSlice};
+		AnisotropicBigIntAccumulatorArray[] xSlices = new AnisotropicBigIntAccumulatorArray[] {null, currentXSlice, greaterXSlice};
 		newXSlices[1] = newCurrentXSlice;
 		newXSlices[2] = newGreaterXSlice;
 		if (toppleRangeBeyondX3(xSlices, newXSlices, newGrid, 4, edgeMinusTwo, 
@@ -391,7 +394,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			maxX++;
 		}
 		if (newGrid.length > grid.length) {
-			newGrid[grid.length] = Utils.buildAnisotropic2DBigIntArray(newGrid.length);
+			newGrid[grid.length] = new AnisotropicBigIntAccumulatorArray(2, newGrid.length);
 		}
 		grid = newGrid;
 		step++;
@@ -399,18 +402,23 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 		return changed;
 	}
 
+	@Override
+	public BigInt getFromPosition(int x, int y, int z) {
+		return grid[x].get(y, z);
+	}
+
 	@Override
 	public Boolean isChanged() {
 		return changed;
 	}
 	
-	private boolean toppleRangeBeyondX3(BigInt[][][] xSlices, BigInt[][][] newXSlices, BigInt[][][] newGrid, int minX, int maxX, 
+	private boolean toppleRangeBeyondX3(AnisotropicBigIntAccumulatorArray[] xSlices, AnisotropicBigIntAccumulatorArray[] newXSlices, AnisotropicBigIntAccumulatorArray[] newGrid, int minX, int maxX, 
 			BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, 
 			int[] relevantAsymmetricNeighborSymmetryCounts) {
 		boolean anyToppled = false;
 		int x = minX, xMinusOne = x - 1, xPlusOne = x + 1, xPlusTwo = xPlusOne + 1;
-		BigInt[][] smallerXSlice = null, currentXSlice = xSlices[1], greaterXSlice = xSlices[2];
-		BigInt[][] newSmallerXSlice = null, newCurrentXSlice = newXSlices[1], newGreaterXSlice = newXSlices[2];
+		AnisotropicBigIntAccumulatorArray smallerXSlice = null, currentXSlice = xSlices[1], greaterXSlice = xSlices[2];
+		AnisotropicBigIntAccumulatorArray newSmallerXSlice = null, newCurrentXSlice = newXSlices[1], newGreaterXSlice = newXSlices[2];
 		for (; x < maxX; xMinusOne = x, x = xPlusOne, xPlusOne = xPlusTwo, xPlusTwo++) {
 			// y = 0, z = 0
 			smallerXSlice = currentXSlice;
@@ -418,28 +426,28 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			greaterXSlice = grid[xPlusOne];
 			newSmallerXSlice = newCurrentXSlice;
 			newCurrentXSlice = newGreaterXSlice;
-			newGreaterXSlice = Utils.buildAnisotropic2DBigIntArray(xPlusTwo);
+			newGreaterXSlice = new AnisotropicBigIntAccumulatorArray(2, xPlusTwo);
 			newGrid[xPlusOne] = newGreaterXSlice;
 			newXSlices[0] = newSmallerXSlice;
 			newXSlices[1] = newCurrentXSlice;
 			newXSlices[2] = newGreaterXSlice;
-			BigInt currentValue = currentXSlice[0][0];
-			BigInt greaterXNeighborValue = greaterXSlice[0][0];
-			BigInt smallerXNeighborValue = smallerXSlice[0][0];
-			BigInt greaterYNeighborValue = currentXSlice[1][0];
+			BigInt currentValue = currentXSlice.get(0, 0);
+			BigInt greaterXNeighborValue = greaterXSlice.get(0, 0);
+			BigInt smallerXNeighborValue = smallerXSlice.get(0, 0);
+			BigInt greaterYNeighborValue = currentXSlice.get(1, 0);
 			if (topplePositionOfType5(currentValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, 
 					relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 					relevantAsymmetricNeighborSymmetryCounts, newXSlices)) {
 				anyToppled = true;
 			}
 			// y = 1, z = 0
-			greaterXNeighborValue = greaterXSlice[1][0];
-			smallerXNeighborValue = smallerXSlice[1][0];
+			greaterXNeighborValue = greaterXSlice.get(1, 0);
+			smallerXNeighborValue = smallerXSlice.get(1, 0);
 			// reuse values obtained previously
 			BigInt smallerYNeighborValue = currentValue;
 			currentValue = greaterYNeighborValue;
-			greaterYNeighborValue = currentXSlice[2][0];
-			BigInt greaterZNeighborValue = currentXSlice[1][1];
+			greaterYNeighborValue = currentXSlice.get(2, 0);
+			BigInt greaterZNeighborValue = currentXSlice.get(1, 1);
 			if (topplePositionOfType6(1, currentValue, greaterXNeighborValue, smallerXNeighborValue, 1, 
 					greaterYNeighborValue, 1, smallerYNeighborValue, 4, greaterZNeighborValue, 2, 
 					relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
@@ -447,9 +455,9 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 				anyToppled = true;
 			}
 			// y = 1, z = 1
-			greaterXNeighborValue = greaterXSlice[1][1];
-			smallerXNeighborValue = smallerXSlice[1][1];
-			greaterYNeighborValue = currentXSlice[2][1];
+			greaterXNeighborValue = greaterXSlice.get(1, 1);
+			smallerXNeighborValue = smallerXSlice.get(1, 1);
+			greaterYNeighborValue = currentXSlice.get(2, 1);
 			// reuse values obtained previously
 			BigInt smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
@@ -460,27 +468,27 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 				anyToppled = true;
 			}
 			// y = 2, z = 0
-			currentValue = currentXSlice[2][0];
-			greaterXNeighborValue = greaterXSlice[2][0];
-			smallerXNeighborValue = smallerXSlice[2][0];
+			currentValue = currentXSlice.get(2, 0);
+			greaterXNeighborValue = greaterXSlice.get(2, 0);
+			smallerXNeighborValue = smallerXSlice.get(2, 0);
 			// reuse values obtained previously
 			smallerYNeighborValue = smallerZNeighborValue;
 			greaterZNeighborValue = greaterYNeighborValue;
-			greaterYNeighborValue = currentXSlice[3][0];
+			greaterYNeighborValue = currentXSlice.get(3, 0);
 			if (topplePositionOfType12(2, currentValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, 
 					smallerYNeighborValue, greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, 
 					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, newXSlices)) {
 				anyToppled = true;
 			}
 			// y = 2, z = 1
-			greaterXNeighborValue = greaterXSlice[2][1];
-			smallerXNeighborValue = smallerXSlice[2][1];
-			greaterYNeighborValue = currentXSlice[3][1];
-			smallerYNeighborValue = currentXSlice[1][1];
+			greaterXNeighborValue = greaterXSlice.get(2, 1);
+			smallerXNeighborValue = smallerXSlice.get(2, 1);
+			greaterYNeighborValue = currentXSlice.get(3, 1);
+			smallerYNeighborValue = currentXSlice.get(1, 1);
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterZNeighborValue = currentXSlice[2][2];
+			greaterZNeighborValue = currentXSlice.get(2, 2);
 			if (topplePositionOfType11(2, 1, currentValue, greaterXNeighborValue, smallerXNeighborValue, 1, 
 					greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, 
 					relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
@@ -488,9 +496,9 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 				anyToppled = true;
 			}
 			// y = 2, z = 2
-			greaterXNeighborValue = greaterXSlice[2][2];
-			smallerXNeighborValue = smallerXSlice[2][2];
-			greaterYNeighborValue = currentXSlice[3][2];
+			greaterXNeighborValue = greaterXSlice.get(2, 2);
+			smallerXNeighborValue = smallerXSlice.get(2, 2);
+			greaterYNeighborValue = currentXSlice.get(3, 2);
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
@@ -502,26 +510,26 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			int y = 3, yMinusOne = 2, yPlusOne = 4;
 			for (int lastY = x - 2; y <= lastY;) {
 				// z = 0
-				currentValue = currentXSlice[y][0];
-				greaterXNeighborValue = greaterXSlice[y][0];
-				smallerXNeighborValue = smallerXSlice[y][0];
-				greaterYNeighborValue = currentXSlice[yPlusOne][0];
-				smallerYNeighborValue = currentXSlice[yMinusOne][0];
-				greaterZNeighborValue = currentXSlice[y][1];
+				currentValue = currentXSlice.get(y, 0);
+				greaterXNeighborValue = greaterXSlice.get(y, 0);
+				smallerXNeighborValue = smallerXSlice.get(y, 0);
+				greaterYNeighborValue = currentXSlice.get(yPlusOne, 0);
+				smallerYNeighborValue = currentXSlice.get(yMinusOne, 0);
+				greaterZNeighborValue = currentXSlice.get(y, 1);
 				if (topplePositionOfType12(y, currentValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, 
 						smallerYNeighborValue, greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, 
 						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, newXSlices)) {
 					anyToppled = true;
 				}
 				// z = 1
-				greaterXNeighborValue = greaterXSlice[y][1];
-				smallerXNeighborValue = smallerXSlice[y][1];
-				greaterYNeighborValue = currentXSlice[yPlusOne][1];
-				smallerYNeighborValue = currentXSlice[yMinusOne][1];
+				greaterXNeighborValue = greaterXSlice.get(y, 1);
+				smallerXNeighborValue = smallerXSlice.get(y, 1);
+				greaterYNeighborValue = currentXSlice.get(yPlusOne, 1);
+				smallerYNeighborValue = currentXSlice.get(yMinusOne, 1);
 				// reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterZNeighborValue = currentXSlice[y][2];
+				greaterZNeighborValue = currentXSlice.get(y, 2);
 				if (topplePositionOfType11(y, 1, currentValue, greaterXNeighborValue, smallerXNeighborValue, 1, 
 						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, 
 						relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
@@ -530,14 +538,14 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 				}
 				int z = 2, zPlusOne = 3;
 				for (int lastZ = y - 2; z <= lastZ;) {
-					greaterXNeighborValue = greaterXSlice[y][z];
-					smallerXNeighborValue = smallerXSlice[y][z];
-					greaterYNeighborValue = currentXSlice[yPlusOne][z];
-					smallerYNeighborValue = currentXSlice[yMinusOne][z];
+					greaterXNeighborValue = greaterXSlice.get(y, z);
+					smallerXNeighborValue = smallerXSlice.get(y, z);
+					greaterYNeighborValue = currentXSlice.get(yPlusOne, z);
+					smallerYNeighborValue = currentXSlice.get(yMinusOne, z);
 					// reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
-					greaterZNeighborValue = currentXSlice[y][zPlusOne];
+					greaterZNeighborValue = currentXSlice.get(y, zPlusOne);
 					if (topplePositionOfType15(y, z, currentValue, greaterXNeighborValue, smallerXNeighborValue, 
 							greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, smallerZNeighborValue, 
 							relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, newXSlices)) {
@@ -547,14 +555,14 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					zPlusOne++;
 				}
 				// z = y - 1
-				greaterXNeighborValue = greaterXSlice[y][z];
-				smallerXNeighborValue = smallerXSlice[y][z];
-				greaterYNeighborValue = currentXSlice[yPlusOne][z];
-				smallerYNeighborValue = currentXSlice[yMinusOne][z];
+				greaterXNeighborValue = greaterXSlice.get(y, z);
+				smallerXNeighborValue = smallerXSlice.get(y, z);
+				greaterYNeighborValue = currentXSlice.get(yPlusOne, z);
+				smallerYNeighborValue = currentXSlice.get(yMinusOne, z);
 				// reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterZNeighborValue = currentXSlice[y][zPlusOne];
+				greaterZNeighborValue = currentXSlice.get(y, zPlusOne);
 				if (topplePositionOfType11(y, z, currentValue, greaterXNeighborValue, smallerXNeighborValue, 1, 
 						greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, 
 						relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
@@ -563,9 +571,9 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 				}
 				// z = y
 				z = zPlusOne;
-				greaterXNeighborValue = greaterXSlice[y][z];
-				smallerXNeighborValue = smallerXSlice[y][z];
-				greaterYNeighborValue = currentXSlice[yPlusOne][z];
+				greaterXNeighborValue = greaterXSlice.get(y, z);
+				smallerXNeighborValue = smallerXSlice.get(y, z);
+				greaterYNeighborValue = currentXSlice.get(yPlusOne, z);
 				// reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -579,12 +587,12 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 				yPlusOne++;
 			}
 			// y = x - 1, z = 0
-			currentValue = currentXSlice[y][0];
-			greaterXNeighborValue = greaterXSlice[y][0];
-			smallerXNeighborValue = smallerXSlice[y][0];
-			greaterYNeighborValue = currentXSlice[yPlusOne][0];
-			smallerYNeighborValue = currentXSlice[yMinusOne][0];
-			greaterZNeighborValue = currentXSlice[y][1];
+			currentValue = currentXSlice.get(y, 0);
+			greaterXNeighborValue = greaterXSlice.get(y, 0);
+			smallerXNeighborValue = smallerXSlice.get(y, 0);
+			greaterYNeighborValue = currentXSlice.get(yPlusOne, 0);
+			smallerYNeighborValue = currentXSlice.get(yMinusOne, 0);
+			greaterZNeighborValue = currentXSlice.get(y, 1);
 			if (topplePositionOfType6(y, currentValue, greaterXNeighborValue, smallerXNeighborValue, 2, 
 					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, 
 					relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
@@ -592,14 +600,14 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 				anyToppled = true;
 			}
 			// y = x - 1, z = 1
-			greaterXNeighborValue = greaterXSlice[y][1];
-			smallerXNeighborValue = smallerXSlice[y][1];
-			greaterYNeighborValue = currentXSlice[yPlusOne][1];
-			smallerYNeighborValue = currentXSlice[yMinusOne][1];
+			greaterXNeighborValue = greaterXSlice.get(y, 1);
+			smallerXNeighborValue = smallerXSlice.get(y, 1);
+			greaterYNeighborValue = currentXSlice.get(yPlusOne, 1);
+			smallerYNeighborValue = currentXSlice.get(yMinusOne, 1);
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterZNeighborValue = currentXSlice[y][2];
+			greaterZNeighborValue = currentXSlice.get(y, 2);
 			if (topplePositionOfType11(y, 1, currentValue, greaterXNeighborValue, smallerXNeighborValue, 2, 
 					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, 
 					relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
@@ -608,14 +616,14 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			}
 			int z = 2, zPlusOne = 3, lastZ = y - 2;
 			for(; z <= lastZ;) {
-				greaterXNeighborValue = greaterXSlice[y][z];
-				smallerXNeighborValue = smallerXSlice[y][z];
-				greaterYNeighborValue = currentXSlice[yPlusOne][z];
-				smallerYNeighborValue = currentXSlice[yMinusOne][z];
+				greaterXNeighborValue = greaterXSlice.get(y, z);
+				smallerXNeighborValue = smallerXSlice.get(y, z);
+				greaterYNeighborValue = currentXSlice.get(yPlusOne, z);
+				smallerYNeighborValue = currentXSlice.get(yMinusOne, z);
 				// reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterZNeighborValue = currentXSlice[y][zPlusOne];
+				greaterZNeighborValue = currentXSlice.get(y, zPlusOne);
 				if (topplePositionOfType11(y, z, currentValue, greaterXNeighborValue, smallerXNeighborValue, 2, 
 						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, 
 						relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
@@ -626,14 +634,14 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 				zPlusOne++;
 			}
 			// y = x - 1, z = y - 1
-			greaterXNeighborValue = greaterXSlice[y][z];
-			smallerXNeighborValue = smallerXSlice[y][z];
-			greaterYNeighborValue = currentXSlice[yPlusOne][z];
-			smallerYNeighborValue = currentXSlice[yMinusOne][z];
+			greaterXNeighborValue = greaterXSlice.get(y, z);
+			smallerXNeighborValue = smallerXSlice.get(y, z);
+			greaterYNeighborValue = currentXSlice.get(yPlusOne, z);
+			smallerYNeighborValue = currentXSlice.get(yMinusOne, z);
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterZNeighborValue = currentXSlice[y][zPlusOne];
+			greaterZNeighborValue = currentXSlice.get(y, zPlusOne);
 			if (topplePositionOfType11(y, z, currentValue, greaterXNeighborValue, smallerXNeighborValue, 2, 
 					greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, 
 					relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
@@ -643,9 +651,9 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			z = zPlusOne;
 			zPlusOne++;
 			// y = x - 1, z = y
-			greaterXNeighborValue = greaterXSlice[y][z];
-			smallerXNeighborValue = smallerXSlice[y][z];
-			greaterYNeighborValue = currentXSlice[yPlusOne][z];
+			greaterXNeighborValue = greaterXSlice.get(y, z);
+			smallerXNeighborValue = smallerXSlice.get(y, z);
+			greaterYNeighborValue = currentXSlice.get(yPlusOne, z);
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
@@ -658,22 +666,22 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			yMinusOne = y;
 			y = yPlusOne;
 			// y = x, z = 0
-			currentValue = currentXSlice[y][0];
-			greaterXNeighborValue = greaterXSlice[y][0];
-			smallerYNeighborValue = currentXSlice[yMinusOne][0];
-			greaterZNeighborValue = currentXSlice[y][1];
+			currentValue = currentXSlice.get(y, 0);
+			greaterXNeighborValue = greaterXSlice.get(y, 0);
+			smallerYNeighborValue = currentXSlice.get(yMinusOne, 0);
+			greaterZNeighborValue = currentXSlice.get(y, 1);
 			if (topplePositionOfType8(y, currentValue, greaterXNeighborValue, smallerYNeighborValue, greaterZNeighborValue, 
 					relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 					relevantAsymmetricNeighborSymmetryCounts, newXSlices)) {
 				anyToppled = true;
 			}
 			// y = x, z = 1
-			greaterXNeighborValue = greaterXSlice[y][1];
-			smallerYNeighborValue = currentXSlice[yMinusOne][1];
+			greaterXNeighborValue = greaterXSlice.get(y, 1);
+			smallerYNeighborValue = currentXSlice.get(yMinusOne, 1);
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterZNeighborValue = currentXSlice[y][2];
+			greaterZNeighborValue = currentXSlice.get(y, 2);
 			if (topplePositionOfType9(y, 1, currentValue, greaterXNeighborValue, smallerYNeighborValue, 1, 
 					greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, 
 					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
@@ -684,12 +692,12 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			zPlusOne = 3;
 			lastZ++;
 			for(; z <= lastZ; z = zPlusOne, zPlusOne++) {
-				greaterXNeighborValue = greaterXSlice[y][z];
-				smallerYNeighborValue = currentXSlice[yMinusOne][z];
+				greaterXNeighborValue = greaterXSlice.get(y, z);
+				smallerYNeighborValue = currentXSlice.get(yMinusOne, z);
 				// reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterZNeighborValue = currentXSlice[y][zPlusOne];
+				greaterZNeighborValue = currentXSlice.get(y, zPlusOne);
 				if (topplePositionOfType14(y, z, currentValue, greaterXNeighborValue, smallerYNeighborValue, 
 						greaterZNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, 
 						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, newXSlices)) {
@@ -697,12 +705,12 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 				}
 			}			
 			// y = x, z = y - 1
-			greaterXNeighborValue = greaterXSlice[y][z];
-			smallerYNeighborValue = currentXSlice[yMinusOne][z];
+			greaterXNeighborValue = greaterXSlice.get(y, z);
+			smallerYNeighborValue = currentXSlice.get(yMinusOne, z);
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterZNeighborValue = currentXSlice[y][zPlusOne];
+			greaterZNeighborValue = currentXSlice.get(y, zPlusOne);
 			if (topplePositionOfType9(y, z, currentValue, greaterXNeighborValue, smallerYNeighborValue, 2, 
 					greaterZNeighborValue, 3, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, 
 					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
@@ -714,7 +722,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterXNeighborValue = greaterXSlice[y][z];
+			greaterXNeighborValue = greaterXSlice.get(y, z);
 			if (topplePositionOfType10(y, currentValue, greaterXNeighborValue, smallerZNeighborValue, newCurrentXSlice, 
 					newGreaterXSlice)) {
 				anyToppled = true;
@@ -728,8 +736,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 		return anyToppled;
 	}
 
-	private static boolean topplePositionOfType1(BigInt currentValue, BigInt greaterXNeighborValue, BigInt[][] newCurrentXSlice, 
-			BigInt[][] newGreaterXSlice) {
+	private static boolean topplePositionOfType1(BigInt currentValue, BigInt greaterXNeighborValue, AnisotropicBigIntAccumulatorArray newCurrentXSlice, 
+			AnisotropicBigIntAccumulatorArray newGreaterXSlice) {
 		boolean toppled = false;
 		if (greaterXNeighborValue.compareTo(currentValue) < 0) {
 			BigInt toShare = currentValue.subtract(greaterXNeighborValue);
@@ -737,20 +745,20 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			BigInt share = shareAndRemainder[0];
 			if (!share.equals(BigInt.ZERO)) {
 				toppled = true;
-				newCurrentXSlice[0][0] = newCurrentXSlice[0][0].add(currentValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
-				newGreaterXSlice[0][0] = newGreaterXSlice[0][0].add(share);
+				newCurrentXSlice.add(0, 0, currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+				newGreaterXSlice.add(0, 0, share);
 			} else {
-				newCurrentXSlice[0][0] = newCurrentXSlice[0][0].add(currentValue);
+				newCurrentXSlice.add(0, 0, currentValue);
 			}			
 		} else {
-			newCurrentXSlice[0][0] = newCurrentXSlice[0][0].add(currentValue);
+			newCurrentXSlice.add(0, 0, currentValue);
 		}
 		return toppled;
 	}
 
 	private static boolean topplePositionOfType2(BigInt currentValue, BigInt greaterXNeighborValue, BigInt smallerXNeighborValue, 
 			BigInt greaterYNeighborValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, 
-			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][] newXSlices) {
+			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newXSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (greaterXNeighborValue.compareTo(currentValue) < 0) {
@@ -792,7 +800,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 
 	private static boolean topplePositionOfType3(BigInt currentValue, BigInt greaterXNeighborValue, BigInt smallerYNeighborValue, 
 			BigInt greaterZNeighborValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, 
-			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][] newXSlices) {
+			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newXSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (greaterXNeighborValue.compareTo(currentValue) < 0) {
@@ -833,7 +841,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 	}
 
 	private static boolean topplePositionOfType4(BigInt currentValue, BigInt greaterXNeighborValue, BigInt smallerZNeighborValue, 
-			BigInt[][] newCurrentXSlice, BigInt[][] newGreaterXSlice) {
+			AnisotropicBigIntAccumulatorArray newCurrentXSlice, AnisotropicBigIntAccumulatorArray newGreaterXSlice) {
 		boolean toppled = false;
 		if (smallerZNeighborValue.compareTo(currentValue) < 0) {
 			if (greaterXNeighborValue.compareTo(currentValue) < 0) {
@@ -845,9 +853,9 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {//TODO test potential optimization adding else
 						toppled = true;
 					}
-					newCurrentXSlice[1][0] = newCurrentXSlice[1][0].add(share).add(share);// one more for the symmetric position at the other side
-					newCurrentXSlice[1][1] = newCurrentXSlice[1][1].add(currentValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
-					newGreaterXSlice[1][1] = newGreaterXSlice[1][1].add(share);
+					newCurrentXSlice.add(1, 0, share.add(share));// one more for the symmetric position at the other side
+					newCurrentXSlice.add(1, 1, currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+					newGreaterXSlice.add(1, 1, share);
 				} else if (smallerZNeighborValue.compareTo(greaterXNeighborValue) < 0) {
 					// sz < gx < current
 					BigInt toShare = currentValue.subtract(greaterXNeighborValue); 
@@ -856,8 +864,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentXSlice[1][0] = newCurrentXSlice[1][0].add(share).add(share);
-					newGreaterXSlice[1][1] = newGreaterXSlice[1][1].add(share);
+					newCurrentXSlice.add(1, 0, share.add(share));
+					newGreaterXSlice.add(1, 1, share);
 					BigInt currentRemainingValue = currentValue.subtract(share.multiply(six));
 					toShare = currentRemainingValue.subtract(smallerZNeighborValue); 
 					shareAndRemainder = toShare.divideAndRemainder(four);
@@ -865,8 +873,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentXSlice[1][0] = newCurrentXSlice[1][0].add(share).add(share);
-					newCurrentXSlice[1][1] = newCurrentXSlice[1][1].add(currentRemainingValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
+					newCurrentXSlice.add(1, 0, share.add(share));
+					newCurrentXSlice.add(1, 1, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 				} else {
 					// gx < sz < current
 					BigInt toShare = currentValue.subtract(smallerZNeighborValue); 
@@ -875,8 +883,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentXSlice[1][0] = newCurrentXSlice[1][0].add(share).add(share);
-					newGreaterXSlice[1][1] = newGreaterXSlice[1][1].add(share);
+					newCurrentXSlice.add(1, 0, share.add(share));
+					newGreaterXSlice.add(1, 1, share);
 					BigInt currentRemainingValue = currentValue.subtract(share.multiply(six));
 					toShare = currentRemainingValue.subtract(greaterXNeighborValue); 
 					shareAndRemainder = toShare.divideAndRemainder(four);
@@ -884,8 +892,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentXSlice[1][1] = newCurrentXSlice[1][1].add(currentRemainingValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
-					newGreaterXSlice[1][1] = newGreaterXSlice[1][1].add(share);
+					newCurrentXSlice.add(1, 1, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+					newGreaterXSlice.add(1, 1, share);
 				}
 			} else {
 				// sz < current <= gx
@@ -895,8 +903,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newCurrentXSlice[1][0] = newCurrentXSlice[1][0].add(share).add(share);
-				newCurrentXSlice[1][1] = newCurrentXSlice[1][1].add(currentValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
+				newCurrentXSlice.add(1, 0, share.add(share));
+				newCurrentXSlice.add(1, 1, currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 			}
 		} else if (greaterXNeighborValue.compareTo(currentValue) < 0) {
 			// gx < current <= sz
@@ -906,11 +914,11 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			if (!share.equals(BigInt.ZERO)) {
 				toppled = true;
 			}
-			newCurrentXSlice[1][1] = newCurrentXSlice[1][1].add(currentValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
-			newGreaterXSlice[1][1] = newGreaterXSlice[1][1].add(share);
+			newCurrentXSlice.add(1, 1, currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+			newGreaterXSlice.add(1, 1, share);
 		} else {
 			// gx >= current <= sz
-			newCurrentXSlice[1][1] = newCurrentXSlice[1][1].add(currentValue);
+			newCurrentXSlice.add(1, 1, currentValue);
 		}
 		return toppled;
 	}
@@ -918,7 +926,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 	private static boolean topplePositionOfType5(BigInt currentValue, BigInt greaterXNeighborValue, 
 			BigInt smallerXNeighborValue, BigInt greaterYNeighborValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, 
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts,
-			BigInt[][][] newXSlices) {
+			AnisotropicBigIntAccumulatorArray[] newXSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (greaterXNeighborValue.compareTo(currentValue) < 0) {
@@ -959,7 +967,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			int sXShareMultiplier, BigInt gYValue, int gYShareMultiplier, BigInt sYValue, int sYShareMultiplier, 
 			BigInt gZValue, int gZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, 
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, 
-			int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][] newXSlices) {
+			int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newXSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gXValue.compareTo(currentValue) < 0) {
@@ -1025,7 +1033,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			int sXShareMultiplier, BigInt gYValue, int gYShareMultiplier, BigInt sZValue, 
 			int sZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, 
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, 
-			int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][] newXSlices) {
+			int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newXSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gXValue.compareTo(currentValue) < 0) {
@@ -1078,7 +1086,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 
 	private static boolean topplePositionOfType8(int y, BigInt currentValue, BigInt greaterXNeighborValue, BigInt smallerYNeighborValue, 
 			BigInt greaterZNeighborValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, 
-			int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][] newXSlices ) {
+			int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newXSlices ) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (greaterXNeighborValue.compareTo(currentValue) < 0) {
@@ -1119,7 +1127,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			int sYShareMultiplier, BigInt gZValue, int gZShareMultiplier, BigInt sZValue, int sZShareMultiplier, 
 			BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, 
 			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, 
-			BigInt[][][] newXSlices) {
+			AnisotropicBigIntAccumulatorArray[] newXSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gXValue.compareTo(currentValue) < 0) {
@@ -1171,7 +1179,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 	}
 
 	private static boolean topplePositionOfType10(int coord, BigInt currentValue, BigInt greaterXNeighborValue, 
-			BigInt smallerZNeighborValue, BigInt[][] newCurrentXSlice, BigInt[][] newGreaterXSlice) {
+			BigInt smallerZNeighborValue, AnisotropicBigIntAccumulatorArray newCurrentXSlice, AnisotropicBigIntAccumulatorArray newGreaterXSlice) {
 		boolean toppled = false;
 		if (smallerZNeighborValue.compareTo(currentValue) < 0) {
 			int coordMinusOne = coord - 1;
@@ -1184,9 +1192,9 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentXSlice[coord][coordMinusOne] = newCurrentXSlice[coord][coordMinusOne].add(share);
-					newCurrentXSlice[coord][coord] = newCurrentXSlice[coord][coord].add(currentValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
-					newGreaterXSlice[coord][coord] = newGreaterXSlice[coord][coord].add(share);
+					newCurrentXSlice.add(coord, coordMinusOne, share);
+					newCurrentXSlice.add(coord, coord, currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+					newGreaterXSlice.add(coord, coord, share);
 				} else if (smallerZNeighborValue.compareTo(greaterXNeighborValue) < 0) {
 					// sz < gx < current
 					BigInt toShare = currentValue.subtract(greaterXNeighborValue); 
@@ -1195,8 +1203,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentXSlice[coord][coordMinusOne] = newCurrentXSlice[coord][coordMinusOne].add(share);
-					newGreaterXSlice[coord][coord] = newGreaterXSlice[coord][coord].add(share);
+					newCurrentXSlice.add(coord, coordMinusOne, share);
+					newGreaterXSlice.add(coord, coord, share);
 					BigInt currentRemainingValue = currentValue.subtract(share.multiply(six));
 					toShare = currentRemainingValue.subtract(smallerZNeighborValue); 
 					shareAndRemainder = toShare.divideAndRemainder(four);
@@ -1204,8 +1212,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentXSlice[coord][coordMinusOne] = newCurrentXSlice[coord][coordMinusOne].add(share);
-					newCurrentXSlice[coord][coord] = newCurrentXSlice[coord][coord].add(currentRemainingValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
+					newCurrentXSlice.add(coord, coordMinusOne, share);
+					newCurrentXSlice.add(coord, coord, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 				} else {
 					// gx < sz < current
 					BigInt toShare = currentValue.subtract(smallerZNeighborValue); 
@@ -1214,8 +1222,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentXSlice[coord][coordMinusOne] = newCurrentXSlice[coord][coordMinusOne].add(share);
-					newGreaterXSlice[coord][coord] = newGreaterXSlice[coord][coord].add(share);
+					newCurrentXSlice.add(coord, coordMinusOne, share);
+					newGreaterXSlice.add(coord, coord, share);
 					BigInt currentRemainingValue = currentValue.subtract(share.multiply(six));
 					toShare = currentRemainingValue.subtract(greaterXNeighborValue); 
 					shareAndRemainder = toShare.divideAndRemainder(four);
@@ -1223,8 +1231,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentXSlice[coord][coord] = newCurrentXSlice[coord][coord].add(currentRemainingValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
-					newGreaterXSlice[coord][coord] = newGreaterXSlice[coord][coord].add(share);
+					newCurrentXSlice.add(coord, coord, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+					newGreaterXSlice.add(coord, coord, share);
 				}
 			} else {
 				// sz < current <= gx
@@ -1234,8 +1242,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newCurrentXSlice[coord][coordMinusOne] = newCurrentXSlice[coord][coordMinusOne].add(share);
-				newCurrentXSlice[coord][coord] = newCurrentXSlice[coord][coord].add(currentValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
+				newCurrentXSlice.add(coord, coordMinusOne, share);
+				newCurrentXSlice.add(coord, coord, currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 			}
 		} else if (greaterXNeighborValue.compareTo(currentValue) < 0) {
 			// gx < current <= sz
@@ -1245,11 +1253,11 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			if (!share.equals(BigInt.ZERO)) {
 				toppled = true;
 			}
-			newCurrentXSlice[coord][coord] = newCurrentXSlice[coord][coord].add(currentValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
-			newGreaterXSlice[coord][coord] = newGreaterXSlice[coord][coord].add(share);
+			newCurrentXSlice.add(coord, coord, currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+			newGreaterXSlice.add(coord, coord, share);
 		} else {
 			// gx >= current <= sz
-			newCurrentXSlice[coord][coord] = newCurrentXSlice[coord][coord].add(currentValue);
+			newCurrentXSlice.add(coord, coord, currentValue);
 		}
 		return toppled;
 	}
@@ -1258,7 +1266,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			int sXShareMultiplier, BigInt gYValue, int gYShareMultiplier, BigInt sYValue, int sYShareMultiplier, 
 			BigInt gZValue, int gZShareMultiplier, BigInt sZValue, int sZShareMultiplier, BigInt[] relevantNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantNeighborCoords, 
 			int[] relevantNeighborShareMultipliers, 
-			BigInt[][][] newXSlices) {
+			AnisotropicBigIntAccumulatorArray[] newXSlices) {
 		int relevantNeighborCount = 0;
 		if (gXValue.compareTo(currentValue) < 0) {
 			relevantNeighborValues[relevantNeighborCount ] = gXValue;
@@ -1322,7 +1330,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			BigInt smallerXNeighborValue, BigInt greaterYNeighborValue, BigInt smallerYNeighborValue, 
 			BigInt greaterZNeighborValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, 
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, 
-			BigInt[][][] newXSlices) {
+			AnisotropicBigIntAccumulatorArray[] newXSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (greaterXNeighborValue.compareTo(currentValue) < 0) {
@@ -1383,7 +1391,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 	private static boolean topplePositionOfType13(int coord, BigInt currentValue, BigInt greaterXNeighborValue, 
 			BigInt smallerXNeighborValue, BigInt greaterYNeighborValue, BigInt smallerZNeighborValue, 
 			BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, 
-			int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][] newXSlices) {
+			int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newXSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (greaterXNeighborValue.compareTo(currentValue) < 0) {
@@ -1433,7 +1441,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 	private static boolean topplePositionOfType14(int y, int z, BigInt currentValue, BigInt greaterXNeighborValue, 
 			BigInt smallerYNeighborValue,	BigInt greaterZNeighborValue, BigInt smallerZNeighborValue, 
 			BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, 
-			int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][] newXSlices) {
+			int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newXSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (greaterXNeighborValue.compareTo(currentValue) < 0) {
@@ -1483,7 +1491,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 	private static boolean topplePositionOfType15(int y, int z, BigInt currentValue, BigInt greaterXNeighborValue, 
 			BigInt smallerXNeighborValue,	BigInt greaterYNeighborValue, BigInt smallerYNeighborValue, 
 			BigInt greaterZNeighborValue, BigInt smallerZNeighborValue, BigInt[] relevantNeighborValues, int[] sortedNeighborsIndexes, 
-			int[][] relevantNeighborCoords, BigInt[][][] newXSlices) {
+			int[][] relevantNeighborCoords, AnisotropicBigIntAccumulatorArray[] newXSlices) {
 		int relevantNeighborCount = 0;
 		if (greaterXNeighborValue.compareTo(currentValue) < 0) {
 			relevantNeighborValues[relevantNeighborCount] = greaterXNeighborValue;
@@ -1537,7 +1545,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 				relevantNeighborCount);
 	}
 	
-	private static boolean topplePosition(BigInt[][][] newXSlices, BigInt value, int y, int z, BigInt[] neighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(AnisotropicBigIntAccumulatorArray[] newXSlices, BigInt value, int y, int z, BigInt[] neighborValues, int[] sortedNeighborsIndexes,
 			int[][] neighborCoords, int neighborCount) {
 		boolean toppled = false;
 		switch (neighborCount) {
@@ -1557,9 +1565,9 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]] = newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]].add(share);
-					newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]] = newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]].add(share);
-					newXSlices[1][y][z] = newXSlices[1][y][z].add(value).subtract(toShare).add(share).add(shareAndRemainder[1]);
+					newXSlices[n0Coords[0]].add(n0Coords[1], n0Coords[2], share);
+					newXSlices[n1Coords[0]].add(n1Coords[1], n1Coords[2], share);
+					newXSlices[1].add(y, z, value.subtract(toShare).add(share).add(shareAndRemainder[1]));
 				} else if (n0Val.compareTo(n1Val) < 0) {
 					// n0Val < n1Val < value
 					BigInt toShare = value.subtract(n1Val); 
@@ -1568,8 +1576,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]] = newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]].add(share);
-					newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]] = newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]].add(share);
+					newXSlices[n0Coords[0]].add(n0Coords[1], n0Coords[2], share);
+					newXSlices[n1Coords[0]].add(n1Coords[1], n1Coords[2], share);
 					BigInt currentRemainingValue = value.subtract(share.multiply(BigInt.valueOf(neighborCount)));
 					toShare = currentRemainingValue.subtract(n0Val);
 					shareAndRemainder = toShare.divideAndRemainder(two);
@@ -1577,8 +1585,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]] = newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]].add(share);
-					newXSlices[1][y][z] = newXSlices[1][y][z].add(currentRemainingValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
+					newXSlices[n0Coords[0]].add(n0Coords[1], n0Coords[2], share);
+					newXSlices[1].add(y, z, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 				} else {
 					// n1Val < n0Val < value
 					BigInt toShare = value.subtract(n0Val); 
@@ -1587,8 +1595,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]] = newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]].add(share);
-					newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]] = newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]].add(share);
+					newXSlices[n0Coords[0]].add(n0Coords[1], n0Coords[2], share);
+					newXSlices[n1Coords[0]].add(n1Coords[1], n1Coords[2], share);
 					BigInt currentRemainingValue = value.subtract(share.multiply(BigInt.valueOf(neighborCount)));
 					toShare = currentRemainingValue.subtract(n1Val);
 					shareAndRemainder = toShare.divideAndRemainder(two);
@@ -1596,8 +1604,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]] = newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]].add(share);
-					newXSlices[1][y][z] = newXSlices[1][y][z].add(currentRemainingValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
+					newXSlices[n1Coords[0]].add(n1Coords[1], n1Coords[2], share);
+					newXSlices[1].add(y, z, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 				}				
 				break;
 			case 1:
@@ -1608,11 +1616,11 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					toppled = true;
 					value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 					int[] nc = neighborCoords[0];
-					newXSlices[nc[0]][nc[1]][nc[2]] = newXSlices[nc[0]][nc[1]][nc[2]].add(share);
+					newXSlices[nc[0]].add(nc[1], nc[2], share);
 				}
 				// no break
 			case 0:
-				newXSlices[1][y][z] = newXSlices[1][y][z].add(value);
+				newXSlices[1].add(y, z, value);
 				break;
 			default: // 6, 5, 4
 				Utils.sortDescending(neighborCount, neighborValues, sortedNeighborsIndexes);
@@ -1622,7 +1630,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 		return toppled;
 	}
 	
-	private static boolean topplePositionSortedNeighbors(BigInt[][][] newXSlices, BigInt value, int y, int z, 
+	private static boolean topplePositionSortedNeighbors(AnisotropicBigIntAccumulatorArray[] newXSlices, BigInt value, int y, int z, 
 			BigInt[] neighborValues, int[] sortedNeighborsIndexes, int[][] neighborCoords, int neighborCount) {
 		boolean toppled = false;
 		int shareCount = neighborCount + 1;
@@ -1635,7 +1643,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 			for (int j = 0; j < neighborCount; j++) {
 				int[] nc = neighborCoords[sortedNeighborsIndexes[j]];
-				newXSlices[nc[0]][nc[1]][nc[2]] = newXSlices[nc[0]][nc[1]][nc[2]].add(share);
+				newXSlices[nc[0]].add(nc[1], nc[2], share);
 			}
 		}
 		BigInt previousNeighborValue = neighborValue;
@@ -1651,18 +1659,18 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 					for (int j = i; j < neighborCount; j++) {
 						int[] nc = neighborCoords[sortedNeighborsIndexes[j]];
-						newXSlices[nc[0]][nc[1]][nc[2]] = newXSlices[nc[0]][nc[1]][nc[2]].add(share);
+						newXSlices[nc[0]].add(nc[1], nc[2], share);
 					}
 				}
 				previousNeighborValue = neighborValue;
 			}
 			shareCount--;
 		}
-		newXSlices[1][y][z] = newXSlices[1][y][z].add(value);
+		newXSlices[1].add(y, z, value);
 		return toppled;
 	}
 	
-	private static boolean topplePosition(BigInt[][][] newXSlices, BigInt value, int y, int z, BigInt[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(AnisotropicBigIntAccumulatorArray[] newXSlices, BigInt value, int y, int z, BigInt[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborShareMultipliers, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) {
 		boolean toppled = false;
@@ -1685,9 +1693,9 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]] = newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]].add(share.multiply(BigInt.valueOf(n0Mult)));
-					newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]] = newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]].add(share.multiply(BigInt.valueOf(n1Mult)));
-					newXSlices[1][y][z] = newXSlices[1][y][z].add(value).subtract(toShare).add(share).add(shareAndRemainder[1]);
+					newXSlices[n0Coords[0]].add(n0Coords[1], n0Coords[2], share.multiply(BigInt.valueOf(n0Mult)));
+					newXSlices[n1Coords[0]].add(n1Coords[1], n1Coords[2], share.multiply(BigInt.valueOf(n1Mult)));
+					newXSlices[1].add(y, z, value.subtract(toShare).add(share).add(shareAndRemainder[1]));
 				} else if (n0Val.compareTo(n1Val) < 0) {
 					// n0Val < n1Val < value
 					BigInt toShare = value.subtract(n1Val); 
@@ -1696,8 +1704,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]] = newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]].add(share.multiply(BigInt.valueOf(n0Mult)));
-					newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]] = newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]].add(share.multiply(BigInt.valueOf(n1Mult)));
+					newXSlices[n0Coords[0]].add(n0Coords[1], n0Coords[2], share.multiply(BigInt.valueOf(n0Mult)));
+					newXSlices[n1Coords[0]].add(n1Coords[1], n1Coords[2], share.multiply(BigInt.valueOf(n1Mult)));
 					shareCount -= asymmetricNeighborSymmetryCounts[1];
 					BigInt currentRemainingValue = value.subtract(share.multiply(BigInt.valueOf(neighborCount)));
 					toShare = currentRemainingValue.subtract(n0Val);
@@ -1706,8 +1714,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]] = newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]].add(share.multiply(BigInt.valueOf(n0Mult)));
-					newXSlices[1][y][z] = newXSlices[1][y][z].add(currentRemainingValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
+					newXSlices[n0Coords[0]].add(n0Coords[1], n0Coords[2], share.multiply(BigInt.valueOf(n0Mult)));
+					newXSlices[1].add(y, z, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 				} else {
 					// n1Val < n0Val < value
 					BigInt toShare = value.subtract(n0Val); 
@@ -1716,8 +1724,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]] = newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]].add(share.multiply(BigInt.valueOf(n0Mult)));
-					newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]] = newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]].add(share.multiply(BigInt.valueOf(n1Mult)));
+					newXSlices[n0Coords[0]].add(n0Coords[1], n0Coords[2], share.multiply(BigInt.valueOf(n0Mult)));
+					newXSlices[n1Coords[0]].add(n1Coords[1], n1Coords[2], share.multiply(BigInt.valueOf(n1Mult)));
 					shareCount -= asymmetricNeighborSymmetryCounts[0];
 					BigInt currentRemainingValue = value.subtract(share.multiply(BigInt.valueOf(neighborCount)));
 					toShare = currentRemainingValue.subtract(n1Val);
@@ -1726,8 +1734,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]] = newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]].add(share.multiply(BigInt.valueOf(n1Mult)));
-					newXSlices[1][y][z] = newXSlices[1][y][z].add(currentRemainingValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
+					newXSlices[n1Coords[0]].add(n1Coords[1], n1Coords[2], share.multiply(BigInt.valueOf(n1Mult)));
+					newXSlices[1].add(y, z, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 				}				
 				break;
 			case 1:
@@ -1739,11 +1747,11 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					toppled = true;
 					value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 					int[] nc = asymmetricNeighborCoords[0];
-					newXSlices[nc[0]][nc[1]][nc[2]] = newXSlices[nc[0]][nc[1]][nc[2]].add(share.multiply(BigInt.valueOf(asymmetricNeighborShareMultipliers[0])));
+					newXSlices[nc[0]].add(nc[1], nc[2], share.multiply(BigInt.valueOf(asymmetricNeighborShareMultipliers[0])));
 				}
 				// no break
 			case 0:
-				newXSlices[1][y][z] = newXSlices[1][y][z].add(value);
+				newXSlices[1].add(y, z, value);
 				break;
 			default: // 6, 5, 4
 				Utils.sortDescending(asymmetricNeighborCount, asymmetricNeighborValues, sortedNeighborsIndexes);
@@ -1753,7 +1761,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 		return toppled;
 	}
 	
-	private static boolean topplePositionSortedNeighbors(BigInt[][][] newXSlices, BigInt value, int y, int z, BigInt[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePositionSortedNeighbors(AnisotropicBigIntAccumulatorArray[] newXSlices, BigInt value, int y, int z, BigInt[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborShareMultipliers, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) {
 		boolean toppled = false;
@@ -1767,7 +1775,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 			for (int j = 0; j < asymmetricNeighborCount; j++) {
 				int[] nc = asymmetricNeighborCoords[sortedNeighborsIndexes[j]];
-				newXSlices[nc[0]][nc[1]][nc[2]] = newXSlices[nc[0]][nc[1]][nc[2]].add(share.multiply(BigInt.valueOf(asymmetricNeighborShareMultipliers[sortedNeighborsIndexes[j]])));
+				newXSlices[nc[0]].add(nc[1], nc[2], share.multiply(BigInt.valueOf(asymmetricNeighborShareMultipliers[sortedNeighborsIndexes[j]])));
 			}
 		}
 		BigInt previousNeighborValue = neighborValue;
@@ -1783,18 +1791,18 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 					for (int j = i; j < asymmetricNeighborCount; j++) {
 						int[] nc = asymmetricNeighborCoords[sortedNeighborsIndexes[j]];
-						newXSlices[nc[0]][nc[1]][nc[2]] = newXSlices[nc[0]][nc[1]][nc[2]].add(share.multiply(BigInt.valueOf(asymmetricNeighborShareMultipliers[sortedNeighborsIndexes[j]])));
+						newXSlices[nc[0]].add(nc[1], nc[2], share.multiply(BigInt.valueOf(asymmetricNeighborShareMultipliers[sortedNeighborsIndexes[j]])));
 					}
 				}
 				previousNeighborValue = neighborValue;
 			}
 			shareCount -= asymmetricNeighborSymmetryCounts[sortedNeighborsIndexes[i]];
 		}
-		newXSlices[1][y][z] = newXSlices[1][y][z].add(value);
+		newXSlices[1].add(y, z, value);
 		return toppled;
 	}
 	
-	private static boolean topplePosition(BigInt[][][] newXSlices, BigInt value, int y, int z, BigInt[] neighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(AnisotropicBigIntAccumulatorArray[] newXSlices, BigInt value, int y, int z, BigInt[] neighborValues, int[] sortedNeighborsIndexes,
 			int[][] neighborCoords, int[] neighborShareMultipliers, int neighborCount) {
 		boolean toppled = false;
 		switch (neighborCount) {
@@ -1815,9 +1823,9 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]] = newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]].add(share.multiply(BigInt.valueOf(n0Mult)));
-					newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]] = newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]].add(share.multiply(BigInt.valueOf(n1Mult)));
-					newXSlices[1][y][z] = newXSlices[1][y][z].add(value).subtract(toShare).add(share).add(shareAndRemainder[1]);
+					newXSlices[n0Coords[0]].add(n0Coords[1], n0Coords[2], share.multiply(BigInt.valueOf(n0Mult)));
+					newXSlices[n1Coords[0]].add(n1Coords[1], n1Coords[2], share.multiply(BigInt.valueOf(n1Mult)));
+					newXSlices[1].add(y, z, value.subtract(toShare).add(share).add(shareAndRemainder[1]));
 				} else if (n0Val.compareTo(n1Val) < 0) {
 					// n0Val < n1Val < value
 					BigInt toShare = value.subtract(n1Val); 
@@ -1826,8 +1834,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]] = newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]].add(share.multiply(BigInt.valueOf(n0Mult)));
-					newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]] = newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]].add(share.multiply(BigInt.valueOf(n1Mult)));
+					newXSlices[n0Coords[0]].add(n0Coords[1], n0Coords[2], share.multiply(BigInt.valueOf(n0Mult)));
+					newXSlices[n1Coords[0]].add(n1Coords[1], n1Coords[2], share.multiply(BigInt.valueOf(n1Mult)));
 					BigInt currentRemainingValue = value.subtract(share.multiply(BigInt.valueOf(neighborCount)));
 					toShare = currentRemainingValue.subtract(n0Val);
 					shareAndRemainder = toShare.divideAndRemainder(two);
@@ -1835,8 +1843,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]] = newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]].add(share.multiply(BigInt.valueOf(n0Mult)));
-					newXSlices[1][y][z] = newXSlices[1][y][z].add(currentRemainingValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
+					newXSlices[n0Coords[0]].add(n0Coords[1], n0Coords[2], share.multiply(BigInt.valueOf(n0Mult)));
+					newXSlices[1].add(y, z, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 				} else {
 					// n1Val < n0Val < value
 					BigInt toShare = value.subtract(n0Val); 
@@ -1845,8 +1853,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]] = newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]].add(share.multiply(BigInt.valueOf(n0Mult)));
-					newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]] = newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]].add(share.multiply(BigInt.valueOf(n1Mult)));
+					newXSlices[n0Coords[0]].add(n0Coords[1], n0Coords[2], share.multiply(BigInt.valueOf(n0Mult)));
+					newXSlices[n1Coords[0]].add(n1Coords[1], n1Coords[2], share.multiply(BigInt.valueOf(n1Mult)));
 					BigInt currentRemainingValue = value.subtract(share.multiply(BigInt.valueOf(neighborCount)));
 					toShare = currentRemainingValue.subtract(n1Val);
 					shareAndRemainder = toShare.divideAndRemainder(two);
@@ -1854,8 +1862,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]] = newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]].add(share.multiply(BigInt.valueOf(n1Mult)));
-					newXSlices[1][y][z] = newXSlices[1][y][z].add(currentRemainingValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
+					newXSlices[n1Coords[0]].add(n1Coords[1], n1Coords[2], share.multiply(BigInt.valueOf(n1Mult)));
+					newXSlices[1].add(y, z, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 				}				
 				break;
 			case 1:
@@ -1866,11 +1874,11 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					toppled = true;
 					value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 					int[] nc = neighborCoords[0];
-					newXSlices[nc[0]][nc[1]][nc[2]] = newXSlices[nc[0]][nc[1]][nc[2]].add(share.multiply(BigInt.valueOf(neighborShareMultipliers[0])));
+					newXSlices[nc[0]].add(nc[1], nc[2], share.multiply(BigInt.valueOf(neighborShareMultipliers[0])));
 				}
 				// no break
 			case 0:
-				newXSlices[1][y][z] = newXSlices[1][y][z].add(value);
+				newXSlices[1].add(y, z, value);
 				break;
 			default: // 6, 5, 4
 				Utils.sortDescending(neighborCount, neighborValues, sortedNeighborsIndexes);
@@ -1880,7 +1888,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 		return toppled;
 	}
 	
-	private static boolean topplePositionSortedNeighbors(BigInt[][][] newXSlices, BigInt value, int y, int z, BigInt[] neighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePositionSortedNeighbors(AnisotropicBigIntAccumulatorArray[] newXSlices, BigInt value, int y, int z, BigInt[] neighborValues, int[] sortedNeighborsIndexes,
 			int[][] neighborCoords, int[] neighborShareMultipliers, int neighborCount) {
 		boolean toppled = false;
 		int shareCount = neighborCount + 1;
@@ -1893,7 +1901,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 			for (int j = 0; j < neighborCount; j++) {
 				int[] nc = neighborCoords[sortedNeighborsIndexes[j]];
-				newXSlices[nc[0]][nc[1]][nc[2]] = newXSlices[nc[0]][nc[1]][nc[2]].add(share.multiply(BigInt.valueOf(neighborShareMultipliers[sortedNeighborsIndexes[j]])));
+				newXSlices[nc[0]].add(nc[1], nc[2], share.multiply(BigInt.valueOf(neighborShareMultipliers[sortedNeighborsIndexes[j]])));
 			}
 		}
 		BigInt previousNeighborValue = neighborValue;
@@ -1909,18 +1917,18 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 					for (int j = i; j < neighborCount; j++) {
 						int[] nc = neighborCoords[sortedNeighborsIndexes[j]];
-						newXSlices[nc[0]][nc[1]][nc[2]] = newXSlices[nc[0]][nc[1]][nc[2]].add(share.multiply(BigInt.valueOf(neighborShareMultipliers[sortedNeighborsIndexes[j]])));
+						newXSlices[nc[0]].add(nc[1], nc[2], share.multiply(BigInt.valueOf(neighborShareMultipliers[sortedNeighborsIndexes[j]])));
 					}
 				}
 				previousNeighborValue = neighborValue;
 			}
 			shareCount--;
 		}
-		newXSlices[1][y][z] = newXSlices[1][y][z].add(value);
+		newXSlices[1].add(y, z, value);
 		return toppled;
 	}
 	
-	private static boolean topplePosition(BigInt[][][] newXSlices, BigInt value, int y, int z, BigInt[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(AnisotropicBigIntAccumulatorArray[] newXSlices, BigInt value, int y, int z, BigInt[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) {
 		boolean toppled = false;
@@ -1942,9 +1950,9 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]] = newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]].add(share);
-					newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]] = newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]].add(share);
-					newXSlices[1][y][z] = newXSlices[1][y][z].add(value).subtract(toShare).add(share).add(shareAndRemainder[1]);
+					newXSlices[n0Coords[0]].add(n0Coords[1], n0Coords[2], share);
+					newXSlices[n1Coords[0]].add(n1Coords[1], n1Coords[2], share);
+					newXSlices[1].add(y, z, value.subtract(toShare).add(share).add(shareAndRemainder[1]));
 				} else if (n0Val.compareTo(n1Val) < 0) {
 					// n0Val < n1Val < value
 					BigInt toShare = value.subtract(n1Val); 
@@ -1953,8 +1961,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]] = newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]].add(share);
-					newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]] = newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]].add(share);
+					newXSlices[n0Coords[0]].add(n0Coords[1], n0Coords[2], share);
+					newXSlices[n1Coords[0]].add(n1Coords[1], n1Coords[2], share);
 					shareCount -= asymmetricNeighborSymmetryCounts[1];
 					BigInt currentRemainingValue = value.subtract(share.multiply(BigInt.valueOf(neighborCount)));
 					toShare = currentRemainingValue.subtract(n0Val);
@@ -1963,8 +1971,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]] = newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]].add(share);
-					newXSlices[1][y][z] = newXSlices[1][y][z].add(currentRemainingValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
+					newXSlices[n0Coords[0]].add(n0Coords[1], n0Coords[2], share);
+					newXSlices[1].add(y, z, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 				} else {
 					// n1Val < n0Val < value
 					BigInt toShare = value.subtract(n0Val); 
@@ -1973,8 +1981,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]] = newXSlices[n0Coords[0]][n0Coords[1]][n0Coords[2]].add(share);
-					newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]] = newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]].add(share);
+					newXSlices[n0Coords[0]].add(n0Coords[1], n0Coords[2], share);
+					newXSlices[n1Coords[0]].add(n1Coords[1], n1Coords[2], share);
 					shareCount -= asymmetricNeighborSymmetryCounts[0];
 					BigInt currentRemainingValue = value.subtract(share.multiply(BigInt.valueOf(neighborCount)));
 					toShare = currentRemainingValue.subtract(n1Val);
@@ -1983,8 +1991,8 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]] = newXSlices[n1Coords[0]][n1Coords[1]][n1Coords[2]].add(share);
-					newXSlices[1][y][z] = newXSlices[1][y][z].add(currentRemainingValue).subtract(toShare).add(share).add(shareAndRemainder[1]);
+					newXSlices[n1Coords[0]].add(n1Coords[1], n1Coords[2], share);
+					newXSlices[1].add(y, z, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 				}				
 				break;
 			case 1:
@@ -1996,11 +2004,11 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					toppled = true;
 					value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 					int[] nc = asymmetricNeighborCoords[0];
-					newXSlices[nc[0]][nc[1]][nc[2]] = newXSlices[nc[0]][nc[1]][nc[2]].add(share);
+					newXSlices[nc[0]].add(nc[1], nc[2], share);
 				}
 				// no break
 			case 0:
-				newXSlices[1][y][z] = newXSlices[1][y][z].add(value);
+				newXSlices[1].add(y, z, value);
 				break;
 			default: // 6, 5, 4
 				Utils.sortDescending(asymmetricNeighborCount, asymmetricNeighborValues, sortedNeighborsIndexes);
@@ -2010,7 +2018,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 		return toppled;
 	}
 	
-	private static boolean topplePositionSortedNeighbors(BigInt[][][] newXSlices, BigInt value, int y, int z, BigInt[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePositionSortedNeighbors(AnisotropicBigIntAccumulatorArray[] newXSlices, BigInt value, int y, int z, BigInt[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborSymmetryCounts, int neighborCount, int asymmetricNeighborCount) {
 		boolean toppled = false;
 		int shareCount = neighborCount + 1;
@@ -2023,7 +2031,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 			value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 			for (int j = 0; j < asymmetricNeighborCount; j++) {
 				int[] nc = asymmetricNeighborCoords[sortedNeighborsIndexes[j]];
-				newXSlices[nc[0]][nc[1]][nc[2]] = newXSlices[nc[0]][nc[1]][nc[2]].add(share);
+				newXSlices[nc[0]].add(nc[1], nc[2], share);
 			}
 		}
 		BigInt previousNeighborValue = neighborValue;
@@ -2039,14 +2047,14 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 					value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 					for (int j = i; j < asymmetricNeighborCount; j++) {
 						int[] nc = asymmetricNeighborCoords[sortedNeighborsIndexes[j]];
-						newXSlices[nc[0]][nc[1]][nc[2]] = newXSlices[nc[0]][nc[1]][nc[2]].add(share);
+						newXSlices[nc[0]].add(nc[1], nc[2], share);
 					}
 				}
 				previousNeighborValue = neighborValue;
 			}
 			shareCount -= asymmetricNeighborSymmetryCounts[sortedNeighborsIndexes[i]];
 		}
-		newXSlices[1][y][z] = newXSlices[1][y][z].add(value);
+		newXSlices[1].add(y, z, value);
 		return toppled;
 	}
 
@@ -2079,6 +2087,46 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 		return getName() + "/3D/" + folderName;
 	}
 	
+	private static AnisotropicBigIntAccumulatorArray[] buildGrid(int side) {
+		AnisotropicBigIntAccumulatorArray[] grid = new AnisotropicBigIntAccumulatorArray[side];
+		for (int x = 0; x < side; x++) {
+			grid[x] = new AnisotropicBigIntAccumulatorArray(2, x + 1);
+		}
+		return grid;
+	}
+	
+	private static AnisotropicBigIntAccumulatorArray[] toAccumulatorGrid(BigInt[][][] array) {
+		AnisotropicBigIntAccumulatorArray[] grid = buildGrid(array.length);
+		for (int x = 0; x < array.length; x++) {
+			AnisotropicBigIntAccumulatorArray slice = grid[x];
+			for (int y = 0; y <= x; y++) {
+				for (int z = 0; z <= y; z++) {
+					slice.set(y, z, array[x][y][z]);
+				}
+			}
+		}
+		return grid;
+	}
+	
+	/**
+	 * Returns the grid as a 3D array, which is the format of the backups.
+	 * 
+	 * @param grid the grid
+	 * @return the 3D array
+	 */
+	private static BigInt[][][] toArrayGrid(AnisotropicBigIntAccumulatorArray[] grid) {
+		BigInt[][][] array = Utils.buildAnisotropic3DBigIntArray(grid.length);
+		for (int x = 0; x < grid.length; x++) {
+			AnisotropicBigIntAccumulatorArray slice = grid[x];
+			for (int y = 0; y <= x; y++) {
+				for (int z = 0; z <= y; z++) {
+					array[x][y][z] = slice.get(y, z);
+				}
+			}
+		}
+		return array;
+	}
+	
 	@Override
 	public void backUp(String backupPath, String backupName) throws FileNotFoundException, IOException {
 		SerializableModelData data = new SerializableModelData();
@@ -2086,7 +2134,7 @@ public class BigIntAether3D extends IsotropicCubicNumericArrayModelAsymmetricSec
 		data.put(SerializableModelData.INITIAL_CONFIGURATION, initialValue);
 		data.put(SerializableModelData.INITIAL_CONFIGURATION_TYPE, SerializableModelData.InitialConfigurationTypes.SINGLE_SOURCE_AT_ORIGIN);
 		data.put(SerializableModelData.INITIAL_CONFIGURATION_IMPLEMENTATION_TYPE, SerializableModelData.InitialConfigurationImplementationTypes.BIG_INT);
-		data.put(SerializableModelData.GRID, grid);
+		data.put(SerializableModelData.GRID, toArrayGrid(grid));
 		data.put(SerializableModelData.GRID_TYPE, SerializableModelData.GridTypes.INFINITE_REGULAR);
 		data.put(SerializableModelData.GRID_DIMENSION, 3);
 		data.put(SerializableModelData.GRID_IMPLEMENTATION_TYPE, SerializableModelData.GridImplementationTypes.ANYSOTROPIC_BIG_INT_ARRAY_1);
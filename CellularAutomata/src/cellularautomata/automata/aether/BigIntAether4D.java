@@ -20,8 +20,9 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import cellularautomata.Constants;
 import cellularautomata.Utils;
+import cellularautomata.arrays.AnisotropicBigIntAccumulatorArray;
 import cellularautomata.model.SerializableModelData;
-import cellularautomata.model4d.IsotropicHypercubicNumericArrayModelAsymmetricSection4D;
+import cellularautomata.model4d.IsotropicHypercubicNumericModelAsymmetricSection4D;
 import cellularautomata.numbers.BigInt;
 
 /**
@@ -30,7 +31,7 @@ import cellularautomata.numbers.BigInt;
  * @author Jaume
  *
  */
-public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetricSection4D<BigInt> {
+public class BigIntAether4D implements IsotropicHypercubicNumericModelAsymmetricSection4D<BigInt> {
 
 	private static final BigInt two = BigInt.valueOf(2);
 	private static final BigInt three = BigInt.valueOf(3);
@@ -41,6 +42,8 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 	private final BigInt initialValue;
 	private long step;
 	private int maxW;
+	/** The grid as w slices that accumulate the values in place, see {@link AnisotropicBigIntAccumulatorArray} */
+	private AnisotropicBigIntAccumulatorArray[] grid;
 	private Boolean changed = null;
 	/**
 	 * Used in {@link #getWholeGridSubfolderPath()}.
@@ -54,8 +57,8 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 	 */
 	public BigIntAether4D(BigInt initialValue) {
 		this.initialValue = initialValue;
-		grid = Utils.buildAnisotropic4DBigIntArray(8);
-		grid[0][0][0][0] = this.initialValue;
+		grid = buildGrid(8);
+		grid[0].set(0, 0, 0, this.initialValue);
 		maxW = 5;
 		step = 0;
 		String strInitialValue = Utils.numberToPlainTextMaxLength(initialValue, Constants.MAX_INITIAL_VALUE_LENGTH_IN_PATH);
@@ -91,7 +94,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			throw new IllegalArgumentException("The backup file's configuration is not compatible with this class.");
 		}
 		initialValue = (BigInt) data.get(SerializableModelData.INITIAL_CONFIGURATION);
-		grid = (BigInt[][][][]) data.get(SerializableModelData.GRID);
+		grid = toAccumulatorGrid((BigInt[][][][]) data.get(SerializableModelData.GRID));
 		maxW = (int) data.get(SerializableModelData.COORDINATE_BOUNDS);
 		step = (long) data.get(SerializableModelData.STEP);
 		changed = (Boolean) data.get(SerializableModelData.CONFIGURATION_CHANGED_FROM_PREVIOUS_STEP);
@@ -100,17 +103,17 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 
 	@Override
 	public Boolean nextStep() {
-		BigInt[][][][] newGrid = new BigInt[maxW + 3][][][];
+		AnisotropicBigIntAccumulatorArray[] newGrid = new AnisotropicBigIntAccumulatorArray[maxW + 3];
 		boolean changed = false;
-		BigInt[][][] smallerWSlice = null, currentWSlice = grid[0], greaterWSlice = grid[1];
-		BigInt[][][] newSmallerWSlice = null, 
-				newCurrentWSlice = Utils.buildAnisotropic3DBigIntArray(1), 
-				newGreaterWSlice = Utils.buildAnisotropic3DBigIntArray(2);// build new grid progressively to save memory
+		AnisotropicBigIntAccumulatorArray smallerWSlice = null, currentWSlice = grid[0], greaterWSlice = grid[1];
+		AnisotropicBigIntAccumulatorArray newSmallerWSlice = null, 
+				newCurrentWSlice = new AnisotropicBigIntAccumulatorArray(3, 1), 
+				newGreaterWSlice = new AnisotropicBigIntAccumulatorArray(3, 2);// build new grid progressively to save memory
 		newGrid[0] = newCurrentWSlice;
 		newGrid[1] = newGreaterWSlice;
 		// w = 0, x = 0, y = 0, z = 0
-		BigInt currentValue = currentWSlice[0][0][0];
-		BigInt greaterWNeighborValue = greaterWSlice[0][0][0];
+		BigInt currentValue = currentWSlice.get(0, 0, 0);
+		BigInt greaterWNeighborValue = greaterWSlice.get(0, 0, 0);
 		if (topplePositionOfType1(currentValue, greaterWNeighborValue, newCurrentWSlice, newGreaterWSlice)) {
 			changed = true;
 		}
@@ -120,9 +123,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		greaterWSlice = grid[2];
 		newSmallerWSlice = newCurrentWSlice;
 		newCurrentWSlice = newGreaterWSlice;
-		newGreaterWSlice = Utils.buildAnisotropic3DBigIntArray(3);
+		newGreaterWSlice = new AnisotropicBigIntAccumulatorArray(3, 3);
 		newGrid[2] = newGreaterWSlice;
-		BigInt[][][][] newWSlices = new BigInt[][][][] { newSmallerWSlice, newCurrentWSlice, newGreaterWSlice};
+		AnisotropicBigIntAccumulatorArray[] newWSlices = new AnisotropicBigIntAccumulatorArray[] { newSmallerWSlice, newCurrentWSlice, newGreaterWSlice};
 		BigInt[] relevantAsymmetricNeighborValues = new BigInt[8];
 		int[] sortedNeighborsIndexes = new int[8];
 		int[][] relevantAsymmetricNeighborCoords = new int[8][4];
@@ -132,8 +135,8 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerWNeighborValue = currentValue;
 		currentValue = greaterWNeighborValue;
-		greaterWNeighborValue = greaterWSlice[0][0][0];
-		BigInt greaterXNeighborValue = currentWSlice[1][0][0];
+		greaterWNeighborValue = greaterWSlice.get(0, 0, 0);
+		BigInt greaterXNeighborValue = currentWSlice.get(1, 0, 0);
 		if (topplePositionOfType2(currentValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -143,8 +146,8 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerXNeighborValue = currentValue;
 		currentValue = greaterXNeighborValue;
-		greaterWNeighborValue = greaterWSlice[1][0][0];
-		BigInt greaterYNeighborValue = currentWSlice[1][1][0];
+		greaterWNeighborValue = greaterWSlice.get(1, 0, 0);
+		BigInt greaterYNeighborValue = currentWSlice.get(1, 1, 0);
 		if (topplePositionOfType3(currentValue, greaterWNeighborValue, smallerXNeighborValue, greaterYNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -154,8 +157,8 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerYNeighborValue = currentValue;
 		currentValue = greaterYNeighborValue;
-		greaterWNeighborValue = greaterWSlice[1][1][0];
-		BigInt greaterZNeighborValue = currentWSlice[1][1][1];
+		greaterWNeighborValue = greaterWSlice.get(1, 1, 0);
+		BigInt greaterZNeighborValue = currentWSlice.get(1, 1, 1);
 		if (topplePositionOfType4(currentValue, greaterWNeighborValue, smallerYNeighborValue, greaterZNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -165,7 +168,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[1][1][1];
+		greaterWNeighborValue = greaterWSlice.get(1, 1, 1);
 		if (topplePositionOfType5(currentValue, greaterWNeighborValue, smallerZNeighborValue, newCurrentWSlice, newGreaterWSlice)) {
 			changed = true;
 		}
@@ -174,19 +177,19 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		smallerWSlice = currentWSlice;
 		currentWSlice = greaterWSlice;
 		greaterWSlice = grid[3];
-		BigInt[][][][] wSlices = new BigInt[][][][] { smallerWSlice, currentWSlice, greaterWSlice};
+		AnisotropicBigIntAccumulatorArray[] wSlices = new AnisotropicBigIntAccumulatorArray[] { smallerWSlice, currentWSlice, greaterWSlice};
 		newSmallerWSlice = newCurrentWSlice;
 		newCurrentWSlice = newGreaterWSlice;
-		newGreaterWSlice = Utils.buildAnisotropic3DBigIntArray(4);
+		newGreaterWSlice = new AnisotropicBigIntAccumulatorArray(3, 4);
 		newGrid[3] = newGreaterWSlice;
 		newWSlices[0] = newSmallerWSlice;
 		newWSlices[1] = newCurrentWSlice;
 		newWSlices[2] = newGreaterWSlice;
 		// w = 2, x = 0, y = 0, z = 0
-		currentValue = currentWSlice[0][0][0];
-		greaterWNeighborValue = greaterWSlice[0][0][0];
-		smallerWNeighborValue = smallerWSlice[0][0][0];
-		greaterXNeighborValue = currentWSlice[1][0][0];
+		currentValue = currentWSlice.get(0, 0, 0);
+		greaterWNeighborValue = greaterWSlice.get(0, 0, 0);
+		smallerWNeighborValue = smallerWSlice.get(0, 0, 0);
+		greaterXNeighborValue = currentWSlice.get(1, 0, 0);
 		if (topplePositionOfType6(currentValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
 			changed = true;
@@ -195,10 +198,10 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerXNeighborValue = currentValue;
 		currentValue = greaterXNeighborValue;
-		greaterWNeighborValue = greaterWSlice[1][0][0];
-		smallerWNeighborValue = smallerWSlice[1][0][0];
-		greaterXNeighborValue = currentWSlice[2][0][0];
-		greaterYNeighborValue = currentWSlice[1][1][0];
+		greaterWNeighborValue = greaterWSlice.get(1, 0, 0);
+		smallerWNeighborValue = smallerWSlice.get(1, 0, 0);
+		greaterXNeighborValue = currentWSlice.get(2, 0, 0);
+		greaterYNeighborValue = currentWSlice.get(1, 1, 0);
 		if (topplePositionOfType7(1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, 
 				smallerXNeighborValue, 6, greaterYNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 				relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -208,10 +211,10 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerYNeighborValue = currentValue;
 		currentValue = greaterYNeighborValue;
-		greaterWNeighborValue = greaterWSlice[1][1][0];
-		smallerWNeighborValue = smallerWSlice[1][1][0];
-		greaterXNeighborValue = currentWSlice[2][1][0];
-		greaterZNeighborValue = currentWSlice[1][1][1];
+		greaterWNeighborValue = greaterWSlice.get(1, 1, 0);
+		smallerWNeighborValue = smallerWSlice.get(1, 1, 0);
+		greaterXNeighborValue = currentWSlice.get(2, 1, 0);
+		greaterZNeighborValue = currentWSlice.get(1, 1, 1);
 		if (topplePositionOfType8(1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 3, greaterXNeighborValue, 2, smallerYNeighborValue, 4, 
 				greaterZNeighborValue, 3, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -221,19 +224,19 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[1][1][1];
-		smallerWNeighborValue = smallerWSlice[1][1][1];
-		greaterXNeighborValue = currentWSlice[2][1][1];
+		greaterWNeighborValue = greaterWSlice.get(1, 1, 1);
+		smallerWNeighborValue = smallerWSlice.get(1, 1, 1);
+		greaterXNeighborValue = currentWSlice.get(2, 1, 1);
 		if (topplePositionOfType9(1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 4, greaterXNeighborValue, 2, 
 				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 				relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
 			changed = true;
 		}
 		// w = 2, x = 2, y = 0, z = 0
-		currentValue = currentWSlice[2][0][0];
-		greaterWNeighborValue = greaterWSlice[2][0][0];
-		smallerXNeighborValue = currentWSlice[1][0][0];
-		greaterYNeighborValue = currentWSlice[2][1][0];
+		currentValue = currentWSlice.get(2, 0, 0);
+		greaterWNeighborValue = greaterWSlice.get(2, 0, 0);
+		smallerXNeighborValue = currentWSlice.get(1, 0, 0);
+		greaterYNeighborValue = currentWSlice.get(2, 1, 0);
 		if (topplePositionOfType10(2, currentValue, greaterWNeighborValue, smallerXNeighborValue, greaterYNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
 			changed = true;
@@ -242,10 +245,10 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerYNeighborValue = currentValue;
 		currentValue = greaterYNeighborValue;
-		greaterWNeighborValue = greaterWSlice[2][1][0];
-		smallerXNeighborValue = currentWSlice[1][1][0];
-		greaterYNeighborValue = currentWSlice[2][2][0];
-		greaterZNeighborValue = currentWSlice[2][1][1];
+		greaterWNeighborValue = greaterWSlice.get(2, 1, 0);
+		smallerXNeighborValue = currentWSlice.get(1, 1, 0);
+		greaterYNeighborValue = currentWSlice.get(2, 2, 0);
+		greaterZNeighborValue = currentWSlice.get(2, 1, 1);
 		if (topplePositionOfType11(2, 1, currentValue, greaterWNeighborValue, smallerXNeighborValue, 2, greaterYNeighborValue, 3, smallerYNeighborValue, 4, 
 				greaterZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -255,9 +258,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[2][1][1];
-		smallerXNeighborValue = currentWSlice[1][1][1];
-		greaterYNeighborValue = currentWSlice[2][2][1];
+		greaterWNeighborValue = greaterWSlice.get(2, 1, 1);
+		smallerXNeighborValue = currentWSlice.get(1, 1, 1);
+		greaterYNeighborValue = currentWSlice.get(2, 2, 1);
 		if (topplePositionOfType12(2, 1, currentValue, greaterWNeighborValue, smallerXNeighborValue, 3, greaterYNeighborValue, 3, 
 				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 				relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -267,8 +270,8 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerYNeighborValue = smallerZNeighborValue;
 		greaterZNeighborValue = greaterYNeighborValue;		
-		currentValue = currentWSlice[2][2][0];
-		greaterWNeighborValue = greaterWSlice[2][2][0];
+		currentValue = currentWSlice.get(2, 2, 0);
+		greaterWNeighborValue = greaterWSlice.get(2, 2, 0);
 		if (topplePositionOfType13(2, currentValue, greaterWNeighborValue, smallerYNeighborValue, greaterZNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -278,9 +281,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[2][2][1];
-		smallerYNeighborValue = currentWSlice[2][1][1];
-		greaterZNeighborValue = currentWSlice[2][2][2];
+		greaterWNeighborValue = greaterWSlice.get(2, 2, 1);
+		smallerYNeighborValue = currentWSlice.get(2, 1, 1);
+		greaterZNeighborValue = currentWSlice.get(2, 2, 2);
 		if (topplePositionOfType14(2, 1, currentValue, greaterWNeighborValue, smallerYNeighborValue, 2, greaterZNeighborValue, 4, 
 				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 				relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -290,7 +293,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[2][2][2];
+		greaterWNeighborValue = greaterWSlice.get(2, 2, 2);
 		if (topplePositionOfType15(2, currentValue, greaterWNeighborValue, smallerZNeighborValue, newCurrentWSlice, newGreaterWSlice)) {
 			changed = true;
 		}		
@@ -304,7 +307,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		wSlices[2] = greaterWSlice;
 		newSmallerWSlice = newCurrentWSlice;
 		newCurrentWSlice = newGreaterWSlice;
-		newGreaterWSlice = Utils.buildAnisotropic3DBigIntArray(5);
+		newGreaterWSlice = new AnisotropicBigIntAccumulatorArray(3, 5);
 		newGrid[4] = newGreaterWSlice;
 		newWSlices[0] = newSmallerWSlice;
 		newWSlices[1] = newCurrentWSlice;
@@ -314,12 +317,12 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			changed = true;
 		}
 		// 03 | 02 | 00 | 00 | 19
-		currentValue = currentWSlice[2][0][0];
-		greaterWNeighborValue = greaterWSlice[2][0][0];
-		smallerWNeighborValue = smallerWSlice[2][0][0];
-		greaterXNeighborValue = currentWSlice[3][0][0];
-		smallerXNeighborValue = currentWSlice[1][0][0];
-		greaterYNeighborValue = currentWSlice[2][1][0];
+		currentValue = currentWSlice.get(2, 0, 0);
+		greaterWNeighborValue = greaterWSlice.get(2, 0, 0);
+		smallerWNeighborValue = smallerWSlice.get(2, 0, 0);
+		greaterXNeighborValue = currentWSlice.get(3, 0, 0);
+		smallerXNeighborValue = currentWSlice.get(1, 0, 0);
+		greaterYNeighborValue = currentWSlice.get(2, 1, 0);
 		if (topplePositionOfType7(2, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, 
 				smallerXNeighborValue, 1, greaterYNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 				relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -329,12 +332,12 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerYNeighborValue = currentValue;
 		currentValue = greaterYNeighborValue;
-		greaterWNeighborValue = greaterWSlice[2][1][0];
-		smallerWNeighborValue = smallerWSlice[2][1][0];
-		greaterXNeighborValue = currentWSlice[3][1][0];
-		smallerXNeighborValue = currentWSlice[1][1][0];
-		greaterYNeighborValue = currentWSlice[2][2][0];
-		greaterZNeighborValue = currentWSlice[2][1][1];
+		greaterWNeighborValue = greaterWSlice.get(2, 1, 0);
+		smallerWNeighborValue = smallerWSlice.get(2, 1, 0);
+		greaterXNeighborValue = currentWSlice.get(3, 1, 0);
+		smallerXNeighborValue = currentWSlice.get(1, 1, 0);
+		greaterYNeighborValue = currentWSlice.get(2, 2, 0);
+		greaterZNeighborValue = currentWSlice.get(2, 1, 1);
 		if (topplePositionOfType16(2, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, greaterYNeighborValue, 2, 
 				smallerYNeighborValue, 4, greaterZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -344,11 +347,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[2][1][1];
-		smallerWNeighborValue = smallerWSlice[2][1][1];
-		greaterXNeighborValue = currentWSlice[3][1][1];
-		smallerXNeighborValue = currentWSlice[1][1][1];
-		greaterYNeighborValue = currentWSlice[2][2][1];
+		greaterWNeighborValue = greaterWSlice.get(2, 1, 1);
+		smallerWNeighborValue = smallerWSlice.get(2, 1, 1);
+		greaterXNeighborValue = currentWSlice.get(3, 1, 1);
+		smallerXNeighborValue = currentWSlice.get(1, 1, 1);
+		greaterYNeighborValue = currentWSlice.get(2, 2, 1);
 		if (topplePositionOfType17(2, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, greaterYNeighborValue, 2, 
 				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -358,10 +361,10 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerYNeighborValue = smallerZNeighborValue;
 		greaterZNeighborValue = greaterYNeighborValue;
-		currentValue = currentWSlice[2][2][0];
-		greaterWNeighborValue = greaterWSlice[2][2][0];
-		smallerWNeighborValue = smallerWSlice[2][2][0];
-		greaterXNeighborValue = currentWSlice[3][2][0];
+		currentValue = currentWSlice.get(2, 2, 0);
+		greaterWNeighborValue = greaterWSlice.get(2, 2, 0);
+		smallerWNeighborValue = smallerWSlice.get(2, 2, 0);
+		greaterXNeighborValue = currentWSlice.get(3, 2, 0);
 		if (topplePositionOfType8(2, currentValue, greaterWNeighborValue, smallerWNeighborValue, 3, greaterXNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers,
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -371,11 +374,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[2][2][1];
-		smallerWNeighborValue = smallerWSlice[2][2][1];
-		greaterXNeighborValue = currentWSlice[3][2][1];
-		smallerYNeighborValue = currentWSlice[2][1][1];
-		greaterZNeighborValue = currentWSlice[2][2][2];
+		greaterWNeighborValue = greaterWSlice.get(2, 2, 1);
+		smallerWNeighborValue = smallerWSlice.get(2, 2, 1);
+		greaterXNeighborValue = currentWSlice.get(3, 2, 1);
+		smallerYNeighborValue = currentWSlice.get(2, 1, 1);
+		greaterZNeighborValue = currentWSlice.get(2, 2, 2);
 		if (topplePositionOfType18(2, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 3, greaterXNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 3, 
 				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -385,9 +388,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[2][2][2];
-		smallerWNeighborValue = smallerWSlice[2][2][2];
-		greaterXNeighborValue = currentWSlice[3][2][2];
+		greaterWNeighborValue = greaterWSlice.get(2, 2, 2);
+		smallerWNeighborValue = smallerWSlice.get(2, 2, 2);
+		greaterXNeighborValue = currentWSlice.get(3, 2, 2);
 		if (topplePositionOfType9(2, currentValue, greaterWNeighborValue, smallerWNeighborValue, 4, greaterXNeighborValue, 2, 
 				smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 				relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -398,12 +401,12 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			changed = true;
 		}
 		// 03 | 03 | 02 | 00 | 27
-		currentValue = currentWSlice[3][2][0];
-		greaterWNeighborValue = greaterWSlice[3][2][0];
-		smallerXNeighborValue = currentWSlice[2][2][0];
-		greaterYNeighborValue = currentWSlice[3][3][0];
-		smallerYNeighborValue = currentWSlice[3][1][0];
-		greaterZNeighborValue = currentWSlice[3][2][1];
+		currentValue = currentWSlice.get(3, 2, 0);
+		greaterWNeighborValue = greaterWSlice.get(3, 2, 0);
+		smallerXNeighborValue = currentWSlice.get(2, 2, 0);
+		greaterYNeighborValue = currentWSlice.get(3, 3, 0);
+		smallerYNeighborValue = currentWSlice.get(3, 1, 0);
+		greaterZNeighborValue = currentWSlice.get(3, 2, 1);
 		if (topplePositionOfType11(3, 2, currentValue, greaterWNeighborValue, smallerXNeighborValue, 2, greaterYNeighborValue, 3, smallerYNeighborValue, 1, 
 				greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -413,11 +416,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[3][2][1];
-		smallerXNeighborValue = currentWSlice[2][2][1];
-		greaterYNeighborValue = currentWSlice[3][3][1];
-		smallerYNeighborValue = currentWSlice[3][1][1];
-		greaterZNeighborValue = currentWSlice[3][2][2];
+		greaterWNeighborValue = greaterWSlice.get(3, 2, 1);
+		smallerXNeighborValue = currentWSlice.get(2, 2, 1);
+		greaterYNeighborValue = currentWSlice.get(3, 3, 1);
+		smallerYNeighborValue = currentWSlice.get(3, 1, 1);
+		greaterZNeighborValue = currentWSlice.get(3, 2, 2);
 		if (topplePositionOfType19(3, 2, 1, currentValue, greaterWNeighborValue, smallerXNeighborValue, 2, greaterYNeighborValue, 3, smallerYNeighborValue, 2, greaterZNeighborValue, 2, 
 				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers,
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -427,9 +430,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[3][2][2];
-		smallerXNeighborValue = currentWSlice[2][2][2];
-		greaterYNeighborValue = currentWSlice[3][3][2];
+		greaterWNeighborValue = greaterWSlice.get(3, 2, 2);
+		smallerXNeighborValue = currentWSlice.get(2, 2, 2);
+		greaterYNeighborValue = currentWSlice.get(3, 3, 2);
 		if (topplePositionOfType12(3, 2, currentValue, greaterWNeighborValue, smallerXNeighborValue, 3, greaterYNeighborValue, 3, 
 				smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 				relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -450,7 +453,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		wSlices[2] = greaterWSlice;
 		newSmallerWSlice = newCurrentWSlice;
 		newCurrentWSlice = newGreaterWSlice;
-		newGreaterWSlice = Utils.buildAnisotropic3DBigIntArray(6);
+		newGreaterWSlice = new AnisotropicBigIntAccumulatorArray(3, 6);
 		newGrid[5] = newGreaterWSlice;
 		newWSlices[0] = newSmallerWSlice;
 		newWSlices[1] = newCurrentWSlice;
@@ -466,14 +469,14 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		}
 
 		// 04 | 03 | 02 | 00 | 40
-		currentValue = currentWSlice[3][2][0];
-		greaterWNeighborValue = greaterWSlice[3][2][0];
-		smallerWNeighborValue = smallerWSlice[3][2][0];
-		greaterXNeighborValue = currentWSlice[4][2][0];
-		smallerXNeighborValue = currentWSlice[2][2][0];
-		greaterYNeighborValue = currentWSlice[3][3][0];
-		smallerYNeighborValue = currentWSlice[3][1][0];
-		greaterZNeighborValue = currentWSlice[3][2][1];
+		currentValue = currentWSlice.get(3, 2, 0);
+		greaterWNeighborValue = greaterWSlice.get(3, 2, 0);
+		smallerWNeighborValue = smallerWSlice.get(3, 2, 0);
+		greaterXNeighborValue = currentWSlice.get(4, 2, 0);
+		smallerXNeighborValue = currentWSlice.get(2, 2, 0);
+		greaterYNeighborValue = currentWSlice.get(3, 3, 0);
+		smallerYNeighborValue = currentWSlice.get(3, 1, 0);
+		greaterZNeighborValue = currentWSlice.get(3, 2, 1);
 		if (topplePositionOfType16(3, 2, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, greaterYNeighborValue, 2, 
 				smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -483,13 +486,13 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[3][2][1];
-		smallerWNeighborValue = smallerWSlice[3][2][1];
-		greaterXNeighborValue = currentWSlice[4][2][1];
-		smallerXNeighborValue = currentWSlice[2][2][1];
-		greaterYNeighborValue = currentWSlice[3][3][1];
-		smallerYNeighborValue = currentWSlice[3][1][1];
-		greaterZNeighborValue = currentWSlice[3][2][2];
+		greaterWNeighborValue = greaterWSlice.get(3, 2, 1);
+		smallerWNeighborValue = smallerWSlice.get(3, 2, 1);
+		greaterXNeighborValue = currentWSlice.get(4, 2, 1);
+		smallerXNeighborValue = currentWSlice.get(2, 2, 1);
+		greaterYNeighborValue = currentWSlice.get(3, 3, 1);
+		smallerYNeighborValue = currentWSlice.get(3, 1, 1);
+		greaterZNeighborValue = currentWSlice.get(3, 2, 2);
 		if (topplePositionOfType23(3, 2, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, greaterYNeighborValue, 2, 
 				smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 				relevantAsymmetricNeighborShareMultipliers, newWSlices)) {
@@ -499,11 +502,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[3][2][2];
-		smallerWNeighborValue = smallerWSlice[3][2][2];
-		greaterXNeighborValue = currentWSlice[4][2][2];
-		smallerXNeighborValue = currentWSlice[2][2][2];
-		greaterYNeighborValue = currentWSlice[3][3][2];
+		greaterWNeighborValue = greaterWSlice.get(3, 2, 2);
+		smallerWNeighborValue = smallerWSlice.get(3, 2, 2);
+		greaterXNeighborValue = currentWSlice.get(4, 2, 2);
+		smallerXNeighborValue = currentWSlice.get(2, 2, 2);
+		greaterYNeighborValue = currentWSlice.get(3, 3, 2);
 		if (topplePositionOfType17(3, 2, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, greaterYNeighborValue, 2, 
 				smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -531,7 +534,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			maxW++;
 		}
 		if (newGrid.length > grid.length) {
-			newGrid[grid.length] = Utils.buildAnisotropic3DBigIntArray(newGrid.length);
+			newGrid[grid.length] = new AnisotropicBigIntAccumulatorArray(3, newGrid.length);
 		}
 		grid = newGrid;
 		step++;
@@ -539,18 +542,23 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return changed;
 	}
 
+	@Override
+	public BigInt getFromPosition(int w, int x, int y, int z) {
+		return grid[w].get(x, y, z);
+	}
+
 	@Override
 	public Boolean isChanged() {
 		return changed;
 	}
 
-	private boolean toppleRangeBeyondW4(BigInt[][][][] wSlices, BigInt[][][][] newWSlices, BigInt[][][][] newGrid, int minW,
+	private boolean toppleRangeBeyondW4(AnisotropicBigIntAccumulatorArray[] wSlices, AnisotropicBigIntAccumulatorArray[] newWSlices, AnisotropicBigIntAccumulatorArray[] newGrid, int minW,
 			int maxW, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords,
 			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts) {
 		boolean changed = false;
 		int w = minW, wMinusOne = w - 1, wMinusTwo = w - 2, wMinusThree = w - 3, wPlusOne = w + 1, wPlusTwo = w + 2;
-		BigInt[][][] smallerWSlice = null, currentWSlice = wSlices[1], greaterWSlice = wSlices[2];
-		BigInt[][][] newSmallerWSlice = null, newCurrentWSlice = newWSlices[1], newGreaterWSlice = newWSlices[2];
+		AnisotropicBigIntAccumulatorArray smallerWSlice = null, currentWSlice = wSlices[1], greaterWSlice = wSlices[2];
+		AnisotropicBigIntAccumulatorArray newSmallerWSlice = null, newCurrentWSlice = newWSlices[1], newGreaterWSlice = newWSlices[2];
 		for (; w != maxW; wMinusThree = wMinusTwo, wMinusTwo = wMinusOne, wMinusOne = w, w = wPlusOne, wPlusOne = wPlusTwo, wPlusTwo++) {
 			//w slice transition
 			grid[wMinusTwo] = null;// free old grid progressively to save memory
@@ -562,7 +570,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			wSlices[2] = greaterWSlice;
 			newSmallerWSlice = newCurrentWSlice;
 			newCurrentWSlice = newGreaterWSlice;
-			newGreaterWSlice = Utils.buildAnisotropic3DBigIntArray(wPlusTwo);
+			newGreaterWSlice = new AnisotropicBigIntAccumulatorArray(3, wPlusTwo);
 			newGrid[wPlusOne] = newGreaterWSlice;
 			newWSlices[0] = newSmallerWSlice;
 			newWSlices[1] = newCurrentWSlice;
@@ -576,14 +584,14 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				changed = true;
 			}
 			//  w | 03 | 02 | 00 | 53
-			BigInt currentValue = currentWSlice[3][2][0];
-			BigInt greaterWNeighborValue = greaterWSlice[3][2][0];
-			BigInt smallerWNeighborValue = smallerWSlice[3][2][0];
-			BigInt greaterXNeighborValue = currentWSlice[4][2][0];
-			BigInt smallerXNeighborValue = currentWSlice[2][2][0];
-			BigInt greaterYNeighborValue = currentWSlice[3][3][0];
-			BigInt smallerYNeighborValue = currentWSlice[3][1][0];
-			BigInt greaterZNeighborValue = currentWSlice[3][2][1];
+			BigInt currentValue = currentWSlice.get(3, 2, 0);
+			BigInt greaterWNeighborValue = greaterWSlice.get(3, 2, 0);
+			BigInt smallerWNeighborValue = smallerWSlice.get(3, 2, 0);
+			BigInt greaterXNeighborValue = currentWSlice.get(4, 2, 0);
+			BigInt smallerXNeighborValue = currentWSlice.get(2, 2, 0);
+			BigInt greaterYNeighborValue = currentWSlice.get(3, 3, 0);
+			BigInt smallerYNeighborValue = currentWSlice.get(3, 1, 0);
+			BigInt greaterZNeighborValue = currentWSlice.get(3, 2, 1);
 			if (topplePositionOfType16(3, 2, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, greaterYNeighborValue, 2, 
 					smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -593,13 +601,13 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			// reuse values obtained previously
 			BigInt smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterWNeighborValue = greaterWSlice[3][2][1];
-			smallerWNeighborValue = smallerWSlice[3][2][1];
-			greaterXNeighborValue = currentWSlice[4][2][1];
-			smallerXNeighborValue = currentWSlice[2][2][1];
-			greaterYNeighborValue = currentWSlice[3][3][1];
-			smallerYNeighborValue = currentWSlice[3][1][1];
-			greaterZNeighborValue = currentWSlice[3][2][2];
+			greaterWNeighborValue = greaterWSlice.get(3, 2, 1);
+			smallerWNeighborValue = smallerWSlice.get(3, 2, 1);
+			greaterXNeighborValue = currentWSlice.get(4, 2, 1);
+			smallerXNeighborValue = currentWSlice.get(2, 2, 1);
+			greaterYNeighborValue = currentWSlice.get(3, 3, 1);
+			smallerYNeighborValue = currentWSlice.get(3, 1, 1);
+			greaterZNeighborValue = currentWSlice.get(3, 2, 2);
 			if (topplePositionOfType23(3, 2, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, greaterYNeighborValue, 2, 
 					smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 					relevantAsymmetricNeighborShareMultipliers, newWSlices)) {
@@ -609,11 +617,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterWNeighborValue = greaterWSlice[3][2][2];
-			smallerWNeighborValue = smallerWSlice[3][2][2];
-			greaterXNeighborValue = currentWSlice[4][2][2];
-			smallerXNeighborValue = currentWSlice[2][2][2];
-			greaterYNeighborValue = currentWSlice[3][3][2];
+			greaterWNeighborValue = greaterWSlice.get(3, 2, 2);
+			smallerWNeighborValue = smallerWSlice.get(3, 2, 2);
+			greaterXNeighborValue = currentWSlice.get(4, 2, 2);
+			smallerXNeighborValue = currentWSlice.get(2, 2, 2);
+			greaterYNeighborValue = currentWSlice.get(3, 3, 2);
 			if (topplePositionOfType17(3, 2, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, greaterYNeighborValue, 2, 
 					smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -630,14 +638,14 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					changed = true;
 				}
 				//  w |  x | 02 | 00 | 67
-				currentValue = currentWSlice[x][2][0];
-				greaterWNeighborValue = greaterWSlice[x][2][0];
-				smallerWNeighborValue = smallerWSlice[x][2][0];
-				greaterXNeighborValue = currentWSlice[xPlusOne][2][0];
-				smallerXNeighborValue = currentWSlice[xMinusOne][2][0];
-				greaterYNeighborValue = currentWSlice[x][3][0];
-				smallerYNeighborValue = currentWSlice[x][1][0];
-				greaterZNeighborValue = currentWSlice[x][2][1];
+				currentValue = currentWSlice.get(x, 2, 0);
+				greaterWNeighborValue = greaterWSlice.get(x, 2, 0);
+				smallerWNeighborValue = smallerWSlice.get(x, 2, 0);
+				greaterXNeighborValue = currentWSlice.get(xPlusOne, 2, 0);
+				smallerXNeighborValue = currentWSlice.get(xMinusOne, 2, 0);
+				greaterYNeighborValue = currentWSlice.get(x, 3, 0);
+				smallerYNeighborValue = currentWSlice.get(x, 1, 0);
+				greaterZNeighborValue = currentWSlice.get(x, 2, 1);
 				if (topplePositionOfType27(x, 2, currentValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, 
 						smallerYNeighborValue, greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 						relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -647,13 +655,13 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				// reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterWNeighborValue = greaterWSlice[x][2][1];
-				smallerWNeighborValue = smallerWSlice[x][2][1];
-				greaterXNeighborValue = currentWSlice[xPlusOne][2][1];
-				smallerXNeighborValue = currentWSlice[xMinusOne][2][1];
-				greaterYNeighborValue = currentWSlice[x][3][1];
-				smallerYNeighborValue = currentWSlice[x][1][1];
-				greaterZNeighborValue = currentWSlice[x][2][2];
+				greaterWNeighborValue = greaterWSlice.get(x, 2, 1);
+				smallerWNeighborValue = smallerWSlice.get(x, 2, 1);
+				greaterXNeighborValue = currentWSlice.get(xPlusOne, 2, 1);
+				smallerXNeighborValue = currentWSlice.get(xMinusOne, 2, 1);
+				greaterYNeighborValue = currentWSlice.get(x, 3, 1);
+				smallerYNeighborValue = currentWSlice.get(x, 1, 1);
+				greaterZNeighborValue = currentWSlice.get(x, 2, 2);
 				if (topplePositionOfType23(x, 2, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, greaterYNeighborValue, 1, 
 						smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 						relevantAsymmetricNeighborShareMultipliers, newWSlices)) {
@@ -663,11 +671,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				// reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterWNeighborValue = greaterWSlice[x][2][2];
-				smallerWNeighborValue = smallerWSlice[x][2][2];
-				greaterXNeighborValue = currentWSlice[xPlusOne][2][2];
-				smallerXNeighborValue = currentWSlice[xMinusOne][2][2];
-				greaterYNeighborValue = currentWSlice[x][3][2];
+				greaterWNeighborValue = greaterWSlice.get(x, 2, 2);
+				smallerWNeighborValue = smallerWSlice.get(x, 2, 2);
+				greaterXNeighborValue = currentWSlice.get(xPlusOne, 2, 2);
+				smallerXNeighborValue = currentWSlice.get(xMinusOne, 2, 2);
+				greaterYNeighborValue = currentWSlice.get(x, 3, 2);
 				if (topplePositionOfType28(x, 2, currentValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, 
 						smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 						relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -676,14 +684,14 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				int y = 3, yMinusOne = 2, yPlusOne = 4;
 				for (; y != xMinusOne; yMinusOne = y, y = yPlusOne, yPlusOne++) {
 					//  w |  x |  y | 00 | 67
-					currentValue = currentWSlice[x][y][0];
-					greaterWNeighborValue = greaterWSlice[x][y][0];
-					smallerWNeighborValue = smallerWSlice[x][y][0];
-					greaterXNeighborValue = currentWSlice[xPlusOne][y][0];
-					smallerXNeighborValue = currentWSlice[xMinusOne][y][0];
-					greaterYNeighborValue = currentWSlice[x][yPlusOne][0];
-					smallerYNeighborValue = currentWSlice[x][yMinusOne][0];
-					greaterZNeighborValue = currentWSlice[x][y][1];
+					currentValue = currentWSlice.get(x, y, 0);
+					greaterWNeighborValue = greaterWSlice.get(x, y, 0);
+					smallerWNeighborValue = smallerWSlice.get(x, y, 0);
+					greaterXNeighborValue = currentWSlice.get(xPlusOne, y, 0);
+					smallerXNeighborValue = currentWSlice.get(xMinusOne, y, 0);
+					greaterYNeighborValue = currentWSlice.get(x, yPlusOne, 0);
+					smallerYNeighborValue = currentWSlice.get(x, yMinusOne, 0);
+					greaterZNeighborValue = currentWSlice.get(x, y, 1);
 					if (topplePositionOfType27(x, y, currentValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, 
 							smallerYNeighborValue, greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 							relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -693,13 +701,13 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					// reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
-					greaterWNeighborValue = greaterWSlice[x][y][1];
-					smallerWNeighborValue = smallerWSlice[x][y][1];
-					greaterXNeighborValue = currentWSlice[xPlusOne][y][1];
-					smallerXNeighborValue = currentWSlice[xMinusOne][y][1];
-					greaterYNeighborValue = currentWSlice[x][yPlusOne][1];
-					smallerYNeighborValue = currentWSlice[x][yMinusOne][1];
-					greaterZNeighborValue = currentWSlice[x][y][2];
+					greaterWNeighborValue = greaterWSlice.get(x, y, 1);
+					smallerWNeighborValue = smallerWSlice.get(x, y, 1);
+					greaterXNeighborValue = currentWSlice.get(xPlusOne, y, 1);
+					smallerXNeighborValue = currentWSlice.get(xMinusOne, y, 1);
+					greaterYNeighborValue = currentWSlice.get(x, yPlusOne, 1);
+					smallerYNeighborValue = currentWSlice.get(x, yMinusOne, 1);
+					greaterZNeighborValue = currentWSlice.get(x, y, 2);
 					if (topplePositionOfType23(x, y, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, greaterYNeighborValue, 1, 
 							smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 							relevantAsymmetricNeighborShareMultipliers, newWSlices)) {
@@ -711,13 +719,13 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 						// reuse values obtained previously
 						smallerZNeighborValue = currentValue;
 						currentValue = greaterZNeighborValue;
-						greaterWNeighborValue = greaterWSlice[x][y][z];
-						smallerWNeighborValue = smallerWSlice[x][y][z];
-						greaterXNeighborValue = currentWSlice[xPlusOne][y][z];
-						smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-						greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
-						smallerYNeighborValue = currentWSlice[x][yMinusOne][z];
-						greaterZNeighborValue = currentWSlice[x][y][zPlusOne];
+						greaterWNeighborValue = greaterWSlice.get(x, y, z);
+						smallerWNeighborValue = smallerWSlice.get(x, y, z);
+						greaterXNeighborValue = currentWSlice.get(xPlusOne, y, z);
+						smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+						greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
+						smallerYNeighborValue = currentWSlice.get(x, yMinusOne, z);
+						greaterZNeighborValue = currentWSlice.get(x, y, zPlusOne);
 						if (topplePositionOfType31(x, y, z, currentValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, 
 								smallerYNeighborValue, greaterZNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, newWSlices)) {
 							changed = true;
@@ -727,13 +735,13 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					// reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
-					greaterWNeighborValue = greaterWSlice[x][y][z];
-					smallerWNeighborValue = smallerWSlice[x][y][z];
-					greaterXNeighborValue = currentWSlice[xPlusOne][y][z];
-					smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-					greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
-					smallerYNeighborValue = currentWSlice[x][yMinusOne][z];
-					greaterZNeighborValue = currentWSlice[x][y][zPlusOne];
+					greaterWNeighborValue = greaterWSlice.get(x, y, z);
+					smallerWNeighborValue = smallerWSlice.get(x, y, z);
+					greaterXNeighborValue = currentWSlice.get(xPlusOne, y, z);
+					smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+					greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
+					smallerYNeighborValue = currentWSlice.get(x, yMinusOne, z);
+					greaterZNeighborValue = currentWSlice.get(x, y, zPlusOne);
 					if (topplePositionOfType23(x, y, z, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, greaterYNeighborValue, 1, 
 							smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 							relevantAsymmetricNeighborShareMultipliers, newWSlices)) {
@@ -744,11 +752,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					// reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
-					greaterWNeighborValue = greaterWSlice[x][y][z];
-					smallerWNeighborValue = smallerWSlice[x][y][z];
-					greaterXNeighborValue = currentWSlice[xPlusOne][y][z];
-					smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-					greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
+					greaterWNeighborValue = greaterWSlice.get(x, y, z);
+					smallerWNeighborValue = smallerWSlice.get(x, y, z);
+					greaterXNeighborValue = currentWSlice.get(xPlusOne, y, z);
+					smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+					greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
 					if (topplePositionOfType28(x, y, currentValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, 
 							smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 							relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -756,14 +764,14 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					}
 				}
 				//  w |  x |  y | 00 | 53
-				currentValue = currentWSlice[x][y][0];
-				greaterWNeighborValue = greaterWSlice[x][y][0];
-				smallerWNeighborValue = smallerWSlice[x][y][0];
-				greaterXNeighborValue = currentWSlice[xPlusOne][y][0];
-				smallerXNeighborValue = currentWSlice[xMinusOne][y][0];
-				greaterYNeighborValue = currentWSlice[x][yPlusOne][0];
-				smallerYNeighborValue = currentWSlice[x][yMinusOne][0];
-				greaterZNeighborValue = currentWSlice[x][y][1];
+				currentValue = currentWSlice.get(x, y, 0);
+				greaterWNeighborValue = greaterWSlice.get(x, y, 0);
+				smallerWNeighborValue = smallerWSlice.get(x, y, 0);
+				greaterXNeighborValue = currentWSlice.get(xPlusOne, y, 0);
+				smallerXNeighborValue = currentWSlice.get(xMinusOne, y, 0);
+				greaterYNeighborValue = currentWSlice.get(x, yPlusOne, 0);
+				smallerYNeighborValue = currentWSlice.get(x, yMinusOne, 0);
+				greaterZNeighborValue = currentWSlice.get(x, y, 1);
 				if (topplePositionOfType16(x, y, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, greaterYNeighborValue, 2, 
 						smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -773,13 +781,13 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				// reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterWNeighborValue = greaterWSlice[x][y][1];
-				smallerWNeighborValue = smallerWSlice[x][y][1];
-				greaterXNeighborValue = currentWSlice[xPlusOne][y][1];
-				smallerXNeighborValue = currentWSlice[xMinusOne][y][1];
-				greaterYNeighborValue = currentWSlice[x][yPlusOne][1];
-				smallerYNeighborValue = currentWSlice[x][yMinusOne][1];
-				greaterZNeighborValue = currentWSlice[x][y][2];
+				greaterWNeighborValue = greaterWSlice.get(x, y, 1);
+				smallerWNeighborValue = smallerWSlice.get(x, y, 1);
+				greaterXNeighborValue = currentWSlice.get(xPlusOne, y, 1);
+				smallerXNeighborValue = currentWSlice.get(xMinusOne, y, 1);
+				greaterYNeighborValue = currentWSlice.get(x, yPlusOne, 1);
+				smallerYNeighborValue = currentWSlice.get(x, yMinusOne, 1);
+				greaterZNeighborValue = currentWSlice.get(x, y, 2);
 				if (topplePositionOfType23(x, y, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, greaterYNeighborValue, 2, 
 						smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 						relevantAsymmetricNeighborShareMultipliers, newWSlices)) {
@@ -791,13 +799,13 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					// reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
-					greaterWNeighborValue = greaterWSlice[x][y][z];
-					smallerWNeighborValue = smallerWSlice[x][y][z];
-					greaterXNeighborValue = currentWSlice[xPlusOne][y][z];
-					smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-					greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
-					smallerYNeighborValue = currentWSlice[x][yMinusOne][z];
-					greaterZNeighborValue = currentWSlice[x][y][zPlusOne];
+					greaterWNeighborValue = greaterWSlice.get(x, y, z);
+					smallerWNeighborValue = smallerWSlice.get(x, y, z);
+					greaterXNeighborValue = currentWSlice.get(xPlusOne, y, z);
+					smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+					greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
+					smallerYNeighborValue = currentWSlice.get(x, yMinusOne, z);
+					greaterZNeighborValue = currentWSlice.get(x, y, zPlusOne);
 					if (topplePositionOfType23(x, y, z, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, greaterYNeighborValue, 2, 
 							smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 							relevantAsymmetricNeighborShareMultipliers, newWSlices)) {
@@ -808,13 +816,13 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				// reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterWNeighborValue = greaterWSlice[x][y][z];
-				smallerWNeighborValue = smallerWSlice[x][y][z];
-				greaterXNeighborValue = currentWSlice[xPlusOne][y][z];
-				smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-				greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
-				smallerYNeighborValue = currentWSlice[x][yMinusOne][z];
-				greaterZNeighborValue = currentWSlice[x][y][zPlusOne];
+				greaterWNeighborValue = greaterWSlice.get(x, y, z);
+				smallerWNeighborValue = smallerWSlice.get(x, y, z);
+				greaterXNeighborValue = currentWSlice.get(xPlusOne, y, z);
+				smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+				greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
+				smallerYNeighborValue = currentWSlice.get(x, yMinusOne, z);
+				greaterZNeighborValue = currentWSlice.get(x, y, zPlusOne);
 				if (topplePositionOfType23(x, y, z, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, greaterYNeighborValue, 2, 
 						smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 						relevantAsymmetricNeighborShareMultipliers, newWSlices)) {
@@ -825,11 +833,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				// reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterWNeighborValue = greaterWSlice[x][y][z];
-				smallerWNeighborValue = smallerWSlice[x][y][z];
-				greaterXNeighborValue = currentWSlice[xPlusOne][y][z];
-				smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-				greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
+				greaterWNeighborValue = greaterWSlice.get(x, y, z);
+				smallerWNeighborValue = smallerWSlice.get(x, y, z);
+				greaterXNeighborValue = currentWSlice.get(xPlusOne, y, z);
+				smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+				greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
 				if (topplePositionOfType17(x, y, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, greaterYNeighborValue, 2, 
 						smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -845,14 +853,14 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				changed = true;
 			}
 			//  w |  x | 02 | 00 | 58
-			currentValue = currentWSlice[x][2][0];
-			greaterWNeighborValue = greaterWSlice[x][2][0];
-			smallerWNeighborValue = smallerWSlice[x][2][0];
-			greaterXNeighborValue = currentWSlice[xPlusOne][2][0];
-			smallerXNeighborValue = currentWSlice[xMinusOne][2][0];
-			greaterYNeighborValue = currentWSlice[x][3][0];
-			smallerYNeighborValue = currentWSlice[x][1][0];
-			greaterZNeighborValue = currentWSlice[x][2][1];
+			currentValue = currentWSlice.get(x, 2, 0);
+			greaterWNeighborValue = greaterWSlice.get(x, 2, 0);
+			smallerWNeighborValue = smallerWSlice.get(x, 2, 0);
+			greaterXNeighborValue = currentWSlice.get(xPlusOne, 2, 0);
+			smallerXNeighborValue = currentWSlice.get(xMinusOne, 2, 0);
+			greaterYNeighborValue = currentWSlice.get(x, 3, 0);
+			smallerYNeighborValue = currentWSlice.get(x, 1, 0);
+			greaterZNeighborValue = currentWSlice.get(x, 2, 1);
 			if (topplePositionOfType16(x, 2, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, greaterYNeighborValue, 1, 
 					smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -862,13 +870,13 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterWNeighborValue = greaterWSlice[x][2][1];
-			smallerWNeighborValue = smallerWSlice[x][2][1];
-			greaterXNeighborValue = currentWSlice[xPlusOne][2][1];
-			smallerXNeighborValue = currentWSlice[xMinusOne][2][1];
-			greaterYNeighborValue = currentWSlice[x][3][1];
-			smallerYNeighborValue = currentWSlice[x][1][1];
-			greaterZNeighborValue = currentWSlice[x][2][2];
+			greaterWNeighborValue = greaterWSlice.get(x, 2, 1);
+			smallerWNeighborValue = smallerWSlice.get(x, 2, 1);
+			greaterXNeighborValue = currentWSlice.get(xPlusOne, 2, 1);
+			smallerXNeighborValue = currentWSlice.get(xMinusOne, 2, 1);
+			greaterYNeighborValue = currentWSlice.get(x, 3, 1);
+			smallerYNeighborValue = currentWSlice.get(x, 1, 1);
+			greaterZNeighborValue = currentWSlice.get(x, 2, 2);
 			if (topplePositionOfType23(x, 2, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, greaterYNeighborValue, 1, 
 					smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 					relevantAsymmetricNeighborShareMultipliers, newWSlices)) {
@@ -878,11 +886,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterWNeighborValue = greaterWSlice[x][2][2];
-			smallerWNeighborValue = smallerWSlice[x][2][2];
-			greaterXNeighborValue = currentWSlice[xPlusOne][2][2];
-			smallerXNeighborValue = currentWSlice[xMinusOne][2][2];
-			greaterYNeighborValue = currentWSlice[x][3][2];
+			greaterWNeighborValue = greaterWSlice.get(x, 2, 2);
+			smallerWNeighborValue = smallerWSlice.get(x, 2, 2);
+			greaterXNeighborValue = currentWSlice.get(xPlusOne, 2, 2);
+			smallerXNeighborValue = currentWSlice.get(xMinusOne, 2, 2);
+			greaterYNeighborValue = currentWSlice.get(x, 3, 2);
 			if (topplePositionOfType17(x, 2, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, greaterYNeighborValue, 1, 
 					smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -891,14 +899,14 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			int y = 3, yPlusOne = 4, yMinusOne = 2;
 			for (; y != wMinusTwo; yMinusOne = y, y = yPlusOne, yPlusOne++) {
 				//  w |  x |  y | 00 | 58
-				currentValue = currentWSlice[x][y][0];
-				greaterWNeighborValue = greaterWSlice[x][y][0];
-				smallerWNeighborValue = smallerWSlice[x][y][0];
-				greaterXNeighborValue = currentWSlice[xPlusOne][y][0];
-				smallerXNeighborValue = currentWSlice[xMinusOne][y][0];
-				greaterYNeighborValue = currentWSlice[x][yPlusOne][0];
-				smallerYNeighborValue = currentWSlice[x][yMinusOne][0];
-				greaterZNeighborValue = currentWSlice[x][y][1];
+				currentValue = currentWSlice.get(x, y, 0);
+				greaterWNeighborValue = greaterWSlice.get(x, y, 0);
+				smallerWNeighborValue = smallerWSlice.get(x, y, 0);
+				greaterXNeighborValue = currentWSlice.get(xPlusOne, y, 0);
+				smallerXNeighborValue = currentWSlice.get(xMinusOne, y, 0);
+				greaterYNeighborValue = currentWSlice.get(x, yPlusOne, 0);
+				smallerYNeighborValue = currentWSlice.get(x, yMinusOne, 0);
+				greaterZNeighborValue = currentWSlice.get(x, y, 1);
 				if (topplePositionOfType16(x, y, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, greaterYNeighborValue, 1, 
 						smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -908,13 +916,13 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				// reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterWNeighborValue = greaterWSlice[x][y][1];
-				smallerWNeighborValue = smallerWSlice[x][y][1];
-				greaterXNeighborValue = currentWSlice[xPlusOne][y][1];
-				smallerXNeighborValue = currentWSlice[xMinusOne][y][1];
-				greaterYNeighborValue = currentWSlice[x][yPlusOne][1];
-				smallerYNeighborValue = currentWSlice[x][yMinusOne][1];
-				greaterZNeighborValue = currentWSlice[x][y][2];
+				greaterWNeighborValue = greaterWSlice.get(x, y, 1);
+				smallerWNeighborValue = smallerWSlice.get(x, y, 1);
+				greaterXNeighborValue = currentWSlice.get(xPlusOne, y, 1);
+				smallerXNeighborValue = currentWSlice.get(xMinusOne, y, 1);
+				greaterYNeighborValue = currentWSlice.get(x, yPlusOne, 1);
+				smallerYNeighborValue = currentWSlice.get(x, yMinusOne, 1);
+				greaterZNeighborValue = currentWSlice.get(x, y, 2);
 				if (topplePositionOfType23(x, y, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, greaterYNeighborValue, 1, 
 						smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 						relevantAsymmetricNeighborShareMultipliers, newWSlices)) {
@@ -926,13 +934,13 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					// reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
-					greaterWNeighborValue = greaterWSlice[x][y][z];
-					smallerWNeighborValue = smallerWSlice[x][y][z];
-					greaterXNeighborValue = currentWSlice[xPlusOne][y][z];
-					smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-					greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
-					smallerYNeighborValue = currentWSlice[x][yMinusOne][z];
-					greaterZNeighborValue = currentWSlice[x][y][zPlusOne];
+					greaterWNeighborValue = greaterWSlice.get(x, y, z);
+					smallerWNeighborValue = smallerWSlice.get(x, y, z);
+					greaterXNeighborValue = currentWSlice.get(xPlusOne, y, z);
+					smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+					greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
+					smallerYNeighborValue = currentWSlice.get(x, yMinusOne, z);
+					greaterZNeighborValue = currentWSlice.get(x, y, zPlusOne);
 					if (topplePositionOfType23(x, y, z, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, greaterYNeighborValue, 1, 
 							smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 							relevantAsymmetricNeighborShareMultipliers, newWSlices)) {
@@ -943,13 +951,13 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				// reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterWNeighborValue = greaterWSlice[x][y][z];
-				smallerWNeighborValue = smallerWSlice[x][y][z];
-				greaterXNeighborValue = currentWSlice[xPlusOne][y][z];
-				smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-				greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
-				smallerYNeighborValue = currentWSlice[x][yMinusOne][z];
-				greaterZNeighborValue = currentWSlice[x][y][zPlusOne];
+				greaterWNeighborValue = greaterWSlice.get(x, y, z);
+				smallerWNeighborValue = smallerWSlice.get(x, y, z);
+				greaterXNeighborValue = currentWSlice.get(xPlusOne, y, z);
+				smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+				greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
+				smallerYNeighborValue = currentWSlice.get(x, yMinusOne, z);
+				greaterZNeighborValue = currentWSlice.get(x, y, zPlusOne);
 				if (topplePositionOfType23(x, y, z, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, greaterYNeighborValue, 1, 
 						smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 						relevantAsymmetricNeighborShareMultipliers, newWSlices)) {
@@ -960,11 +968,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				// reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterWNeighborValue = greaterWSlice[x][y][z];
-				smallerWNeighborValue = smallerWSlice[x][y][z];
-				greaterXNeighborValue = currentWSlice[xPlusOne][y][z];
-				smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-				greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
+				greaterWNeighborValue = greaterWSlice.get(x, y, z);
+				smallerWNeighborValue = smallerWSlice.get(x, y, z);
+				greaterXNeighborValue = currentWSlice.get(xPlusOne, y, z);
+				smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+				greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
 				if (topplePositionOfType17(x, y, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, greaterYNeighborValue, 1, 
 						smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -972,14 +980,14 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				}
 			}
 			//  w |  x |  y | 00 | 40
-			currentValue = currentWSlice[x][y][0];
-			greaterWNeighborValue = greaterWSlice[x][y][0];
-			smallerWNeighborValue = smallerWSlice[x][y][0];
-			greaterXNeighborValue = currentWSlice[xPlusOne][y][0];
-			smallerXNeighborValue = currentWSlice[xMinusOne][y][0];
-			greaterYNeighborValue = currentWSlice[x][yPlusOne][0];
-			smallerYNeighborValue = currentWSlice[x][yMinusOne][0];
-			greaterZNeighborValue = currentWSlice[x][y][1];
+			currentValue = currentWSlice.get(x, y, 0);
+			greaterWNeighborValue = greaterWSlice.get(x, y, 0);
+			smallerWNeighborValue = smallerWSlice.get(x, y, 0);
+			greaterXNeighborValue = currentWSlice.get(xPlusOne, y, 0);
+			smallerXNeighborValue = currentWSlice.get(xMinusOne, y, 0);
+			greaterYNeighborValue = currentWSlice.get(x, yPlusOne, 0);
+			smallerYNeighborValue = currentWSlice.get(x, yMinusOne, 0);
+			greaterZNeighborValue = currentWSlice.get(x, y, 1);
 			if (topplePositionOfType16(x, y, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, greaterYNeighborValue, 2, 
 					smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -989,13 +997,13 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterWNeighborValue = greaterWSlice[x][y][1];
-			smallerWNeighborValue = smallerWSlice[x][y][1];
-			greaterXNeighborValue = currentWSlice[xPlusOne][y][1];
-			smallerXNeighborValue = currentWSlice[xMinusOne][y][1];
-			greaterYNeighborValue = currentWSlice[x][yPlusOne][1];
-			smallerYNeighborValue = currentWSlice[x][yMinusOne][1];
-			greaterZNeighborValue = currentWSlice[x][y][2];
+			greaterWNeighborValue = greaterWSlice.get(x, y, 1);
+			smallerWNeighborValue = smallerWSlice.get(x, y, 1);
+			greaterXNeighborValue = currentWSlice.get(xPlusOne, y, 1);
+			smallerXNeighborValue = currentWSlice.get(xMinusOne, y, 1);
+			greaterYNeighborValue = currentWSlice.get(x, yPlusOne, 1);
+			smallerYNeighborValue = currentWSlice.get(x, yMinusOne, 1);
+			greaterZNeighborValue = currentWSlice.get(x, y, 2);
 			if (topplePositionOfType23(x, y, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, greaterYNeighborValue, 2, 
 					smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 					relevantAsymmetricNeighborShareMultipliers, newWSlices)) {
@@ -1007,13 +1015,13 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				// reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterWNeighborValue = greaterWSlice[x][y][z];
-				smallerWNeighborValue = smallerWSlice[x][y][z];
-				greaterXNeighborValue = currentWSlice[xPlusOne][y][z];
-				smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-				greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
-				smallerYNeighborValue = currentWSlice[x][yMinusOne][z];
-				greaterZNeighborValue = currentWSlice[x][y][zPlusOne];
+				greaterWNeighborValue = greaterWSlice.get(x, y, z);
+				smallerWNeighborValue = smallerWSlice.get(x, y, z);
+				greaterXNeighborValue = currentWSlice.get(xPlusOne, y, z);
+				smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+				greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
+				smallerYNeighborValue = currentWSlice.get(x, yMinusOne, z);
+				greaterZNeighborValue = currentWSlice.get(x, y, zPlusOne);
 				if (topplePositionOfType23(x, y, z, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, greaterYNeighborValue, 2, 
 						smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 						relevantAsymmetricNeighborShareMultipliers, newWSlices)) {
@@ -1024,13 +1032,13 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterWNeighborValue = greaterWSlice[x][y][z];
-			smallerWNeighborValue = smallerWSlice[x][y][z];
-			greaterXNeighborValue = currentWSlice[xPlusOne][y][z];
-			smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-			greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
-			smallerYNeighborValue = currentWSlice[x][yMinusOne][z];
-			greaterZNeighborValue = currentWSlice[x][y][zPlusOne];
+			greaterWNeighborValue = greaterWSlice.get(x, y, z);
+			smallerWNeighborValue = smallerWSlice.get(x, y, z);
+			greaterXNeighborValue = currentWSlice.get(xPlusOne, y, z);
+			smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+			greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
+			smallerYNeighborValue = currentWSlice.get(x, yMinusOne, z);
+			greaterZNeighborValue = currentWSlice.get(x, y, zPlusOne);
 			if (topplePositionOfType23(x, y, z, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, greaterYNeighborValue, 2, 
 					smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 					relevantAsymmetricNeighborShareMultipliers, newWSlices)) {
@@ -1041,11 +1049,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterWNeighborValue = greaterWSlice[x][y][z];
-			smallerWNeighborValue = smallerWSlice[x][y][z];
-			greaterXNeighborValue = currentWSlice[xPlusOne][y][z];
-			smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-			greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
+			greaterWNeighborValue = greaterWSlice.get(x, y, z);
+			smallerWNeighborValue = smallerWSlice.get(x, y, z);
+			greaterXNeighborValue = currentWSlice.get(xPlusOne, y, z);
+			smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+			greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
 			if (topplePositionOfType17(x, y, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, greaterYNeighborValue, 2, 
 					smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1059,12 +1067,12 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			x = xPlusOne;
 			for (y = 3, yMinusOne = 2, yPlusOne = 4; y != wMinusOne; yMinusOne = y, y = yPlusOne, yPlusOne++) {
 				//  w |  x |  y | 00 | 45
-				currentValue = currentWSlice[x][y][0];
-				greaterWNeighborValue = greaterWSlice[x][y][0];
-				smallerXNeighborValue = currentWSlice[xMinusOne][y][0];
-				greaterYNeighborValue = currentWSlice[x][yPlusOne][0];
-				smallerYNeighborValue = currentWSlice[x][yMinusOne][0];
-				greaterZNeighborValue = currentWSlice[x][y][1];
+				currentValue = currentWSlice.get(x, y, 0);
+				greaterWNeighborValue = greaterWSlice.get(x, y, 0);
+				smallerXNeighborValue = currentWSlice.get(xMinusOne, y, 0);
+				greaterYNeighborValue = currentWSlice.get(x, yPlusOne, 0);
+				smallerYNeighborValue = currentWSlice.get(x, yMinusOne, 0);
+				greaterZNeighborValue = currentWSlice.get(x, y, 1);
 				if (topplePositionOfType24(x, y, currentValue, greaterWNeighborValue, smallerXNeighborValue, greaterYNeighborValue, smallerYNeighborValue, 
 						greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords,
 						relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1074,11 +1082,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				// reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterWNeighborValue = greaterWSlice[x][y][1];
-				smallerXNeighborValue = currentWSlice[xMinusOne][y][1];
-				greaterYNeighborValue = currentWSlice[x][yPlusOne][1];
-				smallerYNeighborValue = currentWSlice[x][yMinusOne][1];
-				greaterZNeighborValue = currentWSlice[x][y][2];
+				greaterWNeighborValue = greaterWSlice.get(x, y, 1);
+				smallerXNeighborValue = currentWSlice.get(xMinusOne, y, 1);
+				greaterYNeighborValue = currentWSlice.get(x, yPlusOne, 1);
+				smallerYNeighborValue = currentWSlice.get(x, yMinusOne, 1);
+				greaterZNeighborValue = currentWSlice.get(x, y, 2);
 				if (topplePositionOfType19(x, y, 1, currentValue, greaterWNeighborValue, smallerXNeighborValue, 1, greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, 
 						smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers,
 						relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1089,11 +1097,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					// reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
-					greaterWNeighborValue = greaterWSlice[x][y][z];
-					smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-					greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
-					smallerYNeighborValue = currentWSlice[x][yMinusOne][z];
-					greaterZNeighborValue = currentWSlice[x][y][zPlusOne];
+					greaterWNeighborValue = greaterWSlice.get(x, y, z);
+					smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+					greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
+					smallerYNeighborValue = currentWSlice.get(x, yMinusOne, z);
+					greaterZNeighborValue = currentWSlice.get(x, y, zPlusOne);
 					if (topplePositionOfType30(x, y, z, currentValue, greaterWNeighborValue, smallerXNeighborValue, greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, 
 							smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords,
 							relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1104,11 +1112,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				// reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterWNeighborValue = greaterWSlice[x][y][z];
-				smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-				greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
-				smallerYNeighborValue = currentWSlice[x][yMinusOne][z];
-				greaterZNeighborValue = currentWSlice[x][y][zPlusOne];
+				greaterWNeighborValue = greaterWSlice.get(x, y, z);
+				smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+				greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
+				smallerYNeighborValue = currentWSlice.get(x, yMinusOne, z);
+				greaterZNeighborValue = currentWSlice.get(x, y, zPlusOne);
 				if (topplePositionOfType19(x, y, z, currentValue, greaterWNeighborValue, smallerXNeighborValue, 1, greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, 
 						smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers,
 						relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1119,9 +1127,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				// reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterWNeighborValue = greaterWSlice[x][y][z];
-				smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-				greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
+				greaterWNeighborValue = greaterWSlice.get(x, y, z);
+				smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+				greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
 				if (topplePositionOfType25(x, y, currentValue, greaterWNeighborValue, smallerXNeighborValue, greaterYNeighborValue, smallerZNeighborValue, 
 						relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords,
 						relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1140,15 +1148,15 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return changed;
 	}
 
-	private static boolean toppleRangeOfType1(BigInt[][][][] wSlices, BigInt[][][][] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean toppleRangeOfType1(AnisotropicBigIntAccumulatorArray[] wSlices, AnisotropicBigIntAccumulatorArray[] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) {
 		boolean changed = false;
-		BigInt[][][] smallerWSlice = wSlices[0], currentWSlice = wSlices[1], greaterWSlice = wSlices[2];
+		AnisotropicBigIntAccumulatorArray smallerWSlice = wSlices[0], currentWSlice = wSlices[1], greaterWSlice = wSlices[2];
 		//  w | 00 | 00 | 00 | 06
-		BigInt currentValue = currentWSlice[0][0][0];
-		BigInt greaterWNeighborValue = greaterWSlice[0][0][0];
-		BigInt smallerWNeighborValue = smallerWSlice[0][0][0];
-		BigInt greaterXNeighborValue = currentWSlice[1][0][0];
+		BigInt currentValue = currentWSlice.get(0, 0, 0);
+		BigInt greaterWNeighborValue = greaterWSlice.get(0, 0, 0);
+		BigInt smallerWNeighborValue = smallerWSlice.get(0, 0, 0);
+		BigInt greaterXNeighborValue = currentWSlice.get(1, 0, 0);
 		if (topplePositionOfType6(currentValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
 			changed = true;
@@ -1157,10 +1165,10 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerXNeighborValue = currentValue;
 		currentValue = greaterXNeighborValue;
-		greaterWNeighborValue = greaterWSlice[1][0][0];
-		smallerWNeighborValue = smallerWSlice[1][0][0];
-		greaterXNeighborValue = currentWSlice[2][0][0];
-		BigInt greaterYNeighborValue = currentWSlice[1][1][0];
+		greaterWNeighborValue = greaterWSlice.get(1, 0, 0);
+		smallerWNeighborValue = smallerWSlice.get(1, 0, 0);
+		greaterXNeighborValue = currentWSlice.get(2, 0, 0);
+		BigInt greaterYNeighborValue = currentWSlice.get(1, 1, 0);
 		if (topplePositionOfType7(1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 6, greaterYNeighborValue, 2, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1170,10 +1178,10 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerYNeighborValue = currentValue;
 		currentValue = greaterYNeighborValue;
-		greaterWNeighborValue = greaterWSlice[1][1][0];
-		smallerWNeighborValue = smallerWSlice[1][1][0];
-		greaterXNeighborValue = currentWSlice[2][1][0];
-		BigInt greaterZNeighborValue = currentWSlice[1][1][1];
+		greaterWNeighborValue = greaterWSlice.get(1, 1, 0);
+		smallerWNeighborValue = smallerWSlice.get(1, 1, 0);
+		greaterXNeighborValue = currentWSlice.get(2, 1, 0);
+		BigInt greaterZNeighborValue = currentWSlice.get(1, 1, 1);
 		if (topplePositionOfType8(1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerYNeighborValue, 4, greaterZNeighborValue, 3, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1183,9 +1191,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[1][1][1];
-		smallerWNeighborValue = smallerWSlice[1][1][1];
-		greaterXNeighborValue = currentWSlice[2][1][1];
+		greaterWNeighborValue = greaterWSlice.get(1, 1, 1);
+		smallerWNeighborValue = smallerWSlice.get(1, 1, 1);
+		greaterXNeighborValue = currentWSlice.get(2, 1, 1);
 		if (topplePositionOfType9(1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerZNeighborValue, 2, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1194,16 +1202,16 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return changed;
 	}
 
-	private static boolean toppleRangeOfType2(int x, BigInt[][][][] wSlices, BigInt[][][][] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean toppleRangeOfType2(int x, AnisotropicBigIntAccumulatorArray[] wSlices, AnisotropicBigIntAccumulatorArray[] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) {
 		int xMinusOne = x - 1;
 		boolean changed = false;
-		BigInt[][][] currentWSlice = wSlices[1], greaterWSlice = wSlices[2];		
+		AnisotropicBigIntAccumulatorArray currentWSlice = wSlices[1], greaterWSlice = wSlices[2];		
 		//  w |  x | 00 | 00 | 10
-		BigInt currentValue = currentWSlice[x][0][0];
-		BigInt greaterWNeighborValue = greaterWSlice[x][0][0];
-		BigInt smallerXNeighborValue = currentWSlice[xMinusOne][0][0];
-		BigInt greaterYNeighborValue = currentWSlice[x][1][0];
+		BigInt currentValue = currentWSlice.get(x, 0, 0);
+		BigInt greaterWNeighborValue = greaterWSlice.get(x, 0, 0);
+		BigInt smallerXNeighborValue = currentWSlice.get(xMinusOne, 0, 0);
+		BigInt greaterYNeighborValue = currentWSlice.get(x, 1, 0);
 		if (topplePositionOfType10(x, currentValue, greaterWNeighborValue, smallerXNeighborValue, greaterYNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
 			changed = true;
@@ -1212,10 +1220,10 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerYNeighborValue = currentValue;
 		currentValue = greaterYNeighborValue;
-		greaterWNeighborValue = greaterWSlice[x][1][0];
-		smallerXNeighborValue = currentWSlice[xMinusOne][1][0];
-		greaterYNeighborValue = currentWSlice[x][2][0];
-		BigInt greaterZNeighborValue = currentWSlice[x][1][1];
+		greaterWNeighborValue = greaterWSlice.get(x, 1, 0);
+		smallerXNeighborValue = currentWSlice.get(xMinusOne, 1, 0);
+		greaterYNeighborValue = currentWSlice.get(x, 2, 0);
+		BigInt greaterZNeighborValue = currentWSlice.get(x, 1, 1);
 		if (topplePositionOfType11(x, 1, currentValue, greaterWNeighborValue, smallerXNeighborValue, 1, greaterYNeighborValue, 1, smallerYNeighborValue, 4, greaterZNeighborValue, 2, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1225,9 +1233,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[x][1][1];
-		smallerXNeighborValue = currentWSlice[xMinusOne][1][1];
-		greaterYNeighborValue = currentWSlice[x][2][1];
+		greaterWNeighborValue = greaterWSlice.get(x, 1, 1);
+		smallerXNeighborValue = currentWSlice.get(xMinusOne, 1, 1);
+		greaterYNeighborValue = currentWSlice.get(x, 2, 1);
 		if (topplePositionOfType12(x, 1, currentValue, greaterWNeighborValue, smallerXNeighborValue, 1, greaterYNeighborValue, 1, smallerZNeighborValue, 2, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1236,16 +1244,16 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return changed;
 	}
 
-	private static boolean toppleRangeOfType3(int coord, BigInt[][][][] wSlices, BigInt[][][][] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean toppleRangeOfType3(int coord, AnisotropicBigIntAccumulatorArray[] wSlices, AnisotropicBigIntAccumulatorArray[] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) {
 		int coordMinusOne = coord - 1;
 		boolean changed = false;
-		BigInt[][][] currentWSlice = wSlices[1], greaterWSlice = wSlices[2];		
+		AnisotropicBigIntAccumulatorArray currentWSlice = wSlices[1], greaterWSlice = wSlices[2];		
 		//  w |  x |  y | 00 | 13
-		BigInt currentValue = currentWSlice[coord][coord][0];
-		BigInt greaterWNeighborValue = greaterWSlice[coord][coord][0];
-		BigInt smallerYNeighborValue = currentWSlice[coord][coordMinusOne][0];
-		BigInt greaterZNeighborValue = currentWSlice[coord][coord][1];
+		BigInt currentValue = currentWSlice.get(coord, coord, 0);
+		BigInt greaterWNeighborValue = greaterWSlice.get(coord, coord, 0);
+		BigInt smallerYNeighborValue = currentWSlice.get(coord, coordMinusOne, 0);
+		BigInt greaterZNeighborValue = currentWSlice.get(coord, coord, 1);
 		if (topplePositionOfType13(coord, currentValue, greaterWNeighborValue, smallerYNeighborValue, greaterZNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
 			changed = true;
@@ -1254,9 +1262,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[coord][coord][1];
-		smallerYNeighborValue = currentWSlice[coord][coordMinusOne][1];
-		greaterZNeighborValue = currentWSlice[coord][coord][2];
+		greaterWNeighborValue = greaterWSlice.get(coord, coord, 1);
+		smallerYNeighborValue = currentWSlice.get(coord, coordMinusOne, 1);
+		greaterZNeighborValue = currentWSlice.get(coord, coord, 2);
 		if (topplePositionOfType14(coord, 1, currentValue, greaterWNeighborValue, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1269,9 +1277,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterWNeighborValue = greaterWSlice[coord][coord][z];
-			smallerYNeighborValue = currentWSlice[coord][coordMinusOne][z];
-			greaterZNeighborValue = currentWSlice[coord][coord][zPlusOne];
+			greaterWNeighborValue = greaterWSlice.get(coord, coord, z);
+			smallerYNeighborValue = currentWSlice.get(coord, coordMinusOne, z);
+			greaterZNeighborValue = currentWSlice.get(coord, coord, zPlusOne);
 			if (topplePositionOfType26(coord, z, currentValue, greaterWNeighborValue, smallerYNeighborValue, greaterZNeighborValue, smallerZNeighborValue, 
 					relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
 				changed = true;
@@ -1281,9 +1289,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[coord][coord][z];
-		smallerYNeighborValue = currentWSlice[coord][coordMinusOne][z];
-		greaterZNeighborValue = currentWSlice[coord][coord][zPlusOne];
+		greaterWNeighborValue = greaterWSlice.get(coord, coord, z);
+		smallerYNeighborValue = currentWSlice.get(coord, coordMinusOne, z);
+		greaterZNeighborValue = currentWSlice.get(coord, coord, zPlusOne);
 		if (topplePositionOfType14(coord, z, currentValue, greaterWNeighborValue, smallerYNeighborValue, 2, greaterZNeighborValue, 4, smallerZNeighborValue, 1, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1294,28 +1302,28 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[coord][coord][z];
+		greaterWNeighborValue = greaterWSlice.get(coord, coord, z);
 		if (topplePositionOfType15(coord, currentValue, greaterWNeighborValue, smallerZNeighborValue, newWSlices[1], newWSlices[2])) {
 			changed = true;
 		}
 		return changed;
 	}
 
-	private static boolean toppleRangeOfType4(BigInt[][][][] wSlices, BigInt[][][][] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean toppleRangeOfType4(AnisotropicBigIntAccumulatorArray[] wSlices, AnisotropicBigIntAccumulatorArray[] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) {
 		boolean changed = false;
 		if (toppleRangeOfType1(wSlices, newWSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 				relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
 			changed = true;
 		}
-		BigInt[][][] smallerWSlice = wSlices[0], currentWSlice = wSlices[1], greaterWSlice = wSlices[2];
+		AnisotropicBigIntAccumulatorArray smallerWSlice = wSlices[0], currentWSlice = wSlices[1], greaterWSlice = wSlices[2];
 		//  w | 02 | 00 | 00 | 32
-		BigInt currentValue = currentWSlice[2][0][0];
-		BigInt greaterWNeighborValue = greaterWSlice[2][0][0];
-		BigInt smallerWNeighborValue = smallerWSlice[2][0][0];
-		BigInt greaterXNeighborValue = currentWSlice[3][0][0];
-		BigInt smallerXNeighborValue = currentWSlice[1][0][0];
-		BigInt greaterYNeighborValue = currentWSlice[2][1][0];
+		BigInt currentValue = currentWSlice.get(2, 0, 0);
+		BigInt greaterWNeighborValue = greaterWSlice.get(2, 0, 0);
+		BigInt smallerWNeighborValue = smallerWSlice.get(2, 0, 0);
+		BigInt greaterXNeighborValue = currentWSlice.get(3, 0, 0);
+		BigInt smallerXNeighborValue = currentWSlice.get(1, 0, 0);
+		BigInt greaterYNeighborValue = currentWSlice.get(2, 1, 0);
 		if (topplePositionOfType20(2, currentValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
 			changed = true;
@@ -1324,12 +1332,12 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerYNeighborValue = currentValue;
 		currentValue = greaterYNeighborValue;
-		greaterWNeighborValue = greaterWSlice[2][1][0];
-		smallerWNeighborValue = smallerWSlice[2][1][0];
-		greaterXNeighborValue = currentWSlice[3][1][0];
-		smallerXNeighborValue = currentWSlice[1][1][0];
-		greaterYNeighborValue = currentWSlice[2][2][0];
-		BigInt greaterZNeighborValue = currentWSlice[2][1][1];
+		greaterWNeighborValue = greaterWSlice.get(2, 1, 0);
+		smallerWNeighborValue = smallerWSlice.get(2, 1, 0);
+		greaterXNeighborValue = currentWSlice.get(3, 1, 0);
+		smallerXNeighborValue = currentWSlice.get(1, 1, 0);
+		greaterYNeighborValue = currentWSlice.get(2, 2, 0);
+		BigInt greaterZNeighborValue = currentWSlice.get(2, 1, 1);
 		if (topplePositionOfType16(2, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, greaterYNeighborValue, 2, 
 				smallerYNeighborValue, 4, greaterZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1339,11 +1347,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[2][1][1];
-		smallerWNeighborValue = smallerWSlice[2][1][1];
-		greaterXNeighborValue = currentWSlice[3][1][1];
-		smallerXNeighborValue = currentWSlice[1][1][1];
-		greaterYNeighborValue = currentWSlice[2][2][1];
+		greaterWNeighborValue = greaterWSlice.get(2, 1, 1);
+		smallerWNeighborValue = smallerWSlice.get(2, 1, 1);
+		greaterXNeighborValue = currentWSlice.get(3, 1, 1);
+		smallerXNeighborValue = currentWSlice.get(1, 1, 1);
+		greaterYNeighborValue = currentWSlice.get(2, 2, 1);
 		if (topplePositionOfType17(2, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, greaterYNeighborValue, 2, 
 				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1353,10 +1361,10 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerYNeighborValue = smallerZNeighborValue;
 		greaterZNeighborValue = greaterYNeighborValue;		
-		currentValue = currentWSlice[2][2][0];
-		greaterWNeighborValue = greaterWSlice[2][2][0];
-		smallerWNeighborValue = smallerWSlice[2][2][0];
-		greaterXNeighborValue = currentWSlice[3][2][0];
+		currentValue = currentWSlice.get(2, 2, 0);
+		greaterWNeighborValue = greaterWSlice.get(2, 2, 0);
+		smallerWNeighborValue = smallerWSlice.get(2, 2, 0);
+		greaterXNeighborValue = currentWSlice.get(3, 2, 0);
 		if (topplePositionOfType21(2, currentValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerYNeighborValue, greaterZNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
 			changed = true;
@@ -1365,11 +1373,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[2][2][1];
-		smallerWNeighborValue = smallerWSlice[2][2][1];
-		greaterXNeighborValue = currentWSlice[3][2][1];
-		smallerYNeighborValue = currentWSlice[2][1][1];
-		greaterZNeighborValue = currentWSlice[2][2][2];
+		greaterWNeighborValue = greaterWSlice.get(2, 2, 1);
+		smallerWNeighborValue = smallerWSlice.get(2, 2, 1);
+		greaterXNeighborValue = currentWSlice.get(3, 2, 1);
+		smallerYNeighborValue = currentWSlice.get(2, 1, 1);
+		greaterZNeighborValue = currentWSlice.get(2, 2, 2);
 		if (topplePositionOfType18(2, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 3, 
 				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1379,9 +1387,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[2][2][2];
-		smallerWNeighborValue = smallerWSlice[2][2][2];
-		greaterXNeighborValue = currentWSlice[3][2][2];
+		greaterWNeighborValue = greaterWSlice.get(2, 2, 2);
+		smallerWNeighborValue = smallerWSlice.get(2, 2, 2);
+		greaterXNeighborValue = currentWSlice.get(3, 2, 2);
 		if (topplePositionOfType22(2, currentValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerZNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1390,18 +1398,18 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return changed;
 	}
 
-	private static boolean toppleRangeOfType5(int x, BigInt[][][][] wSlices, BigInt[][][][] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean toppleRangeOfType5(int x, AnisotropicBigIntAccumulatorArray[] wSlices, AnisotropicBigIntAccumulatorArray[] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) {
 		int xMinusOne = x - 1, xPlusOne = x + 1;
 		boolean changed = false;
-		BigInt[][][] smallerWSlice = wSlices[0], currentWSlice = wSlices[1], greaterWSlice = wSlices[2];		
+		AnisotropicBigIntAccumulatorArray smallerWSlice = wSlices[0], currentWSlice = wSlices[1], greaterWSlice = wSlices[2];		
 		//  w |  x | 00 | 00 | 19
-		BigInt currentValue = currentWSlice[x][0][0];
-		BigInt greaterWNeighborValue = greaterWSlice[x][0][0];
-		BigInt smallerWNeighborValue = smallerWSlice[x][0][0];
-		BigInt greaterXNeighborValue = currentWSlice[xPlusOne][0][0];
-		BigInt smallerXNeighborValue = currentWSlice[xMinusOne][0][0];
-		BigInt greaterYNeighborValue = currentWSlice[x][1][0];
+		BigInt currentValue = currentWSlice.get(x, 0, 0);
+		BigInt greaterWNeighborValue = greaterWSlice.get(x, 0, 0);
+		BigInt smallerWNeighborValue = smallerWSlice.get(x, 0, 0);
+		BigInt greaterXNeighborValue = currentWSlice.get(xPlusOne, 0, 0);
+		BigInt smallerXNeighborValue = currentWSlice.get(xMinusOne, 0, 0);
+		BigInt greaterYNeighborValue = currentWSlice.get(x, 1, 0);
 		if (topplePositionOfType7(x, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
 				greaterYNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1411,12 +1419,12 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerYNeighborValue = currentValue;
 		currentValue = greaterYNeighborValue;
-		greaterWNeighborValue = greaterWSlice[x][1][0];
-		smallerWNeighborValue = smallerWSlice[x][1][0];
-		greaterXNeighborValue = currentWSlice[xPlusOne][1][0];
-		smallerXNeighborValue = currentWSlice[xMinusOne][1][0];
-		greaterYNeighborValue = currentWSlice[x][2][0];
-		BigInt greaterZNeighborValue = currentWSlice[x][1][1];
+		greaterWNeighborValue = greaterWSlice.get(x, 1, 0);
+		smallerWNeighborValue = smallerWSlice.get(x, 1, 0);
+		greaterXNeighborValue = currentWSlice.get(xPlusOne, 1, 0);
+		smallerXNeighborValue = currentWSlice.get(xMinusOne, 1, 0);
+		greaterYNeighborValue = currentWSlice.get(x, 2, 0);
+		BigInt greaterZNeighborValue = currentWSlice.get(x, 1, 1);
 		if (topplePositionOfType16(x, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, greaterYNeighborValue, 1, 
 				smallerYNeighborValue, 4, greaterZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1426,11 +1434,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[x][1][1];
-		smallerWNeighborValue = smallerWSlice[x][1][1];
-		greaterXNeighborValue = currentWSlice[xPlusOne][1][1];
-		smallerXNeighborValue = currentWSlice[xMinusOne][1][1];
-		greaterYNeighborValue = currentWSlice[x][2][1];
+		greaterWNeighborValue = greaterWSlice.get(x, 1, 1);
+		smallerWNeighborValue = smallerWSlice.get(x, 1, 1);
+		greaterXNeighborValue = currentWSlice.get(xPlusOne, 1, 1);
+		smallerXNeighborValue = currentWSlice.get(xMinusOne, 1, 1);
+		greaterYNeighborValue = currentWSlice.get(x, 2, 1);
 		if (topplePositionOfType17(x, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, greaterYNeighborValue, 1, 
 				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1439,18 +1447,18 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return changed;
 	}
 
-	private static boolean toppleRangeOfType6(int coord, BigInt[][][][] wSlices, BigInt[][][][] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean toppleRangeOfType6(int coord, AnisotropicBigIntAccumulatorArray[] wSlices, AnisotropicBigIntAccumulatorArray[] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) {
 		int coordMinusOne = coord - 1, coordPlusOne = coord + 1;
-		BigInt[][][] smallerWSlice = wSlices[0], currentWSlice = wSlices[1], greaterWSlice = wSlices[2];	
+		AnisotropicBigIntAccumulatorArray smallerWSlice = wSlices[0], currentWSlice = wSlices[1], greaterWSlice = wSlices[2];	
 		boolean changed = false;		
 		//  w |  x |  y | 00 | 22
-		BigInt currentValue = currentWSlice[coord][coord][0];
-		BigInt greaterWNeighborValue = greaterWSlice[coord][coord][0];
-		BigInt smallerWNeighborValue = smallerWSlice[coord][coord][0];
-		BigInt greaterXNeighborValue = currentWSlice[coordPlusOne][coord][0];
-		BigInt smallerYNeighborValue = currentWSlice[coord][coordMinusOne][0];
-		BigInt greaterZNeighborValue = currentWSlice[coord][coord][1];
+		BigInt currentValue = currentWSlice.get(coord, coord, 0);
+		BigInt greaterWNeighborValue = greaterWSlice.get(coord, coord, 0);
+		BigInt smallerWNeighborValue = smallerWSlice.get(coord, coord, 0);
+		BigInt greaterXNeighborValue = currentWSlice.get(coordPlusOne, coord, 0);
+		BigInt smallerYNeighborValue = currentWSlice.get(coord, coordMinusOne, 0);
+		BigInt greaterZNeighborValue = currentWSlice.get(coord, coord, 1);
 		if (topplePositionOfType8(coord, currentValue, greaterWNeighborValue, smallerWNeighborValue, 3, greaterXNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers,
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1460,11 +1468,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[coord][coord][1];
-		smallerWNeighborValue = smallerWSlice[coord][coord][1];
-		greaterXNeighborValue = currentWSlice[coordPlusOne][coord][1];
-		smallerYNeighborValue = currentWSlice[coord][coordMinusOne][1];
-		greaterZNeighborValue = currentWSlice[coord][coord][2];
+		greaterWNeighborValue = greaterWSlice.get(coord, coord, 1);
+		smallerWNeighborValue = smallerWSlice.get(coord, coord, 1);
+		greaterXNeighborValue = currentWSlice.get(coordPlusOne, coord, 1);
+		smallerYNeighborValue = currentWSlice.get(coord, coordMinusOne, 1);
+		greaterZNeighborValue = currentWSlice.get(coord, coord, 2);
 		if (topplePositionOfType18(coord, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 3, greaterXNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, 
 				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers,
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1477,11 +1485,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterWNeighborValue = greaterWSlice[coord][coord][z];
-			smallerWNeighborValue = smallerWSlice[coord][coord][z];
-			greaterXNeighborValue = currentWSlice[coordPlusOne][coord][z];
-			smallerYNeighborValue = currentWSlice[coord][coordMinusOne][z];
-			greaterZNeighborValue = currentWSlice[coord][coord][zPlusOne];
+			greaterWNeighborValue = greaterWSlice.get(coord, coord, z);
+			smallerWNeighborValue = smallerWSlice.get(coord, coord, z);
+			greaterXNeighborValue = currentWSlice.get(coordPlusOne, coord, z);
+			smallerYNeighborValue = currentWSlice.get(coord, coordMinusOne, z);
+			greaterZNeighborValue = currentWSlice.get(coord, coord, zPlusOne);
 			if (topplePositionOfType18(coord, z, currentValue, greaterWNeighborValue, smallerWNeighborValue, 3, greaterXNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, 
 					smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers,
 					relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1492,11 +1500,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[coord][coord][z];
-		smallerWNeighborValue = smallerWSlice[coord][coord][z];
-		greaterXNeighborValue = currentWSlice[coordPlusOne][coord][z];
-		smallerYNeighborValue = currentWSlice[coord][coordMinusOne][z];
-		greaterZNeighborValue = currentWSlice[coord][coord][zPlusOne];
+		greaterWNeighborValue = greaterWSlice.get(coord, coord, z);
+		smallerWNeighborValue = smallerWSlice.get(coord, coord, z);
+		greaterXNeighborValue = currentWSlice.get(coordPlusOne, coord, z);
+		smallerYNeighborValue = currentWSlice.get(coord, coordMinusOne, z);
+		greaterZNeighborValue = currentWSlice.get(coord, coord, zPlusOne);
 		if (topplePositionOfType18(coord, z, currentValue, greaterWNeighborValue, smallerWNeighborValue, 3, greaterXNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 3, 
 				smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers,
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1507,9 +1515,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[coord][coord][z];
-		smallerWNeighborValue = smallerWSlice[coord][coord][z];
-		greaterXNeighborValue = currentWSlice[coordPlusOne][coord][z];
+		greaterWNeighborValue = greaterWSlice.get(coord, coord, z);
+		smallerWNeighborValue = smallerWSlice.get(coord, coord, z);
+		greaterXNeighborValue = currentWSlice.get(coordPlusOne, coord, z);
 		if (topplePositionOfType9(coord, currentValue, greaterWNeighborValue, smallerWNeighborValue, 4, greaterXNeighborValue, 2, smallerZNeighborValue, 1, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers,
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1522,12 +1530,12 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			changed = true;
 		}		
 		//  w |  x | 02 | 00 | 45
-		currentValue = currentWSlice[coord][2][0];
-		greaterWNeighborValue = greaterWSlice[coord][2][0];
-		BigInt smallerXNeighborValue = currentWSlice[coordMinusOne][2][0];
-		BigInt greaterYNeighborValue = currentWSlice[coord][3][0];
-		smallerYNeighborValue = currentWSlice[coord][1][0];
-		greaterZNeighborValue = currentWSlice[coord][2][1];
+		currentValue = currentWSlice.get(coord, 2, 0);
+		greaterWNeighborValue = greaterWSlice.get(coord, 2, 0);
+		BigInt smallerXNeighborValue = currentWSlice.get(coordMinusOne, 2, 0);
+		BigInt greaterYNeighborValue = currentWSlice.get(coord, 3, 0);
+		smallerYNeighborValue = currentWSlice.get(coord, 1, 0);
+		greaterZNeighborValue = currentWSlice.get(coord, 2, 1);
 		if (topplePositionOfType24(coord, 2, currentValue, greaterWNeighborValue, smallerXNeighborValue, greaterYNeighborValue, smallerYNeighborValue, 
 				greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords,
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1537,11 +1545,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[coord][2][1];
-		smallerXNeighborValue = currentWSlice[coordMinusOne][2][1];
-		greaterYNeighborValue = currentWSlice[coord][3][1];
-		smallerYNeighborValue = currentWSlice[coord][1][1];
-		greaterZNeighborValue = currentWSlice[coord][2][2];
+		greaterWNeighborValue = greaterWSlice.get(coord, 2, 1);
+		smallerXNeighborValue = currentWSlice.get(coordMinusOne, 2, 1);
+		greaterYNeighborValue = currentWSlice.get(coord, 3, 1);
+		smallerYNeighborValue = currentWSlice.get(coord, 1, 1);
+		greaterZNeighborValue = currentWSlice.get(coord, 2, 2);
 		if (topplePositionOfType19(coord, 2, 1, currentValue, greaterWNeighborValue, smallerXNeighborValue, 1, greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, 
 				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers,
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1551,9 +1559,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[coord][2][2];
-		smallerXNeighborValue = currentWSlice[coordMinusOne][2][2];
-		greaterYNeighborValue = currentWSlice[coord][3][2];
+		greaterWNeighborValue = greaterWSlice.get(coord, 2, 2);
+		smallerXNeighborValue = currentWSlice.get(coordMinusOne, 2, 2);
+		greaterYNeighborValue = currentWSlice.get(coord, 3, 2);
 		if (topplePositionOfType25(coord, 2, currentValue, greaterWNeighborValue, smallerXNeighborValue, greaterYNeighborValue, smallerZNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords,
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1562,18 +1570,18 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return changed;
 	}
 
-	private static boolean toppleRangeOfType7(int x, BigInt[][][][] wSlices, BigInt[][][][] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean toppleRangeOfType7(int x, AnisotropicBigIntAccumulatorArray[] wSlices, AnisotropicBigIntAccumulatorArray[] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) {		
 		int y = x - 1, xMinusOne = x - 1, xMinusTwo = x - 2, yPlusOne = y + 1, yMinusOne = y - 1;
 		boolean changed = false;
-		BigInt[][][] currentWSlice = wSlices[1], greaterWSlice = wSlices[2];		
+		AnisotropicBigIntAccumulatorArray currentWSlice = wSlices[1], greaterWSlice = wSlices[2];		
 		//  w |  x |  y | 00 | 27
-		BigInt currentValue = currentWSlice[x][y][0];
-		BigInt greaterWNeighborValue = greaterWSlice[x][y][0];
-		BigInt smallerXNeighborValue = currentWSlice[xMinusOne][y][0];
-		BigInt greaterYNeighborValue = currentWSlice[x][yPlusOne][0];
-		BigInt smallerYNeighborValue = currentWSlice[x][yMinusOne][0];
-		BigInt greaterZNeighborValue = currentWSlice[x][y][1];
+		BigInt currentValue = currentWSlice.get(x, y, 0);
+		BigInt greaterWNeighborValue = greaterWSlice.get(x, y, 0);
+		BigInt smallerXNeighborValue = currentWSlice.get(xMinusOne, y, 0);
+		BigInt greaterYNeighborValue = currentWSlice.get(x, yPlusOne, 0);
+		BigInt smallerYNeighborValue = currentWSlice.get(x, yMinusOne, 0);
+		BigInt greaterZNeighborValue = currentWSlice.get(x, y, 1);
 		if (topplePositionOfType11(x, y, currentValue, greaterWNeighborValue, smallerXNeighborValue, 2, greaterYNeighborValue, 3, smallerYNeighborValue, 1, 
 				greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers,
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1583,11 +1591,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[x][y][1];
-		smallerXNeighborValue = currentWSlice[xMinusOne][y][1];
-		greaterYNeighborValue = currentWSlice[x][yPlusOne][1];
-		smallerYNeighborValue = currentWSlice[x][yMinusOne][1];
-		greaterZNeighborValue = currentWSlice[x][y][2];
+		greaterWNeighborValue = greaterWSlice.get(x, y, 1);
+		smallerXNeighborValue = currentWSlice.get(xMinusOne, y, 1);
+		greaterYNeighborValue = currentWSlice.get(x, yPlusOne, 1);
+		smallerYNeighborValue = currentWSlice.get(x, yMinusOne, 1);
+		greaterZNeighborValue = currentWSlice.get(x, y, 2);
 		if (topplePositionOfType19(x, y, 1, currentValue, greaterWNeighborValue, smallerXNeighborValue, 2, greaterYNeighborValue, 3, smallerYNeighborValue, 1, greaterZNeighborValue, 1, 
 				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers,
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1600,11 +1608,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterWNeighborValue = greaterWSlice[x][y][z];
-			smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-			greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
-			smallerYNeighborValue = currentWSlice[x][yMinusOne][z];
-			greaterZNeighborValue = currentWSlice[x][y][zPlusOne];
+			greaterWNeighborValue = greaterWSlice.get(x, y, z);
+			smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+			greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
+			smallerYNeighborValue = currentWSlice.get(x, yMinusOne, z);
+			greaterZNeighborValue = currentWSlice.get(x, y, zPlusOne);
 			if (topplePositionOfType19(x, y, z, currentValue, greaterWNeighborValue, smallerXNeighborValue, 2, greaterYNeighborValue, 3, smallerYNeighborValue, 1, greaterZNeighborValue, 1, 
 					smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers,
 					relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1615,11 +1623,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[x][y][z];
-		smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-		greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
-		smallerYNeighborValue = currentWSlice[x][yMinusOne][z];
-		greaterZNeighborValue = currentWSlice[x][y][zPlusOne];
+		greaterWNeighborValue = greaterWSlice.get(x, y, z);
+		smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+		greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
+		smallerYNeighborValue = currentWSlice.get(x, yMinusOne, z);
+		greaterZNeighborValue = currentWSlice.get(x, y, zPlusOne);
 		if (topplePositionOfType19(x, y, z, currentValue, greaterWNeighborValue, smallerXNeighborValue, 2, greaterYNeighborValue, 3, smallerYNeighborValue, 2, greaterZNeighborValue, 2, 
 				smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers,
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1630,9 +1638,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[x][y][z];
-		smallerXNeighborValue = currentWSlice[xMinusOne][y][z];
-		greaterYNeighborValue = currentWSlice[x][yPlusOne][z];
+		greaterWNeighborValue = greaterWSlice.get(x, y, z);
+		smallerXNeighborValue = currentWSlice.get(xMinusOne, y, z);
+		greaterYNeighborValue = currentWSlice.get(x, yPlusOne, z);
 		if (topplePositionOfType12(x, y, currentValue, greaterWNeighborValue, smallerXNeighborValue, 3, greaterYNeighborValue, 3, smallerZNeighborValue, 1, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers,
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1645,18 +1653,18 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return changed;
 	}
 
-	private static boolean toppleRangeOfType8(int x, BigInt[][][][] wSlices, BigInt[][][][] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean toppleRangeOfType8(int x, AnisotropicBigIntAccumulatorArray[] wSlices, AnisotropicBigIntAccumulatorArray[] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) {
 		int xMinusOne = x - 1, xPlusOne = x + 1;
 		boolean changed = false;
-		BigInt[][][] smallerWSlice = wSlices[0], currentWSlice = wSlices[1], greaterWSlice = wSlices[2];		
+		AnisotropicBigIntAccumulatorArray smallerWSlice = wSlices[0], currentWSlice = wSlices[1], greaterWSlice = wSlices[2];		
 		//  w |  x | 00 | 00 | 32
-		BigInt currentValue = currentWSlice[x][0][0];
-		BigInt greaterWNeighborValue = greaterWSlice[x][0][0];
-		BigInt smallerWNeighborValue = smallerWSlice[x][0][0];
-		BigInt greaterXNeighborValue = currentWSlice[xPlusOne][0][0];
-		BigInt smallerXNeighborValue = currentWSlice[xMinusOne][0][0];
-		BigInt greaterYNeighborValue = currentWSlice[x][1][0];
+		BigInt currentValue = currentWSlice.get(x, 0, 0);
+		BigInt greaterWNeighborValue = greaterWSlice.get(x, 0, 0);
+		BigInt smallerWNeighborValue = smallerWSlice.get(x, 0, 0);
+		BigInt greaterXNeighborValue = currentWSlice.get(xPlusOne, 0, 0);
+		BigInt smallerXNeighborValue = currentWSlice.get(xMinusOne, 0, 0);
+		BigInt greaterYNeighborValue = currentWSlice.get(x, 1, 0);
 		if (topplePositionOfType20(x, currentValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
 				greaterYNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1666,12 +1674,12 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerYNeighborValue = currentValue;
 		currentValue = greaterYNeighborValue;
-		greaterWNeighborValue = greaterWSlice[x][1][0];
-		smallerWNeighborValue = smallerWSlice[x][1][0];
-		greaterXNeighborValue = currentWSlice[xPlusOne][1][0];
-		smallerXNeighborValue = currentWSlice[xMinusOne][1][0];
-		greaterYNeighborValue = currentWSlice[x][2][0];
-		BigInt greaterZNeighborValue = currentWSlice[x][1][1];
+		greaterWNeighborValue = greaterWSlice.get(x, 1, 0);
+		smallerWNeighborValue = smallerWSlice.get(x, 1, 0);
+		greaterXNeighborValue = currentWSlice.get(xPlusOne, 1, 0);
+		smallerXNeighborValue = currentWSlice.get(xMinusOne, 1, 0);
+		greaterYNeighborValue = currentWSlice.get(x, 2, 0);
+		BigInt greaterZNeighborValue = currentWSlice.get(x, 1, 1);
 		if (topplePositionOfType16(x, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, greaterYNeighborValue, 1, 
 				smallerYNeighborValue, 4, greaterZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1681,11 +1689,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[x][1][1];
-		smallerWNeighborValue = smallerWSlice[x][1][1];
-		greaterXNeighborValue = currentWSlice[xPlusOne][1][1];
-		smallerXNeighborValue = currentWSlice[xMinusOne][1][1];
-		greaterYNeighborValue = currentWSlice[x][2][1];
+		greaterWNeighborValue = greaterWSlice.get(x, 1, 1);
+		smallerWNeighborValue = smallerWSlice.get(x, 1, 1);
+		greaterXNeighborValue = currentWSlice.get(xPlusOne, 1, 1);
+		smallerXNeighborValue = currentWSlice.get(xMinusOne, 1, 1);
+		greaterYNeighborValue = currentWSlice.get(x, 2, 1);
 		if (topplePositionOfType17(x, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, greaterYNeighborValue, 1, 
 				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1694,18 +1702,18 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return changed;
 	}
 
-	private static boolean toppleRangeOfType9(int coord, BigInt[][][][] wSlices, BigInt[][][][] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean toppleRangeOfType9(int coord, AnisotropicBigIntAccumulatorArray[] wSlices, AnisotropicBigIntAccumulatorArray[] newWSlices, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) {
 		int coordMinusOne = coord - 1, coordPlusOne = coord + 1;
 		boolean changed = false;
-		BigInt[][][] smallerWSlice = wSlices[0], currentWSlice = wSlices[1], greaterWSlice = wSlices[2];
+		AnisotropicBigIntAccumulatorArray smallerWSlice = wSlices[0], currentWSlice = wSlices[1], greaterWSlice = wSlices[2];
 		//  w |  x |  y | 00 | 35
-		BigInt currentValue = currentWSlice[coord][coord][0];
-		BigInt greaterWNeighborValue = greaterWSlice[coord][coord][0];
-		BigInt smallerWNeighborValue = smallerWSlice[coord][coord][0];
-		BigInt greaterXNeighborValue = currentWSlice[coordPlusOne][coord][0];
-		BigInt smallerYNeighborValue = currentWSlice[coord][coordMinusOne][0];
-		BigInt greaterZNeighborValue = currentWSlice[coord][coord][1];
+		BigInt currentValue = currentWSlice.get(coord, coord, 0);
+		BigInt greaterWNeighborValue = greaterWSlice.get(coord, coord, 0);
+		BigInt smallerWNeighborValue = smallerWSlice.get(coord, coord, 0);
+		BigInt greaterXNeighborValue = currentWSlice.get(coordPlusOne, coord, 0);
+		BigInt smallerYNeighborValue = currentWSlice.get(coord, coordMinusOne, 0);
+		BigInt greaterZNeighborValue = currentWSlice.get(coord, coord, 1);
 		if (topplePositionOfType21(coord, currentValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerYNeighborValue, 
 				greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords,
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1715,11 +1723,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		BigInt smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[coord][coord][1];
-		smallerWNeighborValue = smallerWSlice[coord][coord][1];
-		greaterXNeighborValue = currentWSlice[coordPlusOne][coord][1];
-		smallerYNeighborValue = currentWSlice[coord][coordMinusOne][1];
-		greaterZNeighborValue = currentWSlice[coord][coord][2];
+		greaterWNeighborValue = greaterWSlice.get(coord, coord, 1);
+		smallerWNeighborValue = smallerWSlice.get(coord, coord, 1);
+		greaterXNeighborValue = currentWSlice.get(coordPlusOne, coord, 1);
+		smallerYNeighborValue = currentWSlice.get(coord, coordMinusOne, 1);
+		greaterZNeighborValue = currentWSlice.get(coord, coord, 2);
 		if (topplePositionOfType18(coord, 1, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, 
 				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers,
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1732,11 +1740,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			// reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterWNeighborValue = greaterWSlice[coord][coord][z];
-			smallerWNeighborValue = smallerWSlice[coord][coord][z];
-			greaterXNeighborValue = currentWSlice[coordPlusOne][coord][z];
-			smallerYNeighborValue = currentWSlice[coord][coordMinusOne][z];
-			greaterZNeighborValue = currentWSlice[coord][coord][zPlusOne];
+			greaterWNeighborValue = greaterWSlice.get(coord, coord, z);
+			smallerWNeighborValue = smallerWSlice.get(coord, coord, z);
+			greaterXNeighborValue = currentWSlice.get(coordPlusOne, coord, z);
+			smallerYNeighborValue = currentWSlice.get(coord, coordMinusOne, z);
+			greaterZNeighborValue = currentWSlice.get(coord, coord, zPlusOne);
 			if (topplePositionOfType29(coord, z, currentValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerYNeighborValue, greaterZNeighborValue, 
 					smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords,
 					relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1747,11 +1755,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[coord][coord][z];
-		smallerWNeighborValue = smallerWSlice[coord][coord][z];
-		greaterXNeighborValue = currentWSlice[coordPlusOne][coord][z];
-		smallerYNeighborValue = currentWSlice[coord][coordMinusOne][z];
-		greaterZNeighborValue = currentWSlice[coord][coord][zPlusOne];
+		greaterWNeighborValue = greaterWSlice.get(coord, coord, z);
+		smallerWNeighborValue = smallerWSlice.get(coord, coord, z);
+		greaterXNeighborValue = currentWSlice.get(coordPlusOne, coord, z);
+		smallerYNeighborValue = currentWSlice.get(coord, coordMinusOne, z);
+		greaterZNeighborValue = currentWSlice.get(coord, coord, zPlusOne);
 		if (topplePositionOfType18(coord, z, currentValue, greaterWNeighborValue, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 3, 
 				smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers,
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1762,9 +1770,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		// reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
-		greaterWNeighborValue = greaterWSlice[coord][coord][z];
-		smallerWNeighborValue = smallerWSlice[coord][coord][z];
-		greaterXNeighborValue = currentWSlice[coordPlusOne][coord][z];
+		greaterWNeighborValue = greaterWSlice.get(coord, coord, z);
+		smallerWNeighborValue = smallerWSlice.get(coord, coord, z);
+		greaterXNeighborValue = currentWSlice.get(coordPlusOne, coord, z);
 		if (topplePositionOfType22(coord, currentValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerZNeighborValue, 
 				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords,
 				relevantAsymmetricNeighborSymmetryCounts, newWSlices)) {
@@ -1773,25 +1781,25 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return changed;
 	}
 
-	private static boolean topplePositionOfType1(BigInt currentValue, BigInt gWValue, BigInt[][][] newCurrentWSlice, BigInt[][][] newGreaterWSlice) {
+	private static boolean topplePositionOfType1(BigInt currentValue, BigInt gWValue, AnisotropicBigIntAccumulatorArray newCurrentWSlice, AnisotropicBigIntAccumulatorArray newGreaterWSlice) {
 		boolean toppled = false;
 		if (gWValue.compareTo(currentValue) < 0) {
 			BigInt toShare = currentValue.subtract(gWValue);
 			BigInt[] shareAndRemainder = toShare.divideAndRemainder(nine);BigInt share = shareAndRemainder[0];
 			if (!share.equals(BigInt.ZERO)) {
 				toppled = true;
-				newCurrentWSlice[0][0][0] = newCurrentWSlice[0][0][0].add(currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
-				newGreaterWSlice[0][0][0] = newGreaterWSlice[0][0][0].add(share);
+				newCurrentWSlice.add(0, 0, 0, currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+				newGreaterWSlice.add(0, 0, 0, share);
 			} else {
-				newCurrentWSlice[0][0][0] = newCurrentWSlice[0][0][0].add(currentValue);
+				newCurrentWSlice.add(0, 0, 0, currentValue);
 			}			
 		} else {
-			newCurrentWSlice[0][0][0] = newCurrentWSlice[0][0][0].add(currentValue);
+			newCurrentWSlice.add(0, 0, 0, currentValue);
 		}
 		return toppled;
 	}
 
-	private static boolean topplePositionOfType2(BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType2(BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -1833,7 +1841,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, 0, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType3(BigInt currentValue, BigInt gWValue, BigInt sXValue, BigInt gYValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType3(BigInt currentValue, BigInt gWValue, BigInt sXValue, BigInt gYValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -1875,7 +1883,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, 1, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType4(BigInt currentValue, BigInt gWValue, BigInt sYValue, BigInt gZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType4(BigInt currentValue, BigInt gWValue, BigInt sYValue, BigInt gZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -1917,7 +1925,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, 1, 1, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType5(BigInt currentValue, BigInt gWValue, BigInt sZValue, BigInt[][][] newCurrentWSlice, BigInt[][][] newGreaterWSlice) {
+	private static boolean topplePositionOfType5(BigInt currentValue, BigInt gWValue, BigInt sZValue, AnisotropicBigIntAccumulatorArray newCurrentWSlice, AnisotropicBigIntAccumulatorArray newGreaterWSlice) {
 		boolean toppled = false;
 		if (sZValue.compareTo(currentValue) < 0) {
 			if (gWValue.compareTo(currentValue) < 0) {
@@ -1928,9 +1936,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentWSlice[1][1][0] = newCurrentWSlice[1][1][0].add(share.add(share));// one more for the symmetric position at the other side
-					newCurrentWSlice[1][1][1] = newCurrentWSlice[1][1][1].add(currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
-					newGreaterWSlice[1][1][1] = newGreaterWSlice[1][1][1].add(share);
+					newCurrentWSlice.add(1, 1, 0, share.add(share));// one more for the symmetric position at the other side
+					newCurrentWSlice.add(1, 1, 1, currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+					newGreaterWSlice.add(1, 1, 1, share);
 				} else if (sZValue.compareTo(gWValue) < 0) {
 					// sz < gw < current
 					BigInt toShare = currentValue.subtract(gWValue); 
@@ -1938,16 +1946,16 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentWSlice[1][1][0] = newCurrentWSlice[1][1][0].add(share.add(share));
-					newGreaterWSlice[1][1][1] = newGreaterWSlice[1][1][1].add(share);
+					newCurrentWSlice.add(1, 1, 0, share.add(share));
+					newGreaterWSlice.add(1, 1, 1, share);
 					BigInt currentRemainingValue = currentValue.subtract(share.multiply(eight));
 					toShare = currentRemainingValue.subtract(sZValue); 
 					shareAndRemainder = toShare.divideAndRemainder(five);share = shareAndRemainder[0];
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentWSlice[1][1][0] = newCurrentWSlice[1][1][0].add(share.add(share));
-					newCurrentWSlice[1][1][1] = newCurrentWSlice[1][1][1].add(currentRemainingValue .subtract(toShare).add(share).add(shareAndRemainder[1]));
+					newCurrentWSlice.add(1, 1, 0, share.add(share));
+					newCurrentWSlice.add(1, 1, 1, currentRemainingValue .subtract(toShare).add(share).add(shareAndRemainder[1]));
 				} else {
 					// gw < sz < current
 					BigInt toShare = currentValue.subtract(sZValue); 
@@ -1955,16 +1963,16 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentWSlice[1][1][0] = newCurrentWSlice[1][1][0].add(share.add(share));
-					newGreaterWSlice[1][1][1] = newGreaterWSlice[1][1][1].add(share);
+					newCurrentWSlice.add(1, 1, 0, share.add(share));
+					newGreaterWSlice.add(1, 1, 1, share);
 					BigInt currentRemainingValue = currentValue.subtract(share.multiply(eight));
 					toShare = currentRemainingValue.subtract(gWValue); 
 					shareAndRemainder = toShare.divideAndRemainder(five);share = shareAndRemainder[0];
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentWSlice[1][1][1] = newCurrentWSlice[1][1][1].add(currentRemainingValue .subtract(toShare).add(share).add(shareAndRemainder[1]));
-					newGreaterWSlice[1][1][1] = newGreaterWSlice[1][1][1].add(share);
+					newCurrentWSlice.add(1, 1, 1, currentRemainingValue .subtract(toShare).add(share).add(shareAndRemainder[1]));
+					newGreaterWSlice.add(1, 1, 1, share);
 				}
 			} else {
 				// sz < current <= gw
@@ -1973,8 +1981,8 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newCurrentWSlice[1][1][0] = newCurrentWSlice[1][1][0].add(share.add(share));
-				newCurrentWSlice[1][1][1] = newCurrentWSlice[1][1][1].add(currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+				newCurrentWSlice.add(1, 1, 0, share.add(share));
+				newCurrentWSlice.add(1, 1, 1, currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 			}
 		} else if (gWValue.compareTo(currentValue) < 0) {
 			// gw < current <= sz
@@ -1983,16 +1991,16 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			if (!share.equals(BigInt.ZERO)) {
 				toppled = true;
 			}
-			newCurrentWSlice[1][1][1] = newCurrentWSlice[1][1][1].add(currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
-			newGreaterWSlice[1][1][1] = newGreaterWSlice[1][1][1].add(share);
+			newCurrentWSlice.add(1, 1, 1, currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+			newGreaterWSlice.add(1, 1, 1, share);
 		} else {
 			// gw >= current <= sz
-			newCurrentWSlice[1][1][1] = newCurrentWSlice[1][1][1].add(currentValue);
+			newCurrentWSlice.add(1, 1, 1, currentValue);
 		}
 		return toppled;
 	}
 
-	private static boolean topplePositionOfType6(BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType6(BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -2031,7 +2039,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, 0, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType7(int x, BigInt currentValue, BigInt gWValue, BigInt sWValue, int sWShareMultiplier, BigInt gXValue, int gXShareMultiplier, BigInt sXValue, int sXShareMultiplier, BigInt gYValue, int gYShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType7(int x, BigInt currentValue, BigInt gWValue, BigInt sWValue, int sWShareMultiplier, BigInt gXValue, int gXShareMultiplier, BigInt sXValue, int sXShareMultiplier, BigInt gYValue, int gYShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -2097,7 +2105,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, x, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType8(int coord, BigInt currentValue, BigInt gWValue, BigInt sWValue, int sWShareMultiplier, BigInt gXValue, int gXShareMultiplier, BigInt sYValue, int sYShareMultiplier, BigInt gZValue, int gZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType8(int coord, BigInt currentValue, BigInt gWValue, BigInt sWValue, int sWShareMultiplier, BigInt gXValue, int gXShareMultiplier, BigInt sYValue, int sYShareMultiplier, BigInt gZValue, int gZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -2163,7 +2171,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, coord, coord, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType9(int coord, BigInt currentValue, BigInt gWValue, BigInt sWValue, int sWShareMultiplier, BigInt gXValue, int gXShareMultiplier, BigInt sZValue, int sZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType9(int coord, BigInt currentValue, BigInt gWValue, BigInt sWValue, int sWShareMultiplier, BigInt gXValue, int gXShareMultiplier, BigInt sZValue, int sZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -2217,7 +2225,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, coord, coord, coord, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType10(int x, BigInt currentValue, BigInt gWValue, BigInt sXValue, BigInt gYValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType10(int x, BigInt currentValue, BigInt gWValue, BigInt sXValue, BigInt gYValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -2256,7 +2264,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, x, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType11(int x, int y, BigInt currentValue, BigInt gWValue, BigInt sXValue, int sXShareMultiplier, BigInt gYValue, int gYShareMultiplier, BigInt sYValue, int sYShareMultiplier, BigInt gZValue, int gZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType11(int x, int y, BigInt currentValue, BigInt gWValue, BigInt sXValue, int sXShareMultiplier, BigInt gYValue, int gYShareMultiplier, BigInt sYValue, int sYShareMultiplier, BigInt gZValue, int gZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -2322,7 +2330,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, x, y, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType12(int x, int coord, BigInt currentValue, BigInt gWValue, BigInt sXValue, int sXShareMultiplier, BigInt gYValue, int gYShareMultiplier, BigInt sZValue, int sZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType12(int x, int coord, BigInt currentValue, BigInt gWValue, BigInt sXValue, int sXShareMultiplier, BigInt gYValue, int gYShareMultiplier, BigInt sZValue, int sZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -2376,7 +2384,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, x, coord, coord, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType13(int coord, BigInt currentValue, BigInt gWValue, BigInt sYValue, BigInt gZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType13(int coord, BigInt currentValue, BigInt gWValue, BigInt sYValue, BigInt gZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -2415,7 +2423,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, coord, coord, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType14(int coord, int z, BigInt currentValue, BigInt gWValue, BigInt sYValue, int sYShareMultiplier, BigInt gZValue, int gZShareMultiplier, BigInt sZValue, int sZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType14(int coord, int z, BigInt currentValue, BigInt gWValue, BigInt sYValue, int sYShareMultiplier, BigInt gZValue, int gZShareMultiplier, BigInt sZValue, int sZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -2469,7 +2477,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, coord, coord, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType15(int coord, BigInt currentValue, BigInt gWValue, BigInt sZValue, BigInt[][][] newCurrentWSlice, BigInt[][][] newGreaterWSlice) {
+	private static boolean topplePositionOfType15(int coord, BigInt currentValue, BigInt gWValue, BigInt sZValue, AnisotropicBigIntAccumulatorArray newCurrentWSlice, AnisotropicBigIntAccumulatorArray newGreaterWSlice) {
 		// 4*GW, 4*SZ | 15 | 15
 		boolean toppled = false;
 		if (sZValue.compareTo(currentValue) < 0) {
@@ -2482,9 +2490,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentWSlice[coord][coord][coordMinusOne] = newCurrentWSlice[coord][coord][coordMinusOne].add(share);
-					newCurrentWSlice[coord][coord][coord] = newCurrentWSlice[coord][coord][coord].add(currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
-					newGreaterWSlice[coord][coord][coord] = newGreaterWSlice[coord][coord][coord].add(share);
+					newCurrentWSlice.add(coord, coord, coordMinusOne, share);
+					newCurrentWSlice.add(coord, coord, coord, currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+					newGreaterWSlice.add(coord, coord, coord, share);
 				} else if (sZValue.compareTo(gWValue) < 0) {
 					// sz < gw < current
 					int coordMinusOne = coord - 1;
@@ -2493,16 +2501,16 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentWSlice[coord][coord][coordMinusOne] = newCurrentWSlice[coord][coord][coordMinusOne].add(share);
-					newGreaterWSlice[coord][coord][coord] = newGreaterWSlice[coord][coord][coord].add(share);
+					newCurrentWSlice.add(coord, coord, coordMinusOne, share);
+					newGreaterWSlice.add(coord, coord, coord, share);
 					BigInt currentRemainingValue = currentValue.subtract(share.multiply(eight));
 					toShare = currentRemainingValue.subtract(sZValue); 
 					shareAndRemainder = toShare.divideAndRemainder(five);share = shareAndRemainder[0];
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentWSlice[coord][coord][coordMinusOne] = newCurrentWSlice[coord][coord][coordMinusOne].add(share);
-					newCurrentWSlice[coord][coord][coord] = newCurrentWSlice[coord][coord][coord].add(currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+					newCurrentWSlice.add(coord, coord, coordMinusOne, share);
+					newCurrentWSlice.add(coord, coord, coord, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 				} else {
 					// gw < sz < current
 					int coordMinusOne = coord - 1;
@@ -2511,16 +2519,16 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentWSlice[coord][coord][coordMinusOne] = newCurrentWSlice[coord][coord][coordMinusOne].add(share);
-					newGreaterWSlice[coord][coord][coord] = newGreaterWSlice[coord][coord][coord].add(share);
+					newCurrentWSlice.add(coord, coord, coordMinusOne, share);
+					newGreaterWSlice.add(coord, coord, coord, share);
 					BigInt currentRemainingValue = currentValue.subtract(share.multiply(eight));
 					toShare = currentRemainingValue.subtract(gWValue); 
 					shareAndRemainder = toShare.divideAndRemainder(five);share = shareAndRemainder[0];
 					if (!share.equals(BigInt.ZERO)) {
 						toppled = true;
 					}
-					newCurrentWSlice[coord][coord][coord] = newCurrentWSlice[coord][coord][coord].add(currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
-					newGreaterWSlice[coord][coord][coord] = newGreaterWSlice[coord][coord][coord].add(share);
+					newCurrentWSlice.add(coord, coord, coord, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+					newGreaterWSlice.add(coord, coord, coord, share);
 				}
 			} else {
 				// sz < current <= gw
@@ -2530,8 +2538,8 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newCurrentWSlice[coord][coord][coordMinusOne] = newCurrentWSlice[coord][coord][coordMinusOne].add(share);
-				newCurrentWSlice[coord][coord][coord] = newCurrentWSlice[coord][coord][coord].add(currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+				newCurrentWSlice.add(coord, coord, coordMinusOne, share);
+				newCurrentWSlice.add(coord, coord, coord, currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 			}
 		} else if (gWValue.compareTo(currentValue) < 0) {
 			// gw < current <= sz
@@ -2540,16 +2548,16 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			if (!share.equals(BigInt.ZERO)) {
 				toppled = true;
 			}
-			newCurrentWSlice[coord][coord][coord] = newCurrentWSlice[coord][coord][coord].add(currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
-			newGreaterWSlice[coord][coord][coord] = newGreaterWSlice[coord][coord][coord].add(share);
+			newCurrentWSlice.add(coord, coord, coord, currentValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+			newGreaterWSlice.add(coord, coord, coord, share);
 		} else {
 			// gw >= current <= sz
-			newCurrentWSlice[coord][coord][coord] = newCurrentWSlice[coord][coord][coord].add(currentValue);
+			newCurrentWSlice.add(coord, coord, coord, currentValue);
 		}
 		return toppled;
 	}
 
-	private static boolean topplePositionOfType16(int x, int y, BigInt currentValue, BigInt gWValue, BigInt sWValue, int sWShareMultiplier, BigInt gXValue, int gXShareMultiplier, BigInt sXValue, int sXShareMultiplier, BigInt gYValue, int gYShareMultiplier, BigInt sYValue, int sYShareMultiplier, BigInt gZValue, int gZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType16(int x, int y, BigInt currentValue, BigInt gWValue, BigInt sWValue, int sWShareMultiplier, BigInt gXValue, int gXShareMultiplier, BigInt sXValue, int sXShareMultiplier, BigInt gYValue, int gYShareMultiplier, BigInt sYValue, int sYShareMultiplier, BigInt gZValue, int gZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -2639,7 +2647,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, x, y, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType17(int x, int coord, BigInt currentValue, BigInt gWValue, BigInt sWValue, int sWShareMultiplier, BigInt gXValue, int gXShareMultiplier, BigInt sXValue, int sXShareMultiplier, BigInt gYValue, int gYShareMultiplier, BigInt sZValue, int sZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType17(int x, int coord, BigInt currentValue, BigInt gWValue, BigInt sWValue, int sWShareMultiplier, BigInt gXValue, int gXShareMultiplier, BigInt sXValue, int sXShareMultiplier, BigInt gYValue, int gYShareMultiplier, BigInt sZValue, int sZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -2717,7 +2725,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, x, coord, coord, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType18(int coord, int z, BigInt currentValue, BigInt gWValue, BigInt sWValue, int sWShareMultiplier, BigInt gXValue, int gXShareMultiplier, BigInt sYValue, int sYShareMultiplier, BigInt gZValue, int gZShareMultiplier, BigInt sZValue, int sZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType18(int coord, int z, BigInt currentValue, BigInt gWValue, BigInt sWValue, int sWShareMultiplier, BigInt gXValue, int gXShareMultiplier, BigInt sYValue, int sYShareMultiplier, BigInt gZValue, int gZShareMultiplier, BigInt sZValue, int sZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -2795,7 +2803,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, coord, coord, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType19(int x, int y, int z, BigInt currentValue, BigInt gWValue, BigInt sXValue, int sXShareMultiplier, BigInt gYValue, int gYShareMultiplier, BigInt sYValue, int sYShareMultiplier, BigInt gZValue, int gZShareMultiplier, BigInt sZValue, int sZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType19(int x, int y, int z, BigInt currentValue, BigInt gWValue, BigInt sXValue, int sXShareMultiplier, BigInt gYValue, int gYShareMultiplier, BigInt sYValue, int sYShareMultiplier, BigInt gZValue, int gZShareMultiplier, BigInt sZValue, int sZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -2873,7 +2881,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, x, y, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType20(int x, BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt sXValue, BigInt gYValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType20(int x, BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt sXValue, BigInt gYValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -2934,7 +2942,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, x, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType21(int coord, BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt sYValue, BigInt gZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType21(int coord, BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt sYValue, BigInt gZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -2995,7 +3003,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, coord, coord, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType22(int coord, BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt sZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType22(int coord, BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt sZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -3045,7 +3053,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, coord, coord, coord, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType23(int x, int y, int z, BigInt currentValue, BigInt gWValue, BigInt sWValue, int sWShareMultiplier, BigInt gXValue, int gXShareMultiplier, BigInt sXValue, int sXShareMultiplier, BigInt gYValue, int gYShareMultiplier, BigInt sYValue, int sYShareMultiplier, BigInt gZValue, int gZShareMultiplier, BigInt sZValue, int sZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType23(int x, int y, int z, BigInt currentValue, BigInt gWValue, BigInt sWValue, int sWShareMultiplier, BigInt gXValue, int gXShareMultiplier, BigInt sXValue, int sXShareMultiplier, BigInt gYValue, int gYShareMultiplier, BigInt sYValue, int sYShareMultiplier, BigInt gZValue, int gZShareMultiplier, BigInt sZValue, int sZShareMultiplier, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
 			relevantAsymmetricNeighborValues[relevantNeighborCount] = gWValue;
@@ -3130,7 +3138,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, x, y, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantNeighborCount);
 	}
 
-	private static boolean topplePositionOfType24(int x, int y, BigInt currentValue, BigInt gWValue, BigInt sXValue, BigInt gYValue, BigInt sYValue, BigInt gZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType24(int x, int y, BigInt currentValue, BigInt gWValue, BigInt sXValue, BigInt gYValue, BigInt sYValue, BigInt gZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -3191,7 +3199,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, x, y, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType25(int x, int coord, BigInt currentValue, BigInt gWValue, BigInt sXValue, BigInt gYValue, BigInt sZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType25(int x, int coord, BigInt currentValue, BigInt gWValue, BigInt sXValue, BigInt gYValue, BigInt sZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -3241,7 +3249,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, x, coord, coord, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType26(int coord, int z, BigInt currentValue, BigInt gWValue, BigInt sYValue, BigInt gZValue, BigInt sZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType26(int coord, int z, BigInt currentValue, BigInt gWValue, BigInt sYValue, BigInt gZValue, BigInt sZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -3291,7 +3299,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, coord, coord, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType27(int x, int y, BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt sXValue, BigInt gYValue, BigInt sYValue, BigInt gZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType27(int x, int y, BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt sXValue, BigInt gYValue, BigInt sYValue, BigInt gZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -3374,7 +3382,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, x, y, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType28(int x, int coord, BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt sXValue, BigInt gYValue, BigInt sZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType28(int x, int coord, BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt sXValue, BigInt gYValue, BigInt sZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -3446,7 +3454,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, x, coord, coord, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType29(int coord, int z, BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt sYValue, BigInt gZValue, BigInt sZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType29(int coord, int z, BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt sYValue, BigInt gZValue, BigInt sZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -3518,7 +3526,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, coord, coord, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType30(int x, int y, int z, BigInt currentValue, BigInt gWValue, BigInt sXValue, BigInt gYValue, BigInt sYValue, BigInt gZValue, BigInt sZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType30(int x, int y, int z, BigInt currentValue, BigInt gWValue, BigInt sXValue, BigInt gYValue, BigInt sYValue, BigInt gZValue, BigInt sZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
@@ -3590,7 +3598,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, x, y, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType31(int x, int y, int z, BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt sXValue, BigInt gYValue, BigInt sYValue, BigInt gZValue, BigInt sZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, BigInt[][][][] newWSlices) {
+	private static boolean topplePositionOfType31(int x, int y, int z, BigInt currentValue, BigInt gWValue, BigInt sWValue, BigInt gXValue, BigInt sXValue, BigInt gYValue, BigInt sYValue, BigInt gZValue, BigInt sZValue, BigInt[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, AnisotropicBigIntAccumulatorArray[] newWSlices) {
 		int relevantNeighborCount = 0;
 		if (gWValue.compareTo(currentValue) < 0) {
 			relevantAsymmetricNeighborValues[relevantNeighborCount] = gWValue;
@@ -3667,7 +3675,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return topplePosition(newWSlices, currentValue, x, y, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantNeighborCount);
 	}
 
-	private static boolean topplePosition(BigInt[][][][] newWSlices, BigInt value, int x, int y, int z, BigInt[] neighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(AnisotropicBigIntAccumulatorArray[] newWSlices, BigInt value, int x, int y, int z, BigInt[] neighborValues, int[] sortedNeighborsIndexes,
 			int[][] neighborCoords, int neighborCount) {
 		boolean toppled = false;
 		switch (neighborCount) {
@@ -3688,9 +3696,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n0W][n0X][n0Y][n0Z] = newWSlices[n0W][n0X][n0Y][n0Z].add(share);
-				newWSlices[n1W][n1X][n1Y][n1Z] = newWSlices[n1W][n1X][n1Y][n1Z].add(share);
-				newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(value.subtract(toShare).add(share).add(shareAndRemainder[1]));
+				newWSlices[n0W].add(n0X, n0Y, n0Z, share);
+				newWSlices[n1W].add(n1X, n1Y, n1Z, share);
+				newWSlices[1].add(x, y, z, value.subtract(toShare).add(share).add(shareAndRemainder[1]));
 			} else if (n0Val.compareTo(n1Val) < 0) {
 				// n0Val < n1Val < value
 				BigInt toShare = value.subtract(n1Val); 
@@ -3698,16 +3706,16 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n0W][n0X][n0Y][n0Z] = newWSlices[n0W][n0X][n0Y][n0Z].add(share);
-				newWSlices[n1W][n1X][n1Y][n1Z] = newWSlices[n1W][n1X][n1Y][n1Z].add(share);
+				newWSlices[n0W].add(n0X, n0Y, n0Z, share);
+				newWSlices[n1W].add(n1X, n1Y, n1Z, share);
 				BigInt currentRemainingValue = value.subtract(share.multiply(BigInt.valueOf(neighborCount)));
 				toShare = currentRemainingValue.subtract(n0Val);
 				shareAndRemainder = toShare.divideAndRemainder(two);share = shareAndRemainder[0];
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n0W][n0X][n0Y][n0Z] = newWSlices[n0W][n0X][n0Y][n0Z].add(share);
-				newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+				newWSlices[n0W].add(n0X, n0Y, n0Z, share);
+				newWSlices[1].add(x, y, z, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 			} else {
 				// n1Val < n0Val < value
 				BigInt toShare = value.subtract(n0Val); 
@@ -3715,16 +3723,16 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n0W][n0X][n0Y][n0Z] = newWSlices[n0W][n0X][n0Y][n0Z].add(share);
-				newWSlices[n1W][n1X][n1Y][n1Z] = newWSlices[n1W][n1X][n1Y][n1Z].add(share);
+				newWSlices[n0W].add(n0X, n0Y, n0Z, share);
+				newWSlices[n1W].add(n1X, n1Y, n1Z, share);
 				BigInt currentRemainingValue = value.subtract(share.multiply(BigInt.valueOf(neighborCount)));
 				toShare = currentRemainingValue.subtract(n1Val);
 				shareAndRemainder = toShare.divideAndRemainder(two);share = shareAndRemainder[0];
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n1W][n1X][n1Y][n1Z] = newWSlices[n1W][n1X][n1Y][n1Z].add(share);
-				newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+				newWSlices[n1W].add(n1X, n1Y, n1Z, share);
+				newWSlices[1].add(x, y, z, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 			}				
 			break;
 		case 1:
@@ -3734,11 +3742,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				toppled = true;
 				value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 				int[] nc = neighborCoords[0];int nW = nc[0], nX = nc[1], nY = nc[2], nZ = nc[3];
-				newWSlices[nW][nX][nY][nZ] = newWSlices[nW][nX][nY][nZ].add(share);
+				newWSlices[nW].add(nX, nY, nZ, share);
 			}
 			// no break
 		case 0:
-			newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(value);
+			newWSlices[1].add(x, y, z, value);
 			break;
 		default: // 8, 7, 6, 5, 4
 			Utils.sortDescending(neighborCount, neighborValues, sortedNeighborsIndexes);
@@ -3748,7 +3756,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return toppled;
 	}
 
-	private static boolean topplePositionSortedNeighbors(BigInt[][][][] newWSlices, BigInt value, int x, int y, int z, 
+	private static boolean topplePositionSortedNeighbors(AnisotropicBigIntAccumulatorArray[] newWSlices, BigInt value, int x, int y, int z, 
 			BigInt[] neighborValues, int[] sortedNeighborsIndexes, int[][] neighborCoords, int neighborCount) {
 		boolean toppled = false;
 		int shareCount = neighborCount + 1;
@@ -3760,7 +3768,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 			for (int j = 0; j < neighborCount; j++) {
 				int[] nc = neighborCoords[sortedNeighborsIndexes[j]];int nW = nc[0], nX = nc[1], nY = nc[2], nZ = nc[3];
-				newWSlices[nW][nX][nY][nZ] = newWSlices[nW][nX][nY][nZ].add(share);
+				newWSlices[nW].add(nX, nY, nZ, share);
 			}
 		}
 		BigInt previousNeighborValue = neighborValue;
@@ -3775,18 +3783,18 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 					for (int j = i; j < neighborCount; j++) {
 						int[] nc = neighborCoords[sortedNeighborsIndexes[j]];int nW = nc[0], nX = nc[1], nY = nc[2], nZ = nc[3];
-						newWSlices[nW][nX][nY][nZ] = newWSlices[nW][nX][nY][nZ].add(share);
+						newWSlices[nW].add(nX, nY, nZ, share);
 					}
 				}
 				previousNeighborValue = neighborValue;
 			}
 			shareCount--;
 		}
-		newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(value);
+		newWSlices[1].add(x, y, z, value);
 		return toppled;
 	}
 
-	private static boolean topplePosition(BigInt[][][][] newWSlices, BigInt value, int x, int y, int z, BigInt[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(AnisotropicBigIntAccumulatorArray[] newWSlices, BigInt value, int x, int y, int z, BigInt[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborShareMultipliers, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) {
 		boolean toppled = false;
@@ -3810,9 +3818,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n0W][n0X][n0Y][n0Z] = newWSlices[n0W][n0X][n0Y][n0Z].add(share.multiply(BigInt.valueOf(n0Mult)));
-				newWSlices[n1W][n1X][n1Y][n1Z] = newWSlices[n1W][n1X][n1Y][n1Z].add(share.multiply(BigInt.valueOf(n1Mult)));
-				newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(value.subtract(toShare).add(share).add(shareAndRemainder[1]));
+				newWSlices[n0W].add(n0X, n0Y, n0Z, share.multiply(BigInt.valueOf(n0Mult)));
+				newWSlices[n1W].add(n1X, n1Y, n1Z, share.multiply(BigInt.valueOf(n1Mult)));
+				newWSlices[1].add(x, y, z, value.subtract(toShare).add(share).add(shareAndRemainder[1]));
 			} else if (n0Val.compareTo(n1Val) < 0) {
 				// n0Val < n1Val < value
 				BigInt toShare = value.subtract(n1Val); 
@@ -3820,8 +3828,8 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n0W][n0X][n0Y][n0Z] = newWSlices[n0W][n0X][n0Y][n0Z].add(share.multiply(BigInt.valueOf(n0Mult)));
-				newWSlices[n1W][n1X][n1Y][n1Z] = newWSlices[n1W][n1X][n1Y][n1Z].add(share.multiply(BigInt.valueOf(n1Mult)));
+				newWSlices[n0W].add(n0X, n0Y, n0Z, share.multiply(BigInt.valueOf(n0Mult)));
+				newWSlices[n1W].add(n1X, n1Y, n1Z, share.multiply(BigInt.valueOf(n1Mult)));
 				shareCount -= asymmetricNeighborSymmetryCounts[1];
 				BigInt currentRemainingValue = value.subtract(share.multiply(BigInt.valueOf(neighborCount)));
 				toShare = currentRemainingValue.subtract(n0Val);
@@ -3829,8 +3837,8 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n0W][n0X][n0Y][n0Z] = newWSlices[n0W][n0X][n0Y][n0Z].add(share.multiply(BigInt.valueOf(n0Mult)));
-				newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+				newWSlices[n0W].add(n0X, n0Y, n0Z, share.multiply(BigInt.valueOf(n0Mult)));
+				newWSlices[1].add(x, y, z, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 			} else {
 				// n1Val < n0Val < value
 				BigInt toShare = value.subtract(n0Val); 
@@ -3838,8 +3846,8 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n0W][n0X][n0Y][n0Z] = newWSlices[n0W][n0X][n0Y][n0Z].add(share.multiply(BigInt.valueOf(n0Mult)));
-				newWSlices[n1W][n1X][n1Y][n1Z] = newWSlices[n1W][n1X][n1Y][n1Z].add(share.multiply(BigInt.valueOf(n1Mult)));
+				newWSlices[n0W].add(n0X, n0Y, n0Z, share.multiply(BigInt.valueOf(n0Mult)));
+				newWSlices[n1W].add(n1X, n1Y, n1Z, share.multiply(BigInt.valueOf(n1Mult)));
 				shareCount -= asymmetricNeighborSymmetryCounts[0];
 				BigInt currentRemainingValue = value.subtract(share.multiply(BigInt.valueOf(neighborCount)));
 				toShare = currentRemainingValue.subtract(n1Val);
@@ -3847,8 +3855,8 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n1W][n1X][n1Y][n1Z] = newWSlices[n1W][n1X][n1Y][n1Z].add(share.multiply(BigInt.valueOf(n1Mult)));
-				newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+				newWSlices[n1W].add(n1X, n1Y, n1Z, share.multiply(BigInt.valueOf(n1Mult)));
+				newWSlices[1].add(x, y, z, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 			}				
 			break;
 		case 1:
@@ -3859,11 +3867,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				toppled = true;
 				value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 				int[] nc = asymmetricNeighborCoords[0];int nW = nc[0], nX = nc[1], nY = nc[2], nZ = nc[3];
-				newWSlices[nW][nX][nY][nZ] = newWSlices[nW][nX][nY][nZ].add(share.multiply(BigInt.valueOf(asymmetricNeighborShareMultipliers[0])));
+				newWSlices[nW].add(nX, nY, nZ, share.multiply(BigInt.valueOf(asymmetricNeighborShareMultipliers[0])));
 			}
 			// no break
 		case 0:
-			newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(value);
+			newWSlices[1].add(x, y, z, value);
 			break;
 		default: // 8, 7, 6, 5, 4
 			Utils.sortDescending(asymmetricNeighborCount, asymmetricNeighborValues, sortedNeighborsIndexes);
@@ -3873,7 +3881,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return toppled;
 	}
 
-	private static boolean topplePositionSortedNeighbors(BigInt[][][][] newWSlices, BigInt value, int x, int y, int z, BigInt[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePositionSortedNeighbors(AnisotropicBigIntAccumulatorArray[] newWSlices, BigInt value, int x, int y, int z, BigInt[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborShareMultipliers, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) {
 		boolean toppled = false;
@@ -3886,7 +3894,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 			for (int j = 0; j < asymmetricNeighborCount; j++) {
 				int[] nc = asymmetricNeighborCoords[sortedNeighborsIndexes[j]];int nW = nc[0], nX = nc[1], nY = nc[2], nZ = nc[3];
-				newWSlices[nW][nX][nY][nZ] = newWSlices[nW][nX][nY][nZ].add(share.multiply(BigInt.valueOf(asymmetricNeighborShareMultipliers[sortedNeighborsIndexes[j]])));
+				newWSlices[nW].add(nX, nY, nZ, share.multiply(BigInt.valueOf(asymmetricNeighborShareMultipliers[sortedNeighborsIndexes[j]])));
 			}
 		}
 		BigInt previousNeighborValue = neighborValue;
@@ -3901,18 +3909,18 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 					for (int j = i; j < asymmetricNeighborCount; j++) {
 						int[] nc = asymmetricNeighborCoords[sortedNeighborsIndexes[j]];int nW = nc[0], nX = nc[1], nY = nc[2], nZ = nc[3];
-						newWSlices[nW][nX][nY][nZ] = newWSlices[nW][nX][nY][nZ].add(share.multiply(BigInt.valueOf(asymmetricNeighborShareMultipliers[sortedNeighborsIndexes[j]])));
+						newWSlices[nW].add(nX, nY, nZ, share.multiply(BigInt.valueOf(asymmetricNeighborShareMultipliers[sortedNeighborsIndexes[j]])));
 					}
 				}
 				previousNeighborValue = neighborValue;
 			}
 			shareCount -= asymmetricNeighborSymmetryCounts[sortedNeighborsIndexes[i]];
 		}
-		newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(value);
+		newWSlices[1].add(x, y, z, value);
 		return toppled;
 	}
 
-	private static boolean topplePosition(BigInt[][][][] newWSlices, BigInt value, int x, int y, int z, BigInt[] neighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(AnisotropicBigIntAccumulatorArray[] newWSlices, BigInt value, int x, int y, int z, BigInt[] neighborValues, int[] sortedNeighborsIndexes,
 			int[][] neighborCoords, int[] neighborShareMultipliers, int neighborCount) {
 		boolean toppled = false;
 		switch (neighborCount) {
@@ -3934,9 +3942,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n0W][n0X][n0Y][n0Z] = newWSlices[n0W][n0X][n0Y][n0Z].add(share.multiply(BigInt.valueOf(n0Mult)));
-				newWSlices[n1W][n1X][n1Y][n1Z] = newWSlices[n1W][n1X][n1Y][n1Z].add(share.multiply(BigInt.valueOf(n1Mult)));
-				newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(value.subtract(toShare).add(share).add(shareAndRemainder[1]));
+				newWSlices[n0W].add(n0X, n0Y, n0Z, share.multiply(BigInt.valueOf(n0Mult)));
+				newWSlices[n1W].add(n1X, n1Y, n1Z, share.multiply(BigInt.valueOf(n1Mult)));
+				newWSlices[1].add(x, y, z, value.subtract(toShare).add(share).add(shareAndRemainder[1]));
 			} else if (n0Val.compareTo(n1Val) < 0) {
 				// n0Val < n1Val < value
 				BigInt toShare = value.subtract(n1Val); 
@@ -3944,16 +3952,16 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n0W][n0X][n0Y][n0Z] = newWSlices[n0W][n0X][n0Y][n0Z].add(share.multiply(BigInt.valueOf(n0Mult)));
-				newWSlices[n1W][n1X][n1Y][n1Z] = newWSlices[n1W][n1X][n1Y][n1Z].add(share.multiply(BigInt.valueOf(n1Mult)));
+				newWSlices[n0W].add(n0X, n0Y, n0Z, share.multiply(BigInt.valueOf(n0Mult)));
+				newWSlices[n1W].add(n1X, n1Y, n1Z, share.multiply(BigInt.valueOf(n1Mult)));
 				BigInt currentRemainingValue = value.subtract(share.multiply(BigInt.valueOf(neighborCount)));
 				toShare = currentRemainingValue.subtract(n0Val);
 				shareAndRemainder = toShare.divideAndRemainder(two);share = shareAndRemainder[0];
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n0W][n0X][n0Y][n0Z] = newWSlices[n0W][n0X][n0Y][n0Z].add(share.multiply(BigInt.valueOf(n0Mult)));
-				newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+				newWSlices[n0W].add(n0X, n0Y, n0Z, share.multiply(BigInt.valueOf(n0Mult)));
+				newWSlices[1].add(x, y, z, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 			} else {
 				// n1Val < n0Val < value
 				BigInt toShare = value.subtract(n0Val); 
@@ -3961,16 +3969,16 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n0W][n0X][n0Y][n0Z] = newWSlices[n0W][n0X][n0Y][n0Z].add(share.multiply(BigInt.valueOf(n0Mult)));
-				newWSlices[n1W][n1X][n1Y][n1Z] = newWSlices[n1W][n1X][n1Y][n1Z].add(share.multiply(BigInt.valueOf(n1Mult)));
+				newWSlices[n0W].add(n0X, n0Y, n0Z, share.multiply(BigInt.valueOf(n0Mult)));
+				newWSlices[n1W].add(n1X, n1Y, n1Z, share.multiply(BigInt.valueOf(n1Mult)));
 				BigInt currentRemainingValue = value.subtract(share.multiply(BigInt.valueOf(neighborCount)));
 				toShare = currentRemainingValue.subtract(n1Val);
 				shareAndRemainder = toShare.divideAndRemainder(two);share = shareAndRemainder[0];
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n1W][n1X][n1Y][n1Z] = newWSlices[n1W][n1X][n1Y][n1Z].add(share.multiply(BigInt.valueOf(n1Mult)));
-				newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+				newWSlices[n1W].add(n1X, n1Y, n1Z, share.multiply(BigInt.valueOf(n1Mult)));
+				newWSlices[1].add(x, y, z, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 			}				
 			break;
 		case 1:
@@ -3980,11 +3988,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				toppled = true;
 				value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 				int[] nc = neighborCoords[0];int nW = nc[0], nX = nc[1], nY = nc[2], nZ = nc[3];
-				newWSlices[nW][nX][nY][nZ] = newWSlices[nW][nX][nY][nZ].add(share.multiply(BigInt.valueOf(neighborShareMultipliers[0])));
+				newWSlices[nW].add(nX, nY, nZ, share.multiply(BigInt.valueOf(neighborShareMultipliers[0])));
 			}
 			// no break
 		case 0:
-			newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(value);
+			newWSlices[1].add(x, y, z, value);
 			break;
 		default: // 8, 7, 6, 5, 4
 			Utils.sortDescending(neighborCount, neighborValues, sortedNeighborsIndexes);
@@ -3994,7 +4002,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return toppled;
 	}
 
-	private static boolean topplePositionSortedNeighbors(BigInt[][][][] newWSlices, BigInt value, int x, int y, int z, BigInt[] neighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePositionSortedNeighbors(AnisotropicBigIntAccumulatorArray[] newWSlices, BigInt value, int x, int y, int z, BigInt[] neighborValues, int[] sortedNeighborsIndexes,
 			int[][] neighborCoords, int[] neighborShareMultipliers, int neighborCount) {
 		boolean toppled = false;
 		int shareCount = neighborCount + 1;
@@ -4006,7 +4014,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 			for (int j = 0; j < neighborCount; j++) {
 				int[] nc = neighborCoords[sortedNeighborsIndexes[j]];int nW = nc[0], nX = nc[1], nY = nc[2], nZ = nc[3];
-				newWSlices[nW][nX][nY][nZ] = newWSlices[nW][nX][nY][nZ].add(share.multiply(BigInt.valueOf(neighborShareMultipliers[sortedNeighborsIndexes[j]])));
+				newWSlices[nW].add(nX, nY, nZ, share.multiply(BigInt.valueOf(neighborShareMultipliers[sortedNeighborsIndexes[j]])));
 			}
 		}
 		BigInt previousNeighborValue = neighborValue;
@@ -4021,18 +4029,18 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 					for (int j = i; j < neighborCount; j++) {
 						int[] nc = neighborCoords[sortedNeighborsIndexes[j]];int nW = nc[0], nX = nc[1], nY = nc[2], nZ = nc[3];
-						newWSlices[nW][nX][nY][nZ] = newWSlices[nW][nX][nY][nZ].add(share.multiply(BigInt.valueOf(neighborShareMultipliers[sortedNeighborsIndexes[j]])));
+						newWSlices[nW].add(nX, nY, nZ, share.multiply(BigInt.valueOf(neighborShareMultipliers[sortedNeighborsIndexes[j]])));
 					}
 				}
 				previousNeighborValue = neighborValue;
 			}
 			shareCount--;
 		}
-		newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(value);
+		newWSlices[1].add(x, y, z, value);
 		return toppled;
 	}
 
-	private static boolean topplePosition(BigInt[][][][] newWSlices, BigInt value, int x, int y, int z, BigInt[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(AnisotropicBigIntAccumulatorArray[] newWSlices, BigInt value, int x, int y, int z, BigInt[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) {
 		boolean toppled = false;
@@ -4055,9 +4063,9 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n0W][n0X][n0Y][n0Z] = newWSlices[n0W][n0X][n0Y][n0Z].add(share);
-				newWSlices[n1W][n1X][n1Y][n1Z] = newWSlices[n1W][n1X][n1Y][n1Z].add(share);
-				newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(value.subtract(toShare).add(share).add(shareAndRemainder[1]));
+				newWSlices[n0W].add(n0X, n0Y, n0Z, share);
+				newWSlices[n1W].add(n1X, n1Y, n1Z, share);
+				newWSlices[1].add(x, y, z, value.subtract(toShare).add(share).add(shareAndRemainder[1]));
 			} else if (n0Val.compareTo(n1Val) < 0) {
 				// n0Val < n1Val < value
 				BigInt toShare = value.subtract(n1Val); 
@@ -4065,8 +4073,8 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n0W][n0X][n0Y][n0Z] = newWSlices[n0W][n0X][n0Y][n0Z].add(share);
-				newWSlices[n1W][n1X][n1Y][n1Z] = newWSlices[n1W][n1X][n1Y][n1Z].add(share);
+				newWSlices[n0W].add(n0X, n0Y, n0Z, share);
+				newWSlices[n1W].add(n1X, n1Y, n1Z, share);
 				shareCount -= asymmetricNeighborSymmetryCounts[1];
 				BigInt currentRemainingValue = value.subtract(share.multiply(BigInt.valueOf(neighborCount)));
 				toShare = currentRemainingValue.subtract(n0Val);
@@ -4074,8 +4082,8 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n0W][n0X][n0Y][n0Z] = newWSlices[n0W][n0X][n0Y][n0Z].add(share);
-				newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+				newWSlices[n0W].add(n0X, n0Y, n0Z, share);
+				newWSlices[1].add(x, y, z, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 			} else {
 				// n1Val < n0Val < value
 				BigInt toShare = value.subtract(n0Val); 
@@ -4083,8 +4091,8 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n0W][n0X][n0Y][n0Z] = newWSlices[n0W][n0X][n0Y][n0Z].add(share);
-				newWSlices[n1W][n1X][n1Y][n1Z] = newWSlices[n1W][n1X][n1Y][n1Z].add(share);
+				newWSlices[n0W].add(n0X, n0Y, n0Z, share);
+				newWSlices[n1W].add(n1X, n1Y, n1Z, share);
 				shareCount -= asymmetricNeighborSymmetryCounts[0];
 				BigInt currentRemainingValue = value.subtract(share.multiply(BigInt.valueOf(neighborCount)));
 				toShare = currentRemainingValue.subtract(n1Val);
@@ -4092,8 +4100,8 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				if (!share.equals(BigInt.ZERO)) {
 					toppled = true;
 				}
-				newWSlices[n1W][n1X][n1Y][n1Z] = newWSlices[n1W][n1X][n1Y][n1Z].add(share);
-				newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
+				newWSlices[n1W].add(n1X, n1Y, n1Z, share);
+				newWSlices[1].add(x, y, z, currentRemainingValue.subtract(toShare).add(share).add(shareAndRemainder[1]));
 			}				
 			break;
 		case 1:
@@ -4104,11 +4112,11 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 				toppled = true;
 				value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 				int[] nc = asymmetricNeighborCoords[0];int nW = nc[0], nX = nc[1], nY = nc[2], nZ = nc[3];
-				newWSlices[nW][nX][nY][nZ] = newWSlices[nW][nX][nY][nZ].add(share);
+				newWSlices[nW].add(nX, nY, nZ, share);
 			}
 			// no break
 		case 0:
-			newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(value);
+			newWSlices[1].add(x, y, z, value);
 			break;
 		default: // 8, 7, 6, 5, 4
 			Utils.sortDescending(asymmetricNeighborCount, asymmetricNeighborValues, sortedNeighborsIndexes);
@@ -4118,7 +4126,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return toppled;
 	}
 
-	private static boolean topplePositionSortedNeighbors(BigInt[][][][] newWSlices, BigInt value, int x, int y, int z, BigInt[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePositionSortedNeighbors(AnisotropicBigIntAccumulatorArray[] newWSlices, BigInt value, int x, int y, int z, BigInt[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) {
 		boolean toppled = false;
@@ -4131,7 +4139,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 			value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 			for (int j = 0; j < asymmetricNeighborCount; j++) {
 				int[] nc = asymmetricNeighborCoords[sortedNeighborsIndexes[j]];int nW = nc[0], nX = nc[1], nY = nc[2], nZ = nc[3];
-				newWSlices[nW][nX][nY][nZ] = newWSlices[nW][nX][nY][nZ].add(share);
+				newWSlices[nW].add(nX, nY, nZ, share);
 			}
 		}
 		BigInt previousNeighborValue = neighborValue;
@@ -4146,14 +4154,14 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 					value = value.subtract(toShare).add(share).add(shareAndRemainder[1]);
 					for (int j = i; j < asymmetricNeighborCount; j++) {
 						int[] nc = asymmetricNeighborCoords[sortedNeighborsIndexes[j]];int nW = nc[0], nX = nc[1], nY = nc[2], nZ = nc[3];
-						newWSlices[nW][nX][nY][nZ] = newWSlices[nW][nX][nY][nZ].add(share);
+						newWSlices[nW].add(nX, nY, nZ, share);
 					}
 				}
 				previousNeighborValue = neighborValue;
 			}
 			shareCount -= asymmetricNeighborSymmetryCounts[sortedNeighborsIndexes[i]];
 		}
-		newWSlices[1][x][y][z] = newWSlices[1][x][y][z].add(value);
+		newWSlices[1].add(x, y, z, value);
 		return toppled;
 	}
 
@@ -4176,6 +4184,50 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		return initialValue;
 	}
 
+	private static AnisotropicBigIntAccumulatorArray[] buildGrid(int side) {
+		AnisotropicBigIntAccumulatorArray[] grid = new AnisotropicBigIntAccumulatorArray[side];
+		for (int w = 0; w < side; w++) {
+			grid[w] = new AnisotropicBigIntAccumulatorArray(3, w + 1);
+		}
+		return grid;
+	}
+	
+	private static AnisotropicBigIntAccumulatorArray[] toAccumulatorGrid(BigInt[][][][] array) {
+		AnisotropicBigIntAccumulatorArray[] grid = buildGrid(array.length);
+		for (int w = 0; w < array.length; w++) {
+			AnisotropicBigIntAccumulatorArray slice = grid[w];
+			for (int x = 0; x <= w; x++) {
+				for (int y = 0; y <= x; y++) {
+					for (int z = 0; z <= y; z++) {
+						slice.set(x, y, z, array[w][x][y][z]);
+					}
+				}
+			}
+		}
+		return grid;
+	}
+	
+	/**
+	 * Returns the grid as a 4D array, which is the format of the backups.
+	 * 
+	 * @param grid the grid
+	 * @return the 4D array
+	 */
+	private static BigInt[][][][] toArrayGrid(AnisotropicBigIntAccumulatorArray[] grid) {
+		BigInt[][][][] array = Utils.buildAnisotropic4DBigIntArray(grid.length);
+		for (int w = 0; w < grid.length; w++) {
+			AnisotropicBigIntAccumulatorArray slice = grid[w];
+			for (int x = 0; x <= w; x++) {
+				for (int y = 0; y <= x; y++) {
+					for (int z = 0; z <= y; z++) {
+						array[w][x][y][z] = slice.get(x, y, z);
+					}
+				}
+			}
+		}
+		return array;
+	}
+	
 	@Override
 	public void backUp(String backupPath, String backupName) throws FileNotFoundException, IOException {
 		SerializableModelData data = new SerializableModelData();
@@ -4183,7 +4235,7 @@ public class BigIntAether4D extends IsotropicHypercubicNumericArrayModelAsymmetr
 		data.put(SerializableModelData.INITIAL_CONFIGURATION, initialValue);
 		data.put(SerializableModelData.INITIAL_CONFIGURATION_TYPE, SerializableModelData.InitialConfigurationTypes.SINGLE_SOURCE_AT_ORIGIN);
 		data.put(SerializableModelData.INITIAL_CONFIGURATION_IMPLEMENTATION_TYPE, SerializableModelData.InitialConfigurationImplementationTypes.BIG_INT);
-		data.put(SerializableModelData.GRID, grid);
+		data.put(SerializableModelData.GRID, toArrayGrid(grid));
 		data.put(SerializableModelData.GRID_TYPE, SerializableModelData.GridTypes.INFINITE_REGULAR);
 		data.put(SerializableModelData.GRID_DIMENSION, 4);
 		data.put(SerializableModelData.GRID_IMPLEMENTATION_TYPE, SerializableModelData.GridImplementationTypes.ANYSOTROPIC_BIG_INT_ARRAY_1);
@@ -19,10 +19,10 @@ package cellularautomata.automata.aether;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.util.HashMap;
 
 import cellularautomata.model.FileBackedModel;
+import cellularautomata.model.MappedLongArrayFile;
 import cellularautomata.model1d.IsotropicLongModelAsymmetricSection1D;
 
 /**
@@ -49,9 +49,8 @@ public class FileBackedLongAether1D extends FileBackedModel implements Isotropic
 		this.initialValue = initialValue;
 		createGridFolder(folderPath);
 		currentFile = new File(getGridFolderPath() + File.separator + String.format(FILE_NAME_FORMAT, step));
-		grid = new RandomAccessFile(currentFile, "rw");
-		grid.setLength(5*POSITION_BYTES);//this method doesn't ensure the contents of the file will be empty
-		grid.writeLong(initialValue);
+		grid = new MappedLongArrayFile(currentFile, 5);
+		grid.set(0, initialValue);
 		step = 0;
 		maxX = 2;
 	}
@@ -71,7 +70,7 @@ public class FileBackedLongAether1D extends FileBackedModel implements Isotropic
 	
 	@Override
 	public Boolean nextStep() throws IOException {
-		RandomAccessFile newGrid = null;
+		MappedLongArrayFile newGrid = null;
 		try {
 			boolean changed = false;
 			long currentValue, greaterXNeighborValue, smallerXNeighborValue;
@@ -79,8 +78,7 @@ public class FileBackedLongAether1D extends FileBackedModel implements Isotropic
 			currentValue = getFromPosition(0);
 			greaterXNeighborValue = getFromPosition(1);
 			File newFile = new File(getGridFolderPath() + File.separator + String.format(FILE_NAME_FORMAT, step + 1));
-			newGrid = new RandomAccessFile(newFile, "rw");
-			newGrid.setLength((maxX + 4)*POSITION_BYTES);//this method doesn't ensure the contents of the file will be empty
+			newGrid = new MappedLongArrayFile(newFile, (maxX + 4));
 			if (greaterXNeighborValue < currentValue) {
 				long toShare = currentValue - greaterXNeighborValue;
 				long share = toShare/3;
@@ -184,7 +182,7 @@ public class FileBackedLongAether1D extends FileBackedModel implements Isotropic
 			if (readingBackup) {
 				readingBackup = false;
 			} else {
-				currentFile.delete();				
+				deleteStepFile(currentFile);
 			}
 			currentFile = newFile;
 			grid = newGrid;
@@ -204,7 +202,7 @@ public class FileBackedLongAether1D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 	
-	private boolean toppleRangeBeyondX1(RandomAccessFile newGrid, int minX, int maxX) throws IOException {
+	private boolean toppleRangeBeyondX1(MappedLongArrayFile newGrid, int minX, int maxX) throws IOException {
 		boolean anyToppled = false;
 		int x = minX, xMinusOne = x - 1, xPlusOne = x + 1;
 		long oldSmallerXValue, oldCurrentValue = getFromPosition(xMinusOne), oldGreaterXValue = getFromPosition(x);
@@ -289,16 +287,12 @@ public class FileBackedLongAether1D extends FileBackedModel implements Isotropic
 
 	@Override
 	public long getFromPosition(int x) throws IOException {
-		grid.seek(x*POSITION_BYTES);
-		return grid.readLong();
+		return grid.get(x);
 	}
 	
-	private static void addToPosition(RandomAccessFile grid, int x, long value) throws IOException {
-		long pos = x*POSITION_BYTES;
-		grid.seek(pos);
-		long previousValue = grid.readLong();
-		grid.seek(pos);
-		grid.writeLong(previousValue + value);
+	private static void addToPosition(MappedLongArrayFile grid, int x, long value) throws IOException {
+		long pos = x;
+		grid.add(pos, value);
 	}
 
 	@Override
@@ -19,11 +19,11 @@ package cellularautomata.automata.aether;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.util.HashMap;
 
 import cellularautomata.Utils;
 import cellularautomata.model.FileBackedModel;
+import cellularautomata.model.MappedLongArrayFile;
 import cellularautomata.model2d.IsotropicSquareLongModelAsymmetricSection;
 
 /**
@@ -50,10 +50,9 @@ public class FileBackedLongAether2D extends FileBackedModel implements Isotropic
 		this.initialValue = initialValue;
 		createGridFolder(folderPath);
 		currentFile = new File(getGridFolderPath() + File.separator + String.format(FILE_NAME_FORMAT, step));
-		grid = new RandomAccessFile(currentFile, "rw");
 		int gridLength = (6*6-6)/2+6;
-		grid.setLength(gridLength*POSITION_BYTES);//this method doesn't ensure the contents of the file will be empty
-		grid.writeLong(initialValue);
+		grid = new MappedLongArrayFile(currentFile, gridLength);
+		grid.set(0, initialValue);
 		step = 0;
 		maxX = 3;
 	}
@@ -73,7 +72,7 @@ public class FileBackedLongAether2D extends FileBackedModel implements Isotropic
 	
 	@Override
 	public Boolean nextStep() throws IOException {
-		RandomAccessFile newGrid = null;
+		MappedLongArrayFile newGrid = null;
 		try {
 			boolean changed = false;
 			long currentValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, smallerYNeighborValue;
@@ -81,10 +80,9 @@ public class FileBackedLongAether2D extends FileBackedModel implements Isotropic
 			currentValue = getFromPosition(0, 0);
 			greaterXNeighborValue = getFromPosition(1, 0);
 			File newFile = new File(getGridFolderPath() + File.separator + String.format(FILE_NAME_FORMAT, step + 1));
-			newGrid = new RandomAccessFile(newFile, "rw");
 			long newGridXLength = (maxX + 4);
 			long newGridLength = (newGridXLength*newGridXLength-newGridXLength)/2+newGridXLength;
-			newGrid.setLength(newGridLength*POSITION_BYTES);//this method doesn't ensure the contents of the file will be empty
+			newGrid = new MappedLongArrayFile(newFile, newGridLength);
 			if (greaterXNeighborValue < currentValue) {
 				long toShare = currentValue - greaterXNeighborValue;
 				long share = toShare/5;
@@ -399,7 +397,7 @@ public class FileBackedLongAether2D extends FileBackedModel implements Isotropic
 			if (readingBackup) {
 				readingBackup = false;
 			} else {
-				currentFile.delete();				
+				deleteStepFile(currentFile);
 			}
 			currentFile = newFile;
 			grid = newGrid;
@@ -419,7 +417,7 @@ public class FileBackedLongAether2D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 	
-	private boolean toppleRangeBeyondX2(RandomAccessFile newGrid, int minX, int maxX, 
+	private boolean toppleRangeBeyondX2(MappedLongArrayFile newGrid, int minX, int maxX, 
 			long[] relevantAsymmetricNeighborValues, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, 
 			int[] relevantAsymmetricNeighborSymmetryCounts, int[] sortedNeighborsIndexes) throws IOException {
 		boolean anyToppled = false;
@@ -675,7 +673,7 @@ public class FileBackedLongAether2D extends FileBackedModel implements Isotropic
 		return anyToppled;
 	}
 	
-	private static boolean topplePosition(RandomAccessFile newGrid, long value, int x, int y, long[] neighborValues,
+	private static boolean topplePosition(MappedLongArrayFile newGrid, long value, int x, int y, long[] neighborValues,
 			int[][] neighborCoords, int[] neighborShareMultipliers, int neighborCount, int[] sortedNeighborsIndexes) throws IOException {
 		boolean toppled = false;
 		switch (neighborCount) {
@@ -758,7 +756,7 @@ public class FileBackedLongAether2D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 	
-	private static boolean topplePositionSortedNeighbors(RandomAccessFile newGrid, long value, int x, int y, long[] neighborValues,
+	private static boolean topplePositionSortedNeighbors(MappedLongArrayFile newGrid, long value, int x, int y, long[] neighborValues,
 			int[][] neighborCoords, int[] neighborShareMultipliers, int neighborCount, int[] sortedNeighborsIndexes) throws IOException {
 		boolean toppled = false;
 		boolean isFirstNeighbor = true;
@@ -783,7 +781,7 @@ public class FileBackedLongAether2D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 	
-	private static boolean topplePosition(RandomAccessFile newGrid, long value, int x, int y, long[] neighborValues,
+	private static boolean topplePosition(MappedLongArrayFile newGrid, long value, int x, int y, long[] neighborValues,
 			int[][] neighborCoords, int neighborCount, int[] sortedNeighborsIndexes) throws IOException {
 		boolean toppled = false;
 		switch (neighborCount) {
@@ -865,7 +863,7 @@ public class FileBackedLongAether2D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 	
-	private static boolean topplePositionSortedNeighbors(RandomAccessFile newGrid, long value, int x, int y, long[] neighborValues,
+	private static boolean topplePositionSortedNeighbors(MappedLongArrayFile newGrid, long value, int x, int y, long[] neighborValues,
 			int[][] neighborCoords, int neighborCount, int[] sortedNeighborsIndexes) throws IOException {
 		boolean toppled = false;
 		boolean isFirstNeighbor = true;
@@ -890,7 +888,7 @@ public class FileBackedLongAether2D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 	
-	private static boolean topplePosition(RandomAccessFile newGrid, long value, int x, int y, long[] asymmetricNeighborValues,
+	private static boolean topplePosition(MappedLongArrayFile newGrid, long value, int x, int y, long[] asymmetricNeighborValues,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborSymmetryCounts, int neighborCount, int asymmetricNeighborCount, int[] sortedNeighborsIndexes) throws IOException {
 		boolean toppled = false;
 		switch (asymmetricNeighborCount) {
@@ -973,7 +971,7 @@ public class FileBackedLongAether2D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 	
-	private static boolean topplePositionSortedNeighbors(RandomAccessFile newGrid, long value, int x, int y, long[] asymmetricNeighborValues,
+	private static boolean topplePositionSortedNeighbors(MappedLongArrayFile newGrid, long value, int x, int y, long[] asymmetricNeighborValues,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborSymmetryCounts, int neighborCount, int asymmetricNeighborCount, int[] sortedNeighborsIndexes) throws IOException {
 		boolean toppled = false;
 		boolean isFirstNeighbor = true;
@@ -1000,7 +998,7 @@ public class FileBackedLongAether2D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 	
-	private static boolean topplePosition(RandomAccessFile newGrid, long value, int x, int y, long[] asymmetricNeighborValues,
+	private static boolean topplePosition(MappedLongArrayFile newGrid, long value, int x, int y, long[] asymmetricNeighborValues,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborShareMultipliers, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount, int[] sortedNeighborsIndexes) throws IOException {
 		boolean toppled = false;
@@ -1085,7 +1083,7 @@ public class FileBackedLongAether2D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 	
-	private static boolean topplePositionSortedNeighbors(RandomAccessFile newGrid, long value, int x, int y, long[] asymmetricNeighborValues,
+	private static boolean topplePositionSortedNeighbors(MappedLongArrayFile newGrid, long value, int x, int y, long[] asymmetricNeighborValues,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborShareMultipliers, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount, int[] sortedNeighborsIndexes) throws IOException {
 		boolean toppled = false;
@@ -1115,16 +1113,12 @@ public class FileBackedLongAether2D extends FileBackedModel implements Isotropic
 	
 	@Override
 	public long getFromPosition(int x, int y) throws IOException {
-		grid.seek((((x*x-x)/2+x)+y)*POSITION_BYTES);
-		return grid.readLong();
+		return grid.get(((long)x*x-x)/2+x+y);
 	}
 	
-	private static void addToPosition(RandomAccessFile grid, int x, int y, long value) throws IOException {
-		long pos = (((x*x-x)/2+x)+y)*POSITION_BYTES;
-		grid.seek(pos);
-		long previousValue = grid.readLong();
-		grid.seek(pos);
-		grid.writeLong(previousValue + value);
+	private static void addToPosition(MappedLongArrayFile grid, int x, int y, long value) throws IOException {
+		long pos = ((long)x*x-x)/2+x+y;
+		grid.add(pos, value);
 	}
 
 	@Override
@@ -19,11 +19,11 @@ package cellularautomata.automata.aether;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.util.HashMap;
 
 import cellularautomata.Utils;
 import cellularautomata.model.FileBackedModel;
+import cellularautomata.model.MappedLongArrayFile;
 import cellularautomata.model3d.IsotropicCubicLongModelAsymmetricSection;
 
 /**
@@ -50,9 +50,8 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 		this.initialValue = initialValue;
 		createGridFolder(folderPath);
 		currentFile = new File(getGridFolderPath() + File.separator + String.format(FILE_NAME_FORMAT, step));
-		grid = new RandomAccessFile(currentFile, "rw");
-		grid.setLength(Utils.getAnisotropic3DGridPositionCount(7)*POSITION_BYTES);//this method doesn't ensure the contents of the file will be empty
-		grid.writeLong(initialValue);
+		grid = new MappedLongArrayFile(currentFile, Utils.getAnisotropic3DGridPositionCount(7));
+		grid.set(0, initialValue);
 		step = 0;
 		maxX = 4;
 	}
@@ -72,15 +71,14 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 	
 	@Override
 	public Boolean nextStep() throws IOException {
-		RandomAccessFile newGrid = null;
+		MappedLongArrayFile newGrid = null;
 		try {
 			boolean changed = false;
 			// x = 0, y = 0, z = 0
 			long currentValue = getFromPosition(0, 0, 0);
 			long greaterXNeighborValue = getFromPosition(1, 0, 0);
 			File newFile = new File(getGridFolderPath() + File.separator + String.format(FILE_NAME_FORMAT, step + 1));
-			newGrid = new RandomAccessFile(newFile, "rw");
-			newGrid.setLength(Utils.getAnisotropic3DGridPositionCount(maxX + 4)*POSITION_BYTES);//this method doesn't ensure the contents of the file will be empty
+			newGrid = new MappedLongArrayFile(newFile, Utils.getAnisotropic3DGridPositionCount(maxX + 4));
 			if (topplePositionOfType1(currentValue, greaterXNeighborValue, newGrid)) {
 				changed = true;
 			}
@@ -328,7 +326,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 			if (readingBackup) {
 				readingBackup = false;
 			} else {
-				currentFile.delete();				
+				deleteStepFile(currentFile);
 			}
 			currentFile = newFile;
 			grid = newGrid;
@@ -348,7 +346,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 	
-	private boolean toppleRangeBeyondX3(RandomAccessFile newGrid, int minX, int maxX, 
+	private boolean toppleRangeBeyondX3(MappedLongArrayFile newGrid, int minX, int maxX, 
 			long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, 
 			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts) throws IOException {
 		boolean anyToppled = false;
@@ -654,7 +652,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 		return anyToppled;
 	}
 
-	private static boolean topplePositionOfType1(long currentValue, long greaterXNeighborValue, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType1(long currentValue, long greaterXNeighborValue, MappedLongArrayFile newGrid) throws IOException {
 		boolean toppled = false;
 		if (greaterXNeighborValue < currentValue) {
 			long toShare = currentValue - greaterXNeighborValue;
@@ -674,7 +672,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 
 	private static boolean topplePositionOfType2(long currentValue, long greaterXNeighborValue, long smallerXNeighborValue, 
 			long greaterYNeighborValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, 
-			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (greaterXNeighborValue < currentValue) {
@@ -716,7 +714,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 
 	private static boolean topplePositionOfType3(long currentValue, long greaterXNeighborValue, long smallerYNeighborValue, 
 			long greaterZNeighborValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, 
-			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (greaterXNeighborValue < currentValue) {
@@ -757,7 +755,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 	}
 
 	private static boolean topplePositionOfType4(long currentValue, long greaterXNeighborValue, long smallerZNeighborValue, 
-			RandomAccessFile newGrid) throws IOException {
+			MappedLongArrayFile newGrid) throws IOException {
 		boolean toppled = false;
 		if (smallerZNeighborValue < currentValue) {
 			if (greaterXNeighborValue < currentValue) {
@@ -835,7 +833,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 	private static boolean topplePositionOfType5(int x, long currentValue, long greaterXNeighborValue, 
 			long smallerXNeighborValue, long greaterYNeighborValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, 
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts,
-			RandomAccessFile newGrid) throws IOException {
+			MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (greaterXNeighborValue < currentValue) {
@@ -876,7 +874,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 			int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, 
 			long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, 
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, 
-			int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+			int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gXValue < currentValue) {
@@ -942,7 +940,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 			int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sZValue, 
 			int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, 
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, 
-			int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+			int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gXValue < currentValue) {
@@ -995,7 +993,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 
 	private static boolean topplePositionOfType8(int coord, long currentValue, long greaterXNeighborValue, long smallerYNeighborValue, 
 			long greaterZNeighborValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, 
-			int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid ) throws IOException {
+			int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid ) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (greaterXNeighborValue < currentValue) {
@@ -1036,7 +1034,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 			int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, 
 			long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, 
 			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, 
-			RandomAccessFile newGrid) throws IOException {
+			MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gXValue < currentValue) {
@@ -1088,7 +1086,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 	}
 
 	private static boolean topplePositionOfType10(int coord, long currentValue, long greaterXNeighborValue, 
-			long smallerZNeighborValue, RandomAccessFile newGrid) throws IOException {
+			long smallerZNeighborValue, MappedLongArrayFile newGrid) throws IOException {
 		boolean toppled = false;
 		if (smallerZNeighborValue < currentValue) {
 			if (greaterXNeighborValue < currentValue) {
@@ -1168,7 +1166,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 	private static boolean topplePositionOfType11(int x, int y, int z, long currentValue, long gXValue, long sXValue, 
 			int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, 
 			long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantNeighborValues, 
-			int[] sortedNeighborsIndexes, int[][] relevantNeighborCoords, int[] relevantNeighborShareMultipliers, RandomAccessFile newGrid) throws IOException {
+			int[] sortedNeighborsIndexes, int[][] relevantNeighborCoords, int[] relevantNeighborShareMultipliers, MappedLongArrayFile newGrid) throws IOException {
 		int relevantNeighborCount = 0;
 		if (gXValue < currentValue) {
 			relevantNeighborValues[relevantNeighborCount ] = gXValue;
@@ -1232,7 +1230,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 			long smallerXNeighborValue, long greaterYNeighborValue, long smallerYNeighborValue, 
 			long greaterZNeighborValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, 
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, 
-			RandomAccessFile newGrid) throws IOException {
+			MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (greaterXNeighborValue < currentValue) {
@@ -1293,7 +1291,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 	private static boolean topplePositionOfType13(int x, int coord, long currentValue, long greaterXNeighborValue, 
 			long smallerXNeighborValue, long greaterYNeighborValue, long smallerZNeighborValue, 
 			long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, 
-			int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+			int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (greaterXNeighborValue < currentValue) {
@@ -1343,7 +1341,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 	private static boolean topplePositionOfType14(int x, int y, int z, long currentValue, long greaterXNeighborValue, 
 			long smallerYNeighborValue,	long greaterZNeighborValue, long smallerZNeighborValue, 
 			long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, 
-			int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+			int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (greaterXNeighborValue < currentValue) {
@@ -1393,7 +1391,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 	private static boolean topplePositionOfType15(int x, int y, int z, long currentValue, long greaterXNeighborValue, 
 			long smallerXNeighborValue,	long greaterYNeighborValue, long smallerYNeighborValue, 
 			long greaterZNeighborValue, long smallerZNeighborValue, long[] relevantNeighborValues, int[] sortedNeighborsIndexes, 
-			int[][] relevantNeighborCoords, RandomAccessFile newGrid) throws IOException {
+			int[][] relevantNeighborCoords, MappedLongArrayFile newGrid) throws IOException {
 		int relevantNeighborCount = 0;
 		if (greaterXNeighborValue < currentValue) {
 			relevantNeighborValues[relevantNeighborCount] = greaterXNeighborValue;
@@ -1447,7 +1445,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 				relevantNeighborCount);
 	}
 	
-	private static boolean topplePosition(RandomAccessFile newGrid, long value, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(MappedLongArrayFile newGrid, long value, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
 			int[][] neighborCoords, int neighborCount) throws IOException {
 		boolean toppled = false;
 		switch (neighborCount) {
@@ -1526,7 +1524,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 	
-	private static boolean topplePositionSortedNeighbors(RandomAccessFile newGrid, long value, int x, int y, int z, 
+	private static boolean topplePositionSortedNeighbors(MappedLongArrayFile newGrid, long value, int x, int y, int z, 
 			long[] neighborValues, int[] sortedNeighborsIndexes, int[][] neighborCoords, int neighborCount) throws IOException {
 		boolean toppled = false;
 		int shareCount = neighborCount + 1;
@@ -1564,7 +1562,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 	
-	private static boolean topplePosition(RandomAccessFile newGrid, long value, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(MappedLongArrayFile newGrid, long value, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborShareMultipliers, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) throws IOException {
 		boolean toppled = false;
@@ -1649,7 +1647,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 	
-	private static boolean topplePositionSortedNeighbors(RandomAccessFile newGrid, long value, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePositionSortedNeighbors(MappedLongArrayFile newGrid, long value, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborShareMultipliers, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) throws IOException {
 		boolean toppled = false;
@@ -1688,7 +1686,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 	
-	private static boolean topplePosition(RandomAccessFile newGrid, long value, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(MappedLongArrayFile newGrid, long value, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
 			int[][] neighborCoords, int[] neighborShareMultipliers, int neighborCount) throws IOException {
 		boolean toppled = false;
 		switch (neighborCount) {
@@ -1768,7 +1766,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 	
-	private static boolean topplePositionSortedNeighbors(RandomAccessFile newGrid, long value, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePositionSortedNeighbors(MappedLongArrayFile newGrid, long value, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
 			int[][] neighborCoords, int[] neighborShareMultipliers, int neighborCount) throws IOException {
 		boolean toppled = false;
 		int shareCount = neighborCount + 1;
@@ -1806,7 +1804,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 	
-	private static boolean topplePosition(RandomAccessFile newGrid, long value, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(MappedLongArrayFile newGrid, long value, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) throws IOException {
 		boolean toppled = false;
@@ -1890,7 +1888,7 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 	
-	private static boolean topplePositionSortedNeighbors(RandomAccessFile newGrid, long value, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePositionSortedNeighbors(MappedLongArrayFile newGrid, long value, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) throws IOException {
 		boolean toppled = false;
@@ -1931,17 +1929,13 @@ public class FileBackedLongAether3D extends FileBackedModel implements Isotropic
 	
 	@Override
 	public long getFromPosition(int x, int y, int z) throws IOException {	
-		long pos = (Utils.getAnisotropic3DGridPositionCount(x)+((y*y-y)/2+y)+z)*POSITION_BYTES;
-		grid.seek(pos);
-		return grid.readLong();
+		long pos = (Utils.getAnisotropic3DGridPositionCount(x)+((y*y-y)/2+y)+z);
+		return grid.get(pos);
 	}
 	
-	private static void addToPosition(RandomAccessFile grid, int x, int y, int z, long value) throws IOException {
-		long pos = (Utils.getAnisotropic3DGridPositionCount(x)+((y*y-y)/2+y)+z)*POSITION_BYTES;
-		grid.seek(pos);
-		long previousValue = grid.readLong();
-		grid.seek(pos);
-		grid.writeLong(previousValue + value);
+	private static void addToPosition(MappedLongArrayFile grid, int x, int y, int z, long value) throws IOException {
+		long pos = (Utils.getAnisotropic3DGridPositionCount(x)+((y*y-y)/2+y)+z);
+		grid.add(pos, value);
 	}
 
 	@Override
@@ -19,11 +19,11 @@ package cellularautomata.automata.aether;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.util.HashMap;
 
 import cellularautomata.Utils;
 import cellularautomata.model.FileBackedModel;
+import cellularautomata.model.MappedLongArrayFile;
 import cellularautomata.model4d.IsotropicHypercubicLongModelAsymmetricSection4D;
 
 /**
@@ -50,9 +50,8 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		this.initialValue = initialValue;
 		createGridFolder(folderPath);
 		currentFile = new File(getGridFolderPath() + File.separator + String.format(FILE_NAME_FORMAT, step));
-		grid = new RandomAccessFile(currentFile, "rw");
-		grid.setLength(Utils.getAnisotropic4DGridPositionCount(8)*POSITION_BYTES);//this method doesn't ensure the contents of the file will be empty
-		grid.writeLong(initialValue);
+		grid = new MappedLongArrayFile(currentFile, Utils.getAnisotropic4DGridPositionCount(8));
+		grid.set(0, initialValue);
 		maxW = 5;
 		step = 0;
 	}
@@ -72,15 +71,14 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 
 	@Override
 	public Boolean nextStep() throws IOException {
-		RandomAccessFile newGrid = null;
+		MappedLongArrayFile newGrid = null;
 		try {
 			boolean changed = false;
 			// w = 0, x = 0, y = 0, z = 0
 			long currentValue = getFromPosition(0, 0, 0, 0);
 			long greaterWNeighborValue = getFromPosition(1, 0, 0, 0);
 			File newFile = new File(getGridFolderPath() + File.separator + String.format(FILE_NAME_FORMAT, step + 1));
-			newGrid = new RandomAccessFile(newFile, "rw");
-			newGrid.setLength(Utils.getAnisotropic4DGridPositionCount(maxW + 4)*POSITION_BYTES);//this method doesn't ensure the contents of the file will be empty
+			newGrid = new MappedLongArrayFile(newFile, Utils.getAnisotropic4DGridPositionCount(maxW + 4));
 			if (topplePositionOfType1(currentValue, greaterWNeighborValue, newGrid)) {
 				changed = true;
 			}
@@ -450,7 +448,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 			if (readingBackup) {
 				readingBackup = false;
 			} else {
-				currentFile.delete();				
+				deleteStepFile(currentFile);
 			}
 			currentFile = newFile;
 			grid = newGrid;
@@ -470,7 +468,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeBeyondW4(RandomAccessFile newGrid, int minW,
+	private boolean toppleRangeBeyondW4(MappedLongArrayFile newGrid, int minW,
 			int maxW, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords,
 			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts) throws IOException {
 		boolean changed = false;
@@ -1045,7 +1043,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType1(int w, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType1(int w, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		boolean changed = false;
 		int wPlusOne = w + 1, wMinusOne = w - 1;
@@ -1099,7 +1097,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType2(int coord, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType2(int coord, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int coordMinusOne = coord - 1, coordPlusOne = coord + 1;
 		boolean changed = false;
@@ -1140,7 +1138,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType3(int coord, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType3(int coord, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int coordMinusOne = coord - 1, coordPlusOne = coord + 1;
 		boolean changed = false;
@@ -1204,7 +1202,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType4(int w, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType4(int w, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		boolean changed = false;
 		int wPlusOne = w + 1, wMinusOne = w - 1;
@@ -1293,7 +1291,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType5(int w, int x, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType5(int w, int x, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int xMinusOne = x - 1, xPlusOne = x + 1, wPlusOne = w + 1, wMinusOne = w - 1;
 		boolean changed = false;
@@ -1341,7 +1339,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType6(int w, int coord, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType6(int w, int coord, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int coordMinusOne = coord - 1, coordPlusOne = coord + 1, wPlusOne = w + 1, wMinusOne = w - 1;
 		boolean changed = false;		
@@ -1464,7 +1462,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 	}
 
 	//this range could be merged into type 6
-	private boolean toppleRangeOfType7(int coord, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType7(int coord, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {		
 		int y = coord - 1, coordMinusOne = coord - 1, coordMinusTwo = coord - 2, coordPlusOne = coord + 1, yPlusOne = y + 1, yMinusOne = y - 1;
 		boolean changed = false;
@@ -1546,7 +1544,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType8(int w, int x, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType8(int w, int x, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int xMinusOne = x - 1, xPlusOne = x + 1, wPlusOne = w + 1, wMinusOne = w - 1;
 		boolean changed = false;
@@ -1594,7 +1592,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType9(int w, int coord, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType9(int w, int coord, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int coordMinusOne = coord - 1, coordPlusOne = coord + 1;
 		int wPlusOne = w + 1, wMinusOne = w - 1;
@@ -1673,7 +1671,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private static boolean topplePositionOfType1(long currentValue, long gWValue, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType1(long currentValue, long gWValue, MappedLongArrayFile newGrid) throws IOException {
 		boolean toppled = false;
 		if (gWValue < currentValue) {
 			long toShare = currentValue - gWValue;
@@ -1691,7 +1689,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePositionOfType2(long currentValue, long gWValue, long sWValue, long gXValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType2(long currentValue, long gWValue, long sWValue, long gXValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -1733,7 +1731,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, 1, 0, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType3(long currentValue, long gWValue, long sXValue, long gYValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType3(long currentValue, long gWValue, long sXValue, long gYValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -1775,7 +1773,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, 1, 1, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType4(long currentValue, long gWValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType4(long currentValue, long gWValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -1817,7 +1815,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, 1, 1, 1, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType5(long currentValue, long gWValue, long sZValue, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType5(long currentValue, long gWValue, long sZValue, MappedLongArrayFile newGrid) throws IOException {
 		boolean toppled = false;
 		if (sZValue < currentValue) {
 			if (gWValue < currentValue) {
@@ -1892,7 +1890,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePositionOfType6(int w, long currentValue, long gWValue, long sWValue, long gXValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType6(int w, long currentValue, long gWValue, long sWValue, long gXValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -1931,7 +1929,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, w, 0, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType7(int w, int x, long currentValue, long gWValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType7(int w, int x, long currentValue, long gWValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -1997,7 +1995,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, w, x, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType8(int w, int coord, long currentValue, long gWValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType8(int w, int coord, long currentValue, long gWValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -2063,7 +2061,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, w, coord, coord, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType9(int w, int coord, long currentValue, long gWValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType9(int w, int coord, long currentValue, long gWValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -2117,7 +2115,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, w, coord, coord, coord, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType10(int coord, long currentValue, long gWValue, long sXValue, long gYValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType10(int coord, long currentValue, long gWValue, long sXValue, long gYValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -2156,7 +2154,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType11(int coord, int y, long currentValue, long gWValue, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType11(int coord, int y, long currentValue, long gWValue, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -2222,7 +2220,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, y, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType12(int coord1, int coord2, long currentValue, long gWValue, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType12(int coord1, int coord2, long currentValue, long gWValue, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -2276,7 +2274,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord1, coord1, coord2, coord2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType13(int coord, long currentValue, long gWValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType13(int coord, long currentValue, long gWValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -2315,7 +2313,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, coord, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType14(int coord, int z, long currentValue, long gWValue, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType14(int coord, int z, long currentValue, long gWValue, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -2369,7 +2367,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, coord, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType15(int coord, long currentValue, long gWValue, long sZValue, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType15(int coord, long currentValue, long gWValue, long sZValue, MappedLongArrayFile newGrid) throws IOException {
 		// 4*GW, 4*SZ | 15 | 15
 		boolean toppled = false;
 		if (sZValue < currentValue) {
@@ -2447,7 +2445,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePositionOfType16(int w, int x, int y, long currentValue, long gWValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType16(int w, int x, int y, long currentValue, long gWValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -2537,7 +2535,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, w, x, y, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType17(int w, int x, int coord, long currentValue, long gWValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType17(int w, int x, int coord, long currentValue, long gWValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -2615,7 +2613,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, w, x, coord, coord, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType18(int w, int coord, int z, long currentValue, long gWValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType18(int w, int coord, int z, long currentValue, long gWValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -2693,7 +2691,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, w, coord, coord, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType19(int coord, int y, int z, long currentValue, long gWValue, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType19(int coord, int y, int z, long currentValue, long gWValue, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -2771,7 +2769,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, y, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType20(int w, int x, long currentValue, long gWValue, long sWValue, long gXValue, long sXValue, long gYValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType20(int w, int x, long currentValue, long gWValue, long sWValue, long gXValue, long sXValue, long gYValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -2832,7 +2830,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, w, x, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType21(int w, int coord, long currentValue, long gWValue, long sWValue, long gXValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType21(int w, int coord, long currentValue, long gWValue, long sWValue, long gXValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -2893,7 +2891,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, w, coord, coord, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType22(int w, int coord, long currentValue, long gWValue, long sWValue, long gXValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType22(int w, int coord, long currentValue, long gWValue, long sWValue, long gXValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -2943,7 +2941,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, w, coord, coord, coord, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType23(int w, int x, int y, int z, long currentValue, long gWValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType23(int w, int x, int y, int z, long currentValue, long gWValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, MappedLongArrayFile newGrid) throws IOException {
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
 			relevantAsymmetricNeighborValues[relevantNeighborCount] = gWValue;
@@ -3028,7 +3026,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, w, x, y, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantNeighborCount);
 	}
 
-	private static boolean topplePositionOfType24(int coord, int y, long currentValue, long gWValue, long sXValue, long gYValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType24(int coord, int y, long currentValue, long gWValue, long sXValue, long gYValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -3089,7 +3087,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, y, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType25(int coord1, int coord2, long currentValue, long gWValue, long sXValue, long gYValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType25(int coord1, int coord2, long currentValue, long gWValue, long sXValue, long gYValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -3139,7 +3137,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord1, coord1, coord2, coord2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType26(int coord, int z, long currentValue, long gWValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType26(int coord, int z, long currentValue, long gWValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -3189,7 +3187,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, coord, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType27(int w, int x, int y, long currentValue, long gWValue, long sWValue, long gXValue, long sXValue, long gYValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType27(int w, int x, int y, long currentValue, long gWValue, long sWValue, long gXValue, long sXValue, long gYValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -3272,7 +3270,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, w, x, y, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType28(int w, int x, int coord, long currentValue, long gWValue, long sWValue, long gXValue, long sXValue, long gYValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType28(int w, int x, int coord, long currentValue, long gWValue, long sWValue, long gXValue, long sXValue, long gYValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -3344,7 +3342,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, w, x, coord, coord, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType29(int w, int coord, int z, long currentValue, long gWValue, long sWValue, long gXValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType29(int w, int coord, int z, long currentValue, long gWValue, long sWValue, long gXValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -3416,7 +3414,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, w, coord, coord, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType30(int coord, int y, int z, long currentValue, long gWValue, long sXValue, long gYValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType30(int coord, int y, int z, long currentValue, long gWValue, long sXValue, long gYValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
@@ -3488,7 +3486,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, y, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType31(int w, int x, int y, int z, long currentValue, long gWValue, long sWValue, long gXValue, long sXValue, long gYValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType31(int w, int x, int y, int z, long currentValue, long gWValue, long sWValue, long gXValue, long sXValue, long gYValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, MappedLongArrayFile newGrid) throws IOException {
 		int relevantNeighborCount = 0;
 		if (gWValue < currentValue) {
 			relevantAsymmetricNeighborValues[relevantNeighborCount] = gWValue;
@@ -3565,7 +3563,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, w, x, y, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantNeighborCount);
 	}
 
-	private static boolean topplePosition(RandomAccessFile newGrid, long value, int w, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(MappedLongArrayFile newGrid, long value, int w, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
 			int[][] neighborCoords, int neighborCount) throws IOException {
 		boolean toppled = false;
 		switch (neighborCount) {
@@ -3644,7 +3642,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePositionSortedNeighbors(RandomAccessFile newGrid, long value, int w, int x, int y, int z, 
+	private static boolean topplePositionSortedNeighbors(MappedLongArrayFile newGrid, long value, int w, int x, int y, int z, 
 			long[] neighborValues, int[] sortedNeighborsIndexes, int[][] neighborCoords, int neighborCount) throws IOException {
 		boolean toppled = false;
 		int shareCount = neighborCount + 1;
@@ -3682,7 +3680,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePosition(RandomAccessFile newGrid, long value, int w, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(MappedLongArrayFile newGrid, long value, int w, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborShareMultipliers, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) throws IOException {
 		boolean toppled = false;
@@ -3767,7 +3765,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePositionSortedNeighbors(RandomAccessFile newGrid, long value, int w, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePositionSortedNeighbors(MappedLongArrayFile newGrid, long value, int w, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborShareMultipliers, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) throws IOException {
 		boolean toppled = false;
@@ -3806,7 +3804,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePosition(RandomAccessFile newGrid, long value, int w, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(MappedLongArrayFile newGrid, long value, int w, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
 			int[][] neighborCoords, int[] neighborShareMultipliers, int neighborCount) throws IOException {
 		boolean toppled = false;
 		switch (neighborCount) {
@@ -3886,7 +3884,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePositionSortedNeighbors(RandomAccessFile newGrid, long value, int w, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePositionSortedNeighbors(MappedLongArrayFile newGrid, long value, int w, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
 			int[][] neighborCoords, int[] neighborShareMultipliers, int neighborCount) throws IOException {
 		boolean toppled = false;
 		int shareCount = neighborCount + 1;
@@ -3924,7 +3922,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePosition(RandomAccessFile newGrid, long value, int w, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(MappedLongArrayFile newGrid, long value, int w, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) throws IOException {
 		boolean toppled = false;
@@ -4008,7 +4006,7 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePositionSortedNeighbors(RandomAccessFile newGrid, long value, int w, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePositionSortedNeighbors(MappedLongArrayFile newGrid, long value, int w, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) throws IOException {
 		boolean toppled = false;
@@ -4051,21 +4049,15 @@ public class FileBackedLongAether4D extends FileBackedModel implements Isotropic
 	public long getFromPosition(int w, int x, int y, int z) throws IOException {	
 		long pos = (Utils.getAnisotropic4DGridPositionCount(w)
 				+ Utils.getAnisotropic3DGridPositionCount(x)
-				+ ((y*y-y)/2+y)+z)
-				*POSITION_BYTES;
-		grid.seek(pos);
-		return grid.readLong();
+				+ ((y*y-y)/2+y)+z);
+		return grid.get(pos);
 	}
 	
-	private static void addToPosition(RandomAccessFile grid, int w, int x, int y, int z, long value) throws IOException {
+	private static void addToPosition(MappedLongArrayFile grid, int w, int x, int y, int z, long value) throws IOException {
 		long pos = (Utils.getAnisotropic4DGridPositionCount(w)
 				+ Utils.getAnisotropic3DGridPositionCount(x)
-				+ ((y*y-y)/2+y)+z)
-				*POSITION_BYTES;
-		grid.seek(pos);
-		long previousValue = grid.readLong();
-		grid.seek(pos);
-		grid.writeLong(previousValue + value);
+				+ ((y*y-y)/2+y)+z);
+		grid.add(pos, value);
 	}
 
 	@Override
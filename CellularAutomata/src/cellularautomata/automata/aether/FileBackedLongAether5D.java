@@ -19,11 +19,11 @@ package cellularautomata.automata.aether;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.util.HashMap;
 
 import cellularautomata.Utils;
 import cellularautomata.model.FileBackedModel;
+import cellularautomata.model.MappedLongArrayFile;
 import cellularautomata.model5d.IsotropicHypercubicLongModelAsymmetricSection5D;
 
 /**
@@ -50,9 +50,8 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		this.initialValue = initialValue;
 		createGridFolder(folderPath);
 		currentFile = new File(getGridFolderPath() + File.separator + String.format(FILE_NAME_FORMAT, step));
-		grid = new RandomAccessFile(currentFile, "rw");
-		grid.setLength(Utils.getAnisotropic5DGridPositionCount(9)*POSITION_BYTES);//this method doesn't ensure the contents of the file will be empty
-		grid.writeLong(initialValue);
+		grid = new MappedLongArrayFile(currentFile, Utils.getAnisotropic5DGridPositionCount(9));
+		grid.set(0, initialValue);
 		maxV = 6;
 		step = 0;
 	}
@@ -72,15 +71,14 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 
 	@Override
 	public Boolean nextStep() throws IOException {
-		RandomAccessFile newGrid = null;
+		MappedLongArrayFile newGrid = null;
 		try {
 			boolean changed = false;
 			// 0 | 0 | 0 | 0 | 0 | 1
 			long currentValue = getFromPosition(0, 0, 0, 0, 0);
 			long greaterVNeighborValue = getFromPosition(1, 0, 0, 0, 0);
 			File newFile = new File(getGridFolderPath() + File.separator + String.format(FILE_NAME_FORMAT, step + 1));
-			newGrid = new RandomAccessFile(newFile, "rw");
-			newGrid.setLength(Utils.getAnisotropic5DGridPositionCount(maxV + 4)*POSITION_BYTES);//this method doesn't ensure the contents of the file will be empty
+			newGrid = new MappedLongArrayFile(newFile, Utils.getAnisotropic5DGridPositionCount(maxV + 4));
 			if (topplePositionOfType1(currentValue, greaterVNeighborValue, newGrid)) {
 				changed = true;
 			}
@@ -867,7 +865,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 			if (readingBackup) {
 				readingBackup = false;
 			} else {
-				currentFile.delete();				
+				deleteStepFile(currentFile);
 			}
 			currentFile = newFile;
 			grid = newGrid;
@@ -881,390 +879,169 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		}
 	}
 
-	private boolean toppleRangeBeyondV5(RandomAccessFile newGrid, int minV,
+	private boolean toppleRangeBeyondV5(MappedLongArrayFile newGrid, int minV,
 			int maxV, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords,
 			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts) throws IOException {
 		boolean changed = false;
-		int v = minV, vMinusOne = v - 1, vMinusTwo = v - 2, vMinusThree = v - 3, vMinusFour = v - 4, vPlusOne = v + 1, vPlusTwo = v + 2;
-		for (; v != maxV; vMinusFour = vMinusThree, vMinusThree = vMinusTwo, vMinusTwo = vMinusOne, vMinusOne = v, v = vPlusOne, vPlusOne = vPlusTwo, vPlusTwo++) {
-			if (toppleRangeOfType11(v, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+		for (int v = minV; v != maxV; v++) {
+			if (toppleVSliceBeyondV5WithWBelowVMinusOne(v, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts)) {
+				changed = true;
+			}
+			if (toppleVSliceBeyondV5WithWEqualToVMinusOne(v, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts)) {
 				changed = true;
 			}
-			if (toppleRangeOfType15(v, 4, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+		}
+		this.changed = changed;
+		return changed;
+	}
+
+	/**
+	 * Topples the positions of a v slice, beyond v = 5, with a w coordinate smaller than v - 1.
+	 * Split from {@link #toppleRangeBeyondV5} to keep each method under the JIT's huge method limit.
+	 */
+	private boolean toppleVSliceBeyondV5WithWBelowVMinusOne(int v, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords,
+			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts) throws IOException {
+		int vMinusOne = v - 1, vPlusOne = v + 1;
+		boolean changed = false;
+		if (toppleRangeOfType11(v, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
+		if (toppleRangeOfType15(v, 4, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
+		if (toppleRangeOfType16(v, 4, 3, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
+		// v | 4 | 3 | 2 | 0 | 156
+		long currentValue = getFromPosition(v, 4, 3, 2, 0);
+		long greaterVNeighborValue = getFromPosition(vPlusOne, 4, 3, 2, 0);
+		long smallerVNeighborValue = getFromPosition(vMinusOne, 4, 3, 2, 0);
+		long greaterWNeighborValue = getFromPosition(v, 5, 3, 2, 0);
+		long smallerWNeighborValue = getFromPosition(v, 3, 3, 2, 0);
+		long greaterXNeighborValue = getFromPosition(v, 4, 4, 2, 0);
+		long smallerXNeighborValue = getFromPosition(v, 4, 2, 2, 0);
+		long greaterYNeighborValue = getFromPosition(v, 4, 3, 3, 0);
+		long smallerYNeighborValue = getFromPosition(v, 4, 3, 1, 0);
+		long greaterZNeighborValue = getFromPosition(v, 4, 3, 2, 1);
+		if (topplePositionOfType36(v, 4, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
+			changed = true;
+		}
+		// v | 4 | 3 | 2 | 1 | 157
+		//reuse values obtained previously
+		long smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = getFromPosition(vPlusOne, 4, 3, 2, 1);
+		smallerVNeighborValue = getFromPosition(vMinusOne, 4, 3, 2, 1);
+		greaterWNeighborValue = getFromPosition(v, 5, 3, 2, 1);
+		smallerWNeighborValue = getFromPosition(v, 3, 3, 2, 1);
+		greaterXNeighborValue = getFromPosition(v, 4, 4, 2, 1);
+		smallerXNeighborValue = getFromPosition(v, 4, 2, 2, 1);
+		greaterYNeighborValue = getFromPosition(v, 4, 3, 3, 1);
+		smallerYNeighborValue = getFromPosition(v, 4, 3, 1, 1);
+		greaterZNeighborValue = getFromPosition(v, 4, 3, 2, 2);
+		if (topplePositionOfType47(v, 4, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				newGrid)) {
+			changed = true;
+		}
+		// v | 4 | 3 | 2 | 2 | 158
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = getFromPosition(vPlusOne, 4, 3, 2, 2);
+		smallerVNeighborValue = getFromPosition(vMinusOne, 4, 3, 2, 2);
+		greaterWNeighborValue = getFromPosition(v, 5, 3, 2, 2);
+		smallerWNeighborValue = getFromPosition(v, 3, 3, 2, 2);
+		greaterXNeighborValue = getFromPosition(v, 4, 4, 2, 2);
+		smallerXNeighborValue = getFromPosition(v, 4, 2, 2, 2);
+		greaterYNeighborValue = getFromPosition(v, 4, 3, 3, 2);
+		if (topplePositionOfType37(v, 4, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
+				greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
+			changed = true;
+		}
+		if (toppleRangeOfType17(v, 4, 3, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
+		int w = 5, wMinusOne = 4, wPlusOne = 6;
+		for (int wMinusTwo = 3, wMinusThree = 2; w != vMinusOne; wMinusThree = wMinusTwo, wMinusTwo = wMinusOne, wMinusOne = w, w = wPlusOne, wPlusOne++) {
+			if (toppleRangeOfType15(v, w, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
 				changed = true;
 			}
-			if (toppleRangeOfType16(v, 4, 3, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+			if (toppleRangeOfType18(v, w, 3, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
 				changed = true;
 			}
-			// v | 4 | 3 | 2 | 0 | 156
-			long currentValue = getFromPosition(v, 4, 3, 2, 0);
-			long greaterVNeighborValue = getFromPosition(vPlusOne, 4, 3, 2, 0);
-			long smallerVNeighborValue = getFromPosition(vMinusOne, 4, 3, 2, 0);
-			long greaterWNeighborValue = getFromPosition(v, 5, 3, 2, 0);
-			long smallerWNeighborValue = getFromPosition(v, 3, 3, 2, 0);
-			long greaterXNeighborValue = getFromPosition(v, 4, 4, 2, 0);
-			long smallerXNeighborValue = getFromPosition(v, 4, 2, 2, 0);
-			long greaterYNeighborValue = getFromPosition(v, 4, 3, 3, 0);
-			long smallerYNeighborValue = getFromPosition(v, 4, 3, 1, 0);
-			long greaterZNeighborValue = getFromPosition(v, 4, 3, 2, 1);
-			if (topplePositionOfType36(v, 4, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+			// v | w | 3 | 2 | 0 | 195
+			currentValue = getFromPosition(v, w, 3, 2, 0);
+			greaterVNeighborValue = getFromPosition(vPlusOne, w, 3, 2, 0);
+			smallerVNeighborValue = getFromPosition(vMinusOne, w, 3, 2, 0);
+			greaterWNeighborValue = getFromPosition(v, wPlusOne, 3, 2, 0);
+			smallerWNeighborValue = getFromPosition(v, wMinusOne, 3, 2, 0);
+			greaterXNeighborValue = getFromPosition(v, w, 4, 2, 0);
+			smallerXNeighborValue = getFromPosition(v, w, 2, 2, 0);
+			greaterYNeighborValue = getFromPosition(v, w, 3, 3, 0);
+			smallerYNeighborValue = getFromPosition(v, w, 3, 1, 0);
+			greaterZNeighborValue = getFromPosition(v, w, 3, 2, 1);
+			if (topplePositionOfType36(v, w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 				changed = true;
 			}
-			// v | 4 | 3 | 2 | 1 | 157
+			// v | w | 3 | 2 | 1 | 196
 			//reuse values obtained previously
-			long smallerZNeighborValue = currentValue;
+			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterVNeighborValue = getFromPosition(vPlusOne, 4, 3, 2, 1);
-			smallerVNeighborValue = getFromPosition(vMinusOne, 4, 3, 2, 1);
-			greaterWNeighborValue = getFromPosition(v, 5, 3, 2, 1);
-			smallerWNeighborValue = getFromPosition(v, 3, 3, 2, 1);
-			greaterXNeighborValue = getFromPosition(v, 4, 4, 2, 1);
-			smallerXNeighborValue = getFromPosition(v, 4, 2, 2, 1);
-			greaterYNeighborValue = getFromPosition(v, 4, 3, 3, 1);
-			smallerYNeighborValue = getFromPosition(v, 4, 3, 1, 1);
-			greaterZNeighborValue = getFromPosition(v, 4, 3, 2, 2);
-			if (topplePositionOfType47(v, 4, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+			greaterVNeighborValue = getFromPosition(vPlusOne, w, 3, 2, 1);
+			smallerVNeighborValue = getFromPosition(vMinusOne, w, 3, 2, 1);
+			greaterWNeighborValue = getFromPosition(v, wPlusOne, 3, 2, 1);
+			smallerWNeighborValue = getFromPosition(v, wMinusOne, 3, 2, 1);
+			greaterXNeighborValue = getFromPosition(v, w, 4, 2, 1);
+			smallerXNeighborValue = getFromPosition(v, w, 2, 2, 1);
+			greaterYNeighborValue = getFromPosition(v, w, 3, 3, 1);
+			smallerYNeighborValue = getFromPosition(v, w, 3, 1, 1);
+			greaterZNeighborValue = getFromPosition(v, w, 3, 2, 2);
+			if (topplePositionOfType47(v, w, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 					greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					newGrid)) {
 				changed = true;
 			}
-			// v | 4 | 3 | 2 | 2 | 158
+			// v | w | 3 | 2 | 2 | 197
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterVNeighborValue = getFromPosition(vPlusOne, 4, 3, 2, 2);
-			smallerVNeighborValue = getFromPosition(vMinusOne, 4, 3, 2, 2);
-			greaterWNeighborValue = getFromPosition(v, 5, 3, 2, 2);
-			smallerWNeighborValue = getFromPosition(v, 3, 3, 2, 2);
-			greaterXNeighborValue = getFromPosition(v, 4, 4, 2, 2);
-			smallerXNeighborValue = getFromPosition(v, 4, 2, 2, 2);
-			greaterYNeighborValue = getFromPosition(v, 4, 3, 3, 2);
-			if (topplePositionOfType37(v, 4, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
+			greaterVNeighborValue = getFromPosition(vPlusOne, w, 3, 2, 2);
+			smallerVNeighborValue = getFromPosition(vMinusOne, w, 3, 2, 2);
+			greaterWNeighborValue = getFromPosition(v, wPlusOne, 3, 2, 2);
+			smallerWNeighborValue = getFromPosition(v, wMinusOne, 3, 2, 2);
+			greaterXNeighborValue = getFromPosition(v, w, 4, 2, 2);
+			smallerXNeighborValue = getFromPosition(v, w, 2, 2, 2);
+			greaterYNeighborValue = getFromPosition(v, w, 3, 3, 2);
+			if (topplePositionOfType37(v, w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
 					greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 				changed = true;
 			}
-			if (toppleRangeOfType17(v, 4, 3, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+			if (toppleRangeOfType19(v, w, 3, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
 				changed = true;
-			}
-			int w = 5, wMinusOne = 4, wPlusOne = 6;
-			for (int wMinusTwo = 3, wMinusThree = 2; w != vMinusOne; wMinusThree = wMinusTwo, wMinusTwo = wMinusOne, wMinusOne = w, w = wPlusOne, wPlusOne++) {
-				if (toppleRangeOfType15(v, w, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
-					changed = true;
-				}
-				if (toppleRangeOfType18(v, w, 3, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
-					changed = true;
-				}
-				// v | w | 3 | 2 | 0 | 195
-				currentValue = getFromPosition(v, w, 3, 2, 0);
-				greaterVNeighborValue = getFromPosition(vPlusOne, w, 3, 2, 0);
-				smallerVNeighborValue = getFromPosition(vMinusOne, w, 3, 2, 0);
-				greaterWNeighborValue = getFromPosition(v, wPlusOne, 3, 2, 0);
-				smallerWNeighborValue = getFromPosition(v, wMinusOne, 3, 2, 0);
-				greaterXNeighborValue = getFromPosition(v, w, 4, 2, 0);
-				smallerXNeighborValue = getFromPosition(v, w, 2, 2, 0);
-				greaterYNeighborValue = getFromPosition(v, w, 3, 3, 0);
-				smallerYNeighborValue = getFromPosition(v, w, 3, 1, 0);
-				greaterZNeighborValue = getFromPosition(v, w, 3, 2, 1);
-				if (topplePositionOfType36(v, w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
-					changed = true;
-				}
-				// v | w | 3 | 2 | 1 | 196
-				//reuse values obtained previously
-				smallerZNeighborValue = currentValue;
-				currentValue = greaterZNeighborValue;
-				greaterVNeighborValue = getFromPosition(vPlusOne, w, 3, 2, 1);
-				smallerVNeighborValue = getFromPosition(vMinusOne, w, 3, 2, 1);
-				greaterWNeighborValue = getFromPosition(v, wPlusOne, 3, 2, 1);
-				smallerWNeighborValue = getFromPosition(v, wMinusOne, 3, 2, 1);
-				greaterXNeighborValue = getFromPosition(v, w, 4, 2, 1);
-				smallerXNeighborValue = getFromPosition(v, w, 2, 2, 1);
-				greaterYNeighborValue = getFromPosition(v, w, 3, 3, 1);
-				smallerYNeighborValue = getFromPosition(v, w, 3, 1, 1);
-				greaterZNeighborValue = getFromPosition(v, w, 3, 2, 2);
-				if (topplePositionOfType47(v, w, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						newGrid)) {
-					changed = true;
-				}
-				// v | w | 3 | 2 | 2 | 197
-				//reuse values obtained previously
-				smallerZNeighborValue = currentValue;
-				currentValue = greaterZNeighborValue;
-				greaterVNeighborValue = getFromPosition(vPlusOne, w, 3, 2, 2);
-				smallerVNeighborValue = getFromPosition(vMinusOne, w, 3, 2, 2);
-				greaterWNeighborValue = getFromPosition(v, wPlusOne, 3, 2, 2);
-				smallerWNeighborValue = getFromPosition(v, wMinusOne, 3, 2, 2);
-				greaterXNeighborValue = getFromPosition(v, w, 4, 2, 2);
-				smallerXNeighborValue = getFromPosition(v, w, 2, 2, 2);
-				greaterYNeighborValue = getFromPosition(v, w, 3, 3, 2);
-				if (topplePositionOfType37(v, w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
-						greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
-					changed = true;
-				}
-				if (toppleRangeOfType19(v, w, 3, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
-					changed = true;
-				}			
-				int x = 4, xMinusOne = 3, xPlusOne = 5;
-				for (int xMinusTwo = 2; x != wMinusOne; xMinusTwo = xMinusOne, xMinusOne = x, x = xPlusOne, xPlusOne++) {
-					if (toppleRangeOfType18(v, w, x, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-							relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
-						changed = true;
-					}
-					// v | w | x | 2 | 0 | 223
-					currentValue = getFromPosition(v, w, x, 2, 0);
-					greaterVNeighborValue = getFromPosition(vPlusOne, w, x, 2, 0);
-					smallerVNeighborValue = getFromPosition(vMinusOne, w, x, 2, 0);
-					greaterWNeighborValue = getFromPosition(v, wPlusOne, x, 2, 0);
-					smallerWNeighborValue = getFromPosition(v, wMinusOne, x, 2, 0);
-					greaterXNeighborValue = getFromPosition(v, w, xPlusOne, 2, 0);
-					smallerXNeighborValue = getFromPosition(v, w, xMinusOne, 2, 0);
-					greaterYNeighborValue = getFromPosition(v, w, x, 3, 0);
-					smallerYNeighborValue = getFromPosition(v, w, x, 1, 0);
-					greaterZNeighborValue = getFromPosition(v, w, x, 2, 1);
-					if (topplePositionOfType58(v, w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
-							greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
-							relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
-						changed = true;
-					}
-					// v | w | x | 2 | 1 | 224
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = getFromPosition(vPlusOne, w, x, 2, 1);
-					smallerVNeighborValue = getFromPosition(vMinusOne, w, x, 2, 1);
-					greaterWNeighborValue = getFromPosition(v, wPlusOne, x, 2, 1);
-					smallerWNeighborValue = getFromPosition(v, wMinusOne, x, 2, 1);
-					greaterXNeighborValue = getFromPosition(v, w, xPlusOne, 2, 1);
-					smallerXNeighborValue = getFromPosition(v, w, xMinusOne, 2, 1);
-					greaterYNeighborValue = getFromPosition(v, w, x, 3, 1);
-					smallerYNeighborValue = getFromPosition(v, w, x, 1, 1);
-					greaterZNeighborValue = getFromPosition(v, w, x, 2, 2);
-					if (topplePositionOfType47(v, w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							newGrid)) {
-						changed = true;
-					}
-					// v | w | x | 2 | 2 | 225
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = getFromPosition(vPlusOne, w, x, 2, 2);
-					smallerVNeighborValue = getFromPosition(vMinusOne, w, x, 2, 2);
-					greaterWNeighborValue = getFromPosition(v, wPlusOne, x, 2, 2);
-					smallerWNeighborValue = getFromPosition(v, wMinusOne, x, 2, 2);
-					greaterXNeighborValue = getFromPosition(v, w, xPlusOne, 2, 2);
-					smallerXNeighborValue = getFromPosition(v, w, xMinusOne, 2, 2);
-					greaterYNeighborValue = getFromPosition(v, w, x, 3, 2);
-					if (topplePositionOfType59(v, w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, 
-							smallerXNeighborValue, greaterYNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
-							relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
-						changed = true;
-					}
-					int y = 3, yMinusOne = 2, yPlusOne = 4;
-					for (; y != xMinusOne; yMinusOne = y, y = yPlusOne, yPlusOne++) {
-						// v | w | x | y | 0 | 223
-						currentValue = getFromPosition(v, w, x, y, 0);
-						greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, 0);
-						smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, 0);
-						greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, 0);
-						smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, 0);
-						greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, 0);
-						smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, 0);
-						greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 0);
-						smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 0);
-						greaterZNeighborValue = getFromPosition(v, w, x, y, 1);
-						if (topplePositionOfType58(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
-								greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
-								relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
-							changed = true;
-						}
-						// v | w | x | y | 1 | 238
-						//reuse values obtained previously
-						smallerZNeighborValue = currentValue;
-						currentValue = greaterZNeighborValue;
-						greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, 1);
-						smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, 1);
-						greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, 1);
-						smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, 1);
-						greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, 1);
-						smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, 1);
-						greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 1);
-						smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 1);
-						greaterZNeighborValue = getFromPosition(v, w, x, y, 2);
-						if (topplePositionOfType47(v, w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-								greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-								newGrid)) {
-							changed = true;
-						}
-						int z = 2, zPlusOne = 3;
-						for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
-							// v | w | x | y | z | 243
-							//reuse values obtained previously
-							smallerZNeighborValue = currentValue;
-							currentValue = greaterZNeighborValue;
-							greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
-							smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
-							greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
-							smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
-							greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
-							smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
-							greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
-							smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
-							greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
-							if (topplePositionOfType63(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
-									greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, newGrid)) {
-								changed = true;
-							}
-						}
-						// v | w | x | y | z | 239
-						//reuse values obtained previously
-						smallerZNeighborValue = currentValue;
-						currentValue = greaterZNeighborValue;
-						greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
-						smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
-						greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
-						smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
-						greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
-						smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
-						greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
-						smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
-						greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
-						if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-								greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-								newGrid)) {
-							changed = true;
-						}
-						z = y;
-						// v | w | x | y | z | 225
-						//reuse values obtained previously
-						smallerZNeighborValue = currentValue;
-						currentValue = greaterZNeighborValue;
-						greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
-						smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
-						greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
-						smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
-						greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
-						smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
-						greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
-						if (topplePositionOfType59(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, 
-								smallerXNeighborValue, greaterYNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
-								relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
-							changed = true;
-						}
-					}
-					// v | w | x | y | 0 | 195
-					currentValue = getFromPosition(v, w, x, y, 0);
-					greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, 0);
-					smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, 0);
-					greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, 0);
-					smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, 0);
-					greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, 0);
-					smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, 0);
-					greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 0);
-					smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 0);
-					greaterZNeighborValue = getFromPosition(v, w, x, y, 1);
-					if (topplePositionOfType36(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-							greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
-						changed = true;
-					}
-					// v | w | x | y | 1 | 226
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, 1);
-					smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, 1);
-					greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, 1);
-					smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, 1);
-					greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, 1);
-					smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, 1);
-					greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 1);
-					smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 1);
-					greaterZNeighborValue = getFromPosition(v, w, x, y, 2);
-					if (topplePositionOfType47(v, w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-							greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							newGrid)) {
-						changed = true;
-					}
-					int z = 2, zPlusOne = 3;
-					for (; z != xMinusTwo; z = zPlusOne, zPlusOne++) {
-						// v | w | x | y | z | 240
-						//reuse values obtained previously
-						smallerZNeighborValue = currentValue;
-						currentValue = greaterZNeighborValue;
-						greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
-						smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
-						greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
-						smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
-						greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
-						smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
-						greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
-						smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
-						greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
-						if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-								greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-								newGrid)) {
-							changed = true;
-						}
-					}
-					// v | w | x | y | z | 227
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
-					smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
-					greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
-					smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
-					greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
-					smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
-					greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
-					smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
-					greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
-					if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-							greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							newGrid)) {
-						changed = true;
-					}
-					z = xMinusOne;
-					// v | w | x | y | z | 197
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
-					smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
-					greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
-					smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
-					greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
-					smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
-					greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
-					if (topplePositionOfType37(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
-							greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
-						changed = true;
-					}
-					if (toppleRangeOfType19(v, w, x, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-							relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
-						changed = true;
-					}
-				}
-				if (toppleRangeOfType16(v, w, x, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+			}			
+			int x = 4, xMinusOne = 3, xPlusOne = 5;
+			for (int xMinusTwo = 2; x != wMinusOne; xMinusTwo = xMinusOne, xMinusOne = x, x = xPlusOne, xPlusOne++) {
+				if (toppleRangeOfType18(v, w, x, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
 					changed = true;
 				}
-				// v | w | x | 2 | 0 | 200
+				// v | w | x | 2 | 0 | 223
 				currentValue = getFromPosition(v, w, x, 2, 0);
 				greaterVNeighborValue = getFromPosition(vPlusOne, w, x, 2, 0);
 				smallerVNeighborValue = getFromPosition(vMinusOne, w, x, 2, 0);
@@ -1275,12 +1052,12 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 				greaterYNeighborValue = getFromPosition(v, w, x, 3, 0);
 				smallerYNeighborValue = getFromPosition(v, w, x, 1, 0);
 				greaterZNeighborValue = getFromPosition(v, w, x, 2, 1);
-				if (topplePositionOfType36(v, w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType58(v, w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
+						greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 						relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 					changed = true;
 				}
-				// v | w | x | 2 | 1 | 201
+				// v | w | x | 2 | 1 | 224
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1293,12 +1070,12 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 				greaterYNeighborValue = getFromPosition(v, w, x, 3, 1);
 				smallerYNeighborValue = getFromPosition(v, w, x, 1, 1);
 				greaterZNeighborValue = getFromPosition(v, w, x, 2, 2);
-				if (topplePositionOfType47(v, w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				if (topplePositionOfType47(v, w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 						greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newGrid)) {
 					changed = true;
 				}
-				// v | w | x | 2 | 2 | 202
+				// v | w | x | 2 | 2 | 225
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1309,14 +1086,14 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 				greaterXNeighborValue = getFromPosition(v, w, xPlusOne, 2, 2);
 				smallerXNeighborValue = getFromPosition(v, w, xMinusOne, 2, 2);
 				greaterYNeighborValue = getFromPosition(v, w, x, 3, 2);
-				if (topplePositionOfType37(v, w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType59(v, w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, 
+						smallerXNeighborValue, greaterYNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 						relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 					changed = true;
 				}
 				int y = 3, yMinusOne = 2, yPlusOne = 4;
-				for (; y != wMinusTwo; yMinusOne = y, y = yPlusOne, yPlusOne++) {
-					// v | w | x | y | 0 | 200
+				for (; y != xMinusOne; yMinusOne = y, y = yPlusOne, yPlusOne++) {
+					// v | w | x | y | 0 | 223
 					currentValue = getFromPosition(v, w, x, y, 0);
 					greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, 0);
 					smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, 0);
@@ -1327,12 +1104,12 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 					greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 0);
 					smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 0);
 					greaterZNeighborValue = getFromPosition(v, w, x, y, 1);
-					if (topplePositionOfType36(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					if (topplePositionOfType58(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
+							greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 							relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 						changed = true;
 					}
-					// v | w | x | y | 1 | 229
+					// v | w | x | y | 1 | 238
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
@@ -1345,14 +1122,14 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 					greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 1);
 					smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 1);
 					greaterZNeighborValue = getFromPosition(v, w, x, y, 2);
-					if (topplePositionOfType47(v, w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					if (topplePositionOfType47(v, w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 							newGrid)) {
 						changed = true;
 					}
 					int z = 2, zPlusOne = 3;
 					for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
-						// v | w | x | y | z | 241
+						// v | w | x | y | z | 243
 						//reuse values obtained previously
 						smallerZNeighborValue = currentValue;
 						currentValue = greaterZNeighborValue;
@@ -1365,13 +1142,12 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 						greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
 						smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
 						greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
-						if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-								greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-								newGrid)) {
+						if (topplePositionOfType63(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
+								greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, newGrid)) {
 							changed = true;
 						}
 					}
-					// v | w | x | y | z | 230
+					// v | w | x | y | z | 239
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
@@ -1384,13 +1160,13 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 					greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
 					smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
 					greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
-					if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 							greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 							newGrid)) {
 						changed = true;
 					}
 					z = y;
-					// v | w | x | y | z | 202
+					// v | w | x | y | z | 225
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
@@ -1401,13 +1177,13 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 					greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
 					smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
 					greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
-					if (topplePositionOfType37(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					if (topplePositionOfType59(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, 
+							smallerXNeighborValue, greaterYNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 							relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 						changed = true;
 					}
 				}
-				// v | w | x | y | 0 | 156
+				// v | w | x | y | 0 | 195
 				currentValue = getFromPosition(v, w, x, y, 0);
 				greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, 0);
 				smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, 0);
@@ -1418,12 +1194,12 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 				greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 0);
 				smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 0);
 				greaterZNeighborValue = getFromPosition(v, w, x, y, 1);
-				if (topplePositionOfType36(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				if (topplePositionOfType36(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 					changed = true;
 				}
-				// v | w | x | y | 1 | 203
+				// v | w | x | y | 1 | 226
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1436,14 +1212,14 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 				greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 1);
 				smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 1);
 				greaterZNeighborValue = getFromPosition(v, w, x, y, 2);
-				if (topplePositionOfType47(v, w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				if (topplePositionOfType47(v, w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newGrid)) {
 					changed = true;
 				}
 				int z = 2, zPlusOne = 3;
-				for (; z != wMinusThree; z = zPlusOne, zPlusOne++) {
-					// v | w | x | y | z | 231
+				for (; z != xMinusTwo; z = zPlusOne, zPlusOne++) {
+					// v | w | x | y | z | 240
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
@@ -1456,13 +1232,13 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 					greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
 					smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
 					greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
-					if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+					if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 							greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 							newGrid)) {
 						changed = true;
 					}
 				}
-				// v | w | x | y | z | 204
+				// v | w | x | y | z | 227
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1475,13 +1251,13 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 				greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
 				smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
 				greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
-				if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 						greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newGrid)) {
 					changed = true;
 				}
-				z = wMinusTwo;
-				// v | w | x | y | z | 158
+				z = xMinusOne;
+				// v | w | x | y | z | 197
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1492,228 +1268,73 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 				greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
 				smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
 				greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
-				if (topplePositionOfType37(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
+				if (topplePositionOfType37(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
 						greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 					changed = true;
 				}
-				if (toppleRangeOfType17(v, w, x, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				if (toppleRangeOfType19(v, w, x, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
 					changed = true;
 				}
 			}
-			if (toppleRangeOfType12(v, w, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+			if (toppleRangeOfType16(v, w, x, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
 				changed = true;
 			}
-			if (toppleRangeOfType20(v, w, 3, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			// v | w | x | 2 | 0 | 200
+			currentValue = getFromPosition(v, w, x, 2, 0);
+			greaterVNeighborValue = getFromPosition(vPlusOne, w, x, 2, 0);
+			smallerVNeighborValue = getFromPosition(vMinusOne, w, x, 2, 0);
+			greaterWNeighborValue = getFromPosition(v, wPlusOne, x, 2, 0);
+			smallerWNeighborValue = getFromPosition(v, wMinusOne, x, 2, 0);
+			greaterXNeighborValue = getFromPosition(v, w, xPlusOne, 2, 0);
+			smallerXNeighborValue = getFromPosition(v, w, xMinusOne, 2, 0);
+			greaterYNeighborValue = getFromPosition(v, w, x, 3, 0);
+			smallerYNeighborValue = getFromPosition(v, w, x, 1, 0);
+			greaterZNeighborValue = getFromPosition(v, w, x, 2, 1);
+			if (topplePositionOfType36(v, w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 				changed = true;
 			}
-			// v | w | 3 | 2 | 0 | 169
-			currentValue = getFromPosition(v, w, 3, 2, 0);
-			greaterVNeighborValue = getFromPosition(vPlusOne, w, 3, 2, 0);
-			smallerVNeighborValue = getFromPosition(vMinusOne, w, 3, 2, 0);
-			greaterWNeighborValue = getFromPosition(v, wPlusOne, 3, 2, 0);
-			smallerWNeighborValue = getFromPosition(v, wMinusOne, 3, 2, 0);
-			greaterXNeighborValue = getFromPosition(v, w, 4, 2, 0);
-			smallerXNeighborValue = getFromPosition(v, w, 2, 2, 0);
-			greaterYNeighborValue = getFromPosition(v, w, 3, 3, 0);
-			smallerYNeighborValue = getFromPosition(v, w, 3, 1, 0);
-			greaterZNeighborValue = getFromPosition(v, w, 3, 2, 1);
-			if (topplePositionOfType36(v, w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-					relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
-				changed = true;
-			}
-			// v | w | 3 | 2 | 1 | 170
+			// v | w | x | 2 | 1 | 201
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterVNeighborValue = getFromPosition(vPlusOne, w, 3, 2, 1);
-			smallerVNeighborValue = getFromPosition(vMinusOne, w, 3, 2, 1);
-			greaterWNeighborValue = getFromPosition(v, wPlusOne, 3, 2, 1);
-			smallerWNeighborValue = getFromPosition(v, wMinusOne, 3, 2, 1);
-			greaterXNeighborValue = getFromPosition(v, w, 4, 2, 1);
-			smallerXNeighborValue = getFromPosition(v, w, 2, 2, 1);
-			greaterYNeighborValue = getFromPosition(v, w, 3, 3, 1);
-			smallerYNeighborValue = getFromPosition(v, w, 3, 1, 1);
-			greaterZNeighborValue = getFromPosition(v, w, 3, 2, 2);
-			if (topplePositionOfType47(v, w, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-					greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+			greaterVNeighborValue = getFromPosition(vPlusOne, w, x, 2, 1);
+			smallerVNeighborValue = getFromPosition(vMinusOne, w, x, 2, 1);
+			greaterWNeighborValue = getFromPosition(v, wPlusOne, x, 2, 1);
+			smallerWNeighborValue = getFromPosition(v, wMinusOne, x, 2, 1);
+			greaterXNeighborValue = getFromPosition(v, w, xPlusOne, 2, 1);
+			smallerXNeighborValue = getFromPosition(v, w, xMinusOne, 2, 1);
+			greaterYNeighborValue = getFromPosition(v, w, x, 3, 1);
+			smallerYNeighborValue = getFromPosition(v, w, x, 1, 1);
+			greaterZNeighborValue = getFromPosition(v, w, x, 2, 2);
+			if (topplePositionOfType47(v, w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					newGrid)) {
 				changed = true;
 			}
-			// v | w | 3 | 2 | 2 | 171
+			// v | w | x | 2 | 2 | 202
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterVNeighborValue = getFromPosition(vPlusOne, w, 3, 2, 2);
-			smallerVNeighborValue = getFromPosition(vMinusOne, w, 3, 2, 2);
-			greaterWNeighborValue = getFromPosition(v, wPlusOne, 3, 2, 2);
-			smallerWNeighborValue = getFromPosition(v, wMinusOne, 3, 2, 2);
-			greaterXNeighborValue = getFromPosition(v, w, 4, 2, 2);
-			smallerXNeighborValue = getFromPosition(v, w, 2, 2, 2);
-			greaterYNeighborValue = getFromPosition(v, w, 3, 3, 2);
-			if (topplePositionOfType37(v, w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
-					greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+			greaterVNeighborValue = getFromPosition(vPlusOne, w, x, 2, 2);
+			smallerVNeighborValue = getFromPosition(vMinusOne, w, x, 2, 2);
+			greaterWNeighborValue = getFromPosition(v, wPlusOne, x, 2, 2);
+			smallerWNeighborValue = getFromPosition(v, wMinusOne, x, 2, 2);
+			greaterXNeighborValue = getFromPosition(v, w, xPlusOne, 2, 2);
+			smallerXNeighborValue = getFromPosition(v, w, xMinusOne, 2, 2);
+			greaterYNeighborValue = getFromPosition(v, w, x, 3, 2);
+			if (topplePositionOfType37(v, w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 				changed = true;
 			}
-			if (toppleRangeOfType21(v, w, 3, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
-				changed = true;
-			}
-			int x = 4, xMinusOne = 3, xPlusOne = 5;
-			for (int xMinusTwo = 2; x != vMinusTwo; xMinusTwo = xMinusOne, xMinusOne = x, x = xPlusOne, xPlusOne++) {
-				if (toppleRangeOfType20(v, w, x, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
-					changed = true;
-				}
-				// v | w | x | 2 | 0 | 209
-				currentValue = getFromPosition(v, w, x, 2, 0);
-				greaterVNeighborValue = getFromPosition(vPlusOne, w, x, 2, 0);
-				smallerVNeighborValue = getFromPosition(vMinusOne, w, x, 2, 0);
-				greaterWNeighborValue = getFromPosition(v, wPlusOne, x, 2, 0);
-				smallerWNeighborValue = getFromPosition(v, wMinusOne, x, 2, 0);
-				greaterXNeighborValue = getFromPosition(v, w, xPlusOne, 2, 0);
-				smallerXNeighborValue = getFromPosition(v, w, xMinusOne, 2, 0);
-				greaterYNeighborValue = getFromPosition(v, w, x, 3, 0);
-				smallerYNeighborValue = getFromPosition(v, w, x, 1, 0);
-				greaterZNeighborValue = getFromPosition(v, w, x, 2, 1);
-				if (topplePositionOfType36(v, w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
-					changed = true;
-				}
-				// v | w | x | 2 | 1 | 210
-				//reuse values obtained previously
-				smallerZNeighborValue = currentValue;
-				currentValue = greaterZNeighborValue;
-				greaterVNeighborValue = getFromPosition(vPlusOne, w, x, 2, 1);
-				smallerVNeighborValue = getFromPosition(vMinusOne, w, x, 2, 1);
-				greaterWNeighborValue = getFromPosition(v, wPlusOne, x, 2, 1);
-				smallerWNeighborValue = getFromPosition(v, wMinusOne, x, 2, 1);
-				greaterXNeighborValue = getFromPosition(v, w, xPlusOne, 2, 1);
-				smallerXNeighborValue = getFromPosition(v, w, xMinusOne, 2, 1);
-				greaterYNeighborValue = getFromPosition(v, w, x, 3, 1);
-				smallerYNeighborValue = getFromPosition(v, w, x, 1, 1);
-				greaterZNeighborValue = getFromPosition(v, w, x, 2, 2);
-				if (topplePositionOfType47(v, w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						newGrid)) {
-					changed = true;
-				}
-				// v | w | x | 2 | 2 | 211
-				//reuse values obtained previously
-				smallerZNeighborValue = currentValue;
-				currentValue = greaterZNeighborValue;
-				greaterVNeighborValue = getFromPosition(vPlusOne, w, x, 2, 2);
-				smallerVNeighborValue = getFromPosition(vMinusOne, w, x, 2, 2);
-				greaterWNeighborValue = getFromPosition(v, wPlusOne, x, 2, 2);
-				smallerWNeighborValue = getFromPosition(v, wMinusOne, x, 2, 2);
-				greaterXNeighborValue = getFromPosition(v, w, xPlusOne, 2, 2);
-				smallerXNeighborValue = getFromPosition(v, w, xMinusOne, 2, 2);
-				greaterYNeighborValue = getFromPosition(v, w, x, 3, 2);
-				if (topplePositionOfType37(v, w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
-					changed = true;
-				}
-				int y = 3, yMinusOne = 2, yPlusOne = 4;
-				for (; y != xMinusOne; yMinusOne = y, y = yPlusOne, yPlusOne++) {
-					// v | w | x | y | 0 | 209
-					currentValue = getFromPosition(v, w, x, y, 0);
-					greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, 0);
-					smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, 0);
-					greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, 0);
-					smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, 0);
-					greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, 0);
-					smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, 0);
-					greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 0);
-					smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 0);
-					greaterZNeighborValue = getFromPosition(v, w, x, y, 1);
-					if (topplePositionOfType36(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
-						changed = true;
-					}
-					// v | w | x | y | 1 | 233
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, 1);
-					smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, 1);
-					greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, 1);
-					smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, 1);
-					greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, 1);
-					smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, 1);
-					greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 1);
-					smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 1);
-					greaterZNeighborValue = getFromPosition(v, w, x, y, 2);
-					if (topplePositionOfType47(v, w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							newGrid)) {
-						changed = true;
-					}
-					int z = 2, zPlusOne = 3;
-					for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
-						// v | w | x | y | z | 242
-						//reuse values obtained previously
-						smallerZNeighborValue = currentValue;
-						currentValue = greaterZNeighborValue;
-						greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
-						smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
-						greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
-						smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
-						greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
-						smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
-						greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
-						smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
-						greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
-						if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-								greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-								newGrid)) {
-							changed = true;
-						}
-					}
-					// v | w | x | y | z | 234
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
-					smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
-					greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
-					smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
-					greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
-					smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
-					greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
-					smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
-					greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
-					if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							newGrid)) {
-						changed = true;
-					}
-					z = y;
-					// v | w | x | y | z | 211
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
-					smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
-					greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
-					smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
-					greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
-					smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
-					greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
-					if (topplePositionOfType37(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
-						changed = true;
-					}
-				}
-				// v | w | x | y | 0 | 169
+			int y = 3, yMinusOne = 2, yPlusOne = 4;
+			for (; y != wMinusTwo; yMinusOne = y, y = yPlusOne, yPlusOne++) {
+				// v | w | x | y | 0 | 200
 				currentValue = getFromPosition(v, w, x, y, 0);
 				greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, 0);
 				smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, 0);
@@ -1724,12 +1345,12 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 				greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 0);
 				smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 0);
 				greaterZNeighborValue = getFromPosition(v, w, x, y, 1);
-				if (topplePositionOfType36(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType36(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 					changed = true;
 				}
-				// v | w | x | y | 1 | 212
+				// v | w | x | y | 1 | 229
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1742,14 +1363,14 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 				greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 1);
 				smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 1);
 				greaterZNeighborValue = getFromPosition(v, w, x, y, 2);
-				if (topplePositionOfType47(v, w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType47(v, w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newGrid)) {
 					changed = true;
 				}
 				int z = 2, zPlusOne = 3;
-				for (; z != xMinusTwo; z = zPlusOne, zPlusOne++) {
-					// v | w | x | y | z | 235
+				for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
+					// v | w | x | y | z | 241
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
@@ -1762,13 +1383,13 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 					greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
 					smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
 					greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
-					if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-							greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 							newGrid)) {
 						changed = true;
 					}
 				}
-				// v | w | x | y | z | 213
+				// v | w | x | y | z | 230
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1781,13 +1402,13 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 				greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
 				smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
 				greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
-				if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newGrid)) {
 					changed = true;
 				}
-				z = xMinusOne;
-				// v | w | x | y | z | 171
+				z = y;
+				// v | w | x | y | z | 202
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1798,21 +1419,189 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 				greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
 				smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
 				greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
-				if (topplePositionOfType37(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
-						greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType37(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 					changed = true;
 				}
-				if (toppleRangeOfType21(v, w, x, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			}
+			// v | w | x | y | 0 | 156
+			currentValue = getFromPosition(v, w, x, y, 0);
+			greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, 0);
+			smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, 0);
+			greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, 0);
+			smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, 0);
+			greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, 0);
+			smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, 0);
+			greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 0);
+			smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 0);
+			greaterZNeighborValue = getFromPosition(v, w, x, y, 1);
+			if (topplePositionOfType36(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
+				changed = true;
+			}
+			// v | w | x | y | 1 | 203
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, 1);
+			smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, 1);
+			greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, 1);
+			smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, 1);
+			greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, 1);
+			smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, 1);
+			greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 1);
+			smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 1);
+			greaterZNeighborValue = getFromPosition(v, w, x, y, 2);
+			if (topplePositionOfType47(v, w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					newGrid)) {
+				changed = true;
+			}
+			int z = 2, zPlusOne = 3;
+			for (; z != wMinusThree; z = zPlusOne, zPlusOne++) {
+				// v | w | x | y | z | 231
+				//reuse values obtained previously
+				smallerZNeighborValue = currentValue;
+				currentValue = greaterZNeighborValue;
+				greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
+				smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
+				greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
+				smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
+				greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
+				smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
+				greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
+				smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
+				greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
+				if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+						newGrid)) {
 					changed = true;
 				}
 			}
-			if (toppleRangeOfType13(v, w, x, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+			// v | w | x | y | z | 204
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
+			smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
+			greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
+			smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
+			greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
+			smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
+			greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
+			smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
+			greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
+			if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					newGrid)) {
+				changed = true;
+			}
+			z = wMinusTwo;
+			// v | w | x | y | z | 158
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
+			smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
+			greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
+			smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
+			greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
+			smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
+			greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
+			if (topplePositionOfType37(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
+					greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
+				changed = true;
+			}
+			if (toppleRangeOfType17(v, w, x, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Topples the positions of a v slice, beyond v = 5, with a w coordinate equal to v - 1.
+	 * Split from {@link #toppleRangeBeyondV5} to keep each method under the JIT's huge method limit.
+	 */
+	private boolean toppleVSliceBeyondV5WithWEqualToVMinusOne(int v, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords,
+			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts) throws IOException {
+		int vMinusOne = v - 1, vMinusTwo = v - 2, vMinusThree = v - 3, vMinusFour = v - 4, vPlusOne = v + 1;
+		int w = vMinusOne, wMinusOne = vMinusTwo, wPlusOne = v;
+		long currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, smallerZNeighborValue;
+		boolean changed = false;
+		if (toppleRangeOfType12(v, w, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
+		if (toppleRangeOfType20(v, w, 3, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
+		// v | w | 3 | 2 | 0 | 169
+		currentValue = getFromPosition(v, w, 3, 2, 0);
+		greaterVNeighborValue = getFromPosition(vPlusOne, w, 3, 2, 0);
+		smallerVNeighborValue = getFromPosition(vMinusOne, w, 3, 2, 0);
+		greaterWNeighborValue = getFromPosition(v, wPlusOne, 3, 2, 0);
+		smallerWNeighborValue = getFromPosition(v, wMinusOne, 3, 2, 0);
+		greaterXNeighborValue = getFromPosition(v, w, 4, 2, 0);
+		smallerXNeighborValue = getFromPosition(v, w, 2, 2, 0);
+		greaterYNeighborValue = getFromPosition(v, w, 3, 3, 0);
+		smallerYNeighborValue = getFromPosition(v, w, 3, 1, 0);
+		greaterZNeighborValue = getFromPosition(v, w, 3, 2, 1);
+		if (topplePositionOfType36(v, w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
+			changed = true;
+		}
+		// v | w | 3 | 2 | 1 | 170
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = getFromPosition(vPlusOne, w, 3, 2, 1);
+		smallerVNeighborValue = getFromPosition(vMinusOne, w, 3, 2, 1);
+		greaterWNeighborValue = getFromPosition(v, wPlusOne, 3, 2, 1);
+		smallerWNeighborValue = getFromPosition(v, wMinusOne, 3, 2, 1);
+		greaterXNeighborValue = getFromPosition(v, w, 4, 2, 1);
+		smallerXNeighborValue = getFromPosition(v, w, 2, 2, 1);
+		greaterYNeighborValue = getFromPosition(v, w, 3, 3, 1);
+		smallerYNeighborValue = getFromPosition(v, w, 3, 1, 1);
+		greaterZNeighborValue = getFromPosition(v, w, 3, 2, 2);
+		if (topplePositionOfType47(v, w, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				newGrid)) {
+			changed = true;
+		}
+		// v | w | 3 | 2 | 2 | 171
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = getFromPosition(vPlusOne, w, 3, 2, 2);
+		smallerVNeighborValue = getFromPosition(vMinusOne, w, 3, 2, 2);
+		greaterWNeighborValue = getFromPosition(v, wPlusOne, 3, 2, 2);
+		smallerWNeighborValue = getFromPosition(v, wMinusOne, 3, 2, 2);
+		greaterXNeighborValue = getFromPosition(v, w, 4, 2, 2);
+		smallerXNeighborValue = getFromPosition(v, w, 2, 2, 2);
+		greaterYNeighborValue = getFromPosition(v, w, 3, 3, 2);
+		if (topplePositionOfType37(v, w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
+				greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
+			changed = true;
+		}
+		if (toppleRangeOfType21(v, w, 3, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
+		int x = 4, xMinusOne = 3, xPlusOne = 5;
+		for (int xMinusTwo = 2; x != vMinusTwo; xMinusTwo = xMinusOne, xMinusOne = x, x = xPlusOne, xPlusOne++) {
+			if (toppleRangeOfType20(v, w, x, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
 				changed = true;
 			}
-			// v | w | x | 2 | 0 | 174
+			// v | w | x | 2 | 0 | 209
 			currentValue = getFromPosition(v, w, x, 2, 0);
 			greaterVNeighborValue = getFromPosition(vPlusOne, w, x, 2, 0);
 			smallerVNeighborValue = getFromPosition(vMinusOne, w, x, 2, 0);
@@ -1823,12 +1612,12 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 			greaterYNeighborValue = getFromPosition(v, w, x, 3, 0);
 			smallerYNeighborValue = getFromPosition(v, w, x, 1, 0);
 			greaterZNeighborValue = getFromPosition(v, w, x, 2, 1);
-			if (topplePositionOfType36(v, w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+			if (topplePositionOfType36(v, w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 					greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 				changed = true;
 			}
-			// v | w | x | 2 | 1 | 175
+			// v | w | x | 2 | 1 | 210
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
@@ -1841,12 +1630,12 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 			greaterYNeighborValue = getFromPosition(v, w, x, 3, 1);
 			smallerYNeighborValue = getFromPosition(v, w, x, 1, 1);
 			greaterZNeighborValue = getFromPosition(v, w, x, 2, 2);
-			if (topplePositionOfType47(v, w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+			if (topplePositionOfType47(v, w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 					greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					newGrid)) {
 				changed = true;
 			}
-			// v | w | x | 2 | 2 | 176
+			// v | w | x | 2 | 2 | 211
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
@@ -1857,14 +1646,14 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 			greaterXNeighborValue = getFromPosition(v, w, xPlusOne, 2, 2);
 			smallerXNeighborValue = getFromPosition(v, w, xMinusOne, 2, 2);
 			greaterYNeighborValue = getFromPosition(v, w, x, 3, 2);
-			if (topplePositionOfType37(v, w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+			if (topplePositionOfType37(v, w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 					greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 				changed = true;
 			}
 			int y = 3, yMinusOne = 2, yPlusOne = 4;
-			for (; y != vMinusThree; yMinusOne = y, y = yPlusOne, yPlusOne++) {
-				// v | w | x | y | 0 | 174
+			for (; y != xMinusOne; yMinusOne = y, y = yPlusOne, yPlusOne++) {
+				// v | w | x | y | 0 | 209
 				currentValue = getFromPosition(v, w, x, y, 0);
 				greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, 0);
 				smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, 0);
@@ -1875,12 +1664,12 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 				greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 0);
 				smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 0);
 				greaterZNeighborValue = getFromPosition(v, w, x, y, 1);
-				if (topplePositionOfType36(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				if (topplePositionOfType36(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 					changed = true;
 				}
-				// v | w | x | y | 1 | 215
+				// v | w | x | y | 1 | 233
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1893,14 +1682,14 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 				greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 1);
 				smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 1);
 				greaterZNeighborValue = getFromPosition(v, w, x, y, 2);
-				if (topplePositionOfType47(v, w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				if (topplePositionOfType47(v, w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newGrid)) {
 					changed = true;
 				}
 				int z = 2, zPlusOne = 3;
 				for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
-					// v | w | x | y | z | 236
+					// v | w | x | y | z | 242
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
@@ -1913,13 +1702,13 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 					greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
 					smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
 					greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
-					if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 							newGrid)) {
 						changed = true;
 					}
 				}
-				// v | w | x | y | z | 216
+				// v | w | x | y | z | 234
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1932,13 +1721,13 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 				greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
 				smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
 				greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
-				if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 						greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newGrid)) {
 					changed = true;
 				}
 				z = y;
-				// v | w | x | y | z | 176
+				// v | w | x | y | z | 211
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1949,13 +1738,13 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 				greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
 				smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
 				greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
-				if (topplePositionOfType37(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				if (topplePositionOfType37(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 						greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 					changed = true;
 				}
 			}
-			// v | w | x | y | 0 | 121
+			// v | w | x | y | 0 | 169
 			currentValue = getFromPosition(v, w, x, y, 0);
 			greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, 0);
 			smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, 0);
@@ -1966,12 +1755,12 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 			greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 0);
 			smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 0);
 			greaterZNeighborValue = getFromPosition(v, w, x, y, 1);
-			if (topplePositionOfType36(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+			if (topplePositionOfType36(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 				changed = true;
 			}
-			// v | w | x | y | 1 | 177
+			// v | w | x | y | 1 | 212
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
@@ -1984,14 +1773,14 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 			greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 1);
 			smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 1);
 			greaterZNeighborValue = getFromPosition(v, w, x, y, 2);
-			if (topplePositionOfType47(v, w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+			if (topplePositionOfType47(v, w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					newGrid)) {
 				changed = true;
 			}
 			int z = 2, zPlusOne = 3;
-			for (; z != vMinusFour; z = zPlusOne, zPlusOne++) {
-				// v | w | x | y | z | 217
+			for (; z != xMinusTwo; z = zPlusOne, zPlusOne++) {
+				// v | w | x | y | z | 235
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -2004,13 +1793,13 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 				greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
 				smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
 				greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
-				if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newGrid)) {
 					changed = true;
 				}
 			}
-			// v | w | x | y | z | 178
+			// v | w | x | y | z | 213
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
@@ -2023,13 +1812,13 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 			greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
 			smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
 			greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
-			if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+			if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 					greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					newGrid)) {
 				changed = true;
 			}
-			z = vMinusThree;
-			// v | w | x | y | z | 123
+			z = xMinusOne;
+			// v | w | x | y | z | 171
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
@@ -2040,17 +1829,257 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 			greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
 			smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
 			greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
-			if (topplePositionOfType37(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
+			if (topplePositionOfType37(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
 					greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
 				changed = true;
 			}
-			if (toppleRangeOfType14(v, w, x, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+			if (toppleRangeOfType21(v, w, x, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
 				changed = true;
 			}
 		}
-		this.changed = changed;
+		if (toppleRangeOfType13(v, w, x, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
+		// v | w | x | 2 | 0 | 174
+		currentValue = getFromPosition(v, w, x, 2, 0);
+		greaterVNeighborValue = getFromPosition(vPlusOne, w, x, 2, 0);
+		smallerVNeighborValue = getFromPosition(vMinusOne, w, x, 2, 0);
+		greaterWNeighborValue = getFromPosition(v, wPlusOne, x, 2, 0);
+		smallerWNeighborValue = getFromPosition(v, wMinusOne, x, 2, 0);
+		greaterXNeighborValue = getFromPosition(v, w, xPlusOne, 2, 0);
+		smallerXNeighborValue = getFromPosition(v, w, xMinusOne, 2, 0);
+		greaterYNeighborValue = getFromPosition(v, w, x, 3, 0);
+		smallerYNeighborValue = getFromPosition(v, w, x, 1, 0);
+		greaterZNeighborValue = getFromPosition(v, w, x, 2, 1);
+		if (topplePositionOfType36(v, w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
+			changed = true;
+		}
+		// v | w | x | 2 | 1 | 175
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = getFromPosition(vPlusOne, w, x, 2, 1);
+		smallerVNeighborValue = getFromPosition(vMinusOne, w, x, 2, 1);
+		greaterWNeighborValue = getFromPosition(v, wPlusOne, x, 2, 1);
+		smallerWNeighborValue = getFromPosition(v, wMinusOne, x, 2, 1);
+		greaterXNeighborValue = getFromPosition(v, w, xPlusOne, 2, 1);
+		smallerXNeighborValue = getFromPosition(v, w, xMinusOne, 2, 1);
+		greaterYNeighborValue = getFromPosition(v, w, x, 3, 1);
+		smallerYNeighborValue = getFromPosition(v, w, x, 1, 1);
+		greaterZNeighborValue = getFromPosition(v, w, x, 2, 2);
+		if (topplePositionOfType47(v, w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				newGrid)) {
+			changed = true;
+		}
+		// v | w | x | 2 | 2 | 176
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = getFromPosition(vPlusOne, w, x, 2, 2);
+		smallerVNeighborValue = getFromPosition(vMinusOne, w, x, 2, 2);
+		greaterWNeighborValue = getFromPosition(v, wPlusOne, x, 2, 2);
+		smallerWNeighborValue = getFromPosition(v, wMinusOne, x, 2, 2);
+		greaterXNeighborValue = getFromPosition(v, w, xPlusOne, 2, 2);
+		smallerXNeighborValue = getFromPosition(v, w, xMinusOne, 2, 2);
+		greaterYNeighborValue = getFromPosition(v, w, x, 3, 2);
+		if (topplePositionOfType37(v, w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
+			changed = true;
+		}
+		int y = 3, yMinusOne = 2, yPlusOne = 4;
+		for (; y != vMinusThree; yMinusOne = y, y = yPlusOne, yPlusOne++) {
+			// v | w | x | y | 0 | 174
+			currentValue = getFromPosition(v, w, x, y, 0);
+			greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, 0);
+			smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, 0);
+			greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, 0);
+			smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, 0);
+			greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, 0);
+			smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, 0);
+			greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 0);
+			smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 0);
+			greaterZNeighborValue = getFromPosition(v, w, x, y, 1);
+			if (topplePositionOfType36(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
+				changed = true;
+			}
+			// v | w | x | y | 1 | 215
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, 1);
+			smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, 1);
+			greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, 1);
+			smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, 1);
+			greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, 1);
+			smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, 1);
+			greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 1);
+			smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 1);
+			greaterZNeighborValue = getFromPosition(v, w, x, y, 2);
+			if (topplePositionOfType47(v, w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					newGrid)) {
+				changed = true;
+			}
+			int z = 2, zPlusOne = 3;
+			for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
+				// v | w | x | y | z | 236
+				//reuse values obtained previously
+				smallerZNeighborValue = currentValue;
+				currentValue = greaterZNeighborValue;
+				greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
+				smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
+				greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
+				smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
+				greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
+				smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
+				greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
+				smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
+				greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
+				if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+						newGrid)) {
+					changed = true;
+				}
+			}
+			// v | w | x | y | z | 216
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
+			smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
+			greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
+			smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
+			greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
+			smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
+			greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
+			smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
+			greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
+			if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					newGrid)) {
+				changed = true;
+			}
+			z = y;
+			// v | w | x | y | z | 176
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
+			smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
+			greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
+			smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
+			greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
+			smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
+			greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
+			if (topplePositionOfType37(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
+				changed = true;
+			}
+		}
+		// v | w | x | y | 0 | 121
+		currentValue = getFromPosition(v, w, x, y, 0);
+		greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, 0);
+		smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, 0);
+		greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, 0);
+		smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, 0);
+		greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, 0);
+		smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, 0);
+		greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 0);
+		smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 0);
+		greaterZNeighborValue = getFromPosition(v, w, x, y, 1);
+		if (topplePositionOfType36(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
+			changed = true;
+		}
+		// v | w | x | y | 1 | 177
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, 1);
+		smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, 1);
+		greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, 1);
+		smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, 1);
+		greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, 1);
+		smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, 1);
+		greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, 1);
+		smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, 1);
+		greaterZNeighborValue = getFromPosition(v, w, x, y, 2);
+		if (topplePositionOfType47(v, w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				newGrid)) {
+			changed = true;
+		}
+		int z = 2, zPlusOne = 3;
+		for (; z != vMinusFour; z = zPlusOne, zPlusOne++) {
+			// v | w | x | y | z | 217
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
+			smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
+			greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
+			smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
+			greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
+			smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
+			greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
+			smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
+			greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
+			if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					newGrid)) {
+				changed = true;
+			}
+		}
+		// v | w | x | y | z | 178
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
+		smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
+		greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
+		smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
+		greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
+		smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
+		greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
+		smallerYNeighborValue = getFromPosition(v, w, x, yMinusOne, z);
+		greaterZNeighborValue = getFromPosition(v, w, x, y, zPlusOne);
+		if (topplePositionOfType47(v, w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				newGrid)) {
+			changed = true;
+		}
+		z = vMinusThree;
+		// v | w | x | y | z | 123
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = getFromPosition(vPlusOne, w, x, y, z);
+		smallerVNeighborValue = getFromPosition(vMinusOne, w, x, y, z);
+		greaterWNeighborValue = getFromPosition(v, wPlusOne, x, y, z);
+		smallerWNeighborValue = getFromPosition(v, wMinusOne, x, y, z);
+		greaterXNeighborValue = getFromPosition(v, w, xPlusOne, y, z);
+		smallerXNeighborValue = getFromPosition(v, w, xMinusOne, y, z);
+		greaterYNeighborValue = getFromPosition(v, w, x, yPlusOne, z);
+		if (topplePositionOfType37(v, w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
+				greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newGrid)) {
+			changed = true;
+		}
+		if (toppleRangeOfType14(v, w, x, newGrid, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
 		return changed;
 	}
 
@@ -2059,7 +2088,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType1(int v, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType1(int v, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int vPlusOne = v + 1, vMinusOne = v - 1;
 		boolean changed = false;
@@ -2126,7 +2155,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType2(int crd, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType2(int crd, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int crdMinusOne = crd - 1, crdPlusOne = crd + 1;
 		boolean changed = false;
@@ -2180,7 +2209,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType3(int crd, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType3(int crd, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int crdMinusOne = crd - 1, crdPlusOne = crd + 1;
 		boolean changed = false;
@@ -2221,7 +2250,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType4(int crd, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType4(int crd, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int crdMinusOne = crd - 1, crdPlusOne = crd + 1;
 		boolean changed = false;
@@ -2281,7 +2310,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType5(int v, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType5(int v, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		boolean changed = false;
 		int vPlusOne = v + 1, vMinusOne = v - 1;
@@ -2424,7 +2453,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType6(int v, int w, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType6(int v, int w, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		//int w = v - 1;
 		int wMinusOne = w - 1, wPlusOne = w + 1, vPlusOne = v + 1, vMinusOne = v - 1;
@@ -2488,7 +2517,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType7(int v, int crd, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType7(int v, int crd, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		//int crd = v - 1;
 		int crdMinusOne = crd - 1, crdPlusOne = crd + 1, vPlusOne = v + 1, vMinusOne = v - 1;
@@ -2537,7 +2566,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType8(int v, int crd, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType8(int v, int crd, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		//int v = crd + 1;
 		int crdMinusOne = crd - 1, crdPlusOne = crd + 1, vPlusOne = v + 1, vMinusOne = v - 1;
@@ -2696,7 +2725,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType9(int crd, int x, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType9(int crd, int x, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		//int x = crd - 1;
 		int crdMinusOne = x, crdPlusOne = crd + 1, xMinusOne = x - 1, xPlusOne = crd;
@@ -2745,7 +2774,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType10(int crd1, int crd2, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType10(int crd1, int crd2, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		//int crd2 = crd1 - 1;
 		int crd1PlusOne = crd1 + 1, crd2MinusOne = crd2 - 1, crd2PlusOne = crd1, crd1MinusOne = crd2, crd1MinusTwo = crd2MinusOne;
@@ -3008,7 +3037,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType11(int v, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType11(int v, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int vPlusOne = v + 1, vMinusOne = v - 1;
 		boolean changed = false;
@@ -3167,7 +3196,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType12(int v, int w, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType12(int v, int w, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		//int w = v - 1;
 		int wMinusOne = w - 1, wPlusOne = w + 1, vPlusOne = v + 1, vMinusOne = v - 1;
@@ -3271,7 +3300,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType13(int v, int w, int x, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType13(int v, int w, int x, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int wMinusOne = w - 1, wPlusOne = w + 1, xMinusOne = x - 1, xPlusOne = x + 1, vPlusOne = v + 1, vMinusOne = v - 1;
 		boolean changed = false;
@@ -3325,7 +3354,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType14(int v, int w, int crd, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType14(int v, int w, int crd, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		//int w = v - 1;
 		int wMinusOne = w - 1, wMinusTwo = w - 2, wPlusOne = w + 1, crdMinusOne = crd - 1, crdPlusOne = crd + 1, vPlusOne = v + 1, vMinusOne = v - 1;
@@ -4126,7 +4155,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType15(int v, int w, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType15(int v, int w, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int wMinusOne = w - 1, wPlusOne = w + 1, vPlusOne = v + 1, vMinusOne = v - 1;
 		boolean changed = false;
@@ -4227,7 +4256,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType16(int v, int w, int x, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType16(int v, int w, int x, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int wMinusOne = w - 1, wPlusOne = w + 1, xMinusOne = x - 1, xPlusOne = x + 1, vPlusOne = v + 1, vMinusOne = v - 1;
 		boolean changed = false;
@@ -4281,7 +4310,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType17(int v, int w, int crd, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType17(int v, int w, int crd, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		//int crd = w - 1;
 		int wMinusOne = w - 1, wMinusTwo = w - 2, wPlusOne = w + 1, crdMinusOne = crd - 1, crdPlusOne = crd + 1, vPlusOne = v + 1, vMinusOne = v - 1;
@@ -4578,7 +4607,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType18(int v, int w, int x, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType18(int v, int w, int x, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int wMinusOne = w - 1, wPlusOne = w + 1, xMinusOne = x - 1, xPlusOne = x + 1, vPlusOne = v + 1, vMinusOne = v - 1;
 		boolean changed = false;
@@ -4631,7 +4660,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType19(int v, int w, int crd, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType19(int v, int w, int crd, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int crdMinusOne = crd - 1, crdPlusOne = crd + 1, wMinusOne = w - 1, wPlusOne = w + 1, vPlusOne = v + 1, vMinusOne = v - 1;
 		boolean changed = false;
@@ -4715,7 +4744,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType20(int v, int w, int x, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType20(int v, int w, int x, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int wMinusOne = w - 1, wPlusOne = w + 1, xMinusOne = x - 1, xPlusOne = x + 1, vPlusOne = v + 1, vMinusOne = v - 1;
 		boolean changed = false;
@@ -4769,7 +4798,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType21(int v, int w, int crd, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType21(int v, int w, int crd, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int wMinusOne = w - 1, wPlusOne = w + 1, crdMinusOne = crd - 1, crdPlusOne = crd + 1, vPlusOne = v + 1, vMinusOne = v - 1;
 		boolean changed = false;
@@ -4855,7 +4884,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType22(int v, int w, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType22(int v, int w, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int wMinusOne = w - 1, wPlusOne = w + 1, vPlusOne = v + 1, vMinusOne = v - 1;
 		boolean changed = false;
@@ -4917,7 +4946,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType23(int v, int crd, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType23(int v, int crd, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int crdMinusOne = crd - 1, crdPlusOne = crd + 1, vPlusOne = v + 1, vMinusOne = v - 1;
 		boolean changed = false;
@@ -4964,7 +4993,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType24(int v, int crd, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType24(int v, int crd, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int crdMinusOne = crd - 1, crdPlusOne = crd + 1, vPlusOne = v + 1, vMinusOne = v - 1;
 		boolean changed = false;
@@ -5037,7 +5066,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType25(int v, int w, int x, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType25(int v, int w, int x, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int wMinusOne = w - 1, xPlusOne = x + 1, xMinusOne = x - 1, vPlusOne = v + 1;
 		boolean changed = false;
@@ -5084,7 +5113,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}
 
-	private boolean toppleRangeOfType26(int v, int w, int crd, RandomAccessFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private boolean toppleRangeOfType26(int v, int w, int crd, MappedLongArrayFile newGrid, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) throws IOException {
 		int crdMinusOne = crd - 1, crdPlusOne = crd + 1, wMinusOne = w - 1, vPlusOne = v + 1;
 		boolean changed = false;
@@ -5157,7 +5186,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return changed;
 	}		
 
-	private static boolean topplePositionOfType1(long currentValue, long gVValue, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType1(long currentValue, long gVValue, MappedLongArrayFile newGrid) throws IOException {
 		boolean toppled = false;
 		if (gVValue < currentValue) {
 			long toShare = currentValue - gVValue;
@@ -5175,7 +5204,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePositionOfType2(long currentValue, long gVValue, long sVValue, long gWValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType2(long currentValue, long gVValue, long sVValue, long gWValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -5220,7 +5249,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, 1, 0, 0, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType3(long currentValue, long gVValue, long sWValue, long gXValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType3(long currentValue, long gVValue, long sWValue, long gXValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -5265,7 +5294,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, 1, 1, 0, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType4(long currentValue, long gVValue, long sXValue, long gYValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType4(long currentValue, long gVValue, long sXValue, long gYValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -5310,7 +5339,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, 1, 1, 1, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType5(long currentValue, long gVValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType5(long currentValue, long gVValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -5355,7 +5384,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, 1, 1, 1, 1, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType6(long currentValue, long gVValue, long sZValue, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType6(long currentValue, long gVValue, long sZValue, MappedLongArrayFile newGrid) throws IOException {
 		boolean toppled = false;
 		if (sZValue < currentValue) {
 			if (gVValue < currentValue) {
@@ -5430,7 +5459,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePositionOfType7(int v, long currentValue, long gVValue, long sVValue, long gWValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType7(int v, long currentValue, long gVValue, long sVValue, long gWValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -5472,7 +5501,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, 0, 0, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType8(int v, int w, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType8(int v, int w, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -5543,7 +5572,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, w, 0, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType9(int v, int coord, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType9(int v, int coord, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -5614,7 +5643,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, coord, coord, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType10(int v, int coord, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType10(int v, int coord, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -5685,7 +5714,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, coord, coord, coord, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType11(int v, int coord, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType11(int v, int coord, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -5743,7 +5772,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, coord, coord, coord, coord, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType12(int coord, long currentValue, long gVValue, long sWValue, long gXValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType12(int coord, long currentValue, long gVValue, long sWValue, long gXValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -5785,7 +5814,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, 0, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType13(int coord, int x, long currentValue, long gVValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType13(int coord, int x, long currentValue, long gVValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -5856,7 +5885,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, x, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType14(int coord1, int coord2, long currentValue, long gVValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType14(int coord1, int coord2, long currentValue, long gVValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -5927,7 +5956,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord1, coord1, coord2, coord2, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType15(int coord1, int coord2, long currentValue, long gVValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType15(int coord1, int coord2, long currentValue, long gVValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -5985,7 +6014,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord1, coord1, coord2, coord2, coord2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType16(int coord, long currentValue, long gVValue, long sXValue, long gYValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType16(int coord, long currentValue, long gVValue, long sXValue, long gYValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -6027,7 +6056,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, coord, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType17(int coord, int y, long currentValue, long gVValue, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType17(int coord, int y, long currentValue, long gVValue, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -6098,7 +6127,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, coord, y, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType18(int coord1, int coord2, long currentValue, long gVValue, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType18(int coord1, int coord2, long currentValue, long gVValue, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -6156,7 +6185,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord1, coord1, coord1, coord2, coord2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType19(int coord, long currentValue, long gVValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType19(int coord, long currentValue, long gVValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -6198,7 +6227,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, coord, coord, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType20(int coord, int z, long currentValue, long gVValue, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType20(int coord, int z, long currentValue, long gVValue, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -6256,7 +6285,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, coord, coord, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType21(int coord, long currentValue, long gVValue, long sZValue, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType21(int coord, long currentValue, long gVValue, long sZValue, MappedLongArrayFile newGrid) throws IOException {
 		boolean toppled = false;
 		if (sZValue < currentValue) {
 			if (gVValue < currentValue) {
@@ -6333,7 +6362,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePositionOfType22(int v, int w, int x, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType22(int v, int w, int x, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -6430,7 +6459,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, w, x, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType23(int v, int w, int coord, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType23(int v, int w, int coord, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -6527,7 +6556,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, w, coord, coord, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType24(int v, int w, int coord, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType24(int v, int w, int coord, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -6611,7 +6640,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, w, coord, coord, coord, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType25(int v, int coord, int y, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType25(int v, int coord, int y, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -6708,7 +6737,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, coord, coord, y, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType26(int v, int coord1, int coord2, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType26(int v, int coord1, int coord2, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -6792,7 +6821,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, coord1, coord1, coord2, coord2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType27(int v, int coord, int z, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType27(int v, int coord, int z, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -6876,7 +6905,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, coord, coord, coord, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType28(int coord, int x, int y, long currentValue, long gVValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType28(int coord, int x, int y, long currentValue, long gVValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -6973,7 +7002,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, x, y, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType29(int coord1, int x, int coord2, long currentValue, long gVValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType29(int coord1, int x, int coord2, long currentValue, long gVValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -7057,7 +7086,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord1, coord1, x, coord2, coord2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType30(int coord1, int coord2, int z, long currentValue, long gVValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType30(int coord1, int coord2, int z, long currentValue, long gVValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -7141,7 +7170,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord1, coord1, coord2, coord2, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType31(int coord, int y, int z, long currentValue, long gVValue, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType31(int coord, int y, int z, long currentValue, long gVValue, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -7225,7 +7254,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, coord, y, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType32(int v, int w, long currentValue, long gVValue, long sVValue, long gWValue, long sWValue, long gXValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType32(int v, int w, long currentValue, long gVValue, long sVValue, long gWValue, long sWValue, long gXValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -7291,7 +7320,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, w, 0, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType33(int v, int coord, long currentValue, long gVValue, long sVValue, long gWValue, long sXValue, long gYValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType33(int v, int coord, long currentValue, long gVValue, long sVValue, long gWValue, long sXValue, long gYValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -7357,7 +7386,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, coord, coord, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType34(int v, int coord, long currentValue, long gVValue, long sVValue, long gWValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType34(int v, int coord, long currentValue, long gVValue, long sVValue, long gWValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -7423,7 +7452,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, coord, coord, coord, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType35(int v, int coord, long currentValue, long gVValue, long sVValue, long gWValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType35(int v, int coord, long currentValue, long gVValue, long sVValue, long gWValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -7477,7 +7506,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, coord, coord, coord, coord, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType36(int v, int w, int x, int y, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType36(int v, int w, int x, int y, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -7600,7 +7629,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, w, x, y, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType37(int v, int w, int x, int coord, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType37(int v, int w, int x, int coord, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -7710,7 +7739,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, w, x, coord, coord, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType38(int v, int w, int coord, int z, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType38(int v, int w, int coord, int z, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -7820,7 +7849,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, w, coord, coord, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType39(int v, int coord, int y, int z, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType39(int v, int coord, int y, int z, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -7930,7 +7959,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, coord, coord, y, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType40(int coord, int x, long currentValue, long gVValue, long sWValue, long gXValue, long sXValue, long gYValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType40(int coord, int x, long currentValue, long gVValue, long sWValue, long gXValue, long sXValue, long gYValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -7996,7 +8025,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, x, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType41(int coord1, int coord2, long currentValue, long gVValue, long sWValue, long gXValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType41(int coord1, int coord2, long currentValue, long gVValue, long sWValue, long gXValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -8062,7 +8091,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord1, coord1, coord2, coord2, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType42(int coord1, int coord2, long currentValue, long gVValue, long sWValue, long gXValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType42(int coord1, int coord2, long currentValue, long gVValue, long sWValue, long gXValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -8116,7 +8145,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord1, coord1, coord2, coord2, coord2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType43(int coord, int x, int y, int z, long currentValue, long gVValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType43(int coord, int x, int y, int z, long currentValue, long gVValue, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -8226,7 +8255,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, x, y, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType44(int coord, int y, long currentValue, long gVValue, long sXValue, long gYValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType44(int coord, int y, long currentValue, long gVValue, long sXValue, long gYValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -8292,7 +8321,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, coord, y, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType45(int coord1, int coord2, long currentValue, long gVValue, long sXValue, long gYValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType45(int coord1, int coord2, long currentValue, long gVValue, long sXValue, long gYValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -8346,7 +8375,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord1, coord1, coord1, coord2, coord2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType46(int coord, int z, long currentValue, long gVValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType46(int coord, int z, long currentValue, long gVValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -8400,7 +8429,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, coord, coord, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType47(int v, int w, int x, int y, int z, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType47(int v, int w, int x, int y, int z, long currentValue, long gVValue, long sVValue, int sVShareMultiplier, long gWValue, int gWShareMultiplier, long sWValue, int sWShareMultiplier, long gXValue, int gXShareMultiplier, long sXValue, int sXShareMultiplier, long gYValue, int gYShareMultiplier, long sYValue, int sYShareMultiplier, long gZValue, int gZShareMultiplier, long sZValue, int sZShareMultiplier, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, MappedLongArrayFile newGrid) throws IOException {
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
 			relevantAsymmetricNeighborValues[relevantNeighborCount] = gVValue;
@@ -8515,7 +8544,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, w, x, y, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantNeighborCount);
 	}
 
-	private static boolean topplePositionOfType48(int v, int w, int x, long currentValue, long gVValue, long sVValue, long gWValue, long sWValue, long gXValue, long sXValue, long gYValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType48(int v, int w, int x, long currentValue, long gVValue, long sVValue, long gWValue, long sWValue, long gXValue, long sXValue, long gYValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -8605,7 +8634,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, w, x, 0, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType49(int v, int w, int coord, long currentValue, long gVValue, long sVValue, long gWValue, long sWValue, long gXValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType49(int v, int w, int coord, long currentValue, long gVValue, long sVValue, long gWValue, long sWValue, long gXValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -8695,7 +8724,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, w, coord, coord, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType50(int v, int w, int coord, long currentValue, long gVValue, long sVValue, long gWValue, long sWValue, long gXValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType50(int v, int w, int coord, long currentValue, long gVValue, long sVValue, long gWValue, long sWValue, long gXValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -8773,7 +8802,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, w, coord, coord, coord, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType51(int v, int coord, int y, long currentValue, long gVValue, long sVValue, long gWValue, long sXValue, long gYValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType51(int v, int coord, int y, long currentValue, long gVValue, long sVValue, long gWValue, long sXValue, long gYValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -8863,7 +8892,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, coord, coord, y, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType52(int v, int coord1, int coord2, long currentValue, long gVValue, long sVValue, long gWValue, long sXValue, long gYValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType52(int v, int coord1, int coord2, long currentValue, long gVValue, long sVValue, long gWValue, long sXValue, long gYValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -8941,7 +8970,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, coord1, coord1, coord2, coord2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType53(int v, int coord, int z, long currentValue, long gVValue, long sVValue, long gWValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType53(int v, int coord, int z, long currentValue, long gVValue, long sVValue, long gWValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -9019,7 +9048,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, coord, coord, coord, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType54(int coord, int x, int y, long currentValue, long gVValue, long sWValue, long gXValue, long sXValue, long gYValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType54(int coord, int x, int y, long currentValue, long gVValue, long sWValue, long gXValue, long sXValue, long gYValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -9109,7 +9138,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, x, y, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType55(int coord1, int x, int coord2, long currentValue, long gVValue, long sWValue, long gXValue, long sXValue, long gYValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType55(int coord1, int x, int coord2, long currentValue, long gVValue, long sWValue, long gXValue, long sXValue, long gYValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -9187,7 +9216,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord1, coord1, x, coord2, coord2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType56(int coord1, int coord2, int z, long currentValue, long gVValue, long sWValue, long gXValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType56(int coord1, int coord2, int z, long currentValue, long gVValue, long sWValue, long gXValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -9265,7 +9294,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord1, coord1, coord2, coord2, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType57(int coord, int y, int z, long currentValue, long gVValue, long sXValue, long gYValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType57(int coord, int y, int z, long currentValue, long gVValue, long sXValue, long gYValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -9343,7 +9372,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, coord, y, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType58(int v, int w, int x, int y, long currentValue, long gVValue, long sVValue, long gWValue, long sWValue, long gXValue, long sXValue, long gYValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType58(int v, int w, int x, int y, long currentValue, long gVValue, long sVValue, long gWValue, long sWValue, long gXValue, long sXValue, long gYValue, long sYValue, long gZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -9457,7 +9486,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, w, x, y, 0, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType59(int v, int w, int x, int coord, long currentValue, long gVValue, long sVValue, long gWValue, long sWValue, long gXValue, long sXValue, long gYValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType59(int v, int w, int x, int coord, long currentValue, long gVValue, long sVValue, long gWValue, long sWValue, long gXValue, long sXValue, long gYValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -9559,7 +9588,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, w, x, coord, coord, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType60(int v, int w, int coord, int z, long currentValue, long gVValue, long sVValue, long gWValue, long sWValue, long gXValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType60(int v, int w, int coord, int z, long currentValue, long gVValue, long sVValue, long gWValue, long sWValue, long gXValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -9661,7 +9690,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, w, coord, coord, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType61(int v, int coord, int y, int z, long currentValue, long gVValue, long sVValue, long gWValue, long sXValue, long gYValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType61(int v, int coord, int y, int z, long currentValue, long gVValue, long sVValue, long gWValue, long sXValue, long gYValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -9763,7 +9792,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, coord, coord, y, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType62(int coord, int x, int y, int z, long currentValue, long gVValue, long sWValue, long gXValue, long sXValue, long gYValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType62(int coord, int x, int y, int z, long currentValue, long gVValue, long sWValue, long gXValue, long sXValue, long gYValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, MappedLongArrayFile newGrid) throws IOException {
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
@@ -9865,7 +9894,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, coord, coord, x, y, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantNeighborCount, relevantAsymmetricNeighborCount);
 	}
 
-	private static boolean topplePositionOfType63(int v, int w, int x, int y, int z, long currentValue, long gVValue, long sVValue, long gWValue, long sWValue, long gXValue, long sXValue, long gYValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, RandomAccessFile newGrid) throws IOException {
+	private static boolean topplePositionOfType63(int v, int w, int x, int y, int z, long currentValue, long gVValue, long sVValue, long gWValue, long sWValue, long gXValue, long sXValue, long gYValue, long sYValue, long gZValue, long sZValue, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, MappedLongArrayFile newGrid) throws IOException {
 		int relevantNeighborCount = 0;
 		if (gVValue < currentValue) {
 			relevantAsymmetricNeighborValues[relevantNeighborCount] = gVValue;
@@ -9970,7 +9999,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return topplePosition(newGrid, currentValue, v, w, x, y, z, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantNeighborCount);
 	}
 
-	private static boolean topplePosition(RandomAccessFile newGrid, long value, int v, int w, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(MappedLongArrayFile newGrid, long value, int v, int w, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
 			int[][] neighborCoords, int neighborCount) throws IOException {
 		boolean toppled = false;
 		switch (neighborCount) {
@@ -10049,7 +10078,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePositionSortedNeighbors(RandomAccessFile newGrid, long value, int v, int w, int x, int y, int z, 
+	private static boolean topplePositionSortedNeighbors(MappedLongArrayFile newGrid, long value, int v, int w, int x, int y, int z, 
 			long[] neighborValues, int[] sortedNeighborsIndexes, int[][] neighborCoords, int neighborCount) throws IOException {
 		boolean toppled = false;
 		int shareCount = neighborCount + 1;
@@ -10087,7 +10116,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePosition(RandomAccessFile newGrid, long value, int v, int w, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(MappedLongArrayFile newGrid, long value, int v, int w, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborShareMultipliers, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) throws IOException {
 		boolean toppled = false;
@@ -10172,7 +10201,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePositionSortedNeighbors(RandomAccessFile newGrid, long value, int v, int w, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePositionSortedNeighbors(MappedLongArrayFile newGrid, long value, int v, int w, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborShareMultipliers, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) throws IOException {
 		boolean toppled = false;
@@ -10211,7 +10240,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePosition(RandomAccessFile newGrid, long value, int v, int w, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(MappedLongArrayFile newGrid, long value, int v, int w, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
 			int[][] neighborCoords, int[] neighborShareMultipliers, int neighborCount) throws IOException {
 		boolean toppled = false;
 		switch (neighborCount) {
@@ -10291,7 +10320,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePositionSortedNeighbors(RandomAccessFile newGrid, long value, int v, int w, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePositionSortedNeighbors(MappedLongArrayFile newGrid, long value, int v, int w, int x, int y, int z, long[] neighborValues, int[] sortedNeighborsIndexes,
 			int[][] neighborCoords, int[] neighborShareMultipliers, int neighborCount) throws IOException {
 		boolean toppled = false;
 		int shareCount = neighborCount + 1;
@@ -10329,7 +10358,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePosition(RandomAccessFile newGrid, long value, int v, int w, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
+	private static boolean topplePosition(MappedLongArrayFile newGrid, long value, int v, int w, int x, int y, int z, long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes,
 			int[][] asymmetricNeighborCoords, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) throws IOException {
 		boolean toppled = false;
@@ -10413,7 +10442,7 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 		return toppled;
 	}
 
-	private static boolean topplePositionSortedNeighbors(RandomAccessFile newGrid, long value, int v, int w, int x, int y, int z, 
+	private static boolean topplePositionSortedNeighbors(MappedLongArrayFile newGrid, long value, int v, int w, int x, int y, int z, 
 			long[] asymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] asymmetricNeighborCoords, int[] asymmetricNeighborSymmetryCounts, 
 			int neighborCount, int asymmetricNeighborCount) throws IOException {
 		boolean toppled = false;
@@ -10458,23 +10487,17 @@ public class FileBackedLongAether5D extends FileBackedModel implements Isotropic
 				+ Utils.getAnisotropic4DGridPositionCount(w)
 				+ Utils.getAnisotropic3DGridPositionCount(x)
 				+ ((y*y-y)/2+y)
-				+ z)
-				*POSITION_BYTES;
-		grid.seek(pos);
-		return grid.readLong();
+				+ z);
+		return grid.get(pos);
 	}
 	
-	private static void addToPosition(RandomAccessFile grid, int v, int w, int x, int y, int z, long value) throws IOException {
+	private static void addToPosition(MappedLongArrayFile grid, int v, int w, int x, int y, int z, long value) throws IOException {
 		long pos = (Utils.getAnisotropic5DGridPositionCount(v)
 				+ Utils.getAnisotropic4DGridPositionCount(w)
 				+ Utils.getAnisotropic3DGridPositionCount(x)
 				+ ((y*y-y)/2+y)
-				+ z)
-				*POSITION_BYTES;
-		grid.seek(pos);
-		long previousValue = grid.readLong();
-		grid.seek(pos);
-		grid.writeLong(previousValue + value);
+				+ z);
+		grid.add(pos, value);
 	}
 
 	@Override
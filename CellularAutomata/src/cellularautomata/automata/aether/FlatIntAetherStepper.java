@@ -0,0 +1,201 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.automata.aether;
+
+import cellularautomata.arrays.AnisotropicPagedIntArray;
+import cellularautomata.automata.aether.AetherNeighborhoodTypes.Neighborhood;
+
+/**
+ * <p>Computes the steps of the <a href="https://github.com/JaumeRibas/Aether2DImgMaker/wiki/Aether-Cellular-Automaton-Definition">Aether</a> cellular automaton 
+ * on the asymmetric section of a grid of any dimension stored in an {@link AnisotropicPagedIntArray}.</p>
+ * <p>The steps are computed in place, slice by slice along the first axis. Before a slice is reused for the new values, its old values are moved 
+ * to a window of three reusable slices, so the memory needed is close to that of a single grid.</p>
+ * <p>The neighbors of every position, with their symmetry counts and share multipliers, are taken from the table of {@link AetherNeighborhoodTypes} of the grid's dimension.</p>
+ * 
+ * @author Jaume
+ *
+ */
+public class FlatIntAetherStepper {
+	
+	private final int dimension;
+	private AnisotropicPagedIntArray grid;
+	private int maxCoordinate;
+	private final AetherNeighborhoodTypes neighborhoodTypes;
+	
+	/** The old values of the slices x - 1, x and x + 1, at the indexes x%3 */
+	private final int[][] oldSliceWindow = new int[3][];
+	
+	private final int[] coordinates;
+	private final int[] neighborValues;
+	private final long[] neighborInternalIndexes;
+	private final int[] neighborSymmetryCounts;// the number of directions of the current position that lead to the neighbor
+	private final int[] neighborShareMultipliers;// the number of directions of the neighbor that lead to the current position or to a symmetric one
+	private final int[] neighborShares;
+	private final int[] sortedNeighborsIndexes;
+	
+	/**
+	 * Creates a stepper of the given grid.
+	 * 
+	 * @param grid the grid, holding the asymmetric section. It will be resized as needed.
+	 * @param maxCoordinate the maximum coordinate of a position with a value different from zero
+	 */
+	public FlatIntAetherStepper(AnisotropicPagedIntArray grid, int maxCoordinate) {
+		this.grid = grid;
+		this.maxCoordinate = maxCoordinate;
+		dimension = grid.getDimension();
+		neighborhoodTypes = new AetherNeighborhoodTypes(dimension);
+		coordinates = new int[dimension];
+		int maxNeighborCount = 2*dimension;
+		neighborValues = new int[maxNeighborCount];
+		neighborInternalIndexes = new long[maxNeighborCount];
+		neighborSymmetryCounts = new int[maxNeighborCount];
+		neighborShareMultipliers = new int[maxNeighborCount];
+		neighborShares = new int[maxNeighborCount];
+		sortedNeighborsIndexes = new int[maxNeighborCount];
+	}
+	
+	/**
+	 * Returns the grid. Since it can be replaced by a bigger one on every step, this method needs to be called again after every step.
+	 * 
+	 * @return the grid
+	 */
+	public AnisotropicPagedIntArray getGrid() {
+		return grid;
+	}
+	
+	/**
+	 * Returns the maximum coordinate that a position with a value different from zero can have.
+	 * 
+	 * @return the maximum coordinate
+	 */
+	public int getMaxCoordinate() {
+		return maxCoordinate;
+	}
+	
+	/**
+	 * Computes the next step.
+	 * 
+	 * @return whether or not any position toppled
+	 */
+	public boolean nextStep() {
+		int lastX = maxCoordinate + 1;
+		int side = lastX + 2;
+		if (grid.getSide() < side) {
+			grid = grid.resize(side);
+		}
+		int maxSliceSize = getSliceSize(lastX + 1);
+		if (oldSliceWindow[0] == null || oldSliceWindow[0].length < maxSliceSize) {
+			int windowSliceSize = maxSliceSize + maxSliceSize/8 + 1;// leave room for the grid to grow
+			for (int i = 0; i < oldSliceWindow.length; i++) {
+				oldSliceWindow[i] = new int[windowSliceSize];
+			}
+		}
+		moveSliceToWindow(0);
+		moveSliceToWindow(1);
+		boolean changed = false;
+		boolean maxCoordinateReached = false;
+		int dimensionMinusOne = dimension - 1;
+		for (int x = 0; x <= lastX; x++) {
+			if (x > 0) {
+				moveSliceToWindow(x + 1);
+			}
+			long internalIndex = grid.getOffset(0, x);
+			int sliceIndex = 0;
+			coordinates[0] = x;
+			for (int axis = 1; axis < dimension; axis++) {
+				coordinates[axis] = 0;
+			}
+			while (true) {
+				if (topplePosition(internalIndex, sliceIndex)) {
+					changed = true;
+					if (x >= maxCoordinate) {
+						maxCoordinateReached = true;
+					}
+				}
+				internalIndex++;
+				sliceIndex++;
+				//move to the next position of the slice
+				int axis = dimensionMinusOne;
+				while (axis > 0 && coordinates[axis] == coordinates[axis - 1]) {
+					coordinates[axis] = 0;
+					axis--;
+				}
+				if (axis == 0) {
+					break;
+				}
+				coordinates[axis]++;
+			}
+		}
+		if (maxCoordinateReached) {
+			maxCoordinate++;
+		}
+		return changed;
+	}
+	
+	private int getSliceSize(int x) {
+		return (int) (grid.getOffset(0, x + 1) - grid.getOffset(0, x));
+	}
+	
+	private void moveSliceToWindow(int x) {
+		grid.moveValues(grid.getOffset(0, x), oldSliceWindow[x%3], getSliceSize(x));
+	}
+	
+	private int getOldValue(int x, long internalIndex) {
+		return oldSliceWindow[x%3][(int) (internalIndex - grid.getOffset(0, x))];
+	}
+	
+	private boolean topplePosition(long internalIndex, int sliceIndex) {
+		int x = coordinates[0];
+		int[] oldSlice = oldSliceWindow[x%3];
+		int value = oldSlice[sliceIndex];
+		//gather the neighbors with a smaller value, going through the precomputed neighborhood of the position's type
+		Neighborhood neighborhood = neighborhoodTypes.get(neighborhoodTypes.getTypeIndex(coordinates));
+		int neighborCount = 0;
+		for (int i = 0; i < neighborhood.neighborCount; i++) {
+			int axis = neighborhood.axes[i];
+			int coordinate = coordinates[axis];
+			int neighborValue;
+			long neighborInternalIndex;
+			if (neighborhood.isGreater[i]) {
+				long offsetDifference = grid.getOffset(axis, coordinate + 1) - grid.getOffset(axis, coordinate);
+				neighborInternalIndex = internalIndex + offsetDifference;
+				neighborValue = axis == 0 ? getOldValue(x + 1, neighborInternalIndex) : oldSlice[sliceIndex + (int) offsetDifference];
+			} else {
+				long offsetDifference = grid.getOffset(axis, coordinate - 1) - grid.getOffset(axis, coordinate);
+				neighborInternalIndex = internalIndex + offsetDifference;
+				neighborValue = axis == 0 ? getOldValue(x - 1, neighborInternalIndex) : oldSlice[sliceIndex + (int) offsetDifference];
+			}
+			if (neighborValue < value) {
+				neighborValues[neighborCount] = neighborValue;
+				neighborInternalIndexes[neighborCount] = neighborInternalIndex;
+				neighborSymmetryCounts[neighborCount] = neighborhood.symmetryCounts[i];
+				neighborShareMultipliers[neighborCount] = neighborhood.shareMultipliers[i];
+				neighborCount++;
+			}
+		}
+		int newValue = AetherUtils.splitValueAmongSmallerNeighbors(value, neighborValues, neighborSymmetryCounts, neighborCount, sortedNeighborsIndexes, neighborShares);
+		grid.add(internalIndex, newValue);
+		for (int i = 0; i < neighborCount; i++) {
+			int share = neighborShares[i];
+			if (share != 0) {
+				grid.add(neighborInternalIndexes[i], share*neighborShareMultipliers[i]);
+			}
+		}
+		return newValue != value;
+	}
+	
+}
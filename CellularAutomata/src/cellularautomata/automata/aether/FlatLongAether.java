@@ -0,0 +1,183 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.automata.aether;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import cellularautomata.Coordinates;
+import cellularautomata.Utils;
+import cellularautomata.arrays.AnisotropicLongArray;
+import cellularautomata.model.IsotropicHypercubicLongModelAsymmetricSection;
+import cellularautomata.model.SerializableModelData;
+import cellularautomata.numbers.BigInt;
+
+/**
+ * Implementation of the <a href="https://github.com/JaumeRibas/Aether2DImgMaker/wiki/Aether-Cellular-Automaton-Definition">Aether</a> cellular automaton in any dimension with a single source initial configuration, 
+ * storing the asymmetric section of the grid in a single flat {@link AnisotropicLongArray} and computing the steps in place with a {@link FlatLongAetherStepper}.
+ * It is meant for the dimensions that don't have a specific implementation.
+ * 
+ * @author Jaume
+ *
+ */
+public class FlatLongAether implements IsotropicHypercubicLongModelAsymmetricSection {
+
+	public static final long MAX_INITIAL_VALUE = Long.MAX_VALUE;
+	public static final int MAX_GRID_DIMENSION = AetherNeighborhoodTypes.MAX_GRID_DIMENSION;
+
+	private final int gridDimension;
+	private final long initialValue;
+	private long step;
+	private Boolean changed = null;
+	private AnisotropicLongArray grid;
+	private FlatLongAetherStepper stepper;
+
+	/**
+	 * Returns the minimum initial value allowed for the given grid dimension, to prevent overflow of long type.
+	 * 
+	 * @param gridDimension the dimension of the grid
+	 * @return the minimum initial value
+	 */
+	public static long getMinInitialValue(int gridDimension) {
+		return AetherUtils.getMinAllowedSingleSourceValue(gridDimension, BigInt.valueOf(MAX_INITIAL_VALUE)).longValue();
+	}
+
+	/**
+	 * Creates an instance with the given grid dimension and initial value
+	 * 
+	 * @param gridDimension the dimension of the grid, between one and {@link #MAX_GRID_DIMENSION}
+	 * @param initialValue the value at the origin at step 0
+	 */
+	public FlatLongAether(int gridDimension, long initialValue) {
+		if (gridDimension < 1 || gridDimension > MAX_GRID_DIMENSION) {
+			throw new IllegalArgumentException(String.format("Grid dimension must be between 1 and %d.", MAX_GRID_DIMENSION));
+		}
+		long minInitialValue = getMinInitialValue(gridDimension);
+		if (initialValue < minInitialValue) {//to prevent overflow of long type
+			throw new IllegalArgumentException(String.format("Initial value cannot be smaller than %,d for dimension %,d. Use a greater initial value or a different implementation.", minInitialValue, gridDimension));
+		}
+		this.gridDimension = gridDimension;
+		this.initialValue = initialValue;
+		grid = new AnisotropicLongArray(gridDimension, 3);
+		grid.set(new Coordinates(new int[gridDimension]), initialValue);
+		stepper = new FlatLongAetherStepper(grid, 0);
+		step = 0;
+	}
+
+	/**
+	 * Creates an instance restoring a backup
+	 * 
+	 * @param backupPath the path to the backup file to restore.
+	 * @throws IOException 
+	 * @throws ClassNotFoundException 
+	 * @throws FileNotFoundException 
+	 */
+	public FlatLongAether(String backupPath) throws FileNotFoundException, ClassNotFoundException, IOException {
+		SerializableModelData data = (SerializableModelData) Utils.deserializeFromFile(backupPath);
+		data = SerializableModelData.updateDataFormat(data);
+		if (!SerializableModelData.Models.AETHER.equals(data.get(SerializableModelData.MODEL))) {
+			throw new IllegalArgumentException("The backup file contains a different model.");
+		}
+		if (!SerializableModelData.InitialConfigurationTypes.SINGLE_SOURCE_AT_ORIGIN.equals(data.get(SerializableModelData.INITIAL_CONFIGURATION_TYPE))
+				|| !SerializableModelData.InitialConfigurationImplementationTypes.LONG.equals(data.get(SerializableModelData.INITIAL_CONFIGURATION_IMPLEMENTATION_TYPE))
+				|| !SerializableModelData.GridTypes.INFINITE_REGULAR.equals(data.get(SerializableModelData.GRID_TYPE))
+				|| !data.contains(SerializableModelData.GRID_DIMENSION)
+				|| !SerializableModelData.GridImplementationTypes.ANYSOTROPIC_LONG_ARRAY_CLASS_INSTANCE.equals(data.get(SerializableModelData.GRID_IMPLEMENTATION_TYPE))
+				|| !SerializableModelData.CoordinateBoundsImplementationTypes.MAX_COORDINATE_INTEGER.equals(data.get(SerializableModelData.COORDINATE_BOUNDS_IMPLEMENTATION_TYPE))
+				|| !data.contains(SerializableModelData.CONFIGURATION_CHANGED_FROM_PREVIOUS_STEP)) {
+			throw new IllegalArgumentException("The backup file's configuration is not compatible with this class.");
+		}
+		gridDimension = (int) data.get(SerializableModelData.GRID_DIMENSION);
+		initialValue = (long) data.get(SerializableModelData.INITIAL_CONFIGURATION);
+		grid = (AnisotropicLongArray) data.get(SerializableModelData.GRID);
+		stepper = new FlatLongAetherStepper(grid, (int) data.get(SerializableModelData.COORDINATE_BOUNDS));
+		step = (long) data.get(SerializableModelData.STEP);
+		changed = (Boolean) data.get(SerializableModelData.CONFIGURATION_CHANGED_FROM_PREVIOUS_STEP);
+	}
+
+	@Override
+	public int getGridDimension() {
+		return gridDimension;
+	}
+
+	@Override
+	public long getFromPosition(Coordinates coordinates) {
+		return grid.get(coordinates);
+	}
+
+	@Override
+	public Boolean nextStep() {
+		boolean changed = stepper.nextStep();
+		grid = stepper.getGrid();
+		step++;
+		this.changed = changed;
+		return changed;
+	}
+
+	@Override
+	public Boolean isChanged() {
+		return changed;
+	}
+
+	@Override
+	public int getSize() {
+		return stepper.getMaxCoordinate();
+	}
+
+	@Override
+	public long getStep() {
+		return step;
+	}
+
+	/**
+	 * Returns the initial value
+	 * 
+	 * @return the value at the origin at step 0
+	 */
+	public long getInitialValue() {
+		return initialValue;
+	}
+
+	@Override
+	public void backUp(String backupPath, String backupName) throws FileNotFoundException, IOException {
+		SerializableModelData data = new SerializableModelData();
+		data.put(SerializableModelData.MODEL, SerializableModelData.Models.AETHER);
+		data.put(SerializableModelData.INITIAL_CONFIGURATION, initialValue);
+		data.put(SerializableModelData.INITIAL_CONFIGURATION_TYPE, SerializableModelData.InitialConfigurationTypes.SINGLE_SOURCE_AT_ORIGIN);
+		data.put(SerializableModelData.INITIAL_CONFIGURATION_IMPLEMENTATION_TYPE, SerializableModelData.InitialConfigurationImplementationTypes.LONG);
+		data.put(SerializableModelData.GRID, grid);
+		data.put(SerializableModelData.GRID_TYPE, SerializableModelData.GridTypes.INFINITE_REGULAR);
+		data.put(SerializableModelData.GRID_DIMENSION, gridDimension);
+		data.put(SerializableModelData.GRID_IMPLEMENTATION_TYPE, SerializableModelData.GridImplementationTypes.ANYSOTROPIC_LONG_ARRAY_CLASS_INSTANCE);
+		data.put(SerializableModelData.COORDINATE_BOUNDS, stepper.getMaxCoordinate());
+		data.put(SerializableModelData.COORDINATE_BOUNDS_IMPLEMENTATION_TYPE, SerializableModelData.CoordinateBoundsImplementationTypes.MAX_COORDINATE_INTEGER);
+		data.put(SerializableModelData.STEP, step);
+		data.put(SerializableModelData.CONFIGURATION_CHANGED_FROM_PREVIOUS_STEP, changed);
+		Utils.serializeToFile(data, backupPath, backupName);
+	}
+
+	@Override
+	public String getName() {
+		return "Aether";
+	}
+
+	@Override
+	public String getWholeGridSubfolderPath() {
+		return getName() + "/" + gridDimension + "D/" + initialValue;
+	}
+
+}
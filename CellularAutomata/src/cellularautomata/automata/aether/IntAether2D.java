@@ -18,10 +18,16 @@ package cellularautomata.automata.aether;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.Arrays;
 
 import cellularautomata.Utils;
+import cellularautomata.model.InPlaceSteppingModel;
 import cellularautomata.model.SerializableModelData;
+import cellularautomata.model.SnapshotBackupModel;
+import cellularautomata.model.StepStatistics;
+import cellularautomata.model.StepStatisticsModel;
 import cellularautomata.model2d.IsotropicSquareIntArrayModelAsymmetricSection;
+import cellularautomata.numbers.BigInt;
 
 /**
  * Implementation of the <a href="https://github.com/JaumeRibas/Aether2DImgMaker/wiki/Aether-Cellular-Automaton-Definition">Aether</a> cellular automaton in 2D with a single source initial configuration
@@ -29,7 +35,7 @@ import cellularautomata.model2d.IsotropicSquareIntArrayModelAsymmetricSection;
  * @author Jaume
  *
  */
-public class IntAether2D extends IsotropicSquareIntArrayModelAsymmetricSection {
+public class IntAether2D extends IsotropicSquareIntArrayModelAsymmetricSection implements InPlaceSteppingModel, SnapshotBackupModel, StepStatisticsModel {
 	
 	public static final int MAX_INITIAL_VALUE = Integer.MAX_VALUE;
 	public static final int MIN_INITIAL_VALUE = -1431655765;
@@ -38,6 +44,10 @@ public class IntAether2D extends IsotropicSquareIntArrayModelAsymmetricSection {
 	private long step;
 	private int maxX;
 	private Boolean changed = null;
+	private int[][] oldSliceWindow = null;
+	private StepStatistics stepStatistics = null;
+	private StepStatistics newStepStatistics = null;
+	private int statisticsSliceCount;
 
 	/**
 	 * Creates an instance with the given initial value.
@@ -87,13 +97,15 @@ public class IntAether2D extends IsotropicSquareIntArrayModelAsymmetricSection {
 	
 	@Override
 	public Boolean nextStep() {
-		int[][] newGrid = new int[maxX + 3][];
+		if (stepStatistics != null) {
+			newStepStatistics = new StepStatistics(step + 1, true);
+			statisticsSliceCount = 0;
+		}
+		int[][] newGrid = oldSliceWindow == null ? new int[maxX + 3][] : getInPlaceNewGrid();
 		boolean changed = false;
 		int currentValue, greaterXNeighborValue;
-		int[] smallerXSlice = null, currentXSlice = grid[0], greaterXSlice = grid[1];
-		int[] newSmallerXSlice = null, newCurrentXSlice = new int[1], newGreaterXSlice = new int[2];// build new grid progressively to save memory 
-		newGrid[0] = newCurrentXSlice;
-		newGrid[1] = newGreaterXSlice;
+		int[] smallerXSlice = null, currentXSlice = getOldSlice(0), greaterXSlice = getOldSlice(1);
+		int[] newSmallerXSlice = null, newCurrentXSlice = getNewSlice(newGrid, 0), newGreaterXSlice = getNewSlice(newGrid, 1);// build new grid progressively to save memory 
 		// x = 0, y = 0
 		currentValue = currentXSlice[0];
 		greaterXNeighborValue = greaterXSlice[0];
@@ -113,11 +125,10 @@ public class IntAether2D extends IsotropicSquareIntArrayModelAsymmetricSection {
 		// x = 1, y = 0
 		// smallerXSlice = currentXSlice; // not needed here
 		currentXSlice = greaterXSlice;
-		greaterXSlice = grid[2];
+		greaterXSlice = getOldSlice(2);
 		newSmallerXSlice = newCurrentXSlice;
 		newCurrentXSlice = newGreaterXSlice;
-		newGreaterXSlice = new int[3];
-		newGrid[2] = newGreaterXSlice;
+		newGreaterXSlice = getNewSlice(newGrid, 2);
 		int[][] newXSlices = new int[][] { newSmallerXSlice, newCurrentXSlice, newGreaterXSlice};
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
@@ -241,15 +252,19 @@ public class IntAether2D extends IsotropicSquareIntArrayModelAsymmetricSection {
 			// gx >= current <= sy
 			newCurrentXSlice[1] += currentValue;
 		}
-		grid[0] = null;// free old grid progressively to save memory
+		if (newStepStatistics != null) {
+			addSliceStatistics(newGrid, 0);
+		}
+		if (oldSliceWindow == null) {
+			grid[0] = null;// free old grid progressively to save memory
+		}
 		// x = 2, y = 0
 		smallerXSlice = currentXSlice;
 		currentXSlice = greaterXSlice;
-		greaterXSlice = grid[3];
+		greaterXSlice = getOldSlice(3);
 		newSmallerXSlice = newCurrentXSlice;
 		newCurrentXSlice = newGreaterXSlice;
-		newGreaterXSlice = new int[4];		
-		newGrid[3] = newGreaterXSlice;
+		newGreaterXSlice = getNewSlice(newGrid, 3);		
 		newXSlices[0] = newSmallerXSlice;
 		newXSlices[1] = newCurrentXSlice;
 		newXSlices[2] = newGreaterXSlice;
@@ -411,7 +426,12 @@ public class IntAether2D extends IsotropicSquareIntArrayModelAsymmetricSection {
 			// gx >= current <= sy
 			newCurrentXSlice[2] += currentValue;
 		}
-		grid[1] = null;
+		if (newStepStatistics != null) {
+			addSliceStatistics(newGrid, 1);
+		}
+		if (oldSliceWindow == null) {
+			grid[1] = null;
+		}
 		// 3 <= x < edge - 2
 		int edge = grid.length - 1;
 		int edgeMinusTwo = edge - 2;
@@ -433,6 +453,11 @@ public class IntAether2D extends IsotropicSquareIntArrayModelAsymmetricSection {
 		if (newGrid.length > grid.length) {
 			newGrid[grid.length] = new int[newGrid.length];
 		}
+		if (newStepStatistics != null) {
+			addRemainingSlicesStatistics(newGrid);
+			stepStatistics = newStepStatistics;
+			newStepStatistics = null;
+		}
 		grid = newGrid;
 		step++;
 		this.changed = changed;
@@ -444,6 +469,37 @@ public class IntAether2D extends IsotropicSquareIntArrayModelAsymmetricSection {
 		return changed;
 	}
 	
+	private int[][] getInPlaceNewGrid() {
+		if (oldSliceWindow[0] == null || oldSliceWindow[0].length < grid.length) {
+			int windowSide = grid.length + grid.length/8 + 1;// leave room for the grid to grow
+			for (int i = 0; i < oldSliceWindow.length; i++) {
+				oldSliceWindow[i] = new int[windowSide];
+			}
+		}
+		int newSide = maxX + 3;
+		return grid.length < newSide ? Arrays.copyOf(grid, newSide) : grid;
+	}
+	
+	private int[] getOldSlice(int x) {
+		int[] slice = grid[x];
+		if (oldSliceWindow != null) {
+			// keep the old values of the slice in the window and clear it so that the new values can be added to it
+			int[] oldSlice = oldSliceWindow[x%3];
+			Utils.moveValues(slice, oldSlice);
+			return oldSlice;
+		}
+		return slice;
+	}
+	
+	private int[] getNewSlice(int[][] newGrid, int x) {
+		int[] slice = newGrid[x];
+		if (slice == null) {
+			slice = new int[x + 1];
+			newGrid[x] = slice;
+		}
+		return slice;
+	}
+	
 	private boolean toppleRangeBeyondX2(int[][] xSlices, int[][] newXSlices, int[][] newGrid, int minX, int maxX, 
 			int[] relevantAsymmetricNeighborValues, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, 
 			int[] relevantAsymmetricNeighborSymmetryCounts, int[] sortedNeighborsIndexes) {
@@ -455,11 +511,10 @@ public class IntAether2D extends IsotropicSquareIntArrayModelAsymmetricSection {
 			// y = 0;
 			smallerXSlice = currentXSlice;
 			currentXSlice = greaterXSlice;
-			greaterXSlice = grid[xPlusOne];
+			greaterXSlice = getOldSlice(xPlusOne);
 			newSmallerXSlice = newCurrentXSlice;
 			newCurrentXSlice = newGreaterXSlice;
-			newGreaterXSlice = new int[xPlusTwo];		
-			newGrid[xPlusOne] = newGreaterXSlice;
+			newGreaterXSlice = getNewSlice(newGrid, xPlusOne);		
 			newXSlices[0] = newSmallerXSlice;
 			newXSlices[1] = newCurrentXSlice;
 			newXSlices[2] = newGreaterXSlice;
@@ -708,7 +763,12 @@ public class IntAether2D extends IsotropicSquareIntArrayModelAsymmetricSection {
 				// gx >= current <= sy
 				newCurrentXSlice[y] += currentValue;
 			}
-			grid[xMinusOne] = null;
+			if (newStepStatistics != null) {
+				addSliceStatistics(newGrid, xMinusOne);
+			}
+			if (oldSliceWindow == null) {
+				grid[xMinusOne] = null;
+			}
 		}
 		xSlices[1] = currentXSlice;
 		xSlices[2] = greaterXSlice;
@@ -1217,6 +1277,86 @@ public class IntAether2D extends IsotropicSquareIntArrayModelAsymmetricSection {
 		return initialValue;
 	}
 
+	@Override
+	public void setInPlaceStepping(boolean inPlace) {
+		if (!inPlace) {
+			oldSliceWindow = null;
+		} else if (oldSliceWindow == null) {
+			oldSliceWindow = new int[3][];
+		}
+	}
+
+	@Override
+	public boolean isInPlaceStepping() {
+		return oldSliceWindow != null;
+	}
+
+	/**
+	 * Adds the values of a slice to the statistics of the step being computed. 
+	 * It must be called once the slice has its final values and before its old values are released.
+	 */
+	private void addSliceStatistics(int[][] newGrid, int x) {
+		newStepStatistics.addSlice(x, oldSliceWindow == null ? grid[x] : oldSliceWindow[x%3], newGrid[x]);
+		statisticsSliceCount = x + 1;
+	}
+	
+	private void addRemainingSlicesStatistics(int[][] newGrid) {
+		for (int x = statisticsSliceCount; x <= maxX; x++) {
+			if (x < grid.length) {
+				addSliceStatistics(newGrid, x);
+			} else {
+				newStepStatistics.addSlice(x, null, newGrid[x]);// the slices beyond the old grid were all zero
+			}
+		}
+	}
+
+	@Override
+	public void setStepStatisticsEnabled(boolean enabled) {
+		if (!enabled) {
+			stepStatistics = null;
+		} else if (stepStatistics == null) {
+			StepStatistics statistics = new StepStatistics(step, false);
+			for (int x = 0; x <= maxX; x++) {
+				statistics.addSlice(x, null, grid[x]);
+			}
+			stepStatistics = statistics;
+		}
+	}
+
+	@Override
+	public boolean isStepStatisticsEnabled() {
+		return stepStatistics != null;
+	}
+
+	@Override
+	public StepStatistics getStepStatistics() {
+		return stepStatistics;
+	}
+	
+	@Override
+	public int[] getMinAndMax() throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getIntMinAndMax();
+		}
+		return super.getMinAndMax();
+	}
+	
+	@Override
+	public int[] getEvenOddPositionsMinAndMax(boolean isEven) throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getIntEvenOddPositionsMinAndMax(isEven);
+		}
+		return super.getEvenOddPositionsMinAndMax(isEven);
+	}
+	
+	@Override
+	public BigInt getTotal() throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getTotal();
+		}
+		return super.getTotal();
+	}
+	
 	@Override
 	public long getStep() {
 		return step;
@@ -1234,6 +1374,19 @@ public class IntAether2D extends IsotropicSquareIntArrayModelAsymmetricSection {
 
 	@Override
 	public void backUp(String backupPath, String backupName) throws FileNotFoundException, IOException {
+		Utils.serializeToFile(getBackupData(grid), backupPath, backupName);
+	}
+	
+	@Override
+	public SerializableModelData getBackupSnapshot() {
+		if (oldSliceWindow != null) {
+			return null;// in-place stepping overwrites the grid
+		}
+		// the following steps only release the slices of the current grid, so copying its outermost array is enough
+		return getBackupData(grid.clone());
+	}
+	
+	private SerializableModelData getBackupData(int[][] grid) {
 		SerializableModelData data = new SerializableModelData();
 		data.put(SerializableModelData.MODEL, SerializableModelData.Models.AETHER);
 		data.put(SerializableModelData.INITIAL_CONFIGURATION, initialValue);
@@ -1247,6 +1400,6 @@ public class IntAether2D extends IsotropicSquareIntArrayModelAsymmetricSection {
 		data.put(SerializableModelData.COORDINATE_BOUNDS_IMPLEMENTATION_TYPE, SerializableModelData.CoordinateBoundsImplementationTypes.MAX_COORDINATE_INTEGER);
 		data.put(SerializableModelData.STEP, step);
 		data.put(SerializableModelData.CONFIGURATION_CHANGED_FROM_PREVIOUS_STEP, changed);
-		Utils.serializeToFile(data, backupPath, backupName);
+		return data;
 	}
 }
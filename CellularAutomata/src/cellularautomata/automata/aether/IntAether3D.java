@@ -18,10 +18,17 @@ package cellularautomata.automata.aether;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.Arrays;
 
 import cellularautomata.Utils;
+import cellularautomata.model.InPlaceSteppingModel;
+import cellularautomata.model.MultithreadedModel;
 import cellularautomata.model.SerializableModelData;
+import cellularautomata.model.SnapshotBackupModel;
+import cellularautomata.model.StepStatistics;
+import cellularautomata.model.StepStatisticsModel;
 import cellularautomata.model3d.IsotropicCubicIntArrayModelAsymmetricSection;
+import cellularautomata.numbers.BigInt;
 
 /**
  * Implementation of the <a href="https://github.com/JaumeRibas/Aether2DImgMaker/wiki/Aether-Cellular-Automaton-Definition">Aether</a> cellular automaton in 3D with a single source initial configuration
@@ -29,7 +36,7 @@ import cellularautomata.model3d.IsotropicCubicIntArrayModelAsymmetricSection;
  * @author Jaume
  *
  */
-public class IntAether3D extends IsotropicCubicIntArrayModelAsymmetricSection {
+public class IntAether3D extends IsotropicCubicIntArrayModelAsymmetricSection implements MultithreadedModel, InPlaceSteppingModel, SnapshotBackupModel, StepStatisticsModel {
 	
 	public static final int MAX_INITIAL_VALUE = Integer.MAX_VALUE;
 	public static final int MIN_INITIAL_VALUE = -858993459;
@@ -37,6 +44,11 @@ public class IntAether3D extends IsotropicCubicIntArrayModelAsymmetricSection {
 	private final int initialValue;
 	private long step;
 	private Boolean changed = null;
+	private SlabParallelStepper parallelStepper = null;
+	private int[][][] oldSliceWindow = null;
+	private StepStatistics stepStatistics = null;
+	private StepStatistics newStepStatistics = null;
+	private int statisticsSliceCount;
 	private int maxX;
 	
 	/**
@@ -87,14 +99,19 @@ public class IntAether3D extends IsotropicCubicIntArrayModelAsymmetricSection {
 	
 	@Override
 	public Boolean nextStep() {
-		int[][][] newGrid = new int[maxX + 3][][];
+		if (stepStatistics != null) {
+			newStepStatistics = new StepStatistics(step + 1, true);
+			statisticsSliceCount = 0;
+		}
+		if (parallelStepper != null) {
+			parallelStepper.startStep();
+		}
+		int[][][] newGrid = oldSliceWindow == null ? new int[maxX + 3][][] : getInPlaceNewGrid();
 		boolean changed = false;
-		int[][] smallerXSlice = null, currentXSlice = grid[0], greaterXSlice = grid[1];
+		int[][] smallerXSlice = null, currentXSlice = getOldSlice(0), greaterXSlice = getOldSlice(1);
 		int[][] newSmallerXSlice = null, 
-				newCurrentXSlice = Utils.buildAnisotropic2DIntArray(1), 
-				newGreaterXSlice = Utils.buildAnisotropic2DIntArray(2);// build new grid progressively to save memory
-		newGrid[0] = newCurrentXSlice;
-		newGrid[1] = newGreaterXSlice;
+				newCurrentXSlice = getNewSlice(newGrid, 0), 
+				newGreaterXSlice = getNewSlice(newGrid, 1);// build new grid progressively to save memory
 		// x = 0, y = 0, z = 0
 		int currentValue = currentXSlice[0][0];
 		int greaterXNeighborValue = greaterXSlice[0][0];
@@ -104,11 +121,10 @@ public class IntAether3D extends IsotropicCubicIntArrayModelAsymmetricSection {
 		// x = 1, y = 0, z = 0
 		// smallerXSlice = currentXSlice; // not needed here
 		currentXSlice = greaterXSlice;
-		greaterXSlice = grid[2];
+		greaterXSlice = getOldSlice(2);
 		newSmallerXSlice = newCurrentXSlice;
 		newCurrentXSlice = newGreaterXSlice;
-		newGreaterXSlice = Utils.buildAnisotropic2DIntArray(3);
-		newGrid[2] = newGreaterXSlice;
+		newGreaterXSlice = getNewSlice(newGrid, 2);
 		int[][][] newXSlices = new int[][][] { newSmallerXSlice, newCurrentXSlice, newGreaterXSlice};
 		int[] relevantAsymmetricNeighborValues = new int[6];
 		int[] sortedNeighborsIndexes = new int[6];
@@ -144,15 +160,19 @@ public class IntAether3D extends IsotropicCubicIntArrayModelAsymmetricSection {
 		if (topplePositionOfType4(currentValue, greaterXNeighborValue, smallerZNeighborValue, newCurrentXSlice, newGreaterXSlice)) {
 			changed = true;
 		}
-		grid[0] = null;// free old grid progressively to save memory
+		if (newStepStatistics != null) {
+			addSliceStatistics(newGrid, 0);
+		}
+		if (oldSliceWindow == null) {
+			grid[0] = null;// free old grid progressively to save memory
+		}
 		// x = 2, y = 0, z = 0
 		smallerXSlice = currentXSlice;
 		currentXSlice = greaterXSlice;
-		greaterXSlice = grid[3];
+		greaterXSlice = getOldSlice(3);
 		newSmallerXSlice = newCurrentXSlice;
 		newCurrentXSlice = newGreaterXSlice;
-		newGreaterXSlice = Utils.buildAnisotropic2DIntArray(4);
-		newGrid[3] = newGreaterXSlice;
+		newGreaterXSlice = getNewSlice(newGrid, 3);
 		newXSlices[0] = newSmallerXSlice;
 		newXSlices[1] = newCurrentXSlice;
 		newXSlices[2] = newGreaterXSlice;
@@ -225,15 +245,19 @@ public class IntAether3D extends IsotropicCubicIntArrayModelAsymmetricSection {
 				newGreaterXSlice)) {
 			changed = true;
 		}
-		grid[1] = null;
+		if (newStepStatistics != null) {
+			addSliceStatistics(newGrid, 1);
+		}
+		if (oldSliceWindow == null) {
+			grid[1] = null;
+		}
 		// x = 3, y = 0, z = 0
 		smallerXSlice = currentXSlice;
 		currentXSlice = greaterXSlice;
-		greaterXSlice = grid[4];
+		greaterXSlice = getOldSlice(4);
 		newSmallerXSlice = newCurrentXSlice;
 		newCurrentXSlice = newGreaterXSlice;
-		newGreaterXSlice = Utils.buildAnisotropic2DIntArray(5);
-		newGrid[4] = newGreaterXSlice;
+		newGreaterXSlice = getNewSlice(newGrid, 4);
 		newXSlices[0] = newSmallerXSlice;
 		newXSlices[1] = newCurrentXSlice;
 		newXSlices[2] = newGreaterXSlice;
@@ -360,16 +384,31 @@ public class IntAether3D extends IsotropicCubicIntArrayModelAsymmetricSection {
 				newGreaterXSlice)) {
 			changed = true;
 		}
-		grid[2] = null;
+		if (newStepStatistics != null) {
+			addSliceStatistics(newGrid, 2);
+		}
+		if (oldSliceWindow == null) {
+			grid[2] = null;
+		}
 		// 4 <= x < edge - 2
 		int edge = grid.length - 1;
 		int edgeMinusTwo = edge - 2;
 		int[][][] xSlices = new int[][][] {null, currentXSlice, greaterXSlice};
 		newXSlices[1] = newCurrentXSlice;
 		newXSlices[2] = newGreaterXSlice;
-		if (toppleRangeBeyondX3(xSlices, newXSlices, newGrid, 4, edgeMinusTwo, 
-				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts)) { // is it faster to reuse these arrays?
-			changed = true;
+		if (parallelStepper == null) {
+			if (toppleRangeBeyondX3(xSlices, newXSlices, newGrid, 4, edgeMinusTwo, 
+					relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts)) { // is it faster to reuse these arrays?
+				changed = true;
+			}
+		} else {
+			if (toppleRangeBeyondX3InParallel(newGrid, 4, edgeMinusTwo)) {
+				changed = true;
+			}
+			xSlices[1] = grid[edgeMinusTwo - 1];
+			xSlices[2] = grid[edgeMinusTwo];
+			newXSlices[1] = newGrid[edgeMinusTwo - 1];
+			newXSlices[2] = newGrid[edgeMinusTwo];
 		}
 		//edge - 2 <= x < edge
 		if (toppleRangeBeyondX3(xSlices, newXSlices, newGrid, edgeMinusTwo, edge, 
@@ -380,17 +419,68 @@ public class IntAether3D extends IsotropicCubicIntArrayModelAsymmetricSection {
 		if (newGrid.length > grid.length) {
 			newGrid[grid.length] = Utils.buildAnisotropic2DIntArray(newGrid.length);
 		}
+		if (newStepStatistics != null) {
+			addRemainingSlicesStatistics(newGrid);
+			stepStatistics = newStepStatistics;
+			newStepStatistics = null;
+		}
 		grid = newGrid;
 		step++;
 		this.changed = changed;
+		if (parallelStepper != null) {
+			parallelStepper.endStep();
+		}
 		return changed;
 	}
 
+	private boolean toppleRangeBeyondX3InParallel(int[][][] newGrid, int minX, int maxX) {
+		for (int x = minX + 1; x <= maxX; x++) {
+			newGrid[x] = Utils.buildAnisotropic2DIntArray(x + 1);
+		}
+		return parallelStepper.topple(minX, maxX, (slabMinX, slabMaxX) -> {
+			int[][][] xSlices = new int[][][] {null, grid[slabMinX - 1], grid[slabMinX]};
+			int[][][] newXSlices = new int[][][] {null, newGrid[slabMinX - 1], newGrid[slabMinX]};
+			return toppleRangeBeyondX3(xSlices, newXSlices, newGrid, slabMinX, slabMaxX, new int[6], new int[6], new int[6][3], 
+					new int[6], new int[6]);
+		});
+	}
+
 	@Override
 	public Boolean isChanged() {
 		return changed;
 	}
 	
+	private int[][][] getInPlaceNewGrid() {
+		if (oldSliceWindow[0] == null || oldSliceWindow[0].length < grid.length) {
+			int windowSide = grid.length + grid.length/8 + 1;// leave room for the grid to grow
+			for (int i = 0; i < oldSliceWindow.length; i++) {
+				oldSliceWindow[i] = Utils.buildAnisotropic2DIntArray(windowSide);
+			}
+		}
+		int newSide = maxX + 3;
+		return grid.length < newSide ? Arrays.copyOf(grid, newSide) : grid;
+	}
+	
+	private int[][] getOldSlice(int x) {
+		int[][] slice = grid[x];
+		if (oldSliceWindow != null) {
+			// keep the old values of the slice in the window and clear it so that the new values can be added to it
+			int[][] oldSlice = oldSliceWindow[x%3];
+			Utils.moveValues(slice, oldSlice);
+			return oldSlice;
+		}
+		return slice;
+	}
+	
+	private int[][] getNewSlice(int[][][] newGrid, int x) {
+		int[][] slice = newGrid[x];
+		if (slice == null) {
+			slice = Utils.buildAnisotropic2DIntArray(x + 1);
+			newGrid[x] = slice;
+		}
+		return slice;
+	}
+	
 	private boolean toppleRangeBeyondX3(int[][][] xSlices, int[][][] newXSlices, int[][][] newGrid, int minX, int maxX, 
 			int[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, 
 			int[] relevantAsymmetricNeighborSymmetryCounts) {
@@ -402,11 +492,10 @@ public class IntAether3D extends IsotropicCubicIntArrayModelAsymmetricSection {
 			// y = 0, z = 0
 			smallerXSlice = currentXSlice;
 			currentXSlice = greaterXSlice;
-			greaterXSlice = grid[xPlusOne];
+			greaterXSlice = getOldSlice(xPlusOne);
 			newSmallerXSlice = newCurrentXSlice;
 			newCurrentXSlice = newGreaterXSlice;
-			newGreaterXSlice = Utils.buildAnisotropic2DIntArray(xPlusTwo);
-			newGrid[xPlusOne] = newGreaterXSlice;
+			newGreaterXSlice = getNewSlice(newGrid, xPlusOne);
 			newXSlices[0] = newSmallerXSlice;
 			newXSlices[1] = newCurrentXSlice;
 			newXSlices[2] = newGreaterXSlice;
@@ -706,7 +795,12 @@ public class IntAether3D extends IsotropicCubicIntArrayModelAsymmetricSection {
 					newGreaterXSlice)) {
 				anyToppled = true;
 			}
-			grid[xMinusOne] = null;
+			if (newStepStatistics != null && parallelStepper == null) {
+				addSliceStatistics(newGrid, xMinusOne);
+			}
+			if (parallelStepper == null && oldSliceWindow == null) {// in parallel and in-place modes the old slices are still needed
+				grid[xMinusOne] = null;
+			}
 		}
 		xSlices[1] = currentXSlice;
 		xSlices[2] = greaterXSlice;
@@ -1996,6 +2090,138 @@ public class IntAether3D extends IsotropicCubicIntArrayModelAsymmetricSection {
 		return maxX;
 	}
 	
+	@Override
+	public void setThreadCount(int threadCount) {
+		if (threadCount < 1) {
+			throw new IllegalArgumentException("Thread count must be greater than zero.");
+		}
+		if (threadCount == 1) {
+			shutdownParallelStepper();
+		} else if (oldSliceWindow != null) {
+			throw new IllegalStateException("Multithreaded stepping is not compatible with in-place stepping.");
+		} else if (parallelStepper == null || parallelStepper.getThreadCount() != threadCount) {
+			shutdownParallelStepper();
+			parallelStepper = new SlabParallelStepper(threadCount, 3);
+		}
+	}
+	
+	private void shutdownParallelStepper() {
+		if (parallelStepper != null) {
+			parallelStepper.shutdown();
+			parallelStepper = null;
+		}
+	}
+
+	@Override
+	public int getThreadCount() {
+		return parallelStepper == null ? 1 : parallelStepper.getThreadCount();
+	}
+
+	@Override
+	public double getLastStepSpeedup() {
+		return parallelStepper == null ? Double.NaN : parallelStepper.getLastStepSpeedup();
+	}
+
+	@Override
+	public long getLastStepMillis() {
+		return parallelStepper == null ? -1 : parallelStepper.getLastStepMillis();
+	}
+	
+	@Override
+	public void setInPlaceStepping(boolean inPlace) {
+		if (!inPlace) {
+			oldSliceWindow = null;
+		} else if (oldSliceWindow == null) {
+			if (parallelStepper != null) {
+				throw new IllegalStateException("In-place stepping is not compatible with multithreaded stepping.");
+			}
+			oldSliceWindow = new int[3][][];
+		}
+	}
+
+	@Override
+	public boolean isInPlaceStepping() {
+		return oldSliceWindow != null;
+	}
+
+	/**
+	 * Adds the values of a slice to the statistics of the step being computed. 
+	 * It must be called once the slice has its final values and before its old values are released.
+	 */
+	private void addSliceStatistics(int[][][] newGrid, int x) {
+		newStepStatistics.addSlice(x, oldSliceWindow == null ? grid[x] : oldSliceWindow[x%3], newGrid[x]);
+		statisticsSliceCount = x + 1;
+	}
+	
+	private void addRemainingSlicesStatistics(int[][][] newGrid) {
+		if (parallelStepper == null) {
+			for (int x = statisticsSliceCount; x <= maxX; x++) {
+				if (x < grid.length) {
+					addSliceStatistics(newGrid, x);
+				} else {
+					newStepStatistics.addSlice(x, null, newGrid[x]);// the slices beyond the old grid were all zero
+				}
+			}
+		} else {
+			// in parallel mode the old slices within the toppled range are kept until the end of the step
+			parallelStepper.topple(statisticsSliceCount, maxX + 1, (slabMinX, slabMaxX) -> {
+				StepStatistics slabStatistics = new StepStatistics(newStepStatistics.getStep(), true);
+				for (int x = slabMinX; x != slabMaxX; x++) {
+					slabStatistics.addSlice(x, x < grid.length ? grid[x] : null, newGrid[x]);
+				}
+				newStepStatistics.add(slabStatistics);
+				return false;
+			});
+		}
+	}
+
+	@Override
+	public void setStepStatisticsEnabled(boolean enabled) {
+		if (!enabled) {
+			stepStatistics = null;
+		} else if (stepStatistics == null) {
+			StepStatistics statistics = new StepStatistics(step, false);
+			for (int x = 0; x <= maxX; x++) {
+				statistics.addSlice(x, null, grid[x]);
+			}
+			stepStatistics = statistics;
+		}
+	}
+
+	@Override
+	public boolean isStepStatisticsEnabled() {
+		return stepStatistics != null;
+	}
+
+	@Override
+	public StepStatistics getStepStatistics() {
+		return stepStatistics;
+	}
+	
+	@Override
+	public int[] getMinAndMax() throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getIntMinAndMax();
+		}
+		return super.getMinAndMax();
+	}
+	
+	@Override
+	public int[] getEvenOddPositionsMinAndMax(boolean isEven) throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getIntEvenOddPositionsMinAndMax(isEven);
+		}
+		return super.getEvenOddPositionsMinAndMax(isEven);
+	}
+	
+	@Override
+	public BigInt getTotal() throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getTotal();
+		}
+		return super.getTotal();
+	}
+	
 	@Override
 	public long getStep() {
 		return step;
@@ -2012,6 +2238,19 @@ public class IntAether3D extends IsotropicCubicIntArrayModelAsymmetricSection {
 	
 	@Override
 	public void backUp(String backupPath, String backupName) throws FileNotFoundException, IOException {
+		Utils.serializeToFile(getBackupData(grid), backupPath, backupName);
+	}
+	
+	@Override
+	public SerializableModelData getBackupSnapshot() {
+		if (oldSliceWindow != null) {
+			return null;// in-place stepping overwrites the grid
+		}
+		// the following steps only release the slices of the current grid, so copying its outermost array is enough
+		return getBackupData(grid.clone());
+	}
+	
+	private SerializableModelData getBackupData(int[][][] grid) {
 		SerializableModelData data = new SerializableModelData();
 		data.put(SerializableModelData.MODEL, SerializableModelData.Models.AETHER);
 		data.put(SerializableModelData.INITIAL_CONFIGURATION, initialValue);
@@ -2025,7 +2264,7 @@ public class IntAether3D extends IsotropicCubicIntArrayModelAsymmetricSection {
 		data.put(SerializableModelData.COORDINATE_BOUNDS_IMPLEMENTATION_TYPE, SerializableModelData.CoordinateBoundsImplementationTypes.MAX_COORDINATE_INTEGER);
 		data.put(SerializableModelData.STEP, step);
 		data.put(SerializableModelData.CONFIGURATION_CHANGED_FROM_PREVIOUS_STEP, changed);
-		Utils.serializeToFile(data, backupPath, backupName);
+		return data;
 	}
 
 	@Override
@@ -18,10 +18,17 @@ package cellularautomata.automata.aether;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.Arrays;
 
 import cellularautomata.Utils;
+import cellularautomata.model.InPlaceSteppingModel;
+import cellularautomata.model.MultithreadedModel;
 import cellularautomata.model.SerializableModelData;
+import cellularautomata.model.SnapshotBackupModel;
+import cellularautomata.model.StepStatistics;
+import cellularautomata.model.StepStatisticsModel;
 import cellularautomata.model4d.IsotropicHypercubicIntArrayModelAsymmetricSection4D;
+import cellularautomata.numbers.BigInt;
 
 /**
  * Implementation of the <a href="https://github.com/JaumeRibas/Aether2DImgMaker/wiki/Aether-Cellular-Automaton-Definition">Aether</a> cellular automaton in 4D with a single source initial configuration
@@ -29,7 +36,7 @@ import cellularautomata.model4d.IsotropicHypercubicIntArrayModelAsymmetricSectio
  * @author Jaume
  *
  */
-public class IntAether4D extends IsotropicHypercubicIntArrayModelAsymmetricSection4D {
+public class IntAether4D extends IsotropicHypercubicIntArrayModelAsymmetricSection4D implements MultithreadedModel, InPlaceSteppingModel, SnapshotBackupModel, StepStatisticsModel {
 	
 	public static final int MAX_INITIAL_VALUE = Integer.MAX_VALUE;
 	public static final int MIN_INITIAL_VALUE = -613566757;
@@ -38,6 +45,11 @@ public class IntAether4D extends IsotropicHypercubicIntArrayModelAsymmetricSecti
 	private long step;
 	private int maxW;
 	private Boolean changed = null;
+	private SlabParallelStepper parallelStepper = null;
+	private int[][][][] oldSliceWindow = null;
+	private StepStatistics stepStatistics = null;
+	private StepStatistics newStepStatistics = null;
+	private int statisticsSliceCount;
 	
 	/**
 	 * Creates an instance with the given initial value
@@ -87,14 +99,19 @@ public class IntAether4D extends IsotropicHypercubicIntArrayModelAsymmetricSecti
 
 	@Override
 	public Boolean nextStep() {
-		int[][][][] newGrid = new int[maxW + 3][][][];
+		if (stepStatistics != null) {
+			newStepStatistics = new StepStatistics(step + 1, true);
+			statisticsSliceCount = 0;
+		}
+		if (parallelStepper != null) {
+			parallelStepper.startStep();
+		}
+		int[][][][] newGrid = oldSliceWindow == null ? new int[maxW + 3][][][] : getInPlaceNewGrid();
 		boolean changed = false;
-		int[][][] smallerWSlice = null, currentWSlice = grid[0], greaterWSlice = grid[1];
+		int[][][] smallerWSlice = null, currentWSlice = getOldSlice(0), greaterWSlice = getOldSlice(1);
 		int[][][] newSmallerWSlice = null, 
-				newCurrentWSlice = Utils.buildAnisotropic3DIntArray(1), 
-				newGreaterWSlice = Utils.buildAnisotropic3DIntArray(2);// build new grid progressively to save memory
-		newGrid[0] = newCurrentWSlice;
-		newGrid[1] = newGreaterWSlice;
+				newCurrentWSlice = getNewSlice(newGrid, 0), 
+				newGreaterWSlice = getNewSlice(newGrid, 1);// build new grid progressively to save memory
 		// w = 0, x = 0, y = 0, z = 0
 		int currentValue = currentWSlice[0][0][0];
 		int greaterWNeighborValue = greaterWSlice[0][0][0];
@@ -104,11 +121,10 @@ public class IntAether4D extends IsotropicHypercubicIntArrayModelAsymmetricSecti
 		//w slice transition
 		// smallerWSlice = currentWSlice; // not needed here
 		currentWSlice = greaterWSlice;
-		greaterWSlice = grid[2];
+		greaterWSlice = getOldSlice(2);
 		newSmallerWSlice = newCurrentWSlice;
 		newCurrentWSlice = newGreaterWSlice;
-		newGreaterWSlice = Utils.buildAnisotropic3DIntArray(3);
-		newGrid[2] = newGreaterWSlice;
+		newGreaterWSlice = getNewSlice(newGrid, 2);
 		int[][][][] newWSlices = new int[][][][] { newSmallerWSlice, newCurrentWSlice, newGreaterWSlice};
 		int[] relevantAsymmetricNeighborValues = new int[8];
 		int[] sortedNeighborsIndexes = new int[8];
@@ -157,15 +173,19 @@ public class IntAether4D extends IsotropicHypercubicIntArrayModelAsymmetricSecti
 			changed = true;
 		}
 		//w slice transition
-		grid[0] = null;// free old grid progressively to save memory
+		if (newStepStatistics != null) {
+			addSliceStatistics(newGrid, 0);
+		}
+		if (oldSliceWindow == null) {
+			grid[0] = null;// free old grid progressively to save memory
+		}
 		smallerWSlice = currentWSlice;
 		currentWSlice = greaterWSlice;
-		greaterWSlice = grid[3];
+		greaterWSlice = getOldSlice(3);
 		int[][][][] wSlices = new int[][][][] { smallerWSlice, currentWSlice, greaterWSlice};
 		newSmallerWSlice = newCurrentWSlice;
 		newCurrentWSlice = newGreaterWSlice;
-		newGreaterWSlice = Utils.buildAnisotropic3DIntArray(4);
-		newGrid[3] = newGreaterWSlice;
+		newGreaterWSlice = getNewSlice(newGrid, 3);
 		newWSlices[0] = newSmallerWSlice;
 		newWSlices[1] = newCurrentWSlice;
 		newWSlices[2] = newGreaterWSlice;
@@ -282,17 +302,21 @@ public class IntAether4D extends IsotropicHypercubicIntArrayModelAsymmetricSecti
 			changed = true;
 		}		
 		//w slice transition
-		grid[1] = null;// free old grid progressively to save memory
+		if (newStepStatistics != null) {
+			addSliceStatistics(newGrid, 1);
+		}
+		if (oldSliceWindow == null) {
+			grid[1] = null;// free old grid progressively to save memory
+		}
 		smallerWSlice = currentWSlice;
 		currentWSlice = greaterWSlice;
-		greaterWSlice = grid[4];
+		greaterWSlice = getOldSlice(4);
 		wSlices[0] = smallerWSlice;
 		wSlices[1] = currentWSlice;
 		wSlices[2] = greaterWSlice;
 		newSmallerWSlice = newCurrentWSlice;
 		newCurrentWSlice = newGreaterWSlice;
-		newGreaterWSlice = Utils.buildAnisotropic3DIntArray(5);
-		newGrid[4] = newGreaterWSlice;
+		newGreaterWSlice = getNewSlice(newGrid, 4);
 		newWSlices[0] = newSmallerWSlice;
 		newWSlices[1] = newCurrentWSlice;
 		newWSlices[2] = newGreaterWSlice;
@@ -428,17 +452,21 @@ public class IntAether4D extends IsotropicHypercubicIntArrayModelAsymmetricSecti
 		}
 
 		//w slice transition
-		grid[2] = null;// free old grid progressively to save memory
+		if (newStepStatistics != null) {
+			addSliceStatistics(newGrid, 2);
+		}
+		if (oldSliceWindow == null) {
+			grid[2] = null;// free old grid progressively to save memory
+		}
 		smallerWSlice = currentWSlice;
 		currentWSlice = greaterWSlice;
-		greaterWSlice = grid[5];
+		greaterWSlice = getOldSlice(5);
 		wSlices[0] = smallerWSlice;
 		wSlices[1] = currentWSlice;
 		wSlices[2] = greaterWSlice;
 		newSmallerWSlice = newCurrentWSlice;
 		newCurrentWSlice = newGreaterWSlice;
-		newGreaterWSlice = Utils.buildAnisotropic3DIntArray(6);
-		newGrid[5] = newGreaterWSlice;
+		newGreaterWSlice = getNewSlice(newGrid, 5);
 		newWSlices[0] = newSmallerWSlice;
 		newWSlices[1] = newCurrentWSlice;
 		newWSlices[2] = newGreaterWSlice;
@@ -507,9 +535,19 @@ public class IntAether4D extends IsotropicHypercubicIntArrayModelAsymmetricSecti
 		// 5 <= w < edge - 2
 		int edge = grid.length - 1;
 		int edgeMinusTwo = edge - 2;
-		if (toppleRangeBeyondW4(wSlices, newWSlices, newGrid, 5, edgeMinusTwo, 
-				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts)) { // is it faster to reuse these arrays?
-			changed = true;
+		if (parallelStepper == null) {
+			if (toppleRangeBeyondW4(wSlices, newWSlices, newGrid, 5, edgeMinusTwo, 
+					relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts)) { // is it faster to reuse these arrays?
+				changed = true;
+			}
+		} else {
+			if (toppleRangeBeyondW4InParallel(newGrid, 5, edgeMinusTwo)) {
+				changed = true;
+			}
+			wSlices[1] = grid[edgeMinusTwo - 1];
+			wSlices[2] = grid[edgeMinusTwo];
+			newWSlices[1] = newGrid[edgeMinusTwo - 1];
+			newWSlices[2] = newGrid[edgeMinusTwo];
 		}
 		//edge - 2 <= w < edge
 		if (toppleRangeBeyondW4(wSlices, newWSlices, newGrid, edgeMinusTwo, edge, 
@@ -520,16 +558,67 @@ public class IntAether4D extends IsotropicHypercubicIntArrayModelAsymmetricSecti
 		if (newGrid.length > grid.length) {
 			newGrid[grid.length] = Utils.buildAnisotropic3DIntArray(newGrid.length);
 		}
+		if (newStepStatistics != null) {
+			addRemainingSlicesStatistics(newGrid);
+			stepStatistics = newStepStatistics;
+			newStepStatistics = null;
+		}
 		grid = newGrid;
 		step++;
 		this.changed = changed;
+		if (parallelStepper != null) {
+			parallelStepper.endStep();
+		}
 		return changed;
 	}
 
+	private boolean toppleRangeBeyondW4InParallel(int[][][][] newGrid, int minW, int maxW) {
+		for (int w = minW + 1; w <= maxW; w++) {
+			newGrid[w] = Utils.buildAnisotropic3DIntArray(w + 1);
+		}
+		return parallelStepper.topple(minW, maxW, (slabMinW, slabMaxW) -> {
+			int[][][][] wSlices = new int[][][][] {null, grid[slabMinW - 1], grid[slabMinW]};
+			int[][][][] newWSlices = new int[][][][] {null, newGrid[slabMinW - 1], newGrid[slabMinW]};
+			return toppleRangeBeyondW4(wSlices, newWSlices, newGrid, slabMinW, slabMaxW, new int[8], new int[8], new int[8][4], 
+					new int[8], new int[8]);
+		});
+	}
+
 	@Override
 	public Boolean isChanged() {
 		return changed;
 	}
+	
+	private int[][][][] getInPlaceNewGrid() {
+		if (oldSliceWindow[0] == null || oldSliceWindow[0].length < grid.length) {
+			int windowSide = grid.length + grid.length/8 + 1;// leave room for the grid to grow
+			for (int i = 0; i < oldSliceWindow.length; i++) {
+				oldSliceWindow[i] = Utils.buildAnisotropic3DIntArray(windowSide);
+			}
+		}
+		int newSide = maxW + 3;
+		return grid.length < newSide ? Arrays.copyOf(grid, newSide) : grid;
+	}
+	
+	private int[][][] getOldSlice(int w) {
+		int[][][] slice = grid[w];
+		if (oldSliceWindow != null) {
+			// keep the old values of the slice in the window and clear it so that the new values can be added to it
+			int[][][] oldSlice = oldSliceWindow[w%3];
+			Utils.moveValues(slice, oldSlice);
+			return oldSlice;
+		}
+		return slice;
+	}
+	
+	private int[][][] getNewSlice(int[][][][] newGrid, int w) {
+		int[][][] slice = newGrid[w];
+		if (slice == null) {
+			slice = Utils.buildAnisotropic3DIntArray(w + 1);
+			newGrid[w] = slice;
+		}
+		return slice;
+	}
 
 	private boolean toppleRangeBeyondW4(int[][][][] wSlices, int[][][][] newWSlices, int[][][][] newGrid, int minW,
 			int maxW, int[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords,
@@ -540,17 +629,21 @@ public class IntAether4D extends IsotropicHypercubicIntArrayModelAsymmetricSecti
 		int[][][] newSmallerWSlice = null, newCurrentWSlice = newWSlices[1], newGreaterWSlice = newWSlices[2];
 		for (; w != maxW; wMinusThree = wMinusTwo, wMinusTwo = wMinusOne, wMinusOne = w, w = wPlusOne, wPlusOne = wPlusTwo, wPlusTwo++) {
 			//w slice transition
-			grid[wMinusTwo] = null;// free old grid progressively to save memory
+			if (newStepStatistics != null && parallelStepper == null) {
+				addSliceStatistics(newGrid, wMinusTwo);
+			}
+			if (parallelStepper == null && oldSliceWindow == null) {// in parallel and in-place modes the old slices are still needed
+				grid[wMinusTwo] = null;// free old grid progressively to save memory
+			}
 			smallerWSlice = currentWSlice;
 			currentWSlice = greaterWSlice;
-			greaterWSlice = grid[wPlusOne];
+			greaterWSlice = getOldSlice(wPlusOne);
 			wSlices[0] = smallerWSlice;
 			wSlices[1] = currentWSlice;
 			wSlices[2] = greaterWSlice;
 			newSmallerWSlice = newCurrentWSlice;
 			newCurrentWSlice = newGreaterWSlice;
-			newGreaterWSlice = Utils.buildAnisotropic3DIntArray(wPlusTwo);
-			newGrid[wPlusOne] = newGreaterWSlice;
+			newGreaterWSlice = getNewSlice(newGrid, wPlusOne);
 			newWSlices[0] = newSmallerWSlice;
 			newWSlices[1] = newCurrentWSlice;
 			newWSlices[2] = newGreaterWSlice;
@@ -4138,6 +4231,138 @@ public class IntAether4D extends IsotropicHypercubicIntArrayModelAsymmetricSecti
 		return maxW;
 	}
 	
+	@Override
+	public void setThreadCount(int threadCount) {
+		if (threadCount < 1) {
+			throw new IllegalArgumentException("Thread count must be greater than zero.");
+		}
+		if (threadCount == 1) {
+			shutdownParallelStepper();
+		} else if (oldSliceWindow != null) {
+			throw new IllegalStateException("Multithreaded stepping is not compatible with in-place stepping.");
+		} else if (parallelStepper == null || parallelStepper.getThreadCount() != threadCount) {
+			shutdownParallelStepper();
+			parallelStepper = new SlabParallelStepper(threadCount, 4);
+		}
+	}
+	
+	private void shutdownParallelStepper() {
+		if (parallelStepper != null) {
+			parallelStepper.shutdown();
+			parallelStepper = null;
+		}
+	}
+
+	@Override
+	public int getThreadCount() {
+		return parallelStepper == null ? 1 : parallelStepper.getThreadCount();
+	}
+
+	@Override
+	public double getLastStepSpeedup() {
+		return parallelStepper == null ? Double.NaN : parallelStepper.getLastStepSpeedup();
+	}
+
+	@Override
+	public long getLastStepMillis() {
+		return parallelStepper == null ? -1 : parallelStepper.getLastStepMillis();
+	}
+	
+	@Override
+	public void setInPlaceStepping(boolean inPlace) {
+		if (!inPlace) {
+			oldSliceWindow = null;
+		} else if (oldSliceWindow == null) {
+			if (parallelStepper != null) {
+				throw new IllegalStateException("In-place stepping is not compatible with multithreaded stepping.");
+			}
+			oldSliceWindow = new int[3][][][];
+		}
+	}
+
+	@Override
+	public boolean isInPlaceStepping() {
+		return oldSliceWindow != null;
+	}
+
+	/**
+	 * Adds the values of a slice to the statistics of the step being computed. 
+	 * It must be called once the slice has its final values and before its old values are released.
+	 */
+	private void addSliceStatistics(int[][][][] newGrid, int w) {
+		newStepStatistics.addSlice(w, oldSliceWindow == null ? grid[w] : oldSliceWindow[w%3], newGrid[w]);
+		statisticsSliceCount = w + 1;
+	}
+	
+	private void addRemainingSlicesStatistics(int[][][][] newGrid) {
+		if (parallelStepper == null) {
+			for (int w = statisticsSliceCount; w <= maxW; w++) {
+				if (w < grid.length) {
+					addSliceStatistics(newGrid, w);
+				} else {
+					newStepStatistics.addSlice(w, null, newGrid[w]);// the slices beyond the old grid were all zero
+				}
+			}
+		} else {
+			// in parallel mode the old slices within the toppled range are kept until the end of the step
+			parallelStepper.topple(statisticsSliceCount, maxW + 1, (slabMinW, slabMaxW) -> {
+				StepStatistics slabStatistics = new StepStatistics(newStepStatistics.getStep(), true);
+				for (int w = slabMinW; w != slabMaxW; w++) {
+					slabStatistics.addSlice(w, w < grid.length ? grid[w] : null, newGrid[w]);
+				}
+				newStepStatistics.add(slabStatistics);
+				return false;
+			});
+		}
+	}
+
+	@Override
+	public void setStepStatisticsEnabled(boolean enabled) {
+		if (!enabled) {
+			stepStatistics = null;
+		} else if (stepStatistics == null) {
+			StepStatistics statistics = new StepStatistics(step, false);
+			for (int w = 0; w <= maxW; w++) {
+				statistics.addSlice(w, null, grid[w]);
+			}
+			stepStatistics = statistics;
+		}
+	}
+
+	@Override
+	public boolean isStepStatisticsEnabled() {
+		return stepStatistics != null;
+	}
+
+	@Override
+	public StepStatistics getStepStatistics() {
+		return stepStatistics;
+	}
+	
+	@Override
+	public int[] getMinAndMax() throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getIntMinAndMax();
+		}
+		return super.getMinAndMax();
+	}
+	
+	@Override
+	public int[] getEvenOddPositionsMinAndMax(boolean isEven) throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getIntEvenOddPositionsMinAndMax(isEven);
+		}
+		return super.getEvenOddPositionsMinAndMax(isEven);
+	}
+	
+	@Override
+	public BigInt getTotal() throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getTotal();
+		}
+		return super.getTotal();
+	}
+	
 	@Override
 	public long getStep() {
 		return step;
@@ -4154,6 +4379,19 @@ public class IntAether4D extends IsotropicHypercubicIntArrayModelAsymmetricSecti
 	
 	@Override
 	public void backUp(String backupPath, String backupName) throws FileNotFoundException, IOException {
+		Utils.serializeToFile(getBackupData(grid), backupPath, backupName);
+	}
+	
+	@Override
+	public SerializableModelData getBackupSnapshot() {
+		if (oldSliceWindow != null) {
+			return null;// in-place stepping overwrites the grid
+		}
+		// the following steps only release the slices of the current grid, so copying its outermost array is enough
+		return getBackupData(grid.clone());
+	}
+	
+	private SerializableModelData getBackupData(int[][][][] grid) {
 		SerializableModelData data = new SerializableModelData();
 		data.put(SerializableModelData.MODEL, SerializableModelData.Models.AETHER);
 		data.put(SerializableModelData.INITIAL_CONFIGURATION, initialValue);
@@ -4167,7 +4405,7 @@ public class IntAether4D extends IsotropicHypercubicIntArrayModelAsymmetricSecti
 		data.put(SerializableModelData.COORDINATE_BOUNDS_IMPLEMENTATION_TYPE, SerializableModelData.CoordinateBoundsImplementationTypes.MAX_COORDINATE_INTEGER);
 		data.put(SerializableModelData.STEP, step);
 		data.put(SerializableModelData.CONFIGURATION_CHANGED_FROM_PREVIOUS_STEP, changed);
-		Utils.serializeToFile(data, backupPath, backupName);
+		return data;
 	}
 
 	@Override
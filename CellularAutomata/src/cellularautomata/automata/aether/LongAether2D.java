@@ -18,9 +18,15 @@ package cellularautomata.automata.aether;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.Arrays;
 import cellularautomata.Utils;
+import cellularautomata.model.InPlaceSteppingModel;
 import cellularautomata.model.SerializableModelData;
+import cellularautomata.model.SnapshotBackupModel;
+import cellularautomata.model.StepStatistics;
+import cellularautomata.model.StepStatisticsModel;
 import cellularautomata.model2d.IsotropicSquareLongArrayModelAsymmetricSection;
+import cellularautomata.numbers.BigInt;
 
 /**
  * Implementation of the <a href="https://github.com/JaumeRibas/Aether2DImgMaker/wiki/Aether-Cellular-Automaton-Definition">Aether</a> cellular automaton in 2D with a single source initial configuration
@@ -28,7 +34,7 @@ import cellularautomata.model2d.IsotropicSquareLongArrayModelAsymmetricSection;
  * @author Jaume
  *
  */
-public class LongAether2D extends IsotropicSquareLongArrayModelAsymmetricSection {
+public class LongAether2D extends IsotropicSquareLongArrayModelAsymmetricSection implements InPlaceSteppingModel, SnapshotBackupModel, StepStatisticsModel {
 	
 	public static final long MAX_INITIAL_VALUE = Long.MAX_VALUE;
 	public static final long MIN_INITIAL_VALUE = -6148914691236517205L;
@@ -37,6 +43,10 @@ public class LongAether2D extends IsotropicSquareLongArrayModelAsymmetricSection
 	private long step;
 	private int maxX;
 	private Boolean changed = null;
+	private long[][] oldSliceWindow = null;
+	private StepStatistics stepStatistics = null;
+	private StepStatistics newStepStatistics = null;
+	private int statisticsSliceCount;
 
 	/**
 	 * Creates an instance with the given initial value.
@@ -86,13 +96,15 @@ public class LongAether2D extends IsotropicSquareLongArrayModelAsymmetricSection
 	
 	@Override
 	public Boolean nextStep() {
-		long[][] newGrid = new long[maxX + 3][];
+		if (stepStatistics != null) {
+			newStepStatistics = new StepStatistics(step + 1, true);
+			statisticsSliceCount = 0;
+		}
+		long[][] newGrid = oldSliceWindow == null ? new long[maxX + 3][] : getInPlaceNewGrid();
 		boolean changed = false;
 		long currentValue, greaterXNeighborValue;
-		long[] smallerXSlice = null, currentXSlice = grid[0], greaterXSlice = grid[1];
-		long[] newSmallerXSlice = null, newCurrentXSlice = new long[1], newGreaterXSlice = new long[2];// build new grid progressively to save memory 
-		newGrid[0] = newCurrentXSlice;
-		newGrid[1] = newGreaterXSlice;
+		long[] smallerXSlice = null, currentXSlice = getOldSlice(0), greaterXSlice = getOldSlice(1);
+		long[] newSmallerXSlice = null, newCurrentXSlice = getNewSlice(newGrid, 0), newGreaterXSlice = getNewSlice(newGrid, 1);// build new grid progressively to save memory 
 		// x = 0, y = 0
 		currentValue = currentXSlice[0];
 		greaterXNeighborValue = greaterXSlice[0];
@@ -112,11 +124,10 @@ public class LongAether2D extends IsotropicSquareLongArrayModelAsymmetricSection
 		// x = 1, y = 0
 		// smallerXSlice = currentXSlice; // not needed here
 		currentXSlice = greaterXSlice;
-		greaterXSlice = grid[2];
+		greaterXSlice = getOldSlice(2);
 		newSmallerXSlice = newCurrentXSlice;
 		newCurrentXSlice = newGreaterXSlice;
-		newGreaterXSlice = new long[3];
-		newGrid[2] = newGreaterXSlice;
+		newGreaterXSlice = getNewSlice(newGrid, 2);
 		long[][] newXSlices = new long[][] { newSmallerXSlice, newCurrentXSlice, newGreaterXSlice};
 		int relevantAsymmetricNeighborCount = 0;
 		int relevantNeighborCount = 0;
@@ -240,15 +251,19 @@ public class LongAether2D extends IsotropicSquareLongArrayModelAsymmetricSection
 			// gx >= current <= sy
 			newCurrentXSlice[1] += currentValue;
 		}
-		grid[0] = null;// free old grid progressively to save memory
+		if (newStepStatistics != null) {
+			addSliceStatistics(newGrid, 0);
+		}
+		if (oldSliceWindow == null) {
+			grid[0] = null;// free old grid progressively to save memory
+		}
 		// x = 2, y = 0
 		smallerXSlice = currentXSlice;
 		currentXSlice = greaterXSlice;
-		greaterXSlice = grid[3];
+		greaterXSlice = getOldSlice(3);
 		newSmallerXSlice = newCurrentXSlice;
 		newCurrentXSlice = newGreaterXSlice;
-		newGreaterXSlice = new long[4];		
-		newGrid[3] = newGreaterXSlice;
+		newGreaterXSlice = getNewSlice(newGrid, 3);		
 		newXSlices[0] = newSmallerXSlice;
 		newXSlices[1] = newCurrentXSlice;
 		newXSlices[2] = newGreaterXSlice;
@@ -410,7 +425,12 @@ public class LongAether2D extends IsotropicSquareLongArrayModelAsymmetricSection
 			// gx >= current <= sy
 			newCurrentXSlice[2] += currentValue;
 		}
-		grid[1] = null;
+		if (newStepStatistics != null) {
+			addSliceStatistics(newGrid, 1);
+		}
+		if (oldSliceWindow == null) {
+			grid[1] = null;
+		}
 		// 3 <= x < edge - 2
 		int edge = grid.length - 1;
 		int edgeMinusTwo = edge - 2;
@@ -432,6 +452,11 @@ public class LongAether2D extends IsotropicSquareLongArrayModelAsymmetricSection
 		if (newGrid.length > grid.length) {
 			newGrid[grid.length] = new long[newGrid.length];
 		}
+		if (newStepStatistics != null) {
+			addRemainingSlicesStatistics(newGrid);
+			stepStatistics = newStepStatistics;
+			newStepStatistics = null;
+		}
 		grid = newGrid;
 		step++;
 		this.changed = changed;
@@ -443,6 +468,37 @@ public class LongAether2D extends IsotropicSquareLongArrayModelAsymmetricSection
 		return changed;
 	}
 	
+	private long[][] getInPlaceNewGrid() {
+		if (oldSliceWindow[0] == null || oldSliceWindow[0].length < grid.length) {
+			int windowSide = grid.length + grid.length/8 + 1;// leave room for the grid to grow
+			for (int i = 0; i < oldSliceWindow.length; i++) {
+				oldSliceWindow[i] = new long[windowSide];
+			}
+		}
+		int newSide = maxX + 3;
+		return grid.length < newSide ? Arrays.copyOf(grid, newSide) : grid;
+	}
+	
+	private long[] getOldSlice(int x) {
+		long[] slice = grid[x];
+		if (oldSliceWindow != null) {
+			// keep the old values of the slice in the window and clear it so that the new values can be added to it
+			long[] oldSlice = oldSliceWindow[x%3];
+			Utils.moveValues(slice, oldSlice);
+			return oldSlice;
+		}
+		return slice;
+	}
+	
+	private long[] getNewSlice(long[][] newGrid, int x) {
+		long[] slice = newGrid[x];
+		if (slice == null) {
+			slice = new long[x + 1];
+			newGrid[x] = slice;
+		}
+		return slice;
+	}
+	
 	private boolean toppleRangeBeyondX2(long[][] xSlices, long[][] newXSlices, long[][] newGrid, int minX, int maxX, 
 			long[] relevantAsymmetricNeighborValues, int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborShareMultipliers, 
 			int[] relevantAsymmetricNeighborSymmetryCounts, int[] sortedNeighborsIndexes) {
@@ -454,11 +510,10 @@ public class LongAether2D extends IsotropicSquareLongArrayModelAsymmetricSection
 			// y = 0;
 			smallerXSlice = currentXSlice;
 			currentXSlice = greaterXSlice;
-			greaterXSlice = grid[xPlusOne];
+			greaterXSlice = getOldSlice(xPlusOne);
 			newSmallerXSlice = newCurrentXSlice;
 			newCurrentXSlice = newGreaterXSlice;
-			newGreaterXSlice = new long[xPlusTwo];		
-			newGrid[xPlusOne] = newGreaterXSlice;
+			newGreaterXSlice = getNewSlice(newGrid, xPlusOne);		
 			newXSlices[0] = newSmallerXSlice;
 			newXSlices[1] = newCurrentXSlice;
 			newXSlices[2] = newGreaterXSlice;
@@ -707,7 +762,12 @@ public class LongAether2D extends IsotropicSquareLongArrayModelAsymmetricSection
 				// gx >= current <= sy
 				newCurrentXSlice[y] += currentValue;
 			}
-			grid[xMinusOne] = null;
+			if (newStepStatistics != null) {
+				addSliceStatistics(newGrid, xMinusOne);
+			}
+			if (oldSliceWindow == null) {
+				grid[xMinusOne] = null;
+			}
 		}
 		xSlices[1] = currentXSlice;
 		xSlices[2] = greaterXSlice;
@@ -1216,6 +1276,86 @@ public class LongAether2D extends IsotropicSquareLongArrayModelAsymmetricSection
 		return initialValue;
 	}
 
+	@Override
+	public void setInPlaceStepping(boolean inPlace) {
+		if (!inPlace) {
+			oldSliceWindow = null;
+		} else if (oldSliceWindow == null) {
+			oldSliceWindow = new long[3][];
+		}
+	}
+
+	@Override
+	public boolean isInPlaceStepping() {
+		return oldSliceWindow != null;
+	}
+
+	/**
+	 * Adds the values of a slice to the statistics of the step being computed. 
+	 * It must be called once the slice has its final values and before its old values are released.
+	 */
+	private void addSliceStatistics(long[][] newGrid, int x) {
+		newStepStatistics.addSlice(x, oldSliceWindow == null ? grid[x] : oldSliceWindow[x%3], newGrid[x]);
+		statisticsSliceCount = x + 1;
+	}
+	
+	private void addRemainingSlicesStatistics(long[][] newGrid) {
+		for (int x = statisticsSliceCount; x <= maxX; x++) {
+			if (x < grid.length) {
+				addSliceStatistics(newGrid, x);
+			} else {
+				newStepStatistics.addSlice(x, null, newGrid[x]);// the slices beyond the old grid were all zero
+			}
+		}
+	}
+
+	@Override
+	public void setStepStatisticsEnabled(boolean enabled) {
+		if (!enabled) {
+			stepStatistics = null;
+		} else if (stepStatistics == null) {
+			StepStatistics statistics = new StepStatistics(step, false);
+			for (int x = 0; x <= maxX; x++) {
+				statistics.addSlice(x, null, grid[x]);
+			}
+			stepStatistics = statistics;
+		}
+	}
+
+	@Override
+	public boolean isStepStatisticsEnabled() {
+		return stepStatistics != null;
+	}
+
+	@Override
+	public StepStatistics getStepStatistics() {
+		return stepStatistics;
+	}
+	
+	@Override
+	public long[] getMinAndMax() throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getMinAndMax();
+		}
+		return super.getMinAndMax();
+	}
+	
+	@Override
+	public long[] getEvenOddPositionsMinAndMax(boolean isEven) throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getEvenOddPositionsMinAndMax(isEven);
+		}
+		return super.getEvenOddPositionsMinAndMax(isEven);
+	}
+	
+	@Override
+	public BigInt getTotal() throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getTotal();
+		}
+		return super.getTotal();
+	}
+	
 	@Override
 	public long getStep() {
 		return step;
@@ -1233,6 +1373,19 @@ public class LongAether2D extends IsotropicSquareLongArrayModelAsymmetricSection
 
 	@Override
 	public void backUp(String backupPath, String backupName) throws FileNotFoundException, IOException {
+		Utils.serializeToFile(getBackupData(grid), backupPath, backupName);
+	}
+	
+	@Override
+	public SerializableModelData getBackupSnapshot() {
+		if (oldSliceWindow != null) {
+			return null;// in-place stepping overwrites the grid
+		}
+		// the following steps only release the slices of the current grid, so copying its outermost array is enough
+		return getBackupData(grid.clone());
+	}
+	
+	private SerializableModelData getBackupData(long[][] grid) {
 		SerializableModelData data = new SerializableModelData();
 		data.put(SerializableModelData.MODEL, SerializableModelData.Models.AETHER);
 		data.put(SerializableModelData.INITIAL_CONFIGURATION, initialValue);
@@ -1246,6 +1399,6 @@ public class LongAether2D extends IsotropicSquareLongArrayModelAsymmetricSection
 		data.put(SerializableModelData.COORDINATE_BOUNDS_IMPLEMENTATION_TYPE, SerializableModelData.CoordinateBoundsImplementationTypes.MAX_COORDINATE_INTEGER);
 		data.put(SerializableModelData.STEP, step);
 		data.put(SerializableModelData.CONFIGURATION_CHANGED_FROM_PREVIOUS_STEP, changed);
-		Utils.serializeToFile(data, backupPath, backupName);
+		return data;
 	}
 }
@@ -18,10 +18,17 @@ package cellularautomata.automata.aether;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.Arrays;
 
 import cellularautomata.Utils;
+import cellularautomata.model.InPlaceSteppingModel;
+import cellularautomata.model.MultithreadedModel;
 import cellularautomata.model.SerializableModelData;
+import cellularautomata.model.SnapshotBackupModel;
+import cellularautomata.model.StepStatistics;
+import cellularautomata.model.StepStatisticsModel;
 import cellularautomata.model3d.IsotropicCubicLongArrayModelAsymmetricSection;
+import cellularautomata.numbers.BigInt;
 
 /**
  * Implementation of the <a href="https://github.com/JaumeRibas/Aether2DImgMaker/wiki/Aether-Cellular-Automaton-Definition">Aether</a> cellular automaton in 3D with a single source initial configuration
@@ -29,7 +36,7 @@ import cellularautomata.model3d.IsotropicCubicLongArrayModelAsymmetricSection;
  * @author Jaume
  *
  */
-public class LongAether3D extends IsotropicCubicLongArrayModelAsymmetricSection {
+public class LongAether3D extends IsotropicCubicLongArrayModelAsymmetricSection implements MultithreadedModel, InPlaceSteppingModel, SnapshotBackupModel, StepStatisticsModel {
 	
 	//debug
 //	private static HashSet<Integer> coverage = new HashSet<Integer>();
@@ -40,6 +47,11 @@ public class LongAether3D extends IsotropicCubicLongArrayModelAsymmetricSection
 	private final long initialValue;
 	private long step;
 	private Boolean changed = null;
+	private SlabParallelStepper parallelStepper = null;
+	private long[][][] oldSliceWindow = null;
+	private StepStatistics stepStatistics = null;
+	private StepStatistics newStepStatistics = null;
+	private int statisticsSliceCount;
 	private int maxX;
 	
 	/**
@@ -90,14 +102,19 @@ public class LongAether3D extends IsotropicCubicLongArrayModelAsymmetricSection
 	
 	@Override
 	public Boolean nextStep() {
-		long[][][] newGrid = new long[maxX + 3][][];
+		if (stepStatistics != null) {
+			newStepStatistics = new StepStatistics(step + 1, true);
+			statisticsSliceCount = 0;
+		}
+		if (parallelStepper != null) {
+			parallelStepper.startStep();
+		}
+		long[][][] newGrid = oldSliceWindow == null ? new long[maxX + 3][][] : getInPlaceNewGrid();
 		boolean changed = false;
-		long[][] smallerXSlice = null, currentXSlice = grid[0], greaterXSlice = grid[1];
+		long[][] smallerXSlice = null, currentXSlice = getOldSlice(0), greaterXSlice = getOldSlice(1);
 		long[][] newSmallerXSlice = null, 
-				newCurrentXSlice = Utils.buildAnisotropic2DLongArray(1), 
-				newGreaterXSlice = Utils.buildAnisotropic2DLongArray(2);// build new grid progressively to save memory
-		newGrid[0] = newCurrentXSlice;
-		newGrid[1] = newGreaterXSlice;
+				newCurrentXSlice = getNewSlice(newGrid, 0), 
+				newGreaterXSlice = getNewSlice(newGrid, 1);// build new grid progressively to save memory
 		// x = 0, y = 0, z = 0
 		long currentValue = currentXSlice[0][0];
 		long greaterXNeighborValue = greaterXSlice[0][0];
@@ -107,11 +124,10 @@ public class LongAether3D extends IsotropicCubicLongArrayModelAsymmetricSection
 		// x = 1, y = 0, z = 0
 		// smallerXSlice = currentXSlice; // not needed here
 		currentXSlice = greaterXSlice;
-		greaterXSlice = grid[2];
+		greaterXSlice = getOldSlice(2);
 		newSmallerXSlice = newCurrentXSlice;
 		newCurrentXSlice = newGreaterXSlice;
-		newGreaterXSlice = Utils.buildAnisotropic2DLongArray(3);
-		newGrid[2] = newGreaterXSlice;
+		newGreaterXSlice = getNewSlice(newGrid, 2);
 		long[][][] newXSlices = new long[][][] { newSmallerXSlice, newCurrentXSlice, newGreaterXSlice};
 		long[] relevantAsymmetricNeighborValues = new long[6];
 		int[] sortedNeighborsIndexes = new int[6];
@@ -147,15 +163,19 @@ public class LongAether3D extends IsotropicCubicLongArrayModelAsymmetricSection
 		if (topplePositionOfType4(currentValue, greaterXNeighborValue, smallerZNeighborValue, newCurrentXSlice, newGreaterXSlice)) {
 			changed = true;
 		}
-		grid[0] = null;// free old grid progressively to save memory
+		if (newStepStatistics != null) {
+			addSliceStatistics(newGrid, 0);
+		}
+		if (oldSliceWindow == null) {
+			grid[0] = null;// free old grid progressively to save memory
+		}
 		// x = 2, y = 0, z = 0
 		smallerXSlice = currentXSlice;
 		currentXSlice = greaterXSlice;
-		greaterXSlice = grid[3];
+		greaterXSlice = getOldSlice(3);
 		newSmallerXSlice = newCurrentXSlice;
 		newCurrentXSlice = newGreaterXSlice;
-		newGreaterXSlice = Utils.buildAnisotropic2DLongArray(4);
-		newGrid[3] = newGreaterXSlice;
+		newGreaterXSlice = getNewSlice(newGrid, 3);
 		newXSlices[0] = newSmallerXSlice;
 		newXSlices[1] = newCurrentXSlice;
 		newXSlices[2] = newGreaterXSlice;
@@ -228,15 +248,19 @@ public class LongAether3D extends IsotropicCubicLongArrayModelAsymmetricSection
 				newGreaterXSlice)) {
 			changed = true;
 		}
-		grid[1] = null;
+		if (newStepStatistics != null) {
+			addSliceStatistics(newGrid, 1);
+		}
+		if (oldSliceWindow == null) {
+			grid[1] = null;
+		}
 		// x = 3, y = 0, z = 0
 		smallerXSlice = currentXSlice;
 		currentXSlice = greaterXSlice;
-		greaterXSlice = grid[4];
+		greaterXSlice = getOldSlice(4);
 		newSmallerXSlice = newCurrentXSlice;
 		newCurrentXSlice = newGreaterXSlice;
-		newGreaterXSlice = Utils.buildAnisotropic2DLongArray(5);
-		newGrid[4] = newGreaterXSlice;
+		newGreaterXSlice = getNewSlice(newGrid, 4);
 		newXSlices[0] = newSmallerXSlice;
 		newXSlices[1] = newCurrentXSlice;
 		newXSlices[2] = newGreaterXSlice;
@@ -363,16 +387,31 @@ public class LongAether3D extends IsotropicCubicLongArrayModelAsymmetricSection
 				newGreaterXSlice)) {
 			changed = true;
 		}
-		grid[2] = null;
+		if (newStepStatistics != null) {
+			addSliceStatistics(newGrid, 2);
+		}
+		if (oldSliceWindow == null) {
+			grid[2] = null;
+		}
 		// 4 <= x < edge - 2
 		int edge = grid.length - 1;
 		int edgeMinusTwo = edge - 2;
 		long[][][] xSlices = new long[][][] {null, currentXSlice, greaterXSlice};
 		newXSlices[1] = newCurrentXSlice;
 		newXSlices[2] = newGreaterXSlice;
-		if (toppleRangeBeyondX3(xSlices, newXSlices, newGrid, 4, edgeMinusTwo, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, 
-				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts)) { // is it faster to reuse these arrays?
-			changed = true;
+		if (parallelStepper == null) {
+			if (toppleRangeBeyondX3(xSlices, newXSlices, newGrid, 4, edgeMinusTwo, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, 
+					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts)) { // is it faster to reuse these arrays?
+				changed = true;
+			}
+		} else {
+			if (toppleRangeBeyondX3InParallel(newGrid, 4, edgeMinusTwo)) {
+				changed = true;
+			}
+			xSlices[1] = grid[edgeMinusTwo - 1];
+			xSlices[2] = grid[edgeMinusTwo];
+			newXSlices[1] = newGrid[edgeMinusTwo - 1];
+			newXSlices[2] = newGrid[edgeMinusTwo];
 		}
 		//edge - 2 <= x < edge
 		if (toppleRangeBeyondX3(xSlices, newXSlices, newGrid, edgeMinusTwo, edge, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, 
@@ -383,17 +422,68 @@ public class LongAether3D extends IsotropicCubicLongArrayModelAsymmetricSection
 		if (newGrid.length > grid.length) {
 			newGrid[grid.length] = Utils.buildAnisotropic2DLongArray(newGrid.length);
 		}
+		if (newStepStatistics != null) {
+			addRemainingSlicesStatistics(newGrid);
+			stepStatistics = newStepStatistics;
+			newStepStatistics = null;
+		}
 		grid = newGrid;
 		step++;
 		this.changed = changed;
+		if (parallelStepper != null) {
+			parallelStepper.endStep();
+		}
 		return changed;
 	}
 
+	private boolean toppleRangeBeyondX3InParallel(long[][][] newGrid, int minX, int maxX) {
+		for (int x = minX + 1; x <= maxX; x++) {
+			newGrid[x] = Utils.buildAnisotropic2DLongArray(x + 1);
+		}
+		return parallelStepper.topple(minX, maxX, (slabMinX, slabMaxX) -> {
+			long[][][] xSlices = new long[][][] {null, grid[slabMinX - 1], grid[slabMinX]};
+			long[][][] newXSlices = new long[][][] {null, newGrid[slabMinX - 1], newGrid[slabMinX]};
+			return toppleRangeBeyondX3(xSlices, newXSlices, newGrid, slabMinX, slabMaxX, new long[6], new int[6], new int[6][3], 
+					new int[6], new int[6]);
+		});
+	}
+
 	@Override
 	public Boolean isChanged() {
 		return changed;
 	}
 	
+	private long[][][] getInPlaceNewGrid() {
+		if (oldSliceWindow[0] == null || oldSliceWindow[0].length < grid.length) {
+			int windowSide = grid.length + grid.length/8 + 1;// leave room for the grid to grow
+			for (int i = 0; i < oldSliceWindow.length; i++) {
+				oldSliceWindow[i] = Utils.buildAnisotropic2DLongArray(windowSide);
+			}
+		}
+		int newSide = maxX + 3;
+		return grid.length < newSide ? Arrays.copyOf(grid, newSide) : grid;
+	}
+	
+	private long[][] getOldSlice(int x) {
+		long[][] slice = grid[x];
+		if (oldSliceWindow != null) {
+			// keep the old values of the slice in the window and clear it so that the new values can be added to it
+			long[][] oldSlice = oldSliceWindow[x%3];
+			Utils.moveValues(slice, oldSlice);
+			return oldSlice;
+		}
+		return slice;
+	}
+	
+	private long[][] getNewSlice(long[][][] newGrid, int x) {
+		long[][] slice = newGrid[x];
+		if (slice == null) {
+			slice = Utils.buildAnisotropic2DLongArray(x + 1);
+			newGrid[x] = slice;
+		}
+		return slice;
+	}
+	
 	private boolean toppleRangeBeyondX3(long[][][] xSlices, long[][][] newXSlices, long[][][] newGrid, int minX, int maxX, 
 			long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords, 
 			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts) {
@@ -405,11 +495,10 @@ public class LongAether3D extends IsotropicCubicLongArrayModelAsymmetricSection
 			// y = 0, z = 0
 			smallerXSlice = currentXSlice;
 			currentXSlice = greaterXSlice;
-			greaterXSlice = grid[xPlusOne];
+			greaterXSlice = getOldSlice(xPlusOne);
 			newSmallerXSlice = newCurrentXSlice;
 			newCurrentXSlice = newGreaterXSlice;
-			newGreaterXSlice = Utils.buildAnisotropic2DLongArray(xPlusTwo);
-			newGrid[xPlusOne] = newGreaterXSlice;
+			newGreaterXSlice = getNewSlice(newGrid, xPlusOne);
 			newXSlices[0] = newSmallerXSlice;
 			newXSlices[1] = newCurrentXSlice;
 			newXSlices[2] = newGreaterXSlice;
@@ -709,7 +798,12 @@ public class LongAether3D extends IsotropicCubicLongArrayModelAsymmetricSection
 					newGreaterXSlice)) {
 				anyToppled = true;
 			}
-			grid[xMinusOne] = null;
+			if (newStepStatistics != null && parallelStepper == null) {
+				addSliceStatistics(newGrid, xMinusOne);
+			}
+			if (parallelStepper == null && oldSliceWindow == null) {// in parallel and in-place modes the old slices are still needed
+				grid[xMinusOne] = null;
+			}
 		}
 		xSlices[1] = currentXSlice;
 		xSlices[2] = greaterXSlice;
@@ -2006,6 +2100,138 @@ public class LongAether3D extends IsotropicCubicLongArrayModelAsymmetricSection
 		return maxX;
 	}
 	
+	@Override
+	public void setThreadCount(int threadCount) {
+		if (threadCount < 1) {
+			throw new IllegalArgumentException("Thread count must be greater than zero.");
+		}
+		if (threadCount == 1) {
+			shutdownParallelStepper();
+		} else if (oldSliceWindow != null) {
+			throw new IllegalStateException("Multithreaded stepping is not compatible with in-place stepping.");
+		} else if (parallelStepper == null || parallelStepper.getThreadCount() != threadCount) {
+			shutdownParallelStepper();
+			parallelStepper = new SlabParallelStepper(threadCount, 3);
+		}
+	}
+	
+	private void shutdownParallelStepper() {
+		if (parallelStepper != null) {
+			parallelStepper.shutdown();
+			parallelStepper = null;
+		}
+	}
+
+	@Override
+	public int getThreadCount() {
+		return parallelStepper == null ? 1 : parallelStepper.getThreadCount();
+	}
+
+	@Override
+	public double getLastStepSpeedup() {
+		return parallelStepper == null ? Double.NaN : parallelStepper.getLastStepSpeedup();
+	}
+
+	@Override
+	public long getLastStepMillis() {
+		return parallelStepper == null ? -1 : parallelStepper.getLastStepMillis();
+	}
+	
+	@Override
+	public void setInPlaceStepping(boolean inPlace) {
+		if (!inPlace) {
+			oldSliceWindow = null;
+		} else if (oldSliceWindow == null) {
+			if (parallelStepper != null) {
+				throw new IllegalStateException("In-place stepping is not compatible with multithreaded stepping.");
+			}
+			oldSliceWindow = new long[3][][];
+		}
+	}
+
+	@Override
+	public boolean isInPlaceStepping() {
+		return oldSliceWindow != null;
+	}
+
+	/**
+	 * Adds the values of a slice to the statistics of the step being computed. 
+	 * It must be called once the slice has its final values and before its old values are released.
+	 */
+	private void addSliceStatistics(long[][][] newGrid, int x) {
+		newStepStatistics.addSlice(x, oldSliceWindow == null ? grid[x] : oldSliceWindow[x%3], newGrid[x]);
+		statisticsSliceCount = x + 1;
+	}
+	
+	private void addRemainingSlicesStatistics(long[][][] newGrid) {
+		if (parallelStepper == null) {
+			for (int x = statisticsSliceCount; x <= maxX; x++) {
+				if (x < grid.length) {
+					addSliceStatistics(newGrid, x);
+				} else {
+					newStepStatistics.addSlice(x, null, newGrid[x]);// the slices beyond the old grid were all zero
+				}
+			}
+		} else {
+			// in parallel mode the old slices within the toppled range are kept until the end of the step
+			parallelStepper.topple(statisticsSliceCount, maxX + 1, (slabMinX, slabMaxX) -> {
+				StepStatistics slabStatistics = new StepStatistics(newStepStatistics.getStep(), true);
+				for (int x = slabMinX; x != slabMaxX; x++) {
+					slabStatistics.addSlice(x, x < grid.length ? grid[x] : null, newGrid[x]);
+				}
+				newStepStatistics.add(slabStatistics);
+				return false;
+			});
+		}
+	}
+
+	@Override
+	public void setStepStatisticsEnabled(boolean enabled) {
+		if (!enabled) {
+			stepStatistics = null;
+		} else if (stepStatistics == null) {
+			StepStatistics statistics = new StepStatistics(step, false);
+			for (int x = 0; x <= maxX; x++) {
+				statistics.addSlice(x, null, grid[x]);
+			}
+			stepStatistics = statistics;
+		}
+	}
+
+	@Override
+	public boolean isStepStatisticsEnabled() {
+		return stepStatistics != null;
+	}
+
+	@Override
+	public StepStatistics getStepStatistics() {
+		return stepStatistics;
+	}
+	
+	@Override
+	public long[] getMinAndMax() throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getMinAndMax();
+		}
+		return super.getMinAndMax();
+	}
+	
+	@Override
+	public long[] getEvenOddPositionsMinAndMax(boolean isEven) throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getEvenOddPositionsMinAndMax(isEven);
+		}
+		return super.getEvenOddPositionsMinAndMax(isEven);
+	}
+	
+	@Override
+	public BigInt getTotal() throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getTotal();
+		}
+		return super.getTotal();
+	}
+	
 	@Override
 	public long getStep() {
 		return step;
@@ -2022,6 +2248,19 @@ public class LongAether3D extends IsotropicCubicLongArrayModelAsymmetricSection
 	
 	@Override
 	public void backUp(String backupPath, String backupName) throws FileNotFoundException, IOException {
+		Utils.serializeToFile(getBackupData(grid), backupPath, backupName);
+	}
+	
+	@Override
+	public SerializableModelData getBackupSnapshot() {
+		if (oldSliceWindow != null) {
+			return null;// in-place stepping overwrites the grid
+		}
+		// the following steps only release the slices of the current grid, so copying its outermost array is enough
+		return getBackupData(grid.clone());
+	}
+	
+	private SerializableModelData getBackupData(long[][][] grid) {
 		SerializableModelData data = new SerializableModelData();
 		data.put(SerializableModelData.MODEL, SerializableModelData.Models.AETHER);
 		data.put(SerializableModelData.INITIAL_CONFIGURATION, initialValue);
@@ -2035,7 +2274,7 @@ public class LongAether3D extends IsotropicCubicLongArrayModelAsymmetricSection
 		data.put(SerializableModelData.COORDINATE_BOUNDS_IMPLEMENTATION_TYPE, SerializableModelData.CoordinateBoundsImplementationTypes.MAX_COORDINATE_INTEGER);
 		data.put(SerializableModelData.STEP, step);
 		data.put(SerializableModelData.CONFIGURATION_CHANGED_FROM_PREVIOUS_STEP, changed);
-		Utils.serializeToFile(data, backupPath, backupName);
+		return data;
 	}
 
 	@Override
@@ -18,10 +18,17 @@ package cellularautomata.automata.aether;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.Arrays;
 
 import cellularautomata.Utils;
+import cellularautomata.model.InPlaceSteppingModel;
+import cellularautomata.model.MultithreadedModel;
 import cellularautomata.model.SerializableModelData;
+import cellularautomata.model.SnapshotBackupModel;
+import cellularautomata.model.StepStatistics;
+import cellularautomata.model.StepStatisticsModel;
 import cellularautomata.model5d.IsotropicHypercubicLongArrayModelAsymmetricSection5D;
+import cellularautomata.numbers.BigInt;
 
 /**
  * Implementation of the <a href="https://github.com/JaumeRibas/Aether2DImgMaker/wiki/Aether-Cellular-Automaton-Definition">Aether</a> cellular automaton in 5D with a single source initial configuration
@@ -29,7 +36,7 @@ import cellularautomata.model5d.IsotropicHypercubicLongArrayModelAsymmetricSecti
  * @author Jaume
  *
  */
-public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSection5D {
+public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSection5D implements MultithreadedModel, InPlaceSteppingModel, SnapshotBackupModel, StepStatisticsModel {
 	
 	public static final long MAX_INITIAL_VALUE = Long.MAX_VALUE;
 	public static final long MIN_INITIAL_VALUE = -2049638230412172401L;
@@ -38,6 +45,11 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 	private long step;
 	private int maxV;
 	private Boolean changed = null;
+	private SlabParallelStepper parallelStepper = null;
+	private long[][][][][] oldSliceWindow = null;
+	private StepStatistics stepStatistics = null;
+	private StepStatistics newStepStatistics = null;
+	private int statisticsSliceCount;
 
 	/**
 	 * Creates an instance with the given initial value
@@ -87,14 +99,19 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 
 	@Override
 	public Boolean nextStep() {
-		long[][][][][] newGrid = new long[maxV + 3][][][][];
+		if (stepStatistics != null) {
+			newStepStatistics = new StepStatistics(step + 1, true);
+			statisticsSliceCount = 0;
+		}
+		if (parallelStepper != null) {
+			parallelStepper.startStep();
+		}
+		long[][][][][] newGrid = oldSliceWindow == null ? new long[maxV + 3][][][][] : getInPlaceNewGrid();
 		boolean changed = false;
-		long[][][][] smallerVSlice = null, currentVSlice = grid[0], greaterVSlice = grid[1];
+		long[][][][] smallerVSlice = null, currentVSlice = getOldSlice(0), greaterVSlice = getOldSlice(1);
 		long[][][][] newSmallerVSlice = null, 
-				newCurrentVSlice = Utils.buildAnisotropic4DLongArray(1), 
-				newGreaterVSlice = Utils.buildAnisotropic4DLongArray(2);//build new grid progressively to save memory
-		newGrid[0] = newCurrentVSlice;
-		newGrid[1] = newGreaterVSlice;
+				newCurrentVSlice = getNewSlice(newGrid, 0), 
+				newGreaterVSlice = getNewSlice(newGrid, 1);//build new grid progressively to save memory
 		// 0 | 0 | 0 | 0 | 0 | 1
 		long currentValue = currentVSlice[0][0][0][0];
 		long greaterVNeighborValue = greaterVSlice[0][0][0][0];
@@ -104,11 +121,10 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 		//v slice transition
 		//smallerVSlice = currentVSlice; //not needed here
 		currentVSlice = greaterVSlice;
-		greaterVSlice = grid[2];
+		greaterVSlice = getOldSlice(2);
 		newSmallerVSlice = newCurrentVSlice;
 		newCurrentVSlice = newGreaterVSlice;
-		newGreaterVSlice = Utils.buildAnisotropic4DLongArray(3);
-		newGrid[2] = newGreaterVSlice;
+		newGreaterVSlice = getNewSlice(newGrid, 2);
 		long[][][][][] newVSlices = new long[][][][][] { newSmallerVSlice, newCurrentVSlice, newGreaterVSlice};
 		long[] relevantAsymmetricNeighborValues = new long[10];
 		int[] sortedNeighborsIndexes = new int[10];
@@ -167,15 +183,19 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 			changed = true;
 		}
 		//v slice transition
-		grid[0] = null;//free old grid progressively to save memory
+		if (newStepStatistics != null) {
+			addSliceStatistics(newGrid, 0);
+		}
+		if (oldSliceWindow == null) {
+			grid[0] = null;//free old grid progressively to save memory
+		}
 		smallerVSlice = currentVSlice;
 		currentVSlice = greaterVSlice;
-		greaterVSlice = grid[3];
+		greaterVSlice = getOldSlice(3);
 		long[][][][][] vSlices = new long[][][][][] { smallerVSlice, currentVSlice, greaterVSlice};
 		newSmallerVSlice = newCurrentVSlice;
 		newCurrentVSlice = newGreaterVSlice;
-		newGreaterVSlice = Utils.buildAnisotropic4DLongArray(4);
-		newGrid[3] = newGreaterVSlice;
+		newGreaterVSlice = getNewSlice(newGrid, 3);
 		newVSlices[0] = newSmallerVSlice;
 		newVSlices[1] = newCurrentVSlice;
 		newVSlices[2] = newGreaterVSlice;
@@ -350,17 +370,21 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 			changed = true;
 		}		
 		//v slice transition
-		grid[1] = null;//free old grid progressively to save memory
+		if (newStepStatistics != null) {
+			addSliceStatistics(newGrid, 1);
+		}
+		if (oldSliceWindow == null) {
+			grid[1] = null;//free old grid progressively to save memory
+		}
 		smallerVSlice = currentVSlice;
 		currentVSlice = greaterVSlice;
-		greaterVSlice = grid[4];
+		greaterVSlice = getOldSlice(4);
 		vSlices[0] = smallerVSlice;
 		vSlices[1] = currentVSlice;
 		vSlices[2] = greaterVSlice;
 		newSmallerVSlice = newCurrentVSlice;
 		newCurrentVSlice = newGreaterVSlice;
-		newGreaterVSlice = Utils.buildAnisotropic4DLongArray(5);
-		newGrid[4] = newGreaterVSlice;
+		newGreaterVSlice = getNewSlice(newGrid, 4);
 		newVSlices[0] = newSmallerVSlice;
 		newVSlices[1] = newCurrentVSlice;
 		newVSlices[2] = newGreaterVSlice;
@@ -635,17 +659,21 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 			changed = true;
 		}
 		//v slice transition
-		grid[2] = null;//free old grid progressively to save memory
+		if (newStepStatistics != null) {
+			addSliceStatistics(newGrid, 2);
+		}
+		if (oldSliceWindow == null) {
+			grid[2] = null;//free old grid progressively to save memory
+		}
 		smallerVSlice = currentVSlice;
 		currentVSlice = greaterVSlice;
-		greaterVSlice = grid[5];
+		greaterVSlice = getOldSlice(5);
 		vSlices[0] = smallerVSlice;
 		vSlices[1] = currentVSlice;
 		vSlices[2] = greaterVSlice;
 		newSmallerVSlice = newCurrentVSlice;
 		newCurrentVSlice = newGreaterVSlice;
-		newGreaterVSlice = Utils.buildAnisotropic4DLongArray(6);
-		newGrid[5] = newGreaterVSlice;
+		newGreaterVSlice = getNewSlice(newGrid, 5);
 		newVSlices[0] = newSmallerVSlice;
 		newVSlices[1] = newCurrentVSlice;
 		newVSlices[2] = newGreaterVSlice;
@@ -854,17 +882,21 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 			changed = true;
 		}
 		//v slice transition
-		grid[3] = null;//free old grid progressively to save memory
+		if (newStepStatistics != null) {
+			addSliceStatistics(newGrid, 3);
+		}
+		if (oldSliceWindow == null) {
+			grid[3] = null;//free old grid progressively to save memory
+		}
 		smallerVSlice = currentVSlice;
 		currentVSlice = greaterVSlice;
-		greaterVSlice = grid[6];
+		greaterVSlice = getOldSlice(6);
 		vSlices[0] = smallerVSlice;
 		vSlices[1] = currentVSlice;
 		vSlices[2] = greaterVSlice;
 		newSmallerVSlice = newCurrentVSlice;
 		newCurrentVSlice = newGreaterVSlice;
-		newGreaterVSlice = Utils.buildAnisotropic4DLongArray(7);
-		newGrid[6] = newGreaterVSlice;
+		newGreaterVSlice = getNewSlice(newGrid, 6);
 		newVSlices[0] = newSmallerVSlice;
 		newVSlices[1] = newCurrentVSlice;
 		newVSlices[2] = newGreaterVSlice;
@@ -937,9 +969,19 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 		//6 <= v < edge - 2
 		int edge = grid.length - 1;
 		int edgeMinusTwo = edge - 2;
-		if (toppleRangeBeyondV5(vSlices, newVSlices, newGrid, 6, edgeMinusTwo, 
-				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts)) {
-			changed = true;
+		if (parallelStepper == null) {
+			if (toppleRangeBeyondV5(vSlices, newVSlices, newGrid, 6, edgeMinusTwo, 
+					relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts)) {
+				changed = true;
+			}
+		} else {
+			if (toppleRangeBeyondV5InParallel(newGrid, 6, edgeMinusTwo)) {
+				changed = true;
+			}
+			vSlices[1] = grid[edgeMinusTwo - 1];
+			vSlices[2] = grid[edgeMinusTwo];
+			newVSlices[1] = newGrid[edgeMinusTwo - 1];
+			newVSlices[2] = newGrid[edgeMinusTwo];
 		}
 		//edge - 2 <= v < edge
 		if (toppleRangeBeyondV5(vSlices, newVSlices, newGrid, edgeMinusTwo, edge, 
@@ -950,319 +992,309 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 		if (newGrid.length > grid.length) {
 			newGrid[grid.length] = Utils.buildAnisotropic4DLongArray(newGrid.length);
 		}
+		if (newStepStatistics != null) {
+			addRemainingSlicesStatistics(newGrid);
+			stepStatistics = newStepStatistics;
+			newStepStatistics = null;
+		}
 		grid = newGrid;
 		step++;
 		this.changed = changed;
+		if (parallelStepper != null) {
+			parallelStepper.endStep();
+		}
 		return changed;
 	}
 
+	private boolean toppleRangeBeyondV5InParallel(long[][][][][] newGrid, int minV, int maxV) {
+		for (int v = minV + 1; v <= maxV; v++) {
+			newGrid[v] = Utils.buildAnisotropic4DLongArray(v + 1);
+		}
+		return parallelStepper.topple(minV, maxV, (slabMinV, slabMaxV) -> {
+			long[][][][][] vSlices = new long[][][][][] {null, grid[slabMinV - 1], grid[slabMinV]};
+			long[][][][][] newVSlices = new long[][][][][] {null, newGrid[slabMinV - 1], newGrid[slabMinV]};
+			return toppleRangeBeyondV5(vSlices, newVSlices, newGrid, slabMinV, slabMaxV, new long[10], new int[10], new int[10][5], 
+					new int[10], new int[10]);
+		});
+	}
+
 	@Override
 	public Boolean isChanged() {
 		return changed;
 	}
+	
+	private long[][][][][] getInPlaceNewGrid() {
+		if (oldSliceWindow[0] == null || oldSliceWindow[0].length < grid.length) {
+			int windowSide = grid.length + grid.length/8 + 1;// leave room for the grid to grow
+			for (int i = 0; i < oldSliceWindow.length; i++) {
+				oldSliceWindow[i] = Utils.buildAnisotropic4DLongArray(windowSide);
+			}
+		}
+		int newSide = maxV + 3;
+		return grid.length < newSide ? Arrays.copyOf(grid, newSide) : grid;
+	}
+	
+	private long[][][][] getOldSlice(int v) {
+		long[][][][] slice = grid[v];
+		if (oldSliceWindow != null) {
+			// keep the old values of the slice in the window and clear it so that the new values can be added to it
+			long[][][][] oldSlice = oldSliceWindow[v%3];
+			Utils.moveValues(slice, oldSlice);
+			return oldSlice;
+		}
+		return slice;
+	}
+	
+	private long[][][][] getNewSlice(long[][][][][] newGrid, int v) {
+		long[][][][] slice = newGrid[v];
+		if (slice == null) {
+			slice = Utils.buildAnisotropic4DLongArray(v + 1);
+			newGrid[v] = slice;
+		}
+		return slice;
+	}
 
 	private boolean toppleRangeBeyondV5(long[][][][][] vSlices, long[][][][][] newVSlices, long[][][][][] newGrid, int minV,
 			int maxV, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords,
 			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts) {
 		boolean changed = false;
-		int v = minV, vMinusOne = v - 1, vMinusTwo = v - 2, vMinusThree = v - 3, vMinusFour = v - 4, vPlusOne = v + 1, vPlusTwo = v + 2;
+		int v = minV, vMinusOne = v - 1, vMinusTwo = v - 2, vPlusOne = v + 1;
 		long[][][][] smallerVSlice = null, currentVSlice = vSlices[1], greaterVSlice = vSlices[2];
 		long[][][][] newSmallerVSlice = null, newCurrentVSlice = newVSlices[1], newGreaterVSlice = newVSlices[2];
-		for (; v != maxV; vMinusFour = vMinusThree, vMinusThree = vMinusTwo, vMinusTwo = vMinusOne, vMinusOne = v, v = vPlusOne, vPlusOne = vPlusTwo, vPlusTwo++) {
+		for (; v != maxV; vMinusTwo = vMinusOne, vMinusOne = v, v = vPlusOne, vPlusOne++) {
 			//v slice transition
-			grid[vMinusTwo] = null;//free old grid progressively to save memory
+			if (newStepStatistics != null && parallelStepper == null) {
+				addSliceStatistics(newGrid, vMinusTwo);
+			}
+			if (parallelStepper == null && oldSliceWindow == null) {// in parallel and in-place modes the old slices are still needed
+				grid[vMinusTwo] = null;//free old grid progressively to save memory
+			}
 			smallerVSlice = currentVSlice;
 			currentVSlice = greaterVSlice;
-			greaterVSlice = grid[vPlusOne];
+			greaterVSlice = getOldSlice(vPlusOne);
 			vSlices[0] = smallerVSlice;
 			vSlices[1] = currentVSlice;
 			vSlices[2] = greaterVSlice;
 			newSmallerVSlice = newCurrentVSlice;
 			newCurrentVSlice = newGreaterVSlice;
-			newGreaterVSlice = Utils.buildAnisotropic4DLongArray(vPlusTwo);
-			newGrid[vPlusOne] = newGreaterVSlice;
+			newGreaterVSlice = getNewSlice(newGrid, vPlusOne);
 			newVSlices[0] = newSmallerVSlice;
 			newVSlices[1] = newCurrentVSlice;
 			newVSlices[2] = newGreaterVSlice;
-			if (toppleRangeOfType11(vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+			if (toppleVSliceBeyondV5WithWBelowVMinusOne(v, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
 				changed = true;
 			}
-			if (toppleRangeOfType15(4, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+			if (toppleVSliceBeyondV5WithWEqualToVMinusOne(v, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+				changed = true;
+			}
+		}		
+		vSlices[1] = currentVSlice;
+		vSlices[2] = greaterVSlice;
+		newVSlices[1] = newCurrentVSlice;
+		newVSlices[2] = newGreaterVSlice;
+		return changed;
+	}
+
+	/**
+	 * Topples the positions of a v slice, beyond v = 5, with a w coordinate smaller than v - 1.
+	 * Split from {@link #toppleRangeBeyondV5} to keep each method under the JIT's huge method limit.
+	 */
+	private static boolean toppleVSliceBeyondV5WithWBelowVMinusOne(int v, long[][][][][] vSlices, long[][][][][] newVSlices, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) {
+		int vMinusOne = v - 1;
+		long[][][][] smallerVSlice = vSlices[0], currentVSlice = vSlices[1], greaterVSlice = vSlices[2];
+		boolean changed = false;
+		if (toppleRangeOfType11(vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
+		if (toppleRangeOfType15(4, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
+		if (toppleRangeOfType16(4, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
+		// v | 4 | 3 | 2 | 0 | 156
+		long currentValue = currentVSlice[4][3][2][0];
+		long greaterVNeighborValue = greaterVSlice[4][3][2][0];
+		long smallerVNeighborValue = smallerVSlice[4][3][2][0];
+		long greaterWNeighborValue = currentVSlice[5][3][2][0];
+		long smallerWNeighborValue = currentVSlice[3][3][2][0];
+		long greaterXNeighborValue = currentVSlice[4][4][2][0];
+		long smallerXNeighborValue = currentVSlice[4][2][2][0];
+		long greaterYNeighborValue = currentVSlice[4][3][3][0];
+		long smallerYNeighborValue = currentVSlice[4][3][1][0];
+		long greaterZNeighborValue = currentVSlice[4][3][2][1];
+		if (topplePositionOfType36(4, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+		}
+		// v | 4 | 3 | 2 | 1 | 157
+		//reuse values obtained previously
+		long smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[4][3][2][1];
+		smallerVNeighborValue = smallerVSlice[4][3][2][1];
+		greaterWNeighborValue = currentVSlice[5][3][2][1];
+		smallerWNeighborValue = currentVSlice[3][3][2][1];
+		greaterXNeighborValue = currentVSlice[4][4][2][1];
+		smallerXNeighborValue = currentVSlice[4][2][2][1];
+		greaterYNeighborValue = currentVSlice[4][3][3][1];
+		smallerYNeighborValue = currentVSlice[4][3][1][1];
+		greaterZNeighborValue = currentVSlice[4][3][2][2];
+		if (topplePositionOfType47(4, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				newVSlices)) {
+			changed = true;
+		}
+		// v | 4 | 3 | 2 | 2 | 158
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[4][3][2][2];
+		smallerVNeighborValue = smallerVSlice[4][3][2][2];
+		greaterWNeighborValue = currentVSlice[5][3][2][2];
+		smallerWNeighborValue = currentVSlice[3][3][2][2];
+		greaterXNeighborValue = currentVSlice[4][4][2][2];
+		smallerXNeighborValue = currentVSlice[4][2][2][2];
+		greaterYNeighborValue = currentVSlice[4][3][3][2];
+		if (topplePositionOfType37(4, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
+				greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+		}
+		if (toppleRangeOfType17(4, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
+		int w = 5, wMinusOne = 4, wPlusOne = 6;
+		for (int wMinusTwo = 3, wMinusThree = 2; w != vMinusOne; wMinusThree = wMinusTwo, wMinusTwo = wMinusOne, wMinusOne = w, w = wPlusOne, wPlusOne++) {
+			if (toppleRangeOfType15(w, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
 				changed = true;
 			}
-			if (toppleRangeOfType16(4, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+			if (toppleRangeOfType18(w, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
 				changed = true;
 			}
-			// v | 4 | 3 | 2 | 0 | 156
-			long currentValue = currentVSlice[4][3][2][0];
-			long greaterVNeighborValue = greaterVSlice[4][3][2][0];
-			long smallerVNeighborValue = smallerVSlice[4][3][2][0];
-			long greaterWNeighborValue = currentVSlice[5][3][2][0];
-			long smallerWNeighborValue = currentVSlice[3][3][2][0];
-			long greaterXNeighborValue = currentVSlice[4][4][2][0];
-			long smallerXNeighborValue = currentVSlice[4][2][2][0];
-			long greaterYNeighborValue = currentVSlice[4][3][3][0];
-			long smallerYNeighborValue = currentVSlice[4][3][1][0];
-			long greaterZNeighborValue = currentVSlice[4][3][2][1];
-			if (topplePositionOfType36(4, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+			// v | w | 3 | 2 | 0 | 195
+			currentValue = currentVSlice[w][3][2][0];
+			greaterVNeighborValue = greaterVSlice[w][3][2][0];
+			smallerVNeighborValue = smallerVSlice[w][3][2][0];
+			greaterWNeighborValue = currentVSlice[wPlusOne][3][2][0];
+			smallerWNeighborValue = currentVSlice[wMinusOne][3][2][0];
+			greaterXNeighborValue = currentVSlice[w][4][2][0];
+			smallerXNeighborValue = currentVSlice[w][2][2][0];
+			greaterYNeighborValue = currentVSlice[w][3][3][0];
+			smallerYNeighborValue = currentVSlice[w][3][1][0];
+			greaterZNeighborValue = currentVSlice[w][3][2][1];
+			if (topplePositionOfType36(w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 				changed = true;
 			}
-			// v | 4 | 3 | 2 | 1 | 157
+			// v | w | 3 | 2 | 1 | 196
 			//reuse values obtained previously
-			long smallerZNeighborValue = currentValue;
+			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterVNeighborValue = greaterVSlice[4][3][2][1];
-			smallerVNeighborValue = smallerVSlice[4][3][2][1];
-			greaterWNeighborValue = currentVSlice[5][3][2][1];
-			smallerWNeighborValue = currentVSlice[3][3][2][1];
-			greaterXNeighborValue = currentVSlice[4][4][2][1];
-			smallerXNeighborValue = currentVSlice[4][2][2][1];
-			greaterYNeighborValue = currentVSlice[4][3][3][1];
-			smallerYNeighborValue = currentVSlice[4][3][1][1];
-			greaterZNeighborValue = currentVSlice[4][3][2][2];
-			if (topplePositionOfType47(4, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+			greaterVNeighborValue = greaterVSlice[w][3][2][1];
+			smallerVNeighborValue = smallerVSlice[w][3][2][1];
+			greaterWNeighborValue = currentVSlice[wPlusOne][3][2][1];
+			smallerWNeighborValue = currentVSlice[wMinusOne][3][2][1];
+			greaterXNeighborValue = currentVSlice[w][4][2][1];
+			smallerXNeighborValue = currentVSlice[w][2][2][1];
+			greaterYNeighborValue = currentVSlice[w][3][3][1];
+			smallerYNeighborValue = currentVSlice[w][3][1][1];
+			greaterZNeighborValue = currentVSlice[w][3][2][2];
+			if (topplePositionOfType47(w, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 					greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					newVSlices)) {
 				changed = true;
 			}
-			// v | 4 | 3 | 2 | 2 | 158
+			// v | w | 3 | 2 | 2 | 197
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterVNeighborValue = greaterVSlice[4][3][2][2];
-			smallerVNeighborValue = smallerVSlice[4][3][2][2];
-			greaterWNeighborValue = currentVSlice[5][3][2][2];
-			smallerWNeighborValue = currentVSlice[3][3][2][2];
-			greaterXNeighborValue = currentVSlice[4][4][2][2];
-			smallerXNeighborValue = currentVSlice[4][2][2][2];
-			greaterYNeighborValue = currentVSlice[4][3][3][2];
-			if (topplePositionOfType37(4, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
+			greaterVNeighborValue = greaterVSlice[w][3][2][2];
+			smallerVNeighborValue = smallerVSlice[w][3][2][2];
+			greaterWNeighborValue = currentVSlice[wPlusOne][3][2][2];
+			smallerWNeighborValue = currentVSlice[wMinusOne][3][2][2];
+			greaterXNeighborValue = currentVSlice[w][4][2][2];
+			smallerXNeighborValue = currentVSlice[w][2][2][2];
+			greaterYNeighborValue = currentVSlice[w][3][3][2];
+			if (topplePositionOfType37(w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
 					greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 				changed = true;
 			}
-			if (toppleRangeOfType17(4, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+			if (toppleRangeOfType19(w, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
 				changed = true;
-			}
-			int w = 5, wMinusOne = 4, wPlusOne = 6;
-			for (int wMinusTwo = 3, wMinusThree = 2; w != vMinusOne; wMinusThree = wMinusTwo, wMinusTwo = wMinusOne, wMinusOne = w, w = wPlusOne, wPlusOne++) {
-				if (toppleRangeOfType15(w, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
-					changed = true;
-				}
-				if (toppleRangeOfType18(w, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+			}			
+			int x = 4, xMinusOne = 3, xPlusOne = 5;
+			for (int xMinusTwo = 2; x != wMinusOne; xMinusTwo = xMinusOne, xMinusOne = x, x = xPlusOne, xPlusOne++) {
+				if (toppleRangeOfType18(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
 					changed = true;
 				}
-				// v | w | 3 | 2 | 0 | 195
-				currentValue = currentVSlice[w][3][2][0];
-				greaterVNeighborValue = greaterVSlice[w][3][2][0];
-				smallerVNeighborValue = smallerVSlice[w][3][2][0];
-				greaterWNeighborValue = currentVSlice[wPlusOne][3][2][0];
-				smallerWNeighborValue = currentVSlice[wMinusOne][3][2][0];
-				greaterXNeighborValue = currentVSlice[w][4][2][0];
-				smallerXNeighborValue = currentVSlice[w][2][2][0];
-				greaterYNeighborValue = currentVSlice[w][3][3][0];
-				smallerYNeighborValue = currentVSlice[w][3][1][0];
-				greaterZNeighborValue = currentVSlice[w][3][2][1];
-				if (topplePositionOfType36(w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				// v | w | x | 2 | 0 | 223
+				currentValue = currentVSlice[w][x][2][0];
+				greaterVNeighborValue = greaterVSlice[w][x][2][0];
+				smallerVNeighborValue = smallerVSlice[w][x][2][0];
+				greaterWNeighborValue = currentVSlice[wPlusOne][x][2][0];
+				smallerWNeighborValue = currentVSlice[wMinusOne][x][2][0];
+				greaterXNeighborValue = currentVSlice[w][xPlusOne][2][0];
+				smallerXNeighborValue = currentVSlice[w][xMinusOne][2][0];
+				greaterYNeighborValue = currentVSlice[w][x][3][0];
+				smallerYNeighborValue = currentVSlice[w][x][1][0];
+				greaterZNeighborValue = currentVSlice[w][x][2][1];
+				if (topplePositionOfType58(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
+						greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 					changed = true;
 				}
-				// v | w | 3 | 2 | 1 | 196
+				// v | w | x | 2 | 1 | 224
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterVNeighborValue = greaterVSlice[w][3][2][1];
-				smallerVNeighborValue = smallerVSlice[w][3][2][1];
-				greaterWNeighborValue = currentVSlice[wPlusOne][3][2][1];
-				smallerWNeighborValue = currentVSlice[wMinusOne][3][2][1];
-				greaterXNeighborValue = currentVSlice[w][4][2][1];
-				smallerXNeighborValue = currentVSlice[w][2][2][1];
-				greaterYNeighborValue = currentVSlice[w][3][3][1];
-				smallerYNeighborValue = currentVSlice[w][3][1][1];
-				greaterZNeighborValue = currentVSlice[w][3][2][2];
-				if (topplePositionOfType47(w, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				greaterVNeighborValue = greaterVSlice[w][x][2][1];
+				smallerVNeighborValue = smallerVSlice[w][x][2][1];
+				greaterWNeighborValue = currentVSlice[wPlusOne][x][2][1];
+				smallerWNeighborValue = currentVSlice[wMinusOne][x][2][1];
+				greaterXNeighborValue = currentVSlice[w][xPlusOne][2][1];
+				smallerXNeighborValue = currentVSlice[w][xMinusOne][2][1];
+				greaterYNeighborValue = currentVSlice[w][x][3][1];
+				smallerYNeighborValue = currentVSlice[w][x][1][1];
+				greaterZNeighborValue = currentVSlice[w][x][2][2];
+				if (topplePositionOfType47(w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newVSlices)) {
 					changed = true;
 				}
-				// v | w | 3 | 2 | 2 | 197
+				// v | w | x | 2 | 2 | 225
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
-				greaterVNeighborValue = greaterVSlice[w][3][2][2];
-				smallerVNeighborValue = smallerVSlice[w][3][2][2];
-				greaterWNeighborValue = currentVSlice[wPlusOne][3][2][2];
-				smallerWNeighborValue = currentVSlice[wMinusOne][3][2][2];
-				greaterXNeighborValue = currentVSlice[w][4][2][2];
-				smallerXNeighborValue = currentVSlice[w][2][2][2];
-				greaterYNeighborValue = currentVSlice[w][3][3][2];
-				if (topplePositionOfType37(w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
-						greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				greaterVNeighborValue = greaterVSlice[w][x][2][2];
+				smallerVNeighborValue = smallerVSlice[w][x][2][2];
+				greaterWNeighborValue = currentVSlice[wPlusOne][x][2][2];
+				smallerWNeighborValue = currentVSlice[wMinusOne][x][2][2];
+				greaterXNeighborValue = currentVSlice[w][xPlusOne][2][2];
+				smallerXNeighborValue = currentVSlice[w][xMinusOne][2][2];
+				greaterYNeighborValue = currentVSlice[w][x][3][2];
+				if (topplePositionOfType59(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, 
+						smallerXNeighborValue, greaterYNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 					changed = true;
 				}
-				if (toppleRangeOfType19(w, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
-					changed = true;
-				}			
-				int x = 4, xMinusOne = 3, xPlusOne = 5;
-				for (int xMinusTwo = 2; x != wMinusOne; xMinusTwo = xMinusOne, xMinusOne = x, x = xPlusOne, xPlusOne++) {
-					if (toppleRangeOfType18(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-							relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
-						changed = true;
-					}
-					// v | w | x | 2 | 0 | 223
-					currentValue = currentVSlice[w][x][2][0];
-					greaterVNeighborValue = greaterVSlice[w][x][2][0];
-					smallerVNeighborValue = smallerVSlice[w][x][2][0];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][2][0];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][2][0];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][2][0];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][2][0];
-					greaterYNeighborValue = currentVSlice[w][x][3][0];
-					smallerYNeighborValue = currentVSlice[w][x][1][0];
-					greaterZNeighborValue = currentVSlice[w][x][2][1];
-					if (topplePositionOfType58(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
-							greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
-							relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-						changed = true;
-					}
-					// v | w | x | 2 | 1 | 224
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = greaterVSlice[w][x][2][1];
-					smallerVNeighborValue = smallerVSlice[w][x][2][1];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][2][1];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][2][1];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][2][1];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][2][1];
-					greaterYNeighborValue = currentVSlice[w][x][3][1];
-					smallerYNeighborValue = currentVSlice[w][x][1][1];
-					greaterZNeighborValue = currentVSlice[w][x][2][2];
-					if (topplePositionOfType47(w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							newVSlices)) {
-						changed = true;
-					}
-					// v | w | x | 2 | 2 | 225
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = greaterVSlice[w][x][2][2];
-					smallerVNeighborValue = smallerVSlice[w][x][2][2];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][2][2];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][2][2];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][2][2];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][2][2];
-					greaterYNeighborValue = currentVSlice[w][x][3][2];
-					if (topplePositionOfType59(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, 
-							smallerXNeighborValue, greaterYNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
-							relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-						changed = true;
-					}
-					int y = 3, yMinusOne = 2, yPlusOne = 4;
-					for (; y != xMinusOne; yMinusOne = y, y = yPlusOne, yPlusOne++) {
-						// v | w | x | y | 0 | 223
-						currentValue = currentVSlice[w][x][y][0];
-						greaterVNeighborValue = greaterVSlice[w][x][y][0];
-						smallerVNeighborValue = smallerVSlice[w][x][y][0];
-						greaterWNeighborValue = currentVSlice[wPlusOne][x][y][0];
-						smallerWNeighborValue = currentVSlice[wMinusOne][x][y][0];
-						greaterXNeighborValue = currentVSlice[w][xPlusOne][y][0];
-						smallerXNeighborValue = currentVSlice[w][xMinusOne][y][0];
-						greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
-						smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
-						greaterZNeighborValue = currentVSlice[w][x][y][1];
-						if (topplePositionOfType58(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
-								greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
-								relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-							changed = true;
-						}
-						// v | w | x | y | 1 | 238
-						//reuse values obtained previously
-						smallerZNeighborValue = currentValue;
-						currentValue = greaterZNeighborValue;
-						greaterVNeighborValue = greaterVSlice[w][x][y][1];
-						smallerVNeighborValue = smallerVSlice[w][x][y][1];
-						greaterWNeighborValue = currentVSlice[wPlusOne][x][y][1];
-						smallerWNeighborValue = currentVSlice[wMinusOne][x][y][1];
-						greaterXNeighborValue = currentVSlice[w][xPlusOne][y][1];
-						smallerXNeighborValue = currentVSlice[w][xMinusOne][y][1];
-						greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
-						smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
-						greaterZNeighborValue = currentVSlice[w][x][y][2];
-						if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-								greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-								newVSlices)) {
-							changed = true;
-						}
-						int z = 2, zPlusOne = 3;
-						for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
-							// v | w | x | y | z | 243
-							//reuse values obtained previously
-							smallerZNeighborValue = currentValue;
-							currentValue = greaterZNeighborValue;
-							greaterVNeighborValue = greaterVSlice[w][x][y][z];
-							smallerVNeighborValue = smallerVSlice[w][x][y][z];
-							greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-							smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-							greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-							smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-							greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-							smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
-							greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-							if (topplePositionOfType63(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
-									greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, newVSlices)) {
-								changed = true;
-							}
-						}
-						// v | w | x | y | z | 239
-						//reuse values obtained previously
-						smallerZNeighborValue = currentValue;
-						currentValue = greaterZNeighborValue;
-						greaterVNeighborValue = greaterVSlice[w][x][y][z];
-						smallerVNeighborValue = smallerVSlice[w][x][y][z];
-						greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-						smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-						greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-						smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-						greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-						smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
-						greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-						if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-								greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-								newVSlices)) {
-							changed = true;
-						}
-						z = y;
-						// v | w | x | y | z | 225
-						//reuse values obtained previously
-						smallerZNeighborValue = currentValue;
-						currentValue = greaterZNeighborValue;
-						greaterVNeighborValue = greaterVSlice[w][x][y][z];
-						smallerVNeighborValue = smallerVSlice[w][x][y][z];
-						greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-						smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-						greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-						smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-						greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-						if (topplePositionOfType59(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, 
-								smallerXNeighborValue, greaterYNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
-								relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-							changed = true;
-						}
-					}
-					// v | w | x | y | 0 | 195
+				int y = 3, yMinusOne = 2, yPlusOne = 4;
+				for (; y != xMinusOne; yMinusOne = y, y = yPlusOne, yPlusOne++) {
+					// v | w | x | y | 0 | 223
 					currentValue = currentVSlice[w][x][y][0];
 					greaterVNeighborValue = greaterVSlice[w][x][y][0];
 					smallerVNeighborValue = smallerVSlice[w][x][y][0];
@@ -1273,12 +1305,12 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
 					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
 					greaterZNeighborValue = currentVSlice[w][x][y][1];
-					if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-							greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					if (topplePositionOfType58(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
+							greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 							relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 						changed = true;
 					}
-					// v | w | x | y | 1 | 226
+					// v | w | x | y | 1 | 238
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
@@ -1291,14 +1323,14 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
 					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
 					greaterZNeighborValue = currentVSlice[w][x][y][2];
-					if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-							greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
+							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 							newVSlices)) {
 						changed = true;
 					}
 					int z = 2, zPlusOne = 3;
-					for (; z != xMinusTwo; z = zPlusOne, zPlusOne++) {
-						// v | w | x | y | z | 240
+					for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
+						// v | w | x | y | z | 243
 						//reuse values obtained previously
 						smallerZNeighborValue = currentValue;
 						currentValue = greaterZNeighborValue;
@@ -1311,13 +1343,12 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 						greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 						smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 						greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-						if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-								greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-								newVSlices)) {
+						if (topplePositionOfType63(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
+								greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, newVSlices)) {
 							changed = true;
 						}
 					}
-					// v | w | x | y | z | 227
+					// v | w | x | y | z | 239
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
@@ -1330,13 +1361,13 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 					greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-							greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
+							greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 							newVSlices)) {
 						changed = true;
 					}
-					z = xMinusOne;
-					// v | w | x | y | z | 197
+					z = y;
+					// v | w | x | y | z | 225
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
@@ -1347,180 +1378,29 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
 					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
 					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-					if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
-							greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					if (topplePositionOfType59(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, 
+							smallerXNeighborValue, greaterYNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 							relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 						changed = true;
 					}
-					if (toppleRangeOfType19(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-							relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
-						changed = true;
-					}
-				}
-				if (toppleRangeOfType16(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
-					changed = true;
 				}
-				// v | w | x | 2 | 0 | 200
-				currentValue = currentVSlice[w][x][2][0];
-				greaterVNeighborValue = greaterVSlice[w][x][2][0];
-				smallerVNeighborValue = smallerVSlice[w][x][2][0];
-				greaterWNeighborValue = currentVSlice[wPlusOne][x][2][0];
-				smallerWNeighborValue = currentVSlice[wMinusOne][x][2][0];
-				greaterXNeighborValue = currentVSlice[w][xPlusOne][2][0];
-				smallerXNeighborValue = currentVSlice[w][xMinusOne][2][0];
-				greaterYNeighborValue = currentVSlice[w][x][3][0];
-				smallerYNeighborValue = currentVSlice[w][x][1][0];
-				greaterZNeighborValue = currentVSlice[w][x][2][1];
-				if (topplePositionOfType36(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				// v | w | x | y | 0 | 195
+				currentValue = currentVSlice[w][x][y][0];
+				greaterVNeighborValue = greaterVSlice[w][x][y][0];
+				smallerVNeighborValue = smallerVSlice[w][x][y][0];
+				greaterWNeighborValue = currentVSlice[wPlusOne][x][y][0];
+				smallerWNeighborValue = currentVSlice[wMinusOne][x][y][0];
+				greaterXNeighborValue = currentVSlice[w][xPlusOne][y][0];
+				smallerXNeighborValue = currentVSlice[w][xMinusOne][y][0];
+				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
+				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
+				greaterZNeighborValue = currentVSlice[w][x][y][1];
+				if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
+						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 					changed = true;
 				}
-				// v | w | x | 2 | 1 | 201
-				//reuse values obtained previously
-				smallerZNeighborValue = currentValue;
-				currentValue = greaterZNeighborValue;
-				greaterVNeighborValue = greaterVSlice[w][x][2][1];
-				smallerVNeighborValue = smallerVSlice[w][x][2][1];
-				greaterWNeighborValue = currentVSlice[wPlusOne][x][2][1];
-				smallerWNeighborValue = currentVSlice[wMinusOne][x][2][1];
-				greaterXNeighborValue = currentVSlice[w][xPlusOne][2][1];
-				smallerXNeighborValue = currentVSlice[w][xMinusOne][2][1];
-				greaterYNeighborValue = currentVSlice[w][x][3][1];
-				smallerYNeighborValue = currentVSlice[w][x][1][1];
-				greaterZNeighborValue = currentVSlice[w][x][2][2];
-				if (topplePositionOfType47(w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						newVSlices)) {
-					changed = true;
-				}
-				// v | w | x | 2 | 2 | 202
-				//reuse values obtained previously
-				smallerZNeighborValue = currentValue;
-				currentValue = greaterZNeighborValue;
-				greaterVNeighborValue = greaterVSlice[w][x][2][2];
-				smallerVNeighborValue = smallerVSlice[w][x][2][2];
-				greaterWNeighborValue = currentVSlice[wPlusOne][x][2][2];
-				smallerWNeighborValue = currentVSlice[wMinusOne][x][2][2];
-				greaterXNeighborValue = currentVSlice[w][xPlusOne][2][2];
-				smallerXNeighborValue = currentVSlice[w][xMinusOne][2][2];
-				greaterYNeighborValue = currentVSlice[w][x][3][2];
-				if (topplePositionOfType37(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-					changed = true;
-				}
-				int y = 3, yMinusOne = 2, yPlusOne = 4;
-				for (; y != wMinusTwo; yMinusOne = y, y = yPlusOne, yPlusOne++) {
-					// v | w | x | y | 0 | 200
-					currentValue = currentVSlice[w][x][y][0];
-					greaterVNeighborValue = greaterVSlice[w][x][y][0];
-					smallerVNeighborValue = smallerVSlice[w][x][y][0];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][y][0];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][y][0];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][0];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][0];
-					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
-					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
-					greaterZNeighborValue = currentVSlice[w][x][y][1];
-					if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-						changed = true;
-					}
-					// v | w | x | y | 1 | 229
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = greaterVSlice[w][x][y][1];
-					smallerVNeighborValue = smallerVSlice[w][x][y][1];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][y][1];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][y][1];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][1];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][1];
-					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
-					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
-					greaterZNeighborValue = currentVSlice[w][x][y][2];
-					if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							newVSlices)) {
-						changed = true;
-					}
-					int z = 2, zPlusOne = 3;
-					for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
-						// v | w | x | y | z | 241
-						//reuse values obtained previously
-						smallerZNeighborValue = currentValue;
-						currentValue = greaterZNeighborValue;
-						greaterVNeighborValue = greaterVSlice[w][x][y][z];
-						smallerVNeighborValue = smallerVSlice[w][x][y][z];
-						greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-						smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-						greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-						smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-						greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-						smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
-						greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-						if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-								greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-								newVSlices)) {
-							changed = true;
-						}
-					}
-					// v | w | x | y | z | 230
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = greaterVSlice[w][x][y][z];
-					smallerVNeighborValue = smallerVSlice[w][x][y][z];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
-					greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							newVSlices)) {
-						changed = true;
-					}
-					z = y;
-					// v | w | x | y | z | 202
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = greaterVSlice[w][x][y][z];
-					smallerVNeighborValue = smallerVSlice[w][x][y][z];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-					if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-						changed = true;
-					}
-				}
-				// v | w | x | y | 0 | 156
-				currentValue = currentVSlice[w][x][y][0];
-				greaterVNeighborValue = greaterVSlice[w][x][y][0];
-				smallerVNeighborValue = smallerVSlice[w][x][y][0];
-				greaterWNeighborValue = currentVSlice[wPlusOne][x][y][0];
-				smallerWNeighborValue = currentVSlice[wMinusOne][x][y][0];
-				greaterXNeighborValue = currentVSlice[w][xPlusOne][y][0];
-				smallerXNeighborValue = currentVSlice[w][xMinusOne][y][0];
-				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
-				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
-				greaterZNeighborValue = currentVSlice[w][x][y][1];
-				if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-					changed = true;
-				}
-				// v | w | x | y | 1 | 203
+				// v | w | x | y | 1 | 226
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1533,14 +1413,14 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
 				greaterZNeighborValue = currentVSlice[w][x][y][2];
-				if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newVSlices)) {
 					changed = true;
 				}
 				int z = 2, zPlusOne = 3;
-				for (; z != wMinusThree; z = zPlusOne, zPlusOne++) {
-					// v | w | x | y | z | 231
+				for (; z != xMinusTwo; z = zPlusOne, zPlusOne++) {
+					// v | w | x | y | z | 240
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
@@ -1553,13 +1433,13 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 					greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 							greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 							newVSlices)) {
 						changed = true;
 					}
 				}
-				// v | w | x | y | z | 204
+				// v | w | x | y | z | 227
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1572,13 +1452,13 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 				greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 						greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newVSlices)) {
 					changed = true;
 				}
-				z = wMinusTwo;
-				// v | w | x | y | z | 158
+				z = xMinusOne;
+				// v | w | x | y | z | 197
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1589,228 +1469,73 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 				greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
 				smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-				if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
+				if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
 						greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 					changed = true;
 				}
-				if (toppleRangeOfType17(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				if (toppleRangeOfType19(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
 					changed = true;
 				}
 			}
-			if (toppleRangeOfType12(w, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+			if (toppleRangeOfType16(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
 				changed = true;
 			}
-			if (toppleRangeOfType20(w, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
-				changed = true;
-			}
-			// v | w | 3 | 2 | 0 | 169
-			currentValue = currentVSlice[w][3][2][0];
-			greaterVNeighborValue = greaterVSlice[w][3][2][0];
-			smallerVNeighborValue = smallerVSlice[w][3][2][0];
-			greaterWNeighborValue = currentVSlice[wPlusOne][3][2][0];
-			smallerWNeighborValue = currentVSlice[wMinusOne][3][2][0];
-			greaterXNeighborValue = currentVSlice[w][4][2][0];
-			smallerXNeighborValue = currentVSlice[w][2][2][0];
-			greaterYNeighborValue = currentVSlice[w][3][3][0];
-			smallerYNeighborValue = currentVSlice[w][3][1][0];
-			greaterZNeighborValue = currentVSlice[w][3][2][1];
-			if (topplePositionOfType36(w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+			// v | w | x | 2 | 0 | 200
+			currentValue = currentVSlice[w][x][2][0];
+			greaterVNeighborValue = greaterVSlice[w][x][2][0];
+			smallerVNeighborValue = smallerVSlice[w][x][2][0];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][2][0];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][2][0];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][2][0];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][2][0];
+			greaterYNeighborValue = currentVSlice[w][x][3][0];
+			smallerYNeighborValue = currentVSlice[w][x][1][0];
+			greaterZNeighborValue = currentVSlice[w][x][2][1];
+			if (topplePositionOfType36(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 				changed = true;
 			}
-			// v | w | 3 | 2 | 1 | 170
+			// v | w | x | 2 | 1 | 201
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterVNeighborValue = greaterVSlice[w][3][2][1];
-			smallerVNeighborValue = smallerVSlice[w][3][2][1];
-			greaterWNeighborValue = currentVSlice[wPlusOne][3][2][1];
-			smallerWNeighborValue = currentVSlice[wMinusOne][3][2][1];
-			greaterXNeighborValue = currentVSlice[w][4][2][1];
-			smallerXNeighborValue = currentVSlice[w][2][2][1];
-			greaterYNeighborValue = currentVSlice[w][3][3][1];
-			smallerYNeighborValue = currentVSlice[w][3][1][1];
-			greaterZNeighborValue = currentVSlice[w][3][2][2];
-			if (topplePositionOfType47(w, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-					greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+			greaterVNeighborValue = greaterVSlice[w][x][2][1];
+			smallerVNeighborValue = smallerVSlice[w][x][2][1];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][2][1];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][2][1];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][2][1];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][2][1];
+			greaterYNeighborValue = currentVSlice[w][x][3][1];
+			smallerYNeighborValue = currentVSlice[w][x][1][1];
+			greaterZNeighborValue = currentVSlice[w][x][2][2];
+			if (topplePositionOfType47(w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					newVSlices)) {
 				changed = true;
 			}
-			// v | w | 3 | 2 | 2 | 171
+			// v | w | x | 2 | 2 | 202
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterVNeighborValue = greaterVSlice[w][3][2][2];
-			smallerVNeighborValue = smallerVSlice[w][3][2][2];
-			greaterWNeighborValue = currentVSlice[wPlusOne][3][2][2];
-			smallerWNeighborValue = currentVSlice[wMinusOne][3][2][2];
-			greaterXNeighborValue = currentVSlice[w][4][2][2];
-			smallerXNeighborValue = currentVSlice[w][2][2][2];
-			greaterYNeighborValue = currentVSlice[w][3][3][2];
-			if (topplePositionOfType37(w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
-					greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+			greaterVNeighborValue = greaterVSlice[w][x][2][2];
+			smallerVNeighborValue = smallerVSlice[w][x][2][2];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][2][2];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][2][2];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][2][2];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][2][2];
+			greaterYNeighborValue = currentVSlice[w][x][3][2];
+			if (topplePositionOfType37(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 				changed = true;
 			}
-			if (toppleRangeOfType21(w, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
-				changed = true;
-			}
-			int x = 4, xMinusOne = 3, xPlusOne = 5;
-			for (int xMinusTwo = 2; x != vMinusTwo; xMinusTwo = xMinusOne, xMinusOne = x, x = xPlusOne, xPlusOne++) {
-				if (toppleRangeOfType20(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
-					changed = true;
-				}
-				// v | w | x | 2 | 0 | 209
-				currentValue = currentVSlice[w][x][2][0];
-				greaterVNeighborValue = greaterVSlice[w][x][2][0];
-				smallerVNeighborValue = smallerVSlice[w][x][2][0];
-				greaterWNeighborValue = currentVSlice[wPlusOne][x][2][0];
-				smallerWNeighborValue = currentVSlice[wMinusOne][x][2][0];
-				greaterXNeighborValue = currentVSlice[w][xPlusOne][2][0];
-				smallerXNeighborValue = currentVSlice[w][xMinusOne][2][0];
-				greaterYNeighborValue = currentVSlice[w][x][3][0];
-				smallerYNeighborValue = currentVSlice[w][x][1][0];
-				greaterZNeighborValue = currentVSlice[w][x][2][1];
-				if (topplePositionOfType36(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-					changed = true;
-				}
-				// v | w | x | 2 | 1 | 210
-				//reuse values obtained previously
-				smallerZNeighborValue = currentValue;
-				currentValue = greaterZNeighborValue;
-				greaterVNeighborValue = greaterVSlice[w][x][2][1];
-				smallerVNeighborValue = smallerVSlice[w][x][2][1];
-				greaterWNeighborValue = currentVSlice[wPlusOne][x][2][1];
-				smallerWNeighborValue = currentVSlice[wMinusOne][x][2][1];
-				greaterXNeighborValue = currentVSlice[w][xPlusOne][2][1];
-				smallerXNeighborValue = currentVSlice[w][xMinusOne][2][1];
-				greaterYNeighborValue = currentVSlice[w][x][3][1];
-				smallerYNeighborValue = currentVSlice[w][x][1][1];
-				greaterZNeighborValue = currentVSlice[w][x][2][2];
-				if (topplePositionOfType47(w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						newVSlices)) {
-					changed = true;
-				}
-				// v | w | x | 2 | 2 | 211
-				//reuse values obtained previously
-				smallerZNeighborValue = currentValue;
-				currentValue = greaterZNeighborValue;
-				greaterVNeighborValue = greaterVSlice[w][x][2][2];
-				smallerVNeighborValue = smallerVSlice[w][x][2][2];
-				greaterWNeighborValue = currentVSlice[wPlusOne][x][2][2];
-				smallerWNeighborValue = currentVSlice[wMinusOne][x][2][2];
-				greaterXNeighborValue = currentVSlice[w][xPlusOne][2][2];
-				smallerXNeighborValue = currentVSlice[w][xMinusOne][2][2];
-				greaterYNeighborValue = currentVSlice[w][x][3][2];
-				if (topplePositionOfType37(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-					changed = true;
-				}
-				int y = 3, yMinusOne = 2, yPlusOne = 4;
-				for (; y != xMinusOne; yMinusOne = y, y = yPlusOne, yPlusOne++) {
-					// v | w | x | y | 0 | 209
-					currentValue = currentVSlice[w][x][y][0];
-					greaterVNeighborValue = greaterVSlice[w][x][y][0];
-					smallerVNeighborValue = smallerVSlice[w][x][y][0];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][y][0];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][y][0];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][0];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][0];
-					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
-					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
-					greaterZNeighborValue = currentVSlice[w][x][y][1];
-					if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-						changed = true;
-					}
-					// v | w | x | y | 1 | 233
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = greaterVSlice[w][x][y][1];
-					smallerVNeighborValue = smallerVSlice[w][x][y][1];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][y][1];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][y][1];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][1];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][1];
-					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
-					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
-					greaterZNeighborValue = currentVSlice[w][x][y][2];
-					if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							newVSlices)) {
-						changed = true;
-					}
-					int z = 2, zPlusOne = 3;
-					for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
-						// v | w | x | y | z | 242
-						//reuse values obtained previously
-						smallerZNeighborValue = currentValue;
-						currentValue = greaterZNeighborValue;
-						greaterVNeighborValue = greaterVSlice[w][x][y][z];
-						smallerVNeighborValue = smallerVSlice[w][x][y][z];
-						greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-						smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-						greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-						smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-						greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-						smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
-						greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-						if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-								greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-								newVSlices)) {
-							changed = true;
-						}
-					}
-					// v | w | x | y | z | 234
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = greaterVSlice[w][x][y][z];
-					smallerVNeighborValue = smallerVSlice[w][x][y][z];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
-					greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							newVSlices)) {
-						changed = true;
-					}
-					z = y;
-					// v | w | x | y | z | 211
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = greaterVSlice[w][x][y][z];
-					smallerVNeighborValue = smallerVSlice[w][x][y][z];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-					if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-						changed = true;
-					}
-				}
-				// v | w | x | y | 0 | 169
+			int y = 3, yMinusOne = 2, yPlusOne = 4;
+			for (; y != wMinusTwo; yMinusOne = y, y = yPlusOne, yPlusOne++) {
+				// v | w | x | y | 0 | 200
 				currentValue = currentVSlice[w][x][y][0];
 				greaterVNeighborValue = greaterVSlice[w][x][y][0];
 				smallerVNeighborValue = smallerVSlice[w][x][y][0];
@@ -1821,12 +1546,12 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
 				greaterZNeighborValue = currentVSlice[w][x][y][1];
-				if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 					changed = true;
 				}
-				// v | w | x | y | 1 | 212
+				// v | w | x | y | 1 | 229
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1839,14 +1564,14 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
 				greaterZNeighborValue = currentVSlice[w][x][y][2];
-				if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newVSlices)) {
 					changed = true;
 				}
 				int z = 2, zPlusOne = 3;
-				for (; z != xMinusTwo; z = zPlusOne, zPlusOne++) {
-					// v | w | x | y | z | 235
+				for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
+					// v | w | x | y | z | 241
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
@@ -1859,13 +1584,13 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 					greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-							greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 							newVSlices)) {
 						changed = true;
 					}
 				}
-				// v | w | x | y | z | 213
+				// v | w | x | y | z | 230
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1878,13 +1603,13 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 				greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newVSlices)) {
 					changed = true;
 				}
-				z = xMinusOne;
-				// v | w | x | y | z | 171
+				z = y;
+				// v | w | x | y | z | 202
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1895,21 +1620,190 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 				greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
 				smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-				if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
-						greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 					changed = true;
 				}
-				if (toppleRangeOfType21(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			}
+			// v | w | x | y | 0 | 156
+			currentValue = currentVSlice[w][x][y][0];
+			greaterVNeighborValue = greaterVSlice[w][x][y][0];
+			smallerVNeighborValue = smallerVSlice[w][x][y][0];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][0];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][0];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][0];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][0];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
+			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
+			greaterZNeighborValue = currentVSlice[w][x][y][1];
+			if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+				changed = true;
+			}
+			// v | w | x | y | 1 | 203
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = greaterVSlice[w][x][y][1];
+			smallerVNeighborValue = smallerVSlice[w][x][y][1];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][1];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][1];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][1];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][1];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
+			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
+			greaterZNeighborValue = currentVSlice[w][x][y][2];
+			if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					newVSlices)) {
+				changed = true;
+			}
+			int z = 2, zPlusOne = 3;
+			for (; z != wMinusThree; z = zPlusOne, zPlusOne++) {
+				// v | w | x | y | z | 231
+				//reuse values obtained previously
+				smallerZNeighborValue = currentValue;
+				currentValue = greaterZNeighborValue;
+				greaterVNeighborValue = greaterVSlice[w][x][y][z];
+				smallerVNeighborValue = smallerVSlice[w][x][y][z];
+				greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+				smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+				greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+				smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
+				greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
+				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+						newVSlices)) {
 					changed = true;
 				}
 			}
-			if (toppleRangeOfType13(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+			// v | w | x | y | z | 204
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = greaterVSlice[w][x][y][z];
+			smallerVNeighborValue = smallerVSlice[w][x][y][z];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
+			greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
+			if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					newVSlices)) {
+				changed = true;
+			}
+			z = wMinusTwo;
+			// v | w | x | y | z | 158
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = greaterVSlice[w][x][y][z];
+			smallerVNeighborValue = smallerVSlice[w][x][y][z];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+			if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
+					greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+				changed = true;
+			}
+			if (toppleRangeOfType17(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Topples the positions of a v slice, beyond v = 5, with a w coordinate equal to v - 1.
+	 * Split from {@link #toppleRangeBeyondV5} to keep each method under the JIT's huge method limit.
+	 */
+	private static boolean toppleVSliceBeyondV5WithWEqualToVMinusOne(int v, long[][][][][] vSlices, long[][][][][] newVSlices, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers) {
+		int vMinusOne = v - 1, vMinusTwo = v - 2, vMinusThree = v - 3, vMinusFour = v - 4;
+		long[][][][] smallerVSlice = vSlices[0], currentVSlice = vSlices[1], greaterVSlice = vSlices[2];
+		int w = vMinusOne, wMinusOne = vMinusTwo, wPlusOne = v;
+		long currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, smallerZNeighborValue;
+		boolean changed = false;
+		if (toppleRangeOfType12(w, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
+		if (toppleRangeOfType20(w, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
+		// v | w | 3 | 2 | 0 | 169
+		currentValue = currentVSlice[w][3][2][0];
+		greaterVNeighborValue = greaterVSlice[w][3][2][0];
+		smallerVNeighborValue = smallerVSlice[w][3][2][0];
+		greaterWNeighborValue = currentVSlice[wPlusOne][3][2][0];
+		smallerWNeighborValue = currentVSlice[wMinusOne][3][2][0];
+		greaterXNeighborValue = currentVSlice[w][4][2][0];
+		smallerXNeighborValue = currentVSlice[w][2][2][0];
+		greaterYNeighborValue = currentVSlice[w][3][3][0];
+		smallerYNeighborValue = currentVSlice[w][3][1][0];
+		greaterZNeighborValue = currentVSlice[w][3][2][1];
+		if (topplePositionOfType36(w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+		}
+		// v | w | 3 | 2 | 1 | 170
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[w][3][2][1];
+		smallerVNeighborValue = smallerVSlice[w][3][2][1];
+		greaterWNeighborValue = currentVSlice[wPlusOne][3][2][1];
+		smallerWNeighborValue = currentVSlice[wMinusOne][3][2][1];
+		greaterXNeighborValue = currentVSlice[w][4][2][1];
+		smallerXNeighborValue = currentVSlice[w][2][2][1];
+		greaterYNeighborValue = currentVSlice[w][3][3][1];
+		smallerYNeighborValue = currentVSlice[w][3][1][1];
+		greaterZNeighborValue = currentVSlice[w][3][2][2];
+		if (topplePositionOfType47(w, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				newVSlices)) {
+			changed = true;
+		}
+		// v | w | 3 | 2 | 2 | 171
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[w][3][2][2];
+		smallerVNeighborValue = smallerVSlice[w][3][2][2];
+		greaterWNeighborValue = currentVSlice[wPlusOne][3][2][2];
+		smallerWNeighborValue = currentVSlice[wMinusOne][3][2][2];
+		greaterXNeighborValue = currentVSlice[w][4][2][2];
+		smallerXNeighborValue = currentVSlice[w][2][2][2];
+		greaterYNeighborValue = currentVSlice[w][3][3][2];
+		if (topplePositionOfType37(w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
+				greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+		}
+		if (toppleRangeOfType21(w, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
+		int x = 4, xMinusOne = 3, xPlusOne = 5;
+		for (int xMinusTwo = 2; x != vMinusTwo; xMinusTwo = xMinusOne, xMinusOne = x, x = xPlusOne, xPlusOne++) {
+			if (toppleRangeOfType20(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
 				changed = true;
 			}
-			// v | w | x | 2 | 0 | 174
+			// v | w | x | 2 | 0 | 209
 			currentValue = currentVSlice[w][x][2][0];
 			greaterVNeighborValue = greaterVSlice[w][x][2][0];
 			smallerVNeighborValue = smallerVSlice[w][x][2][0];
@@ -1920,12 +1814,12 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 			greaterYNeighborValue = currentVSlice[w][x][3][0];
 			smallerYNeighborValue = currentVSlice[w][x][1][0];
 			greaterZNeighborValue = currentVSlice[w][x][2][1];
-			if (topplePositionOfType36(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+			if (topplePositionOfType36(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 					greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 				changed = true;
 			}
-			// v | w | x | 2 | 1 | 175
+			// v | w | x | 2 | 1 | 210
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
@@ -1938,12 +1832,12 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 			greaterYNeighborValue = currentVSlice[w][x][3][1];
 			smallerYNeighborValue = currentVSlice[w][x][1][1];
 			greaterZNeighborValue = currentVSlice[w][x][2][2];
-			if (topplePositionOfType47(w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+			if (topplePositionOfType47(w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 					greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					newVSlices)) {
 				changed = true;
 			}
-			// v | w | x | 2 | 2 | 176
+			// v | w | x | 2 | 2 | 211
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
@@ -1954,14 +1848,14 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 			greaterXNeighborValue = currentVSlice[w][xPlusOne][2][2];
 			smallerXNeighborValue = currentVSlice[w][xMinusOne][2][2];
 			greaterYNeighborValue = currentVSlice[w][x][3][2];
-			if (topplePositionOfType37(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+			if (topplePositionOfType37(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 					greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 				changed = true;
 			}
 			int y = 3, yMinusOne = 2, yPlusOne = 4;
-			for (; y != vMinusThree; yMinusOne = y, y = yPlusOne, yPlusOne++) {
-				// v | w | x | y | 0 | 174
+			for (; y != xMinusOne; yMinusOne = y, y = yPlusOne, yPlusOne++) {
+				// v | w | x | y | 0 | 209
 				currentValue = currentVSlice[w][x][y][0];
 				greaterVNeighborValue = greaterVSlice[w][x][y][0];
 				smallerVNeighborValue = smallerVSlice[w][x][y][0];
@@ -1972,12 +1866,12 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
 				greaterZNeighborValue = currentVSlice[w][x][y][1];
-				if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 					changed = true;
 				}
-				// v | w | x | y | 1 | 215
+				// v | w | x | y | 1 | 233
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -1990,14 +1884,14 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
 				greaterZNeighborValue = currentVSlice[w][x][y][2];
-				if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newVSlices)) {
 					changed = true;
 				}
 				int z = 2, zPlusOne = 3;
 				for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
-					// v | w | x | y | z | 236
+					// v | w | x | y | z | 242
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
 					currentValue = greaterZNeighborValue;
@@ -2010,13 +1904,13 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 					greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 							newVSlices)) {
 						changed = true;
 					}
 				}
-				// v | w | x | y | z | 216
+				// v | w | x | y | z | 234
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -2029,13 +1923,66 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 				greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 						greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newVSlices)) {
 					changed = true;
 				}
 				z = y;
-				// v | w | x | y | z | 176
+				// v | w | x | y | z | 211
+				//reuse values obtained previously
+				smallerZNeighborValue = currentValue;
+				currentValue = greaterZNeighborValue;
+				greaterVNeighborValue = greaterVSlice[w][x][y][z];
+				smallerVNeighborValue = smallerVSlice[w][x][y][z];
+				greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+				smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+				greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+				smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+				if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+					changed = true;
+				}
+			}
+			// v | w | x | y | 0 | 169
+			currentValue = currentVSlice[w][x][y][0];
+			greaterVNeighborValue = greaterVSlice[w][x][y][0];
+			smallerVNeighborValue = smallerVSlice[w][x][y][0];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][0];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][0];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][0];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][0];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
+			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
+			greaterZNeighborValue = currentVSlice[w][x][y][1];
+			if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+				changed = true;
+			}
+			// v | w | x | y | 1 | 212
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = greaterVSlice[w][x][y][1];
+			smallerVNeighborValue = smallerVSlice[w][x][y][1];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][1];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][1];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][1];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][1];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
+			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
+			greaterZNeighborValue = currentVSlice[w][x][y][2];
+			if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					newVSlices)) {
+				changed = true;
+			}
+			int z = 2, zPlusOne = 3;
+			for (; z != xMinusTwo; z = zPlusOne, zPlusOne++) {
+				// v | w | x | y | z | 235
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -2046,13 +1993,111 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 				greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
 				smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-				if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
+				greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
+				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
+						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+						newVSlices)) {
 					changed = true;
 				}
 			}
-			// v | w | x | y | 0 | 121
+			// v | w | x | y | z | 213
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = greaterVSlice[w][x][y][z];
+			smallerVNeighborValue = smallerVSlice[w][x][y][z];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
+			greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
+			if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					newVSlices)) {
+				changed = true;
+			}
+			z = xMinusOne;
+			// v | w | x | y | z | 171
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = greaterVSlice[w][x][y][z];
+			smallerVNeighborValue = smallerVSlice[w][x][y][z];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+			if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
+					greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+				changed = true;
+			}
+			if (toppleRangeOfType21(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+				changed = true;
+			}
+		}
+		if (toppleRangeOfType13(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
+		// v | w | x | 2 | 0 | 174
+		currentValue = currentVSlice[w][x][2][0];
+		greaterVNeighborValue = greaterVSlice[w][x][2][0];
+		smallerVNeighborValue = smallerVSlice[w][x][2][0];
+		greaterWNeighborValue = currentVSlice[wPlusOne][x][2][0];
+		smallerWNeighborValue = currentVSlice[wMinusOne][x][2][0];
+		greaterXNeighborValue = currentVSlice[w][xPlusOne][2][0];
+		smallerXNeighborValue = currentVSlice[w][xMinusOne][2][0];
+		greaterYNeighborValue = currentVSlice[w][x][3][0];
+		smallerYNeighborValue = currentVSlice[w][x][1][0];
+		greaterZNeighborValue = currentVSlice[w][x][2][1];
+		if (topplePositionOfType36(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+		}
+		// v | w | x | 2 | 1 | 175
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[w][x][2][1];
+		smallerVNeighborValue = smallerVSlice[w][x][2][1];
+		greaterWNeighborValue = currentVSlice[wPlusOne][x][2][1];
+		smallerWNeighborValue = currentVSlice[wMinusOne][x][2][1];
+		greaterXNeighborValue = currentVSlice[w][xPlusOne][2][1];
+		smallerXNeighborValue = currentVSlice[w][xMinusOne][2][1];
+		greaterYNeighborValue = currentVSlice[w][x][3][1];
+		smallerYNeighborValue = currentVSlice[w][x][1][1];
+		greaterZNeighborValue = currentVSlice[w][x][2][2];
+		if (topplePositionOfType47(w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				newVSlices)) {
+			changed = true;
+		}
+		// v | w | x | 2 | 2 | 176
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[w][x][2][2];
+		smallerVNeighborValue = smallerVSlice[w][x][2][2];
+		greaterWNeighborValue = currentVSlice[wPlusOne][x][2][2];
+		smallerWNeighborValue = currentVSlice[wMinusOne][x][2][2];
+		greaterXNeighborValue = currentVSlice[w][xPlusOne][2][2];
+		smallerXNeighborValue = currentVSlice[w][xMinusOne][2][2];
+		greaterYNeighborValue = currentVSlice[w][x][3][2];
+		if (topplePositionOfType37(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+		}
+		int y = 3, yMinusOne = 2, yPlusOne = 4;
+		for (; y != vMinusThree; yMinusOne = y, y = yPlusOne, yPlusOne++) {
+			// v | w | x | y | 0 | 174
 			currentValue = currentVSlice[w][x][y][0];
 			greaterVNeighborValue = greaterVSlice[w][x][y][0];
 			smallerVNeighborValue = smallerVSlice[w][x][y][0];
@@ -2063,12 +2108,12 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
 			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
 			greaterZNeighborValue = currentVSlice[w][x][y][1];
-			if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
-					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+			if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 				changed = true;
 			}
-			// v | w | x | y | 1 | 177
+			// v | w | x | y | 1 | 215
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
@@ -2081,14 +2126,14 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
 			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
 			greaterZNeighborValue = currentVSlice[w][x][y][2];
-			if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
-					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+			if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					newVSlices)) {
 				changed = true;
 			}
 			int z = 2, zPlusOne = 3;
-			for (; z != vMinusFour; z = zPlusOne, zPlusOne++) {
-				// v | w | x | y | z | 217
+			for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
+				// v | w | x | y | z | 236
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
 				currentValue = greaterZNeighborValue;
@@ -2101,13 +2146,13 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 				greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newVSlices)) {
 					changed = true;
 				}
 			}
-			// v | w | x | y | z | 178
+			// v | w | x | y | z | 216
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
@@ -2120,13 +2165,13 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 			greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-			if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
-					greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+			if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					newVSlices)) {
 				changed = true;
 			}
-			z = vMinusThree;
-			// v | w | x | y | z | 123
+			z = y;
+			// v | w | x | y | z | 176
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
@@ -2137,20 +2182,106 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
 			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
 			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-			if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
-					greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+			if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 				changed = true;
 			}
-			if (toppleRangeOfType14(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+		}
+		// v | w | x | y | 0 | 121
+		currentValue = currentVSlice[w][x][y][0];
+		greaterVNeighborValue = greaterVSlice[w][x][y][0];
+		smallerVNeighborValue = smallerVSlice[w][x][y][0];
+		greaterWNeighborValue = currentVSlice[wPlusOne][x][y][0];
+		smallerWNeighborValue = currentVSlice[wMinusOne][x][y][0];
+		greaterXNeighborValue = currentVSlice[w][xPlusOne][y][0];
+		smallerXNeighborValue = currentVSlice[w][xMinusOne][y][0];
+		greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
+		smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
+		greaterZNeighborValue = currentVSlice[w][x][y][1];
+		if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+		}
+		// v | w | x | y | 1 | 177
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[w][x][y][1];
+		smallerVNeighborValue = smallerVSlice[w][x][y][1];
+		greaterWNeighborValue = currentVSlice[wPlusOne][x][y][1];
+		smallerWNeighborValue = currentVSlice[wMinusOne][x][y][1];
+		greaterXNeighborValue = currentVSlice[w][xPlusOne][y][1];
+		smallerXNeighborValue = currentVSlice[w][xMinusOne][y][1];
+		greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
+		smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
+		greaterZNeighborValue = currentVSlice[w][x][y][2];
+		if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				newVSlices)) {
+			changed = true;
+		}
+		int z = 2, zPlusOne = 3;
+		for (; z != vMinusFour; z = zPlusOne, zPlusOne++) {
+			// v | w | x | y | z | 217
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = greaterVSlice[w][x][y][z];
+			smallerVNeighborValue = smallerVSlice[w][x][y][z];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
+			greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
+			if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					newVSlices)) {
 				changed = true;
 			}
-		}		
-		vSlices[1] = currentVSlice;
-		vSlices[2] = greaterVSlice;
-		newVSlices[1] = newCurrentVSlice;
-		newVSlices[2] = newGreaterVSlice;
+		}
+		// v | w | x | y | z | 178
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[w][x][y][z];
+		smallerVNeighborValue = smallerVSlice[w][x][y][z];
+		greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+		smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+		greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+		smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+		greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+		smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
+		greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
+		if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				newVSlices)) {
+			changed = true;
+		}
+		z = vMinusThree;
+		// v | w | x | y | z | 123
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[w][x][y][z];
+		smallerVNeighborValue = smallerVSlice[w][x][y][z];
+		greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+		smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+		greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+		smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+		greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+		if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
+				greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+		}
+		if (toppleRangeOfType14(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers)) {
+			changed = true;
+		}
 		return changed;
 	}
 
@@ -10574,6 +10705,138 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 		return maxV;
 	}
 
+	@Override
+	public void setThreadCount(int threadCount) {
+		if (threadCount < 1) {
+			throw new IllegalArgumentException("Thread count must be greater than zero.");
+		}
+		if (threadCount == 1) {
+			shutdownParallelStepper();
+		} else if (oldSliceWindow != null) {
+			throw new IllegalStateException("Multithreaded stepping is not compatible with in-place stepping.");
+		} else if (parallelStepper == null || parallelStepper.getThreadCount() != threadCount) {
+			shutdownParallelStepper();
+			parallelStepper = new SlabParallelStepper(threadCount, 5);
+		}
+	}
+	
+	private void shutdownParallelStepper() {
+		if (parallelStepper != null) {
+			parallelStepper.shutdown();
+			parallelStepper = null;
+		}
+	}
+
+	@Override
+	public int getThreadCount() {
+		return parallelStepper == null ? 1 : parallelStepper.getThreadCount();
+	}
+
+	@Override
+	public double getLastStepSpeedup() {
+		return parallelStepper == null ? Double.NaN : parallelStepper.getLastStepSpeedup();
+	}
+
+	@Override
+	public long getLastStepMillis() {
+		return parallelStepper == null ? -1 : parallelStepper.getLastStepMillis();
+	}
+	
+	@Override
+	public void setInPlaceStepping(boolean inPlace) {
+		if (!inPlace) {
+			oldSliceWindow = null;
+		} else if (oldSliceWindow == null) {
+			if (parallelStepper != null) {
+				throw new IllegalStateException("In-place stepping is not compatible with multithreaded stepping.");
+			}
+			oldSliceWindow = new long[3][][][][];
+		}
+	}
+
+	@Override
+	public boolean isInPlaceStepping() {
+		return oldSliceWindow != null;
+	}
+
+	/**
+	 * Adds the values of a slice to the statistics of the step being computed. 
+	 * It must be called once the slice has its final values and before its old values are released.
+	 */
+	private void addSliceStatistics(long[][][][][] newGrid, int v) {
+		newStepStatistics.addSlice(v, oldSliceWindow == null ? grid[v] : oldSliceWindow[v%3], newGrid[v]);
+		statisticsSliceCount = v + 1;
+	}
+	
+	private void addRemainingSlicesStatistics(long[][][][][] newGrid) {
+		if (parallelStepper == null) {
+			for (int v = statisticsSliceCount; v <= maxV; v++) {
+				if (v < grid.length) {
+					addSliceStatistics(newGrid, v);
+				} else {
+					newStepStatistics.addSlice(v, null, newGrid[v]);// the slices beyond the old grid were all zero
+				}
+			}
+		} else {
+			// in parallel mode the old slices within the toppled range are kept until the end of the step
+			parallelStepper.topple(statisticsSliceCount, maxV + 1, (slabMinV, slabMaxV) -> {
+				StepStatistics slabStatistics = new StepStatistics(newStepStatistics.getStep(), true);
+				for (int v = slabMinV; v != slabMaxV; v++) {
+					slabStatistics.addSlice(v, v < grid.length ? grid[v] : null, newGrid[v]);
+				}
+				newStepStatistics.add(slabStatistics);
+				return false;
+			});
+		}
+	}
+
+	@Override
+	public void setStepStatisticsEnabled(boolean enabled) {
+		if (!enabled) {
+			stepStatistics = null;
+		} else if (stepStatistics == null) {
+			StepStatistics statistics = new StepStatistics(step, false);
+			for (int v = 0; v <= maxV; v++) {
+				statistics.addSlice(v, null, grid[v]);
+			}
+			stepStatistics = statistics;
+		}
+	}
+
+	@Override
+	public boolean isStepStatisticsEnabled() {
+		return stepStatistics != null;
+	}
+
+	@Override
+	public StepStatistics getStepStatistics() {
+		return stepStatistics;
+	}
+	
+	@Override
+	public long[] getMinAndMax() throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getMinAndMax();
+		}
+		return super.getMinAndMax();
+	}
+	
+	@Override
+	public long[] getEvenOddPositionsMinAndMax(boolean isEven) throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getEvenOddPositionsMinAndMax(isEven);
+		}
+		return super.getEvenOddPositionsMinAndMax(isEven);
+	}
+	
+	@Override
+	public BigInt getTotal() throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getTotal();
+		}
+		return super.getTotal();
+	}
+	
 	@Override
 	public long getStep() {
 		return step;
@@ -10590,6 +10853,19 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 
 	@Override
 	public void backUp(String backupPath, String backupName) throws FileNotFoundException, IOException {
+		Utils.serializeToFile(getBackupData(grid), backupPath, backupName);
+	}
+	
+	@Override
+	public SerializableModelData getBackupSnapshot() {
+		if (oldSliceWindow != null) {
+			return null;// in-place stepping overwrites the grid
+		}
+		// the following steps only release the slices of the current grid, so copying its outermost array is enough
+		return getBackupData(grid.clone());
+	}
+	
+	private SerializableModelData getBackupData(long[][][][][] grid) {
 		SerializableModelData data = new SerializableModelData();
 		data.put(SerializableModelData.MODEL, SerializableModelData.Models.AETHER);
 		data.put(SerializableModelData.INITIAL_CONFIGURATION, initialValue);
@@ -10603,7 +10879,7 @@ public class LongAether5D extends IsotropicHypercubicLongArrayModelAsymmetricSec
 		data.put(SerializableModelData.COORDINATE_BOUNDS_IMPLEMENTATION_TYPE, SerializableModelData.CoordinateBoundsImplementationTypes.MAX_COORDINATE_INTEGER);
 		data.put(SerializableModelData.STEP, step);
 		data.put(SerializableModelData.CONFIGURATION_CHANGED_FROM_PREVIOUS_STEP, changed);
-		Utils.serializeToFile(data, backupPath, backupName);
+		return data;
 	}
 
 	@Override
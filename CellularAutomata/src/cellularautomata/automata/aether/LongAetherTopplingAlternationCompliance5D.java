@@ -462,482 +462,137 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 		newVSlices[0] = newSmallerVSlice;
 		newVSlices[1] = newCurrentVSlice;
 		newVSlices[2] = newGreaterVSlice;
-		if (toppleRangeOfType1(vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+		if (toppleVSliceThree(vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-				newCurrentVSliceCompliance, false, itsEvenPositionsTurnToTopple)) {
-			changed = true;
-		}
-		// 3 | 2 | 0 | 0 | 0 | 26
-		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
-		currentValue = currentVSlice[2][0][0][0];
-		greaterVNeighborValue = greaterVSlice[2][0][0][0];
-		smallerVNeighborValue = smallerVSlice[2][0][0][0];
-		greaterWNeighborValue = currentVSlice[3][0][0][0];
-		smallerWNeighborValue = currentVSlice[1][0][0][0];
-		greaterXNeighborValue = currentVSlice[2][1][0][0];
-		if (topplePositionOfType8(2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, 
-				smallerWNeighborValue, 1, greaterXNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
-				relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-			changed = true;
-			newCurrentVSliceCompliance[2][0][0][0] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[2][0][0][0] = !itsCurrentPositionsTurnToTopple;
-		}
-		// 3 | 2 | 1 | 0 | 0 | 27
-		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
-		//reuse values obtained previously
-		smallerXNeighborValue = currentValue;
-		currentValue = greaterXNeighborValue;
-		greaterVNeighborValue = greaterVSlice[2][1][0][0];
-		smallerVNeighborValue = smallerVSlice[2][1][0][0];
-		greaterWNeighborValue = currentVSlice[3][1][0][0];
-		smallerWNeighborValue = currentVSlice[1][1][0][0];
-		greaterXNeighborValue = currentVSlice[2][2][0][0];
-		greaterYNeighborValue = currentVSlice[2][1][1][0];
-		if (topplePositionOfType22(2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2,
-				smallerXNeighborValue, 6, greaterYNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-			changed = true;
-			newCurrentVSliceCompliance[2][1][0][0] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[2][1][0][0] = !itsCurrentPositionsTurnToTopple;
-		}
-		// 3 | 2 | 1 | 1 | 0 | 28
-		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
-		//reuse values obtained previously
-		smallerYNeighborValue = currentValue;
-		currentValue = greaterYNeighborValue;
-		greaterVNeighborValue = greaterVSlice[2][1][1][0];
-		smallerVNeighborValue = smallerVSlice[2][1][1][0];
-		greaterWNeighborValue = currentVSlice[3][1][1][0];
-		smallerWNeighborValue = currentVSlice[1][1][1][0];
-		greaterXNeighborValue = currentVSlice[2][2][1][0];
-		greaterZNeighborValue = currentVSlice[2][1][1][1];
-		if (topplePositionOfType23(2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 3, greaterXNeighborValue, 2,
-				smallerYNeighborValue, 4, greaterZNeighborValue, 3, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-			changed = true;
-			newCurrentVSliceCompliance[2][1][1][0] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[2][1][1][0] = !itsCurrentPositionsTurnToTopple;
-		}
-		// 3 | 2 | 1 | 1 | 1 | 29
-		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
-		//reuse values obtained previously
-		smallerZNeighborValue = currentValue;
-		currentValue = greaterZNeighborValue;
-		greaterVNeighborValue = greaterVSlice[2][1][1][1];
-		smallerVNeighborValue = smallerVSlice[2][1][1][1];
-		greaterWNeighborValue = currentVSlice[3][1][1][1];
-		smallerWNeighborValue = currentVSlice[1][1][1][1];
-		greaterXNeighborValue = currentVSlice[2][2][1][1];
-		if (topplePositionOfType24(2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 4, greaterXNeighborValue, 2,
-				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-			changed = true;
-			newCurrentVSliceCompliance[2][1][1][1] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[2][1][1][1] = !itsCurrentPositionsTurnToTopple;
-		}
-		// 3 | 2 | 2 | 0 | 0 | 30
-		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
-		currentValue = currentVSlice[2][2][0][0];
-		greaterVNeighborValue = greaterVSlice[2][2][0][0];
-		smallerVNeighborValue = smallerVSlice[2][2][0][0];
-		greaterWNeighborValue = currentVSlice[3][2][0][0];
-		smallerXNeighborValue = currentVSlice[2][1][0][0];
-		greaterYNeighborValue = currentVSlice[2][2][1][0];
-		if (topplePositionOfType9(2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 3, greaterWNeighborValue, 2, smallerXNeighborValue, 1, 
-				greaterYNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-			changed = true;
-			newCurrentVSliceCompliance[2][2][0][0] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[2][2][0][0] = !itsCurrentPositionsTurnToTopple;
-		}
-		// 3 | 2 | 2 | 1 | 0 | 31
-		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
-		//reuse values obtained previously
-		smallerYNeighborValue = currentValue;
-		currentValue = greaterYNeighborValue;
-		greaterVNeighborValue = greaterVSlice[2][2][1][0];
-		smallerVNeighborValue = smallerVSlice[2][2][1][0];
-		greaterWNeighborValue = currentVSlice[3][2][1][0];
-		smallerXNeighborValue = currentVSlice[2][1][1][0];
-		greaterYNeighborValue = currentVSlice[2][2][2][0];
-		greaterZNeighborValue = currentVSlice[2][2][1][1];
-		if (topplePositionOfType25(2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 3, greaterWNeighborValue, 2, smallerXNeighborValue, 2, greaterYNeighborValue, 3,
-				smallerYNeighborValue, 4, greaterZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-			changed = true;
-			newCurrentVSliceCompliance[2][2][1][0] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[2][2][1][0] = !itsCurrentPositionsTurnToTopple;
-		}
-		// 3 | 2 | 2 | 1 | 1 | 32
-		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
-		//reuse values obtained previously
-		smallerZNeighborValue = currentValue;
-		currentValue = greaterZNeighborValue;
-		greaterVNeighborValue = greaterVSlice[2][2][1][1];
-		smallerVNeighborValue = smallerVSlice[2][2][1][1];
-		greaterWNeighborValue = currentVSlice[3][2][1][1];
-		smallerXNeighborValue = currentVSlice[2][1][1][1];
-		greaterYNeighborValue = currentVSlice[2][2][2][1];
-		if (topplePositionOfType26(2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 3, greaterWNeighborValue, 2, smallerXNeighborValue, 3, greaterYNeighborValue, 3,
-				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-			changed = true;
-			newCurrentVSliceCompliance[2][2][1][1] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[2][2][1][1] = !itsCurrentPositionsTurnToTopple;
-		}
-		// 3 | 2 | 2 | 2 | 0 | 33
-		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
-		//reuse values obtained previously
-		smallerYNeighborValue = smallerZNeighborValue;
-		greaterZNeighborValue = greaterYNeighborValue;
-		currentValue = currentVSlice[2][2][2][0];
-		greaterVNeighborValue = greaterVSlice[2][2][2][0];
-		smallerVNeighborValue = smallerVSlice[2][2][2][0];
-		greaterWNeighborValue = currentVSlice[3][2][2][0];
-		if (topplePositionOfType10(2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 4, greaterWNeighborValue, 2, smallerYNeighborValue, 1, 
-				greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-			changed = true;
-			newCurrentVSliceCompliance[2][2][2][0] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[2][2][2][0] = !itsCurrentPositionsTurnToTopple;
-		}
-		// 3 | 2 | 2 | 2 | 1 | 34
-		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
-		//reuse values obtained previously
-		smallerZNeighborValue = currentValue;
-		currentValue = greaterZNeighborValue;
-		greaterVNeighborValue = greaterVSlice[2][2][2][1];
-		smallerVNeighborValue = smallerVSlice[2][2][2][1];
-		greaterWNeighborValue = currentVSlice[3][2][2][1];
-		smallerYNeighborValue = currentVSlice[2][2][1][1];
-		greaterZNeighborValue = currentVSlice[2][2][2][2];
-		if (topplePositionOfType27(2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 4, greaterWNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 4,
-				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+				newCurrentVSliceCompliance, itsEvenPositionsTurnToTopple)) {
 			changed = true;
-			newCurrentVSliceCompliance[2][2][2][1] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[2][2][2][1] = !itsCurrentPositionsTurnToTopple;
 		}
-		// 3 | 2 | 2 | 2 | 2 | 35
-		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
-		//reuse values obtained previously
-		smallerZNeighborValue = currentValue;
-		currentValue = greaterZNeighborValue;
-		greaterVNeighborValue = greaterVSlice[2][2][2][2];
-		smallerVNeighborValue = smallerVSlice[2][2][2][2];
-		greaterWNeighborValue = currentVSlice[3][2][2][2];
-		if (topplePositionOfType11(2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 5, greaterWNeighborValue, 2, smallerZNeighborValue, 1, 
-				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+		//v slice transition
+		sourceGrid[2] = null;//free old grid progressively to save memory
+		smallerVSlice = currentVSlice;
+		currentVSlice = greaterVSlice;
+		greaterVSlice = sourceGrid[5];
+		vSlices[0] = smallerVSlice;
+		vSlices[1] = currentVSlice;
+		vSlices[2] = greaterVSlice;
+		newSmallerVSlice = newCurrentVSlice;
+		newCurrentVSlice = newGreaterVSlice;
+		newGreaterVSlice = Utils.buildAnisotropic4DLongArray(6);
+		newCurrentVSliceCompliance = grid[4];
+		newSourceGrid[5] = newGreaterVSlice;
+		newVSlices[0] = newSmallerVSlice;
+		newVSlices[1] = newCurrentVSlice;
+		newVSlices[2] = newGreaterVSlice;
+		if (toppleRangeOfType5(vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+				newCurrentVSliceCompliance, true, itsEvenPositionsTurnToTopple)) {
 			changed = true;
-			newCurrentVSliceCompliance[2][2][2][2] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[2][2][2][2] = !itsCurrentPositionsTurnToTopple;
 		}
-		if (toppleRangeOfType2(3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+		if (toppleRangeOfType6(3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-				newCurrentVSliceCompliance, itsEvenPositionsTurnToTopple)) {
+				newCurrentVSliceCompliance, true, itsEvenPositionsTurnToTopple)) {
 			changed = true;
 		}
-		// 3 | 3 | 2 | 0 | 0 | 39
-		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
+		// 4 | 3 | 2 | 0 | 0 | 65
+		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
 		currentValue = currentVSlice[3][2][0][0];
 		greaterVNeighborValue = greaterVSlice[3][2][0][0];
+		smallerVNeighborValue = smallerVSlice[3][2][0][0];
+		greaterWNeighborValue = currentVSlice[4][2][0][0];
 		smallerWNeighborValue = currentVSlice[2][2][0][0];
 		greaterXNeighborValue = currentVSlice[3][3][0][0];
 		smallerXNeighborValue = currentVSlice[3][1][0][0];
 		greaterYNeighborValue = currentVSlice[3][2][1][0];
-		if (topplePositionOfType13(3, 2, currentValue, greaterVNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 3, smallerXNeighborValue, 1, 
-				greaterYNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+		if (topplePositionOfType22(3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2,
+				smallerXNeighborValue, 1, greaterYNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 			changed = true;
 			newCurrentVSliceCompliance[3][2][0][0] = itsCurrentPositionsTurnToTopple;
 		} else {
 			newCurrentVSliceCompliance[3][2][0][0] = !itsCurrentPositionsTurnToTopple;
 		}
-		// 3 | 3 | 2 | 1 | 0 | 40
-		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
+		// 4 | 3 | 2 | 1 | 0 | 66
+		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
 		//reuse values obtained previously
 		smallerYNeighborValue = currentValue;
 		currentValue = greaterYNeighborValue;
 		greaterVNeighborValue = greaterVSlice[3][2][1][0];
+		smallerVNeighborValue = smallerVSlice[3][2][1][0];
+		greaterWNeighborValue = currentVSlice[4][2][1][0];
 		smallerWNeighborValue = currentVSlice[2][2][1][0];
 		greaterXNeighborValue = currentVSlice[3][3][1][0];
 		smallerXNeighborValue = currentVSlice[3][1][1][0];
 		greaterYNeighborValue = currentVSlice[3][2][2][0];
 		greaterZNeighborValue = currentVSlice[3][2][1][1];
-		if (topplePositionOfType28(3, 2, 1, currentValue, greaterVNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 3, smallerXNeighborValue, 2, greaterYNeighborValue, 2,
-				smallerYNeighborValue, 4, greaterZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+		if (topplePositionOfType36(3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 4, greaterZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 			changed = true;
 			newCurrentVSliceCompliance[3][2][1][0] = itsCurrentPositionsTurnToTopple;
 		} else {
 			newCurrentVSliceCompliance[3][2][1][0] = !itsCurrentPositionsTurnToTopple;
 		}
-		// 3 | 3 | 2 | 1 | 1 | 41
-		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
+		// 4 | 3 | 2 | 1 | 1 | 67
+		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
 		//reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
 		greaterVNeighborValue = greaterVSlice[3][2][1][1];
+		smallerVNeighborValue = smallerVSlice[3][2][1][1];
+		greaterWNeighborValue = currentVSlice[4][2][1][1];
 		smallerWNeighborValue = currentVSlice[2][2][1][1];
 		greaterXNeighborValue = currentVSlice[3][3][1][1];
 		smallerXNeighborValue = currentVSlice[3][1][1][1];
 		greaterYNeighborValue = currentVSlice[3][2][2][1];
-		if (topplePositionOfType29(3, 2, 1, currentValue, greaterVNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 3, smallerXNeighborValue, 3, greaterYNeighborValue, 2,
-				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+		if (topplePositionOfType37(3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
+				greaterYNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 			changed = true;
 			newCurrentVSliceCompliance[3][2][1][1] = itsCurrentPositionsTurnToTopple;
 		} else {
 			newCurrentVSliceCompliance[3][2][1][1] = !itsCurrentPositionsTurnToTopple;
 		}
-		// 3 | 3 | 2 | 2 | 0 | 42
-		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
+		// 4 | 3 | 2 | 2 | 0 | 68
+		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
 		//reuse values obtained previously
 		smallerYNeighborValue = smallerZNeighborValue;
 		greaterZNeighborValue = greaterYNeighborValue;
 		currentValue = currentVSlice[3][2][2][0];
 		greaterVNeighborValue = greaterVSlice[3][2][2][0];
+		smallerVNeighborValue = smallerVSlice[3][2][2][0];
+		greaterWNeighborValue = currentVSlice[4][2][2][0];
 		smallerWNeighborValue = currentVSlice[2][2][2][0];
 		greaterXNeighborValue = currentVSlice[3][3][2][0];
-		if (topplePositionOfType14(3, 2, currentValue, greaterVNeighborValue, smallerWNeighborValue, 3, greaterXNeighborValue, 3, smallerYNeighborValue, 1, 
-				greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+		if (topplePositionOfType23(3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 3, greaterXNeighborValue, 2,
+				smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 			changed = true;
 			newCurrentVSliceCompliance[3][2][2][0] = itsCurrentPositionsTurnToTopple;
 		} else {
 			newCurrentVSliceCompliance[3][2][2][0] = !itsCurrentPositionsTurnToTopple;
 		}
-		// 3 | 3 | 2 | 2 | 1 | 43
-		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
+		// 4 | 3 | 2 | 2 | 1 | 69
+		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
 		//reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
 		greaterVNeighborValue = greaterVSlice[3][2][2][1];
+		smallerVNeighborValue = smallerVSlice[3][2][2][1];
+		greaterWNeighborValue = currentVSlice[4][2][2][1];
 		smallerWNeighborValue = currentVSlice[2][2][2][1];
 		greaterXNeighborValue = currentVSlice[3][3][2][1];
 		smallerYNeighborValue = currentVSlice[3][2][1][1];
-		greaterZNeighborValue = currentVSlice[3][2][2][2];		
-		if (topplePositionOfType30(3, 2, 1, currentValue, greaterVNeighborValue, smallerWNeighborValue, 3, greaterXNeighborValue, 3, smallerYNeighborValue, 2, greaterZNeighborValue, 3,
-				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+		greaterZNeighborValue = currentVSlice[3][2][2][2];
+		if (topplePositionOfType38(3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 3, greaterXNeighborValue, 2,
+				smallerYNeighborValue, 2, greaterZNeighborValue, 3, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 			changed = true;
 			newCurrentVSliceCompliance[3][2][2][1] = itsCurrentPositionsTurnToTopple;
 		} else {
 			newCurrentVSliceCompliance[3][2][2][1] = !itsCurrentPositionsTurnToTopple;
 		}
-		// 3 | 3 | 2 | 2 | 2 | 44
-		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
-		//reuse values obtained previously
-		smallerZNeighborValue = currentValue;
-		currentValue = greaterZNeighborValue;
-		greaterVNeighborValue = greaterVSlice[3][2][2][2];
-		smallerWNeighborValue = currentVSlice[2][2][2][2];
-		greaterXNeighborValue = currentVSlice[3][3][2][2];
-		if (topplePositionOfType15(3, 2, currentValue, greaterVNeighborValue, smallerWNeighborValue, 4, greaterXNeighborValue, 3, smallerZNeighborValue, 1, 
-				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-			changed = true;
-			newCurrentVSliceCompliance[3][2][2][2] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[3][2][2][2] = !itsCurrentPositionsTurnToTopple;
-		}
-		if (toppleRangeOfType3(3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-				newCurrentVSliceCompliance, false, itsEvenPositionsTurnToTopple)) {
-			changed = true;
-		}
-		// 3 | 3 | 3 | 2 | 0 | 47
-		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
-		currentValue = currentVSlice[3][3][2][0];
-		greaterVNeighborValue = greaterVSlice[3][3][2][0];
-		smallerXNeighborValue = currentVSlice[3][2][2][0];
-		greaterYNeighborValue = currentVSlice[3][3][3][0];
-		smallerYNeighborValue = currentVSlice[3][3][1][0];
-		greaterZNeighborValue = currentVSlice[3][3][2][1];
-		if (topplePositionOfType17(3, 2, currentValue, greaterVNeighborValue, smallerXNeighborValue, 2, greaterYNeighborValue, 4, smallerYNeighborValue, 1, 
-				greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-			changed = true;
-			newCurrentVSliceCompliance[3][3][2][0] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[3][3][2][0] = !itsCurrentPositionsTurnToTopple;
-		}
-		// 3 | 3 | 3 | 2 | 1 | 48
-		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
-		//reuse values obtained previously
-		smallerZNeighborValue = currentValue;
-		currentValue = greaterZNeighborValue;
-		greaterVNeighborValue = greaterVSlice[3][3][2][1];
-		smallerXNeighborValue = currentVSlice[3][2][2][1];
-		greaterYNeighborValue = currentVSlice[3][3][3][1];
-		smallerYNeighborValue = currentVSlice[3][3][1][1];
-		greaterZNeighborValue = currentVSlice[3][3][2][2];
-		if (topplePositionOfType31(3, 2, 1, currentValue, greaterVNeighborValue, smallerXNeighborValue, 2, greaterYNeighborValue, 4, smallerYNeighborValue, 2, 
-				greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-			changed = true;
-			newCurrentVSliceCompliance[3][3][2][1] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[3][3][2][1] = !itsCurrentPositionsTurnToTopple;
-		}
-		// 3 | 3 | 3 | 2 | 2 | 49
-		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
-		//reuse values obtained previously
-		smallerZNeighborValue = currentValue;
-		currentValue = greaterZNeighborValue;
-		greaterVNeighborValue = greaterVSlice[3][3][2][2];
-		smallerXNeighborValue = currentVSlice[3][2][2][2];
-		greaterYNeighborValue = currentVSlice[3][3][3][2];
-		if (topplePositionOfType18(3, 2, currentValue, greaterVNeighborValue, smallerXNeighborValue, 3, greaterYNeighborValue, 4, smallerZNeighborValue, 1, 
-				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-			changed = true;
-			newCurrentVSliceCompliance[3][3][2][2] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[3][3][2][2] = !itsCurrentPositionsTurnToTopple;
-		}
-		if (toppleRangeOfType4(3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-				newCurrentVSliceCompliance, itsEvenPositionsTurnToTopple)) {
-			changed = true;
-		}
-		//v slice transition
-		sourceGrid[2] = null;//free old grid progressively to save memory
-		smallerVSlice = currentVSlice;
-		currentVSlice = greaterVSlice;
-		greaterVSlice = sourceGrid[5];
-		vSlices[0] = smallerVSlice;
-		vSlices[1] = currentVSlice;
-		vSlices[2] = greaterVSlice;
-		newSmallerVSlice = newCurrentVSlice;
-		newCurrentVSlice = newGreaterVSlice;
-		newGreaterVSlice = Utils.buildAnisotropic4DLongArray(6);
-		newCurrentVSliceCompliance = grid[4];
-		newSourceGrid[5] = newGreaterVSlice;
-		newVSlices[0] = newSmallerVSlice;
-		newVSlices[1] = newCurrentVSlice;
-		newVSlices[2] = newGreaterVSlice;
-		if (toppleRangeOfType5(vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-				newCurrentVSliceCompliance, true, itsEvenPositionsTurnToTopple)) {
-			changed = true;
-		}
-		if (toppleRangeOfType6(3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-				newCurrentVSliceCompliance, true, itsEvenPositionsTurnToTopple)) {
-			changed = true;
-		}
-		// 4 | 3 | 2 | 0 | 0 | 65
-		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
-		currentValue = currentVSlice[3][2][0][0];
-		greaterVNeighborValue = greaterVSlice[3][2][0][0];
-		smallerVNeighborValue = smallerVSlice[3][2][0][0];
-		greaterWNeighborValue = currentVSlice[4][2][0][0];
-		smallerWNeighborValue = currentVSlice[2][2][0][0];
-		greaterXNeighborValue = currentVSlice[3][3][0][0];
-		smallerXNeighborValue = currentVSlice[3][1][0][0];
-		greaterYNeighborValue = currentVSlice[3][2][1][0];
-		if (topplePositionOfType22(3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2,
-				smallerXNeighborValue, 1, greaterYNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-			changed = true;
-			newCurrentVSliceCompliance[3][2][0][0] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[3][2][0][0] = !itsCurrentPositionsTurnToTopple;
-		}
-		// 4 | 3 | 2 | 1 | 0 | 66
-		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
-		//reuse values obtained previously
-		smallerYNeighborValue = currentValue;
-		currentValue = greaterYNeighborValue;
-		greaterVNeighborValue = greaterVSlice[3][2][1][0];
-		smallerVNeighborValue = smallerVSlice[3][2][1][0];
-		greaterWNeighborValue = currentVSlice[4][2][1][0];
-		smallerWNeighborValue = currentVSlice[2][2][1][0];
-		greaterXNeighborValue = currentVSlice[3][3][1][0];
-		smallerXNeighborValue = currentVSlice[3][1][1][0];
-		greaterYNeighborValue = currentVSlice[3][2][2][0];
-		greaterZNeighborValue = currentVSlice[3][2][1][1];
-		if (topplePositionOfType36(3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
-				greaterYNeighborValue, 2, smallerYNeighborValue, 4, greaterZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-			changed = true;
-			newCurrentVSliceCompliance[3][2][1][0] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[3][2][1][0] = !itsCurrentPositionsTurnToTopple;
-		}
-		// 4 | 3 | 2 | 1 | 1 | 67
-		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
-		//reuse values obtained previously
-		smallerZNeighborValue = currentValue;
-		currentValue = greaterZNeighborValue;
-		greaterVNeighborValue = greaterVSlice[3][2][1][1];
-		smallerVNeighborValue = smallerVSlice[3][2][1][1];
-		greaterWNeighborValue = currentVSlice[4][2][1][1];
-		smallerWNeighborValue = currentVSlice[2][2][1][1];
-		greaterXNeighborValue = currentVSlice[3][3][1][1];
-		smallerXNeighborValue = currentVSlice[3][1][1][1];
-		greaterYNeighborValue = currentVSlice[3][2][2][1];
-		if (topplePositionOfType37(3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
-				greaterYNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-			changed = true;
-			newCurrentVSliceCompliance[3][2][1][1] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[3][2][1][1] = !itsCurrentPositionsTurnToTopple;
-		}
-		// 4 | 3 | 2 | 2 | 0 | 68
-		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
-		//reuse values obtained previously
-		smallerYNeighborValue = smallerZNeighborValue;
-		greaterZNeighborValue = greaterYNeighborValue;
-		currentValue = currentVSlice[3][2][2][0];
-		greaterVNeighborValue = greaterVSlice[3][2][2][0];
-		smallerVNeighborValue = smallerVSlice[3][2][2][0];
-		greaterWNeighborValue = currentVSlice[4][2][2][0];
-		smallerWNeighborValue = currentVSlice[2][2][2][0];
-		greaterXNeighborValue = currentVSlice[3][3][2][0];
-		if (topplePositionOfType23(3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 3, greaterXNeighborValue, 2,
-				smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-			changed = true;
-			newCurrentVSliceCompliance[3][2][2][0] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[3][2][2][0] = !itsCurrentPositionsTurnToTopple;
-		}
-		// 4 | 3 | 2 | 2 | 1 | 69
-		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
-		//reuse values obtained previously
-		smallerZNeighborValue = currentValue;
-		currentValue = greaterZNeighborValue;
-		greaterVNeighborValue = greaterVSlice[3][2][2][1];
-		smallerVNeighborValue = smallerVSlice[3][2][2][1];
-		greaterWNeighborValue = currentVSlice[4][2][2][1];
-		smallerWNeighborValue = currentVSlice[2][2][2][1];
-		greaterXNeighborValue = currentVSlice[3][3][2][1];
-		smallerYNeighborValue = currentVSlice[3][2][1][1];
-		greaterZNeighborValue = currentVSlice[3][2][2][2];
-		if (topplePositionOfType38(3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 3, greaterXNeighborValue, 2,
-				smallerYNeighborValue, 2, greaterZNeighborValue, 3, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-			changed = true;
-			newCurrentVSliceCompliance[3][2][2][1] = itsCurrentPositionsTurnToTopple;
-		} else {
-			newCurrentVSliceCompliance[3][2][2][1] = !itsCurrentPositionsTurnToTopple;
-		}
-		// 4 | 3 | 2 | 2 | 2 | 70
-		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
+		// 4 | 3 | 2 | 2 | 2 | 70
+		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
 		//reuse values obtained previously
 		smallerZNeighborValue = currentValue;
 		currentValue = greaterZNeighborValue;
@@ -1207,512 +862,626 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 		this.changed = changed;
 		return changed;
 	}
-	
-	private void registerStaticGridSliceCompliance(int v) {
-		if (v%2 == 0 == itsEvenPositionsTurnToTopple) {
-			Utils.fillOddIndexes(grid[v], true);
-		} else {
-			Utils.fillEvenIndexes(grid[v], true);
-		}
-	}
-
-	@Override
-	public Boolean isChanged() {
-		return changed;
-	}
 
-	private boolean toppleRangeBeyondV5(long[][][][][] vSlices, long[][][][][] newVSlices, long[][][][][] newSourceGrid, int minV,
-			int maxV, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords,
-			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts) {
+	/**
+	 * Topples the positions of the v = 3 slice. Split from {@link #nextStep} to keep it under the JIT's huge method limit.
+	 */
+	private static boolean toppleVSliceThree(long[][][][][] vSlices, long[][][][][] newVSlices, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers,
+			boolean[][][][] newCurrentVSliceCompliance, boolean itsEvenPositionsTurnToTopple) {
+		long[][][][] smallerVSlice = vSlices[0], currentVSlice = vSlices[1], greaterVSlice = vSlices[2];
+		boolean itsCurrentPositionsTurnToTopple;
+		long currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, smallerZNeighborValue;
 		boolean changed = false;
-		int v = minV, vMinusOne = v - 1, vMinusTwo = v - 2, vMinusThree = v - 3, vMinusFour = v - 4, vPlusOne = v + 1, vPlusTwo = v + 2;
-		long[][][][] smallerVSlice = null, currentVSlice = vSlices[1], greaterVSlice = vSlices[2];
-		long[][][][] newSmallerVSlice = null, newCurrentVSlice = newVSlices[1], newGreaterVSlice = newVSlices[2];
-		boolean isVEven = v%2 == 0;
-		for (; v != maxV; vMinusFour = vMinusThree, vMinusThree = vMinusTwo, vMinusTwo = vMinusOne, vMinusOne = v, v = vPlusOne, vPlusOne = vPlusTwo, vPlusTwo++, isVEven = !isVEven) {
-			//v slice transition
-			sourceGrid[vMinusTwo] = null;//free old grid progressively to save memory
-			smallerVSlice = currentVSlice;
-			currentVSlice = greaterVSlice;
-			greaterVSlice = sourceGrid[vPlusOne];
-			vSlices[0] = smallerVSlice;
-			vSlices[1] = currentVSlice;
-			vSlices[2] = greaterVSlice;
-			newSmallerVSlice = newCurrentVSlice;
-			newCurrentVSlice = newGreaterVSlice;
-			newGreaterVSlice = Utils.buildAnisotropic4DLongArray(vPlusTwo);
-			boolean[][][][] newCurrentVSliceCompliance = grid[v];
-			newSourceGrid[vPlusOne] = newGreaterVSlice;
-			newVSlices[0] = newSmallerVSlice;
-			newVSlices[1] = newCurrentVSlice;
-			newVSlices[2] = newGreaterVSlice;
-			if (toppleRangeOfType11(vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-					newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
-				changed = true;
-			}
-			if (toppleRangeOfType15(4, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-					newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
-				changed = true;
-			}
-			if (toppleRangeOfType16(4, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-					newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
-				changed = true;
-			}
-			// v | 4 | 3 | 2 | 0 | 156
-			boolean itsCurrentPositionsTurnToTopple = isVEven != itsEvenPositionsTurnToTopple;
-			long currentValue = currentVSlice[4][3][2][0];
-			long greaterVNeighborValue = greaterVSlice[4][3][2][0];
-			long smallerVNeighborValue = smallerVSlice[4][3][2][0];
-			long greaterWNeighborValue = currentVSlice[5][3][2][0];
-			long smallerWNeighborValue = currentVSlice[3][3][2][0];
-			long greaterXNeighborValue = currentVSlice[4][4][2][0];
-			long smallerXNeighborValue = currentVSlice[4][2][2][0];
-			long greaterYNeighborValue = currentVSlice[4][3][3][0];
-			long smallerYNeighborValue = currentVSlice[4][3][1][0];
-			long greaterZNeighborValue = currentVSlice[4][3][2][1];
-			if (topplePositionOfType36(4, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
-					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-				changed = true;
-				newCurrentVSliceCompliance[4][3][2][0] = itsCurrentPositionsTurnToTopple;
-			} else {
-				newCurrentVSliceCompliance[4][3][2][0] = !itsCurrentPositionsTurnToTopple;
-			}
-			// v | 4 | 3 | 2 | 1 | 157
-			itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+		if (toppleRangeOfType1(vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+				newCurrentVSliceCompliance, false, itsEvenPositionsTurnToTopple)) {
+			changed = true;
+		}
+		// 3 | 2 | 0 | 0 | 0 | 26
+		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
+		currentValue = currentVSlice[2][0][0][0];
+		greaterVNeighborValue = greaterVSlice[2][0][0][0];
+		smallerVNeighborValue = smallerVSlice[2][0][0][0];
+		greaterWNeighborValue = currentVSlice[3][0][0][0];
+		smallerWNeighborValue = currentVSlice[1][0][0][0];
+		greaterXNeighborValue = currentVSlice[2][1][0][0];
+		if (topplePositionOfType8(2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, 
+				smallerWNeighborValue, 1, greaterXNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
+				relevantAsymmetricNeighborShareMultipliers, relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[2][0][0][0] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[2][0][0][0] = !itsCurrentPositionsTurnToTopple;
+		}
+		// 3 | 2 | 1 | 0 | 0 | 27
+		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerXNeighborValue = currentValue;
+		currentValue = greaterXNeighborValue;
+		greaterVNeighborValue = greaterVSlice[2][1][0][0];
+		smallerVNeighborValue = smallerVSlice[2][1][0][0];
+		greaterWNeighborValue = currentVSlice[3][1][0][0];
+		smallerWNeighborValue = currentVSlice[1][1][0][0];
+		greaterXNeighborValue = currentVSlice[2][2][0][0];
+		greaterYNeighborValue = currentVSlice[2][1][1][0];
+		if (topplePositionOfType22(2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2,
+				smallerXNeighborValue, 6, greaterYNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[2][1][0][0] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[2][1][0][0] = !itsCurrentPositionsTurnToTopple;
+		}
+		// 3 | 2 | 1 | 1 | 0 | 28
+		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerYNeighborValue = currentValue;
+		currentValue = greaterYNeighborValue;
+		greaterVNeighborValue = greaterVSlice[2][1][1][0];
+		smallerVNeighborValue = smallerVSlice[2][1][1][0];
+		greaterWNeighborValue = currentVSlice[3][1][1][0];
+		smallerWNeighborValue = currentVSlice[1][1][1][0];
+		greaterXNeighborValue = currentVSlice[2][2][1][0];
+		greaterZNeighborValue = currentVSlice[2][1][1][1];
+		if (topplePositionOfType23(2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 3, greaterXNeighborValue, 2,
+				smallerYNeighborValue, 4, greaterZNeighborValue, 3, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[2][1][1][0] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[2][1][1][0] = !itsCurrentPositionsTurnToTopple;
+		}
+		// 3 | 2 | 1 | 1 | 1 | 29
+		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[2][1][1][1];
+		smallerVNeighborValue = smallerVSlice[2][1][1][1];
+		greaterWNeighborValue = currentVSlice[3][1][1][1];
+		smallerWNeighborValue = currentVSlice[1][1][1][1];
+		greaterXNeighborValue = currentVSlice[2][2][1][1];
+		if (topplePositionOfType24(2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 4, greaterXNeighborValue, 2,
+				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[2][1][1][1] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[2][1][1][1] = !itsCurrentPositionsTurnToTopple;
+		}
+		// 3 | 2 | 2 | 0 | 0 | 30
+		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
+		currentValue = currentVSlice[2][2][0][0];
+		greaterVNeighborValue = greaterVSlice[2][2][0][0];
+		smallerVNeighborValue = smallerVSlice[2][2][0][0];
+		greaterWNeighborValue = currentVSlice[3][2][0][0];
+		smallerXNeighborValue = currentVSlice[2][1][0][0];
+		greaterYNeighborValue = currentVSlice[2][2][1][0];
+		if (topplePositionOfType9(2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 3, greaterWNeighborValue, 2, smallerXNeighborValue, 1, 
+				greaterYNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[2][2][0][0] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[2][2][0][0] = !itsCurrentPositionsTurnToTopple;
+		}
+		// 3 | 2 | 2 | 1 | 0 | 31
+		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerYNeighborValue = currentValue;
+		currentValue = greaterYNeighborValue;
+		greaterVNeighborValue = greaterVSlice[2][2][1][0];
+		smallerVNeighborValue = smallerVSlice[2][2][1][0];
+		greaterWNeighborValue = currentVSlice[3][2][1][0];
+		smallerXNeighborValue = currentVSlice[2][1][1][0];
+		greaterYNeighborValue = currentVSlice[2][2][2][0];
+		greaterZNeighborValue = currentVSlice[2][2][1][1];
+		if (topplePositionOfType25(2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 3, greaterWNeighborValue, 2, smallerXNeighborValue, 2, greaterYNeighborValue, 3,
+				smallerYNeighborValue, 4, greaterZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[2][2][1][0] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[2][2][1][0] = !itsCurrentPositionsTurnToTopple;
+		}
+		// 3 | 2 | 2 | 1 | 1 | 32
+		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[2][2][1][1];
+		smallerVNeighborValue = smallerVSlice[2][2][1][1];
+		greaterWNeighborValue = currentVSlice[3][2][1][1];
+		smallerXNeighborValue = currentVSlice[2][1][1][1];
+		greaterYNeighborValue = currentVSlice[2][2][2][1];
+		if (topplePositionOfType26(2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 3, greaterWNeighborValue, 2, smallerXNeighborValue, 3, greaterYNeighborValue, 3,
+				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[2][2][1][1] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[2][2][1][1] = !itsCurrentPositionsTurnToTopple;
+		}
+		// 3 | 2 | 2 | 2 | 0 | 33
+		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerYNeighborValue = smallerZNeighborValue;
+		greaterZNeighborValue = greaterYNeighborValue;
+		currentValue = currentVSlice[2][2][2][0];
+		greaterVNeighborValue = greaterVSlice[2][2][2][0];
+		smallerVNeighborValue = smallerVSlice[2][2][2][0];
+		greaterWNeighborValue = currentVSlice[3][2][2][0];
+		if (topplePositionOfType10(2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 4, greaterWNeighborValue, 2, smallerYNeighborValue, 1, 
+				greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[2][2][2][0] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[2][2][2][0] = !itsCurrentPositionsTurnToTopple;
+		}
+		// 3 | 2 | 2 | 2 | 1 | 34
+		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[2][2][2][1];
+		smallerVNeighborValue = smallerVSlice[2][2][2][1];
+		greaterWNeighborValue = currentVSlice[3][2][2][1];
+		smallerYNeighborValue = currentVSlice[2][2][1][1];
+		greaterZNeighborValue = currentVSlice[2][2][2][2];
+		if (topplePositionOfType27(2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 4, greaterWNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 4,
+				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[2][2][2][1] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[2][2][2][1] = !itsCurrentPositionsTurnToTopple;
+		}
+		// 3 | 2 | 2 | 2 | 2 | 35
+		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[2][2][2][2];
+		smallerVNeighborValue = smallerVSlice[2][2][2][2];
+		greaterWNeighborValue = currentVSlice[3][2][2][2];
+		if (topplePositionOfType11(2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 5, greaterWNeighborValue, 2, smallerZNeighborValue, 1, 
+				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[2][2][2][2] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[2][2][2][2] = !itsCurrentPositionsTurnToTopple;
+		}
+		if (toppleRangeOfType2(3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+				newCurrentVSliceCompliance, itsEvenPositionsTurnToTopple)) {
+			changed = true;
+		}
+		// 3 | 3 | 2 | 0 | 0 | 39
+		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
+		currentValue = currentVSlice[3][2][0][0];
+		greaterVNeighborValue = greaterVSlice[3][2][0][0];
+		smallerWNeighborValue = currentVSlice[2][2][0][0];
+		greaterXNeighborValue = currentVSlice[3][3][0][0];
+		smallerXNeighborValue = currentVSlice[3][1][0][0];
+		greaterYNeighborValue = currentVSlice[3][2][1][0];
+		if (topplePositionOfType13(3, 2, currentValue, greaterVNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 3, smallerXNeighborValue, 1, 
+				greaterYNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[3][2][0][0] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[3][2][0][0] = !itsCurrentPositionsTurnToTopple;
+		}
+		// 3 | 3 | 2 | 1 | 0 | 40
+		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerYNeighborValue = currentValue;
+		currentValue = greaterYNeighborValue;
+		greaterVNeighborValue = greaterVSlice[3][2][1][0];
+		smallerWNeighborValue = currentVSlice[2][2][1][0];
+		greaterXNeighborValue = currentVSlice[3][3][1][0];
+		smallerXNeighborValue = currentVSlice[3][1][1][0];
+		greaterYNeighborValue = currentVSlice[3][2][2][0];
+		greaterZNeighborValue = currentVSlice[3][2][1][1];
+		if (topplePositionOfType28(3, 2, 1, currentValue, greaterVNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 3, smallerXNeighborValue, 2, greaterYNeighborValue, 2,
+				smallerYNeighborValue, 4, greaterZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[3][2][1][0] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[3][2][1][0] = !itsCurrentPositionsTurnToTopple;
+		}
+		// 3 | 3 | 2 | 1 | 1 | 41
+		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[3][2][1][1];
+		smallerWNeighborValue = currentVSlice[2][2][1][1];
+		greaterXNeighborValue = currentVSlice[3][3][1][1];
+		smallerXNeighborValue = currentVSlice[3][1][1][1];
+		greaterYNeighborValue = currentVSlice[3][2][2][1];
+		if (topplePositionOfType29(3, 2, 1, currentValue, greaterVNeighborValue, smallerWNeighborValue, 2, greaterXNeighborValue, 3, smallerXNeighborValue, 3, greaterYNeighborValue, 2,
+				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[3][2][1][1] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[3][2][1][1] = !itsCurrentPositionsTurnToTopple;
+		}
+		// 3 | 3 | 2 | 2 | 0 | 42
+		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerYNeighborValue = smallerZNeighborValue;
+		greaterZNeighborValue = greaterYNeighborValue;
+		currentValue = currentVSlice[3][2][2][0];
+		greaterVNeighborValue = greaterVSlice[3][2][2][0];
+		smallerWNeighborValue = currentVSlice[2][2][2][0];
+		greaterXNeighborValue = currentVSlice[3][3][2][0];
+		if (topplePositionOfType14(3, 2, currentValue, greaterVNeighborValue, smallerWNeighborValue, 3, greaterXNeighborValue, 3, smallerYNeighborValue, 1, 
+				greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[3][2][2][0] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[3][2][2][0] = !itsCurrentPositionsTurnToTopple;
+		}
+		// 3 | 3 | 2 | 2 | 1 | 43
+		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[3][2][2][1];
+		smallerWNeighborValue = currentVSlice[2][2][2][1];
+		greaterXNeighborValue = currentVSlice[3][3][2][1];
+		smallerYNeighborValue = currentVSlice[3][2][1][1];
+		greaterZNeighborValue = currentVSlice[3][2][2][2];		
+		if (topplePositionOfType30(3, 2, 1, currentValue, greaterVNeighborValue, smallerWNeighborValue, 3, greaterXNeighborValue, 3, smallerYNeighborValue, 2, greaterZNeighborValue, 3,
+				smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[3][2][2][1] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[3][2][2][1] = !itsCurrentPositionsTurnToTopple;
+		}
+		// 3 | 3 | 2 | 2 | 2 | 44
+		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[3][2][2][2];
+		smallerWNeighborValue = currentVSlice[2][2][2][2];
+		greaterXNeighborValue = currentVSlice[3][3][2][2];
+		if (topplePositionOfType15(3, 2, currentValue, greaterVNeighborValue, smallerWNeighborValue, 4, greaterXNeighborValue, 3, smallerZNeighborValue, 1, 
+				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[3][2][2][2] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[3][2][2][2] = !itsCurrentPositionsTurnToTopple;
+		}
+		if (toppleRangeOfType3(3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+				newCurrentVSliceCompliance, false, itsEvenPositionsTurnToTopple)) {
+			changed = true;
+		}
+		// 3 | 3 | 3 | 2 | 0 | 47
+		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
+		currentValue = currentVSlice[3][3][2][0];
+		greaterVNeighborValue = greaterVSlice[3][3][2][0];
+		smallerXNeighborValue = currentVSlice[3][2][2][0];
+		greaterYNeighborValue = currentVSlice[3][3][3][0];
+		smallerYNeighborValue = currentVSlice[3][3][1][0];
+		greaterZNeighborValue = currentVSlice[3][3][2][1];
+		if (topplePositionOfType17(3, 2, currentValue, greaterVNeighborValue, smallerXNeighborValue, 2, greaterYNeighborValue, 4, smallerYNeighborValue, 1, 
+				greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[3][3][2][0] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[3][3][2][0] = !itsCurrentPositionsTurnToTopple;
+		}
+		// 3 | 3 | 3 | 2 | 1 | 48
+		itsCurrentPositionsTurnToTopple = itsEvenPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[3][3][2][1];
+		smallerXNeighborValue = currentVSlice[3][2][2][1];
+		greaterYNeighborValue = currentVSlice[3][3][3][1];
+		smallerYNeighborValue = currentVSlice[3][3][1][1];
+		greaterZNeighborValue = currentVSlice[3][3][2][2];
+		if (topplePositionOfType31(3, 2, 1, currentValue, greaterVNeighborValue, smallerXNeighborValue, 2, greaterYNeighborValue, 4, smallerYNeighborValue, 2, 
+				greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[3][3][2][1] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[3][3][2][1] = !itsCurrentPositionsTurnToTopple;
+		}
+		// 3 | 3 | 3 | 2 | 2 | 49
+		itsCurrentPositionsTurnToTopple = !itsEvenPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[3][3][2][2];
+		smallerXNeighborValue = currentVSlice[3][2][2][2];
+		greaterYNeighborValue = currentVSlice[3][3][3][2];
+		if (topplePositionOfType18(3, 2, currentValue, greaterVNeighborValue, smallerXNeighborValue, 3, greaterYNeighborValue, 4, smallerZNeighborValue, 1, 
+				relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[3][3][2][2] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[3][3][2][2] = !itsCurrentPositionsTurnToTopple;
+		}
+		if (toppleRangeOfType4(3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+				newCurrentVSliceCompliance, itsEvenPositionsTurnToTopple)) {
+			changed = true;
+		}
+		return changed;
+	}
+	
+	private void registerStaticGridSliceCompliance(int v) {
+		if (v%2 == 0 == itsEvenPositionsTurnToTopple) {
+			Utils.fillOddIndexes(grid[v], true);
+		} else {
+			Utils.fillEvenIndexes(grid[v], true);
+		}
+	}
+
+	@Override
+	public Boolean isChanged() {
+		return changed;
+	}
+
+	private boolean toppleRangeBeyondV5(long[][][][][] vSlices, long[][][][][] newVSlices, long[][][][][] newSourceGrid, int minV,
+			int maxV, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes, int[][] relevantAsymmetricNeighborCoords,
+			int[] relevantAsymmetricNeighborShareMultipliers, int[] relevantAsymmetricNeighborSymmetryCounts) {
+		boolean changed = false;
+		int v = minV, vMinusOne = v - 1, vMinusTwo = v - 2, vPlusOne = v + 1, vPlusTwo = v + 2;
+		long[][][][] smallerVSlice = null, currentVSlice = vSlices[1], greaterVSlice = vSlices[2];
+		long[][][][] newSmallerVSlice = null, newCurrentVSlice = newVSlices[1], newGreaterVSlice = newVSlices[2];
+		boolean isVEven = v%2 == 0;
+		for (; v != maxV; vMinusTwo = vMinusOne, vMinusOne = v, v = vPlusOne, vPlusOne = vPlusTwo, vPlusTwo++, isVEven = !isVEven) {
+			//v slice transition
+			sourceGrid[vMinusTwo] = null;//free old grid progressively to save memory
+			smallerVSlice = currentVSlice;
+			currentVSlice = greaterVSlice;
+			greaterVSlice = sourceGrid[vPlusOne];
+			vSlices[0] = smallerVSlice;
+			vSlices[1] = currentVSlice;
+			vSlices[2] = greaterVSlice;
+			newSmallerVSlice = newCurrentVSlice;
+			newCurrentVSlice = newGreaterVSlice;
+			newGreaterVSlice = Utils.buildAnisotropic4DLongArray(vPlusTwo);
+			boolean[][][][] newCurrentVSliceCompliance = grid[v];
+			newSourceGrid[vPlusOne] = newGreaterVSlice;
+			newVSlices[0] = newSmallerVSlice;
+			newVSlices[1] = newCurrentVSlice;
+			newVSlices[2] = newGreaterVSlice;
+			if (toppleVSliceBeyondV5WithWUpToFour(v, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+					newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+				changed = true;
+			}
+			if (toppleVSliceBeyondV5WithWBetweenFiveAndVMinusTwo(v, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+					newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+				changed = true;
+			}
+			if (toppleVSliceBeyondV5WithWEqualToVMinusOne(v, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+					newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+				changed = true;
+			}
+		}		
+		vSlices[1] = currentVSlice;
+		vSlices[2] = greaterVSlice;
+		newVSlices[1] = newCurrentVSlice;
+		newVSlices[2] = newGreaterVSlice;
+		return changed;
+	}
+
+	/**
+	 * Topples the positions of a v slice, beyond v = 5, with a w coordinate smaller than or equal to 4.
+	 * Split from {@link #toppleRangeBeyondV5} to keep each method under the JIT's huge method limit.
+	 */
+	private static boolean toppleVSliceBeyondV5WithWUpToFour(int v, long[][][][][] vSlices, long[][][][][] newVSlices, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers,
+			boolean[][][][] newCurrentVSliceCompliance, boolean isVEven, boolean itsEvenPositionsTurnToTopple) {
+		long[][][][] smallerVSlice = vSlices[0], currentVSlice = vSlices[1], greaterVSlice = vSlices[2];
+		boolean changed = false;
+		if (toppleRangeOfType11(vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+				newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+			changed = true;
+		}
+		if (toppleRangeOfType15(4, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+				newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+			changed = true;
+		}
+		if (toppleRangeOfType16(4, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+				newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+			changed = true;
+		}
+		// v | 4 | 3 | 2 | 0 | 156
+		boolean itsCurrentPositionsTurnToTopple = isVEven != itsEvenPositionsTurnToTopple;
+		long currentValue = currentVSlice[4][3][2][0];
+		long greaterVNeighborValue = greaterVSlice[4][3][2][0];
+		long smallerVNeighborValue = smallerVSlice[4][3][2][0];
+		long greaterWNeighborValue = currentVSlice[5][3][2][0];
+		long smallerWNeighborValue = currentVSlice[3][3][2][0];
+		long greaterXNeighborValue = currentVSlice[4][4][2][0];
+		long smallerXNeighborValue = currentVSlice[4][2][2][0];
+		long greaterYNeighborValue = currentVSlice[4][3][3][0];
+		long smallerYNeighborValue = currentVSlice[4][3][1][0];
+		long greaterZNeighborValue = currentVSlice[4][3][2][1];
+		if (topplePositionOfType36(4, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[4][3][2][0] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[4][3][2][0] = !itsCurrentPositionsTurnToTopple;
+		}
+		// v | 4 | 3 | 2 | 1 | 157
+		itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+		//reuse values obtained previously
+		long smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[4][3][2][1];
+		smallerVNeighborValue = smallerVSlice[4][3][2][1];
+		greaterWNeighborValue = currentVSlice[5][3][2][1];
+		smallerWNeighborValue = currentVSlice[3][3][2][1];
+		greaterXNeighborValue = currentVSlice[4][4][2][1];
+		smallerXNeighborValue = currentVSlice[4][2][2][1];
+		greaterYNeighborValue = currentVSlice[4][3][3][1];
+		smallerYNeighborValue = currentVSlice[4][3][1][1];
+		greaterZNeighborValue = currentVSlice[4][3][2][2];
+		if (topplePositionOfType47(4, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[4][3][2][1] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[4][3][2][1] = !itsCurrentPositionsTurnToTopple;
+		}
+		// v | 4 | 3 | 2 | 2 | 158
+		itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[4][3][2][2];
+		smallerVNeighborValue = smallerVSlice[4][3][2][2];
+		greaterWNeighborValue = currentVSlice[5][3][2][2];
+		smallerWNeighborValue = currentVSlice[3][3][2][2];
+		greaterXNeighborValue = currentVSlice[4][4][2][2];
+		smallerXNeighborValue = currentVSlice[4][2][2][2];
+		greaterYNeighborValue = currentVSlice[4][3][3][2];
+		if (topplePositionOfType37(4, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
+				greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[4][3][2][2] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[4][3][2][2] = !itsCurrentPositionsTurnToTopple;
+		}
+		if (toppleRangeOfType17(4, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+				newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+			changed = true;
+		}
+		return changed;
+	}
+
+	/**
+	 * Topples the positions of a v slice, beyond v = 5, with a w coordinate between 5 and v - 2.
+	 * Split from {@link #toppleRangeBeyondV5} to keep each method under the JIT's huge method limit.
+	 */
+	private static boolean toppleVSliceBeyondV5WithWBetweenFiveAndVMinusTwo(int v, long[][][][][] vSlices, long[][][][][] newVSlices, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers,
+			boolean[][][][] newCurrentVSliceCompliance, boolean isVEven, boolean itsEvenPositionsTurnToTopple) {
+		int vMinusOne = v - 1;
+		long[][][][] smallerVSlice = vSlices[0], currentVSlice = vSlices[1], greaterVSlice = vSlices[2];
+		long currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, smallerZNeighborValue;
+		boolean itsCurrentPositionsTurnToTopple;
+		boolean changed = false;
+		int w = 5, wMinusOne = 4, wPlusOne = 6;
+		boolean itsX3Y2Z0PositionsTurnToTopple = isVEven == itsEvenPositionsTurnToTopple;//v + 5 + 3 + 2 + 0 is even when v is even
+		for (int wMinusTwo = 3, wMinusThree = 2; w != vMinusOne; wMinusThree = wMinusTwo, wMinusTwo = wMinusOne, wMinusOne = w, w = wPlusOne, wPlusOne++, itsX3Y2Z0PositionsTurnToTopple = !itsX3Y2Z0PositionsTurnToTopple) {
+			if (toppleRangeOfType15(w, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+					newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+				changed = true;
+			}
+			if (toppleRangeOfType18(w, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+					newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+				changed = true;
+			}
+			// v | w | 3 | 2 | 0 | 195
+			itsCurrentPositionsTurnToTopple = itsX3Y2Z0PositionsTurnToTopple;
+			currentValue = currentVSlice[w][3][2][0];
+			greaterVNeighborValue = greaterVSlice[w][3][2][0];
+			smallerVNeighborValue = smallerVSlice[w][3][2][0];
+			greaterWNeighborValue = currentVSlice[wPlusOne][3][2][0];
+			smallerWNeighborValue = currentVSlice[wMinusOne][3][2][0];
+			greaterXNeighborValue = currentVSlice[w][4][2][0];
+			smallerXNeighborValue = currentVSlice[w][2][2][0];
+			greaterYNeighborValue = currentVSlice[w][3][3][0];
+			smallerYNeighborValue = currentVSlice[w][3][1][0];
+			greaterZNeighborValue = currentVSlice[w][3][2][1];
+			if (topplePositionOfType36(w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+				changed = true;
+				newCurrentVSliceCompliance[w][3][2][0] = itsCurrentPositionsTurnToTopple;
+			} else {
+				newCurrentVSliceCompliance[w][3][2][0] = !itsCurrentPositionsTurnToTopple;
+			}
+			// v | w | 3 | 2 | 1 | 196
+			itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 			//reuse values obtained previously
-			long smallerZNeighborValue = currentValue;
+			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterVNeighborValue = greaterVSlice[4][3][2][1];
-			smallerVNeighborValue = smallerVSlice[4][3][2][1];
-			greaterWNeighborValue = currentVSlice[5][3][2][1];
-			smallerWNeighborValue = currentVSlice[3][3][2][1];
-			greaterXNeighborValue = currentVSlice[4][4][2][1];
-			smallerXNeighborValue = currentVSlice[4][2][2][1];
-			greaterYNeighborValue = currentVSlice[4][3][3][1];
-			smallerYNeighborValue = currentVSlice[4][3][1][1];
-			greaterZNeighborValue = currentVSlice[4][3][2][2];
-			if (topplePositionOfType47(4, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+			greaterVNeighborValue = greaterVSlice[w][3][2][1];
+			smallerVNeighborValue = smallerVSlice[w][3][2][1];
+			greaterWNeighborValue = currentVSlice[wPlusOne][3][2][1];
+			smallerWNeighborValue = currentVSlice[wMinusOne][3][2][1];
+			greaterXNeighborValue = currentVSlice[w][4][2][1];
+			smallerXNeighborValue = currentVSlice[w][2][2][1];
+			greaterYNeighborValue = currentVSlice[w][3][3][1];
+			smallerYNeighborValue = currentVSlice[w][3][1][1];
+			greaterZNeighborValue = currentVSlice[w][3][2][2];
+			if (topplePositionOfType47(w, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 					greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					newVSlices)) {
 				changed = true;
-				newCurrentVSliceCompliance[4][3][2][1] = itsCurrentPositionsTurnToTopple;
+				newCurrentVSliceCompliance[w][3][2][1] = itsCurrentPositionsTurnToTopple;
 			} else {
-				newCurrentVSliceCompliance[4][3][2][1] = !itsCurrentPositionsTurnToTopple;
+				newCurrentVSliceCompliance[w][3][2][1] = !itsCurrentPositionsTurnToTopple;
 			}
-			// v | 4 | 3 | 2 | 2 | 158
+			// v | w | 3 | 2 | 2 | 197
 			itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterVNeighborValue = greaterVSlice[4][3][2][2];
-			smallerVNeighborValue = smallerVSlice[4][3][2][2];
-			greaterWNeighborValue = currentVSlice[5][3][2][2];
-			smallerWNeighborValue = currentVSlice[3][3][2][2];
-			greaterXNeighborValue = currentVSlice[4][4][2][2];
-			smallerXNeighborValue = currentVSlice[4][2][2][2];
-			greaterYNeighborValue = currentVSlice[4][3][3][2];
-			if (topplePositionOfType37(4, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
+			greaterVNeighborValue = greaterVSlice[w][3][2][2];
+			smallerVNeighborValue = smallerVSlice[w][3][2][2];
+			greaterWNeighborValue = currentVSlice[wPlusOne][3][2][2];
+			smallerWNeighborValue = currentVSlice[wMinusOne][3][2][2];
+			greaterXNeighborValue = currentVSlice[w][4][2][2];
+			smallerXNeighborValue = currentVSlice[w][2][2][2];
+			greaterYNeighborValue = currentVSlice[w][3][3][2];
+			if (topplePositionOfType37(w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
 					greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 				changed = true;
-				newCurrentVSliceCompliance[4][3][2][2] = itsCurrentPositionsTurnToTopple;
+				newCurrentVSliceCompliance[w][3][2][2] = itsCurrentPositionsTurnToTopple;
 			} else {
-				newCurrentVSliceCompliance[4][3][2][2] = !itsCurrentPositionsTurnToTopple;
-			}
-			if (toppleRangeOfType17(4, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-					newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
-				changed = true;
+				newCurrentVSliceCompliance[w][3][2][2] = !itsCurrentPositionsTurnToTopple;
 			}
-			int w = 5, wMinusOne = 4, wPlusOne = 6;
-			boolean itsX3Y2Z0PositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-			for (int wMinusTwo = 3, wMinusThree = 2; w != vMinusOne; wMinusThree = wMinusTwo, wMinusTwo = wMinusOne, wMinusOne = w, w = wPlusOne, wPlusOne++, itsX3Y2Z0PositionsTurnToTopple = !itsX3Y2Z0PositionsTurnToTopple) {
-				if (toppleRangeOfType15(w, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-						newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
-					changed = true;
-				}
-				if (toppleRangeOfType18(w, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-						newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
-					changed = true;
-				}
-				// v | w | 3 | 2 | 0 | 195
-				itsCurrentPositionsTurnToTopple = itsX3Y2Z0PositionsTurnToTopple;
-				currentValue = currentVSlice[w][3][2][0];
-				greaterVNeighborValue = greaterVSlice[w][3][2][0];
-				smallerVNeighborValue = smallerVSlice[w][3][2][0];
-				greaterWNeighborValue = currentVSlice[wPlusOne][3][2][0];
-				smallerWNeighborValue = currentVSlice[wMinusOne][3][2][0];
-				greaterXNeighborValue = currentVSlice[w][4][2][0];
-				smallerXNeighborValue = currentVSlice[w][2][2][0];
-				greaterYNeighborValue = currentVSlice[w][3][3][0];
-				smallerYNeighborValue = currentVSlice[w][3][1][0];
-				greaterZNeighborValue = currentVSlice[w][3][2][1];
-				if (topplePositionOfType36(w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-					changed = true;
-					newCurrentVSliceCompliance[w][3][2][0] = itsCurrentPositionsTurnToTopple;
-				} else {
-					newCurrentVSliceCompliance[w][3][2][0] = !itsCurrentPositionsTurnToTopple;
-				}
-				// v | w | 3 | 2 | 1 | 196
-				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-				//reuse values obtained previously
-				smallerZNeighborValue = currentValue;
-				currentValue = greaterZNeighborValue;
-				greaterVNeighborValue = greaterVSlice[w][3][2][1];
-				smallerVNeighborValue = smallerVSlice[w][3][2][1];
-				greaterWNeighborValue = currentVSlice[wPlusOne][3][2][1];
-				smallerWNeighborValue = currentVSlice[wMinusOne][3][2][1];
-				greaterXNeighborValue = currentVSlice[w][4][2][1];
-				smallerXNeighborValue = currentVSlice[w][2][2][1];
-				greaterYNeighborValue = currentVSlice[w][3][3][1];
-				smallerYNeighborValue = currentVSlice[w][3][1][1];
-				greaterZNeighborValue = currentVSlice[w][3][2][2];
-				if (topplePositionOfType47(w, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						newVSlices)) {
-					changed = true;
-					newCurrentVSliceCompliance[w][3][2][1] = itsCurrentPositionsTurnToTopple;
-				} else {
-					newCurrentVSliceCompliance[w][3][2][1] = !itsCurrentPositionsTurnToTopple;
-				}
-				// v | w | 3 | 2 | 2 | 197
-				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-				//reuse values obtained previously
-				smallerZNeighborValue = currentValue;
-				currentValue = greaterZNeighborValue;
-				greaterVNeighborValue = greaterVSlice[w][3][2][2];
-				smallerVNeighborValue = smallerVSlice[w][3][2][2];
-				greaterWNeighborValue = currentVSlice[wPlusOne][3][2][2];
-				smallerWNeighborValue = currentVSlice[wMinusOne][3][2][2];
-				greaterXNeighborValue = currentVSlice[w][4][2][2];
-				smallerXNeighborValue = currentVSlice[w][2][2][2];
-				greaterYNeighborValue = currentVSlice[w][3][3][2];
-				if (topplePositionOfType37(w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
-						greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-					changed = true;
-					newCurrentVSliceCompliance[w][3][2][2] = itsCurrentPositionsTurnToTopple;
-				} else {
-					newCurrentVSliceCompliance[w][3][2][2] = !itsCurrentPositionsTurnToTopple;
-				}
-				if (toppleRangeOfType19(w, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-						newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
-					changed = true;
-				}			
-				int x = 4, xMinusOne = 3, xPlusOne = 5;
-				boolean itsY2Z0PositionsTurnToTopple = !itsX3Y2Z0PositionsTurnToTopple;
-				for (int xMinusTwo = 2; x != wMinusOne; xMinusTwo = xMinusOne, xMinusOne = x, x = xPlusOne, xPlusOne++, itsY2Z0PositionsTurnToTopple = !itsY2Z0PositionsTurnToTopple) {
-					if (toppleRangeOfType18(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-							relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-							newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
-						changed = true;
-					}
-					// v | w | x | 2 | 0 | 223
-					itsCurrentPositionsTurnToTopple = itsY2Z0PositionsTurnToTopple;
-					currentValue = currentVSlice[w][x][2][0];
-					greaterVNeighborValue = greaterVSlice[w][x][2][0];
-					smallerVNeighborValue = smallerVSlice[w][x][2][0];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][2][0];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][2][0];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][2][0];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][2][0];
-					greaterYNeighborValue = currentVSlice[w][x][3][0];
-					smallerYNeighborValue = currentVSlice[w][x][1][0];
-					greaterZNeighborValue = currentVSlice[w][x][2][1];
-					if (topplePositionOfType58(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
-							greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
-							relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-						changed = true;
-						newCurrentVSliceCompliance[w][x][2][0] = itsCurrentPositionsTurnToTopple;
-					} else {
-						newCurrentVSliceCompliance[w][x][2][0] = !itsCurrentPositionsTurnToTopple;
-					}
-					// v | w | x | 2 | 1 | 224
-					itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = greaterVSlice[w][x][2][1];
-					smallerVNeighborValue = smallerVSlice[w][x][2][1];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][2][1];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][2][1];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][2][1];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][2][1];
-					greaterYNeighborValue = currentVSlice[w][x][3][1];
-					smallerYNeighborValue = currentVSlice[w][x][1][1];
-					greaterZNeighborValue = currentVSlice[w][x][2][2];
-					if (topplePositionOfType47(w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							newVSlices)) {
-						changed = true;
-						newCurrentVSliceCompliance[w][x][2][1] = itsCurrentPositionsTurnToTopple;
-					} else {
-						newCurrentVSliceCompliance[w][x][2][1] = !itsCurrentPositionsTurnToTopple;
-					}
-					// v | w | x | 2 | 2 | 225
-					itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = greaterVSlice[w][x][2][2];
-					smallerVNeighborValue = smallerVSlice[w][x][2][2];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][2][2];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][2][2];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][2][2];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][2][2];
-					greaterYNeighborValue = currentVSlice[w][x][3][2];
-					if (topplePositionOfType59(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, 
-							smallerXNeighborValue, greaterYNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
-							relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-						changed = true;
-						newCurrentVSliceCompliance[w][x][2][2] = itsCurrentPositionsTurnToTopple;
-					} else {
-						newCurrentVSliceCompliance[w][x][2][2] = !itsCurrentPositionsTurnToTopple;
-					}
-					int y = 3, yMinusOne = 2, yPlusOne = 4;
-					boolean itsZ0PositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-					for (; y != xMinusOne; yMinusOne = y, y = yPlusOne, yPlusOne++, itsZ0PositionsTurnToTopple = !itsZ0PositionsTurnToTopple) {
-						// v | w | x | y | 0 | 223
-						itsCurrentPositionsTurnToTopple = itsZ0PositionsTurnToTopple;
-						currentValue = currentVSlice[w][x][y][0];
-						greaterVNeighborValue = greaterVSlice[w][x][y][0];
-						smallerVNeighborValue = smallerVSlice[w][x][y][0];
-						greaterWNeighborValue = currentVSlice[wPlusOne][x][y][0];
-						smallerWNeighborValue = currentVSlice[wMinusOne][x][y][0];
-						greaterXNeighborValue = currentVSlice[w][xPlusOne][y][0];
-						smallerXNeighborValue = currentVSlice[w][xMinusOne][y][0];
-						greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
-						smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
-						greaterZNeighborValue = currentVSlice[w][x][y][1];
-						if (topplePositionOfType58(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
-								greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
-								relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-							changed = true;
-							newCurrentVSliceCompliance[w][x][y][0] = itsCurrentPositionsTurnToTopple;
-						} else {
-							newCurrentVSliceCompliance[w][x][y][0] = !itsCurrentPositionsTurnToTopple;
-						}
-						// v | w | x | y | 1 | 238
-						itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-						//reuse values obtained previously
-						smallerZNeighborValue = currentValue;
-						currentValue = greaterZNeighborValue;
-						greaterVNeighborValue = greaterVSlice[w][x][y][1];
-						smallerVNeighborValue = smallerVSlice[w][x][y][1];
-						greaterWNeighborValue = currentVSlice[wPlusOne][x][y][1];
-						smallerWNeighborValue = currentVSlice[wMinusOne][x][y][1];
-						greaterXNeighborValue = currentVSlice[w][xPlusOne][y][1];
-						smallerXNeighborValue = currentVSlice[w][xMinusOne][y][1];
-						greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
-						smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
-						greaterZNeighborValue = currentVSlice[w][x][y][2];
-						if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-								greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-								newVSlices)) {
-							changed = true;
-							newCurrentVSliceCompliance[w][x][y][1] = itsCurrentPositionsTurnToTopple;
-						} else {
-							newCurrentVSliceCompliance[w][x][y][1] = !itsCurrentPositionsTurnToTopple;
-						}
-						int z = 2, zPlusOne = 3;
-						for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
-							// v | w | x | y | z | 243
-							itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-							//reuse values obtained previously
-							smallerZNeighborValue = currentValue;
-							currentValue = greaterZNeighborValue;
-							greaterVNeighborValue = greaterVSlice[w][x][y][z];
-							smallerVNeighborValue = smallerVSlice[w][x][y][z];
-							greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-							smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-							greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-							smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-							greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-							smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
-							greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-							if (topplePositionOfType63(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
-									greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, newVSlices)) {
-								changed = true;
-								newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
-							} else {
-								newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
-							}
-						}
-						// v | w | x | y | z | 239
-						itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-						//reuse values obtained previously
-						smallerZNeighborValue = currentValue;
-						currentValue = greaterZNeighborValue;
-						greaterVNeighborValue = greaterVSlice[w][x][y][z];
-						smallerVNeighborValue = smallerVSlice[w][x][y][z];
-						greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-						smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-						greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-						smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-						greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-						smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
-						greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-						if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-								greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-								newVSlices)) {
-							changed = true;
-							newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
-						} else {
-							newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
-						}
-						z = y;
-						// v | w | x | y | z | 225
-						itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-						//reuse values obtained previously
-						smallerZNeighborValue = currentValue;
-						currentValue = greaterZNeighborValue;
-						greaterVNeighborValue = greaterVSlice[w][x][y][z];
-						smallerVNeighborValue = smallerVSlice[w][x][y][z];
-						greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-						smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-						greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-						smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-						greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-						if (topplePositionOfType59(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, 
-								smallerXNeighborValue, greaterYNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
-								relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-							changed = true;
-							newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
-						} else {
-							newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
-						}
-					}
-					// v | w | x | y | 0 | 195
-					itsCurrentPositionsTurnToTopple = itsZ0PositionsTurnToTopple;
-					currentValue = currentVSlice[w][x][y][0];
-					greaterVNeighborValue = greaterVSlice[w][x][y][0];
-					smallerVNeighborValue = smallerVSlice[w][x][y][0];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][y][0];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][y][0];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][0];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][0];
-					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
-					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
-					greaterZNeighborValue = currentVSlice[w][x][y][1];
-					if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-							greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-						changed = true;
-						newCurrentVSliceCompliance[w][x][y][0] = itsCurrentPositionsTurnToTopple;
-					} else {
-						newCurrentVSliceCompliance[w][x][y][0] = !itsCurrentPositionsTurnToTopple;
-					}
-					// v | w | x | y | 1 | 226
-					itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = greaterVSlice[w][x][y][1];
-					smallerVNeighborValue = smallerVSlice[w][x][y][1];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][y][1];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][y][1];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][1];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][1];
-					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
-					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
-					greaterZNeighborValue = currentVSlice[w][x][y][2];
-					if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-							greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							newVSlices)) {
-						changed = true;
-						newCurrentVSliceCompliance[w][x][y][1] = itsCurrentPositionsTurnToTopple;
-					} else {
-						newCurrentVSliceCompliance[w][x][y][1] = !itsCurrentPositionsTurnToTopple;
-					}
-					int z = 2, zPlusOne = 3;
-					for (; z != xMinusTwo; z = zPlusOne, zPlusOne++) {
-						// v | w | x | y | z | 240
-						itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-						//reuse values obtained previously
-						smallerZNeighborValue = currentValue;
-						currentValue = greaterZNeighborValue;
-						greaterVNeighborValue = greaterVSlice[w][x][y][z];
-						smallerVNeighborValue = smallerVSlice[w][x][y][z];
-						greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-						smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-						greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-						smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-						greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-						smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
-						greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-						if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-								greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-								newVSlices)) {
-							changed = true;
-							newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
-						} else {
-							newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
-						}
-					}
-					// v | w | x | y | z | 227
-					itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = greaterVSlice[w][x][y][z];
-					smallerVNeighborValue = smallerVSlice[w][x][y][z];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
-					greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-							greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							newVSlices)) {
-						changed = true;
-						newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
-					} else {
-						newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
-					}
-					z = xMinusOne;
-					// v | w | x | y | z | 197
-					itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = greaterVSlice[w][x][y][z];
-					smallerVNeighborValue = smallerVSlice[w][x][y][z];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-					if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
-							greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-						changed = true;
-						newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
-					} else {
-						newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
-					}
-					if (toppleRangeOfType19(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-							relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-							newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
-						changed = true;
-					}
-				}
-				if (toppleRangeOfType16(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+			if (toppleRangeOfType19(w, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+					newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+				changed = true;
+			}			
+			int x = 4, xMinusOne = 3, xPlusOne = 5;
+			boolean itsY2Z0PositionsTurnToTopple = !itsX3Y2Z0PositionsTurnToTopple;
+			for (int xMinusTwo = 2; x != wMinusOne; xMinusTwo = xMinusOne, xMinusOne = x, x = xPlusOne, xPlusOne++, itsY2Z0PositionsTurnToTopple = !itsY2Z0PositionsTurnToTopple) {
+				if (toppleRangeOfType18(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
 						newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
 					changed = true;
 				}
-				// v | w | x | 2 | 0 | 200
+				// v | w | x | 2 | 0 | 223
 				itsCurrentPositionsTurnToTopple = itsY2Z0PositionsTurnToTopple;
 				currentValue = currentVSlice[w][x][2][0];
 				greaterVNeighborValue = greaterVSlice[w][x][2][0];
@@ -1724,15 +1493,15 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				greaterYNeighborValue = currentVSlice[w][x][3][0];
 				smallerYNeighborValue = currentVSlice[w][x][1][0];
 				greaterZNeighborValue = currentVSlice[w][x][2][1];
-				if (topplePositionOfType36(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType58(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
+						greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 					changed = true;
 					newCurrentVSliceCompliance[w][x][2][0] = itsCurrentPositionsTurnToTopple;
 				} else {
 					newCurrentVSliceCompliance[w][x][2][0] = !itsCurrentPositionsTurnToTopple;
 				}
-				// v | w | x | 2 | 1 | 201
+				// v | w | x | 2 | 1 | 224
 				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
@@ -1746,7 +1515,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				greaterYNeighborValue = currentVSlice[w][x][3][1];
 				smallerYNeighborValue = currentVSlice[w][x][1][1];
 				greaterZNeighborValue = currentVSlice[w][x][2][2];
-				if (topplePositionOfType47(w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				if (topplePositionOfType47(w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 						greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newVSlices)) {
 					changed = true;
@@ -1754,7 +1523,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				} else {
 					newCurrentVSliceCompliance[w][x][2][1] = !itsCurrentPositionsTurnToTopple;
 				}
-				// v | w | x | 2 | 2 | 202
+				// v | w | x | 2 | 2 | 225
 				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
@@ -1766,8 +1535,8 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				greaterXNeighborValue = currentVSlice[w][xPlusOne][2][2];
 				smallerXNeighborValue = currentVSlice[w][xMinusOne][2][2];
 				greaterYNeighborValue = currentVSlice[w][x][3][2];
-				if (topplePositionOfType37(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType59(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, 
+						smallerXNeighborValue, greaterYNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 					changed = true;
 					newCurrentVSliceCompliance[w][x][2][2] = itsCurrentPositionsTurnToTopple;
@@ -1776,8 +1545,8 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				}
 				int y = 3, yMinusOne = 2, yPlusOne = 4;
 				boolean itsZ0PositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-				for (; y != wMinusTwo; yMinusOne = y, y = yPlusOne, yPlusOne++, itsZ0PositionsTurnToTopple = !itsZ0PositionsTurnToTopple) {
-					// v | w | x | y | 0 | 200
+				for (; y != xMinusOne; yMinusOne = y, y = yPlusOne, yPlusOne++, itsZ0PositionsTurnToTopple = !itsZ0PositionsTurnToTopple) {
+					// v | w | x | y | 0 | 223
 					itsCurrentPositionsTurnToTopple = itsZ0PositionsTurnToTopple;
 					currentValue = currentVSlice[w][x][y][0];
 					greaterVNeighborValue = greaterVSlice[w][x][y][0];
@@ -1789,15 +1558,15 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
 					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
 					greaterZNeighborValue = currentVSlice[w][x][y][1];
-					if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					if (topplePositionOfType58(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
+							greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 							relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 						changed = true;
 						newCurrentVSliceCompliance[w][x][y][0] = itsCurrentPositionsTurnToTopple;
 					} else {
 						newCurrentVSliceCompliance[w][x][y][0] = !itsCurrentPositionsTurnToTopple;
 					}
-					// v | w | x | y | 1 | 229
+					// v | w | x | y | 1 | 238
 					itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
@@ -1811,7 +1580,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
 					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
 					greaterZNeighborValue = currentVSlice[w][x][y][2];
-					if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 							newVSlices)) {
 						changed = true;
@@ -1821,7 +1590,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 					}
 					int z = 2, zPlusOne = 3;
 					for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
-						// v | w | x | y | z | 241
+						// v | w | x | y | z | 243
 						itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 						//reuse values obtained previously
 						smallerZNeighborValue = currentValue;
@@ -1835,16 +1604,15 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 						greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 						smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 						greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-						if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-								greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-								newVSlices)) {
+						if (topplePositionOfType63(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, 
+								greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, newVSlices)) {
 							changed = true;
 							newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
 						} else {
 							newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
 						}
 					}
-					// v | w | x | y | z | 230
+					// v | w | x | y | z | 239
 					itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
@@ -1858,7 +1626,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 					greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 							greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 							newVSlices)) {
 						changed = true;
@@ -1867,7 +1635,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 						newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
 					}
 					z = y;
-					// v | w | x | y | z | 202
+					// v | w | x | y | z | 225
 					itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
@@ -1879,8 +1647,8 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
 					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
 					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-					if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					if (topplePositionOfType59(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, 
+							smallerXNeighborValue, greaterYNeighborValue, smallerZNeighborValue, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, 
 							relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 						changed = true;
 						newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
@@ -1888,7 +1656,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 						newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
 					}
 				}
-				// v | w | x | y | 0 | 156
+				// v | w | x | y | 0 | 195
 				itsCurrentPositionsTurnToTopple = itsZ0PositionsTurnToTopple;
 				currentValue = currentVSlice[w][x][y][0];
 				greaterVNeighborValue = greaterVSlice[w][x][y][0];
@@ -1900,7 +1668,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
 				greaterZNeighborValue = currentVSlice[w][x][y][1];
-				if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 					changed = true;
@@ -1908,7 +1676,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				} else {
 					newCurrentVSliceCompliance[w][x][y][0] = !itsCurrentPositionsTurnToTopple;
 				}
-				// v | w | x | y | 1 | 203
+				// v | w | x | y | 1 | 226
 				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
@@ -1922,7 +1690,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
 				greaterZNeighborValue = currentVSlice[w][x][y][2];
-				if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newVSlices)) {
 					changed = true;
@@ -1931,8 +1699,8 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 					newCurrentVSliceCompliance[w][x][y][1] = !itsCurrentPositionsTurnToTopple;
 				}
 				int z = 2, zPlusOne = 3;
-				for (; z != wMinusThree; z = zPlusOne, zPlusOne++) {
-					// v | w | x | y | z | 231
+				for (; z != xMinusTwo; z = zPlusOne, zPlusOne++) {
+					// v | w | x | y | z | 240
 					itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
@@ -1946,7 +1714,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 					greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 							greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 							newVSlices)) {
 						changed = true;
@@ -1955,7 +1723,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 						newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
 					}
 				}
-				// v | w | x | y | z | 204
+				// v | w | x | y | z | 227
 				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
@@ -1969,7 +1737,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 				greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
 						greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newVSlices)) {
 					changed = true;
@@ -1977,8 +1745,8 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				} else {
 					newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
 				}
-				z = wMinusTwo;
-				// v | w | x | y | z | 158
+				z = xMinusOne;
+				// v | w | x | y | z | 197
 				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
@@ -1990,7 +1758,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
 				smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-				if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
+				if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
 						greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 					changed = true;
@@ -1998,274 +1766,83 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				} else {
 					newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
 				}
-				if (toppleRangeOfType17(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				if (toppleRangeOfType19(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
 						newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
 					changed = true;
 				}
 			}
-			if (toppleRangeOfType12(w, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-					newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
-				changed = true;
-			}
-			if (toppleRangeOfType20(w, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+			if (toppleRangeOfType16(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
 					newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
 				changed = true;
 			}
-			// v | w | 3 | 2 | 0 | 169
-			itsCurrentPositionsTurnToTopple = itsX3Y2Z0PositionsTurnToTopple;
-			currentValue = currentVSlice[w][3][2][0];
-			greaterVNeighborValue = greaterVSlice[w][3][2][0];
-			smallerVNeighborValue = smallerVSlice[w][3][2][0];
-			greaterWNeighborValue = currentVSlice[wPlusOne][3][2][0];
-			smallerWNeighborValue = currentVSlice[wMinusOne][3][2][0];
-			greaterXNeighborValue = currentVSlice[w][4][2][0];
-			smallerXNeighborValue = currentVSlice[w][2][2][0];
-			greaterYNeighborValue = currentVSlice[w][3][3][0];
-			smallerYNeighborValue = currentVSlice[w][3][1][0];
-			greaterZNeighborValue = currentVSlice[w][3][2][1];
-			if (topplePositionOfType36(w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+			// v | w | x | 2 | 0 | 200
+			itsCurrentPositionsTurnToTopple = itsY2Z0PositionsTurnToTopple;
+			currentValue = currentVSlice[w][x][2][0];
+			greaterVNeighborValue = greaterVSlice[w][x][2][0];
+			smallerVNeighborValue = smallerVSlice[w][x][2][0];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][2][0];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][2][0];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][2][0];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][2][0];
+			greaterYNeighborValue = currentVSlice[w][x][3][0];
+			smallerYNeighborValue = currentVSlice[w][x][1][0];
+			greaterZNeighborValue = currentVSlice[w][x][2][1];
+			if (topplePositionOfType36(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 				changed = true;
-				newCurrentVSliceCompliance[w][3][2][0] = itsCurrentPositionsTurnToTopple;
+				newCurrentVSliceCompliance[w][x][2][0] = itsCurrentPositionsTurnToTopple;
 			} else {
-				newCurrentVSliceCompliance[w][3][2][0] = !itsCurrentPositionsTurnToTopple;
+				newCurrentVSliceCompliance[w][x][2][0] = !itsCurrentPositionsTurnToTopple;
 			}
-			// v | w | 3 | 2 | 1 | 170
+			// v | w | x | 2 | 1 | 201
 			itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterVNeighborValue = greaterVSlice[w][3][2][1];
-			smallerVNeighborValue = smallerVSlice[w][3][2][1];
-			greaterWNeighborValue = currentVSlice[wPlusOne][3][2][1];
-			smallerWNeighborValue = currentVSlice[wMinusOne][3][2][1];
-			greaterXNeighborValue = currentVSlice[w][4][2][1];
-			smallerXNeighborValue = currentVSlice[w][2][2][1];
-			greaterYNeighborValue = currentVSlice[w][3][3][1];
-			smallerYNeighborValue = currentVSlice[w][3][1][1];
-			greaterZNeighborValue = currentVSlice[w][3][2][2];
-			if (topplePositionOfType47(w, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-					greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+			greaterVNeighborValue = greaterVSlice[w][x][2][1];
+			smallerVNeighborValue = smallerVSlice[w][x][2][1];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][2][1];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][2][1];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][2][1];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][2][1];
+			greaterYNeighborValue = currentVSlice[w][x][3][1];
+			smallerYNeighborValue = currentVSlice[w][x][1][1];
+			greaterZNeighborValue = currentVSlice[w][x][2][2];
+			if (topplePositionOfType47(w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					newVSlices)) {
 				changed = true;
-				newCurrentVSliceCompliance[w][3][2][1] = itsCurrentPositionsTurnToTopple;
+				newCurrentVSliceCompliance[w][x][2][1] = itsCurrentPositionsTurnToTopple;
 			} else {
-				newCurrentVSliceCompliance[w][3][2][1] = !itsCurrentPositionsTurnToTopple;
+				newCurrentVSliceCompliance[w][x][2][1] = !itsCurrentPositionsTurnToTopple;
 			}
-			// v | w | 3 | 2 | 2 | 171
+			// v | w | x | 2 | 2 | 202
 			itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
 			currentValue = greaterZNeighborValue;
-			greaterVNeighborValue = greaterVSlice[w][3][2][2];
-			smallerVNeighborValue = smallerVSlice[w][3][2][2];
-			greaterWNeighborValue = currentVSlice[wPlusOne][3][2][2];
-			smallerWNeighborValue = currentVSlice[wMinusOne][3][2][2];
-			greaterXNeighborValue = currentVSlice[w][4][2][2];
-			smallerXNeighborValue = currentVSlice[w][2][2][2];
-			greaterYNeighborValue = currentVSlice[w][3][3][2];
-			if (topplePositionOfType37(w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
-					greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-				changed = true;
-				newCurrentVSliceCompliance[w][3][2][2] = itsCurrentPositionsTurnToTopple;
-			} else {
-				newCurrentVSliceCompliance[w][3][2][2] = !itsCurrentPositionsTurnToTopple;
-			}
-			if (toppleRangeOfType21(w, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-					newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
-				changed = true;
-			}
-			int x = 4, xMinusOne = 3, xPlusOne = 5;
-			boolean itsY2Z0PositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-			for (int xMinusTwo = 2; x != vMinusTwo; xMinusTwo = xMinusOne, xMinusOne = x, x = xPlusOne, xPlusOne++, itsY2Z0PositionsTurnToTopple = !itsY2Z0PositionsTurnToTopple) {
-				if (toppleRangeOfType20(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-						newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
-					changed = true;
-				}
-				// v | w | x | 2 | 0 | 209
-				itsCurrentPositionsTurnToTopple = itsY2Z0PositionsTurnToTopple;
-				currentValue = currentVSlice[w][x][2][0];
-				greaterVNeighborValue = greaterVSlice[w][x][2][0];
-				smallerVNeighborValue = smallerVSlice[w][x][2][0];
-				greaterWNeighborValue = currentVSlice[wPlusOne][x][2][0];
-				smallerWNeighborValue = currentVSlice[wMinusOne][x][2][0];
-				greaterXNeighborValue = currentVSlice[w][xPlusOne][2][0];
-				smallerXNeighborValue = currentVSlice[w][xMinusOne][2][0];
-				greaterYNeighborValue = currentVSlice[w][x][3][0];
-				smallerYNeighborValue = currentVSlice[w][x][1][0];
-				greaterZNeighborValue = currentVSlice[w][x][2][1];
-				if (topplePositionOfType36(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-					changed = true;
-					newCurrentVSliceCompliance[w][x][2][0] = itsCurrentPositionsTurnToTopple;
-				} else {
-					newCurrentVSliceCompliance[w][x][2][0] = !itsCurrentPositionsTurnToTopple;
-				}
-				// v | w | x | 2 | 1 | 210
-				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-				//reuse values obtained previously
-				smallerZNeighborValue = currentValue;
-				currentValue = greaterZNeighborValue;
-				greaterVNeighborValue = greaterVSlice[w][x][2][1];
-				smallerVNeighborValue = smallerVSlice[w][x][2][1];
-				greaterWNeighborValue = currentVSlice[wPlusOne][x][2][1];
-				smallerWNeighborValue = currentVSlice[wMinusOne][x][2][1];
-				greaterXNeighborValue = currentVSlice[w][xPlusOne][2][1];
-				smallerXNeighborValue = currentVSlice[w][xMinusOne][2][1];
-				greaterYNeighborValue = currentVSlice[w][x][3][1];
-				smallerYNeighborValue = currentVSlice[w][x][1][1];
-				greaterZNeighborValue = currentVSlice[w][x][2][2];
-				if (topplePositionOfType47(w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						newVSlices)) {
-					changed = true;
-					newCurrentVSliceCompliance[w][x][2][1] = itsCurrentPositionsTurnToTopple;
-				} else {
-					newCurrentVSliceCompliance[w][x][2][1] = !itsCurrentPositionsTurnToTopple;
-				}
-				// v | w | x | 2 | 2 | 211
-				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-				//reuse values obtained previously
-				smallerZNeighborValue = currentValue;
-				currentValue = greaterZNeighborValue;
-				greaterVNeighborValue = greaterVSlice[w][x][2][2];
-				smallerVNeighborValue = smallerVSlice[w][x][2][2];
-				greaterWNeighborValue = currentVSlice[wPlusOne][x][2][2];
-				smallerWNeighborValue = currentVSlice[wMinusOne][x][2][2];
-				greaterXNeighborValue = currentVSlice[w][xPlusOne][2][2];
-				smallerXNeighborValue = currentVSlice[w][xMinusOne][2][2];
-				greaterYNeighborValue = currentVSlice[w][x][3][2];
-				if (topplePositionOfType37(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-					changed = true;
-					newCurrentVSliceCompliance[w][x][2][2] = itsCurrentPositionsTurnToTopple;
-				} else {
-					newCurrentVSliceCompliance[w][x][2][2] = !itsCurrentPositionsTurnToTopple;
-				}
-				int y = 3, yMinusOne = 2, yPlusOne = 4;
-				boolean itsZ0PositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-				for (; y != xMinusOne; yMinusOne = y, y = yPlusOne, yPlusOne++, itsZ0PositionsTurnToTopple = !itsZ0PositionsTurnToTopple) {
-					// v | w | x | y | 0 | 209
-					itsCurrentPositionsTurnToTopple = itsZ0PositionsTurnToTopple;
-					currentValue = currentVSlice[w][x][y][0];
-					greaterVNeighborValue = greaterVSlice[w][x][y][0];
-					smallerVNeighborValue = smallerVSlice[w][x][y][0];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][y][0];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][y][0];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][0];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][0];
-					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
-					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
-					greaterZNeighborValue = currentVSlice[w][x][y][1];
-					if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-						changed = true;
-						newCurrentVSliceCompliance[w][x][y][0] = itsCurrentPositionsTurnToTopple;
-					} else {
-						newCurrentVSliceCompliance[w][x][y][0] = !itsCurrentPositionsTurnToTopple;
-					}
-					// v | w | x | y | 1 | 233
-					itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = greaterVSlice[w][x][y][1];
-					smallerVNeighborValue = smallerVSlice[w][x][y][1];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][y][1];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][y][1];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][1];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][1];
-					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
-					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
-					greaterZNeighborValue = currentVSlice[w][x][y][2];
-					if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							newVSlices)) {
-						changed = true;
-						newCurrentVSliceCompliance[w][x][y][1] = itsCurrentPositionsTurnToTopple;
-					} else {
-						newCurrentVSliceCompliance[w][x][y][1] = !itsCurrentPositionsTurnToTopple;
-					}
-					int z = 2, zPlusOne = 3;
-					for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
-						// v | w | x | y | z | 242
-						itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-						//reuse values obtained previously
-						smallerZNeighborValue = currentValue;
-						currentValue = greaterZNeighborValue;
-						greaterVNeighborValue = greaterVSlice[w][x][y][z];
-						smallerVNeighborValue = smallerVSlice[w][x][y][z];
-						greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-						smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-						greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-						smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-						greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-						smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
-						greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-						if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-								greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-								newVSlices)) {
-							changed = true;
-							newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
-						} else {
-							newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
-						}
-					}
-					// v | w | x | y | z | 234
-					itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = greaterVSlice[w][x][y][z];
-					smallerVNeighborValue = smallerVSlice[w][x][y][z];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
-					greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							newVSlices)) {
-						changed = true;
-						newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
-					} else {
-						newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
-					}
-					z = y;
-					// v | w | x | y | z | 211
-					itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-					//reuse values obtained previously
-					smallerZNeighborValue = currentValue;
-					currentValue = greaterZNeighborValue;
-					greaterVNeighborValue = greaterVSlice[w][x][y][z];
-					smallerVNeighborValue = smallerVSlice[w][x][y][z];
-					greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
-					smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
-					greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
-					smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
-					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-					if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
-							greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-							relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
-						changed = true;
-						newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
-					} else {
-						newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
-					}
-				}
-				// v | w | x | y | 0 | 169
+			greaterVNeighborValue = greaterVSlice[w][x][2][2];
+			smallerVNeighborValue = smallerVSlice[w][x][2][2];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][2][2];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][2][2];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][2][2];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][2][2];
+			greaterYNeighborValue = currentVSlice[w][x][3][2];
+			if (topplePositionOfType37(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+				changed = true;
+				newCurrentVSliceCompliance[w][x][2][2] = itsCurrentPositionsTurnToTopple;
+			} else {
+				newCurrentVSliceCompliance[w][x][2][2] = !itsCurrentPositionsTurnToTopple;
+			}
+			int y = 3, yMinusOne = 2, yPlusOne = 4;
+			boolean itsZ0PositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+			for (; y != wMinusTwo; yMinusOne = y, y = yPlusOne, yPlusOne++, itsZ0PositionsTurnToTopple = !itsZ0PositionsTurnToTopple) {
+				// v | w | x | y | 0 | 200
 				itsCurrentPositionsTurnToTopple = itsZ0PositionsTurnToTopple;
 				currentValue = currentVSlice[w][x][y][0];
 				greaterVNeighborValue = greaterVSlice[w][x][y][0];
@@ -2277,15 +1854,15 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
 				greaterZNeighborValue = currentVSlice[w][x][y][1];
-				if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 					changed = true;
 					newCurrentVSliceCompliance[w][x][y][0] = itsCurrentPositionsTurnToTopple;
 				} else {
 					newCurrentVSliceCompliance[w][x][y][0] = !itsCurrentPositionsTurnToTopple;
 				}
-				// v | w | x | y | 1 | 212
+				// v | w | x | y | 1 | 229
 				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
@@ -2299,8 +1876,8 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
 				greaterZNeighborValue = currentVSlice[w][x][y][2];
-				if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newVSlices)) {
 					changed = true;
 					newCurrentVSliceCompliance[w][x][y][1] = itsCurrentPositionsTurnToTopple;
@@ -2308,8 +1885,8 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 					newCurrentVSliceCompliance[w][x][y][1] = !itsCurrentPositionsTurnToTopple;
 				}
 				int z = 2, zPlusOne = 3;
-				for (; z != xMinusTwo; z = zPlusOne, zPlusOne++) {
-					// v | w | x | y | z | 235
+				for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
+					// v | w | x | y | z | 241
 					itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
@@ -2323,8 +1900,8 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 					greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-							greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 							newVSlices)) {
 						changed = true;
 						newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
@@ -2332,7 +1909,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 						newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
 					}
 				}
-				// v | w | x | y | z | 213
+				// v | w | x | y | z | 230
 				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
@@ -2346,16 +1923,16 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 				greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newVSlices)) {
 					changed = true;
 					newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
 				} else {
 					newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
 				}
-				z = xMinusOne;
-				// v | w | x | y | z | 171
+				z = y;
+				// v | w | x | y | z | 202
 				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
@@ -2367,26 +1944,234 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
 				smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-				if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
-						greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 					changed = true;
 					newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
 				} else {
 					newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
 				}
-				if (toppleRangeOfType21(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-						relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-						newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+			}
+			// v | w | x | y | 0 | 156
+			itsCurrentPositionsTurnToTopple = itsZ0PositionsTurnToTopple;
+			currentValue = currentVSlice[w][x][y][0];
+			greaterVNeighborValue = greaterVSlice[w][x][y][0];
+			smallerVNeighborValue = smallerVSlice[w][x][y][0];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][0];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][0];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][0];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][0];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
+			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
+			greaterZNeighborValue = currentVSlice[w][x][y][1];
+			if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+				changed = true;
+				newCurrentVSliceCompliance[w][x][y][0] = itsCurrentPositionsTurnToTopple;
+			} else {
+				newCurrentVSliceCompliance[w][x][y][0] = !itsCurrentPositionsTurnToTopple;
+			}
+			// v | w | x | y | 1 | 203
+			itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = greaterVSlice[w][x][y][1];
+			smallerVNeighborValue = smallerVSlice[w][x][y][1];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][1];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][1];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][1];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][1];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
+			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
+			greaterZNeighborValue = currentVSlice[w][x][y][2];
+			if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					newVSlices)) {
+				changed = true;
+				newCurrentVSliceCompliance[w][x][y][1] = itsCurrentPositionsTurnToTopple;
+			} else {
+				newCurrentVSliceCompliance[w][x][y][1] = !itsCurrentPositionsTurnToTopple;
+			}
+			int z = 2, zPlusOne = 3;
+			for (; z != wMinusThree; z = zPlusOne, zPlusOne++) {
+				// v | w | x | y | z | 231
+				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+				//reuse values obtained previously
+				smallerZNeighborValue = currentValue;
+				currentValue = greaterZNeighborValue;
+				greaterVNeighborValue = greaterVSlice[w][x][y][z];
+				smallerVNeighborValue = smallerVSlice[w][x][y][z];
+				greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+				smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+				greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+				smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
+				greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
+				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+						newVSlices)) {
 					changed = true;
+					newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
+				} else {
+					newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
 				}
 			}
-			if (toppleRangeOfType13(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+			// v | w | x | y | z | 204
+			itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = greaterVSlice[w][x][y][z];
+			smallerVNeighborValue = smallerVSlice[w][x][y][z];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
+			greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
+			if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					newVSlices)) {
+				changed = true;
+				newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
+			} else {
+				newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
+			}
+			z = wMinusTwo;
+			// v | w | x | y | z | 158
+			itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = greaterVSlice[w][x][y][z];
+			smallerVNeighborValue = smallerVSlice[w][x][y][z];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+			if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 1, greaterWNeighborValue, 1, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
+					greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+				changed = true;
+				newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
+			} else {
+				newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
+			}
+			if (toppleRangeOfType17(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+					newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Topples the positions of a v slice, beyond v = 5, with a w coordinate equal to v - 1.
+	 * Split from {@link #toppleRangeBeyondV5} to keep each method under the JIT's huge method limit.
+	 */
+	private static boolean toppleVSliceBeyondV5WithWEqualToVMinusOne(int v, long[][][][][] vSlices, long[][][][][] newVSlices, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers,
+			boolean[][][][] newCurrentVSliceCompliance, boolean isVEven, boolean itsEvenPositionsTurnToTopple) {
+		int vMinusOne = v - 1, vMinusTwo = v - 2, vMinusThree = v - 3, vMinusFour = v - 4;
+		long[][][][] smallerVSlice = vSlices[0], currentVSlice = vSlices[1], greaterVSlice = vSlices[2];
+		int w = vMinusOne, wMinusOne = vMinusTwo, wPlusOne = v;
+		long currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, smallerZNeighborValue;
+		boolean itsCurrentPositionsTurnToTopple;
+		boolean itsX3Y2Z0PositionsTurnToTopple = itsEvenPositionsTurnToTopple;//v + (v - 1) + 3 + 2 + 0 is always even
+		boolean changed = false;
+		if (toppleRangeOfType12(w, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+				newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+			changed = true;
+		}
+		if (toppleRangeOfType20(w, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+				newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+			changed = true;
+		}
+		// v | w | 3 | 2 | 0 | 169
+		itsCurrentPositionsTurnToTopple = itsX3Y2Z0PositionsTurnToTopple;
+		currentValue = currentVSlice[w][3][2][0];
+		greaterVNeighborValue = greaterVSlice[w][3][2][0];
+		smallerVNeighborValue = smallerVSlice[w][3][2][0];
+		greaterWNeighborValue = currentVSlice[wPlusOne][3][2][0];
+		smallerWNeighborValue = currentVSlice[wMinusOne][3][2][0];
+		greaterXNeighborValue = currentVSlice[w][4][2][0];
+		smallerXNeighborValue = currentVSlice[w][2][2][0];
+		greaterYNeighborValue = currentVSlice[w][3][3][0];
+		smallerYNeighborValue = currentVSlice[w][3][1][0];
+		greaterZNeighborValue = currentVSlice[w][3][2][1];
+		if (topplePositionOfType36(w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[w][3][2][0] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[w][3][2][0] = !itsCurrentPositionsTurnToTopple;
+		}
+		// v | w | 3 | 2 | 1 | 170
+		itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[w][3][2][1];
+		smallerVNeighborValue = smallerVSlice[w][3][2][1];
+		greaterWNeighborValue = currentVSlice[wPlusOne][3][2][1];
+		smallerWNeighborValue = currentVSlice[wMinusOne][3][2][1];
+		greaterXNeighborValue = currentVSlice[w][4][2][1];
+		smallerXNeighborValue = currentVSlice[w][2][2][1];
+		greaterYNeighborValue = currentVSlice[w][3][3][1];
+		smallerYNeighborValue = currentVSlice[w][3][1][1];
+		greaterZNeighborValue = currentVSlice[w][3][2][2];
+		if (topplePositionOfType47(w, 3, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[w][3][2][1] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[w][3][2][1] = !itsCurrentPositionsTurnToTopple;
+		}
+		// v | w | 3 | 2 | 2 | 171
+		itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[w][3][2][2];
+		smallerVNeighborValue = smallerVSlice[w][3][2][2];
+		greaterWNeighborValue = currentVSlice[wPlusOne][3][2][2];
+		smallerWNeighborValue = currentVSlice[wMinusOne][3][2][2];
+		greaterXNeighborValue = currentVSlice[w][4][2][2];
+		smallerXNeighborValue = currentVSlice[w][2][2][2];
+		greaterYNeighborValue = currentVSlice[w][3][3][2];
+		if (topplePositionOfType37(w, 3, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
+				greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[w][3][2][2] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[w][3][2][2] = !itsCurrentPositionsTurnToTopple;
+		}
+		if (toppleRangeOfType21(w, 3, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+				newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+			changed = true;
+		}
+		int x = 4, xMinusOne = 3, xPlusOne = 5;
+		boolean itsY2Z0PositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+		for (int xMinusTwo = 2; x != vMinusTwo; xMinusTwo = xMinusOne, xMinusOne = x, x = xPlusOne, xPlusOne++, itsY2Z0PositionsTurnToTopple = !itsY2Z0PositionsTurnToTopple) {
+			if (toppleRangeOfType20(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
 					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
 					newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
 				changed = true;
 			}
-			// v | w | x | 2 | 0 | 174
+			// v | w | x | 2 | 0 | 209
 			itsCurrentPositionsTurnToTopple = itsY2Z0PositionsTurnToTopple;
 			currentValue = currentVSlice[w][x][2][0];
 			greaterVNeighborValue = greaterVSlice[w][x][2][0];
@@ -2398,7 +2183,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 			greaterYNeighborValue = currentVSlice[w][x][3][0];
 			smallerYNeighborValue = currentVSlice[w][x][1][0];
 			greaterZNeighborValue = currentVSlice[w][x][2][1];
-			if (topplePositionOfType36(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+			if (topplePositionOfType36(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 					greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 				changed = true;
@@ -2406,7 +2191,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 			} else {
 				newCurrentVSliceCompliance[w][x][2][0] = !itsCurrentPositionsTurnToTopple;
 			}
-			// v | w | x | 2 | 1 | 175
+			// v | w | x | 2 | 1 | 210
 			itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
@@ -2420,7 +2205,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 			greaterYNeighborValue = currentVSlice[w][x][3][1];
 			smallerYNeighborValue = currentVSlice[w][x][1][1];
 			greaterZNeighborValue = currentVSlice[w][x][2][2];
-			if (topplePositionOfType47(w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+			if (topplePositionOfType47(w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 					greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					newVSlices)) {
 				changed = true;
@@ -2428,7 +2213,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 			} else {
 				newCurrentVSliceCompliance[w][x][2][1] = !itsCurrentPositionsTurnToTopple;
 			}
-			// v | w | x | 2 | 2 | 176
+			// v | w | x | 2 | 2 | 211
 			itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
@@ -2440,7 +2225,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 			greaterXNeighborValue = currentVSlice[w][xPlusOne][2][2];
 			smallerXNeighborValue = currentVSlice[w][xMinusOne][2][2];
 			greaterYNeighborValue = currentVSlice[w][x][3][2];
-			if (topplePositionOfType37(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+			if (topplePositionOfType37(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 					greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 				changed = true;
@@ -2450,8 +2235,8 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 			}
 			int y = 3, yMinusOne = 2, yPlusOne = 4;
 			boolean itsZ0PositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
-			for (; y != vMinusThree; yMinusOne = y, y = yPlusOne, yPlusOne++, itsZ0PositionsTurnToTopple = !itsZ0PositionsTurnToTopple) {
-				// v | w | x | y | 0 | 174
+			for (; y != xMinusOne; yMinusOne = y, y = yPlusOne, yPlusOne++, itsZ0PositionsTurnToTopple = !itsZ0PositionsTurnToTopple) {
+				// v | w | x | y | 0 | 209
 				itsCurrentPositionsTurnToTopple = itsZ0PositionsTurnToTopple;
 				currentValue = currentVSlice[w][x][y][0];
 				greaterVNeighborValue = greaterVSlice[w][x][y][0];
@@ -2463,7 +2248,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
 				greaterZNeighborValue = currentVSlice[w][x][y][1];
-				if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 					changed = true;
@@ -2471,7 +2256,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				} else {
 					newCurrentVSliceCompliance[w][x][y][0] = !itsCurrentPositionsTurnToTopple;
 				}
-				// v | w | x | y | 1 | 215
+				// v | w | x | y | 1 | 233
 				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
@@ -2485,7 +2270,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
 				greaterZNeighborValue = currentVSlice[w][x][y][2];
-				if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newVSlices)) {
 					changed = true;
@@ -2495,7 +2280,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				}
 				int z = 2, zPlusOne = 3;
 				for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
-					// v | w | x | y | z | 236
+					// v | w | x | y | z | 242
 					itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 					//reuse values obtained previously
 					smallerZNeighborValue = currentValue;
@@ -2509,7 +2294,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 					greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 					smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 					greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 							greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 							newVSlices)) {
 						changed = true;
@@ -2518,7 +2303,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 						newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
 					}
 				}
-				// v | w | x | y | z | 216
+				// v | w | x | y | z | 234
 				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
@@ -2532,7 +2317,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 				greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
 						greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newVSlices)) {
 					changed = true;
@@ -2541,7 +2326,72 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 					newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
 				}
 				z = y;
-				// v | w | x | y | z | 176
+				// v | w | x | y | z | 211
+				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+				//reuse values obtained previously
+				smallerZNeighborValue = currentValue;
+				currentValue = greaterZNeighborValue;
+				greaterVNeighborValue = greaterVSlice[w][x][y][z];
+				smallerVNeighborValue = smallerVSlice[w][x][y][z];
+				greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+				smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+				greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+				smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+				if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+					changed = true;
+					newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
+				} else {
+					newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
+				}
+			}
+			// v | w | x | y | 0 | 169
+			itsCurrentPositionsTurnToTopple = itsZ0PositionsTurnToTopple;
+			currentValue = currentVSlice[w][x][y][0];
+			greaterVNeighborValue = greaterVSlice[w][x][y][0];
+			smallerVNeighborValue = smallerVSlice[w][x][y][0];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][0];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][0];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][0];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][0];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
+			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
+			greaterZNeighborValue = currentVSlice[w][x][y][1];
+			if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+				changed = true;
+				newCurrentVSliceCompliance[w][x][y][0] = itsCurrentPositionsTurnToTopple;
+			} else {
+				newCurrentVSliceCompliance[w][x][y][0] = !itsCurrentPositionsTurnToTopple;
+			}
+			// v | w | x | y | 1 | 212
+			itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = greaterVSlice[w][x][y][1];
+			smallerVNeighborValue = smallerVSlice[w][x][y][1];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][1];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][1];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][1];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][1];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
+			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
+			greaterZNeighborValue = currentVSlice[w][x][y][2];
+			if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					newVSlices)) {
+				changed = true;
+				newCurrentVSliceCompliance[w][x][y][1] = itsCurrentPositionsTurnToTopple;
+			} else {
+				newCurrentVSliceCompliance[w][x][y][1] = !itsCurrentPositionsTurnToTopple;
+			}
+			int z = 2, zPlusOne = 3;
+			for (; z != xMinusTwo; z = zPlusOne, zPlusOne++) {
+				// v | w | x | y | z | 235
 				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
@@ -2553,16 +2403,137 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
 				smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-				if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
-						greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
-						relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
+				greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
+				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
+						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+						newVSlices)) {
 					changed = true;
 					newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
 				} else {
 					newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
 				}
 			}
-			// v | w | x | y | 0 | 121
+			// v | w | x | y | z | 213
+			itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = greaterVSlice[w][x][y][z];
+			smallerVNeighborValue = smallerVSlice[w][x][y][z];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
+			greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
+			if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					newVSlices)) {
+				changed = true;
+				newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
+			} else {
+				newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
+			}
+			z = xMinusOne;
+			// v | w | x | y | z | 171
+			itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = greaterVSlice[w][x][y][z];
+			smallerVNeighborValue = smallerVSlice[w][x][y][z];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+			if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 1, greaterXNeighborValue, 1, smallerXNeighborValue, 3, 
+					greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+				changed = true;
+				newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
+			} else {
+				newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
+			}
+			if (toppleRangeOfType21(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+					newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+				changed = true;
+			}
+		}
+		if (toppleRangeOfType13(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+				newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+			changed = true;
+		}
+		// v | w | x | 2 | 0 | 174
+		itsCurrentPositionsTurnToTopple = itsY2Z0PositionsTurnToTopple;
+		currentValue = currentVSlice[w][x][2][0];
+		greaterVNeighborValue = greaterVSlice[w][x][2][0];
+		smallerVNeighborValue = smallerVSlice[w][x][2][0];
+		greaterWNeighborValue = currentVSlice[wPlusOne][x][2][0];
+		smallerWNeighborValue = currentVSlice[wMinusOne][x][2][0];
+		greaterXNeighborValue = currentVSlice[w][xPlusOne][2][0];
+		smallerXNeighborValue = currentVSlice[w][xMinusOne][2][0];
+		greaterYNeighborValue = currentVSlice[w][x][3][0];
+		smallerYNeighborValue = currentVSlice[w][x][1][0];
+		greaterZNeighborValue = currentVSlice[w][x][2][1];
+		if (topplePositionOfType36(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[w][x][2][0] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[w][x][2][0] = !itsCurrentPositionsTurnToTopple;
+		}
+		// v | w | x | 2 | 1 | 175
+		itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[w][x][2][1];
+		smallerVNeighborValue = smallerVSlice[w][x][2][1];
+		greaterWNeighborValue = currentVSlice[wPlusOne][x][2][1];
+		smallerWNeighborValue = currentVSlice[wMinusOne][x][2][1];
+		greaterXNeighborValue = currentVSlice[w][xPlusOne][2][1];
+		smallerXNeighborValue = currentVSlice[w][xMinusOne][2][1];
+		greaterYNeighborValue = currentVSlice[w][x][3][1];
+		smallerYNeighborValue = currentVSlice[w][x][1][1];
+		greaterZNeighborValue = currentVSlice[w][x][2][2];
+		if (topplePositionOfType47(w, x, 2, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[w][x][2][1] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[w][x][2][1] = !itsCurrentPositionsTurnToTopple;
+		}
+		// v | w | x | 2 | 2 | 176
+		itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[w][x][2][2];
+		smallerVNeighborValue = smallerVSlice[w][x][2][2];
+		greaterWNeighborValue = currentVSlice[wPlusOne][x][2][2];
+		smallerWNeighborValue = currentVSlice[wMinusOne][x][2][2];
+		greaterXNeighborValue = currentVSlice[w][xPlusOne][2][2];
+		smallerXNeighborValue = currentVSlice[w][xMinusOne][2][2];
+		greaterYNeighborValue = currentVSlice[w][x][3][2];
+		if (topplePositionOfType37(w, x, 2, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+				greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[w][x][2][2] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[w][x][2][2] = !itsCurrentPositionsTurnToTopple;
+		}
+		int y = 3, yMinusOne = 2, yPlusOne = 4;
+		boolean itsZ0PositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+		for (; y != vMinusThree; yMinusOne = y, y = yPlusOne, yPlusOne++, itsZ0PositionsTurnToTopple = !itsZ0PositionsTurnToTopple) {
+			// v | w | x | y | 0 | 174
 			itsCurrentPositionsTurnToTopple = itsZ0PositionsTurnToTopple;
 			currentValue = currentVSlice[w][x][y][0];
 			greaterVNeighborValue = greaterVSlice[w][x][y][0];
@@ -2574,15 +2545,15 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
 			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
 			greaterZNeighborValue = currentVSlice[w][x][y][1];
-			if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
-					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+			if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 				changed = true;
 				newCurrentVSliceCompliance[w][x][y][0] = itsCurrentPositionsTurnToTopple;
 			} else {
 				newCurrentVSliceCompliance[w][x][y][0] = !itsCurrentPositionsTurnToTopple;
 			}
-			// v | w | x | y | 1 | 177
+			// v | w | x | y | 1 | 215
 			itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
@@ -2596,8 +2567,8 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
 			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
 			greaterZNeighborValue = currentVSlice[w][x][y][2];
-			if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
-					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+			if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					newVSlices)) {
 				changed = true;
 				newCurrentVSliceCompliance[w][x][y][1] = itsCurrentPositionsTurnToTopple;
@@ -2605,8 +2576,8 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				newCurrentVSliceCompliance[w][x][y][1] = !itsCurrentPositionsTurnToTopple;
 			}
 			int z = 2, zPlusOne = 3;
-			for (; z != vMinusFour; z = zPlusOne, zPlusOne++) {
-				// v | w | x | y | z | 217
+			for (; z != yMinusOne; z = zPlusOne, zPlusOne++) {
+				// v | w | x | y | z | 236
 				itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 				//reuse values obtained previously
 				smallerZNeighborValue = currentValue;
@@ -2620,8 +2591,8 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 				smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 				greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
-						greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+						greaterYNeighborValue, 1, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 						newVSlices)) {
 					changed = true;
 					newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
@@ -2629,7 +2600,7 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 					newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
 				}
 			}
-			// v | w | x | y | z | 178
+			// v | w | x | y | z | 216
 			itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
@@ -2643,16 +2614,16 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
 			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
 			greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
-			if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
-					greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+			if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					newVSlices)) {
 				changed = true;
 				newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
 			} else {
 				newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
 			}
-			z = vMinusThree;
-			// v | w | x | y | z | 123
+			z = y;
+			// v | w | x | y | z | 176
 			itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
 			//reuse values obtained previously
 			smallerZNeighborValue = currentValue;
@@ -2664,24 +2635,130 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
 			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
 			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
-			if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
-					greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+			if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 1, 
+					greaterYNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
 					relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
 				changed = true;
 				newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
 			} else {
 				newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
 			}
-			if (toppleRangeOfType14(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
-					relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
-					newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+		}
+		// v | w | x | y | 0 | 121
+		itsCurrentPositionsTurnToTopple = itsZ0PositionsTurnToTopple;
+		currentValue = currentVSlice[w][x][y][0];
+		greaterVNeighborValue = greaterVSlice[w][x][y][0];
+		smallerVNeighborValue = smallerVSlice[w][x][y][0];
+		greaterWNeighborValue = currentVSlice[wPlusOne][x][y][0];
+		smallerWNeighborValue = currentVSlice[wMinusOne][x][y][0];
+		greaterXNeighborValue = currentVSlice[w][xPlusOne][y][0];
+		smallerXNeighborValue = currentVSlice[w][xMinusOne][y][0];
+		greaterYNeighborValue = currentVSlice[w][x][yPlusOne][0];
+		smallerYNeighborValue = currentVSlice[w][x][yMinusOne][0];
+		greaterZNeighborValue = currentVSlice[w][x][y][1];
+		if (topplePositionOfType36(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[w][x][y][0] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[w][x][y][0] = !itsCurrentPositionsTurnToTopple;
+		}
+		// v | w | x | y | 1 | 177
+		itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[w][x][y][1];
+		smallerVNeighborValue = smallerVSlice[w][x][y][1];
+		greaterWNeighborValue = currentVSlice[wPlusOne][x][y][1];
+		smallerWNeighborValue = currentVSlice[wMinusOne][x][y][1];
+		greaterXNeighborValue = currentVSlice[w][xPlusOne][y][1];
+		smallerXNeighborValue = currentVSlice[w][xMinusOne][y][1];
+		greaterYNeighborValue = currentVSlice[w][x][yPlusOne][1];
+		smallerYNeighborValue = currentVSlice[w][x][yMinusOne][1];
+		greaterZNeighborValue = currentVSlice[w][x][y][2];
+		if (topplePositionOfType47(w, x, y, 1, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 2, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[w][x][y][1] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[w][x][y][1] = !itsCurrentPositionsTurnToTopple;
+		}
+		int z = 2, zPlusOne = 3;
+		for (; z != vMinusFour; z = zPlusOne, zPlusOne++) {
+			// v | w | x | y | z | 217
+			itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+			//reuse values obtained previously
+			smallerZNeighborValue = currentValue;
+			currentValue = greaterZNeighborValue;
+			greaterVNeighborValue = greaterVSlice[w][x][y][z];
+			smallerVNeighborValue = smallerVSlice[w][x][y][z];
+			greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+			smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+			greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+			smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+			greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+			smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
+			greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
+			if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+					greaterYNeighborValue, 2, smallerYNeighborValue, 1, greaterZNeighborValue, 1, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+					newVSlices)) {
 				changed = true;
+				newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
+			} else {
+				newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
 			}
-		}		
-		vSlices[1] = currentVSlice;
-		vSlices[2] = greaterVSlice;
-		newVSlices[1] = newCurrentVSlice;
-		newVSlices[2] = newGreaterVSlice;
+		}
+		// v | w | x | y | z | 178
+		itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[w][x][y][z];
+		smallerVNeighborValue = smallerVSlice[w][x][y][z];
+		greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+		smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+		greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+		smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+		greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+		smallerYNeighborValue = currentVSlice[w][x][yMinusOne][z];
+		greaterZNeighborValue = currentVSlice[w][x][y][zPlusOne];
+		if (topplePositionOfType47(w, x, y, z, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 2, 
+				greaterYNeighborValue, 2, smallerYNeighborValue, 2, greaterZNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
+		}
+		z = vMinusThree;
+		// v | w | x | y | z | 123
+		itsCurrentPositionsTurnToTopple = !itsCurrentPositionsTurnToTopple;
+		//reuse values obtained previously
+		smallerZNeighborValue = currentValue;
+		currentValue = greaterZNeighborValue;
+		greaterVNeighborValue = greaterVSlice[w][x][y][z];
+		smallerVNeighborValue = smallerVSlice[w][x][y][z];
+		greaterWNeighborValue = currentVSlice[wPlusOne][x][y][z];
+		smallerWNeighborValue = currentVSlice[wMinusOne][x][y][z];
+		greaterXNeighborValue = currentVSlice[w][xPlusOne][y][z];
+		smallerXNeighborValue = currentVSlice[w][xMinusOne][y][z];
+		greaterYNeighborValue = currentVSlice[w][x][yPlusOne][z];
+		if (topplePositionOfType37(w, x, y, currentValue, greaterVNeighborValue, smallerVNeighborValue, 2, greaterWNeighborValue, 2, smallerWNeighborValue, 2, greaterXNeighborValue, 2, smallerXNeighborValue, 3, 
+				greaterYNeighborValue, 2, smallerZNeighborValue, 1, relevantAsymmetricNeighborValues, sortedNeighborsIndexes, relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborShareMultipliers, 
+				relevantAsymmetricNeighborSymmetryCounts, newVSlices)) {
+			changed = true;
+			newCurrentVSliceCompliance[w][x][y][z] = itsCurrentPositionsTurnToTopple;
+		} else {
+			newCurrentVSliceCompliance[w][x][y][z] = !itsCurrentPositionsTurnToTopple;
+		}
+		if (toppleRangeOfType14(w, x, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+				newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+			changed = true;
+		}
 		return changed;
 	}
 
@@ -4427,6 +4504,26 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
 			changed = true;
 		}
+		if (toppleRangeOfType14WithXEqualToW(w, crd, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+				newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+			changed = true;
+		}
+		return changed;
+	}
+
+	/**
+	 * Topples the part of a range of type 14 where x is equal to w. Split from {@link #toppleRangeOfType14} to keep each method under the JIT's huge method limit.
+	 */
+	private static boolean toppleRangeOfType14WithXEqualToW(int w, int crd, long[][][][][] vSlices, long[][][][][] newVSlices, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers, 
+			boolean[][][][] newCurrentVSliceCompliance, boolean isVEven, boolean itsEvenPositionsTurnToTopple) {
+		int wMinusOne = w - 1, wMinusTwo = w - 2, wPlusOne = w + 1;
+		boolean changed = false;
+		long[][][][] smallerVSlice = vSlices[0], currentVSlice = vSlices[1], greaterVSlice = vSlices[2];
+		boolean itsCurrentPositionsTurnToTopple;
+		long currentValue, greaterVNeighborValue, smallerVNeighborValue, greaterWNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerYNeighborValue, greaterZNeighborValue, smallerZNeighborValue;
+		int z, zPlusOne;
 		int xMinusOne = crd, x = w;
 		// v | w | x | 2 | 0 | 126
 		itsCurrentPositionsTurnToTopple = isVEven == itsEvenPositionsTurnToTopple;
@@ -4695,6 +4792,26 @@ public class LongAetherTopplingAlternationCompliance5D extends IsotropicHypercub
 				newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
 			changed = true;
 		}
+		if (toppleRangeOfType14WithWEqualToV(w, crd, vSlices, newVSlices, relevantAsymmetricNeighborValues, sortedNeighborsIndexes,
+				relevantAsymmetricNeighborCoords, relevantAsymmetricNeighborSymmetryCounts, relevantAsymmetricNeighborShareMultipliers,
+				newCurrentVSliceCompliance, isVEven, itsEvenPositionsTurnToTopple)) {
+			changed = true;
+		}
+		return changed;
+	}
+
+	/**
+	 * Topples the part of a range of type 14 that lies in the next w, where w is equal to v. Split from {@link #toppleRangeOfType14} to keep each method under the JIT's huge method limit.
+	 */
+	private static boolean toppleRangeOfType14WithWEqualToV(int w, int crd, long[][][][][] vSlices, long[][][][][] newVSlices, long[] relevantAsymmetricNeighborValues, int[] sortedNeighborsIndexes,
+			int[][] relevantAsymmetricNeighborCoords, int[] relevantAsymmetricNeighborSymmetryCounts, int[] relevantAsymmetricNeighborShareMultipliers, 
+			boolean[][][][] newCurrentVSliceCompliance, boolean isVEven, boolean itsEvenPositionsTurnToTopple) {
+		int wMinusOne = w - 1, wMinusTwo = w - 2, wPlusOne = w + 1;
+		boolean changed = false;
+		long[][][][] currentVSlice = vSlices[1], greaterVSlice = vSlices[2];
+		boolean itsCurrentPositionsTurnToTopple, itsZ0PositionsTurnToTopple;
+		long currentValue, greaterVNeighborValue, smallerWNeighborValue, greaterXNeighborValue, smallerXNeighborValue, greaterYNeighborValue, smallerYNeighborValue, greaterZNeighborValue, smallerZNeighborValue;
+		int x, xMinusOne, y, yMinusOne, yPlusOne, z, zPlusOne;
 		int wMinusThree = wMinusTwo;
 		wMinusTwo = wMinusOne;
 		wMinusOne = w;
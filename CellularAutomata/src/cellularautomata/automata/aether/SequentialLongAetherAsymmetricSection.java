@@ -0,0 +1,488 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.automata.aether;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import cellularautomata.Utils;
+import cellularautomata.model.CompressedGridModel;
+import cellularautomata.model.CompressedLongSliceFileReader;
+import cellularautomata.model.CompressedLongSliceFileWriter;
+import cellularautomata.model.FileBackedModel;
+import cellularautomata.model.MappedLongArrayFile;
+
+/**
+ * <p>Base of the implementations of the <a href="https://github.com/JaumeRibas/Aether2DImgMaker/wiki/Aether-Cellular-Automaton-Definition">Aether</a> cellular automaton 
+ * with a single source initial configuration that compute each step streaming the files of the grid.</p>
+ * <p>The previous step file is read strictly sequentially, one slice along the first axis at a time, keeping a window of three slices in memory, 
+ * and the new step file is written in order as soon as each slice is complete. This makes the throughput bound by the disk bandwidth 
+ * instead of by the latency of random accesses.</p>
+ * <p>The files have the same layout as those of the other file-backed implementations, so their backups are interchangeable. 
+ * Optionally, they can be compressed slice by slice with a {@link CompressedLongSliceFileWriter} instead.</p>
+ * 
+ * @author Jaume
+ *
+ */
+public abstract class SequentialLongAetherAsymmetricSection extends FileBackedModel implements CompressedGridModel {
+	
+	private static final int IO_BUFFER_SIZE = 1 << 20;
+	
+	private final int dimension;
+	private long initialValue;
+	private long step;
+	private int maxX;
+	private Boolean changed;
+	private boolean gridCompression;
+	private boolean currentFileCompressed;
+	private CompressedLongSliceFileReader compressedGrid;
+	
+	/** Offsets of the positions within a slice, indexed by axis and coordinate */
+	private int[][] sliceOffsets;
+	/** The old and new values of the slices x - 1, x and x + 1, at the indexes x%3 */
+	private long[][] oldSliceWindow;
+	private long[][] newSliceWindow;
+	private int[] coordinates;
+	private long[] neighborValues;
+	private long[][] neighborSlices;
+	private int[] neighborSliceIndexes;
+	private int[] neighborSymmetryCounts;// the number of directions of the current position that lead to the neighbor
+	private int[] neighborShareMultipliers;// the number of directions of the neighbor that lead to the current position or to a symmetric one
+	private long[] neighborShares;
+	private int[] sortedNeighborsIndexes;
+	private ByteBuffer readBuffer;
+	private ByteBuffer writeBuffer;
+
+	protected SequentialLongAetherAsymmetricSection(int dimension, long initialValue, int maxX, String folderPath) throws IOException {
+		this.dimension = dimension;
+		this.initialValue = initialValue;
+		this.maxX = maxX;
+		step = 0;
+		createGridFolder(folderPath);
+		currentFile = new File(getGridFolderPath() + File.separator + String.format(FILE_NAME_FORMAT, step));
+		grid = new MappedLongArrayFile(currentFile, Utils.getAnisotropicGridPositionCount(dimension, maxX + 3));
+		grid.set(0, initialValue);
+	}
+	
+	/**
+	 * Creates an instance restoring a backup
+	 * 
+	 * @param dimension the dimension of the grid
+	 * @param backupPath the path to the backup file to restore.
+	 * @param folderPath
+	 * @throws IOException 
+	 * @throws ClassNotFoundException 
+	 * @throws FileNotFoundException 
+	 */
+	protected SequentialLongAetherAsymmetricSection(int dimension, String backupPath, String folderPath) throws FileNotFoundException, ClassNotFoundException, IOException {
+		super(backupPath, folderPath);
+		this.dimension = dimension;
+	}
+	
+	@Override
+	public Boolean nextStep() throws IOException {
+		FileChannel oldGridChannel = null;
+		FileChannel newGridChannel = null;
+		CompressedLongSliceFileWriter newGridWriter = null;
+		try {
+			int lastX = maxX + 1;
+			int lastNewSliceX = lastX + 1;
+			prepareWorkingArrays(lastNewSliceX + 1);
+			File newFile = new File(getGridFolderPath() + File.separator + String.format(FILE_NAME_FORMAT, step + 1));
+			if (!currentFileCompressed) {
+				oldGridChannel = FileChannel.open(currentFile.toPath(), StandardOpenOption.READ);
+				readBuffer.clear().limit(0);
+			}
+			if (gridCompression) {
+				newGridWriter = new CompressedLongSliceFileWriter(newFile);
+			} else {
+				newGridChannel = FileChannel.open(newFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+				writeBuffer.clear();
+			}
+			readSlice(oldGridChannel, 0);
+			clearNewSlice(0);
+			boolean changed = false;
+			boolean maxXReached = false;
+			int dimensionMinusOne = dimension - 1;
+			for (int x = 0; x <= lastX; x++) {
+				readSlice(oldGridChannel, x + 1);
+				clearNewSlice(x + 1);
+				long[] oldSlice = oldSliceWindow[x%3];
+				coordinates[0] = x;
+				for (int axis = 1; axis < dimension; axis++) {
+					coordinates[axis] = 0;
+				}
+				int sliceIndex = 0;
+				while (true) {
+					if (topplePosition(oldSlice[sliceIndex], sliceIndex)) {
+						changed = true;
+						if (x >= maxX) {
+							maxXReached = true;
+						}
+					}
+					sliceIndex++;
+					//move to the next position of the slice
+					int axis = dimensionMinusOne;
+					while (axis > 0 && coordinates[axis] == coordinates[axis - 1]) {
+						coordinates[axis] = 0;
+						axis--;
+					}
+					if (axis == 0) {
+						break;
+					}
+					coordinates[axis]++;
+				}
+				if (x > 0) {
+					writeSlice(newGridChannel, newGridWriter, x - 1);
+				}
+			}
+			writeSlice(newGridChannel, newGridWriter, lastX);
+			writeSlice(newGridChannel, newGridWriter, lastNewSliceX);
+			if (maxXReached) {
+				maxX++;
+				//extend the grid
+				clearNewSlice(lastNewSliceX + 1);
+				writeSlice(newGridChannel, newGridWriter, lastNewSliceX + 1);
+			}
+			//the references are cleared once closed so that they aren't closed again if a later call fails
+			if (gridCompression) {
+				newGridWriter.close();
+				newGridWriter = null;
+			} else {
+				flushWriteBuffer(newGridChannel);
+				newGridChannel.close();
+				newGridChannel = null;
+			}
+			if (currentFileCompressed) {
+				compressedGrid.close();
+			} else {
+				oldGridChannel.close();
+				oldGridChannel = null;
+				grid.close();
+			}
+			if (readingBackup) {
+				readingBackup = false;
+			} else {
+				deleteStepFile(currentFile);
+			}
+			currentFile = newFile;
+			currentFileCompressed = gridCompression;
+			openCurrentFile();
+			step++;
+			this.changed = changed;
+			return changed;
+		} catch (Exception ex) {
+			if (oldGridChannel != null)
+				oldGridChannel.close();
+			if (newGridChannel != null)
+				newGridChannel.close();
+			if (newGridWriter != null)
+				newGridWriter.close();
+			close();
+			throw ex;
+		}
+	}
+	
+	private void prepareWorkingArrays(int side) {
+		if (coordinates == null) {
+			coordinates = new int[dimension];
+			int maxNeighborCount = 2*dimension;
+			neighborValues = new long[maxNeighborCount];
+			neighborSlices = new long[maxNeighborCount][];
+			neighborSliceIndexes = new int[maxNeighborCount];
+			neighborSymmetryCounts = new int[maxNeighborCount];
+			neighborShareMultipliers = new int[maxNeighborCount];
+			neighborShares = new long[maxNeighborCount];
+			sortedNeighborsIndexes = new int[maxNeighborCount];
+			readBuffer = ByteBuffer.allocateDirect(IO_BUFFER_SIZE);
+			writeBuffer = ByteBuffer.allocateDirect(IO_BUFFER_SIZE);
+		}
+		if (sliceOffsets == null || sliceOffsets[0].length <= side) {
+			int newSide = side + side/8 + 1;// leave room for the grid to grow
+			sliceOffsets = new int[dimension][newSide + 1];
+			for (int axis = 1; axis < dimension; axis++) {
+				int[] axisOffsets = sliceOffsets[axis];
+				for (int coordinate = 0; coordinate <= newSide; coordinate++) {
+					axisOffsets[coordinate] = (int) Utils.getAnisotropicGridPositionCount(dimension - axis, coordinate);
+				}
+			}
+			int maxSliceSize = getSliceSize(newSide);
+			oldSliceWindow = new long[3][maxSliceSize];
+			newSliceWindow = new long[3][maxSliceSize];
+		}
+	}
+	
+	private int getSliceSize(int x) {
+		return (int) Utils.getAnisotropicGridPositionCount(dimension - 1, x + 1);
+	}
+	
+	private void readSlice(FileChannel channel, int x) throws IOException {
+		long[] slice = oldSliceWindow[x%3];
+		int length = getSliceSize(x);
+		if (currentFileCompressed) {
+			compressedGrid.readSlice(x, slice, length);
+			return;
+		}
+		int offset = 0;
+		while (offset < length) {
+			int count = Math.min(length - offset, readBuffer.remaining()/Long.BYTES);
+			if (count == 0) {
+				readBuffer.compact();
+				int bytesRead = channel.read(readBuffer);
+				readBuffer.flip();
+				if (bytesRead == -1) {
+					throw new EOFException("Unexpected end of grid file.");
+				}
+			} else {
+				readBuffer.asLongBuffer().get(slice, offset, count);
+				readBuffer.position(readBuffer.position() + count*Long.BYTES);
+				offset += count;
+			}
+		}
+	}
+	
+	private void clearNewSlice(int x) {
+		Arrays.fill(newSliceWindow[x%3], 0, getSliceSize(x), 0);
+	}
+	
+	private void writeSlice(FileChannel channel, CompressedLongSliceFileWriter writer, int x) throws IOException {
+		long[] slice = newSliceWindow[x%3];
+		int length = getSliceSize(x);
+		if (writer != null) {
+			writer.writeSlice(slice, length);
+			return;
+		}
+		int offset = 0;
+		while (offset < length) {
+			int count = Math.min(length - offset, writeBuffer.remaining()/Long.BYTES);
+			if (count == 0) {
+				flushWriteBuffer(channel);
+			} else {
+				writeBuffer.asLongBuffer().put(slice, offset, count);
+				writeBuffer.position(writeBuffer.position() + count*Long.BYTES);
+				offset += count;
+			}
+		}
+	}
+	
+	private void flushWriteBuffer(FileChannel channel) throws IOException {
+		writeBuffer.flip();
+		while (writeBuffer.hasRemaining()) {
+			channel.write(writeBuffer);
+		}
+		writeBuffer.clear();
+	}
+	
+	private boolean topplePosition(long value, int sliceIndex) {
+		int x = coordinates[0];
+		long[] newSlice = newSliceWindow[x%3];
+		//gather the distinct neighbors of the asymmetric section, going through the runs of equal coordinates
+		int neighborCount = 0;
+		int runStart = 0;
+		int previousRunLength = 0;
+		while (runStart < dimension) {
+			int coordinate = coordinates[runStart];
+			int runEnd = runStart + 1;
+			while (runEnd < dimension && coordinates[runEnd] == coordinate) {
+				runEnd++;
+			}
+			int runLength = runEnd - runStart;
+			int nextRunLength = 0;
+			if (runEnd < dimension) {
+				int nextCoordinate = coordinates[runEnd];
+				nextRunLength = 1;
+				while (runEnd + nextRunLength < dimension && coordinates[runEnd + nextRunLength] == nextCoordinate) {
+					nextRunLength++;
+				}
+			}
+			//the greater neighbor
+			int neighborX, neighborSliceIndex;
+			if (runStart == 0) {
+				neighborX = x + 1;
+				neighborSliceIndex = sliceIndex;
+			} else {
+				int[] axisOffsets = sliceOffsets[runStart];
+				neighborX = x;
+				neighborSliceIndex = sliceIndex + axisOffsets[coordinate + 1] - axisOffsets[coordinate];
+			}
+			long neighborValue = oldSliceWindow[neighborX%3][neighborSliceIndex];
+			if (neighborValue < value) {
+				neighborValues[neighborCount] = neighborValue;
+				neighborSlices[neighborCount] = newSliceWindow[neighborX%3];
+				neighborSliceIndexes[neighborCount] = neighborSliceIndex;
+				neighborSymmetryCounts[neighborCount] = coordinate == 0 ? 2*runLength : runLength;
+				int shareMultiplier = 1;
+				if (runStart > 0 && coordinates[runStart - 1] == coordinate + 1) {
+					shareMultiplier += previousRunLength;
+				}
+				neighborShareMultipliers[neighborCount] = shareMultiplier;
+				neighborCount++;
+			}
+			//the smaller neighbor
+			if (coordinate > 0) {
+				int runLast = runEnd - 1;
+				if (runLast == 0) {
+					neighborX = x - 1;
+					neighborSliceIndex = sliceIndex;
+				} else {
+					int[] axisOffsets = sliceOffsets[runLast];
+					neighborX = x;
+					neighborSliceIndex = sliceIndex + axisOffsets[coordinate - 1] - axisOffsets[coordinate];
+				}
+				neighborValue = oldSliceWindow[neighborX%3][neighborSliceIndex];
+				if (neighborValue < value) {
+					neighborValues[neighborCount] = neighborValue;
+					neighborSlices[neighborCount] = newSliceWindow[neighborX%3];
+					neighborSliceIndexes[neighborCount] = neighborSliceIndex;
+					neighborSymmetryCounts[neighborCount] = runLength;
+					int shareMultiplier = 1;
+					if (nextRunLength > 0 && coordinates[runEnd] == coordinate - 1) {
+						shareMultiplier += nextRunLength;
+					}
+					if (coordinate == 1) {
+						shareMultiplier *= 2;
+					}
+					neighborShareMultipliers[neighborCount] = shareMultiplier;
+					neighborCount++;
+				}
+			}
+			previousRunLength = runLength;
+			runStart = runEnd;
+		}
+		long newValue = AetherUtils.splitValueAmongSmallerNeighbors(value, neighborValues, neighborSymmetryCounts, neighborCount, sortedNeighborsIndexes, neighborShares);
+		newSlice[sliceIndex] += newValue;
+		for (int i = 0; i < neighborCount; i++) {
+			long share = neighborShares[i];
+			if (share != 0) {
+				neighborSlices[i][neighborSliceIndexes[i]] += share*neighborShareMultipliers[i];
+			}
+		}
+		return newValue != value;
+	}
+
+	@Override
+	protected void openCurrentFile() throws IOException {
+		if (currentFileCompressed) {
+			grid = null;
+			compressedGrid = new CompressedLongSliceFileReader(currentFile);
+		} else {
+			compressedGrid = null;
+			grid = new MappedLongArrayFile(currentFile);
+		}
+	}
+	
+	/**
+	 * Returns the value at the given position of the current step.
+	 * 
+	 * @param x the first coordinate
+	 * @param sliceIndex the index of the position within the slice at x
+	 * @return the value
+	 * @throws IOException
+	 */
+	protected long getFromSlice(int x, int sliceIndex) throws IOException {
+		if (currentFileCompressed) {
+			return compressedGrid.get(x, sliceIndex);
+		} else {
+			return grid.get(Utils.getAnisotropicGridPositionCount(dimension, x) + sliceIndex);
+		}
+	}
+	
+	@Override
+	public void setGridCompression(boolean compressed) {
+		gridCompression = compressed;
+	}
+	
+	@Override
+	public boolean isGridCompression() {
+		return gridCompression;
+	}
+
+	@Override
+	public Boolean isChanged() {
+		return changed;
+	}
+	
+	public int getSize() {
+		return maxX;
+	}
+	
+	/**
+	 * Returns the initial value
+	 * 
+	 * @return the value at the origin at step 0
+	 */
+	public long getInitialValue() {
+		return initialValue;
+	}
+
+	@Override
+	public long getStep() {
+		return step;
+	}
+
+	@Override
+	public String getName() {
+		return "Aether";
+	}
+	
+	/**
+	 * Returns the name under which the size is stored in the backups, to keep them compatible with those of the other file-backed implementations.
+	 * 
+	 * @return the name of the property
+	 */
+	protected String getSizePropertyName() {
+		return "maxX";
+	}
+	
+	@Override
+	public void close() throws IOException {
+		if (compressedGrid != null) {
+			compressedGrid.close();
+		}
+		super.close();
+	}
+	
+	@Override
+	protected HashMap<String, Object> getPropertiesMap() {
+		HashMap<String, Object> properties = new HashMap<String, Object>();
+		properties.put("initialValue", initialValue);
+		properties.put("step", step);
+		properties.put(getSizePropertyName(), maxX);
+		properties.put("changed", changed);
+		properties.put("compressed", currentFileCompressed);
+		return properties;
+	}
+	
+	@Override
+	protected void setPropertiesFromMap(HashMap<String, Object> properties) {
+		initialValue = (long) properties.get("initialValue");
+		step = (long) properties.get("step");
+		maxX = (int) properties.get(getSizePropertyName());
+		changed = (Boolean) properties.get("changed");
+		Boolean compressed = (Boolean) properties.get("compressed");
+		currentFileCompressed = compressed != null && compressed;
+		gridCompression = currentFileCompressed;
+	}
+	
+}
@@ -0,0 +1,70 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.automata.aether;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import cellularautomata.model2d.IsotropicSquareLongModelAsymmetricSection;
+
+/**
+ * Implementation of the <a href="https://github.com/JaumeRibas/Aether2DImgMaker/wiki/Aether-Cellular-Automaton-Definition">Aether</a> cellular automaton in 2D with a single source initial configuration 
+ * that streams the grid files sequentially on every step. See {@link SequentialLongAetherAsymmetricSection}.
+ * 
+ * @author Jaume
+ *
+ */
+public class SequentialLongAetherAsymmetricSection2D extends SequentialLongAetherAsymmetricSection implements IsotropicSquareLongModelAsymmetricSection {
+	
+	public static final long MAX_INITIAL_VALUE = Long.MAX_VALUE;
+	public static final long MIN_INITIAL_VALUE = -6148914691236517205L;
+
+	public SequentialLongAetherAsymmetricSection2D(long initialValue, String folderPath) throws IOException {
+		super(2, validateInitialValue(initialValue), 3, folderPath);
+	}
+	
+	/**
+	 * Creates an instance restoring a backup
+	 * 
+	 * @param backupPath the path to the backup file to restore.
+	 * @param folderPath
+	 * @throws IOException 
+	 * @throws ClassNotFoundException 
+	 * @throws FileNotFoundException 
+	 */
+	public SequentialLongAetherAsymmetricSection2D(String backupPath, String folderPath) throws FileNotFoundException, ClassNotFoundException, IOException {
+		super(2, backupPath, folderPath);
+	}
+	
+	private static long validateInitialValue(long initialValue) {
+		if (initialValue < MIN_INITIAL_VALUE) {//to prevent overflow of long type
+			throw new IllegalArgumentException(String.format("Initial value cannot be smaller than %,d. Use a greater initial value or a different implementation.", MIN_INITIAL_VALUE));
+	    }
+		return initialValue;
+	}
+	
+	@Override
+	public long getFromPosition(int x, int y) throws IOException {
+		return getFromSlice(x, y);
+	}
+
+	@Override
+	public String getWholeGridSubfolderPath() {
+		return getName() + "/2D/" + getInitialValue();
+	}
+	
+}
@@ -0,0 +1,76 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.automata.aether;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import cellularautomata.Utils;
+import cellularautomata.model4d.IsotropicHypercubicLongModelAsymmetricSection4D;
+
+/**
+ * Implementation of the <a href="https://github.com/JaumeRibas/Aether2DImgMaker/wiki/Aether-Cellular-Automaton-Definition">Aether</a> cellular automaton in 4D with a single source initial configuration 
+ * that streams the grid files sequentially on every step. See {@link SequentialLongAetherAsymmetricSection}.
+ * 
+ * @author Jaume
+ *
+ */
+public class SequentialLongAetherAsymmetricSection4D extends SequentialLongAetherAsymmetricSection implements IsotropicHypercubicLongModelAsymmetricSection4D {
+	
+	public static final long MAX_INITIAL_VALUE = Long.MAX_VALUE;
+	public static final long MIN_INITIAL_VALUE = -2635249153387078803L;
+
+	public SequentialLongAetherAsymmetricSection4D(long initialValue, String folderPath) throws IOException {
+		super(4, validateInitialValue(initialValue), 5, folderPath);
+	}
+	
+	/**
+	 * Creates an instance restoring a backup
+	 * 
+	 * @param backupPath the path to the backup file to restore.
+	 * @param folderPath
+	 * @throws IOException 
+	 * @throws ClassNotFoundException 
+	 * @throws FileNotFoundException 
+	 */
+	public SequentialLongAetherAsymmetricSection4D(String backupPath, String folderPath) throws FileNotFoundException, ClassNotFoundException, IOException {
+		super(4, backupPath, folderPath);
+	}
+	
+	private static long validateInitialValue(long initialValue) {
+		if (initialValue < MIN_INITIAL_VALUE) {//to prevent overflow of long type
+			throw new IllegalArgumentException(String.format("Initial value cannot be smaller than %,d. Use a greater initial value or a different implementation.", MIN_INITIAL_VALUE));
+	    }
+		return initialValue;
+	}
+	
+	@Override
+	public long getFromPosition(int w, int x, int y, int z) throws IOException {
+		return getFromSlice(w, (int) Utils.getAnisotropic3DGridPositionCount(x) + ((y*y-y)/2+y) + z);
+	}
+	
+	@Override
+	protected String getSizePropertyName() {
+		return "maxW";
+	}
+
+	@Override
+	public String getWholeGridSubfolderPath() {
+		return getName() + "/4D/" + getInitialValue();
+	}
+	
+}
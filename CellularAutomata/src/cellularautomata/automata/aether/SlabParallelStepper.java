@@ -0,0 +1,216 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.automata.aether;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Topples a range of slices of an asymmetric section concurrently by splitting it into slabs of contiguous slices.</p>
+ * <p>Toppling a slice only adds shares to the slices at distance one in the new grid. So slabs at least two slices wide 
+ * that are not contiguous never write to the same slice. The even slabs are toppled concurrently first, and the odd ones afterwards. 
+ * Since the shares are only ever added, the resulting grid is bit-identical to the one obtained toppling the whole range on a single thread.</p>
+ * <p>All the slices of the new grid within the range plus one slice on each side must be allocated beforehand, 
+ * and the slices of the old grid must not be freed during the step.</p>
+ * 
+ * @author Jaume
+ *
+ */
+public class SlabParallelStepper {
+	
+	public static final int MIN_SLAB_WIDTH = 2;
+	private static final int SLABS_PER_THREAD = 4;
+	
+	/**
+	 * Topples the slices of a slab.
+	 */
+	public interface SlabToppler {
+		
+		/**
+		 * Topples the slices from minX (inclusive) to maxX (exclusive).
+		 * 
+		 * @param minX the first slice of the slab
+		 * @param maxX the slice after the last slice of the slab
+		 * @return whether or not any position toppled
+		 */
+		boolean toppleSlab(int minX, int maxX);
+		
+	}
+	
+	private final int threadCount;
+	private final int sliceDimension;
+	private final ForkJoinPool pool;
+	private final ThreadMXBean threadMXBean;
+	private long stepStartTime;
+	private long parallelWallNanos;
+	private final AtomicLong parallelThreadNanos = new AtomicLong();
+	private double lastStepSpeedup = Double.NaN;
+	private long lastStepMillis = -1;
+	
+	/**
+	 * 
+	 * @param threadCount the number of threads to use
+	 * @param gridDimension the dimension of the grid, used to balance the work among slabs
+	 */
+	public SlabParallelStepper(int threadCount, int gridDimension) {
+		if (threadCount < 2) {
+			throw new IllegalArgumentException("Thread count must be greater than one.");
+		}
+		this.threadCount = threadCount;
+		this.sliceDimension = gridDimension - 1;
+		pool = new ForkJoinPool(threadCount);
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		threadMXBean = bean.isCurrentThreadCpuTimeSupported() ? bean : null;
+	}
+	
+	public int getThreadCount() {
+		return threadCount;
+	}
+	
+	/**
+	 * Stops the threads once the tasks submitted finish. The stepper cannot be used afterwards.
+	 */
+	public void shutdown() {
+		pool.shutdown();
+	}
+	
+	public void startStep() {
+		stepStartTime = System.nanoTime();
+		parallelWallNanos = 0;
+		parallelThreadNanos.set(0);
+	}
+	
+	public void endStep() {
+		long stepNanos = System.nanoTime() - stepStartTime;
+		lastStepMillis = stepNanos/1000000;
+		if (stepNanos > 0) {
+			lastStepSpeedup = (double)(stepNanos - parallelWallNanos + parallelThreadNanos.get())/stepNanos;
+		} else {
+			lastStepSpeedup = 1;
+		}
+	}
+	
+	public double getLastStepSpeedup() {
+		return lastStepSpeedup;
+	}
+	
+	public long getLastStepMillis() {
+		return lastStepMillis;
+	}
+	
+	/**
+	 * Topples the slices from minX (inclusive) to maxX (exclusive) splitting them into slabs.
+	 * 
+	 * @param minX the first slice of the range
+	 * @param maxX the slice after the last slice of the range
+	 * @param toppler
+	 * @return whether or not any position toppled
+	 */
+	public boolean topple(int minX, int maxX, SlabToppler toppler) {
+		long startTime = System.nanoTime();
+		boolean changed = false;
+		int[] bounds = getSlabBounds(minX, maxX);
+		int slabCount = bounds.length - 1;
+		if (slabCount < 2) {
+			changed = toppler.toppleSlab(minX, maxX);
+			parallelThreadNanos.addAndGet(System.nanoTime() - startTime);
+		} else {
+			changed = topplePhase(bounds, 0, toppler);
+			if (topplePhase(bounds, 1, toppler)) {
+				changed = true;
+			}
+		}
+		parallelWallNanos += System.nanoTime() - startTime;
+		return changed;
+	}
+	
+	private boolean topplePhase(int[] bounds, int firstSlab, SlabToppler toppler) {
+		List<ForkJoinTask<Boolean>> tasks = new ArrayList<ForkJoinTask<Boolean>>();
+		for (int i = firstSlab, slabCount = bounds.length - 1; i < slabCount; i += 2) {
+			final int slabMinX = bounds[i], slabMaxX = bounds[i + 1];
+			tasks.add(pool.submit(() -> {
+				long startTime = getCurrentThreadTime();
+				boolean slabChanged = toppler.toppleSlab(slabMinX, slabMaxX);
+				parallelThreadNanos.addAndGet(getCurrentThreadTime() - startTime);
+				return slabChanged;
+			}));
+		}
+		boolean changed = false;
+		for (ForkJoinTask<Boolean> task : tasks) {
+			if (task.join()) {
+				changed = true;
+			}
+		}
+		return changed;
+	}
+	
+	/**
+	 * Returns the CPU time of the current thread if supported, so that the speedup is not overestimated when there are more threads than available processors.
+	 * Otherwise it returns the elapsed time.
+	 * 
+	 * @return the current thread's time in nanoseconds
+	 */
+	private long getCurrentThreadTime() {
+		return threadMXBean == null ? System.nanoTime() : threadMXBean.getCurrentThreadCpuTime();
+	}
+	
+	/**
+	 * Splits the range into slabs with approximately the same number of positions.
+	 * The number of positions of a slice grows as a power of its coordinate.
+	 * 
+	 * @param minX
+	 * @param maxX
+	 * @return the bounds of the slabs
+	 */
+	private int[] getSlabBounds(int minX, int maxX) {
+		int width = maxX - minX;
+		int slabCount = Math.min(threadCount*SLABS_PER_THREAD, width/MIN_SLAB_WIDTH);
+		if (slabCount < 2) {
+			return new int[] { minX, maxX };
+		}
+		double totalWeight = 0;
+		for (int x = minX; x != maxX; x++) {
+			totalWeight += Math.pow(x + 1, sliceDimension);
+		}
+		double slabWeight = totalWeight/slabCount;
+		int[] bounds = new int[slabCount + 1];
+		bounds[0] = minX;
+		int slab = 1;
+		double accumulatedWeight = 0;
+		for (int x = minX; x != maxX && slab != slabCount; x++) {
+			accumulatedWeight += Math.pow(x + 1, sliceDimension);
+			int slabWidth = x + 1 - bounds[slab - 1];
+			if (accumulatedWeight >= slabWeight*slab && slabWidth >= MIN_SLAB_WIDTH && maxX - x - 1 >= MIN_SLAB_WIDTH) {
+				bounds[slab] = x + 1;
+				slab++;
+			}
+		}
+		if (slab != slabCount) {
+			int[] trimmedBounds = new int[slab + 1];
+			System.arraycopy(bounds, 0, trimmedBounds, 0, slab);
+			bounds = trimmedBounds;
+		}
+		bounds[slab] = maxX;
+		return bounds;
+	}
+
+}
@@ -20,7 +20,10 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import cellularautomata.Utils;
 import cellularautomata.model.SerializableModelData;
+import cellularautomata.model.StepStatistics;
+import cellularautomata.model.StepStatisticsModel;
 import cellularautomata.model2d.IsotropicSquareIntArrayModelAsymmetricSection;
+import cellularautomata.numbers.BigInt;
 
 /**
  * Implementation of the <a href="https://github.com/JaumeRibas/Aether2DImgMaker/wiki/Sunflower-Cellular-Automaton-Definition">Sunflower</a> cellular automaton in 2D with a single source initial configuration.
@@ -28,12 +31,16 @@ import cellularautomata.model2d.IsotropicSquareIntArrayModelAsymmetricSection;
  * @author Jaume
  *
  */
-public class IntSunflower2D extends IsotropicSquareIntArrayModelAsymmetricSection {
+public class IntSunflower2D extends IsotropicSquareIntArrayModelAsymmetricSection implements StepStatisticsModel {
 	
 	private final int initialValue;
 	private long step;
 	private int maxX;
 	private Boolean changed = null;
+	private StepStatistics stepStatistics = null;
+	private StepStatistics newStepStatistics = null;
+	private int statisticsSliceCount;
+	private int[] releasedSlice = null;
 
 	/**
 	 * Creates an instance with the given initial value.
@@ -90,6 +97,10 @@ public class IntSunflower2D extends IsotropicSquareIntArrayModelAsymmetricSectio
 	
 	@Override
 	public Boolean nextStep() {
+		if (stepStatistics != null) {
+			newStepStatistics = new StepStatistics(step + 1, true);
+			statisticsSliceCount = 0;
+		}
 		int[][] newGrid = new int[maxX + 2][];
 		boolean changed = false;
 		int currentValue;
@@ -108,7 +119,7 @@ public class IntSunflower2D extends IsotropicSquareIntArrayModelAsymmetricSectio
 			newCurrentXSlice[0] += currentValue;
 		}
 		// x slice transition
-		grid[0] = null;// free old grid progressively to save memory
+		releaseSlice(newGrid, 0);// free old grid progressively to save memory
 		currentXSlice = grid[1];
 		newSmallerXSlice = newCurrentXSlice;
 		newCurrentXSlice = newGreaterXSlice;
@@ -138,7 +149,7 @@ public class IntSunflower2D extends IsotropicSquareIntArrayModelAsymmetricSectio
 			newCurrentXSlice[1] += currentValue;
 		}
 		// x slice transition
-		grid[1] = null;
+		releaseSlice(newGrid, 1);
 		currentXSlice = grid[2];
 		newSmallerXSlice = newCurrentXSlice;
 		newCurrentXSlice = newGreaterXSlice;
@@ -194,6 +205,11 @@ public class IntSunflower2D extends IsotropicSquareIntArrayModelAsymmetricSectio
 		if (newGrid.length > grid.length) {
 			newGrid[grid.length] = new int[newGrid.length];
 		}
+		if (newStepStatistics != null) {
+			addRemainingSlicesStatistics(newGrid);
+			stepStatistics = newStepStatistics;
+			newStepStatistics = null;
+		}
 		grid = newGrid;
 		step++;
 		this.changed = changed;
@@ -211,7 +227,7 @@ public class IntSunflower2D extends IsotropicSquareIntArrayModelAsymmetricSectio
 		int[] newSmallerXSlice = null, newCurrentXSlice = newGrid[xMinusOne], newGreaterXSlice = newGrid[x];
 		for (; x != maxX; xMinusOne = x, x = xPlusOne, xPlusOne = xPlusTwo, xPlusTwo++) {
 			//x slice transition
-			grid[xMinusOne] = null;
+			releaseSlice(newGrid, xMinusOne);
 			int[] currentXSlice = grid[x];
 			newSmallerXSlice = newCurrentXSlice;
 			newCurrentXSlice = newGreaterXSlice;
@@ -292,6 +308,81 @@ public class IntSunflower2D extends IsotropicSquareIntArrayModelAsymmetricSectio
 	public int getSize() {
 		return maxX;
 	}
+
+	/**
+	 * Frees the old values of a slice once it has been toppled. 
+	 * When computing the statistics of the step, they are kept until the new values of the slice are final, after toppling the next slice.
+	 */
+	private void releaseSlice(int[][] newGrid, int x) {
+		if (newStepStatistics != null) {
+			if (x > 0) {
+				newStepStatistics.addSlice(x - 1, releasedSlice, newGrid[x - 1]);
+			}
+			releasedSlice = grid[x];
+			statisticsSliceCount = x;
+		}
+		grid[x] = null;
+	}
+	
+	private void addRemainingSlicesStatistics(int[][] newGrid) {
+		for (int x = statisticsSliceCount, size = maxX; x <= size; x++) {
+			int[] oldSlice = null;// the slices beyond the old grid were all zero
+			if (x == statisticsSliceCount) {
+				oldSlice = releasedSlice;
+			} else if (x < grid.length) {
+				oldSlice = grid[x];
+			}
+			newStepStatistics.addSlice(x, oldSlice, newGrid[x]);
+		}
+		releasedSlice = null;
+	}
+
+	@Override
+	public void setStepStatisticsEnabled(boolean enabled) {
+		if (!enabled) {
+			stepStatistics = null;
+		} else if (stepStatistics == null) {
+			StepStatistics statistics = new StepStatistics(step, false);
+			for (int x = 0, size = maxX; x <= size; x++) {
+				statistics.addSlice(x, null, grid[x]);
+			}
+			stepStatistics = statistics;
+		}
+	}
+
+	@Override
+	public boolean isStepStatisticsEnabled() {
+		return stepStatistics != null;
+	}
+
+	@Override
+	public StepStatistics getStepStatistics() {
+		return stepStatistics;
+	}
+	
+	@Override
+	public int[] getMinAndMax() throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getIntMinAndMax();
+		}
+		return super.getMinAndMax();
+	}
+	
+	@Override
+	public int[] getEvenOddPositionsMinAndMax(boolean isEven) throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getIntEvenOddPositionsMinAndMax(isEven);
+		}
+		return super.getEvenOddPositionsMinAndMax(isEven);
+	}
+	
+	@Override
+	public BigInt getTotal() throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getTotal();
+		}
+		return super.getTotal();
+	}
 	
 	/**
 	 * Returns the initial value
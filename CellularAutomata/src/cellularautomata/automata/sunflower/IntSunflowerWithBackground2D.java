@@ -266,4 +266,19 @@ public class IntSunflowerWithBackground2D extends IsotropicSquareIntArrayModelAs
 		data.put(SerializableModelData.CONFIGURATION_CHANGED_FROM_PREVIOUS_STEP, changed);
 		Utils.serializeToFile(data, backupPath, backupName);
 	}
+	
+	@Override
+	public void getRow(int y, int minX, int maxX, int[] values, int offset) {
+		for (int x = minX; x <= maxX; x++, offset++) {
+			values[offset] = getFromPosition(x, y);
+		}
+	}
+	
+	@Override
+	public void getColumn(int x, int minY, int maxY, int[] values, int offset) {
+		for (int y = minY; y <= maxY; y++, offset++) {
+			values[offset] = getFromPosition(x, y);
+		}
+	}
+
 }
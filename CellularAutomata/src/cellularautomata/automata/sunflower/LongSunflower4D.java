@@ -21,7 +21,10 @@ import java.io.IOException;
 
 import cellularautomata.Utils;
 import cellularautomata.model.SerializableModelData;
+import cellularautomata.model.StepStatistics;
+import cellularautomata.model.StepStatisticsModel;
 import cellularautomata.model4d.IsotropicHypercubicLongArrayModelAsymmetricSection4D;
+import cellularautomata.numbers.BigInt;
 
 /**
  * Implementation of the <a href="https://github.com/JaumeRibas/Aether2DImgMaker/wiki/Sunflower-Cellular-Automaton-Definition">Sunflower</a> cellular automaton in 4D with a single source initial configuration
@@ -29,7 +32,7 @@ import cellularautomata.model4d.IsotropicHypercubicLongArrayModelAsymmetricSecti
  * @author Jaume
  *
  */
-public class LongSunflower4D extends IsotropicHypercubicLongArrayModelAsymmetricSection4D {
+public class LongSunflower4D extends IsotropicHypercubicLongArrayModelAsymmetricSection4D implements StepStatisticsModel {
 	
 	private final long initialValue;
 	private long step;
@@ -40,6 +43,10 @@ public class LongSunflower4D extends IsotropicHypercubicLongArrayModelAsymmetric
 	private int maxWMinusOne;
 
 	private Boolean changed = null;
+	private StepStatistics stepStatistics = null;
+	private StepStatistics newStepStatistics = null;
+	private int statisticsSliceCount;
+	private long[][][] releasedSlice = null;
 	
 	/**
 	 * Creates an instance with the given initial value
@@ -95,6 +102,10 @@ public class LongSunflower4D extends IsotropicHypercubicLongArrayModelAsymmetric
 	
 	@Override
 	public Boolean nextStep() {
+		if (stepStatistics != null) {
+			newStepStatistics = new StepStatistics(step + 1, true);
+			statisticsSliceCount = 0;
+		}
 		long[][][][] newGrid = null;
 		if (boundsReached) {
 			boundsReached = false;
@@ -132,11 +143,20 @@ public class LongSunflower4D extends IsotropicHypercubicLongArrayModelAsymmetric
 							newGrid[w][x][y][z] += value - 8*share;
 						}
 					}
-					grid[w][x][y] = null;
+					if (newStepStatistics == null) {// otherwise the slice is released whole once its statistics are added
+						grid[w][x][y] = null;
+					}
+				}
+				if (newStepStatistics == null) {
+					grid[w][x] = null;
 				}
-				grid[w][x] = null;
 			}
-			grid[w] = null;
+			releaseSlice(newGrid, w);
+		}
+		if (newStepStatistics != null) {
+			addRemainingSlicesStatistics(newGrid);
+			stepStatistics = newStepStatistics;
+			newStepStatistics = null;
 		}
 		grid = newGrid;
 		step++;
@@ -264,6 +284,81 @@ public class LongSunflower4D extends IsotropicHypercubicLongArrayModelAsymmetric
 		return grid.length - 1;
 	}
 
+	/**
+	 * Frees the old values of a slice once it has been toppled. 
+	 * When computing the statistics of the step, they are kept until the new values of the slice are final, after toppling the next slice.
+	 */
+	private void releaseSlice(long[][][][] newGrid, int w) {
+		if (newStepStatistics != null) {
+			if (w > 0) {
+				newStepStatistics.addSlice(w - 1, releasedSlice, newGrid[w - 1]);
+			}
+			releasedSlice = grid[w];
+			statisticsSliceCount = w;
+		}
+		grid[w] = null;
+	}
+	
+	private void addRemainingSlicesStatistics(long[][][][] newGrid) {
+		for (int w = statisticsSliceCount, size = newGrid.length - 1; w <= size; w++) {
+			long[][][] oldSlice = null;// the slices beyond the old grid were all zero
+			if (w == statisticsSliceCount) {
+				oldSlice = releasedSlice;
+			} else if (w < grid.length) {
+				oldSlice = grid[w];
+			}
+			newStepStatistics.addSlice(w, oldSlice, newGrid[w]);
+		}
+		releasedSlice = null;
+	}
+
+	@Override
+	public void setStepStatisticsEnabled(boolean enabled) {
+		if (!enabled) {
+			stepStatistics = null;
+		} else if (stepStatistics == null) {
+			StepStatistics statistics = new StepStatistics(step, false);
+			for (int w = 0, size = grid.length - 1; w <= size; w++) {
+				statistics.addSlice(w, null, grid[w]);
+			}
+			stepStatistics = statistics;
+		}
+	}
+
+	@Override
+	public boolean isStepStatisticsEnabled() {
+		return stepStatistics != null;
+	}
+
+	@Override
+	public StepStatistics getStepStatistics() {
+		return stepStatistics;
+	}
+	
+	@Override
+	public long[] getMinAndMax() throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getMinAndMax();
+		}
+		return super.getMinAndMax();
+	}
+	
+	@Override
+	public long[] getEvenOddPositionsMinAndMax(boolean isEven) throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getEvenOddPositionsMinAndMax(isEven);
+		}
+		return super.getEvenOddPositionsMinAndMax(isEven);
+	}
+	
+	@Override
+	public BigInt getTotal() throws Exception {
+		if (stepStatistics != null) {
+			return stepStatistics.getTotal();
+		}
+		return super.getTotal();
+	}
+
 	@Override
 	public long getStep() {
 		return step;
@@ -266,4 +266,19 @@ public class LongSunflowerWithBackground2D extends IsotropicSquareLongArrayModel
 		data.put(SerializableModelData.CONFIGURATION_CHANGED_FROM_PREVIOUS_STEP, changed);
 		Utils.serializeToFile(data, backupPath, backupName);
 	}
+	
+	@Override
+	public void getRow(int y, int minX, int maxX, long[] values, int offset) {
+		for (int x = minX; x <= maxX; x++, offset++) {
+			values[offset] = getFromPosition(x, y);
+		}
+	}
+	
+	@Override
+	public void getColumn(int x, int minY, int maxY, long[] values, int offset) {
+		for (int y = minY; y <= maxY; y++, offset++) {
+			values[offset] = getFromPosition(x, y);
+		}
+	}
+
 }
@@ -0,0 +1,42 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.model;
+
+/**
+ * A file-backed model that can optionally store the files of its grid compressed, 
+ * to reduce the disk space used and the amount of data read and written on every step, at the cost of some processing.
+ * 
+ * @author Jaume
+ *
+ */
+public interface CompressedGridModel extends Model {
+	
+	/**
+	 * Sets whether to compress the grid files written from the next step on.
+	 * 
+	 * @param compressed whether to compress the grid files
+	 */
+	void setGridCompression(boolean compressed);
+	
+	/**
+	 * Returns whether the grid files are compressed.
+	 * 
+	 * @return whether the grid files are compressed
+	 */
+	boolean isGridCompression();
+
+}
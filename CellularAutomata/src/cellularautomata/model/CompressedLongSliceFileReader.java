@@ -0,0 +1,192 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.model;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads a file written by a {@link CompressedLongSliceFileWriter}, either one whole slice after another or by position. 
+ * When reading by position, the last decoded blocks are cached.
+ * 
+ * @author Jaume
+ *
+ */
+public class CompressedLongSliceFileReader implements Closeable {
+	
+	private static final int BLOCK_SIZE = CompressedLongSliceFileWriter.BLOCK_SIZE;
+	private static final int MAX_VARINT_BYTES = CompressedLongSliceFileWriter.MAX_VARINT_BYTES;
+	private static final int BUFFER_SIZE = 1 << 20;
+	private static final int CACHED_BLOCK_COUNT = 1024;
+	
+	private final FileChannel channel;
+	/** The offsets of the blocks followed by the end of the last one */
+	private final long[] blockOffsets;
+	/** The first block of each slice followed by the block count */
+	private final long[] sliceFirstBlocks;
+	
+	private final ByteBuffer sequentialBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+	/** The position in the file of the end of the data in the sequential buffer */
+	private long sequentialBufferEnd = -1;
+	
+	private final ByteBuffer blockBuffer = ByteBuffer.allocate(BLOCK_SIZE*MAX_VARINT_BYTES);
+	private final long[] cachedBlockIndexes = new long[CACHED_BLOCK_COUNT];
+	private final long[][] cachedBlocks = new long[CACHED_BLOCK_COUNT][];
+	
+	public CompressedLongSliceFileReader(File file) throws IOException {
+		channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		try {
+			long fileSize = channel.size();
+			ByteBuffer trailer = ByteBuffer.allocate(3*Long.BYTES);
+			readFully(trailer, fileSize - trailer.capacity());
+			long blockCount = trailer.getLong();
+			long sliceCount = trailer.getLong();
+			if (trailer.getLong() != CompressedLongSliceFileWriter.MAGIC_NUMBER) {
+				throw new IOException("\"" + file.getAbsolutePath() + "\" is not a complete compressed grid file.");
+			}
+			long indexLength = (blockCount + 1 + sliceCount)*Long.BYTES;
+			if (indexLength > Integer.MAX_VALUE - Long.BYTES) {
+				throw new IOException("Compressed grid file index too large.");
+			}
+			ByteBuffer index = ByteBuffer.allocate((int) indexLength);
+			readFully(index, fileSize - trailer.capacity() - indexLength);
+			blockOffsets = new long[(int) blockCount + 1];
+			index.asLongBuffer().get(blockOffsets);
+			index.position(blockOffsets.length*Long.BYTES);
+			sliceFirstBlocks = new long[(int) sliceCount + 1];
+			index.asLongBuffer().get(sliceFirstBlocks, 0, (int) sliceCount);
+			sliceFirstBlocks[(int) sliceCount] = blockCount;
+		} catch (IOException ex) {
+			channel.close();
+			throw ex;
+		}
+		Arrays.fill(cachedBlockIndexes, -1);
+	}
+	
+	private void readFully(ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			int bytesRead = channel.read(buffer, position);
+			if (bytesRead == -1) {
+				throw new EOFException("Unexpected end of compressed grid file.");
+			}
+			position += bytesRead;
+		}
+		buffer.flip();
+	}
+	
+	public int getSliceCount() {
+		return sliceFirstBlocks.length - 1;
+	}
+	
+	/**
+	 * Reads a whole slice. Reading the slices in order results in the file being read sequentially.
+	 * 
+	 * @param slice the index of the slice
+	 * @param values the array where to store the values
+	 * @param length the number of values of the slice
+	 * @throws IOException
+	 */
+	public void readSlice(int slice, long[] values, int length) throws IOException {
+		long start = blockOffsets[(int) sliceFirstBlocks[slice]];
+		if (sequentialBufferEnd - sequentialBuffer.remaining() != start) {
+			sequentialBuffer.clear().limit(0);
+			sequentialBufferEnd = start;
+		}
+		long previousValue = 0;
+		for (int i = 0; i < length; i++) {
+			if (i%BLOCK_SIZE == 0) {
+				previousValue = 0;
+			}
+			if (sequentialBuffer.remaining() < MAX_VARINT_BYTES) {
+				sequentialBuffer.compact();
+				int bytesRead = channel.read(sequentialBuffer, sequentialBufferEnd);
+				sequentialBuffer.flip();
+				if (bytesRead == -1) {
+					if (!sequentialBuffer.hasRemaining()) {
+						throw new EOFException("Unexpected end of compressed grid file.");
+					}
+				} else {
+					sequentialBufferEnd += bytesRead;
+				}
+			}
+			previousValue += readZigzagVarint(sequentialBuffer);
+			values[i] = previousValue;
+		}
+	}
+	
+	/**
+	 * Returns the value at the given position.
+	 * 
+	 * @param slice the index of the slice
+	 * @param index the index of the position within the slice
+	 * @return the value
+	 * @throws IOException
+	 */
+	public long get(int slice, int index) throws IOException {
+		long block = sliceFirstBlocks[slice] + index/BLOCK_SIZE;
+		if (index < 0 || block >= sliceFirstBlocks[slice + 1]) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds of slice " + slice + ".");
+		}
+		long[] values = getBlock(block);
+		return values[index%BLOCK_SIZE];
+	}
+	
+	private long[] getBlock(long block) throws IOException {
+		int cacheIndex = (int) (block%CACHED_BLOCK_COUNT);
+		long[] values = cachedBlocks[cacheIndex];
+		if (cachedBlockIndexes[cacheIndex] != block) {
+			if (values == null) {
+				values = new long[BLOCK_SIZE];
+				cachedBlocks[cacheIndex] = values;
+			}
+			int blockIndex = (int) block;
+			blockBuffer.clear().limit((int) (blockOffsets[blockIndex + 1] - blockOffsets[blockIndex]));
+			readFully(blockBuffer, blockOffsets[blockIndex]);
+			long previousValue = 0;
+			for (int i = 0; blockBuffer.hasRemaining(); i++) {
+				previousValue += readZigzagVarint(blockBuffer);
+				values[i] = previousValue;
+			}
+			cachedBlockIndexes[cacheIndex] = block;
+		}
+		return values;
+	}
+	
+	private static long readZigzagVarint(ByteBuffer buffer) {
+		long value = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = buffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			shift += 7;
+		} while (b < 0);
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+}
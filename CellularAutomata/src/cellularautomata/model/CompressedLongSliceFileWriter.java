@@ -0,0 +1,142 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.model;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * <p>Writes a file of longs organized in slices, compressing each slice in blocks of {@link #BLOCK_SIZE} values.</p>
+ * <p>Within a block, each value is stored as the difference with the previous one, zigzag encoded so that small negative differences 
+ * stay small, and written as a variable length integer of 7 bits per byte. Since neighboring positions tend to have close values, 
+ * most of them take one or two bytes instead of eight.</p>
+ * <p>The file ends with an index holding the offset of every block and the first block of every slice, 
+ * so that the blocks can be decoded independently. See {@link CompressedLongSliceFileReader}.</p>
+ * 
+ * @author Jaume
+ *
+ */
+public class CompressedLongSliceFileWriter implements Closeable {
+	
+	public static final int BLOCK_SIZE = 1024;
+	/** Marks the end of a complete file */
+	public static final long MAGIC_NUMBER = 0x4145544845525A31L;
+	public static final int MAX_VARINT_BYTES = 10;
+	
+	private static final int BUFFER_SIZE = 1 << 20;
+	
+	private final FileChannel channel;
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+	private long position = 0;
+	private long[] blockOffsets = new long[256];
+	private int blockCount = 0;
+	private long[] sliceFirstBlocks = new long[64];
+	private int sliceCount = 0;
+	
+	public CompressedLongSliceFileWriter(File file) throws IOException {
+		channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+	}
+	
+	/**
+	 * Appends a slice to the file
+	 * 
+	 * @param values the array holding the values of the slice
+	 * @param length the number of values of the slice
+	 * @throws IOException
+	 */
+	public void writeSlice(long[] values, int length) throws IOException {
+		if (sliceCount == sliceFirstBlocks.length) {
+			sliceFirstBlocks = Arrays.copyOf(sliceFirstBlocks, sliceCount*2);
+		}
+		sliceFirstBlocks[sliceCount] = blockCount;
+		sliceCount++;
+		long previousValue = 0;
+		for (int i = 0; i < length; i++) {
+			if (i%BLOCK_SIZE == 0) {
+				if (blockCount == blockOffsets.length) {
+					blockOffsets = Arrays.copyOf(blockOffsets, blockCount*2);
+				}
+				blockOffsets[blockCount] = position + buffer.position();
+				blockCount++;
+				previousValue = 0;
+			}
+			if (buffer.remaining() < MAX_VARINT_BYTES) {
+				flush();
+			}
+			long value = values[i];
+			long difference = value - previousValue;
+			writeVarint((difference << 1) ^ (difference >> 63));
+			previousValue = value;
+		}
+	}
+	
+	private void writeVarint(long value) {
+		while ((value & ~0x7FL) != 0) {
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+	
+	private void flush() throws IOException {
+		buffer.flip();
+		position += buffer.remaining();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+	
+	private void writeLong(long value) throws IOException {
+		if (buffer.remaining() < Long.BYTES) {
+			flush();
+		}
+		buffer.putLong(value);
+	}
+
+	/**
+	 * Writes the index and closes the file. Calling it again has no effect.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (!channel.isOpen()) {
+			return;
+		}
+		try {
+			long indexOffset = position + buffer.position();
+			for (int i = 0; i < blockCount; i++) {
+				writeLong(blockOffsets[i]);
+			}
+			writeLong(indexOffset);//the end of the last block
+			for (int i = 0; i < sliceCount; i++) {
+				writeLong(sliceFirstBlocks[i]);
+			}
+			writeLong(blockCount);
+			writeLong(sliceCount);
+			writeLong(MAGIC_NUMBER);
+			flush();
+		} finally {
+			channel.close();
+		}
+	}
+
+}
@@ -20,11 +20,13 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 
 import org.apache.commons.io.FileUtils;
 
@@ -37,10 +39,12 @@ public abstract class FileBackedModel implements Closeable, Model {
 	public static final String PROPERTIES_BACKUP_FILE_NAME = "properties.ser";
 	public static final String FILE_NAME_FORMAT = "step=%d.data";
 
-	protected RandomAccessFile grid;
+	protected MappedLongArrayFile grid;
 	private String gridFolderPath;
 	protected File currentFile;
 	protected boolean readingBackup = false;
+	/** The files of previous steps that could not be deleted yet */
+	private final List<File> undeletedStepFiles = new ArrayList<File>();
 	
 	public FileBackedModel() {
 		Runtime.getRuntime().addShutdownHook(new Thread() {
@@ -48,7 +52,8 @@ public abstract class FileBackedModel implements Closeable, Model {
 		      @Override
 		      public void run() {
 		        try {
-		        	close();
+		        	//the grid is not closed since that unmaps its regions, which a step still being computed may be accessing
+		        	deleteGridFolder();
 				} catch (IOException e) {
 					e.printStackTrace();
 				}
@@ -81,10 +86,19 @@ public abstract class FileBackedModel implements Closeable, Model {
 				(HashMap<String, Object>) Utils.deserializeFromFile(backupPath + File.separator + PROPERTIES_BACKUP_FILE_NAME);
 		setPropertiesFromMap(properties);
 		currentFile = new File(backupGridFolder.getPath() + File.separator + String.format(FILE_NAME_FORMAT, getStep()));
-		grid = new RandomAccessFile(currentFile, "r");
+		openCurrentFile();
 		createGridFolder(folderPath);		
 	}
 	
+	/**
+	 * Opens the current grid file for reading after restoring a backup.
+	 * 
+	 * @throws IOException
+	 */
+	protected void openCurrentFile() throws IOException {
+		grid = new MappedLongArrayFile(currentFile);
+	}
+	
 	protected abstract void setPropertiesFromMap(HashMap<String, Object> properties);
 
 	protected void createGridFolder(String path) throws IOException {
@@ -112,12 +126,37 @@ public abstract class FileBackedModel implements Closeable, Model {
 	}
 	
 	protected abstract HashMap<String, Object> getPropertiesMap();
+	
+	/**
+	 * Deletes the file of a previous step, whose grid must have been closed already.
+	 * If it cannot be deleted, for instance because the system still keeps it locked, it is scheduled to be deleted on exit
+	 * and deleting it is retried after the following steps, so that a long run doesn't leave a file behind per step.
+	 * 
+	 * @param file the file to delete
+	 */
+	protected void deleteStepFile(File file) {
+		Iterator<File> iterator = undeletedStepFiles.iterator();
+		while (iterator.hasNext()) {
+			File undeletedFile = iterator.next();
+			if (undeletedFile.delete() || !undeletedFile.exists()) {
+				iterator.remove();
+			}
+		}
+		if (!file.delete() && file.exists()) {
+			file.deleteOnExit();
+			undeletedStepFiles.add(file);
+		}
+	}
 
 	@Override
 	public void close() throws IOException {
 		if (grid != null) {
 			grid.close();	
 		}
+		deleteGridFolder();
+	}
+	
+	private void deleteGridFolder() throws IOException {
 		FileUtils.deleteDirectory(new File(gridFolderPath));
 	}
 
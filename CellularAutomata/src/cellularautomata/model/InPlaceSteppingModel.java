@@ -0,0 +1,45 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.model;
+
+/**
+ * A model whose {@link Model#nextStep()} can optionally be computed overwriting its grid in place, 
+ * instead of building a new grid on every step.
+ * This keeps the memory used close to the size of a single grid, but the values of the previous step 
+ * are no longer available once the next step has been computed. 
+ * So it must not be used along with models that compare consecutive steps, such as deltas.
+ * 
+ * @author Jaume
+ *
+ */
+public interface InPlaceSteppingModel extends Model {
+	
+	/**
+	 * Sets whether to compute the following steps in place.
+	 * 
+	 * @param inPlace whether to compute the steps in place
+	 */
+	void setInPlaceStepping(boolean inPlace);
+	
+	/**
+	 * Returns whether the steps are computed in place.
+	 * 
+	 * @return whether the steps are computed in place
+	 */
+	boolean isInPlaceStepping();
+
+}
@@ -17,11 +17,12 @@
 package cellularautomata.model;
 
 import java.util.Iterator;
-import java.util.function.Consumer;
+import java.util.PrimitiveIterator;
 import java.util.function.IntConsumer;
 
 import cellularautomata.Coordinates;
 import cellularautomata.IntMinAndMaxConsumer;
+import cellularautomata.IntRowConsumer;
 import cellularautomata.PartialCoordinates;
 import cellularautomata.IntTotalConsumer;
 import cellularautomata.numbers.BigInt;
@@ -43,21 +44,15 @@ public interface IntModel extends Model, Iterable<Integer> {
 	
 	/**
 	 * Feeds every value of the region, in a consistent order, to an {@link IntConsumer}.
+	 * An exception getting or consuming the value at a position is printed and the traversal goes on with the next position.
 	 * 
 	 * @param consumer
 	 */
 	default void forEach(IntConsumer consumer) {
-		forEachPosition(new Consumer<Coordinates>() {
-			
-			@Override
-			public void accept(Coordinates coords) {
-				try {
-					consumer.accept(getFromPosition(coords));
-				} catch (Exception e) {
-					e.printStackTrace();
-				}				
-			}
-		});
+		ModelCursor cursor = new ModelCursor(this);
+		while (cursor.nextRow()) {
+			cursor.feedRow(this, consumer);
+		}
 	}
 	
 	/**
@@ -67,18 +62,10 @@ public interface IntModel extends Model, Iterable<Integer> {
 	 * @throws Exception 
 	 */
 	default void forEachAtEvenPosition(IntConsumer consumer) throws Exception {
-		forEachEvenPosition(new Consumer<Coordinates>() {
-			
-			@Override
-			public void accept(Coordinates coordinates) {
-				try {
-					int value = getFromPosition(coordinates);
-					consumer.accept(value);
-				} catch (Exception e) {
-					e.printStackTrace();
-				}
-			}
-		});
+		ModelCursor cursor = new ModelCursor(this);
+		while (cursor.nextRow()) {
+			cursor.feedRowAtEvenOddPositions(this, true, consumer);
+		}
 	}
 	
 	/**
@@ -88,29 +75,58 @@ public interface IntModel extends Model, Iterable<Integer> {
 	 * @throws Exception 
 	 */
 	default void forEachAtOddPosition(IntConsumer consumer) throws Exception {
-		forEachOddPosition(new Consumer<Coordinates>() {
-			
-			@Override
-			public void accept(Coordinates coordinates) {
-				try {
-					int value = getFromPosition(coordinates);
-					consumer.accept(value);
-				} catch (Exception e) {
-					e.printStackTrace();
-				}
+		ModelCursor cursor = new ModelCursor(this);
+		while (cursor.nextRow()) {
+			cursor.feedRowAtEvenOddPositions(this, false, consumer);
+		}
+	}
+	
+	/**
+	 * Feeds the values of the region row by row, a row being a segment of positions along the last axis, to an {@link IntRowConsumer}.
+	 * The rows are traversed with a {@link ModelCursor}, reusing the same coordinates and array for every row, 
+	 * so that no objects are created per position or per row.
+	 * Unlike {@link #forEach(IntConsumer)}, the traversal stops at the first exception, which is thrown.
+	 * 
+	 * @param consumer
+	 * @throws Exception
+	 */
+	default void forEachRow(IntRowConsumer consumer) throws Exception {
+		ModelCursor cursor = new ModelCursor(this);
+		int[] values = new int[cursor.getMaxRowLength()];
+		while (cursor.nextRow()) {
+			consumer.accept(cursor.getCoordinates(), values, cursor.readRow(this, values));
+		}
+	}
+	
+	/**
+	 * Feeds the values at the even or odd positions of the region row by row, a row being a segment of positions along the last axis, 
+	 * to an {@link IntRowConsumer}. The values of each row are those of every other position, starting at the first one matching the parity. 
+	 * Rows without any matching position are skipped.
+	 * 
+	 * @param isEven whether to feed the values at even or at odd positions
+	 * @param consumer
+	 * @throws Exception
+	 */
+	default void forEachRowAtEvenOddPositions(boolean isEven, IntRowConsumer consumer) throws Exception {
+		ModelCursor cursor = new ModelCursor(this);
+		int[] values = new int[cursor.getMaxRowLength()];
+		while (cursor.nextRow()) {
+			int length = cursor.readRowAtEvenOddPositions(this, isEven, values);
+			if (length != 0) {
+				consumer.accept(cursor.getCoordinates(), values, length);
 			}
-		});
+		}
 	}
 
 	default int[] getMinAndMax() throws Exception {
 		IntMinAndMaxConsumer consumer = new IntMinAndMaxConsumer();
-		forEach(consumer);
+		forEachRow(consumer);
 		return consumer.getMinAndMaxValue();
 	}
 	
 	default BigInt getTotal() throws Exception {
 		IntTotalConsumer consumer = new IntTotalConsumer();
-		forEach(consumer);
+		forEachRow(consumer);
 		return consumer.getTotal();
 	}
 	
@@ -124,15 +140,24 @@ public interface IntModel extends Model, Iterable<Integer> {
 	
 	default int[] getEvenPositionsMinAndMax() throws Exception {
 		IntMinAndMaxConsumer consumer = new IntMinAndMaxConsumer();
-		forEachAtEvenPosition(consumer);
+		forEachRowAtEvenOddPositions(true, consumer);
 		return consumer.getMinAndMaxValue();
 	}
 	
 	default int[] getOddPositionsMinAndMax() throws Exception {
 		IntMinAndMaxConsumer consumer = new IntMinAndMaxConsumer();
-		forEachAtOddPosition(consumer);
+		forEachRowAtEvenOddPositions(false, consumer);
 		return consumer.getMinAndMaxValue();
 	}
+	
+	/**
+	 * Returns an iterator over the values of the region that does not box them.
+	 * 
+	 * @return the iterator
+	 */
+	default PrimitiveIterator.OfInt intIterator() {
+		return new IntModelIterator(this);
+	}
 
 	@Override
 	default Iterator<Integer> iterator() {
@@ -16,14 +16,35 @@
  */
 package cellularautomata.model;
 
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
 import cellularautomata.Coordinates;
 
-public class IntModelIterator extends ModelIterator<IntModel, Integer> {
+public class IntModelIterator extends ModelIterator<IntModel, Integer> implements PrimitiveIterator.OfInt {
 
 	public IntModelIterator(IntModel source) {
 		super(source);
 	}
 
+	@Override
+	public Integer next() {
+		return nextInt();
+	}
+
+	@Override
+	public int nextInt() {
+		Coordinates position = getNextPosition();
+		int next;
+		try {
+			next = source.getFromPosition(position);
+		} catch (Exception e) {
+			throw new NoSuchElementException(e.toString());
+		}
+		moveToNextPosition();
+		return next;
+	}
+
 	@Override
 	protected Integer getFromModelPosition(Coordinates coordinates) throws Exception {
 		return source.getFromPosition(coordinates);
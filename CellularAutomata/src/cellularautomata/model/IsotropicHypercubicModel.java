@@ -23,6 +23,10 @@ public class IsotropicHypercubicModel<AsymmetricSection_Type extends IsotropicHy
 	public IsotropicHypercubicModel(AsymmetricSection_Type asymmetricSection) {
 		this.asymmetricSection = asymmetricSection;
 	}
+	
+	public AsymmetricSection_Type getAsymmetricSection() {
+		return asymmetricSection;
+	}
 
 	@Override
 	public int getGridDimension() {
@@ -73,4 +77,62 @@ public class IsotropicHypercubicModel<AsymmetricSection_Type extends IsotropicHy
 	public void backUp(String backupPath, String backupName) throws Exception {
 		asymmetricSection.backUp(backupPath, backupName);
 	}
+
+	/**
+	 * <p>Folds a line of positions of the whole grid into the asymmetric section.</p>
+	 * <p>The passed coordinates and steps, which define the line, are replaced by those of the folded line, 
+	 * whose coordinates are the absolute values of the original ones sorted in descending order. 
+	 * Since the folding pattern only changes where a coordinate changes sign or two coordinates cross each other,
+	 * the folded positions lie on a straight line for a number of positions, which is returned.</p>
+	 * 
+	 * @param coordinates the coordinates of the first position of the line
+	 * @param steps the increment of each coordinate between consecutive positions of the line
+	 * @param maxLength the maximum number of positions of the line to fold
+	 * @return the number of positions, between 1 and maxLength, along which the folded line is straight
+	 */
+	public static int foldLine(int[] coordinates, int[] steps, int maxLength) {
+		int dimension = coordinates.length;
+		int length = maxLength;
+		//sign folding
+		for (int axis = 0; axis != dimension; axis++) {
+			int coordinate = coordinates[axis];
+			if (coordinate < 0) {
+				coordinates[axis] = -coordinate;
+				steps[axis] = -steps[axis];
+			} else if (coordinate == 0 && steps[axis] < 0) {
+				steps[axis] = -steps[axis];
+			}
+			if (steps[axis] < 0) {
+				//the coordinate reaches zero and bounces back
+				int segmentLength = coordinates[axis]/-steps[axis] + 1;
+				if (segmentLength < length) {
+					length = segmentLength;
+				}
+			}
+		}
+		//insertion sort in descending order, breaking ties so that the coordinates that grow faster go first
+		for (int i = 1; i != dimension; i++) {
+			int coordinate = coordinates[i];
+			int step = steps[i];
+			int j = i - 1;
+			while (j != -1 && (coordinates[j] < coordinate || coordinates[j] == coordinate && steps[j] < step)) {
+				coordinates[j + 1] = coordinates[j];
+				steps[j + 1] = steps[j];
+				j--;
+			}
+			coordinates[j + 1] = coordinate;
+			steps[j + 1] = step;
+		}
+		//the order is kept until a coordinate catches up with the preceding one
+		for (int i = 1; i != dimension; i++) {
+			int approachRate = steps[i] - steps[i - 1];
+			if (approachRate > 0) {
+				int segmentLength = (coordinates[i - 1] - coordinates[i])/approachRate + 1;
+				if (segmentLength < length) {
+					length = segmentLength;
+				}
+			}
+		}
+		return length;
+	}
 }
@@ -18,11 +18,12 @@ package cellularautomata.model;
 
 import java.io.IOException;
 import java.util.Iterator;
-import java.util.function.Consumer;
+import java.util.PrimitiveIterator;
 import java.util.function.LongConsumer;
 
 import cellularautomata.Coordinates;
 import cellularautomata.LongMinAndMaxConsumer;
+import cellularautomata.LongRowConsumer;
 import cellularautomata.PartialCoordinates;
 import cellularautomata.LongTotalConsumer;
 import cellularautomata.numbers.BigInt;
@@ -44,21 +45,15 @@ public interface LongModel extends Model, Iterable<Long> {
 	
 	/**
 	 * Feeds every value of the region, in a consistent order, to a {@link LongConsumer}.
+	 * An exception getting or consuming the value at a position is printed and the traversal goes on with the next position.
 	 * @param consumer
 	 * @throws IOException 
 	 */
 	default void forEach(LongConsumer consumer) throws IOException {
-		forEachPosition(new Consumer<Coordinates>() {
-			
-			@Override
-			public void accept(Coordinates coords) {
-				try {
-					consumer.accept(getFromPosition(coords));
-				} catch (Exception e) {
-					e.printStackTrace();
-				}				
-			}
-		});
+		ModelCursor cursor = new ModelCursor(this);
+		while (cursor.nextRow()) {
+			cursor.feedRow(this, consumer);
+		}
 	}
 
 	/**
@@ -68,18 +63,10 @@ public interface LongModel extends Model, Iterable<Long> {
 	 * @throws Exception 
 	 */
 	default void forEachAtEvenPosition(LongConsumer consumer) throws Exception {
-		forEachEvenPosition(new Consumer<Coordinates>() {
-			
-			@Override
-			public void accept(Coordinates coordinates) {
-				try {
-					long value = getFromPosition(coordinates);
-					consumer.accept(value);
-				} catch (Exception e) {
-					e.printStackTrace();
-				}
-			}
-		});
+		ModelCursor cursor = new ModelCursor(this);
+		while (cursor.nextRow()) {
+			cursor.feedRowAtEvenOddPositions(this, true, consumer);
+		}
 	}
 	
 	/**
@@ -89,29 +76,58 @@ public interface LongModel extends Model, Iterable<Long> {
 	 * @throws Exception 
 	 */
 	default void forEachAtOddPosition(LongConsumer consumer) throws Exception {
-		forEachOddPosition(new Consumer<Coordinates>() {
-			
-			@Override
-			public void accept(Coordinates coordinates) {
-				try {
-					long value = getFromPosition(coordinates);
-					consumer.accept(value);
-				} catch (Exception e) {
-					e.printStackTrace();
-				}
+		ModelCursor cursor = new ModelCursor(this);
+		while (cursor.nextRow()) {
+			cursor.feedRowAtEvenOddPositions(this, false, consumer);
+		}
+	}
+	
+	/**
+	 * Feeds the values of the region row by row, a row being a segment of positions along the last axis, to a {@link LongRowConsumer}.
+	 * The rows are traversed with a {@link ModelCursor}, reusing the same coordinates and array for every row, 
+	 * so that no objects are created per position or per row.
+	 * Unlike {@link #forEach(LongConsumer)}, the traversal stops at the first exception, which is thrown.
+	 * 
+	 * @param consumer
+	 * @throws Exception
+	 */
+	default void forEachRow(LongRowConsumer consumer) throws Exception {
+		ModelCursor cursor = new ModelCursor(this);
+		long[] values = new long[cursor.getMaxRowLength()];
+		while (cursor.nextRow()) {
+			consumer.accept(cursor.getCoordinates(), values, cursor.readRow(this, values));
+		}
+	}
+	
+	/**
+	 * Feeds the values at the even or odd positions of the region row by row, a row being a segment of positions along the last axis, 
+	 * to a {@link LongRowConsumer}. The values of each row are those of every other position, starting at the first one matching the parity. 
+	 * Rows without any matching position are skipped.
+	 * 
+	 * @param isEven whether to feed the values at even or at odd positions
+	 * @param consumer
+	 * @throws Exception
+	 */
+	default void forEachRowAtEvenOddPositions(boolean isEven, LongRowConsumer consumer) throws Exception {
+		ModelCursor cursor = new ModelCursor(this);
+		long[] values = new long[cursor.getMaxRowLength()];
+		while (cursor.nextRow()) {
+			int length = cursor.readRowAtEvenOddPositions(this, isEven, values);
+			if (length != 0) {
+				consumer.accept(cursor.getCoordinates(), values, length);
 			}
-		});
+		}
 	}
 
 	default long[] getMinAndMax() throws Exception {
 		LongMinAndMaxConsumer consumer = new LongMinAndMaxConsumer();
-		forEach(consumer);
+		forEachRow(consumer);
 		return consumer.getMinAndMaxValue();
 	}
 	
 	default BigInt getTotal() throws Exception {
 		LongTotalConsumer consumer = new LongTotalConsumer();
-		forEach(consumer);
+		forEachRow(consumer);
 		return consumer.getTotal();
 	}
 	
@@ -125,15 +141,24 @@ public interface LongModel extends Model, Iterable<Long> {
 	
 	default long[] getEvenPositionsMinAndMax() throws Exception {
 		LongMinAndMaxConsumer consumer = new LongMinAndMaxConsumer();
-		forEachAtEvenPosition(consumer);
+		forEachRowAtEvenOddPositions(true, consumer);
 		return consumer.getMinAndMaxValue();
 	}
 	
 	default long[] getOddPositionsMinAndMax() throws Exception {
 		LongMinAndMaxConsumer consumer = new LongMinAndMaxConsumer();
-		forEachAtOddPosition(consumer);
+		forEachRowAtEvenOddPositions(false, consumer);
 		return consumer.getMinAndMaxValue();
 	}
+	
+	/**
+	 * Returns an iterator over the values of the region that does not box them.
+	 * 
+	 * @return the iterator
+	 */
+	default PrimitiveIterator.OfLong longIterator() {
+		return new LongModelIterator(this);
+	}
 
 	@Override
 	default Iterator<Long> iterator() {
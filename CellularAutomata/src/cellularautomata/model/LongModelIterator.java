@@ -16,14 +16,35 @@
  */
 package cellularautomata.model;
 
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
 import cellularautomata.Coordinates;
 
-public class LongModelIterator extends ModelIterator<LongModel, Long> {
+public class LongModelIterator extends ModelIterator<LongModel, Long> implements PrimitiveIterator.OfLong {
 
 	public LongModelIterator(LongModel source) {
 		super(source);
 	}
 
+	@Override
+	public Long next() {
+		return nextLong();
+	}
+
+	@Override
+	public long nextLong() {
+		Coordinates position = getNextPosition();
+		long next;
+		try {
+			next = source.getFromPosition(position);
+		} catch (Exception e) {
+			throw new NoSuchElementException(e.toString());
+		}
+		moveToNextPosition();
+		return next;
+	}
+
 	@Override
 	protected Long getFromModelPosition(Coordinates coordinates) throws Exception {
 		return source.getFromPosition(coordinates);
@@ -0,0 +1,224 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.model;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * A file of big-endian longs accessed through memory-mapped regions, so that reads and writes do not go through a system call each.
+ * The file is mapped lazily in fixed-size regions as positions are accessed, keeping a bounded window of them mapped at a time.
+ * Since offsets are 64-bit, files larger than 2 GB are supported.
+ * 
+ * @author Jaume
+ *
+ */
+public class MappedLongArrayFile implements Closeable {
+	
+	private static final int REGION_SIZE_BITS = 27;//128 MiB
+	private static final long REGION_SIZE = 1L << REGION_SIZE_BITS;
+	private static final long REGION_OFFSET_MASK = REGION_SIZE - 1;
+	private static final int MAX_MAPPED_REGION_COUNT = 16;
+	
+	/** Unsafe.invokeCleaner(ByteBuffer), available since Java 9, and the Unsafe instance to call it on */
+	private static final Method INVOKE_CLEANER;
+	private static final Object UNSAFE;
+	/** DirectBuffer.cleaner() and Cleaner.clean(), available up to Java 8 */
+	private static final Method GET_CLEANER;
+	private static final Method CLEAN;
+	
+	static {
+		Method invokeCleaner = null, getCleaner = null, clean = null;
+		Object unsafe = null;
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+			Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+			theUnsafe.setAccessible(true);
+			unsafe = theUnsafe.get(null);
+		} catch (Exception e) {
+			invokeCleaner = null;
+			try {
+				getCleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+				clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+			} catch (Exception e2) {
+				getCleaner = null;
+				clean = null;
+			}
+		}
+		INVOKE_CLEANER = invokeCleaner;
+		UNSAFE = unsafe;
+		GET_CLEANER = getCleaner;
+		CLEAN = clean;
+	}
+	
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final MapMode mapMode;
+	private final long length;
+	private final long byteLength;
+	private MappedByteBuffer[] regions;
+	private final int[] mappedRegionIndexes;
+	private int mappedRegionCount = 0;
+	private int oldestMappedRegion = 0;
+
+	/**
+	 * Creates or overwrites a file with room for the given number of longs and maps it for reading and writing.
+	 * 
+	 * @param file the file
+	 * @param length the number of longs
+	 * @throws FileNotFoundException
+	 * @throws IOException
+	 */
+	public MappedLongArrayFile(File file, long length) throws FileNotFoundException, IOException {
+		this.file = new RandomAccessFile(file, "rw");
+		this.file.setLength(length*Long.BYTES);//this method doesn't ensure the contents of the file will be empty
+		channel = this.file.getChannel();
+		mapMode = MapMode.READ_WRITE;
+		this.length = length;
+		byteLength = length*Long.BYTES;
+		regions = new MappedByteBuffer[getRegionCount(byteLength)];
+		mappedRegionIndexes = new int[MAX_MAPPED_REGION_COUNT];
+	}
+
+	/**
+	 * Opens an existing file of longs for reading only.
+	 * 
+	 * @param file the file
+	 * @throws FileNotFoundException
+	 * @throws IOException
+	 */
+	public MappedLongArrayFile(File file) throws FileNotFoundException, IOException {
+		this.file = new RandomAccessFile(file, "r");
+		channel = this.file.getChannel();
+		mapMode = MapMode.READ_ONLY;
+		byteLength = this.file.length();
+		length = byteLength/Long.BYTES;
+		regions = new MappedByteBuffer[getRegionCount(byteLength)];
+		mappedRegionIndexes = new int[MAX_MAPPED_REGION_COUNT];
+	}
+	
+	private static int getRegionCount(long byteLength) {
+		long regionCount = (byteLength + REGION_SIZE - 1) >>> REGION_SIZE_BITS;
+		if (regionCount > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("File too large to be mapped.");
+		}
+		return (int) regionCount;
+	}
+	
+	public long length() {
+		return length;
+	}
+	
+	public long get(long index) throws IOException {
+		long bytePosition = index*Long.BYTES;
+		return getRegion(bytePosition).getLong((int) (bytePosition & REGION_OFFSET_MASK));
+	}
+	
+	public void set(long index, long value) throws IOException {
+		long bytePosition = index*Long.BYTES;
+		getRegion(bytePosition).putLong((int) (bytePosition & REGION_OFFSET_MASK), value);
+	}
+	
+	public void add(long index, long value) throws IOException {
+		long bytePosition = index*Long.BYTES;
+		MappedByteBuffer region = getRegion(bytePosition);
+		int offset = (int) (bytePosition & REGION_OFFSET_MASK);
+		region.putLong(offset, region.getLong(offset) + value);
+	}
+	
+	private MappedByteBuffer getRegion(long bytePosition) throws IOException {
+		if (bytePosition < 0 || bytePosition >= byteLength) {
+			throw new IndexOutOfBoundsException("Position " + (bytePosition/Long.BYTES) + " out of bounds (length " + length + ").");
+		}
+		int regionIndex = (int) (bytePosition >>> REGION_SIZE_BITS);
+		MappedByteBuffer region = regions[regionIndex];
+		if (region == null) {
+			region = mapRegion(regionIndex);
+		}
+		return region;
+	}
+	
+	private MappedByteBuffer mapRegion(int regionIndex) throws IOException {
+		if (mappedRegionCount == MAX_MAPPED_REGION_COUNT) {
+			//the grid is traversed slice by slice, so the region mapped the longest time ago is the least likely to be needed again
+			int oldestRegionIndex = mappedRegionIndexes[oldestMappedRegion];
+			unmap(regions[oldestRegionIndex]);
+			regions[oldestRegionIndex] = null;
+			mappedRegionIndexes[oldestMappedRegion] = regionIndex;
+			oldestMappedRegion = (oldestMappedRegion + 1) % MAX_MAPPED_REGION_COUNT;
+		} else {
+			mappedRegionIndexes[mappedRegionCount] = regionIndex;
+			mappedRegionCount++;
+		}
+		long regionPosition = (long) regionIndex << REGION_SIZE_BITS;
+		MappedByteBuffer region = channel.map(mapMode, regionPosition, Math.min(REGION_SIZE, byteLength - regionPosition));
+		regions[regionIndex] = region;
+		return region;
+	}
+
+	/**
+	 * Unmaps a region right away instead of when it gets garbage collected, 
+	 * so that the file can be deleted once closed on systems that lock mapped files, like Windows.
+	 * The JDK has no public API for this, so its internals are used when available. Otherwise, the region is left to the garbage collector.
+	 * The region must not be accessed afterwards.
+	 * 
+	 * @param region the region to unmap
+	 */
+	private static void unmap(MappedByteBuffer region) {
+		try {
+			if (INVOKE_CLEANER != null) {
+				INVOKE_CLEANER.invoke(UNSAFE, region);
+			} else if (GET_CLEANER != null) {
+				Object cleaner = GET_CLEANER.invoke(region);
+				if (cleaner != null) {
+					CLEAN.invoke(cleaner);
+				}
+			}
+		} catch (Exception e) {
+			//the region will be unmapped when garbage collected
+		}
+	}
+
+	/**
+	 * Closes the file and unmaps its regions. 
+	 * It must not be called while another thread is accessing the file.
+	 */
+	@Override
+	public void close() throws IOException {
+		for (int i = 0; i < mappedRegionCount; i++) {
+			int regionIndex = mappedRegionIndexes[i];
+			unmap(regions[regionIndex]);
+			regions[regionIndex] = null;
+		}
+		regions = new MappedByteBuffer[0];
+		mappedRegionCount = 0;
+		oldestMappedRegion = 0;
+		channel.close();
+		file.close();
+	}
+
+}
@@ -0,0 +1,1034 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import cellularautomata.Utils;
+import cellularautomata.arrays.AnisotropicLongArray;
+
+/**
+ * <p>Reads and writes {@link SerializableModelData} as binary checkpoint files, which are faster to write and restore than Java serialization
+ * and do not depend on the classes of the values.</p>
+ * <p>A checkpoint starts with a header holding the model, the grid's type, dimension and implementation type, the step, the coordinate bounds 
+ * and the toppling alternation compliance implementation type, followed by the entries of the data and an end marker. 
+ * Primitive arrays of any number of dimensions, and {@link AnisotropicLongArray} objects, are written as their nested lengths 
+ * with the values in blocks of up to {@link #BLOCK_SIZE} bytes. Every block has its own checksum and can be compressed independently, 
+ * so the blocks are compressed in parallel when more than one thread is used. 
+ * Values of other types are written using Java serialization.</p>
+ * <p>Checkpoints are read from memory-mapped regions of the file, so the arrays are filled directly from the mapped data without intermediate copies
+ * unless the blocks are compressed.</p>
+ * 
+ * @author Jaume
+ *
+ */
+public final class ModelCheckpoint {
+	
+	/** Marks the beginning and the end of a checkpoint file */
+	public static final long MAGIC_NUMBER = 0x43414D4F44434B50L;
+	public static final int FORMAT_VERSION = 1;
+	/** The maximum number of uncompressed bytes of a block */
+	public static final int BLOCK_SIZE = 1 << 22;
+	
+	private static final int MAPPED_REGION_SIZE = 1 << 28;
+	private static final int BLOCK_HEADER_SIZE = 13;
+	
+	//value types
+	private static final byte NULL = 0;
+	private static final byte INTEGER = 1;
+	private static final byte LONG = 2;
+	private static final byte BOOLEAN = 3;
+	private static final byte STRING = 4;
+	private static final byte INT_ARRAY = 5;
+	private static final byte LONG_ARRAY = 6;
+	private static final byte BOOLEAN_ARRAY = 7;
+	private static final byte ANISOTROPIC_LONG_ARRAY = 8;
+	private static final byte SERIALIZED_OBJECT = 9;
+	
+	//array node types
+	private static final byte SUBARRAYS = 0;
+	private static final byte SUBARRAYS_IN_ONE_BLOCK = 1;
+	
+	//block storage types
+	private static final byte STORED = 0;
+	private static final byte DEFLATED = 1;
+	
+	private static final int COMPRESSED_FLAG = 1;
+	
+	private ModelCheckpoint() {}
+	
+	/**
+	 * Writes the data to a checkpoint file without compressing its blocks.
+	 * 
+	 * @param data the data
+	 * @param pathName the path of the file
+	 * @throws IOException
+	 */
+	public static void write(SerializableModelData data, String pathName) throws IOException {
+		write(data, pathName, false, 1);
+	}
+	
+	/**
+	 * Writes the data to a checkpoint file.
+	 * 
+	 * @param data the data
+	 * @param pathName the path of the file
+	 * @param compress whether or not to compress the blocks
+	 * @param threadCount the number of threads used to compress the blocks
+	 * @throws IOException
+	 */
+	public static void write(SerializableModelData data, String pathName, boolean compress, int threadCount) throws IOException {
+		if (threadCount < 1) {
+			throw new IllegalArgumentException("The thread count must be greater than zero.");
+		}
+		if (!compress) {
+			threadCount = 1;
+		}
+		try (CheckpointWriter writer = new CheckpointWriter(new File(pathName), compress, threadCount)) {
+			writer.writeHeader(new Header(data, compress));
+			writer.structure.writeInt(data.getKeys().size());
+			for (Integer key : data.getKeys()) {
+				writer.structure.writeInt(key);
+				writer.writeValue(data.get(key));
+			}
+			writer.structure.writeLong(MAGIC_NUMBER);
+		}
+	}
+	
+	/**
+	 * Reads the data from a checkpoint file.
+	 * 
+	 * @param pathName the path of the file
+	 * @return the data
+	 * @throws IOException if the file cannot be read, or it is not a complete checkpoint, or any of its blocks is corrupted
+	 * @throws ClassNotFoundException if the class of a value written using Java serialization cannot be found
+	 */
+	public static SerializableModelData read(String pathName) throws IOException, ClassNotFoundException {
+		try (CheckpointReader reader = new CheckpointReader(new File(pathName), true)) {
+			reader.readHeader();
+			SerializableModelData data = new SerializableModelData();
+			int entryCount = reader.readInt();
+			for (int i = 0; i < entryCount; i++) {
+				int key = reader.readInt();
+				data.put(key, reader.readValue());
+			}
+			reader.readEndMarker();
+			return data;
+		}
+	}
+	
+	/**
+	 * Reads the header of a checkpoint file.
+	 * 
+	 * @param pathName the path of the file
+	 * @return the header
+	 * @throws IOException if the file cannot be read, or it is not a checkpoint, or its header is corrupted
+	 */
+	public static Header readHeader(String pathName) throws IOException {
+		try (CheckpointReader reader = new CheckpointReader(new File(pathName), false)) {
+			return reader.readHeader();
+		}
+	}
+	
+	/**
+	 * Checks that a checkpoint file is complete and that none of its blocks is corrupted, without decoding its values.
+	 * 
+	 * @param pathName the path of the file
+	 * @throws IOException if the file cannot be read, or it is not a complete checkpoint, or any of its blocks is corrupted
+	 */
+	public static void validate(String pathName) throws IOException {
+		try (CheckpointReader reader = new CheckpointReader(new File(pathName), false)) {
+			reader.readHeader();
+			int entryCount = reader.readInt();
+			for (int i = 0; i < entryCount; i++) {
+				reader.readInt();
+				reader.readValue();
+			}
+			reader.readEndMarker();
+		} catch (ClassNotFoundException e) {
+			throw new IllegalStateException(e);//values are not deserialized while validating
+		}
+	}
+	
+	/**
+	 * Returns whether or not a file starts like a checkpoint.
+	 * 
+	 * @param pathName the path of the file
+	 * @return whether or not the file is a checkpoint
+	 * @throws IOException
+	 */
+	public static boolean isCheckpoint(String pathName) throws IOException {
+		try (DataInputStream in = new DataInputStream(new FileInputStream(pathName))) {
+			return in.readLong() == MAGIC_NUMBER;
+		} catch (EOFException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * Converts a backup made using Java serialization of a {@link SerializableModelData} object to a checkpoint file without compressing its blocks.
+	 * 
+	 * @param serializedBackupPathName the path of the backup
+	 * @param checkpointPathName the path of the checkpoint file to write
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	public static void convertSerializedBackup(String serializedBackupPathName, String checkpointPathName) throws IOException, ClassNotFoundException {
+		convertSerializedBackup(serializedBackupPathName, checkpointPathName, false, 1);
+	}
+	
+	/**
+	 * Converts a backup made using Java serialization of a {@link SerializableModelData} object to a checkpoint file.
+	 * 
+	 * @param serializedBackupPathName the path of the backup
+	 * @param checkpointPathName the path of the checkpoint file to write
+	 * @param compress whether or not to compress the blocks
+	 * @param threadCount the number of threads used to compress the blocks
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	public static void convertSerializedBackup(String serializedBackupPathName, String checkpointPathName, boolean compress, int threadCount) 
+			throws IOException, ClassNotFoundException {
+		Object backup;
+		try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(serializedBackupPathName))) {
+			backup = in.readObject();
+		}
+		if (!(backup instanceof SerializableModelData)) {
+			throw new IllegalArgumentException("The backup file does not contain a " + SerializableModelData.class.getSimpleName() + " object.");
+		}
+		write((SerializableModelData) backup, checkpointPathName, compress, threadCount);
+	}
+	
+	/**
+	 * Converts a backup made using Java serialization to a checkpoint file, or validates a checkpoint file.
+	 * 
+	 * @param args either the path of the backup followed by the path of the checkpoint file to write, 
+	 * optionally followed by the number of threads to compress it with, or -validate followed by the path of a checkpoint file
+	 * @throws Exception
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length == 2 && args[0].equals("-validate")) {
+			Header header = readHeader(args[1]);
+			validate(args[1]);
+			System.out.println(header);
+			System.out.println("The checkpoint is valid.");
+		} else if (args.length == 2 || args.length == 3) {
+			if (args.length == 3) {
+				convertSerializedBackup(args[0], args[1], true, Integer.parseInt(args[2]));
+			} else {
+				convertSerializedBackup(args[0], args[1]);
+			}
+			validate(args[1]);
+			System.out.println(readHeader(args[1]));
+		} else {
+			System.out.println("Usage: " + ModelCheckpoint.class.getName() + " <serialized backup> <checkpoint> [<compression threads>]");
+			System.out.println("   or: " + ModelCheckpoint.class.getName() + " -validate <checkpoint>");
+		}
+	}
+	
+	/**
+	 * The header of a checkpoint file. The values missing from the data are -1.
+	 */
+	public static final class Header {
+		
+		private static final int SIZE = 44;
+		
+		private final boolean compressed;
+		private final int model;
+		private final int gridDimension;
+		private final int gridType;
+		private final int gridImplementationType;
+		private final long step;
+		private final int coordinateBoundsImplementationType;
+		private final long coordinateBounds;
+		private final int topplingAlternationComplianceImplementationType;
+		
+		private Header(SerializableModelData data, boolean compressed) {
+			this.compressed = compressed;
+			model = getInt(data, SerializableModelData.MODEL);
+			gridDimension = getInt(data, SerializableModelData.GRID_DIMENSION);
+			gridType = getInt(data, SerializableModelData.GRID_TYPE);
+			gridImplementationType = getInt(data, SerializableModelData.GRID_IMPLEMENTATION_TYPE);
+			Object stepValue = data.get(SerializableModelData.STEP);
+			step = stepValue instanceof Long ? (Long) stepValue : -1;
+			coordinateBoundsImplementationType = getInt(data, SerializableModelData.COORDINATE_BOUNDS_IMPLEMENTATION_TYPE);
+			Object bounds = data.get(SerializableModelData.COORDINATE_BOUNDS);
+			if (bounds instanceof Integer) {
+				coordinateBounds = (Integer) bounds;
+			} else if (bounds instanceof Boolean) {
+				coordinateBounds = (Boolean) bounds ? 1 : 0;
+			} else {
+				coordinateBounds = -1;
+			}
+			topplingAlternationComplianceImplementationType = getInt(data, SerializableModelData.TOPPLING_ALTERNATION_COMPLIANCE_IMPLEMENTATION_TYPE);
+		}
+		
+		private Header(ByteBuffer buffer) {
+			compressed = (buffer.getInt() & COMPRESSED_FLAG) != 0;
+			model = buffer.getInt();
+			gridDimension = buffer.getInt();
+			gridType = buffer.getInt();
+			gridImplementationType = buffer.getInt();
+			step = buffer.getLong();
+			coordinateBoundsImplementationType = buffer.getInt();
+			coordinateBounds = buffer.getLong();
+			topplingAlternationComplianceImplementationType = buffer.getInt();
+		}
+		
+		private void write(DataOutputStream out) throws IOException {
+			out.writeInt(compressed ? COMPRESSED_FLAG : 0);
+			out.writeInt(model);
+			out.writeInt(gridDimension);
+			out.writeInt(gridType);
+			out.writeInt(gridImplementationType);
+			out.writeLong(step);
+			out.writeInt(coordinateBoundsImplementationType);
+			out.writeLong(coordinateBounds);
+			out.writeInt(topplingAlternationComplianceImplementationType);
+		}
+		
+		private static int getInt(SerializableModelData data, Integer key) {
+			Object value = data.get(key);
+			return value instanceof Integer ? (Integer) value : -1;
+		}
+
+		public boolean isCompressed() {
+			return compressed;
+		}
+
+		/** See {@link SerializableModelData.Models} */
+		public int getModel() {
+			return model;
+		}
+
+		public int getGridDimension() {
+			return gridDimension;
+		}
+
+		/** See {@link SerializableModelData.GridTypes} */
+		public int getGridType() {
+			return gridType;
+		}
+
+		/** See {@link SerializableModelData.GridImplementationTypes} */
+		public int getGridImplementationType() {
+			return gridImplementationType;
+		}
+
+		public long getStep() {
+			return step;
+		}
+
+		/** See {@link SerializableModelData.CoordinateBoundsImplementationTypes} */
+		public int getCoordinateBoundsImplementationType() {
+			return coordinateBoundsImplementationType;
+		}
+
+		/** The maximum coordinate, or whether or not the bounds were reached as 1 or 0, depending on the coordinate bounds implementation type */
+		public long getCoordinateBounds() {
+			return coordinateBounds;
+		}
+
+		/** See {@link SerializableModelData.GridImplementationTypes} */
+		public int getTopplingAlternationComplianceImplementationType() {
+			return topplingAlternationComplianceImplementationType;
+		}
+		
+		public boolean hasTopplingAlternationCompliance() {
+			return topplingAlternationComplianceImplementationType != -1;
+		}
+		
+		@Override
+		public String toString() {
+			return "model=" + model + ", grid dimension=" + gridDimension + ", grid type=" + gridType 
+					+ ", grid implementation type=" + gridImplementationType + ", step=" + step 
+					+ ", coordinate bounds=" + coordinateBounds + " (implementation type " + coordinateBoundsImplementationType + ")"
+					+ ", toppling alternation compliance implementation type=" + topplingAlternationComplianceImplementationType 
+					+ ", compressed=" + compressed;
+		}
+		
+	}
+	
+	private static byte getPrimitiveArrayType(Class<?> componentType) {
+		if (componentType == int.class) {
+			return INT_ARRAY;
+		} else if (componentType == long.class) {
+			return LONG_ARRAY;
+		} else if (componentType == boolean.class) {
+			return BOOLEAN_ARRAY;
+		} else {
+			return NULL;
+		}
+	}
+	
+	private static Class<?> getComponentType(byte arrayType) throws IOException {
+		switch (arrayType) {
+			case INT_ARRAY: return int.class;
+			case LONG_ARRAY: return long.class;
+			case BOOLEAN_ARRAY: return boolean.class;
+			default: throw new IOException("Unknown array type " + arrayType + ".");
+		}
+	}
+	
+	private static int getElementSize(Class<?> componentType) {
+		if (componentType == long.class) {
+			return Long.BYTES;
+		} else if (componentType == int.class) {
+			return Integer.BYTES;
+		} else {
+			return 1;
+		}
+	}
+	
+	/**
+	 * Returns the number of bytes of an array written as the lengths of itself and its subarrays followed by the values of every innermost array.
+	 */
+	private static long getPlainSize(Object array, int depth, int elementSize) {
+		if (array == null) {
+			return Integer.BYTES;
+		}
+		int length = Array.getLength(array);
+		if (depth == 1) {
+			return Integer.BYTES + (long)length*elementSize;
+		}
+		long size = Integer.BYTES;
+		Object[] subarrays = (Object[]) array;
+		for (int i = 0; i < length; i++) {
+			size += getPlainSize(subarrays[i], depth - 1, elementSize);
+		}
+		return size;
+	}
+	
+	private static void putPlain(ByteBuffer buffer, Object array, int depth) {
+		if (array == null) {
+			buffer.putInt(-1);
+			return;
+		}
+		int length = Array.getLength(array);
+		buffer.putInt(length);
+		if (depth == 1) {
+			putValues(buffer, array, 0, length);
+		} else {
+			Object[] subarrays = (Object[]) array;
+			for (int i = 0; i < length; i++) {
+				putPlain(buffer, subarrays[i], depth - 1);
+			}
+		}
+	}
+	
+	private static void putValues(ByteBuffer buffer, Object array, int from, int count) {
+		int position = buffer.position();
+		if (array instanceof long[]) {
+			buffer.asLongBuffer().put((long[]) array, from, count);
+			buffer.position(position + count*Long.BYTES);
+		} else if (array instanceof int[]) {
+			buffer.asIntBuffer().put((int[]) array, from, count);
+			buffer.position(position + count*Integer.BYTES);
+		} else {
+			boolean[] booleans = (boolean[]) array;
+			for (int i = from, to = from + count; i < to; i++) {
+				buffer.put(booleans[i] ? (byte) 1 : (byte) 0);
+			}
+		}
+	}
+	
+	private static Object getPlain(ByteBuffer buffer, Class<?>[] arrayClasses, int depth) {
+		int length = buffer.getInt();
+		if (length == -1) {
+			return null;
+		}
+		if (depth == 1) {
+			Object array = Array.newInstance(arrayClasses[0], length);
+			getValues(buffer, array, 0, length);
+			return array;
+		}
+		Object[] subarrays = (Object[]) Array.newInstance(arrayClasses[depth - 1], length);
+		for (int i = 0; i < length; i++) {
+			subarrays[i] = getPlain(buffer, arrayClasses, depth - 1);
+		}
+		return subarrays;
+	}
+	
+	private static void getValues(ByteBuffer buffer, Object array, int from, int count) {
+		int position = buffer.position();
+		if (array instanceof long[]) {
+			buffer.asLongBuffer().get((long[]) array, from, count);
+			buffer.position(position + count*Long.BYTES);
+		} else if (array instanceof int[]) {
+			buffer.asIntBuffer().get((int[]) array, from, count);
+			buffer.position(position + count*Integer.BYTES);
+		} else {
+			boolean[] booleans = (boolean[]) array;
+			for (int i = from, to = from + count; i < to; i++) {
+				booleans[i] = buffer.get() != 0;
+			}
+		}
+	}
+	
+	/**
+	 * Returns the classes of the arrays of the given component type with as many dimensions as the index, with the component type itself at index 0.
+	 */
+	private static Class<?>[] getArrayClasses(Class<?> componentType, int depth) {
+		Class<?>[] arrayClasses = new Class<?>[depth + 1];
+		arrayClasses[0] = componentType;
+		for (int i = 1; i <= depth; i++) {
+			arrayClasses[i] = Array.newInstance(arrayClasses[i - 1], 0).getClass();
+		}
+		return arrayClasses;
+	}
+	
+	private static final class CheckpointWriter implements Closeable {
+		
+		private final FileChannel channel;
+		private final boolean compress;
+		private final ExecutorService executor;
+		private final int maxPendingBlocks;
+		private final ArrayDeque<Future<byte[]>> pendingWrites = new ArrayDeque<Future<byte[]>>();
+		private final ByteArrayOutputStream structureBytes = new ByteArrayOutputStream();
+		/** Where the lengths, types and other values that go in between blocks are written */
+		private final DataOutputStream structure = new DataOutputStream(structureBytes);
+		
+		CheckpointWriter(File file, boolean compress, int threadCount) throws IOException {
+			File parent = file.getAbsoluteFile().getParentFile();
+			if (parent != null && !parent.exists()) {
+				parent.mkdirs();
+			}
+			channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+			this.compress = compress;
+			if (threadCount > 1) {
+				executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+					Thread thread = new Thread(runnable, "checkpoint-compression");
+					thread.setDaemon(true);
+					return thread;
+				});
+			} else {
+				executor = null;
+			}
+			maxPendingBlocks = threadCount*2;
+		}
+		
+		void writeHeader(Header header) throws IOException {
+			ByteArrayOutputStream headerBytes = new ByteArrayOutputStream(Header.SIZE);
+			header.write(new DataOutputStream(headerBytes));
+			byte[] headerArray = headerBytes.toByteArray();
+			CRC32 crc = new CRC32();
+			crc.update(headerArray, 0, headerArray.length);
+			structure.writeLong(MAGIC_NUMBER);
+			structure.writeInt(FORMAT_VERSION);
+			structure.writeInt(BLOCK_SIZE);
+			structure.write(headerArray);
+			structure.writeInt((int) crc.getValue());
+		}
+		
+		void writeValue(Object value) throws IOException {
+			if (value == null) {
+				structure.writeByte(NULL);
+			} else if (value instanceof Integer) {
+				structure.writeByte(INTEGER);
+				structure.writeInt((Integer) value);
+			} else if (value instanceof Long) {
+				structure.writeByte(LONG);
+				structure.writeLong((Long) value);
+			} else if (value instanceof Boolean) {
+				structure.writeByte(BOOLEAN);
+				structure.writeBoolean((Boolean) value);
+			} else if (value instanceof String) {
+				byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+				structure.writeByte(STRING);
+				structure.writeInt(bytes.length);
+				structure.write(bytes);
+			} else if (value instanceof AnisotropicLongArray) {
+				writeAnisotropicLongArray((AnisotropicLongArray) value);
+			} else {
+				Class<?> componentType = value.getClass();
+				int depth = 0;
+				while (componentType.isArray()) {
+					componentType = componentType.getComponentType();
+					depth++;
+				}
+				byte arrayType = depth == 0 ? NULL : getPrimitiveArrayType(componentType);
+				if (arrayType != NULL) {
+					structure.writeByte(arrayType);
+					structure.writeInt(depth);
+					writeArray(value, depth, getElementSize(componentType));
+				} else if (value instanceof Serializable) {
+					ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+					try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+						out.writeObject(value);
+					}
+					byte[] serialized = bytes.toByteArray();
+					structure.writeByte(SERIALIZED_OBJECT);
+					writeBlock(() -> {
+						ByteBuffer block = allocateBlock(serialized.length);
+						block.put(serialized);
+						return block;
+					});
+				} else {
+					throw new IllegalArgumentException("Values of class " + value.getClass().getName() + " cannot be written to a checkpoint.");
+				}
+			}
+		}
+		
+		private void writeArray(Object array, int depth, int elementSize) throws IOException {
+			if (array == null) {
+				structure.writeInt(-1);
+				return;
+			}
+			int length = Array.getLength(array);
+			structure.writeInt(length);
+			if (depth == 1) {
+				int blockLength = BLOCK_SIZE/elementSize;
+				for (int from = 0; from < length; from += blockLength) {
+					int blockFrom = from;
+					int count = Math.min(blockLength, length - from);
+					writeBlock(() -> {
+						ByteBuffer block = allocateBlock(count*elementSize);
+						putValues(block, array, blockFrom, count);
+						return block;
+					});
+				}
+			} else {
+				long plainSize = getPlainSize(array, depth, elementSize) - Integer.BYTES;
+				Object[] subarrays = (Object[]) array;
+				if (plainSize <= BLOCK_SIZE) {
+					structure.writeByte(SUBARRAYS_IN_ONE_BLOCK);
+					writeBlock(() -> {
+						ByteBuffer block = allocateBlock((int) plainSize);
+						for (int i = 0; i < length; i++) {
+							putPlain(block, subarrays[i], depth - 1);
+						}
+						return block;
+					});
+				} else {
+					structure.writeByte(SUBARRAYS);
+					for (int i = 0; i < length; i++) {
+						writeArray(subarrays[i], depth - 1, elementSize);
+					}
+				}
+			}
+		}
+		
+		private void writeAnisotropicLongArray(AnisotropicLongArray array) throws IOException {
+			structure.writeByte(ANISOTROPIC_LONG_ARRAY);
+			structure.writeInt(array.getDimension());
+			structure.writeInt(array.getSide());
+			long positionCount = array.getPositionCount();
+			int blockLength = BLOCK_SIZE/Long.BYTES;
+			for (long from = 0; from < positionCount; from += blockLength) {
+				long blockFrom = from;
+				int count = (int) Math.min(blockLength, positionCount - from);
+				writeBlock(() -> {
+					ByteBuffer block = allocateBlock(count*Long.BYTES);
+					long[] values = new long[count];
+					array.getValues(blockFrom, values, count);
+					block.asLongBuffer().put(values);
+					block.position(block.position() + count*Long.BYTES);
+					return block;
+				});
+			}
+		}
+		
+		/**
+		 * Returns a buffer with room for the header of a block followed by the given number of bytes, positioned after the header.
+		 */
+		private static ByteBuffer allocateBlock(int size) {
+			ByteBuffer block = ByteBuffer.allocate(BLOCK_HEADER_SIZE + size);
+			block.position(BLOCK_HEADER_SIZE);
+			return block;
+		}
+		
+		/**
+		 * Queues a block to be written after the structure written so far. The block is filled and, if enabled, compressed in a worker thread.
+		 * 
+		 * @param filler returns a buffer obtained from {@link #allocateBlock(int)} holding the block's data
+		 * @throws IOException
+		 */
+		private void writeBlock(Callable<ByteBuffer> filler) throws IOException {
+			queueStructure();
+			Callable<byte[]> encoder = () -> encodeBlock(filler.call());
+			Future<byte[]> future;
+			if (executor == null) {
+				try {
+					future = CompletableFuture.completedFuture(encoder.call());
+				} catch (IOException | RuntimeException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new IOException(e);
+				}
+			} else {
+				future = executor.submit(encoder);
+			}
+			pendingWrites.add(future);
+			while (pendingWrites.size() > maxPendingBlocks) {
+				writeNextPending();
+			}
+		}
+		
+		private byte[] encodeBlock(ByteBuffer block) {
+			byte[] bytes = block.array();
+			int rawLength = block.position() - BLOCK_HEADER_SIZE;
+			byte storage = STORED;
+			int storedLength = rawLength;
+			if (compress) {
+				Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+				deflater.setInput(bytes, BLOCK_HEADER_SIZE, rawLength);
+				deflater.finish();
+				byte[] compressed = new byte[BLOCK_HEADER_SIZE + rawLength];
+				int compressedLength = 0;
+				int capacity = rawLength;
+				while (!deflater.finished() && compressedLength < capacity) {
+					compressedLength += deflater.deflate(compressed, BLOCK_HEADER_SIZE + compressedLength, capacity - compressedLength);
+				}
+				boolean smaller = deflater.finished() && compressedLength < rawLength;
+				deflater.end();
+				if (smaller) {
+					bytes = compressed;
+					storage = DEFLATED;
+					storedLength = compressedLength;
+				}
+			}
+			CRC32 crc = new CRC32();
+			crc.update(bytes, BLOCK_HEADER_SIZE, storedLength);
+			ByteBuffer header = ByteBuffer.wrap(bytes, 0, BLOCK_HEADER_SIZE);
+			header.put(storage);
+			header.putInt(rawLength);
+			header.putInt(storedLength);
+			header.putInt((int) crc.getValue());
+			return storedLength == bytes.length - BLOCK_HEADER_SIZE ? bytes : Arrays.copyOf(bytes, BLOCK_HEADER_SIZE + storedLength);
+		}
+		
+		private void queueStructure() {
+			if (structureBytes.size() > 0) {
+				pendingWrites.add(CompletableFuture.completedFuture(structureBytes.toByteArray()));
+				structureBytes.reset();
+			}
+		}
+		
+		private void writeNextPending() throws IOException {
+			byte[] bytes;
+			try {
+				bytes = pendingWrites.poll().get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof IOException) {
+					throw (IOException) cause;
+				}
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				throw new IOException(cause);
+			}
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				queueStructure();
+				while (!pendingWrites.isEmpty()) {
+					writeNextPending();
+				}
+			} finally {
+				if (executor != null) {
+					executor.shutdownNow();
+				}
+				channel.close();
+			}
+		}
+		
+	}
+	
+	private static final class CheckpointReader implements Closeable {
+		
+		private final File file;
+		private final FileChannel channel;
+		private final long fileSize;
+		/** Whether to decode the values or just check the blocks */
+		private final boolean decode;
+		private ByteBuffer region = null;
+		private long regionStart = 0;
+		
+		CheckpointReader(File file, boolean decode) throws IOException {
+			if (!file.exists()) {
+				throw new FileNotFoundException(file.getPath());
+			}
+			this.file = file;
+			this.decode = decode;
+			channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+			fileSize = channel.size();
+		}
+		
+		/**
+		 * Makes sure the mapped region has the given number of bytes from the current position on.
+		 */
+		private void ensureAvailable(int byteCount) throws IOException {
+			if (region == null || region.remaining() < byteCount) {
+				long position = getPosition();
+				long size = Math.min(fileSize - position, Math.max(byteCount, MAPPED_REGION_SIZE));
+				if (size < byteCount) {
+					throw new EOFException("The checkpoint file " + file.getPath() + " is incomplete.");
+				}
+				region = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+				regionStart = position;
+			}
+		}
+		
+		private long getPosition() {
+			return region == null ? 0 : regionStart + region.position();
+		}
+		
+		int readInt() throws IOException {
+			ensureAvailable(Integer.BYTES);
+			return region.getInt();
+		}
+		
+		long readLong() throws IOException {
+			ensureAvailable(Long.BYTES);
+			return region.getLong();
+		}
+		
+		byte readByte() throws IOException {
+			ensureAvailable(1);
+			return region.get();
+		}
+		
+		Header readHeader() throws IOException {
+			if (readLong() != MAGIC_NUMBER) {
+				throw new IOException("The file " + file.getPath() + " is not a checkpoint.");
+			}
+			int formatVersion = readInt();
+			if (formatVersion > FORMAT_VERSION) {
+				throw new IOException("The checkpoint file " + file.getPath() + " has a newer format version (" + formatVersion + ").");
+			}
+			if (readInt() != BLOCK_SIZE) {
+				throw new IOException("The checkpoint file " + file.getPath() + " has an unsupported block size.");
+			}
+			ensureAvailable(Header.SIZE + Integer.BYTES);
+			ByteBuffer headerBuffer = region.slice();
+			headerBuffer.limit(Header.SIZE);
+			CRC32 crc = new CRC32();
+			crc.update(headerBuffer.duplicate());
+			Header header = new Header(headerBuffer);
+			region.position(region.position() + Header.SIZE);
+			if (region.getInt() != (int) crc.getValue()) {
+				throw new IOException("The header of the checkpoint file " + file.getPath() + " is corrupted.");
+			}
+			return header;
+		}
+		
+		void readEndMarker() throws IOException {
+			if (readLong() != MAGIC_NUMBER || getPosition() != fileSize) {
+				throw new IOException("The checkpoint file " + file.getPath() + " is corrupted.");
+			}
+		}
+		
+		/**
+		 * Reads a value. When not decoding, the arrays are skipped after checking their blocks and null is returned in their place.
+		 */
+		Object readValue() throws IOException, ClassNotFoundException {
+			byte type = readByte();
+			switch (type) {
+				case NULL: 
+					return null;
+				case INTEGER: 
+					return readInt();
+				case LONG: 
+					return readLong();
+				case BOOLEAN: 
+					return readByte() != 0;
+				case STRING:
+					int byteCount = readInt();
+					ensureAvailable(byteCount);
+					byte[] bytes = new byte[byteCount];
+					region.get(bytes);
+					return new String(bytes, StandardCharsets.UTF_8);
+				case INT_ARRAY:
+				case LONG_ARRAY:
+				case BOOLEAN_ARRAY:
+					int depth = readInt();
+					Class<?> componentType = getComponentType(type);
+					return readArray(getArrayClasses(componentType, depth), depth, getElementSize(componentType));
+				case ANISOTROPIC_LONG_ARRAY:
+					return readAnisotropicLongArray();
+				case SERIALIZED_OBJECT:
+					ByteBuffer block = readBlock();
+					if (block == null) {
+						return null;
+					}
+					byte[] serialized = new byte[block.remaining()];
+					block.get(serialized);
+					try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+						return in.readObject();
+					}
+				default:
+					throw new IOException("The checkpoint file " + file.getPath() + " is corrupted.");
+			}
+		}
+		
+		private Object readArray(Class<?>[] arrayClasses, int depth, int elementSize) throws IOException {
+			int length = readInt();
+			if (length == -1) {
+				return null;
+			}
+			if (depth == 1) {
+				Object array = decode ? Array.newInstance(arrayClasses[0], length) : null;
+				int blockLength = BLOCK_SIZE/elementSize;
+				for (int from = 0; from < length; from += blockLength) {
+					ByteBuffer block = readBlock();
+					if (decode) {
+						getValues(block, array, from, Math.min(blockLength, length - from));
+					}
+				}
+				return array;
+			}
+			Object[] subarrays = decode ? (Object[]) Array.newInstance(arrayClasses[depth - 1], length) : null;
+			if (readByte() == SUBARRAYS_IN_ONE_BLOCK) {
+				ByteBuffer block = readBlock();
+				if (decode) {
+					for (int i = 0; i < length; i++) {
+						subarrays[i] = getPlain(block, arrayClasses, depth - 1);
+					}
+				}
+			} else {
+				for (int i = 0; i < length; i++) {
+					Object subarray = readArray(arrayClasses, depth - 1, elementSize);
+					if (decode) {
+						subarrays[i] = subarray;
+					}
+				}
+			}
+			return subarrays;
+		}
+		
+		private AnisotropicLongArray readAnisotropicLongArray() throws IOException {
+			int dimension = readInt();
+			int side = readInt();
+			AnisotropicLongArray array = decode ? new AnisotropicLongArray(dimension, side) : null;
+			long positionCount = Utils.getAnisotropicGridPositionCount(dimension, side);
+			int blockLength = BLOCK_SIZE/Long.BYTES;
+			long[] values = decode ? new long[(int) Math.min(blockLength, positionCount)] : null;
+			for (long from = 0; from < positionCount; from += blockLength) {
+				ByteBuffer block = readBlock();
+				if (decode) {
+					int count = (int) Math.min(blockLength, positionCount - from);
+					block.asLongBuffer().get(values, 0, count);
+					array.setValues(from, values, count);
+				}
+			}
+			return array;
+		}
+		
+		/**
+		 * Reads a block and checks its checksum.
+		 * 
+		 * @return a buffer with the uncompressed data of the block, or null when not decoding
+		 * @throws IOException if the block is corrupted
+		 */
+		private ByteBuffer readBlock() throws IOException {
+			long blockPosition = getPosition();
+			ensureAvailable(BLOCK_HEADER_SIZE);
+			byte storage = region.get();
+			int rawLength = region.getInt();
+			int storedLength = region.getInt();
+			int checksum = region.getInt();
+			if (storedLength < 0 || rawLength < 0) {
+				throw new IOException("The block at position " + blockPosition + " of the checkpoint file " + file.getPath() + " is corrupted.");
+			}
+			ensureAvailable(storedLength);
+			ByteBuffer stored = region.slice();
+			stored.limit(storedLength);
+			region.position(region.position() + storedLength);
+			CRC32 crc = new CRC32();
+			crc.update(stored.duplicate());
+			if ((int) crc.getValue() != checksum) {
+				throw new IOException("The block at position " + blockPosition + " of the checkpoint file " + file.getPath() + " is corrupted.");
+			}
+			if (!decode) {
+				return null;
+			}
+			if (storage == STORED) {
+				return stored;
+			}
+			byte[] compressed = new byte[storedLength];
+			stored.get(compressed);
+			byte[] raw = new byte[rawLength];
+			Inflater inflater = new Inflater();
+			try {
+				inflater.setInput(compressed);
+				int inflated = 0;
+				while (inflated < rawLength && !inflater.finished()) {
+					int count = inflater.inflate(raw, inflated, rawLength - inflated);
+					if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+						break;
+					}
+					inflated += count;
+				}
+				if (inflated != rawLength) {
+					throw new IOException("The block at position " + blockPosition + " of the checkpoint file " + file.getPath() + " is corrupted.");
+				}
+			} catch (DataFormatException e) {
+				throw new IOException("The block at position " + blockPosition + " of the checkpoint file " + file.getPath() + " is corrupted.", e);
+			} finally {
+				inflater.end();
+			}
+			return ByteBuffer.wrap(raw);
+		}
+
+		@Override
+		public void close() throws IOException {
+			region = null;
+			channel.close();
+		}
+		
+	}
+
+}
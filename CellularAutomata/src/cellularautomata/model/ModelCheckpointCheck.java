@@ -0,0 +1,146 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.model;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+
+import cellularautomata.Coordinates;
+import cellularautomata.automata.aether.BigIntAether3D;
+import cellularautomata.automata.aether.FlatIntAether;
+import cellularautomata.automata.aether.FlatLongAether;
+import cellularautomata.automata.aether.IntAether4D;
+import cellularautomata.automata.aether.LongAether3D;
+import cellularautomata.automata.aether.LongAether6D;
+import cellularautomata.numbers.BigInt;
+
+/**
+ * Backs up small Aether models with every grid implementation type and restores them from uncompressed and compressed checkpoint files,
+ * from backups made using Java serialization, as they were written before checkpoint files, and from those backups converted to checkpoint files.
+ * Checks that every restored model has the same step and values as the original, also after computing some more steps.
+ * Exits with status 1 if any restored model differs.
+ *
+ * @author Jaume
+ *
+ */
+public final class ModelCheckpointCheck {
+
+	private ModelCheckpointCheck() {}
+
+	/** The number of steps computed after restoring a model to compare it again with the original */
+	private static final int STEPS_AFTER_RESTORING = 10;
+
+	private interface BackupRestorer {
+		Model restore(String backupPath) throws Exception;
+	}
+
+	public static void main(String[] args) throws Exception {
+		Path root = Files.createTempDirectory("model-checkpoint-check");
+		boolean failed = false;
+		try {
+			failed |= !roundTrips(new LongAether3D(-20000), 40, LongAether3D::new, root);
+			failed |= !roundTrips(new IntAether4D(-20000), 30, IntAether4D::new, root);
+			failed |= !roundTrips(new FlatLongAether(4, -20000), 30, FlatLongAether::new, root);
+			failed |= !roundTrips(new FlatIntAether(3, -20000), 40, FlatIntAether::new, root);
+			failed |= !roundTrips(new LongAether6D(-2000), 15, LongAether6D::new, root);
+			failed |= !roundTrips(new BigIntAether3D(BigInt.valueOf(-5000)), 30, BigIntAether3D::new, root);
+		} finally {
+			FileUtils.deleteDirectory(root.toFile());
+		}
+		if (failed) {
+			System.exit(1);
+		}
+	}
+
+	private static boolean roundTrips(Model model, int steps, BackupRestorer restorer, Path root) throws Exception {
+		for (int i = 0; i < steps; i++) {
+			model.nextStep();
+		}
+		String folder = root.resolve(model.getClass().getSimpleName()).toString();
+		model.backUp(folder, "checkpoint");
+		String checkpointPath = folder + File.separator + "checkpoint";
+		SerializableModelData data = ModelCheckpoint.read(checkpointPath);
+		String compressedPath = folder + File.separator + "compressed";
+		ModelCheckpoint.write(data, compressedPath, true, 2);
+		String serializedPath = folder + File.separator + "serialized";
+		try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(serializedPath))) {
+			out.writeObject(data);
+		}
+		String convertedPath = folder + File.separator + "converted";
+		ModelCheckpoint.convertSerializedBackup(serializedPath, convertedPath);
+		List<String> errors = new ArrayList<String>();
+		if (ModelCheckpoint.readHeader(checkpointPath).isCompressed() || !ModelCheckpoint.readHeader(compressedPath).isCompressed()) {
+			errors.add("wrong compression flag");
+		}
+		if (ModelCheckpoint.isCheckpoint(serializedPath)) {
+			errors.add("serialized backup taken for a checkpoint");
+		}
+		List<Object> values = getValues(model);
+		List<Model> restoredModels = new ArrayList<Model>();
+		for (String path : new String[] { checkpointPath, compressedPath, serializedPath, convertedPath }) {
+			String name = path.substring(folder.length() + 1);
+			if (ModelCheckpoint.isCheckpoint(path)) {
+				ModelCheckpoint.validate(path);
+			}
+			Model restoredModel = restorer.restore(path);
+			if (restoredModel.getStep() != model.getStep() || !getValues(restoredModel).equals(values)) {
+				errors.add(name + " differs");
+			}
+			restoredModels.add(restoredModel);
+		}
+		for (int i = 0; i < STEPS_AFTER_RESTORING; i++) {
+			model.nextStep();
+			for (Model restoredModel : restoredModels) {
+				restoredModel.nextStep();
+			}
+		}
+		values = getValues(model);
+		for (Model restoredModel : restoredModels) {
+			if (!getValues(restoredModel).equals(values)) {
+				errors.add("differs after " + STEPS_AFTER_RESTORING + " more steps");
+				break;
+			}
+		}
+		String result = errors.isEmpty() ? "OK" : String.join(", ", errors);
+		System.out.println(model.getClass().getSimpleName() + " at step " + model.getStep() + ": " + result);
+		return errors.isEmpty();
+	}
+
+	private static List<Object> getValues(Model model) throws Exception {
+		List<Coordinates> positions = new ArrayList<Coordinates>();
+		model.forEachPosition(positions::add);
+		List<Object> values = new ArrayList<Object>(positions.size());
+		for (Coordinates position : positions) {
+			if (model instanceof LongModel) {
+				values.add(((LongModel) model).getFromPosition(position));
+			} else if (model instanceof IntModel) {
+				values.add(((IntModel) model).getFromPosition(position));
+			} else {
+				values.add(((ObjectModel<?>) model).getFromPosition(position));
+			}
+		}
+		return values;
+	}
+
+}
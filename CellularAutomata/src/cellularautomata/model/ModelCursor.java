@@ -0,0 +1,396 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.model;
+
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+import cellularautomata.MutableCoordinates;
+import cellularautomata.MutablePartialCoordinates;
+
+/**
+ * <p>Traverses the positions of a {@link Model} row by row, a row being a segment of positions along the last axis.</p>
+ * <p>The same {@link MutableCoordinates} and {@link MutablePartialCoordinates} instances are reused throughout the traversal 
+ * and the partial coordinates are boxed in advance, so that no objects are created per position or per row.</p>
+ * <p>The rows are visited in ascending order of their coordinates, with the first axis being the outermost.</p>
+ * 
+ * @author Jaume
+ *
+ */
+public class ModelCursor {
+	
+	private final Model model;
+	private final int rowAxis;
+	private final MutableCoordinates coordinates;
+	private final MutablePartialCoordinates partialCoordinates;
+	private final int[] maxCoordinates;
+	private final int[] minGlobalCoordinates;
+	//the boxed values of every coordinate within the global bounds of each axis but the last
+	private final Integer[][] boxedCoordinates;
+	private final int maxRowLength;
+	private int rowMinCoordinate;
+	private int rowMaxCoordinate;
+	private boolean isRowEven;
+	private boolean started = false;
+	private boolean finished = false;
+	
+	/**
+	 * Creates a cursor placed before the first row of a model.
+	 * 
+	 * @param model the model
+	 */
+	public ModelCursor(Model model) {
+		this.model = model;
+		int dimension = model.getGridDimension();
+		rowAxis = dimension - 1;
+		coordinates = new MutableCoordinates(dimension);
+		partialCoordinates = new MutablePartialCoordinates(dimension);
+		maxCoordinates = new int[dimension];
+		minGlobalCoordinates = new int[dimension];
+		boxedCoordinates = new Integer[dimension][];
+		for (int axis = 0; axis < rowAxis; axis++) {
+			int minCoordinate = model.getMinCoordinate(axis), maxCoordinate = model.getMaxCoordinate(axis);
+			minGlobalCoordinates[axis] = minCoordinate;
+			Integer[] axisBoxedCoordinates = new Integer[maxCoordinate - minCoordinate + 1];
+			for (int i = 0; i < axisBoxedCoordinates.length; i++) {
+				axisBoxedCoordinates[i] = minCoordinate + i;
+			}
+			boxedCoordinates[axis] = axisBoxedCoordinates;
+		}
+		maxRowLength = rowAxis < 0 ? 1 : model.getMaxCoordinate(rowAxis) - model.getMinCoordinate(rowAxis) + 1;
+	}
+	
+	/**
+	 * Moves the cursor to the next row, setting the coordinates at its first position.
+	 * 
+	 * @return whether there was a next row
+	 */
+	public boolean nextRow() {
+		if (finished) {
+			return false;
+		}
+		int axis;
+		if (started) {
+			axis = rowAxis - 1;
+			while (axis >= 0 && coordinates.get(axis) == maxCoordinates[axis]) {
+				partialCoordinates.set(axis, null);
+				axis--;
+			}
+			if (axis < 0) {
+				finished = true;
+				return false;
+			}
+			setCoordinate(axis, coordinates.get(axis) + 1);
+			axis++;
+		} else {
+			started = true;
+			if (rowAxis < 0) {
+				//a single position with no coordinates
+				rowMinCoordinate = 0;
+				rowMaxCoordinate = 0;
+				isRowEven = true;
+				finished = true;
+				return true;
+			}
+			axis = 0;
+		}
+		for (; axis < rowAxis; axis++) {
+			maxCoordinates[axis] = model.getMaxCoordinate(axis, partialCoordinates);
+			setCoordinate(axis, model.getMinCoordinate(axis, partialCoordinates));
+		}
+		rowMinCoordinate = model.getMinCoordinate(rowAxis, partialCoordinates);
+		rowMaxCoordinate = model.getMaxCoordinate(rowAxis, partialCoordinates);
+		coordinates.set(rowAxis, rowMinCoordinate);
+		int coordinateSum = 0;
+		for (axis = 0; axis < rowAxis; axis++) {
+			coordinateSum += coordinates.get(axis);
+		}
+		isRowEven = coordinateSum%2 == 0;
+		return true;
+	}
+	
+	private void setCoordinate(int axis, int coordinate) {
+		coordinates.set(axis, coordinate);
+		partialCoordinates.set(axis, boxedCoordinates[axis][coordinate - minGlobalCoordinates[axis]]);
+	}
+	
+	/**
+	 * Returns the coordinates of the cursor, which are reused and updated as it moves.
+	 * 
+	 * @return the coordinates
+	 */
+	public MutableCoordinates getCoordinates() {
+		return coordinates;
+	}
+	
+	/**
+	 * Returns the axis along which the rows run, the last one, or -1 if the model has no axes.
+	 * 
+	 * @return the axis
+	 */
+	public int getRowAxis() {
+		return rowAxis;
+	}
+	
+	/**
+	 * Returns the smallest coordinate of the current row on the row axis.
+	 * 
+	 * @return the coordinate
+	 */
+	public int getRowMinCoordinate() {
+		return rowMinCoordinate;
+	}
+	
+	/**
+	 * Returns the largest coordinate of the current row on the row axis.
+	 * 
+	 * @return the coordinate
+	 */
+	public int getRowMaxCoordinate() {
+		return rowMaxCoordinate;
+	}
+	
+	/**
+	 * Returns the number of positions of the current row.
+	 * 
+	 * @return the length of the row
+	 */
+	public int getRowLength() {
+		return rowMaxCoordinate - rowMinCoordinate + 1;
+	}
+	
+	/**
+	 * Returns the largest number of positions any row of the model can have, to size the buffers where rows are read.
+	 * 
+	 * @return the max row length
+	 */
+	public int getMaxRowLength() {
+		return maxRowLength;
+	}
+	
+	/**
+	 * Reads the values of the current row into an array, leaving the coordinates at the first position of the row.
+	 * 
+	 * @param source the model being traversed
+	 * @param values the array where to store the values, of at least {@link #getMaxRowLength()} length
+	 * @return the number of values read
+	 * @throws Exception
+	 */
+	public int readRow(LongModel source, long[] values) throws Exception {
+		if (rowAxis < 0) {
+			values[0] = source.getFromPosition(coordinates);
+			return 1;
+		}
+		int length = getRowLength();
+		for (int i = 0, coordinate = rowMinCoordinate; i < length; i++, coordinate++) {
+			coordinates.set(rowAxis, coordinate);
+			values[i] = source.getFromPosition(coordinates);
+		}
+		coordinates.set(rowAxis, rowMinCoordinate);
+		return length;
+	}
+	
+	/**
+	 * Reads the values at the even or odd positions of the current row into an array, leaving the coordinates at the first of these positions.
+	 * The positions read are every other position of the row.
+	 * 
+	 * @param source the model being traversed
+	 * @param isEven whether to read the values at even or at odd positions
+	 * @param values the array where to store the values, of at least {@link #getMaxRowLength()} length
+	 * @return the number of values read
+	 * @throws Exception
+	 */
+	public int readRowAtEvenOddPositions(LongModel source, boolean isEven, long[] values) throws Exception {
+		if (rowAxis < 0) {
+			if (isEven) {
+				values[0] = source.getFromPosition(coordinates);
+				return 1;
+			}
+			return 0;
+		}
+		int firstCoordinate = getFirstEvenOddCoordinate(isEven);
+		int length = 0;
+		for (int coordinate = firstCoordinate; coordinate <= rowMaxCoordinate; coordinate += 2, length++) {
+			coordinates.set(rowAxis, coordinate);
+			values[length] = source.getFromPosition(coordinates);
+		}
+		coordinates.set(rowAxis, firstCoordinate);
+		return length;
+	}
+	
+	/**
+	 * Feeds the values of the current row to a consumer, one position at a time, leaving the coordinates at the first position of the row.
+	 * Unlike {@link #readRow(LongModel, long[])}, an exception getting or consuming the value at a position is printed 
+	 * and the traversal goes on with the next position.
+	 * 
+	 * @param source the model being traversed
+	 * @param consumer the consumer of the values
+	 */
+	public void feedRow(LongModel source, LongConsumer consumer) {
+		if (rowAxis < 0) {
+			feed(source, consumer);
+			return;
+		}
+		for (int coordinate = rowMinCoordinate; coordinate <= rowMaxCoordinate; coordinate++) {
+			coordinates.set(rowAxis, coordinate);
+			feed(source, consumer);
+		}
+		coordinates.set(rowAxis, rowMinCoordinate);
+	}
+	
+	/**
+	 * Feeds the values at the even or odd positions of the current row to a consumer, one position at a time, 
+	 * leaving the coordinates at the first of these positions.
+	 * Unlike {@link #readRowAtEvenOddPositions(LongModel, boolean, long[])}, an exception getting or consuming the value at a position is printed 
+	 * and the traversal goes on with the next position.
+	 * 
+	 * @param source the model being traversed
+	 * @param isEven whether to feed the values at even or at odd positions
+	 * @param consumer the consumer of the values
+	 */
+	public void feedRowAtEvenOddPositions(LongModel source, boolean isEven, LongConsumer consumer) {
+		if (rowAxis < 0) {
+			if (isEven) {
+				feed(source, consumer);
+			}
+			return;
+		}
+		int firstCoordinate = getFirstEvenOddCoordinate(isEven);
+		for (int coordinate = firstCoordinate; coordinate <= rowMaxCoordinate; coordinate += 2) {
+			coordinates.set(rowAxis, coordinate);
+			feed(source, consumer);
+		}
+		coordinates.set(rowAxis, firstCoordinate);
+	}
+	
+	private void feed(LongModel source, LongConsumer consumer) {
+		try {
+			consumer.accept(source.getFromPosition(coordinates));
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
+	/**
+	 * Reads the values of the current row into an array, leaving the coordinates at the first position of the row.
+	 * 
+	 * @param source the model being traversed
+	 * @param values the array where to store the values, of at least {@link #getMaxRowLength()} length
+	 * @return the number of values read
+	 * @throws Exception
+	 */
+	public int readRow(IntModel source, int[] values) throws Exception {
+		if (rowAxis < 0) {
+			values[0] = source.getFromPosition(coordinates);
+			return 1;
+		}
+		int length = getRowLength();
+		for (int i = 0, coordinate = rowMinCoordinate; i < length; i++, coordinate++) {
+			coordinates.set(rowAxis, coordinate);
+			values[i] = source.getFromPosition(coordinates);
+		}
+		coordinates.set(rowAxis, rowMinCoordinate);
+		return length;
+	}
+	
+	/**
+	 * Reads the values at the even or odd positions of the current row into an array, leaving the coordinates at the first of these positions.
+	 * The positions read are every other position of the row.
+	 * 
+	 * @param source the model being traversed
+	 * @param isEven whether to read the values at even or at odd positions
+	 * @param values the array where to store the values, of at least {@link #getMaxRowLength()} length
+	 * @return the number of values read
+	 * @throws Exception
+	 */
+	public int readRowAtEvenOddPositions(IntModel source, boolean isEven, int[] values) throws Exception {
+		if (rowAxis < 0) {
+			if (isEven) {
+				values[0] = source.getFromPosition(coordinates);
+				return 1;
+			}
+			return 0;
+		}
+		int firstCoordinate = getFirstEvenOddCoordinate(isEven);
+		int length = 0;
+		for (int coordinate = firstCoordinate; coordinate <= rowMaxCoordinate; coordinate += 2, length++) {
+			coordinates.set(rowAxis, coordinate);
+			values[length] = source.getFromPosition(coordinates);
+		}
+		coordinates.set(rowAxis, firstCoordinate);
+		return length;
+	}
+	
+	/**
+	 * Feeds the values of the current row to a consumer, one position at a time, leaving the coordinates at the first position of the row.
+	 * Unlike {@link #readRow(IntModel, int[])}, an exception getting or consuming the value at a position is printed 
+	 * and the traversal goes on with the next position.
+	 * 
+	 * @param source the model being traversed
+	 * @param consumer the consumer of the values
+	 */
+	public void feedRow(IntModel source, IntConsumer consumer) {
+		if (rowAxis < 0) {
+			feed(source, consumer);
+			return;
+		}
+		for (int coordinate = rowMinCoordinate; coordinate <= rowMaxCoordinate; coordinate++) {
+			coordinates.set(rowAxis, coordinate);
+			feed(source, consumer);
+		}
+		coordinates.set(rowAxis, rowMinCoordinate);
+	}
+	
+	/**
+	 * Feeds the values at the even or odd positions of the current row to a consumer, one position at a time, 
+	 * leaving the coordinates at the first of these positions.
+	 * Unlike {@link #readRowAtEvenOddPositions(IntModel, boolean, int[])}, an exception getting or consuming the value at a position is printed 
+	 * and the traversal goes on with the next position.
+	 * 
+	 * @param source the model being traversed
+	 * @param isEven whether to feed the values at even or at odd positions
+	 * @param consumer the consumer of the values
+	 */
+	public void feedRowAtEvenOddPositions(IntModel source, boolean isEven, IntConsumer consumer) {
+		if (rowAxis < 0) {
+			if (isEven) {
+				feed(source, consumer);
+			}
+			return;
+		}
+		int firstCoordinate = getFirstEvenOddCoordinate(isEven);
+		for (int coordinate = firstCoordinate; coordinate <= rowMaxCoordinate; coordinate += 2) {
+			coordinates.set(rowAxis, coordinate);
+			feed(source, consumer);
+		}
+		coordinates.set(rowAxis, firstCoordinate);
+	}
+	
+	private void feed(IntModel source, IntConsumer consumer) {
+		try {
+			consumer.accept(source.getFromPosition(coordinates));
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
+	private int getFirstEvenOddCoordinate(boolean isEven) {
+		boolean isFirstPositionEven = isRowEven == (rowMinCoordinate%2 == 0);
+		return isFirstPositionEven == isEven ? rowMinCoordinate : rowMinCoordinate + 1;
+	}
+	
+}
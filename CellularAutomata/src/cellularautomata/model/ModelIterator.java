@@ -20,33 +20,22 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 import cellularautomata.Coordinates;
-import cellularautomata.PartialCoordinates;
+import cellularautomata.MutableCoordinates;
 
 public abstract class ModelIterator<Source_Type extends Model, Element_Type> implements Iterator<Element_Type> {
 	
 	protected final Source_Type source;
-	private final int dimension;
-	private final int dimensionMinusOne;
-	private final int[] coords;
-	private final int[] maxCoords;
-	private final Integer[] partialCoords;
+	private final ModelCursor cursor;
+	private final MutableCoordinates coordinates;
+	private final int rowAxis;
 	private boolean hasNext;
 	
 	public ModelIterator(Source_Type source) {
 		this.source = source;
-		dimension = source.getGridDimension();
-		dimensionMinusOne = dimension - 1;
-		coords = new int[dimension];
-		maxCoords = new int[dimension];
-		partialCoords = new Integer[dimension];
-		for (int axis = 0; axis < dimension; axis++) {
-			PartialCoordinates partialCoordinatesObj = new PartialCoordinates(partialCoords);
-			int minCoord = source.getMinCoordinate(axis, partialCoordinatesObj);
-			coords[axis] = minCoord;
-			maxCoords[axis] = source.getMaxCoordinate(axis, partialCoordinatesObj);
-			partialCoords[axis] = minCoord;
-		}
-		hasNext = true;
+		cursor = new ModelCursor(source);
+		coordinates = cursor.getCoordinates();
+		rowAxis = cursor.getRowAxis();
+		hasNext = cursor.nextRow();
 	}
 
 	@Override
@@ -56,36 +45,41 @@ public abstract class ModelIterator<Source_Type extends Model, Element_Type> imp
 
 	@Override
 	public Element_Type next() {
-		if (!hasNext)
-			throw new NoSuchElementException();
+		Coordinates position = getNextPosition();
 		Element_Type next = null;
 		try {
-			next = getFromModelPosition(new Coordinates(coords));
+			next = getFromModelPosition(position);
 		} catch (Exception e) {
 			throw new NoSuchElementException(e.toString());
 		}
-		int axis = dimensionMinusOne;
-		while (axis >= 0 && coords[axis] == maxCoords[axis]) {
-			partialCoords[axis] = null;
-			axis--;
-		}
-		if (axis >= 0) {
-			int newCoord = coords[axis] + 1;
-			coords[axis] = newCoord;
-			partialCoords[axis] = newCoord;
-			axis++;
-			while (axis < dimension) {
-				PartialCoordinates partialCoordinatesObj = new PartialCoordinates(partialCoords);
-				int minCoord = source.getMinCoordinate(axis, partialCoordinatesObj);
-				coords[axis] = minCoord;
-				maxCoords[axis] = source.getMaxCoordinate(axis, partialCoordinatesObj);
-				partialCoords[axis] = minCoord;
-				axis++;
+		moveToNextPosition();
+		return next;
+	}
+	
+	/**
+	 * Returns the coordinates of the next position. They are reused and updated by {@link #moveToNextPosition()}.
+	 * 
+	 * @return the coordinates
+	 * @throws NoSuchElementException if there are no positions left
+	 */
+	protected Coordinates getNextPosition() {
+		if (!hasNext)
+			throw new NoSuchElementException();
+		return coordinates;
+	}
+	
+	/**
+	 * Moves the iterator past the current position.
+	 */
+	protected void moveToNextPosition() {
+		if (rowAxis >= 0) {
+			int coordinate = coordinates.get(rowAxis);
+			if (coordinate < cursor.getRowMaxCoordinate()) {
+				coordinates.set(rowAxis, coordinate + 1);
+				return;
 			}
-		} else {
-			hasNext = false;
 		}
-		return next;
+		hasNext = cursor.nextRow();
 	}
 	
 	protected abstract Element_Type getFromModelPosition(Coordinates coordinates) throws Exception;
@@ -0,0 +1,183 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.model;
+
+import cellularautomata.PartialCoordinates;
+import cellularautomata.model2d.IntAffineView2D;
+import cellularautomata.model2d.IntModel2D;
+import cellularautomata.model2d.LongAffineView2D;
+import cellularautomata.model2d.LongModel2D;
+import cellularautomata.model3d.IntAffineView3D;
+import cellularautomata.model3d.IntModel3D;
+import cellularautomata.model3d.LongAffineView3D;
+import cellularautomata.model3d.LongModel3D;
+import cellularautomata.model4d.IntModel4D;
+import cellularautomata.model4d.LongModel4D;
+import cellularautomata.model5d.IntModel5D;
+import cellularautomata.model5d.LongModel5D;
+
+/**
+ * Chains cross sections, diagonal cross sections and subsections of a model while keeping track of 
+ * the affine mapping from the positions of the resulting view to those of the model the chain starts from, 
+ * so that the view can be resolved into a single one that reads its values straight from that model.
+ * 
+ * @author Jaume
+ *
+ */
+public class ModelViewChain {
+	
+	/** The model the values are read from */
+	private final Model source;
+	/** Whether the source is the asymmetric section of the isotropic model the chain starts from */
+	private final boolean isFolded;
+	private final int sourceDimension;
+	private Model view;
+	/** The axis of the view that each axis of the source depends on, or -1 if it is constant */
+	private final int[] viewAxes;
+	private final int[] slopes;
+	private final int[] offsets;
+	private boolean isChained = false;
+	
+	public ModelViewChain(Model model) {
+		view = model;
+		if (model instanceof IsotropicHypercubicModel) {
+			source = ((IsotropicHypercubicModel<?>) model).getAsymmetricSection();
+			isFolded = true;
+		} else {
+			source = model;
+			isFolded = false;
+		}
+		sourceDimension = model.getGridDimension();
+		viewAxes = new int[sourceDimension];
+		slopes = new int[sourceDimension];
+		offsets = new int[sourceDimension];
+		for (int axis = 0; axis != sourceDimension; axis++) {
+			viewAxes[axis] = axis;
+			slopes[axis] = 1;
+		}
+	}
+	
+	/**
+	 * Returns the view resulting from the chain so far, as a chain of decorators.
+	 * 
+	 * @return the chained view
+	 */
+	public Model getView() {
+		return view;
+	}
+	
+	public void crossSection(int axis, int coordinate) {
+		view = view.crossSection(axis, coordinate);
+		isChained = true;
+		for (int sourceAxis = 0; sourceAxis != sourceDimension; sourceAxis++) {
+			int viewAxis = viewAxes[sourceAxis];
+			if (viewAxis == axis) {
+				viewAxes[sourceAxis] = -1;
+				offsets[sourceAxis] += slopes[sourceAxis]*coordinate;
+			} else if (viewAxis > axis) {
+				viewAxes[sourceAxis]--;
+			}
+		}
+	}
+	
+	public void diagonalCrossSection(int firstAxis, int secondAxis, boolean positiveSlope, int offset) {
+		view = view.diagonalCrossSection(firstAxis, secondAxis, positiveSlope, offset);
+		isChained = true;
+		//the greater axis is removed, as a function of the smaller one
+		int slope = positiveSlope ? 1 : -1;
+		if (firstAxis > secondAxis) {
+			int swp = firstAxis;
+			firstAxis = secondAxis;
+			secondAxis = swp;
+			if (positiveSlope) {
+				offset = -offset;
+			}
+		}
+		for (int sourceAxis = 0; sourceAxis != sourceDimension; sourceAxis++) {
+			int viewAxis = viewAxes[sourceAxis];
+			if (viewAxis == secondAxis) {
+				viewAxes[sourceAxis] = firstAxis;
+				offsets[sourceAxis] += slopes[sourceAxis]*offset;
+				slopes[sourceAxis] *= slope;
+			} else if (viewAxis > secondAxis) {
+				viewAxes[sourceAxis]--;
+			}
+		}
+	}
+	
+	public void subsection(PartialCoordinates minCoordinates, PartialCoordinates maxCoordinates) {
+		view = view.subsection(minCoordinates, maxCoordinates);
+		isChained = true;
+	}
+	
+	/**
+	 * Resolves the chain into a single view that maps its positions straight to the source, when supported. 
+	 * This is the case for 2D and 3D long and int views of models of dimension 2 to 5. 
+	 * Otherwise, the chained view is returned.
+	 * 
+	 * @return the resolved view
+	 */
+	public Model compile() {
+		if (!isChained) {
+			return view;
+		}
+		if (view instanceof LongModel2D && isLongModelOfSupportedDimension(source)) {
+			return new LongAffineView2D((LongModel2D) view, (LongModel) source, isFolded, viewAxes, slopes, offsets);
+		}
+		if (view instanceof LongModel3D && isLongModelOfSupportedDimension(source)) {
+			return new LongAffineView3D((LongModel3D) view, (LongModel) source, isFolded, viewAxes, slopes, offsets);
+		}
+		if (view instanceof IntModel2D && isIntModelOfSupportedDimension(source)) {
+			return new IntAffineView2D((IntModel2D) view, (IntModel) source, isFolded, viewAxes, slopes, offsets);
+		}
+		if (view instanceof IntModel3D && isIntModelOfSupportedDimension(source)) {
+			return new IntAffineView3D((IntModel3D) view, (IntModel) source, isFolded, viewAxes, slopes, offsets);
+		}
+		return view;
+	}
+	
+	private static boolean isLongModelOfSupportedDimension(Model model) {
+		switch (model.getGridDimension()) {
+			case 2:
+				return model instanceof LongModel2D;
+			case 3:
+				return model instanceof LongModel3D;
+			case 4:
+				return model instanceof LongModel4D;
+			case 5:
+				return model instanceof LongModel5D;
+			default:
+				return false;
+		}
+	}
+	
+	private static boolean isIntModelOfSupportedDimension(Model model) {
+		switch (model.getGridDimension()) {
+			case 2:
+				return model instanceof IntModel2D;
+			case 3:
+				return model instanceof IntModel3D;
+			case 4:
+				return model instanceof IntModel4D;
+			case 5:
+				return model instanceof IntModel5D;
+			default:
+				return false;
+		}
+	}
+
+}
@@ -0,0 +1,65 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.model;
+
+/**
+ * A model whose {@link Model#nextStep()} can optionally be computed using several threads.
+ * The configuration reached at every step is the same regardless of the number of threads used.
+ * 
+ * @author Jaume
+ *
+ */
+public interface MultithreadedModel extends Model {
+	
+	/**
+	 * Sets the number of threads to use to compute the following steps.
+	 * A value of one means the steps are computed on the calling thread, and the threads used until then are stopped.
+	 * 
+	 * @param threadCount the number of threads
+	 */
+	void setThreadCount(int threadCount);
+	
+	/**
+	 * Returns the number of threads used to compute the steps.
+	 * 
+	 * @return the number of threads
+	 */
+	int getThreadCount();
+	
+	/**
+	 * Returns the ratio between the time that the last step would have taken on a single thread and the time it actually took.
+	 * It is estimated as the sum of the time spent on every thread divided by the elapsed time.
+	 * 
+	 * @return the speedup of the last step, or {@link Double#NaN} if it is not available.
+	 */
+	double getLastStepSpeedup();
+	
+	/**
+	 * Returns the elapsed time of the last step in milliseconds.
+	 * 
+	 * @return the elapsed time of the last step, or -1 if it is not available.
+	 */
+	long getLastStepMillis();
+	
+	/**
+	 * Stops the threads used to compute the steps. The following steps are computed on the calling thread, unless the number of threads is set again.
+	 */
+	default void shutdownThreads() {
+		setThreadCount(1);
+	}
+
+}
@@ -17,8 +17,10 @@
 package cellularautomata.model;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import cellularautomata.numbers.BigInt;
 
@@ -143,6 +145,10 @@ public class SerializableModelData implements Serializable {
 		public static final Integer ANYSOTROPIC_BIG_FRACTION_ARRAY_1 = 4;
 		/** An {@link AnisotropicIntArray} object */
 		public static final Integer ANYSOTROPIC_INT_ARRAY_CLASS_INSTANCE = 5;
+		/** An {@link AnisotropicLongArray} object */
+		public static final Integer ANYSOTROPIC_LONG_ARRAY_CLASS_INSTANCE = 6;
+		/** An {@link AnisotropicPagedIntArray} object */
+		public static final Integer ANYSOTROPIC_PAGED_INT_ARRAY_CLASS_INSTANCE = 7;
 		/*...*/
 		
 		private GridImplementationTypes() { }
@@ -228,5 +234,9 @@ public class SerializableModelData implements Serializable {
 	public void put(Integer key, Object value) {
 		data.put(key, value);
 	}
+	
+	public Set<Integer> getKeys() {
+		return Collections.unmodifiableSet(data.keySet());
+	}
 
 }
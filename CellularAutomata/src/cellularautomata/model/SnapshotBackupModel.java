@@ -0,0 +1,36 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.model;
+
+/**
+ * A model that can capture its current state, in memory, so that its backup can be written while the following steps are computed.
+ * 
+ * @author Jaume
+ *
+ */
+public interface SnapshotBackupModel extends Model {
+	
+	/**
+	 * Returns the data to back up the current state of the model. 
+	 * This data is not modified by the computation of the following steps, so it can be serialized from another thread. 
+	 * It can be restored the same way as a backup made with {@link #backUp(String, String)}.
+	 * 
+	 * @return the data to back up, or null if the state of the model cannot currently be captured without copying it whole
+	 */
+	SerializableModelData getBackupSnapshot();
+
+}
@@ -0,0 +1,320 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.model;
+
+import cellularautomata.numbers.BigInt;
+
+/**
+ * <p>Statistics of the values of an asymmetric section at a given step: the minimum and maximum values, 
+ * the minimum and maximum values at even and odd positions, the total and the number of positions whose value changed from the previous step.</p>
+ * <p>They are accumulated by the models that compute them while stepping, one slice at a time, right after the slice reaches its final values, 
+ * so that the values don't have to be traversed again afterwards.</p>
+ * 
+ * @author Jaume
+ *
+ */
+public class StepStatistics {
+	
+	private final long step;
+	private final boolean changesCounted;
+	private long minValue = Long.MAX_VALUE, maxValue = Long.MIN_VALUE;
+	private long evenMinValue = Long.MAX_VALUE, evenMaxValue = Long.MIN_VALUE;
+	private long oddMinValue = Long.MAX_VALUE, oddMaxValue = Long.MIN_VALUE;
+	private long total = 0;
+	private BigInt totalOverflow = BigInt.ZERO;
+	private long changedCount = 0;
+	private long positionCount = 0;
+	
+	/**
+	 * 
+	 * @param step the step whose values will be accumulated
+	 * @param countChanges whether the values of the previous step will be passed to count the positions that changed
+	 */
+	public StepStatistics(long step, boolean countChanges) {
+		this.step = step;
+		this.changesCounted = countChanges;
+	}
+	
+	public long getStep() {
+		return step;
+	}
+	
+	public long[] getMinAndMax() {
+		return positionCount == 0 ? null : new long[] { minValue, maxValue };
+	}
+	
+	public int[] getIntMinAndMax() {
+		return positionCount == 0 ? null : new int[] { (int) minValue, (int) maxValue };
+	}
+	
+	/**
+	 * Returns the minimum and maximum values at the positions whose coordinates add up to an even or odd number.
+	 * 
+	 * @param isEven whether to return the ones of the even or the odd positions
+	 * @return the minimum and maximum values, or null if there are no positions of the given parity
+	 */
+	public long[] getEvenOddPositionsMinAndMax(boolean isEven) {
+		if (isEven) {
+			return evenMinValue > evenMaxValue ? null : new long[] { evenMinValue, evenMaxValue };
+		} else {
+			return oddMinValue > oddMaxValue ? null : new long[] { oddMinValue, oddMaxValue };
+		}
+	}
+	
+	public int[] getIntEvenOddPositionsMinAndMax(boolean isEven) {
+		long[] minAndMax = getEvenOddPositionsMinAndMax(isEven);
+		return minAndMax == null ? null : new int[] { (int) minAndMax[0], (int) minAndMax[1] };
+	}
+	
+	public BigInt getTotal() {
+		return totalOverflow.add(BigInt.valueOf(total));
+	}
+	
+	/**
+	 * Returns the number of positions whose value is different from the one they had at the previous step.
+	 * 
+	 * @return the number of positions that changed, or -1 if it is not known
+	 */
+	public long getChangedCount() {
+		return changesCounted ? changedCount : -1;
+	}
+	
+	public long getPositionCount() {
+		return positionCount;
+	}
+	
+	/**
+	 * Adds the statistics accumulated by another instance, for instance from a different range of slices computed on another thread.
+	 * 
+	 * @param other
+	 */
+	public synchronized void add(StepStatistics other) {
+		if (other.minValue < minValue) minValue = other.minValue;
+		if (other.maxValue > maxValue) maxValue = other.maxValue;
+		if (other.evenMinValue < evenMinValue) evenMinValue = other.evenMinValue;
+		if (other.evenMaxValue > evenMaxValue) evenMaxValue = other.evenMaxValue;
+		if (other.oddMinValue < oddMinValue) oddMinValue = other.oddMinValue;
+		if (other.oddMaxValue > oddMaxValue) oddMaxValue = other.oddMaxValue;
+		totalOverflow = totalOverflow.add(other.totalOverflow).add(BigInt.valueOf(other.total));
+		changedCount += other.changedCount;
+		positionCount += other.positionCount;
+	}
+	
+	/**
+	 * Adds the values of the slice of an isotropic square asymmetric section at the given x, that is, 0 <= y <= x.
+	 * 
+	 * @param x the coordinate of the slice
+	 * @param oldSlice the values of the slice at the previous step, or null if they were all zero
+	 * @param newSlice the values of the slice at the step
+	 */
+	public void addSlice(int x, long[] oldSlice, long[] newSlice) {
+		addRow(oldSlice, newSlice, x + 1, x%2 == 0);
+	}
+	
+	/**
+	 * Adds the values of the slice of an isotropic cubic asymmetric section at the given x, that is, 0 <= z <= y <= x.
+	 * 
+	 * @param x the coordinate of the slice
+	 * @param oldSlice the values of the slice at the previous step, or null if they were all zero
+	 * @param newSlice the values of the slice at the step
+	 */
+	public void addSlice(int x, long[][] oldSlice, long[][] newSlice) {
+		for (int y = 0; y <= x; y++) {
+			addRow(oldSlice == null ? null : oldSlice[y], newSlice[y], y + 1, (x + y)%2 == 0);
+		}
+	}
+	
+	/**
+	 * Adds the values of the slice of an isotropic hypercubic asymmetric section of dimension four at the given w, that is, 0 <= z <= y <= x <= w.
+	 * 
+	 * @param w the coordinate of the slice
+	 * @param oldSlice the values of the slice at the previous step, or null if they were all zero
+	 * @param newSlice the values of the slice at the step
+	 */
+	public void addSlice(int w, long[][][] oldSlice, long[][][] newSlice) {
+		for (int x = 0; x <= w; x++) {
+			long[][] oldXSlice = oldSlice == null ? null : oldSlice[x], newXSlice = newSlice[x];
+			for (int y = 0; y <= x; y++) {
+				addRow(oldXSlice == null ? null : oldXSlice[y], newXSlice[y], y + 1, (w + x + y)%2 == 0);
+			}
+		}
+	}
+	
+	/**
+	 * Adds the values of the slice of an isotropic hypercubic asymmetric section of dimension five at the given v, that is, 0 <= z <= y <= x <= w <= v.
+	 * 
+	 * @param v the coordinate of the slice
+	 * @param oldSlice the values of the slice at the previous step, or null if they were all zero
+	 * @param newSlice the values of the slice at the step
+	 */
+	public void addSlice(int v, long[][][][] oldSlice, long[][][][] newSlice) {
+		for (int w = 0; w <= v; w++) {
+			long[][][] oldWSlice = oldSlice == null ? null : oldSlice[w], newWSlice = newSlice[w];
+			for (int x = 0; x <= w; x++) {
+				long[][] oldXSlice = oldWSlice == null ? null : oldWSlice[x], newXSlice = newWSlice[x];
+				for (int y = 0; y <= x; y++) {
+					addRow(oldXSlice == null ? null : oldXSlice[y], newXSlice[y], y + 1, (v + w + x + y)%2 == 0);
+				}
+			}
+		}
+	}
+	
+	public void addSlice(int x, int[] oldSlice, int[] newSlice) {
+		addRow(oldSlice, newSlice, x + 1, x%2 == 0);
+	}
+	
+	public void addSlice(int x, int[][] oldSlice, int[][] newSlice) {
+		for (int y = 0; y <= x; y++) {
+			addRow(oldSlice == null ? null : oldSlice[y], newSlice[y], y + 1, (x + y)%2 == 0);
+		}
+	}
+	
+	public void addSlice(int w, int[][][] oldSlice, int[][][] newSlice) {
+		for (int x = 0; x <= w; x++) {
+			int[][] oldXSlice = oldSlice == null ? null : oldSlice[x], newXSlice = newSlice[x];
+			for (int y = 0; y <= x; y++) {
+				addRow(oldXSlice == null ? null : oldXSlice[y], newXSlice[y], y + 1, (w + x + y)%2 == 0);
+			}
+		}
+	}
+	
+	public void addSlice(int v, int[][][][] oldSlice, int[][][][] newSlice) {
+		for (int w = 0; w <= v; w++) {
+			int[][][] oldWSlice = oldSlice == null ? null : oldSlice[w], newWSlice = newSlice[w];
+			for (int x = 0; x <= w; x++) {
+				int[][] oldXSlice = oldWSlice == null ? null : oldWSlice[x], newXSlice = newWSlice[x];
+				for (int y = 0; y <= x; y++) {
+					addRow(oldXSlice == null ? null : oldXSlice[y], newXSlice[y], y + 1, (v + w + x + y)%2 == 0);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Adds the values of the first positions of a row. The parity of the positions alternates along the row.
+	 * 
+	 * @param oldRow the values of the row at the previous step, or null if they were all zero
+	 * @param newRow the values of the row at the step
+	 * @param length the number of positions of the row
+	 * @param isFirstEven whether the first position of the row is even
+	 */
+	private void addRow(long[] oldRow, long[] newRow, int length, boolean isFirstEven) {
+		positionCount += length;
+		if (changesCounted) {
+			long changed = 0;
+			if (oldRow == null) {
+				for (int i = 0; i != length; i++) {
+					if (newRow[i] != 0) changed++;
+				}
+			} else {
+				for (int i = 0; i != length; i++) {
+					if (newRow[i] != oldRow[i]) changed++;
+				}
+			}
+			changedCount += changed;
+		}
+		// the positions of each parity are traversed separately to avoid checking the parity of every position
+		long sum = total, min = Long.MAX_VALUE, max = Long.MIN_VALUE;
+		for (int i = 0; i < length; i += 2) {
+			long value = newRow[i];
+			if (value < min) min = value;
+			if (value > max) max = value;
+			long newSum = sum + value;
+			if (((sum ^ newSum) & (value ^ newSum)) < 0) {
+				// overflow
+				totalOverflow = totalOverflow.add(BigInt.valueOf(sum));
+				newSum = value;
+			}
+			sum = newSum;
+		}
+		long otherMin = Long.MAX_VALUE, otherMax = Long.MIN_VALUE;
+		for (int i = 1; i < length; i += 2) {
+			long value = newRow[i];
+			if (value < otherMin) otherMin = value;
+			if (value > otherMax) otherMax = value;
+			long newSum = sum + value;
+			if (((sum ^ newSum) & (value ^ newSum)) < 0) {
+				totalOverflow = totalOverflow.add(BigInt.valueOf(sum));
+				newSum = value;
+			}
+			sum = newSum;
+		}
+		total = sum;
+		addMinAndMax(min, max, otherMin, otherMax, isFirstEven);
+	}
+	
+	private void addRow(int[] oldRow, int[] newRow, int length, boolean isFirstEven) {
+		positionCount += length;
+		if (changesCounted) {
+			long changed = 0;
+			if (oldRow == null) {
+				for (int i = 0; i != length; i++) {
+					if (newRow[i] != 0) changed++;
+				}
+			} else {
+				for (int i = 0; i != length; i++) {
+					if (newRow[i] != oldRow[i]) changed++;
+				}
+			}
+			changedCount += changed;
+		}
+		long sum = 0;// the sum of a row of int values cannot overflow a long
+		int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+		for (int i = 0; i < length; i += 2) {
+			int value = newRow[i];
+			if (value < min) min = value;
+			if (value > max) max = value;
+			sum += value;
+		}
+		int otherMin = Integer.MAX_VALUE, otherMax = Integer.MIN_VALUE;
+		for (int i = 1; i < length; i += 2) {
+			int value = newRow[i];
+			if (value < otherMin) otherMin = value;
+			if (value > otherMax) otherMax = value;
+			sum += value;
+		}
+		long newTotal = total + sum;
+		if (((total ^ newTotal) & (sum ^ newTotal)) < 0) {
+			// overflow
+			totalOverflow = totalOverflow.add(BigInt.valueOf(total));
+			newTotal = sum;
+		}
+		total = newTotal;
+		if (length > 0) {
+			addMinAndMax(min, max, length > 1 ? otherMin : Long.MAX_VALUE, length > 1 ? otherMax : Long.MIN_VALUE, isFirstEven);
+		}
+	}
+	
+	private void addMinAndMax(long firstMin, long firstMax, long secondMin, long secondMax, boolean isFirstEven) {
+		if (isFirstEven) {
+			if (firstMin < evenMinValue) evenMinValue = firstMin;
+			if (firstMax > evenMaxValue) evenMaxValue = firstMax;
+			if (secondMin < oddMinValue) oddMinValue = secondMin;
+			if (secondMax > oddMaxValue) oddMaxValue = secondMax;
+		} else {
+			if (firstMin < oddMinValue) oddMinValue = firstMin;
+			if (firstMax > oddMaxValue) oddMaxValue = firstMax;
+			if (secondMin < evenMinValue) evenMinValue = secondMin;
+			if (secondMax > evenMaxValue) evenMaxValue = secondMax;
+		}
+		if (firstMin < minValue) minValue = firstMin;
+		if (secondMin < minValue) minValue = secondMin;
+		if (firstMax > maxValue) maxValue = firstMax;
+		if (secondMax > maxValue) maxValue = secondMax;
+	}
+
+}
@@ -0,0 +1,193 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import cellularautomata.Coordinates;
+import cellularautomata.automata.aether.IntAether2D;
+import cellularautomata.automata.aether.IntAether3D;
+import cellularautomata.automata.aether.IntAether4D;
+import cellularautomata.automata.aether.IntAether5D;
+import cellularautomata.automata.aether.LongAether2D;
+import cellularautomata.automata.aether.LongAether3D;
+import cellularautomata.automata.aether.LongAether4D;
+import cellularautomata.automata.aether.LongAether5D;
+import cellularautomata.automata.sunflower.IntSunflower2D;
+import cellularautomata.automata.sunflower.IntSunflower3D;
+import cellularautomata.automata.sunflower.LongSunflower2D;
+import cellularautomata.automata.sunflower.LongSunflower3D;
+import cellularautomata.automata.sunflower.LongSunflower4D;
+import cellularautomata.numbers.BigInt;
+
+/**
+ * Compares the {@link StepStatistics} computed while stepping small models with the ones computed by traversing all their positions after every step.
+ * The models that support it are also checked stepping in place and with two threads.
+ * Exits with status 1 if any statistic differs.
+ *
+ * @author Jaume
+ *
+ */
+public final class StepStatisticsCheck {
+
+	private StepStatisticsCheck() {}
+
+	public static void main(String[] args) throws Exception {
+		boolean failed = false;
+		failed |= !matchesEveryStep(() -> new LongAether2D(-3000), 60);
+		failed |= !matchesEveryStep(() -> new IntAether2D(-3000), 60);
+		failed |= !matchesEveryStep(() -> new LongAether3D(-3000), 40);
+		failed |= !matchesEveryStep(() -> new IntAether3D(-3000), 40);
+		failed |= !matchesEveryStep(() -> new LongAether4D(-3000), 25);
+		failed |= !matchesEveryStep(() -> new IntAether4D(-3000), 25);
+		failed |= !matchesEveryStep(() -> new LongAether5D(-1000), 15);
+		failed |= !matchesEveryStep(() -> new IntAether5D(-1000), 15);
+		failed |= !matchesEveryStep(() -> new LongSunflower2D(-3000), 40);
+		failed |= !matchesEveryStep(() -> new IntSunflower2D(-3000), 40);
+		failed |= !matchesEveryStep(() -> new LongSunflower3D(-3000), 30);
+		failed |= !matchesEveryStep(() -> new IntSunflower3D(-3000), 30);
+		failed |= !matchesEveryStep(() -> new LongSunflower4D(-3000), 20);
+		if (failed) {
+			System.exit(1);
+		}
+	}
+
+	private static boolean matchesEveryStep(Supplier<StepStatisticsModel> modelSupplier, int steps) throws Exception {
+		boolean matches = matchesEveryStep(modelSupplier.get(), steps, "");
+		StepStatisticsModel model = modelSupplier.get();
+		if (model instanceof InPlaceSteppingModel) {
+			((InPlaceSteppingModel) model).setInPlaceStepping(true);
+			matches &= matchesEveryStep(model, steps, " in place");
+		}
+		model = modelSupplier.get();
+		if (model instanceof MultithreadedModel) {
+			MultithreadedModel multithreadedModel = (MultithreadedModel) model;
+			multithreadedModel.setThreadCount(2);
+			try {
+				matches &= matchesEveryStep(model, steps, " with 2 threads");
+			} finally {
+				multithreadedModel.shutdownThreads();
+			}
+		}
+		return matches;
+	}
+
+	private static boolean matchesEveryStep(StepStatisticsModel model, int steps, String mode) throws Exception {
+		//enabled after the first step, so that the statistics are computed both when enabling them and while stepping
+		model.nextStep();
+		model.setStepStatisticsEnabled(true);
+		Map<Coordinates, Long> previousValues = null;
+		List<String> errors = new ArrayList<String>();
+		for (int i = 0; i < steps && errors.isEmpty(); i++) {
+			Map<Coordinates, Long> values = getValues(model);
+			compare(model.getStep(), values, previousValues, model.getStepStatistics(), errors);
+			if (!errors.isEmpty()) {
+				errors.add(0, "at step " + model.getStep());
+			}
+			previousValues = values;
+			model.nextStep();
+		}
+		String result = errors.isEmpty() ? "OK" : String.join(", ", errors);
+		System.out.println(model.getClass().getSimpleName() + mode + ": " + result);
+		return errors.isEmpty();
+	}
+
+	private static Map<Coordinates, Long> getValues(Model model) throws Exception {
+		List<Coordinates> positions = new ArrayList<Coordinates>();
+		model.forEachPosition(positions::add);
+		Map<Coordinates, Long> values = new TreeMap<Coordinates, Long>(StepStatisticsCheck::compareCoordinates);
+		for (Coordinates position : positions) {
+			long value = model instanceof LongModel ? ((LongModel) model).getFromPosition(position) : ((IntModel) model).getFromPosition(position);
+			values.put(position, value);
+		}
+		return values;
+	}
+
+	/**
+	 * Compares the statistics of a step with the ones computed from the values of all the positions.
+	 *
+	 * @param step the step
+	 * @param values the values by position
+	 * @param previousValues the values by position at the previous step, or null if the changes are not counted
+	 * @param statistics the statistics to compare
+	 * @param errors the list to add the differences to
+	 */
+	private static void compare(long step, Map<Coordinates, Long> values, Map<Coordinates, Long> previousValues, StepStatistics statistics, List<String> errors) {
+		if (statistics == null) {
+			errors.add("no statistics");
+			return;
+		}
+		long[] minAndMax = null, evenMinAndMax = null, oddMinAndMax = null;
+		BigInt total = BigInt.ZERO;
+		long changedCount = 0;
+		for (Map.Entry<Coordinates, Long> entry : values.entrySet()) {
+			long value = entry.getValue();
+			minAndMax = addToMinAndMax(minAndMax, value);
+			if (getCoordinateSum(entry.getKey())%2 == 0) {
+				evenMinAndMax = addToMinAndMax(evenMinAndMax, value);
+			} else {
+				oddMinAndMax = addToMinAndMax(oddMinAndMax, value);
+			}
+			total = total.add(BigInt.valueOf(value));
+			if (previousValues != null && value != previousValues.getOrDefault(entry.getKey(), 0L)) {
+				changedCount++;
+			}
+		}
+		if (statistics.getStep() != step) errors.add("step " + statistics.getStep() + " instead of " + step);
+		if (!Arrays.equals(statistics.getMinAndMax(), minAndMax)) errors.add("min and max " + Arrays.toString(statistics.getMinAndMax()) + " instead of " + Arrays.toString(minAndMax));
+		if (!Arrays.equals(statistics.getEvenOddPositionsMinAndMax(true), evenMinAndMax)) errors.add("even min and max " + Arrays.toString(statistics.getEvenOddPositionsMinAndMax(true)) + " instead of " + Arrays.toString(evenMinAndMax));
+		if (!Arrays.equals(statistics.getEvenOddPositionsMinAndMax(false), oddMinAndMax)) errors.add("odd min and max " + Arrays.toString(statistics.getEvenOddPositionsMinAndMax(false)) + " instead of " + Arrays.toString(oddMinAndMax));
+		if (!Objects.equals(statistics.getTotal(), total)) errors.add("total " + statistics.getTotal() + " instead of " + total);
+		if (statistics.getPositionCount() != values.size()) errors.add("position count " + statistics.getPositionCount() + " instead of " + values.size());
+		long expectedChangedCount = previousValues == null ? -1 : changedCount;
+		if (statistics.getChangedCount() != expectedChangedCount) errors.add("changed count " + statistics.getChangedCount() + " instead of " + expectedChangedCount);
+	}
+
+	private static long[] addToMinAndMax(long[] minAndMax, long value) {
+		if (minAndMax == null) {
+			return new long[] { value, value };
+		}
+		minAndMax[0] = Math.min(minAndMax[0], value);
+		minAndMax[1] = Math.max(minAndMax[1], value);
+		return minAndMax;
+	}
+
+	private static int getCoordinateSum(Coordinates coordinates) {
+		int sum = 0;
+		for (int axis = 0; axis < coordinates.getCount(); axis++) {
+			sum += coordinates.get(axis);
+		}
+		return sum;
+	}
+
+	private static int compareCoordinates(Coordinates coordinates, Coordinates other) {
+		for (int axis = 0; axis < coordinates.getCount(); axis++) {
+			int comparison = Integer.compare(coordinates.get(axis), other.get(axis));
+			if (comparison != 0) {
+				return comparison;
+			}
+		}
+		return 0;
+	}
+
+}
@@ -0,0 +1,50 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.model;
+
+/**
+ * A model that can compute the {@link StepStatistics} of its values while it computes its steps, 
+ * instead of having to traverse them again afterwards to get their minimum and maximum or their total.
+ * 
+ * @author Jaume
+ *
+ */
+public interface StepStatisticsModel extends Model {
+	
+	/**
+	 * Sets whether to compute the statistics of the values of the following steps. 
+	 * When enabled, the statistics of the current step are computed right away, except the number of changed positions.
+	 * 
+	 * @param enabled whether to compute the statistics
+	 */
+	void setStepStatisticsEnabled(boolean enabled);
+	
+	/**
+	 * Returns whether the statistics of the values of the steps are computed.
+	 * 
+	 * @return whether the statistics are computed
+	 */
+	boolean isStepStatisticsEnabled();
+	
+	/**
+	 * Returns the statistics of the values of the current step.
+	 * 
+	 * @return the statistics, or null if they are not computed
+	 */
+	StepStatistics getStepStatistics();
+
+}
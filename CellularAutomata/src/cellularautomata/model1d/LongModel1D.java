@@ -19,6 +19,7 @@ package cellularautomata.model1d;
 import java.util.Iterator;
 
 import cellularautomata.Coordinates;
+import cellularautomata.LongTotalConsumer;
 import cellularautomata.PartialCoordinates;
 import cellularautomata.model.LongModel;
 import cellularautomata.numbers.BigInt;
@@ -80,12 +81,12 @@ public interface LongModel1D extends Model1D, LongModel {
 	
 	@Override
 	default BigInt getTotal() throws Exception {
-		BigInt total = BigInt.ZERO;
+		LongTotalConsumer total = new LongTotalConsumer();
 		int maxX = getMaxX(), minX = getMinX();
 		for (int x = minX; x <= maxX; x++) {
-			total = total.add(BigInt.valueOf(getFromPosition(x)));
+			total.accept(getFromPosition(x));
 		}
-		return total;
+		return total.getTotal();
 	}
 	
 	@Override
@@ -26,5 +26,15 @@ public class BooleanSubModel2D extends SubModel2D<BooleanModel2D> implements Boo
 	public boolean getFromPosition(int x, int y) throws Exception {
 		return source.getFromPosition(x, y);
 	}
+	
+	@Override
+	public void getRow(int y, int minX, int maxX, boolean[] values, int offset) throws Exception {
+		source.getRow(y, minX, maxX, values, offset);
+	}
+	
+	@Override
+	public void getColumn(int x, int minY, int maxY, boolean[] values, int offset) throws Exception {
+		source.getColumn(x, minY, maxY, values, offset);
+	}
 
 }
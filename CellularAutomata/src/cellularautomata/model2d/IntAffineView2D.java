@@ -0,0 +1,440 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.model2d;
+
+import cellularautomata.model.IntModel;
+import cellularautomata.model.IsotropicHypercubicModel;
+import cellularautomata.model3d.IntModel3D;
+import cellularautomata.model4d.IntModel4D;
+import cellularautomata.model5d.IntModel5D;
+
+/**
+ * A 2D view of a {@link IntModel} of dimension 2 to 5, resulting from a chain of cross sections, diagonal cross sections and subsections, 
+ * whose positions map to positions of the source through a single affine mapping. 
+ * Each value is read straight from the source instead of through every link of the chain. 
+ * If the source is the asymmetric section of an isotropic model, the mapped coordinates are folded into it by taking 
+ * their absolute values and sorting them in descending order.
+ * Rows and columns are read as runs of positions along which the folding pattern is constant, which are straight lines of the source.
+ * The bounds, stepping and naming are those of the chain itself.
+ * 
+ * @author Jaume
+ *
+ */
+public class IntAffineView2D implements IntModel2D {
+
+	/** The coordinates and steps of the source lines, reused from line to line by each thread */
+	private static final ThreadLocal<int[][]> lineBuffers = new ThreadLocal<int[][]>();
+
+	/** The chained view whose values are mapped */
+	protected final IntModel2D view;
+	protected final int sourceDimension;
+	protected final boolean isFolded;
+	private IntModel2D source2D;
+	private IntModel3D source3D;
+	private IntModel4D source4D;
+	private IntModel5D source5D;
+	private final int[] offsets;
+	private final int[] xFactors;
+	private final int[] yFactors;
+	private int minX;
+	private int maxX;
+	private int minY;
+	private int maxY;
+	/** The bounds of x at each y, beginning at minY */
+	private int[] localXMinima;
+	private int[] localXMaxima;
+	/** The bounds of y at each x, beginning at minX */
+	private int[] localYMinima;
+	private int[] localYMaxima;
+	private boolean areLocalBoundsCached;
+	
+	/**
+	 * Constructs a {@code IntAffineView2D} where the coordinate along each axis of the source is either a constant 
+	 * or the coordinate along an axis of the view times a slope of 1 or -1, plus an offset.
+	 * 
+	 * @param view the chained view
+	 * @param source the model the chain starts from, or its asymmetric section if it is isotropic
+	 * @param isFolded whether the source is the asymmetric section of the model the chain starts from
+	 * @param viewAxes the axis of the view that each axis of the source depends on, or -1 if it is constant
+	 * @param slopes the slope of each axis of the source relative to its axis of the view
+	 * @param offsets the offset, or the constant coordinate, of each axis of the source
+	 */
+	public IntAffineView2D(IntModel2D view, IntModel source, boolean isFolded, int[] viewAxes, int[] slopes, int[] offsets) {
+		sourceDimension = source.getGridDimension();
+		switch (sourceDimension) {
+			case 2:
+				source2D = (IntModel2D) source;
+				break;
+			case 3:
+				source3D = (IntModel3D) source;
+				break;
+			case 4:
+				source4D = (IntModel4D) source;
+				break;
+			case 5:
+				source5D = (IntModel5D) source;
+				break;
+			default:
+				throw new IllegalArgumentException("The dimension of the source must be between 2 and 5. Got " + sourceDimension + ".");
+		}
+		if (view.getGridDimension() != 2 || viewAxes.length != sourceDimension || slopes.length != sourceDimension || offsets.length != sourceDimension) {
+			throw new IllegalArgumentException("The mapping does not match the dimensions of the view and the source.");
+		}
+		this.view = view;
+		this.isFolded = isFolded;
+		this.offsets = offsets.clone();
+		xFactors = new int[sourceDimension];
+		yFactors = new int[sourceDimension];
+		for (int axis = 0; axis != sourceDimension; axis++) {
+			switch (viewAxes[axis]) {
+				case 0:
+					xFactors[axis] = slopes[axis];
+					break;
+				case 1:
+					yFactors[axis] = slopes[axis];
+					break;
+				case -1:
+					break;
+				default:
+					throw new IllegalArgumentException("Axis " + viewAxes[axis] + " is not an axis of the view.");
+			}
+		}
+		cacheBounds();
+	}
+	
+	private void cacheBounds() {
+		minX = view.getMinX();
+		maxX = view.getMaxX();
+		minY = view.getMinY();
+		maxY = view.getMaxY();
+		int height = maxY - minY + 1;
+		int width = maxX - minX + 1;
+		if (localXMinima == null || localXMinima.length < height) {
+			localXMinima = new int[height];
+			localXMaxima = new int[height];
+		}
+		if (localYMinima == null || localYMinima.length < width) {
+			localYMinima = new int[width];
+			localYMaxima = new int[width];
+		}
+		try {
+			for (int y = minY, i = 0; y <= maxY; y++, i++) {
+				localXMinima[i] = view.getMinX(y);
+				localXMaxima[i] = view.getMaxX(y);
+			}
+			for (int x = minX, i = 0; x <= maxX; x++, i++) {
+				localYMinima[i] = view.getMinY(x);
+				localYMaxima[i] = view.getMaxY(x);
+			}
+			areLocalBoundsCached = true;
+		} catch (IllegalArgumentException e) {
+			//some lines within the bounds don't cross the region, leave it to the chain to handle them
+			areLocalBoundsCached = false;
+		}
+	}
+
+	@Override
+	public int getFromPosition(int x, int y) throws Exception {
+		switch (sourceDimension) {
+			case 2:
+				return getFromSource2D(x, y);
+			case 3:
+				return getFromSource3D(x, y);
+			case 4:
+				return getFromSource4D(x, y);
+			default:
+				return getFromSource5D(x, y);
+		}
+	}
+	
+	private int getFromSource2D(int x, int y) throws Exception {
+		int c0 = offsets[0] + xFactors[0]*x + yFactors[0]*y;
+		int c1 = offsets[1] + xFactors[1]*x + yFactors[1]*y;
+		if (isFolded) {
+			if (c0 < 0) c0 = -c0;
+			if (c1 < 0) c1 = -c1;
+			//sort coordinates in descending order
+			if (c1 > c0) {
+				int swp = c0;
+				c0 = c1;
+				c1 = swp;
+			}
+		}
+		return source2D.getFromPosition(c0, c1);
+	}
+	
+	private int getFromSource3D(int x, int y) throws Exception {
+		int c0 = offsets[0] + xFactors[0]*x + yFactors[0]*y;
+		int c1 = offsets[1] + xFactors[1]*x + yFactors[1]*y;
+		int c2 = offsets[2] + xFactors[2]*x + yFactors[2]*y;
+		if (isFolded) {
+			if (c0 < 0) c0 = -c0;
+			if (c1 < 0) c1 = -c1;
+			if (c2 < 0) c2 = -c2;
+			//sort coordinates in descending order
+			if (c1 > c0) {
+				int swp = c0;
+				c0 = c1;
+				c1 = swp;
+			}
+			if (c2 > c1) {
+				int swp = c1;
+				c1 = c2;
+				c2 = swp;
+			}
+			if (c1 > c0) {
+				int swp = c0;
+				c0 = c1;
+				c1 = swp;
+			}
+		}
+		return source3D.getFromPosition(c0, c1, c2);
+	}
+	
+	private int getFromSource4D(int x, int y) throws Exception {
+		int c0 = offsets[0] + xFactors[0]*x + yFactors[0]*y;
+		int c1 = offsets[1] + xFactors[1]*x + yFactors[1]*y;
+		int c2 = offsets[2] + xFactors[2]*x + yFactors[2]*y;
+		int c3 = offsets[3] + xFactors[3]*x + yFactors[3]*y;
+		if (isFolded) {
+			if (c0 < 0) c0 = -c0;
+			if (c1 < 0) c1 = -c1;
+			if (c2 < 0) c2 = -c2;
+			if (c3 < 0) c3 = -c3;
+			//sort coordinates in descending order
+			if (c1 > c0) {
+				int swp = c0;
+				c0 = c1;
+				c1 = swp;
+			}
+			if (c3 > c2) {
+				int swp = c2;
+				c2 = c3;
+				c3 = swp;
+			}
+			if (c2 > c0) {
+				int swp = c0;
+				c0 = c2;
+				c2 = swp;
+			}
+			if (c3 > c1) {
+				int swp = c1;
+				c1 = c3;
+				c3 = swp;
+			}
+			if (c2 > c1) {
+				int swp = c1;
+				c1 = c2;
+				c2 = swp;
+			}
+		}
+		return source4D.getFromPosition(c0, c1, c2, c3);
+	}
+	
+	private int getFromSource5D(int x, int y) throws Exception {
+		int c0 = offsets[0] + xFactors[0]*x + yFactors[0]*y;
+		int c1 = offsets[1] + xFactors[1]*x + yFactors[1]*y;
+		int c2 = offsets[2] + xFactors[2]*x + yFactors[2]*y;
+		int c3 = offsets[3] + xFactors[3]*x + yFactors[3]*y;
+		int c4 = offsets[4] + xFactors[4]*x + yFactors[4]*y;
+		if (isFolded) {
+			if (c0 < 0) c0 = -c0;
+			if (c1 < 0) c1 = -c1;
+			if (c2 < 0) c2 = -c2;
+			if (c3 < 0) c3 = -c3;
+			if (c4 < 0) c4 = -c4;
+			//sort coordinates in descending order
+			if (c1 > c0) {
+				int swp = c0;
+				c0 = c1;
+				c1 = swp;
+			}
+			if (c4 > c3) {
+				int swp = c3;
+				c3 = c4;
+				c4 = swp;
+			}
+			if (c4 > c2) {
+				int swp = c2;
+				c2 = c4;
+				c4 = swp;
+			}
+			if (c3 > c2) {
+				int swp = c2;
+				c2 = c3;
+				c3 = swp;
+			}
+			if (c4 > c1) {
+				int swp = c1;
+				c1 = c4;
+				c4 = swp;
+			}
+			if (c3 > c0) {
+				int swp = c0;
+				c0 = c3;
+				c3 = swp;
+			}
+			if (c2 > c0) {
+				int swp = c0;
+				c0 = c2;
+				c2 = swp;
+			}
+			if (c3 > c1) {
+				int swp = c1;
+				c1 = c3;
+				c3 = swp;
+			}
+			if (c2 > c1) {
+				int swp = c1;
+				c1 = c2;
+				c2 = swp;
+			}
+		}
+		return source5D.getFromPosition(c0, c1, c2, c3, c4);
+	}
+	
+	@Override
+	public void getRow(int y, int minX, int maxX, int[] values, int offset) throws Exception {
+		getLine(minX, y, 1, 0, maxX - minX + 1, values, offset);
+	}
+	
+	@Override
+	public void getColumn(int x, int minY, int maxY, int[] values, int offset) throws Exception {
+		getLine(x, minY, 0, 1, maxY - minY + 1, values, offset);
+	}
+	
+	/**
+	 * Copies the values of a line of the view. When the source is 4D or 5D, the line is mapped to lines of the source, 
+	 * split wherever the folding pattern changes, which are read in bulk.
+	 */
+	private void getLine(int x, int y, int xStep, int yStep, int length, int[] values, int offset) throws Exception {
+		if (sourceDimension < 4) {
+			for (int end = offset + length; offset != end; offset++, x += xStep, y += yStep) {
+				values[offset] = getFromPosition(x, y);
+			}
+			return;
+		}
+		int[][] buffers = lineBuffers.get();
+		if (buffers == null || buffers[0].length != sourceDimension) {
+			buffers = new int[][] { new int[sourceDimension], new int[sourceDimension] };
+			lineBuffers.set(buffers);
+		}
+		int[] coordinates = buffers[0];
+		int[] steps = buffers[1];
+		while (length != 0) {
+			for (int axis = 0; axis != sourceDimension; axis++) {
+				coordinates[axis] = offsets[axis] + xFactors[axis]*x + yFactors[axis]*y;
+				steps[axis] = xFactors[axis]*xStep + yFactors[axis]*yStep;
+			}
+			int segmentLength = isFolded ? IsotropicHypercubicModel.foldLine(coordinates, steps, length) : length;
+			if (sourceDimension == 4) {
+				source4D.getLine(coordinates[0], coordinates[1], coordinates[2], coordinates[3], 
+						steps[0], steps[1], steps[2], steps[3], segmentLength, values, offset);
+			} else {
+				source5D.getLine(coordinates[0], coordinates[1], coordinates[2], coordinates[3], coordinates[4], 
+						steps[0], steps[1], steps[2], steps[3], steps[4], segmentLength, values, offset);
+			}
+			x += xStep*segmentLength;
+			y += yStep*segmentLength;
+			offset += segmentLength;
+			length -= segmentLength;
+		}
+	}
+
+	@Override
+	public String getXLabel() {
+		return view.getXLabel();
+	}
+
+	@Override
+	public String getYLabel() {
+		return view.getYLabel();
+	}
+
+	@Override
+	public int getMinX() {
+		return minX;
+	}
+
+	@Override
+	public int getMaxX() {
+		return maxX;
+	}
+
+	@Override
+	public int getMinY() {
+		return minY;
+	}
+
+	@Override
+	public int getMaxY() {
+		return maxY;
+	}
+
+	@Override
+	public int getMinX(int y) {
+		return areLocalBoundsCached ? localXMinima[y - minY] : view.getMinX(y);
+	}
+
+	@Override
+	public int getMaxX(int y) {
+		return areLocalBoundsCached ? localXMaxima[y - minY] : view.getMaxX(y);
+	}
+
+	@Override
+	public int getMinY(int x) {
+		return areLocalBoundsCached ? localYMinima[x - minX] : view.getMinY(x);
+	}
+
+	@Override
+	public int getMaxY(int x) {
+		return areLocalBoundsCached ? localYMaxima[x - minX] : view.getMaxY(x);
+	}
+
+	@Override
+	public Boolean nextStep() throws Exception {
+		Boolean changed = view.nextStep();
+		cacheBounds();
+		return changed;
+	}
+
+	@Override
+	public Boolean isChanged() {
+		return view.isChanged();
+	}
+
+	@Override
+	public long getStep() {
+		return view.getStep();
+	}
+
+	@Override
+	public String getName() {
+		return view.getName();
+	}
+
+	@Override
+	public String getSubfolderPath() {
+		return view.getSubfolderPath();
+	}
+
+	@Override
+	public void backUp(String backupPath, String backupName) throws Exception {
+		view.backUp(backupPath, backupName);
+	}
+
+}
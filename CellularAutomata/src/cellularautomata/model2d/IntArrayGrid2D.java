@@ -113,4 +113,18 @@ public class IntArrayGrid2D extends ArrayGrid2D implements IntModel2D, Serializa
 		int j = y - localYMinima[i];
 		return values[i][j];
 	}
+	
+	@Override
+	public void getRow(int y, int minX, int maxX, int[] values, int offset) {
+		for (int i = minX - this.minX, maxI = maxX - this.minX; i <= maxI; i++, offset++) {
+			values[offset] = this.values[i][y - localYMinima[i]];
+		}
+	}
+	
+	@Override
+	public void getColumn(int x, int minY, int maxY, int[] values, int offset) {
+		int i = x - this.minX;
+		System.arraycopy(this.values[i], minY - localYMinima[i], values, offset, maxY - minY + 1);
+	}
+
 }
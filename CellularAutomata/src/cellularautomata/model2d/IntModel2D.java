@@ -19,6 +19,7 @@ package cellularautomata.model2d;
 import java.util.Iterator;
 
 import cellularautomata.Coordinates;
+import cellularautomata.IntTotalConsumer;
 import cellularautomata.PartialCoordinates;
 import cellularautomata.model.IntModel;
 import cellularautomata.numbers.BigInt;
@@ -41,6 +42,40 @@ public interface IntModel2D extends Model2D, IntModel {
 		return getFromPosition(coordinates.get(0), coordinates.get(1));
 	}
 	
+	/**
+	 * <p>Copies the values of the row at y, from minX to maxX both inclusive, into the passed array beginning at the given offset.</p>
+	 * <p>It is not defined to call this method passing coordinates outside the bounds of the region.</p>
+	 * 
+	 * @param y the position on the y-axis
+	 * @param minX the x-coordinate of the first position to copy
+	 * @param maxX the x-coordinate of the last position to copy
+	 * @param values the array to copy the values into
+	 * @param offset the index of values where the value at (minX,y) is copied
+	 * @throws Exception 
+	 */
+	default void getRow(int y, int minX, int maxX, int[] values, int offset) throws Exception {
+		for (int x = minX; x <= maxX; x++, offset++) {
+			values[offset] = getFromPosition(x, y);
+		}
+	}
+	
+	/**
+	 * <p>Copies the values of the column at x, from minY to maxY both inclusive, into the passed array beginning at the given offset.</p>
+	 * <p>It is not defined to call this method passing coordinates outside the bounds of the region.</p>
+	 * 
+	 * @param x the position on the x-axis
+	 * @param minY the y-coordinate of the first position to copy
+	 * @param maxY the y-coordinate of the last position to copy
+	 * @param values the array to copy the values into
+	 * @param offset the index of values where the value at (x,minY) is copied
+	 * @throws Exception 
+	 */
+	default void getColumn(int x, int minY, int maxY, int[] values, int offset) throws Exception {
+		for (int y = minY; y <= maxY; y++, offset++) {
+			values[offset] = getFromPosition(x, y);
+		}
+	}
+	
 	@Override
 	default int[] getMinAndMax() throws Exception {
 		int maxX = getMaxX(), minX = getMinX(), maxY, minY;
@@ -132,16 +167,16 @@ public interface IntModel2D extends Model2D, IntModel {
 	
 	@Override
 	default BigInt getTotal() throws Exception {
-		BigInt total = BigInt.ZERO;
+		IntTotalConsumer total = new IntTotalConsumer();
 		int maxX = getMaxX(), minX = getMinX(), maxY, minY;
 		for (int x = minX; x <= maxX; x++) {
 			minY = getMinY(x);
 			maxY = getMaxY(x);
 			for (int y = minY; y <= maxY; y++) {
-				total = total.add(BigInt.valueOf(getFromPosition(x, y)));
+				total.accept(getFromPosition(x, y));
 			}	
 		}
-		return total;
+		return total.getTotal();
 	}
 	
 	@Override
@@ -26,5 +26,15 @@ public class IntSubModel2D extends SubModel2D<IntModel2D> implements IntModel2D
 	public int getFromPosition(int x, int y) throws Exception {
 		return source.getFromPosition(x, y);
 	}
+	
+	@Override
+	public void getRow(int y, int minX, int maxX, int[] values, int offset) throws Exception {
+		source.getRow(y, minX, maxX, values, offset);
+	}
+	
+	@Override
+	public void getColumn(int x, int minY, int maxY, int[] values, int offset) throws Exception {
+		source.getColumn(x, minY, maxY, values, offset);
+	}
 
 }
@@ -25,5 +25,17 @@ public abstract class IsotropicSquareLongArrayModelAsymmetricSection implements
 	public long getFromPosition(int x, int y) {	
 		return grid[x][y];
 	}
+	
+	@Override
+	public void getRow(int y, int minX, int maxX, long[] values, int offset) {
+		for (int x = minX; x <= maxX; x++, offset++) {
+			values[offset] = grid[x][y];
+		}
+	}
+	
+	@Override
+	public void getColumn(int x, int minY, int maxY, long[] values, int offset) {
+		System.arraycopy(grid[x], minY, values, offset, maxY - minY + 1);
+	}
 
 }
@@ -34,5 +34,60 @@ public class IsotropicSquareLongModel extends IsotropicSquareModel<IsotropicSqua
 		}
 		return value;
 	}
+	
+	@Override
+	public void getRow(int y, int minX, int maxX, long[] values, int offset) throws Exception {
+		if (y < 0) y = -y;
+		if (minX < 0) {
+			//the negative half of the row mirrors the positive one, so it is read backwards and then reversed
+			int negativeMaxX = Math.min(maxX, -1);
+			int length = negativeMaxX - minX + 1;
+			getNonNegativeRow(y, -negativeMaxX, -minX, values, offset);
+			for (int i = offset, j = offset + length - 1; i < j; i++, j--) {
+				long swp = values[i];
+				values[i] = values[j];
+				values[j] = swp;
+			}
+			offset += length;
+			minX = 0;
+		}
+		if (minX <= maxX) {
+			getNonNegativeRow(y, minX, maxX, values, offset);
+		}
+	}
+	
+	private void getNonNegativeRow(int y, int minX, int maxX, long[] values, int offset) throws Exception {
+		if (minX < y) {
+			//positions where x < y are read from the column of the asymmetric section at x = y
+			int columnMaxY = Math.min(maxX, y - 1);
+			asymmetricSection.getColumn(y, minX, columnMaxY, values, offset);
+			offset += columnMaxY - minX + 1;
+			minX = y;
+		}
+		if (minX <= maxX) {
+			asymmetricSection.getRow(y, minX, maxX, values, offset);
+		}
+	}
+	
+	@Override
+	public void getColumn(int x, int minY, int maxY, long[] values, int offset) throws Exception {
+		//the grid is symmetric about the x = y line
+		getRow(x, minY, maxY, values, offset);
+	}
+
+	/*
+	 * The whole grid holds the same values as its asymmetric section, and the parity of x + y 
+	 * is kept by the reflections, so these can be computed on the asymmetric section alone.
+	 */
+	
+	@Override
+	public long[] getMinAndMax() throws Exception {
+		return asymmetricSection.getMinAndMax();
+	}
+	
+	@Override
+	public long[] getEvenOddPositionsMinAndMax(boolean isEven) throws Exception {
+		return asymmetricSection.getEvenOddPositionsMinAndMax(isEven);
+	}
 
 }
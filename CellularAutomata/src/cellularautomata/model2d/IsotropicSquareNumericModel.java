@@ -18,6 +18,8 @@ package cellularautomata.model2d;
 
 import org.apache.commons.math3.FieldElement;
 
+import cellularautomata.MinAndMax;
+
 public class IsotropicSquareNumericModel<Number_Type extends FieldElement<Number_Type> & Comparable<Number_Type>> 
 	extends IsotropicSquareObjectModel<IsotropicSquareNumericModelAsymmetricSection<Number_Type>, Number_Type> implements NumericModel2D<Number_Type> {
 	
@@ -25,4 +27,19 @@ public class IsotropicSquareNumericModel<Number_Type extends FieldElement<Number
 		super(asymmetricSection);
 	}
 
+	/*
+	 * The whole grid holds the same values as its asymmetric section, and the parity of x + y 
+	 * is kept by the reflections, so these can be computed on the asymmetric section alone.
+	 */
+	
+	@Override
+	public MinAndMax<Number_Type> getMinAndMax() throws Exception {
+		return asymmetricSection.getMinAndMax();
+	}
+	
+	@Override
+	public MinAndMax<Number_Type> getEvenOddPositionsMinAndMax(boolean isEven) throws Exception {
+		return asymmetricSection.getEvenOddPositionsMinAndMax(isEven);
+	}
+
 }
@@ -25,5 +25,17 @@ public abstract class IsotropicSquareObjectArrayModelAsymmetricSection<Object_Ty
 	public Object_Type getFromPosition(int x, int y) {	
 		return grid[x][y];
 	}
+	
+	@Override
+	public void getRow(int y, int minX, int maxX, Object_Type[] values, int offset) {
+		for (int x = minX; x <= maxX; x++, offset++) {
+			values[offset] = grid[x][y];
+		}
+	}
+	
+	@Override
+	public void getColumn(int x, int minY, int maxY, Object_Type[] values, int offset) {
+		System.arraycopy(grid[x], minY, values, offset, maxY - minY + 1);
+	}
 
 }
@@ -114,4 +114,17 @@ public class LongArrayGrid2D extends ArrayGrid2D implements LongModel2D, Seriali
 		return values[i][j];
 	}
 	
+	@Override
+	public void getRow(int y, int minX, int maxX, long[] values, int offset) {
+		for (int i = minX - this.minX, maxI = maxX - this.minX; i <= maxI; i++, offset++) {
+			values[offset] = this.values[i][y - localYMinima[i]];
+		}
+	}
+	
+	@Override
+	public void getColumn(int x, int minY, int maxY, long[] values, int offset) {
+		int i = x - this.minX;
+		System.arraycopy(this.values[i], minY - localYMinima[i], values, offset, maxY - minY + 1);
+	}
+
 }
@@ -27,6 +27,16 @@ public class LongSubModel2D extends SubModel2D<LongModel2D> implements LongModel
 		return source.getFromPosition(x, y);
 	}
 	
+	@Override
+	public void getRow(int y, int minX, int maxX, long[] values, int offset) throws Exception {
+		source.getRow(y, minX, maxX, values, offset);
+	}
+	
+	@Override
+	public void getColumn(int x, int minY, int maxY, long[] values, int offset) throws Exception {
+		source.getColumn(x, minY, maxY, values, offset);
+	}
+	
 	@Override
 	public LongModel2D subsection(Integer minX, Integer maxX, Integer minY, Integer maxY) {
 		return source.subsection(minX, maxX, minY, maxY);
@@ -113,4 +113,18 @@ public class ObjectArrayGrid2D<Object_Type> extends ArrayGrid2D implements Objec
 		int j = y - localYMinima[i];
 		return values[i][j];
 	}
+	
+	@Override
+	public void getRow(int y, int minX, int maxX, Object_Type[] values, int offset) {
+		for (int i = minX - this.minX, maxI = maxX - this.minX; i <= maxI; i++, offset++) {
+			values[offset] = this.values[i][y - localYMinima[i]];
+		}
+	}
+	
+	@Override
+	public void getColumn(int x, int minY, int maxY, Object_Type[] values, int offset) {
+		int i = x - this.minX;
+		System.arraycopy(this.values[i], minY - localYMinima[i], values, offset, maxY - minY + 1);
+	}
+
 }
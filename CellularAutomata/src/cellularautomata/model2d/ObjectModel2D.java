@@ -40,6 +40,40 @@ public interface ObjectModel2D<Object_Type> extends Model2D, ObjectModel<Object_
 		return getFromPosition(coordinates.get(0), coordinates.get(1));
 	}
 	
+	/**
+	 * <p>Copies the values of the row at y, from minX to maxX both inclusive, into the passed array beginning at the given offset.</p>
+	 * <p>It is not defined to call this method passing coordinates outside the bounds of the region.</p>
+	 * 
+	 * @param y the position on the y-axis
+	 * @param minX the x-coordinate of the first position to copy
+	 * @param maxX the x-coordinate of the last position to copy
+	 * @param values the array to copy the values into
+	 * @param offset the index of values where the value at (minX,y) is copied
+	 * @throws Exception 
+	 */
+	default void getRow(int y, int minX, int maxX, Object_Type[] values, int offset) throws Exception {
+		for (int x = minX; x <= maxX; x++, offset++) {
+			values[offset] = getFromPosition(x, y);
+		}
+	}
+	
+	/**
+	 * <p>Copies the values of the column at x, from minY to maxY both inclusive, into the passed array beginning at the given offset.</p>
+	 * <p>It is not defined to call this method passing coordinates outside the bounds of the region.</p>
+	 * 
+	 * @param x the position on the x-axis
+	 * @param minY the y-coordinate of the first position to copy
+	 * @param maxY the y-coordinate of the last position to copy
+	 * @param values the array to copy the values into
+	 * @param offset the index of values where the value at (x,minY) is copied
+	 * @throws Exception 
+	 */
+	default void getColumn(int x, int minY, int maxY, Object_Type[] values, int offset) throws Exception {
+		for (int y = minY; y <= maxY; y++, offset++) {
+			values[offset] = getFromPosition(x, y);
+		}
+	}
+	
 	@SuppressWarnings("unchecked")
 	@Override
 	default ObjectModel2D<Object_Type> subsection(PartialCoordinates minCoordinates, PartialCoordinates maxCoordinates) {
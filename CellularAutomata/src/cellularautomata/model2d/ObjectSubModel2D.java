@@ -26,5 +26,15 @@ public class ObjectSubModel2D<Source_Type extends ObjectModel2D<Object_Type>, Ob
 	public Object_Type getFromPosition(int x, int y) throws Exception {
 		return source.getFromPosition(x, y);
 	}
+	
+	@Override
+	public void getRow(int y, int minX, int maxX, Object_Type[] values, int offset) throws Exception {
+		source.getRow(y, minX, maxX, values, offset);
+	}
+	
+	@Override
+	public void getColumn(int x, int minY, int maxY, Object_Type[] values, int offset) throws Exception {
+		source.getColumn(x, minY, maxY, values, offset);
+	}
 
 }
@@ -28,5 +28,19 @@ public class BooleanModel3DYCrossSection extends Model3DYCrossSection<BooleanMod
 	public boolean getFromPosition(int x, int y) throws Exception {
 		return source.getFromPosition(x, this.y, y);
 	}
+	
+	@Override
+	public void getRow(int y, int minX, int maxX, boolean[] values, int offset) throws Exception {
+		for (int x = minX; x <= maxX; x++, offset++) {
+			values[offset] = source.getFromPosition(x, this.y, y);
+		}
+	}
+	
+	@Override
+	public void getColumn(int x, int minY, int maxY, boolean[] values, int offset) throws Exception {
+		for (int y = minY; y <= maxY; y++, offset++) {
+			values[offset] = source.getFromPosition(x, this.y, y);
+		}
+	}
 
 }
@@ -0,0 +1,432 @@
+/* Aether2DImgMaker -- console app to generate images of the Aether cellular automaton in 2D
+    Copyright (C) 2017-2025 Jaume Ribas
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package cellularautomata.model3d;
+
+import cellularautomata.model.IntModel;
+import cellularautomata.model2d.IntModel2D;
+import cellularautomata.model4d.IntModel4D;
+import cellularautomata.model5d.IntModel5D;
+
+/**
+ * A 3D view of a {@link IntModel} of dimension 2 to 5, resulting from a chain of cross sections, diagonal cross sections and subsections, 
+ * whose positions map to positions of the source through a single affine mapping. 
+ * Each value is read straight from the source instead of through every link of the chain. 
+ * If the source is the asymmetric section of an isotropic model, the mapped coordinates are folded into it by taking 
+ * their absolute values and sorting them in descending order.
+ * The bounds, stepping and naming are those of the chain itself.
+ * 
+ * @author Jaume
+ *
+ */
+public class IntAffineView3D implements IntModel3D {
+
+	/** The chained view whose values are mapped */
+	protected final IntModel3D view;
+	protected final int sourceDimension;
+	protected final boolean isFolded;
+	private IntModel2D source2D;
+	private IntModel3D source3D;
+	private IntModel4D source4D;
+	private IntModel5D source5D;
+	private final int[] offsets;
+	private final int[] xFactors;
+	private final int[] yFactors;
+	private final int[] zFactors;
+	
+	/**
+	 * Constructs a {@code IntAffineView3D} where the coordinate along each axis of the source is either a constant 
+	 * or the coordinate along an axis of the view times a slope of 1 or -1, plus an offset.
+	 * 
+	 * @param view the chained view
+	 * @param source the model the chain starts from, or its asymmetric section if it is isotropic
+	 * @param isFolded whether the source is the asymmetric section of the model the chain starts from
+	 * @param viewAxes the axis of the view that each axis of the source depends on, or -1 if it is constant
+	 * @param slopes the slope of each axis of the source relative to its axis of the view
+	 * @param offsets the offset, or the constant coordinate, of each axis of the source
+	 */
+	public IntAffineView3D(IntModel3D view, IntModel source, boolean isFolded, int[] viewAxes, int[] slopes, int[] offsets) {
+		sourceDimension = source.getGridDimension();
+		switch (sourceDimension) {
+			case 2:
+				source2D = (IntModel2D) source;
+				break;
+			case 3:
+				source3D = (IntModel3D) source;
+				break;
+			case 4:
+				source4D = (IntModel4D) source;
+				break;
+			case 5:
+				source5D = (IntModel5D) source;
+				break;
+			default:
+				throw new IllegalArgumentException("The dimension of the source must be between 2 and 5. Got " + sourceDimension + ".");
+		}
+		if (view.getGridDimension() != 3 || viewAxes.length != sourceDimension || slopes.length != sourceDimension || offsets.length != sourceDimension) {
+			throw new IllegalArgumentException("The mapping does not match the dimensions of the view and the source.");
+		}
+		this.view = view;
+		this.isFolded = isFolded;
+		this.offsets = offsets.clone();
+		xFactors = new int[sourceDimension];
+		yFactors = new int[sourceDimension];
+		zFactors = new int[sourceDimension];
+		for (int axis = 0; axis != sourceDimension; axis++) {
+			switch (viewAxes[axis]) {
+				case 0:
+					xFactors[axis] = slopes[axis];
+					break;
+				case 1:
+					yFactors[axis] = slopes[axis];
+					break;
+				case 2:
+					zFactors[axis] = slopes[axis];
+					break;
+				case -1:
+					break;
+				default:
+					throw new IllegalArgumentException("Axis " + viewAxes[axis] + " is not an axis of the view.");
+			}
+		}
+	}
+
+	@Override
+	public int getFromPosition(int x, int y, int z) throws Exception {
+		switch (sourceDimension) {
+			case 2:
+				return getFromSource2D(x, y, z);
+			case 3:
+				return getFromSource3D(x, y, z);
+			case 4:
+				return getFromSource4D(x, y, z);
+			default:
+				return getFromSource5D(x, y, z);
+		}
+	}
+	
+	private int getFromSource2D(int x, int y, int z) throws Exception {
+		int c0 = offsets[0] + xFactors[0]*x + yFactors[0]*y + zFactors[0]*z;
+		int c1 = offsets[1] + xFactors[1]*x + yFactors[1]*y + zFactors[1]*z;
+		if (isFolded) {
+			if (c0 < 0) c0 = -c0;
+			if (c1 < 0) c1 = -c1;
+			//sort coordinates in descending order
+			if (c1 > c0) {
+				int swp = c0;
+				c0 = c1;
+				c1 = swp;
+			}
+		}
+		return source2D.getFromPosition(c0, c1);
+	}
+	
+	private int getFromSource3D(int x, int y, int z) throws Exception {
+		int c0 = offsets[0] + xFactors[0]*x + yFactors[0]*y + zFactors[0]*z;
+		int c1 = offsets[1] + xFactors[1]*x + yFactors[1]*y + zFactors[1]*z;
+		int c2 = offsets[2] + xFactors[2]*x + yFactors[2]*y + zFactors[2]*z;
+		if (isFolded) {
+			if (c0 < 0) c0 = -c0;
+			if (c1 < 0) c1 = -c1;
+			if (c2 < 0) c2 = -c2;
+			//sort coordinates in descending order
+			if (c1 > c0) {
+				int swp = c0;
+				c0 = c1;
+				c1 = swp;
+			}
+			if (c2 > c1) {
+				int swp = c1;
+				c1 = c2;
+				c2 = swp;
+			}
+			if (c1 > c0) {
+				int swp = c0;
+				c0 = c1;
+				c1 = swp;
+			}
+		}
+		return source3D.getFromPosition(c0, c1, c2);
+	}
+	
+	private int getFromSource4D(int x, int y, int z) throws Exception {
+		int c0 = offsets[0] + xFactors[0]*x + yFactors[0]*y + zFactors[0]*z;
+		int c1 = offsets[1] + xFactors[1]*x + yFactors[1]*y + zFactors[1]*z;
+		int c2 = offsets[2] + xFactors[2]*x + yFactors[2]*y + zFactors[2]*z;
+		int c3 = offsets[3] + xFactors[3]*x + yFactors[3]*y + zFactors[3]*z;
+		if (isFolded) {
+			if (c0 < 0) c0 = -c0;
+			if (c1 < 0) c1 = -c1;
+			if (c2 < 0) c2 = -c2;
+			if (c3 < 0) c3 = -c3;
+			//sort coordinates in descending order
+			if (c1 > c0) {
+				int swp = c0;
+				c0 = c1;
+				c1 = swp;
+			}
+			if (c3 > c2) {
+				int swp = c2;
+				c2 = c3;
+				c3 = swp;
+			}
+			if (c2 > c0) {
+				int swp = c0;
+				c0 = c2;
+				c2 = swp;
+			}
+			if (c3 > c1) {
+				int swp = c1;
+				c1 = c3;
+				c3 = swp;
+			}
+			if (c2 > c1) {
+				int swp = c1;
+				c1 = c2;
+				c2 = swp;
+			}
+		}
+		return source4D.getFromPosition(c0, c1, c2, c3);
+	}
+	
+	private int getFromSource5D(int x, int y, int z) throws Exception {
+		int c0 = offsets[0] + xFactors[0]*x + yFactors[0]*y + zFactors[0]*z;
+		int c1 = offsets[1] + xFactors[1]*x + yFactors[1]*y + zFactors[1]*z;
+		int c2 = offsets[2] + xFactors[2]*x + yFactors[2]*y + zFactors[2]*z;
+		int c3 = offsets[3] + xFactors[3]*x + yFactors[3]*y + zFactors[3]*z;
+		int c4 = offsets[4] + xFactors[4]*x + yFactors[4]*y + zFactors[4]*z;
+		if (isFolded) {
+			if (c0 < 0) c0 = -c0;
+			if (c1 < 0) c1 = -c1;
+			if (c2 < 0) c2 = -c2;
+			if (c3 < 0) c3 = -c3;
+			if (c4 < 0) c4 = -c4;
+			//sort coordinates in descending order
+			if (c1 > c0) {
+				int swp = c0;
+				c0 = c1;
+				c1 = swp;
+			}
+			if (c4 > c3) {
+				int swp = c3;
+				c3 = c4;
+				c4 = swp;
+			}
+			if (c4 > c2) {
+				int swp = c2;
+				c2 = c4;
+				c4 = swp;
+			}
+			if (c3 > c2) {
+				int swp = c2;
+				c2 = c3;
+				c3 = swp;
+			}
+			if (c4 > c1) {
+				int swp = c1;
+				c1 = c4;
+				c4 = swp;
+			}
+			if (c3 > c0) {
+				int swp = c0;
+				c0 = c3;
+				c3 = swp;
+			}
+			if (c2 > c0) {
+				int swp = c0;
+				c0 = c2;
+				c2 = swp;
+			}
+			if (c3 > c1) {
+				int swp = c1;
+				c1 = c3;
+				c3 = swp;
+			}
+			if (c2 > c1) {
+				int swp = c1;
+				c1 = c2;
+				c2 = swp;
+			}
+		}
+		return source5D.getFromPosition(c0, c1, c2, c3, c4);
+	}
+
+	@Override
+	public String getXLabel() {
+		return view.getXLabel();
+	}
+
+	@Override
+	public String getYLabel() {
+		return view.getYLabel();
+	}
+
+	@Override
+	public String getZLabel() {
+		return view.getZLabel();
+	}
+
+	@Override
+	public int getMinX() {
+		return view.getMinX();
+	}
+
+	@Override
+	public int getMinXAtY(int y) {
+		return view.getMinXAtY(y);
+	}
+
+	@Override
+	public int getMinXAtZ(int z) {
+		return view.getMinXAtZ(z);
+	}
+
+	@Override
+	public int getMinX(int y, int z) {
+		return view.getMinX(y, z);
+	}
+
+	@Override
+	public int getMaxX() {
+		return view.getMaxX();
+	}
+
+	@Override
+	public int getMaxXAtY(int y) {
+		return view.getMaxXAtY(y);
+	}
+
+	@Override
+	public int getMaxXAtZ(int z) {
+		return view.getMaxXAtZ(z);
+	}
+
+	@Override
+	public int getMaxX(int y, int z) {
+		return view.getMaxX(y, z);
+	}
+
+	@Override
+	public int getMinY() {
+		return view.getMinY();
+	}
+
+	@Override
+	public int getMinYAtX(int x) {
+		return view.getMinYAtX(x);
+	}
+
+	@Override
+	public int getMinYAtZ(int z) {
+		return view.getMinYAtZ(z);
+	}
+
+	@Override
+	public int getMinY(int x, int z) {
+		return view.getMinY(x, z);
+	}
+
+	@Override
+	public int getMaxY() {
+		return view.getMaxY();
+	}
+
+	@Override
+	public int getMaxYAtX(int x) {
+		return view.getMaxYAtX(x);
+	}
+
+	@Override
+	public int getMaxYAtZ(int z) {
+		return view.getMaxYAtZ(z);
+	}
+
+	@Override
+	public int getMaxY(int x, int z) {
+		return view.getMaxY(x, z);
+	}
+
+	@Override
+	public int getMinZ() {
+		return view.getMinZ();
+	}
+
+	@Override
+	public int getMinZAtX(int x) {
+		return view.getMinZAtX(x);
+	}
+
+	@Override
+	public int getMinZAtY(int y) {
+		return view.getMinZAtY(y);
+	}
+
+	@Override
+	public int getMinZ(int x, int y) {
+		return view.getMinZ(x, y);
+	}
+
+	@Override
+	public int getMaxZ() {
+		return view.getMaxZ();
+	}
+
+	@Override
+	public int getMaxZAtX(int x) {
+		return view.getMaxZAtX(x);
+	}
+
+	@Override
+	public int getMaxZAtY(int y) {
+		return view.getMaxZAtY(y);
+	}
+
+	@Override
+	public int getMaxZ(int x, int y) {
+		return view.getMaxZ(x, y);
+	}
+
+	@Override
+	public Boolean nextStep() throws Exception {
+		return view.nextStep();
+	}
+
+	@Override
+	public Boolean isChanged() {
+		return view.isChanged();
+	}
+
+	@Override
+	public long getStep() {
+		return view.getStep();
+	}
+
+	@Override
+	public String getName() {
+		return view.getName();
+	}
+
+	@Override
+	public String getSubfolderPath() {
+		return view.getSubfolderPath();
+	}
+
+	@Override
+	public void backUp(String backupPath, String backupName) throws Exception {
+		view.backUp(backupPath, backupName);
+	}
+
+}
@@ -19,6 +19,7 @@ package cellularautomata.model3d;
 import java.util.Iterator;
 
 import cellularautomata.Coordinates;
+import cellularautomata.IntTotalConsumer;
 import cellularautomata.PartialCoordinates;
 import cellularautomata.model.IntModel;
 import cellularautomata.model2d.IntModel2D;
@@ -95,7 +96,7 @@ public interface IntModel3D extends Model3D, IntModel {
 	
 	@Override
 	default BigInt getTotal() throws Exception {
-		BigInt total = BigInt.ZERO;
+		IntTotalConsumer total = new IntTotalConsumer();
 		int maxX = getMaxX(), minX = getMinX(), maxY, minY, maxZ, minZ;
 		for (int x = minX; x <= maxX; x++) {
 			minY = getMinYAtX(x);
@@ -104,11 +105,11 @@ public interface IntModel3D extends Model3D, IntModel {
 				minZ = getMinZ(x, y);
 				maxZ = getMaxZ(x, y);
 				for (int z = minZ; z <= maxZ; z++) {
-					total = total.add(BigInt.valueOf(getFromPosition(x, y, z)));
+					total.accept(getFromPosition(x, y, z));
 				}
 			}
 		}
-		return total;
+		return total.getTotal();
 	}
 	
 	@Override
@@ -28,5 +28,19 @@ public class IntModel3DZCrossSection extends Model3DZCrossSection<IntModel3D> im
 	public int getFromPosition(int x, int y) throws Exception {
 		return source.getFromPosition(x, y, z);
 	}
+	
+	@Override
+	public void getRow(int y, int minX, int maxX, int[] values, int offset) throws Exception {
+		for (int x = minX; x <= maxX; x++, offset++) {
+			values[offset] = source.getFromPosition(x, y, z);
+		}
+	}
+	
+	@Override
+	public void getColumn(int x, int minY, int maxY, int[] values, int offset) throws Exception {
+		for (int y = minY; y <= maxY; y++, offset++) {
+			values[offset] = source.getFromPosition(x, y, z);
+		}
+	}
 
 }
@@ -28,5 +28,19 @@ public class LongModel3DYCrossSection extends Model3DYCrossSection<LongModel3D>
 	public long getFromPosition(int x, int y) throws Exception {
 		return source.getFromPosition(x, this.y, y);
 	}
+	
+	@Override
+	public void getRow(int y, int minX, int maxX, long[] values, int offset) throws Exception {
+		for (int x = minX; x <= maxX; x++, offset++) {
+			values[offset] = source.getFromPosition(x, this.y, y);
+		}
+	}
+	
+	@Override
+	public void getColumn(int x, int minY, int maxY, long[] values, int offset) throws Exception {
+		for (int y = minY; y <= maxY; y++, offset++) {
+			values[offset] = source.getFromPosition(x, this.y, y);
+		}
+	}
 
 }
@@ -28,5 +28,19 @@ public class ObjectModel3DZCrossSection<Source_Type extends ObjectModel3D<Object
 	public Object_Type getFromPosition(int x, int y) throws Exception {
 		return source.getFromPosition(x, y, z);
 	}
+	
+	@Override
+	public void getRow(int y, int minX, int maxX, Object_Type[] values, int offset) throws Exception {
+		for (int x = minX; x <= maxX; x++, offset++) {
+			values[offset] = source.getFromPosition(x, y, z);
+		}
+	}
+	
+	@Override
+	public void getColumn(int x, int minY, int maxY, Object_Type[] values, int offset) throws Exception {
+		for (int y = minY; y <= maxY; y++, offset++) {
+			values[offset] = source.getFromPosition(x, y, z);
+		}
+	}
 
 }
@@ -19,6 +19,7 @@ package cellularautomata.model4d;
 import java.util.Iterator;
 
 import cellularautomata.Coordinates;
+import cellularautomata.IntTotalConsumer;
 import cellularautomata.PartialCoordinates;
 import cellularautomata.model.IntModel;
 import cellularautomata.model3d.IntModel3D;
@@ -43,6 +44,34 @@ public interface IntModel4D extends Model4D, IntModel {
 	default int getFromPosition(Coordinates coordinates) throws Exception {
 		return getFromPosition(coordinates.get(0), coordinates.get(1), coordinates.get(2), coordinates.get(3));
 	}
+	
+	/**
+	 * <p>Copies the values of a line of positions into the passed array beginning at the given offset. 
+	 * The line starts at (w,x,y,z) and each following position is reached by adding the given steps to the coordinates of the previous one.</p>
+	 * <p>It is not defined to call this method passing a line that goes outside the bounds of the region.</p>
+	 * 
+	 * @param w the position on the w-axis of the first position to copy
+	 * @param x the position on the x-axis of the first position to copy
+	 * @param y the position on the y-axis of the first position to copy
+	 * @param z the position on the z-axis of the first position to copy
+	 * @param wStep the increment of the w-coordinate between consecutive positions
+	 * @param xStep the increment of the x-coordinate between consecutive positions
+	 * @param yStep the increment of the y-coordinate between consecutive positions
+	 * @param zStep the increment of the z-coordinate between consecutive positions
+	 * @param length the number of positions to copy
+	 * @param values the array to copy the values into
+	 * @param offset the index of values where the value at (w,x,y,z) is copied
+	 * @throws Exception 
+	 */
+	default void getLine(int w, int x, int y, int z, int wStep, int xStep, int yStep, int zStep, int length, int[] values, int offset) throws Exception {
+		for (int end = offset + length; offset != end; offset++) {
+			values[offset] = getFromPosition(w, x, y, z);
+			w += wStep;
+			x += xStep;
+			y += yStep;
+			z += zStep;
+		}
+	}
 
 	@Override
 	default int[] getMinAndMax() throws Exception {
@@ -104,7 +133,7 @@ public interface IntModel4D extends Model4D, IntModel {
 
 	@Override
 	default BigInt getTotal() throws Exception {
-		BigInt total = BigInt.ZERO;
+		IntTotalConsumer total = new IntTotalConsumer();
 		int maxW = getMaxW(), minW = getMinW(), maxX, minX, maxY, minY, maxZ, minZ;
 		for (int w = minW; w <= maxW; w++) {
 			minX = getMinXAtW(w);
@@ -116,12 +145,12 @@ public interface IntModel4D extends Model4D, IntModel {
 					minZ = getMinZ(w, x, y);
 					maxZ = getMaxZ(w, x, y);
 					for (int z = minZ; z <= maxZ; z++) {
-						total = total.add(BigInt.valueOf(getFromPosition(w, x, y, z)));
+						total.accept(getFromPosition(w, x, y, z));
 					}
 				}
 			}
 		}
-		return total;
+		return total.getTotal();
 	}
 	
 	@Override
@@ -25,5 +25,28 @@ public abstract class IsotropicHypercubicIntArrayModelAsymmetricSection4D implem
 	public int getFromPosition(int w, int x, int y, int z) {	
 		return grid[w][x][y][z];
 	}
+	
+	@Override
+	public void getLine(int w, int x, int y, int z, int wStep, int xStep, int yStep, int zStep, int length, int[] values, int offset) {
+		if (wStep == 0 && xStep == 0 && yStep == 0) {
+			//the line runs along the innermost arrays
+			int[] line = grid[w][x][y];
+			if (zStep == 1) {
+				System.arraycopy(line, z, values, offset, length);
+			} else {
+				for (int end = offset + length; offset != end; offset++, z += zStep) {
+					values[offset] = line[z];
+				}
+			}
+		} else {
+			for (int end = offset + length; offset != end; offset++) {
+				values[offset] = grid[w][x][y][z];
+				w += wStep;
+				x += xStep;
+				y += yStep;
+				z += zStep;
+			}
+		}
+	}
 
 }
@@ -28,30 +28,32 @@ public class IsotropicHypercubicLongModel4D extends IsotropicHypercubicModel4D<I
 		if (x < 0) x = -x;
 		if (y < 0) y = -y;
 		if (z < 0) z = -z;
-		//sort coordinates
-		//TODO faster sorting?
-		boolean sorted;
-		do {
-			sorted = true;
-			if (z > y) {
-				sorted = false;
-				int swp = z;
-				z = y;
-				y = swp;
-			}
-			if (y > x) {
-				sorted = false;
-				int swp = y;
-				y = x;
-				x = swp;
-			}
-			if (x > w) {
-				sorted = false;
-				int swp = x;
-				x = w;
-				w = swp;
-			}
-		} while (!sorted);
+		//sort coordinates in descending order using a sorting network
+		if (x > w) {
+			int swp = w;
+			w = x;
+			x = swp;
+		}
+		if (z > y) {
+			int swp = y;
+			y = z;
+			z = swp;
+		}
+		if (y > w) {
+			int swp = w;
+			w = y;
+			y = swp;
+		}
+		if (z > x) {
+			int swp = x;
+			x = z;
+			z = swp;
+		}
+		if (y > x) {
+			int swp = x;
+			x = y;
+			y = swp;
+		}
 		return asymmetricSection.getFromPosition(w, x, y, z);
 	}
 
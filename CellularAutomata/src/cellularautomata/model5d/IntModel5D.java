@@ -19,6 +19,7 @@ package cellularautomata.model5d;
 import java.util.Iterator;
 
 import cellularautomata.Coordinates;
+import cellularautomata.IntTotalConsumer;
 import cellularautomata.PartialCoordinates;
 import cellularautomata.model.IntModel;
 import cellularautomata.model4d.IntModel4D;
@@ -44,6 +45,37 @@ public interface IntModel5D extends Model5D, IntModel {
 	default int getFromPosition(Coordinates coordinates) throws Exception {
 		return getFromPosition(coordinates.get(0), coordinates.get(1), coordinates.get(2), coordinates.get(3), coordinates.get(4));
 	}
+	
+	/**
+	 * <p>Copies the values of a line of positions into the passed array beginning at the given offset. 
+	 * The line starts at (v,w,x,y,z) and each following position is reached by adding the given steps to the coordinates of the previous one.</p>
+	 * <p>It is not defined to call this method passing a line that goes outside the bounds of the region.</p>
+	 * 
+	 * @param v the position on the v-axis of the first position to copy
+	 * @param w the position on the w-axis of the first position to copy
+	 * @param x the position on the x-axis of the first position to copy
+	 * @param y the position on the y-axis of the first position to copy
+	 * @param z the position on the z-axis of the first position to copy
+	 * @param vStep the increment of the v-coordinate between consecutive positions
+	 * @param wStep the increment of the w-coordinate between consecutive positions
+	 * @param xStep the increment of the x-coordinate between consecutive positions
+	 * @param yStep the increment of the y-coordinate between consecutive positions
+	 * @param zStep the increment of the z-coordinate between consecutive positions
+	 * @param length the number of positions to copy
+	 * @param values the array to copy the values into
+	 * @param offset the index of values where the value at (v,w,x,y,z) is copied
+	 * @throws Exception 
+	 */
+	default void getLine(int v, int w, int x, int y, int z, int vStep, int wStep, int xStep, int yStep, int zStep, int length, int[] values, int offset) throws Exception {
+		for (int end = offset + length; offset != end; offset++) {
+			values[offset] = getFromPosition(v, w, x, y, z);
+			v += vStep;
+			w += wStep;
+			x += xStep;
+			y += yStep;
+			z += zStep;
+		}
+	}
 
 	@Override
 	default int[] getMinAndMax() throws Exception {
@@ -113,7 +145,7 @@ public interface IntModel5D extends Model5D, IntModel {
 	
 	@Override
 	default BigInt getTotal() throws Exception {
-		BigInt total = BigInt.ZERO;
+		IntTotalConsumer total = new IntTotalConsumer();
 		int maxV = getMaxV(), minV = getMinV(), maxW, minW, maxX, minX, maxY, minY, maxZ, minZ;
 		for (int v = minV; v <= maxV; v++) {
 			minW = getMinWAtV(v);
@@ -128,13 +160,13 @@ public interface IntModel5D extends Model5D, IntModel {
 						minZ = getMinZ(v, w, x, y);
 						maxZ = getMaxZ(v, w, x, y);
 						for (int z = minZ; z <= maxZ; z++) {
-							total = total.add(BigInt.valueOf(getFromPosition(v, w, x, y, z)));
+							total.accept(getFromPosition(v, w, x, y, z));
 						}
 					}
 				}
 			}
 		}
-		return total;
+		return total.getTotal();
 	}
 	
 	@Override
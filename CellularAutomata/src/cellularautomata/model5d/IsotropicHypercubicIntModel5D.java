@@ -29,36 +29,52 @@ public class IsotropicHypercubicIntModel5D extends IsotropicHypercubicModel5D<Is
 		if (x < 0) x = -x;
 		if (y < 0) y = -y;
 		if (z < 0) z = -z;
-		//sort coordinates
-		//TODO faster sorting?
-		boolean sorted;
-		do {
-			sorted = true;
-			if (z > y) {
-				sorted = false;
-				int swp = z;
-				z = y;
-				y = swp;
-			}
-			if (y > x) {
-				sorted = false;
-				int swp = y;
-				y = x;
-				x = swp;
-			}
-			if (x > w) {
-				sorted = false;
-				int swp = x;
-				x = w;
-				w = swp;
-			}
-			if (w > v) {
-				sorted = false;
-				int swp = w;
-				w = v;
-				v = swp;
-			}
-		} while (!sorted);
+		//sort coordinates in descending order using a sorting network
+		if (w > v) {
+			int swp = v;
+			v = w;
+			w = swp;
+		}
+		if (z > y) {
+			int swp = y;
+			y = z;
+			z = swp;
+		}
+		if (z > x) {
+			int swp = x;
+			x = z;
+			z = swp;
+		}
+		if (y > x) {
+			int swp = x;
+			x = y;
+			y = swp;
+		}
+		if (z > w) {
+			int swp = w;
+			w = z;
+			z = swp;
+		}
+		if (y > v) {
+			int swp = v;
+			v = y;
+			y = swp;
+		}
+		if (x > v) {
+			int swp = v;
+			v = x;
+			x = swp;
+		}
+		if (y > w) {
+			int swp = w;
+			w = y;
+			y = swp;
+		}
+		if (x > w) {
+			int swp = w;
+			w = x;
+			x = swp;
+		}
 		return asymmetricSection.getFromPosition(v, w, x, y, z);
 	}
 
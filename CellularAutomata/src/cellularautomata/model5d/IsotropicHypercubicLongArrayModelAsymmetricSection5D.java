@@ -25,5 +25,29 @@ public abstract class IsotropicHypercubicLongArrayModelAsymmetricSection5D imple
 	public long getFromPosition(int v, int w, int x, int y, int z) {	
 		return grid[v][w][x][y][z];
 	}
+	
+	@Override
+	public void getLine(int v, int w, int x, int y, int z, int vStep, int wStep, int xStep, int yStep, int zStep, int length, long[] values, int offset) {
+		if (vStep == 0 && wStep == 0 && xStep == 0 && yStep == 0) {
+			//the line runs along the innermost arrays
+			long[] line = grid[v][w][x][y];
+			if (zStep == 1) {
+				System.arraycopy(line, z, values, offset, length);
+			} else {
+				for (int end = offset + length; offset != end; offset++, z += zStep) {
+					values[offset] = line[z];
+				}
+			}
+		} else {
+			for (int end = offset + length; offset != end; offset++) {
+				values[offset] = grid[v][w][x][y][z];
+				v += vStep;
+				w += wStep;
+				x += xStep;
+				y += yStep;
+				z += zStep;
+			}
+		}
+	}
 
 }
@@ -24,44 +24,104 @@ import org.apache.commons.math3.FieldElement;
 import org.apache.commons.math3.exception.MathArithmeticException;
 import org.apache.commons.math3.exception.NullArgumentException;
 
+/**
+ * An arbitrary-precision integer that keeps its value in a primitive {@code long} while it fits in one,
+ * and only uses a {@link BigInteger} for the values that don't. The operations between values that fit in a {@code long}
+ * are done with {@code Math.*Exact} methods, falling back to {@link BigInteger} when they overflow.
+ * Since most of the values of a model tend to be small, this avoids most of the {@link BigInteger} allocations and arithmetic.
+ * 
+ * @author Jaume
+ *
+ */
 public class BigInt extends Number implements FieldElement<BigInt>, Comparable<BigInt> {
 	
+	/** The value if it doesn't fit in a long, otherwise null */
 	private final BigInteger value;
+	/** The value if it fits in a long */
+	private final long smallValue;
 
 	/**
 	 * 
 	 */
 	private static final long serialVersionUID = -3805431693787503905L;
 
-	public static final BigInt ZERO = new BigInt(BigInteger.ZERO);
-	public static final BigInt ONE = new BigInt(BigInteger.ONE);
+	private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+	private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+	private static final int CACHE_LOW = -128;
+	private static final int CACHE_HIGH = 1024;
+	private static final BigInt[] CACHE = new BigInt[CACHE_HIGH - CACHE_LOW + 1];
+	
+	static {
+		for (int i = 0; i < CACHE.length; i++) {
+			CACHE[i] = new BigInt(i + CACHE_LOW);
+		}
+	}
+
+	public static final BigInt ZERO = valueOf(0);
+	public static final BigInt ONE = valueOf(1);
+
+	private BigInt(long val) {
+		value = null;
+		smallValue = val;
+	}
 
 	public BigInt(BigInteger val) {
-		value = val;
+		if (fitsInLong(val)) {
+			value = null;
+			smallValue = val.longValue();
+		} else {
+			value = val;
+			smallValue = 0;
+		}
 	}
 	
 	public BigInt(byte[] val) {
-		value = new BigInteger(val);
+		this(new BigInteger(val));
 	}
 
 	public BigInt(int signum, byte[] magnitude) {
-		value = new BigInteger(signum, magnitude);
+		this(new BigInteger(signum, magnitude));
 	}
 
 	public BigInt(int bitLength, int certainty, Random rnd) {
-		value = new BigInteger(bitLength, certainty, rnd);
+		this(new BigInteger(bitLength, certainty, rnd));
 	}
 
 	public BigInt(int numBits, Random rnd) {
-		value = new BigInteger(numBits, rnd);
+		this(new BigInteger(numBits, rnd));
 	}
 
 	public BigInt(String val) {
-		value = new BigInteger(val);
+		this(new BigInteger(val));
 	}
 
 	public BigInt(String val, int radix) {
-		value = new BigInteger(val, radix);
+		this(new BigInteger(val, radix));
+	}
+	
+	/**
+	 * Backups saved before the long representation existed only have the {@link BigInteger} value, 
+	 * so the deserialized instances are replaced by ones with the right representation.
+	 * 
+	 * @return the instance to use instead of the deserialized one
+	 */
+	private Object readResolve() {
+		if (value == null) {
+			return valueOf(smallValue);
+		}
+		return fitsInLong(value) ? valueOf(value.longValue()) : this;
+	}
+	
+	/**
+	 * Checks whether a {@link BigInteger} fits in a long by comparing it with the long bounds.
+	 * Unlike {@link BigInteger#bitLength()}, this only looks at the sign and the magnitude length of values much bigger than a long.
+	 * 
+	 * @param val the value to check
+	 * @return whether the value fits in a long
+	 */
+	private static boolean fitsInLong(BigInteger val) {
+		return val.compareTo(LONG_MIN) >= 0 && val.compareTo(LONG_MAX) <= 0;
 	}
 
 	@Override
@@ -71,101 +131,170 @@ public class BigInt extends Number implements FieldElement<BigInt>, Comparable<B
 
 	@Override
 	public BigInt multiply(int val) {
-		return new BigInt(value.multiply(BigInteger.valueOf(val)));
+		if (value == null) {
+			try {
+				return valueOf(Math.multiplyExact(smallValue, val));
+			} catch (ArithmeticException e) {
+				//overflow
+			}
+		}
+		return new BigInt(bigIntegerValue().multiply(BigInteger.valueOf(val)));
 	}
 
 	@Override
 	public BigInt reciprocal() throws MathArithmeticException {
-		return new BigInt(BigInteger.ONE.divide(value));
+		if (value == null) {
+			return valueOf(1/smallValue);
+		}
+		return ZERO;
 	}
 
 	@Override
 	public int compareTo(BigInt val) {
-		return value.compareTo(val.value);
+		if (value == null && val.value == null) {
+			return Long.compare(smallValue, val.smallValue);
+		}
+		if (val.value == null) {
+			//a value that doesn't fit in a long is beyond any long
+			return value.signum();
+		}
+		if (value == null) {
+			return -val.value.signum();
+		}
+		return value.compareTo(val.bigIntegerValue());
 	}
 
 	@Override
 	public BigInt add(BigInt val) throws NullArgumentException {
-		return new BigInt(value.add(val.value));
+		if (value == null && val.value == null) {
+			try {
+				return valueOf(Math.addExact(smallValue, val.smallValue));
+			} catch (ArithmeticException e) {
+				//overflow
+			}
+		}
+		return new BigInt(bigIntegerValue().add(val.bigIntegerValue()));
 	}
 
 	@Override
 	public BigInt divide(BigInt val) throws NullArgumentException, MathArithmeticException {
-		return new BigInt(value.divide(val.value));
+		if (value == null && val.value == null && !(smallValue == Long.MIN_VALUE && val.smallValue == -1)) {
+			return valueOf(smallValue/val.smallValue);
+		}
+		return new BigInt(bigIntegerValue().divide(val.bigIntegerValue()));
 	}
 
 	@Override
 	public BigInt multiply(BigInt val) throws NullArgumentException {
-		return new BigInt(value.multiply(val.value));
+		if (value == null && val.value == null) {
+			try {
+				return valueOf(Math.multiplyExact(smallValue, val.smallValue));
+			} catch (ArithmeticException e) {
+				//overflow
+			}
+		}
+		return new BigInt(bigIntegerValue().multiply(val.bigIntegerValue()));
 	}
 
 	@Override
 	public BigInt negate() {
-		return new BigInt(value.negate());
+		if (value == null && smallValue != Long.MIN_VALUE) {
+			return valueOf(-smallValue);
+		}
+		return new BigInt(bigIntegerValue().negate());
 	}
 
 	@Override
 	public BigInt subtract(BigInt val) throws NullArgumentException {
-		return new BigInt(value.subtract(val.value));
+		if (value == null && val.value == null) {
+			try {
+				return valueOf(Math.subtractExact(smallValue, val.smallValue));
+			} catch (ArithmeticException e) {
+				//overflow
+			}
+		}
+		return new BigInt(bigIntegerValue().subtract(val.bigIntegerValue()));
 	}
 
 	public BigInt[] divideAndRemainder(BigInt val) {
-		BigInteger[] result = value.divideAndRemainder(val.value);
+		if (value == null && val.value == null && !(smallValue == Long.MIN_VALUE && val.smallValue == -1)) {
+			long quotient = smallValue/val.smallValue;
+			return new BigInt[] { valueOf(quotient), valueOf(smallValue - quotient*val.smallValue) };
+		}
+		BigInteger[] result = bigIntegerValue().divideAndRemainder(val.bigIntegerValue());
 		return new BigInt[] { new BigInt(result[0]), new BigInt(result[1]) };
 	}
 
 	public BigInt power(int exponent) {
-		return new BigInt(value.pow(exponent));
+		return new BigInt(bigIntegerValue().pow(exponent));
 	}
 
 	public BigInt abs() {
-		return new BigInt(value.abs());
+		if (value == null) {
+			return smallValue < 0 ? negate() : this;
+		}
+		return value.signum() < 0 ? new BigInt(value.negate()) : this;
 	}
 
 	public static BigInt valueOf(int val) {
-		return new BigInt(BigInteger.valueOf(val));
+		return valueOf((long) val);
 	}
 
 	public static BigInt valueOf(long val) {
-		return new BigInt(BigInteger.valueOf(val));
+		if (val >= CACHE_LOW && val <= CACHE_HIGH) {
+			return CACHE[(int) val - CACHE_LOW];
+		}
+		return new BigInt(val);
 	}
 
 	@Override
 	public double doubleValue() {
-		return value.doubleValue();
+		return value == null ? smallValue : value.doubleValue();
 	}
 
 	@Override
 	public float floatValue() {
-		return value.floatValue();
+		return value == null ? smallValue : value.floatValue();
 	}
 
 	@Override
 	public int intValue() {
-		return value.intValue();
+		return value == null ? (int) smallValue : value.intValue();
 	}
 
 	@Override
 	public long longValue() {
-		return value.longValue();
+		return value == null ? smallValue : value.longValue();
+	}
+	
+	/**
+	 * Returns whether the value fits in a long, in which case {@link #longValue()} returns it exactly.
+	 * 
+	 * @return whether the value fits in a long
+	 */
+	public boolean fitsInLong() {
+		return value == null;
 	}
 	
 	public BigInteger bigIntegerValue() {
-		return value;
+		return value == null ? BigInteger.valueOf(smallValue) : value;
 	}
 	
 	@Override
 	public String toString() {
-		return value.toString();
+		return value == null ? Long.toString(smallValue) : value.toString();
 	}
 	
 	public String toString(int radix) {
-		return value.toString(radix);
+		return value == null ? Long.toString(smallValue, radix) : value.toString(radix);
 	}
 	
 	public boolean equals(BigInt x) {
 		if (x == null)
 			return false;
+		if (value == null) {
+			return x.value == null && smallValue == x.smallValue;
+		}
 		return value.equals(x.value);
 	}
 	
@@ -176,7 +305,12 @@ public class BigInt extends Number implements FieldElement<BigInt>, Comparable<B
 		if (x == null || x.getClass() != this.getClass()) {
 			return false;
 		}
-		return value.equals(((BigInt)x).value);
+		return equals((BigInt)x);
+	}
+	
+	@Override
+	public int hashCode() {
+		return value == null ? Long.hashCode(smallValue) : value.hashCode();
 	}
 
 }